@@ -19,7 +19,7 @@ package com.io7m.jcanephora.async;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionConcurrency;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
-import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLContextUsableType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
 import com.io7m.jnull.NullCheck;
 import org.slf4j.Logger;
@@ -51,13 +51,13 @@ public final class JCGLAsyncInterfaceGL33 implements JCGLAsyncInterfaceGL33Type
     LOG = LoggerFactory.getLogger(JCGLAsyncInterfaceGL33.class);
   }
 
-  private final JCGLContextType context;
+  private final JCGLContextUsableType context;
   private final JCGLInterfaceGL33Type g33;
   private final ExecutorService exec;
   private final AtomicBoolean closing;
 
   private JCGLAsyncInterfaceGL33(
-    final JCGLContextType in_context,
+    final JCGLContextUsableType in_context,
     final JCGLInterfaceGL33Type in_g33,
     final ExecutorService in_exec)
   {
@@ -79,7 +79,7 @@ public final class JCGLAsyncInterfaceGL33 implements JCGLAsyncInterfaceGL33Type
    */
 
   public static JCGLAsyncInterfaceGL33Type newAsync(
-    final Supplier<JCGLContextType> c)
+    final Supplier<? extends JCGLContextUsableType> c)
   {
     try {
       NullCheck.notNull(c, "Supplier");
@@ -92,19 +92,24 @@ public final class JCGLAsyncInterfaceGL33 implements JCGLAsyncInterfaceGL33Type
         return t;
       };
 
-      final AtomicReference<JCGLContextType> context =
+      final AtomicReference<JCGLContextUsableType> context =
         new AtomicReference<>();
       final AtomicReference<JCGLInterfaceGL33Type> g33 =
         new AtomicReference<>();
 
       final ExecutorService exec = Executors.newFixedThreadPool(1, tf);
 
-      exec.submit(() -> {
-        final JCGLContextType cc = c.get();
-        cc.contextMakeCurrent();
-        context.set(cc);
-        g33.set(cc.contextGetGL33());
-      }).get();
+      try {
+        exec.submit(() -> {
+          final JCGLContextUsableType cc = c.get();
+          cc.contextMakeCurrent();
+          context.set(cc);
+          g33.set(cc.contextGetGL33());
+        }).get();
+      } catch (final InterruptedException | ExecutionException e) {
+        exec.shutdown();
+        throw e;
+      }
 
       return new JCGLAsyncInterfaceGL33(context.get(), g33.get(), exec);
     } catch (final InterruptedException e) {
@@ -0,0 +1,389 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.async;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionConcurrency;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.api.JCGLContextUsableType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The default implementation of the {@link JCGLAsyncProgramCompilerType}
+ * interface.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLAsyncProgramCompiler
+  implements JCGLAsyncProgramCompilerType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JCGLAsyncProgramCompiler.class);
+  }
+
+  private final List<JCGLAsyncInterfaceGL33Type> workers;
+  private final List<JCGLAsyncInterfaceGL33Type> owned;
+  private final boolean parallel;
+  private final AtomicInteger next;
+
+  private JCGLAsyncProgramCompiler(
+    final List<JCGLAsyncInterfaceGL33Type> in_workers,
+    final List<JCGLAsyncInterfaceGL33Type> in_owned,
+    final boolean in_parallel)
+  {
+    this.workers = NullCheck.notNull(in_workers, "Workers");
+    this.owned = NullCheck.notNull(in_owned, "Owned");
+    this.parallel = in_parallel;
+    this.next = new AtomicInteger(0);
+  }
+
+  /**
+   * Create a new compiler that uses the given asynchronous interfaces. The
+   * contexts of the interfaces must all be shared with each other, and with
+   * any context on which the resulting programs will be used. If the first
+   * interface supports parallel shader compilation, only the first interface
+   * is used.
+   *
+   * @param in_workers A non-empty list of asynchronous interfaces
+   *
+   * @return A new compiler
+   *
+   * @throws JCGLException Iff the interfaces cannot be queried
+   */
+
+  public static JCGLAsyncProgramCompilerType create(
+    final List<JCGLAsyncInterfaceGL33Type> in_workers)
+    throws JCGLException
+  {
+    NullCheck.notNullAll(in_workers, "Workers");
+    return createWith(
+      new ArrayList<>(in_workers), Collections.emptyList());
+  }
+
+  /**
+   * Create a new compiler that uses the contexts that are shared with the
+   * given context. A dedicated thread is created for each shared context, and
+   * the shared context is made current on that thread until the compiler is
+   * shut down. The shared contexts must therefore not be current on any
+   * thread, and must not be used for anything else whilst the compiler is
+   * running.
+   *
+   * @param c The context
+   *
+   * @return A new compiler
+   *
+   * @throws JCGLException Iff the shared contexts cannot be made current
+   * @see JCGLContextUsableType#contextGetShares()
+   */
+
+  public static JCGLAsyncProgramCompilerType createFromShares(
+    final JCGLContextUsableType c)
+    throws JCGLException
+  {
+    NullCheck.notNull(c, "Context");
+
+    final List<JCGLContextUsableType> shares = c.contextGetShares();
+    final List<JCGLAsyncInterfaceGL33Type> workers =
+      new ArrayList<>(shares.size());
+
+    /*
+     * The worker threads are not daemon threads, so any workers that were
+     * created before a failure must be shut down or they will keep the JVM
+     * alive.
+     */
+
+    try {
+      for (final JCGLContextUsableType share : shares) {
+        workers.add(JCGLAsyncInterfaceGL33.newAsync(() -> share));
+      }
+      return createWith(workers, Collections.unmodifiableList(workers));
+    } catch (final RuntimeException e) {
+      for (final JCGLAsyncInterfaceGL33Type w : workers) {
+        w.shutDown();
+      }
+      throw e;
+    }
+  }
+
+  private static JCGLAsyncProgramCompilerType createWith(
+    final List<JCGLAsyncInterfaceGL33Type> workers,
+    final List<JCGLAsyncInterfaceGL33Type> owned)
+  {
+    if (workers.isEmpty()) {
+      throw new IllegalArgumentException(
+        "At least one worker context is required");
+    }
+
+    try {
+      final boolean parallel = workers.get(0).evaluate(
+        (g, unused) -> Boolean.valueOf(
+          g.shaders().shaderParallelCompileIsSupported()))
+        .get()
+        .booleanValue();
+
+      if (LOG.isDebugEnabled()) {
+        LOG.debug(
+          "parallel shader compilation: {}, {} worker contexts",
+          Boolean.valueOf(parallel),
+          Integer.valueOf(workers.size()));
+      }
+
+      return new JCGLAsyncProgramCompiler(workers, owned, parallel);
+    } catch (final InterruptedException e) {
+      throw new JCGLExceptionConcurrency(e);
+    } catch (final ExecutionException e) {
+      throw new JCGLException(e.getCause());
+    }
+  }
+
+  /**
+   * Submit all of the given jobs without checking any status. Jobs that
+   * cannot be submitted are failed immediately.
+   */
+
+  private static List<Job> submit(
+    final JCGLInterfaceGL33Type g,
+    final List<Job> jobs)
+  {
+    final JCGLShadersType s = g.shaders();
+    final List<Job> pending = new ArrayList<>(jobs.size());
+    for (final Job job : jobs) {
+      try {
+        job.pending = s.shaderProgramSubmit(job.sources);
+        pending.add(job);
+      } catch (final Exception e) {
+        job.future.completeExceptionally(e);
+      }
+    }
+    return pending;
+  }
+
+  /**
+   * Finish every job that the driver reports as complete. If no job is
+   * complete, block on the oldest job rather than spinning on the context's
+   * thread. Return the jobs that remain.
+   */
+
+  private static List<Job> finishCompleted(
+    final JCGLInterfaceGL33Type g,
+    final List<Job> jobs)
+  {
+    final JCGLShadersType s = g.shaders();
+    final List<Job> remaining = new ArrayList<>(jobs);
+
+    boolean progress = false;
+    final Iterator<Job> iter = remaining.iterator();
+    while (iter.hasNext()) {
+      final Job job = iter.next();
+      if (isComplete(s, job)) {
+        finish(s, job);
+        iter.remove();
+        progress = true;
+      }
+    }
+
+    if (!progress && !remaining.isEmpty()) {
+      finish(s, remaining.remove(0));
+    }
+    return remaining;
+  }
+
+  private static boolean isComplete(
+    final JCGLShadersType s,
+    final Job job)
+  {
+    try {
+      return s.shaderProgramPendingIsComplete(job.pending);
+    } catch (final Exception e) {
+      return true;
+    }
+  }
+
+  private static void finish(
+    final JCGLShadersType s,
+    final Job job)
+  {
+    try {
+      job.future.complete(s.shaderProgramPendingFinish(job.pending));
+    } catch (final Exception e) {
+      job.future.completeExceptionally(e);
+    }
+  }
+
+  private static void failAll(
+    final List<Job> jobs,
+    final Throwable ex)
+  {
+    for (final Job job : jobs) {
+      job.future.completeExceptionally(ex);
+    }
+  }
+
+  private static void dispatch(
+    final JCGLAsyncInterfaceUsableGL33Type worker,
+    final List<Job> jobs)
+  {
+    final CompletableFuture<List<Job>> submitted;
+    try {
+      submitted = worker.evaluateWith(jobs, JCGLAsyncProgramCompiler::submit);
+    } catch (final Exception e) {
+      failAll(jobs, e);
+      return;
+    }
+
+    submitted.whenComplete((pending, ex) -> {
+      if (ex != null) {
+        failAll(jobs, ex);
+      } else {
+        poll(worker, pending);
+      }
+    });
+  }
+
+  private static void poll(
+    final JCGLAsyncInterfaceUsableGL33Type worker,
+    final List<Job> jobs)
+  {
+    if (jobs.isEmpty()) {
+      return;
+    }
+
+    final CompletableFuture<List<Job>> polled;
+    try {
+      polled = worker.evaluateWith(
+        jobs, JCGLAsyncProgramCompiler::finishCompleted);
+    } catch (final Exception e) {
+      failAll(jobs, e);
+      return;
+    }
+
+    polled.whenComplete((remaining, ex) -> {
+      if (ex != null) {
+        failAll(jobs, ex);
+      } else {
+        poll(worker, remaining);
+      }
+    });
+  }
+
+  @Override
+  public boolean isParallel()
+  {
+    return this.parallel;
+  }
+
+  @Override
+  public CompletableFuture<JCGLProgramShaderType> compile(
+    final JCGLProgramSourcesType sources)
+  {
+    NullCheck.notNull(sources, "Sources");
+    return this.compileAll(Collections.singletonList(sources)).get(0);
+  }
+
+  @Override
+  public List<CompletableFuture<JCGLProgramShaderType>> compileAll(
+    final List<? extends JCGLProgramSourcesType> sources)
+  {
+    NullCheck.notNullAll(sources, "Sources");
+
+    final int count = sources.size();
+    final List<CompletableFuture<JCGLProgramShaderType>> futures =
+      new ArrayList<>(count);
+
+    if (this.parallel) {
+      final List<Job> jobs = new ArrayList<>(count);
+      for (final JCGLProgramSourcesType s : sources) {
+        final Job job = new Job(s);
+        jobs.add(job);
+        futures.add(job.future);
+      }
+      dispatch(this.workers.get(0), jobs);
+      return futures;
+    }
+
+    final int worker_count = this.workers.size();
+    final List<List<Job>> buckets = new ArrayList<>(worker_count);
+    for (int index = 0; index < worker_count; ++index) {
+      buckets.add(new ArrayList<>(count / worker_count + 1));
+    }
+
+    final int start = this.next.getAndAdd(count);
+    for (int index = 0; index < count; ++index) {
+      final Job job = new Job(sources.get(index));
+      final int target = Math.floorMod(start + index, worker_count);
+      buckets.get(target).add(job);
+      futures.add(job.future);
+    }
+
+    for (int index = 0; index < worker_count; ++index) {
+      final List<Job> bucket = buckets.get(index);
+      if (!bucket.isEmpty()) {
+        dispatch(this.workers.get(index), bucket);
+      }
+    }
+    return futures;
+  }
+
+  @Override
+  public CompletableFuture<Void> shutDown()
+  {
+    final CompletableFuture<?>[] futures =
+      new CompletableFuture<?>[this.owned.size()];
+    for (int index = 0; index < futures.length; ++index) {
+      futures[index] = this.owned.get(index).shutDown();
+    }
+    return CompletableFuture.allOf(futures);
+  }
+
+  /**
+   * A single program in a batch. Jobs are only accessed from the thread of
+   * the context to which they were dispatched.
+   */
+
+  private static final class Job
+  {
+    private final JCGLProgramSourcesType sources;
+    private final CompletableFuture<JCGLProgramShaderType> future;
+    private @Nullable JCGLProgramPendingType pending;
+
+    Job(
+      final JCGLProgramSourcesType in_sources)
+    {
+      this.sources = NullCheck.notNull(in_sources, "Sources");
+      this.future = new CompletableFuture<>();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.async;
+
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>The type of asynchronous program compilers.</p>
+ *
+ * <p>An asynchronous program compiler submits batches of programs for
+ * compilation and linking without waiting for the driver's compiler between
+ * programs, and only queries the status of each program once the driver
+ * reports that it has finished (or once there is nothing else to do). If the
+ * driver supports parallel shader compilation, all programs are submitted to
+ * a single context and the driver compiles them concurrently. Otherwise,
+ * programs are distributed across a set of shared contexts, each of which is
+ * current on its own thread.</p>
+ *
+ * <p>The resulting programs are created on one of the compiler's contexts,
+ * and are therefore only usable on contexts that are shared with it.</p>
+ *
+ * @since 0.62.0
+ */
+
+public interface JCGLAsyncProgramCompilerType
+{
+  /**
+   * @return {@code true} iff the compiler is using parallel shader compilation
+   * on a single context, rather than distributing programs across contexts
+   */
+
+  boolean isParallel();
+
+  /**
+   * Compile and link the given program.
+   *
+   * @param sources The program sources
+   *
+   * @return A future representing the program
+   */
+
+  CompletableFuture<JCGLProgramShaderType> compile(
+    JCGLProgramSourcesType sources);
+
+  /**
+   * Compile and link the given programs as a single batch. The returned list
+   * contains one future per program, in the order that the programs were
+   * given. A failure to compile one program does not affect the others.
+   *
+   * @param sources The program sources
+   *
+   * @return A list of futures representing the programs
+   */
+
+  List<CompletableFuture<JCGLProgramShaderType>> compileAll(
+    List<? extends JCGLProgramSourcesType> sources);
+
+  /**
+   * Shut down any asynchronous interfaces that were created by the compiler.
+   * Interfaces that were supplied by the caller are not shut down.
+   *
+   * @return A future representing the shutdown in progress
+   */
+
+  CompletableFuture<Void> shutDown();
+}
@@ -110,8 +110,14 @@ public final class JCGLAsyncResourceLoader implements
             u0, w, h, format, wrap_s, wrap_t, min_filter, mag_filter);
         }));
 
+    /*
+     * The allocation completes on the OpenGL thread, so population must be
+     * explicitly moved back to the I/O executor; it may be expensive (for
+     * example, when it compresses the texture data).
+     */
+
     final CompletableFuture<JCGLTexture2DUpdateType> f_pop =
-      f_alloc.thenCombine(f_data, on_populate);
+      f_alloc.thenCombineAsync(f_data, on_populate, this.exec_io);
 
     return f_pop.thenCompose(up -> this.g.evaluate((g33, unused) -> {
       final JCGLTexturesType gt = g33.textures();
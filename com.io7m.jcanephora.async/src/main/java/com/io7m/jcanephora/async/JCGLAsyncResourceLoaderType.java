@@ -59,7 +59,10 @@ public interface JCGLAsyncResourceLoaderType
    * the texture.</p>
    *
    * <p>All functions are evaluated on an arbitrary number of background worker
-   * threads.</p>
+   * threads. In particular, {@code on_populate} is never evaluated on the
+   * thread that owns the OpenGL context, and so may perform expensive work
+   * such as compressing the texture data into a block-compressed
+   * format.</p>
    *
    * @param on_data     A function that returns texture data
    * @param format      The allocated texture format
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.benchmarks;
+
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshCacheAnalysis;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshData;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshIndices;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizer;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizerConfiguration;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizerResult;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizerType;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshVertexCacheOptimizer;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshVertexFetchOptimizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the mesh optimizer. The input is a regular grid of quads
+ * whose triangles have been shuffled, which is close to the worst case for
+ * the post-transform cache.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JCGLMeshOptimizerBenchmark
+{
+  /**
+   * The number of quads along each edge of the grid.
+   */
+
+  @Param({"64", "256"})
+  public int grid_size;
+
+  private int vertex_count;
+  private int[] indices;
+  private int[] indices_optimized;
+  private JCGLMeshData mesh;
+  private JCGLMeshOptimizerType optimizer;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCGLMeshOptimizerBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the input mesh.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final int row = this.grid_size + 1;
+    this.vertex_count = row * row;
+
+    final int triangle_count = this.grid_size * this.grid_size * 2;
+    this.indices = new int[triangle_count * 3];
+
+    int index = 0;
+    for (int y = 0; y < this.grid_size; ++y) {
+      for (int x = 0; x < this.grid_size; ++x) {
+        final int v0 = y * row + x;
+        final int v1 = v0 + 1;
+        final int v2 = v0 + row;
+        final int v3 = v2 + 1;
+        this.indices[index] = v0;
+        this.indices[index + 1] = v1;
+        this.indices[index + 2] = v2;
+        this.indices[index + 3] = v2;
+        this.indices[index + 4] = v1;
+        this.indices[index + 5] = v3;
+        index += 6;
+      }
+    }
+
+    final Random random = new Random(0x10203040L);
+    for (int triangle = triangle_count - 1; triangle > 0; --triangle) {
+      final int other = random.nextInt(triangle + 1);
+      for (int corner = 0; corner < 3; ++corner) {
+        final int a = triangle * 3 + corner;
+        final int b = other * 3 + corner;
+        final int t = this.indices[a];
+        this.indices[a] = this.indices[b];
+        this.indices[b] = t;
+      }
+    }
+
+    this.indices_optimized = JCGLMeshVertexCacheOptimizer.optimize(
+      this.indices, this.vertex_count, 32);
+
+    final int stride = 32;
+    final ByteBuffer vertices =
+      ByteBuffer.allocateDirect(this.vertex_count * stride)
+        .order(ByteOrder.nativeOrder());
+
+    this.mesh = JCGLMeshData.of(
+      vertices,
+      stride,
+      this.vertex_count,
+      JCGLMeshIndices.write(this.indices, JCGLUnsignedType.TYPE_UNSIGNED_INT),
+      JCGLUnsignedType.TYPE_UNSIGNED_INT,
+      this.indices.length);
+
+    this.optimizer = JCGLMeshOptimizer.create(
+      JCGLMeshOptimizerConfiguration.builder().build());
+  }
+
+  /**
+   * @return The triangles reordered for the post-transform cache
+   */
+
+  @Benchmark
+  public int[] vertexCache()
+  {
+    return JCGLMeshVertexCacheOptimizer.optimize(
+      this.indices, this.vertex_count, 32);
+  }
+
+  /**
+   * @return A vertex fetch remapping table
+   */
+
+  @Benchmark
+  public int[] vertexFetch()
+  {
+    return JCGLMeshVertexFetchOptimizer.remap(
+      this.indices_optimized, this.vertex_count);
+  }
+
+  /**
+   * @return The ACMR of the unoptimized mesh
+   */
+
+  @Benchmark
+  public double acmr()
+  {
+    return JCGLMeshCacheAnalysis.acmr(this.indices, this.vertex_count, 16);
+  }
+
+  /**
+   * @return The fully optimized mesh
+   */
+
+  @Benchmark
+  public JCGLMeshOptimizerResult optimize()
+  {
+    return this.optimizer.optimize(this.mesh);
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.benchmarks;
+
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressionQuality;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressor;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressorType;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataType;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmarks for the texture compressor. Each operation compresses
+ * a 1024x1024 image, which is exactly one megapixel (2^20 pixels), so the
+ * reported throughput in operations per second is the throughput in
+ * megapixels per second. The input is a smooth gradient with per-pixel
+ * noise, which resembles photographic data more closely than either a flat
+ * or a random image. The measurement includes reading the source data, which
+ * is done by a single thread.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JCGLTextureCompressorBenchmark
+{
+  private static final int IMAGE_SIZE = 1024;
+
+  /**
+   * The compressed format.
+   */
+
+  @Param({
+    "TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB",
+    "TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB",
+    "TEXTURE_FORMAT_RGTC1_R_8BPB",
+    "TEXTURE_FORMAT_RGTC2_RG_16BPB"})
+  public JCGLTextureFormat format;
+
+  /**
+   * The quality preset.
+   */
+
+  @Param({
+    "COMPRESSION_QUALITY_FAST",
+    "COMPRESSION_QUALITY_NORMAL",
+    "COMPRESSION_QUALITY_HIGH"})
+  public JCGLTextureCompressionQuality quality;
+
+  /**
+   * The parallelism of the pool on which blocks are encoded.
+   */
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  private ForkJoinPool pool;
+  private JCGLTextureCompressorType compressor;
+  private JCGLTLTextureDataType data;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public JCGLTextureCompressorBenchmark()
+  {
+
+  }
+
+  /**
+   * Generate the input image and create the compressor.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final Random random = new Random(0x10203040L);
+    final float[] texels = new float[IMAGE_SIZE * IMAGE_SIZE * 4];
+    for (int y = 0; y < IMAGE_SIZE; ++y) {
+      for (int x = 0; x < IMAGE_SIZE; ++x) {
+        final double s = (double) x / (double) IMAGE_SIZE;
+        final double t = (double) y / (double) IMAGE_SIZE;
+        final int i = ((y * IMAGE_SIZE) + x) * 4;
+        texels[i] = (float) (s + (random.nextGaussian() * 0.02));
+        texels[i + 1] = (float) (t + (random.nextGaussian() * 0.02));
+        texels[i + 2] = (float) ((s * t) + (random.nextGaussian() * 0.02));
+        texels[i + 3] = (float) (1.0 - s);
+      }
+    }
+
+    this.data = new Data(texels);
+    this.pool = new ForkJoinPool(this.parallelism);
+    this.compressor = JCGLTextureCompressor.create(this.pool);
+  }
+
+  /**
+   * Shut down the pool.
+   */
+
+  @TearDown
+  public void tearDown()
+  {
+    this.pool.shutdown();
+  }
+
+  /**
+   * @return A compressed megapixel image
+   */
+
+  @Benchmark
+  public ByteBuffer compress()
+  {
+    return this.compressor.compressImage(this.format, this.data, this.quality);
+  }
+
+  private static final class Data implements JCGLTLTextureDataType
+  {
+    private final float[] texels;
+
+    Data(
+      final float[] in_texels)
+    {
+      this.texels = in_texels;
+    }
+
+    @Override
+    public boolean isPremultipliedAlpha()
+    {
+      return false;
+    }
+
+    @Override
+    public long width()
+    {
+      return (long) IMAGE_SIZE;
+    }
+
+    @Override
+    public long height()
+    {
+      return (long) IMAGE_SIZE;
+    }
+
+    @Override
+    public void pixel(
+      final int x,
+      final int y,
+      final VectorMutable4D v)
+    {
+      final int i = ((y * IMAGE_SIZE) + x) * 4;
+      v.setXYZW(
+        (double) this.texels[i],
+        (double) this.texels[i + 1],
+        (double) this.texels[i + 2],
+        (double) this.texels[i + 3]);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+/**
+ * <p>The type of usable streaming array buffers.</p>
+ *
+ * <p>A streaming array buffer is an array buffer divided into {@link
+ * #segmentCount()} segments of {@link #segmentSize()} bytes each, used as a
+ * ring. Exactly one segment is <i>current</i> at any given time, and the
+ * current segment advances each time the buffer is rotated (typically once
+ * per frame).</p>
+ *
+ * @see com.io7m.jcanephora.core.api.JCGLArrayBuffersType#arrayBufferStreamingRotate(JCGLArrayBufferStreamingUsableType)
+ */
+
+public interface JCGLArrayBufferStreamingUsableType
+  extends JCGLArrayBufferUsableType
+{
+  /**
+   * @return The number of segments in the buffer
+   */
+
+  int segmentCount();
+
+  /**
+   * @return The size in bytes of each segment
+   */
+
+  long segmentSize();
+
+  /**
+   * @return The index of the current segment, in the range {@code [0,
+   * segmentCount() - 1]}
+   */
+
+  int segmentCurrent();
+
+  /**
+   * @return The range of bytes within the buffer occupied by the current
+   * segment
+   */
+
+  default UnsignedRangeInclusiveL segmentCurrentByteRange()
+  {
+    final long size = this.segmentSize();
+    final long lower = size * (long) this.segmentCurrent();
+    return new UnsignedRangeInclusiveL(lower, (lower + size) - 1L);
+  }
+}
@@ -89,6 +89,10 @@ public interface JCGLArrayObjectBuilderType
    * once per {@code divisor} instances of the set(s) of vertices being
    * rendered.</p>
    *
+   * <p>If {@code type} is a packed type such as {@link
+   * JCGLScalarType#TYPE_INT_2_10_10_10_REV}, then {@code elements} must be
+   * {@code 4}, and each vertex reads a single packed value.</p>
+   *
    * @param index      The attribute
    * @param a          The array buffer
    * @param elements   The number of elements
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.util.Objects;
+
+/**
+ * Functions for validating buffer-to-buffer copies.
+ */
+
+public final class JCGLBufferCopies
+{
+  private JCGLBufferCopies()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p>Check that a copy of the bytes {@code source_range} of {@code source}
+   * to the bytes starting at {@code target_offset} of {@code target} is
+   * valid. A copy is valid iff the source range is included in the source
+   * buffer, the target range is included in the target buffer, and the two
+   * ranges do not overlap when {@code source} and {@code target} are the same
+   * buffer.</p>
+   *
+   * @param source        The source buffer
+   * @param source_range  The range of bytes to copy from {@code source}
+   * @param target        The target buffer
+   * @param target_offset The offset in bytes of the copied data in {@code
+   *                      target}
+   *
+   * @return The range of bytes that will be written in {@code target}
+   *
+   * @throws RangeCheckException Iff the copy is not valid
+   */
+
+  public static UnsignedRangeInclusiveL checkCopy(
+    final JCGLBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLBufferUsableType target,
+    final long target_offset)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(source, "Source");
+    NullCheck.notNull(source_range, "Source range");
+    NullCheck.notNull(target, "Target");
+    RangeCheck.checkIncludedInLong(
+      target_offset, "Target offset", Ranges.NATURAL_LONG, "Valid offsets");
+
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      source_range, "Source range", source.byteRange(), "Buffer range");
+
+    final UnsignedRangeInclusiveL target_range =
+      new UnsignedRangeInclusiveL(
+        target_offset,
+        target_offset + source_range.getInterval() - 1L);
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      target_range, "Target range", target.byteRange(), "Buffer range");
+
+    if (Objects.equals(source, target)) {
+      final long s_lo = source_range.getLower();
+      final long s_hi = source_range.getUpper();
+      final long t_lo = target_range.getLower();
+      final long t_hi = target_range.getUpper();
+      final boolean disjoint =
+        Long.compareUnsigned(t_hi, s_lo) < 0
+          || Long.compareUnsigned(s_hi, t_lo) < 0;
+
+      if (!disjoint) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Source and target ranges of a copy overlap.");
+        sb.append(System.lineSeparator());
+        sb.append("  Source range: ");
+        sb.append(source_range);
+        sb.append(System.lineSeparator());
+        sb.append("  Target range: ");
+        sb.append(target_range);
+        sb.append(System.lineSeparator());
+        throw new RangeCheckException(sb.toString());
+      }
+    }
+
+    return target_range;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+/**
+ * Flags that control how the contents of a buffer are mapped into client
+ * memory.
+ */
+
+public enum JCGLBufferMapFlag
+{
+  /**
+   * The previous contents of the mapped range may be discarded. The
+   * implementation is not required to preserve the existing data in the
+   * range, and may avoid synchronizing with commands that read from it.
+   */
+
+  BUFFER_MAP_INVALIDATE_RANGE,
+
+  /**
+   * The previous contents of the entire buffer may be discarded.
+   */
+
+  BUFFER_MAP_INVALIDATE_BUFFER,
+
+  /**
+   * The implementation will not attempt to synchronize pending operations on
+   * the buffer prior to mapping. The caller is responsible for ensuring that
+   * the mapped range is not in use by previously submitted commands.
+   */
+
+  BUFFER_MAP_UNSYNCHRONIZED,
+
+  /**
+   * Modifications to the mapped range will not be made visible to the
+   * implementation until they are explicitly flushed.
+   */
+
+  BUFFER_MAP_FLUSH_EXPLICIT
+}
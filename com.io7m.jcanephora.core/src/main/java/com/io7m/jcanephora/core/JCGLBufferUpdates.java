@@ -84,4 +84,65 @@ public final class JCGLBufferUpdates
     data.order(ByteOrder.nativeOrder());
     return JCGLBufferUpdate.of(buffer, data, range);
   }
+
+  /**
+   * Construct an update that will replace all of the data in {@code buffer},
+   * allocating the update's data from {@code allocator}. The update should be
+   * returned to the allocator with
+   * {@link JCGLStagingAllocatorType#releaseUpdate(JCGLDataUpdateType)} when it
+   * is no longer needed.
+   *
+   * @param buffer    The buffer
+   * @param allocator The staging allocator
+   * @param <T>       The precise type of buffer
+   *
+   * @return An update
+   */
+
+  public static <T extends JCGLBufferWritableType> JCGLBufferUpdateType<T>
+  newUpdateReplacingAll(
+    final T buffer,
+    final JCGLStagingAllocatorType allocator)
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    return newUpdateReplacingRange(buffer, buffer.byteRange(), allocator);
+  }
+
+  /**
+   * Construct an update that will replace the range of bytes given by {@code
+   * range} in {@code buffer}, allocating the update's data from {@code
+   * allocator}. The update should be returned to the allocator with {@link
+   * JCGLStagingAllocatorType#releaseUpdate(JCGLDataUpdateType)} when it is no
+   * longer needed.
+   *
+   * @param buffer    The buffer
+   * @param range     The range
+   * @param allocator The staging allocator
+   * @param <T>       The precise type of buffer
+   *
+   * @return An update
+   *
+   * @throws RangeCheckException Iff {@code range} is not included in the
+   *                             buffer's range
+   */
+
+  public static <T extends JCGLBufferWritableType> JCGLBufferUpdate<T>
+  newUpdateReplacingRange(
+    final T buffer,
+    final UnsignedRangeInclusiveL range,
+    final JCGLStagingAllocatorType allocator)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(allocator, "Allocator");
+
+    final UnsignedRangeInclusiveL buffer_range = buffer.byteRange();
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      range, "Update range", buffer_range, "Buffer range");
+
+    final ByteBuffer data = allocator.allocate(range.getInterval());
+    data.order(ByteOrder.nativeOrder());
+    return JCGLBufferUpdate.of(buffer, data, range);
+  }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * <p>A write-combining wrapper around a buffer.</p>
+ *
+ * <p>Writes are made to a CPU-side shadow copy of the buffer, and the byte
+ * ranges that were written are recorded as dirty. On {@link
+ * #flush(Consumer)}, overlapping and adjacent dirty ranges, and dirty ranges
+ * separated by no more than a configurable number of clean bytes, are merged
+ * and uploaded with the minimum number of buffer updates. This replaces many
+ * small uploads per frame with a few larger ones.</p>
+ *
+ * <p>Because merging across gaps uploads the clean bytes between dirty
+ * ranges, the shadow copy is treated as the authoritative contents of the
+ * buffer. The entire buffer is therefore marked as dirty on creation, and the
+ * buffer should not be modified other than through the combiner.</p>
+ *
+ * <p>Write combiners are not thread-safe.</p>
+ *
+ * @param <T> The precise type of buffer
+ */
+
+public final class JCGLBufferWriteCombiner<T extends JCGLBufferWritableType>
+{
+  private static final Comparator<UnsignedRangeInclusiveL> RANGE_ORDER =
+    (r0, r1) -> Long.compareUnsigned(r0.getLower(), r1.getLower());
+
+  private final T buffer;
+  private final ByteBuffer shadow;
+  private final long gap;
+  private final List<UnsignedRangeInclusiveL> dirty;
+  private long writes;
+  private long bytes_written;
+  private long writes_flushed;
+  private long bytes_flushed;
+  private long uploads;
+  private long bytes_uploaded;
+
+  private JCGLBufferWriteCombiner(
+    final T in_buffer,
+    final long in_gap)
+  {
+    this.buffer = NullCheck.notNull(in_buffer, "Buffer");
+    this.gap = RangeCheck.checkIncludedInLong(
+      in_gap, "Gap threshold", Ranges.NATURAL_LONG, "Valid gap thresholds");
+
+    final UnsignedRangeInclusiveL range = in_buffer.byteRange();
+    this.shadow =
+      ByteBuffer.allocateDirect(Math.toIntExact(range.getInterval()));
+    this.shadow.order(ByteOrder.nativeOrder());
+    this.dirty = new ArrayList<>(32);
+    this.markDirty(range);
+  }
+
+  /**
+   * Create a new write combiner for the given buffer.
+   *
+   * @param buffer The buffer
+   * @param gap    The maximum number of clean bytes between two dirty ranges
+   *               for the ranges to be merged into a single upload
+   * @param <T>    The precise type of buffer
+   *
+   * @return A new write combiner
+   */
+
+  public static <T extends JCGLBufferWritableType> JCGLBufferWriteCombiner<T>
+  create(
+    final T buffer,
+    final long gap)
+  {
+    return new JCGLBufferWriteCombiner<>(buffer, gap);
+  }
+
+  /**
+   * @return The buffer that will be updated
+   */
+
+  public T buffer()
+  {
+    return this.buffer;
+  }
+
+  /**
+   * Obtain the shadow copy of the buffer. Modifications made directly to the
+   * shadow copy must be recorded with
+   * {@link #markDirty(UnsignedRangeInclusiveL)}.
+   *
+   * @return The shadow copy, in native byte order
+   */
+
+  public ByteBuffer shadow()
+  {
+    return this.shadow;
+  }
+
+  /**
+   * Record the range {@code range} of the shadow copy as modified.
+   *
+   * @param range The modified range
+   *
+   * @throws RangeCheckException Iff {@code range} is not included in the
+   *                             buffer's range
+   */
+
+  public void markDirty(
+    final UnsignedRangeInclusiveL range)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      range, "Dirty range", this.buffer.byteRange(), "Buffer range");
+
+    this.dirty.add(range);
+    ++this.writes;
+    this.bytes_written += range.getInterval();
+  }
+
+  /**
+   * Copy the remaining bytes of {@code data} into the shadow copy, starting
+   * at byte {@code offset}, and record the written range as modified. The
+   * position of {@code data} is not changed.
+   *
+   * @param offset The offset in bytes
+   * @param data   The data
+   *
+   * @throws RangeCheckException Iff the written range is not included in the
+   *                             buffer's range
+   */
+
+  public void write(
+    final long offset,
+    final ByteBuffer data)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(data, "Data");
+
+    final int size = data.remaining();
+    if (size == 0) {
+      return;
+    }
+
+    final UnsignedRangeInclusiveL range =
+      new UnsignedRangeInclusiveL(offset, offset + (long) size - 1L);
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      range, "Write range", this.buffer.byteRange(), "Buffer range");
+
+    final ByteBuffer target = this.shadow.duplicate();
+    target.position(Math.toIntExact(offset));
+    target.put(data.duplicate());
+    this.markDirty(range);
+  }
+
+  /**
+   * @return {@code true} iff there are unflushed modifications
+   */
+
+  public boolean isDirty()
+  {
+    return !this.dirty.isEmpty();
+  }
+
+  /**
+   * Merge all dirty ranges and pass one update per merged range to {@code
+   * uploader}. A typical uploader for an array buffer is the
+   * {@code arrayBufferUpdate} method of an array buffer interface, called
+   * with the buffer bound. The updates refer directly to the shadow copy and
+   * must not be retained after the uploader returns.
+   *
+   * @param uploader A function that uploads an update
+   *
+   * @return The number of updates passed to {@code uploader}
+   */
+
+  public int flush(
+    final Consumer<JCGLBufferUpdateType<T>> uploader)
+  {
+    NullCheck.notNull(uploader, "Uploader");
+
+    if (this.dirty.isEmpty()) {
+      return 0;
+    }
+
+    this.dirty.sort(RANGE_ORDER);
+
+    int count = 0;
+    long lower = this.dirty.get(0).getLower();
+    long upper = this.dirty.get(0).getUpper();
+    for (int index = 1; index < this.dirty.size(); ++index) {
+      final UnsignedRangeInclusiveL r = this.dirty.get(index);
+      if (r.getLower() - upper - 1L <= this.gap) {
+        upper = Math.max(upper, r.getUpper());
+      } else {
+        this.upload(uploader, lower, upper);
+        ++count;
+        lower = r.getLower();
+        upper = r.getUpper();
+      }
+    }
+
+    this.upload(uploader, lower, upper);
+    ++count;
+
+    for (final UnsignedRangeInclusiveL r : this.dirty) {
+      this.bytes_flushed += r.getInterval();
+    }
+    this.writes_flushed += (long) this.dirty.size();
+    this.dirty.clear();
+    return count;
+  }
+
+  private void upload(
+    final Consumer<JCGLBufferUpdateType<T>> uploader,
+    final long lower,
+    final long upper)
+  {
+    final ByteBuffer view = this.shadow.duplicate();
+    view.limit(Math.toIntExact(upper + 1L));
+    view.position(Math.toIntExact(lower));
+    final ByteBuffer data = view.slice();
+    data.order(ByteOrder.nativeOrder());
+
+    final UnsignedRangeInclusiveL range =
+      new UnsignedRangeInclusiveL(lower, upper);
+    uploader.accept(JCGLBufferUpdate.of(this.buffer, data, range));
+
+    ++this.uploads;
+    this.bytes_uploaded += range.getInterval();
+  }
+
+  /**
+   * @return The cumulative statistics for the combiner
+   */
+
+  public JCGLBufferWriteCombinerStatistics statistics()
+  {
+    return JCGLBufferWriteCombinerStatistics.of(
+      this.writes,
+      this.bytes_written,
+      this.writes_flushed,
+      this.bytes_flushed,
+      this.uploads,
+      this.bytes_uploaded);
+  }
+}
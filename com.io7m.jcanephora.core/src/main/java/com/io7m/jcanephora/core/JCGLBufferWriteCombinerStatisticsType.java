@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import org.immutables.value.Value;
+
+/**
+ * Cumulative statistics for a buffer write combiner.
+ *
+ * @see JCGLBufferWriteCombiner
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLBufferWriteCombinerStatisticsType
+{
+  /**
+   * @return The number of ranges marked as dirty
+   */
+
+  @Value.Parameter
+  long writes();
+
+  /**
+   * @return The total size in bytes of all ranges marked as dirty
+   */
+
+  @Value.Parameter
+  long bytesWritten();
+
+  /**
+   * @return The number of dirty ranges that have been included in a flush
+   */
+
+  @Value.Parameter
+  long writesFlushed();
+
+  /**
+   * @return The total size in bytes of all dirty ranges that have been
+   * included in a flush
+   */
+
+  @Value.Parameter
+  long bytesFlushed();
+
+  /**
+   * @return The number of uploads issued by flushes
+   */
+
+  @Value.Parameter
+  long uploads();
+
+  /**
+   * @return The total size in bytes of all uploads issued by flushes
+   */
+
+  @Value.Parameter
+  long bytesUploaded();
+
+  /**
+   * @return The number of uploads avoided by coalescing dirty ranges; ranges
+   * that have not yet been flushed are not counted
+   */
+
+  default long uploadsSaved()
+  {
+    return this.writesFlushed() - this.uploads();
+  }
+
+  /**
+   * @return The number of bytes avoided by coalescing dirty ranges; this may
+   * be negative if merging across gaps uploaded more clean bytes than
+   * overlapping writes saved, and ranges that have not yet been flushed are
+   * not counted
+   */
+
+  default long bytesSaved()
+  {
+    return this.bytesFlushed() - this.bytesUploaded();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.IntBuffer;
+
+/**
+ * Functions for validating the arguments of draw calls.
+ */
+
+public final class JCGLDrawChecks
+{
+  private JCGLDrawChecks()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Check that the {@code count} indices starting at index {@code first} are
+   * all included in an index buffer containing {@code indices} indices.
+   *
+   * @param first   The first index
+   * @param count   The number of indices
+   * @param indices The number of indices in the index buffer
+   *
+   * @throws RangeCheckException Iff the range is not included in the index
+   *                             buffer
+   */
+
+  public static void checkElementRange(
+    final long first,
+    final int count,
+    final long indices)
+    throws RangeCheckException
+  {
+    RangeCheck.checkIncludedInLong(
+      first, "First", Ranges.NATURAL_LONG, "Valid index");
+    RangeCheck.checkIncludedInInteger(
+      count, "Count", Ranges.NATURAL_INTEGER, "Valid counts");
+
+    final long last = first + (long) count;
+    if (last > indices) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Range of indices exceeds the size of the index buffer.");
+      sb.append(System.lineSeparator());
+      sb.append("  First:   ");
+      sb.append(first);
+      sb.append(System.lineSeparator());
+      sb.append("  Count:   ");
+      sb.append(count);
+      sb.append(System.lineSeparator());
+      sb.append("  Indices: ");
+      sb.append(indices);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+  }
+
+  /**
+   * Check the arguments of a multi-draw call. The number of draws is given by
+   * the number of remaining elements in {@code first}, and must match the
+   * number of remaining elements in {@code count}.
+   *
+   * @param first The first element or index of each draw
+   * @param count The number of elements or indices of each draw
+   *
+   * @return The number of draws
+   *
+   * @throws RangeCheckException Iff the buffers have different numbers of
+   *                             remaining elements, or any element is
+   *                             negative
+   */
+
+  public static int checkMultiDraw(
+    final IntBuffer first,
+    final IntBuffer count)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(first, "First");
+    NullCheck.notNull(count, "Count");
+
+    final int draws = first.remaining();
+    if (count.remaining() != draws) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Multi-draw argument buffers have different sizes.");
+      sb.append(System.lineSeparator());
+      sb.append("  First: ");
+      sb.append(draws);
+      sb.append(System.lineSeparator());
+      sb.append("  Count: ");
+      sb.append(count.remaining());
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+
+    final int f_base = first.position();
+    final int c_base = count.position();
+    for (int index = 0; index < draws; ++index) {
+      RangeCheck.checkIncludedInInteger(
+        first.get(f_base + index),
+        "First",
+        Ranges.NATURAL_INTEGER,
+        "Valid index");
+      RangeCheck.checkIncludedInInteger(
+        count.get(c_base + index),
+        "Count",
+        Ranges.NATURAL_INTEGER,
+        "Valid counts");
+    }
+    return draws;
+  }
+
+  /**
+   * Check the arguments of a multi-draw call that takes indices from an index
+   * buffer containing {@code indices} indices.
+   *
+   * @param first   The first index of each draw
+   * @param count   The number of indices of each draw
+   * @param indices The number of indices in the index buffer
+   *
+   * @return The number of draws
+   *
+   * @throws RangeCheckException Iff {@link #checkMultiDraw(IntBuffer,
+   *                             IntBuffer)} fails, or any of the draws would
+   *                             read indices outside of the index buffer
+   */
+
+  public static int checkMultiDrawElements(
+    final IntBuffer first,
+    final IntBuffer count,
+    final long indices)
+    throws RangeCheckException
+  {
+    final int draws = checkMultiDraw(first, count);
+    final int f_base = first.position();
+    final int c_base = count.position();
+    for (int index = 0; index < draws; ++index) {
+      checkElementRange(
+        (long) first.get(f_base + index), count.get(c_base + index), indices);
+    }
+    return draws;
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Functions for writing and validating indirect draw commands.</p>
+ *
+ * <p>An array draw command consists of four consecutive 32-bit unsigned
+ * integers: {@code count}, {@code instance_count}, {@code first}, and a
+ * reserved value that must be zero. An element draw command consists of five
+ * consecutive 32-bit integers: {@code count}, {@code instance_count},
+ * {@code first_index}, {@code base_vertex} (signed), and a reserved value
+ * that must be zero. Commands are stored in native byte order.</p>
+ */
+
+public final class JCGLIndirectCommands
+{
+  /**
+   * The size in bytes of an array draw command.
+   */
+
+  public static final int DRAW_ARRAYS_COMMAND_SIZE_BYTES = 16;
+
+  /**
+   * The size in bytes of an element draw command.
+   */
+
+  public static final int DRAW_ELEMENTS_COMMAND_SIZE_BYTES = 20;
+
+  private JCGLIndirectCommands()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Write an array draw command to {@code b} at byte offset {@code offset}.
+   * The byte order of {@code b} is used, and should be native order.
+   *
+   * @param b              The target buffer
+   * @param offset         The byte offset of the command
+   * @param count          The number of vertices
+   * @param instance_count The number of instances
+   * @param first          The first vertex
+   *
+   * @return The byte offset of the next command
+   */
+
+  public static int putDrawArrays(
+    final ByteBuffer b,
+    final int offset,
+    final int count,
+    final int instance_count,
+    final int first)
+  {
+    NullCheck.notNull(b, "Buffer");
+    b.putInt(offset, count);
+    b.putInt(offset + 4, instance_count);
+    b.putInt(offset + 8, first);
+    b.putInt(offset + 12, 0);
+    return offset + DRAW_ARRAYS_COMMAND_SIZE_BYTES;
+  }
+
+  /**
+   * Write an element draw command to {@code b} at byte offset {@code offset}.
+   * The byte order of {@code b} is used, and should be native order.
+   *
+   * @param b              The target buffer
+   * @param offset         The byte offset of the command
+   * @param count          The number of indices
+   * @param instance_count The number of instances
+   * @param first_index    The first index
+   * @param base_vertex    The value added to each index
+   *
+   * @return The byte offset of the next command
+   */
+
+  public static int putDrawElements(
+    final ByteBuffer b,
+    final int offset,
+    final int count,
+    final int instance_count,
+    final int first_index,
+    final int base_vertex)
+  {
+    NullCheck.notNull(b, "Buffer");
+    b.putInt(offset, count);
+    b.putInt(offset + 4, instance_count);
+    b.putInt(offset + 8, first_index);
+    b.putInt(offset + 12, base_vertex);
+    b.putInt(offset + 16, 0);
+    return offset + DRAW_ELEMENTS_COMMAND_SIZE_BYTES;
+  }
+
+  /**
+   * Check that {@code draws} commands of {@code command_size} bytes, spaced
+   * {@code stride} bytes apart and starting at byte offset {@code offset},
+   * are included in the indirect buffer {@code b}. A {@code stride} of
+   * {@code 0} indicates that commands are tightly packed.
+   *
+   * @param b            The indirect buffer
+   * @param offset       The byte offset of the first command
+   * @param draws        The number of commands
+   * @param stride       The distance in bytes between commands
+   * @param command_size The size in bytes of each command
+   *
+   * @return The effective stride in bytes
+   *
+   * @throws RangeCheckException Iff the offset or stride are not multiples of
+   *                             four, the stride is smaller than a command,
+   *                             or the commands are not included in the
+   *                             buffer
+   */
+
+  public static int checkCommands(
+    final JCGLIndirectBufferUsableType b,
+    final long offset,
+    final int draws,
+    final int stride,
+    final int command_size)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(b, "Buffer");
+    RangeCheck.checkIncludedInLong(
+      offset, "Offset", Ranges.NATURAL_LONG, "Valid offsets");
+    RangeCheck.checkIncludedInInteger(
+      draws, "Draws", Ranges.NATURAL_INTEGER, "Valid draw counts");
+    RangeCheck.checkIncludedInInteger(
+      stride, "Stride", Ranges.NATURAL_INTEGER, "Valid strides");
+
+    if (offset % 4L != 0L) {
+      throw new RangeCheckException(
+        new StringBuilder(128)
+          .append("Indirect command offset must be a multiple of 4.")
+          .append(System.lineSeparator())
+          .append("  Offset: ")
+          .append(offset)
+          .append(System.lineSeparator())
+          .toString());
+    }
+
+    final int actual_stride = stride == 0 ? command_size : stride;
+    if (actual_stride % 4 != 0 || actual_stride < command_size) {
+      throw new RangeCheckException(
+        new StringBuilder(128)
+          .append("Indirect command stride is invalid.")
+          .append(System.lineSeparator())
+          .append("  Stride: ")
+          .append(actual_stride)
+          .append(System.lineSeparator())
+          .append("  Required: A multiple of 4 that is >= ")
+          .append(command_size)
+          .append(System.lineSeparator())
+          .toString());
+    }
+
+    if (draws > 0) {
+      final long end =
+        offset + ((long) (draws - 1) * (long) actual_stride)
+          + (long) command_size;
+      final long size = b.byteRange().getInterval();
+      if (end > size) {
+        throw new RangeCheckException(
+          new StringBuilder(128)
+            .append("Indirect commands exceed the size of the buffer.")
+            .append(System.lineSeparator())
+            .append("  Offset: ")
+            .append(offset)
+            .append(System.lineSeparator())
+            .append("  Draws: ")
+            .append(draws)
+            .append(System.lineSeparator())
+            .append("  Stride: ")
+            .append(actual_stride)
+            .append(System.lineSeparator())
+            .append("  Buffer size: ")
+            .append(size)
+            .append(System.lineSeparator())
+            .toString());
+      }
+    }
+
+    return actual_stride;
+  }
+}
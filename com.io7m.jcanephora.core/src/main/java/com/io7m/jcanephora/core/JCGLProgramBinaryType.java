@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import org.immutables.value.Value;
+
+/**
+ * <p>The binary representation of a linked program, as produced by the
+ * driver.</p>
+ *
+ * <p>Program binaries are only meaningful to the driver that produced them,
+ * and drivers are permitted to reject binaries at any time (such as after a
+ * driver update). Binaries should therefore only be used as a cache, and
+ * applications must always be prepared to rebuild programs from source.</p>
+ *
+ * @see com.io7m.jcanephora.core.api.JCGLShadersType#shaderProgramBinaryGet(JCGLProgramShaderUsableType)
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLProgramBinaryType
+{
+  /**
+   * @return The driver-specific binary format
+   */
+
+  @Value.Parameter(order = 0)
+  int format();
+
+  /**
+   * @return The binary data
+   */
+
+  @Value.Parameter(order = 1)
+  byte[] data();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+/**
+ * <p>The type of programs that have been submitted for compilation and
+ * linking, but whose status has not yet been checked.</p>
+ *
+ * <p>A pending program is consumed when it is finished; a finished pending
+ * program is considered to be deleted.</p>
+ *
+ * @see com.io7m.jcanephora.core.api.JCGLShadersType#shaderProgramSubmit(JCGLProgramSourcesType)
+ * @since 0.62.0
+ */
+
+public interface JCGLProgramPendingType
+  extends JCGLNamedType, JCGLResourceUsableType
+{
+  /**
+   * @return The name of the program
+   */
+
+  String name();
+}
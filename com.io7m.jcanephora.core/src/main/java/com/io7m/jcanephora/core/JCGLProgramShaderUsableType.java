@@ -16,6 +16,7 @@
 
 package com.io7m.jcanephora.core;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -42,4 +43,24 @@ public interface JCGLProgramShaderUsableType
    */
 
   Map<String, JCGLProgramUniformType> uniforms();
+
+  /**
+   * @return A read-only view of the program uniform blocks
+   */
+
+  Map<String, JCGLProgramUniformBlockType> uniformBlocks();
+
+  /**
+   * @return A read-only list of the varyings captured by transform feedback,
+   * in capture order
+   */
+
+  List<String> transformFeedbackVaryings();
+
+  /**
+   * @return The manner in which captured varyings are written to transform
+   * feedback buffers
+   */
+
+  JCGLTransformFeedbackBufferMode transformFeedbackBufferMode();
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import org.immutables.value.Value;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The GLSL sources of a program, along with the parameters that affect how
+ * the program is linked.
+ *
+ * @see com.io7m.jcanephora.core.api.JCGLShadersType#shaderProgramSubmit(JCGLProgramSourcesType)
+ *
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLProgramSourcesType
+{
+  /**
+   * @return The name of the program, used in error messages
+   */
+
+  @Value.Parameter(order = 0)
+  String name();
+
+  /**
+   * @return The lines of the vertex shader
+   */
+
+  @Value.Parameter(order = 1)
+  List<String> vertex();
+
+  /**
+   * @return The lines of the geometry shader, if any
+   */
+
+  @Value.Parameter(order = 2)
+  Optional<List<String>> geometry();
+
+  /**
+   * @return The lines of the fragment shader
+   */
+
+  @Value.Parameter(order = 3)
+  List<String> fragment();
+
+  /**
+   * @return The varyings that will be captured by transform feedback
+   */
+
+  @Value.Default
+  default List<String> transformFeedbackVaryings()
+  {
+    return Collections.emptyList();
+  }
+
+  /**
+   * @return The manner in which captured varyings are written to buffers
+   */
+
+  @Value.Default
+  default JCGLTransformFeedbackBufferMode transformFeedbackBufferMode()
+  {
+    return JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_INTERLEAVED;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+/**
+ * <p>The type of uniform blocks declared in shading programs.</p>
+ *
+ * <p>The {@link #glName()} of a uniform block is the block index assigned
+ * by the implementation when the program was linked.</p>
+ */
+
+public interface JCGLProgramUniformBlockType extends JCGLNamedType
+{
+  /**
+   * @return The name of the uniform block. This is the name of the block as
+   * declared in the respective shading program.
+   */
+
+  String name();
+
+  /**
+   * @return A reference to the program that owns the uniform block.
+   */
+
+  JCGLProgramShaderUsableType program();
+
+  /**
+   * @return The minimum size in bytes of a buffer range that can back the
+   * uniform block
+   */
+
+  long sizeBytes();
+}
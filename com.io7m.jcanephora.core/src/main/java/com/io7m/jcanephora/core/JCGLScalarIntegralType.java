@@ -80,6 +80,8 @@ public enum JCGLScalarIntegralType
     switch (s) {
       case TYPE_HALF_FLOAT:
       case TYPE_FLOAT:
+      case TYPE_INT_2_10_10_10_REV:
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV:
         throw new IllegalArgumentException(
           "Cannot convert " + s + " to an integral type");
       case TYPE_BYTE:
@@ -71,7 +71,29 @@ public enum JCGLScalarType
    * An unsigned 16-bit integer.
    */
 
-  TYPE_UNSIGNED_SHORT;
+  TYPE_UNSIGNED_SHORT,
+
+  /**
+   * Four signed integers packed into a single 32-bit value. The first three
+   * components occupy 10 bits each, starting at the least significant bit,
+   * and the fourth component occupies the most significant 2 bits. Attributes
+   * of this type must have exactly 4 elements.
+   *
+   * @since 0.62.0
+   */
+
+  TYPE_INT_2_10_10_10_REV,
+
+  /**
+   * Four unsigned integers packed into a single 32-bit value. The first three
+   * components occupy 10 bits each, starting at the least significant bit,
+   * and the fourth component occupies the most significant 2 bits. Attributes
+   * of this type must have exactly 4 elements.
+   *
+   * @since 0.62.0
+   */
+
+  TYPE_UNSIGNED_INT_2_10_10_10_REV;
 
   private static boolean shaderTypeConvertibleFloat(
     final int elements,
@@ -241,6 +263,10 @@ public enum JCGLScalarType
       case TYPE_INT: {
         return shaderTypeConvertibleInt(elements, type);
       }
+      case TYPE_INT_2_10_10_10_REV:
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV: {
+        return elements == 4 && type == JCGLType.TYPE_FLOAT_VECTOR_4;
+      }
       case TYPE_BYTE:
       case TYPE_SHORT:
       case TYPE_UNSIGNED_BYTE:
@@ -253,7 +279,35 @@ public enum JCGLScalarType
   }
 
   /**
-   * @return The size in bytes of values of the current type.
+   * @return {@code true} iff values of the current type pack several
+   * components into a single value
+   *
+   * @since 0.62.0
+   */
+
+  public boolean isPacked()
+  {
+    switch (this) {
+      case TYPE_BYTE:
+      case TYPE_HALF_FLOAT:
+      case TYPE_FLOAT:
+      case TYPE_INT:
+      case TYPE_SHORT:
+      case TYPE_UNSIGNED_BYTE:
+      case TYPE_UNSIGNED_INT:
+      case TYPE_UNSIGNED_SHORT:
+        return false;
+      case TYPE_INT_2_10_10_10_REV:
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV:
+        return true;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return The size in bytes of values of the current type. For packed
+   * types, this is the size of the complete packed value.
    *
    * @since 0.53.0
    */
@@ -277,6 +331,10 @@ public enum JCGLScalarType
         return 4;
       case TYPE_UNSIGNED_SHORT:
         return 2;
+      case TYPE_INT_2_10_10_10_REV:
+        return 4;
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV:
+        return 4;
     }
 
     throw new UnreachableCodeException();
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import org.immutables.value.Value;
+
+/**
+ * A snapshot of the statistics of a staging allocator.
+ *
+ * @see JCGLStagingAllocatorType
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLStagingAllocatorStatisticsType
+{
+  /**
+   * @return The total number of allocations performed
+   */
+
+  @Value.Parameter
+  long allocations();
+
+  /**
+   * @return The number of allocations that were satisfied without allocating
+   * new direct memory
+   */
+
+  @Value.Parameter
+  long allocationsRecycled();
+
+  /**
+   * @return The total number of buffers released
+   */
+
+  @Value.Parameter
+  long releases();
+
+  /**
+   * @return The number of bytes of direct memory currently held by buffers
+   * that have been allocated and not yet released
+   */
+
+  @Value.Parameter
+  long bytesInUse();
+
+  /**
+   * @return The total number of bytes of direct memory currently held by the
+   * allocator, including memory retained for reuse
+   */
+
+  @Value.Parameter
+  long bytesReserved();
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The type of allocators of off-heap staging memory.</p>
+ *
+ * <p>Staging memory is used to hold data (such as buffer and texture updates)
+ * on the client side before it is submitted to the GPU. Allocators are
+ * expected to recycle memory that is returned to them with {@link
+ * #release(ByteBuffer)}, avoiding the cost of repeatedly allocating direct
+ * buffers.</p>
+ *
+ * @see JCGLBufferUpdates
+ * @see JCGLTextureUpdates
+ */
+
+public interface JCGLStagingAllocatorType
+{
+  /**
+   * <p>Allocate a direct buffer of exactly {@code size} bytes, in native byte
+   * order. The initial contents of the buffer are undefined.</p>
+   *
+   * @param size The size in bytes
+   *
+   * @return A direct buffer
+   */
+
+  ByteBuffer allocate(long size);
+
+  /**
+   * <p>Return the buffer {@code b} to the allocator. The buffer must have been
+   * returned by a call to {@link #allocate(long)} on this allocator, and must
+   * not be used after this method returns.</p>
+   *
+   * @param b The buffer
+   *
+   * @throws IllegalArgumentException Iff {@code b} was not allocated by this
+   *                                  allocator, or has already been released
+   */
+
+  void release(ByteBuffer b)
+    throws IllegalArgumentException;
+
+  /**
+   * Return the data of the update {@code u} to the allocator. The update must
+   * have been created by passing this allocator to one of the update
+   * functions, and must not be used after this method returns.
+   *
+   * @param u The update
+   *
+   * @throws IllegalArgumentException Iff the data of {@code u} was not
+   *                                  allocated by this allocator, or has
+   *                                  already been released
+   * @see #release(ByteBuffer)
+   */
+
+  default void releaseUpdate(final JCGLDataUpdateType<?> u)
+    throws IllegalArgumentException
+  {
+    this.release(u.data());
+  }
+
+  /**
+   * @return A snapshot of the allocator's current statistics
+   */
+
+  JCGLStagingAllocatorStatistics statistics();
+}
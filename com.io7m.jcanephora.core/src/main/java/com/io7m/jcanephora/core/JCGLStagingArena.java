@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.Ranges;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * <p>A linear (bump-pointer) staging allocator intended to hold data that
+ * lives for at most a single frame.</p>
+ *
+ * <p>Allocations are carved sequentially out of a single preallocated direct
+ * buffer, and are reclaimed all at once by calling {@link #reset()},
+ * typically at the start of each frame. Releasing an individual allocation
+ * with {@link #release(ByteBuffer)} does not return its space to the arena,
+ * but each allocation may still be released at most once before the next
+ * reset.
+ * Requests that do not fit in the remaining space are passed to a fallback
+ * allocator, and are returned to the fallback allocator when released or when
+ * the arena is reset.</p>
+ *
+ * <p>The arena is not thread-safe and is intended to be used by a single
+ * thread.</p>
+ */
+
+public final class JCGLStagingArena implements JCGLStagingAllocatorType
+{
+  private static final int ALIGNMENT = 16;
+
+  private final ByteBuffer arena;
+  private final JCGLStagingAllocatorType fallback;
+  private final Set<ByteBuffer> overflow;
+  private final Set<ByteBuffer> live;
+  private long offset;
+  private long allocations;
+  private long allocations_recycled;
+  private long releases;
+  private long overflow_bytes;
+
+  private JCGLStagingArena(
+    final long in_capacity,
+    final JCGLStagingAllocatorType in_fallback)
+  {
+    this.fallback = NullCheck.notNull(in_fallback, "Fallback");
+    RangeCheck.checkIncludedInLong(
+      in_capacity, "Capacity", Ranges.NATURAL_LONG, "Valid capacities");
+
+    this.arena = ByteBuffer.allocateDirect(Math.toIntExact(in_capacity));
+    this.overflow = Collections.newSetFromMap(new IdentityHashMap<>(8));
+    this.live = Collections.newSetFromMap(new IdentityHashMap<>(64));
+  }
+
+  /**
+   * Create a new arena.
+   *
+   * @param in_capacity The size in bytes of the arena
+   * @param in_fallback The allocator used for requests that do not fit in the
+   *                    arena
+   *
+   * @return A new arena
+   */
+
+  public static JCGLStagingArena create(
+    final long in_capacity,
+    final JCGLStagingAllocatorType in_fallback)
+  {
+    return new JCGLStagingArena(in_capacity, in_fallback);
+  }
+
+  /**
+   * @return The size in bytes of the arena
+   */
+
+  public long capacity()
+  {
+    return (long) this.arena.capacity();
+  }
+
+  /**
+   * <p>Reclaim all memory allocated from the arena. Any buffers that were
+   * passed to the fallback allocator and have not yet been released are
+   * released.</p>
+   *
+   * <p>All buffers previously returned by {@link #allocate(long)} are
+   * invalidated and must not be used after this method returns.</p>
+   */
+
+  public void reset()
+  {
+    for (final ByteBuffer b : this.overflow) {
+      this.fallback.release(b);
+    }
+    this.overflow.clear();
+    this.live.clear();
+    this.overflow_bytes = 0L;
+    this.offset = 0L;
+  }
+
+  @Override
+  public ByteBuffer allocate(
+    final long size)
+  {
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid sizes");
+
+    ++this.allocations;
+
+    final long aligned =
+      (this.offset + (long) (ALIGNMENT - 1)) & (long) -ALIGNMENT;
+    if (aligned + size <= (long) this.arena.capacity()) {
+      final ByteBuffer view = this.arena.duplicate();
+      view.limit(Math.toIntExact(aligned + size));
+      view.position(Math.toIntExact(aligned));
+      this.offset = aligned + size;
+      ++this.allocations_recycled;
+
+      final ByteBuffer result = view.slice();
+      result.order(ByteOrder.nativeOrder());
+      this.live.add(result);
+      return result;
+    }
+
+    final ByteBuffer result = this.fallback.allocate(size);
+    this.overflow.add(result);
+    this.overflow_bytes += size;
+    return result;
+  }
+
+  @Override
+  public void release(
+    final ByteBuffer b)
+    throws IllegalArgumentException
+  {
+    NullCheck.notNull(b, "Buffer");
+
+    if (this.overflow.remove(b)) {
+      this.overflow_bytes -= (long) b.capacity();
+      this.fallback.release(b);
+    } else if (!this.live.remove(b)) {
+      throw new IllegalArgumentException(
+        "Buffer was not allocated by this allocator, or was already released");
+    }
+    ++this.releases;
+  }
+
+  @Override
+  public JCGLStagingAllocatorStatistics statistics()
+  {
+    return JCGLStagingAllocatorStatistics.of(
+      this.allocations,
+      this.allocations_recycled,
+      this.releases,
+      this.offset + this.overflow_bytes,
+      (long) this.arena.capacity() + this.overflow_bytes);
+  }
+}
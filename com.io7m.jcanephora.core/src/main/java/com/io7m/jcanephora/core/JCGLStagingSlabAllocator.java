@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A staging allocator that serves requests from power-of-two size classes
+ * of direct memory slabs.</p>
+ *
+ * <p>Each allocation is rounded up to the nearest size class, and a slab of
+ * that class is taken from the class's free list (or allocated, if the free
+ * list is empty). Released slabs are returned to the free list of their class,
+ * up to a configurable limit on the total retained memory. Requests larger
+ * than the largest size class are allocated directly and are not pooled.</p>
+ *
+ * <p>The allocator is thread-safe.</p>
+ */
+
+public final class JCGLStagingSlabAllocator implements JCGLStagingAllocatorType
+{
+  private final JCGLStagingSlabAllocatorConfiguration config;
+  private final List<ArrayDeque<ByteBuffer>> free;
+  private final Map<ByteBuffer, ByteBuffer> live;
+  private final int class_min_shift;
+  private long allocations;
+  private long allocations_recycled;
+  private long releases;
+  private long bytes_in_use;
+  private long bytes_retained;
+
+  private JCGLStagingSlabAllocator(
+    final JCGLStagingSlabAllocatorConfiguration in_config)
+  {
+    this.config = NullCheck.notNull(in_config, "Config");
+
+    final int min = in_config.sizeClassMinimum();
+    final int max = in_config.sizeClassMaximum();
+    checkPowerOfTwo(min, "Minimum size class");
+    checkPowerOfTwo(max, "Maximum size class");
+    RangeCheck.checkLessEqualInteger(
+      min, "Minimum size class", max, "Maximum size class");
+    RangeCheck.checkIncludedInLong(
+      in_config.retainedBytesMaximum(),
+      "Retained bytes maximum",
+      Ranges.NATURAL_LONG,
+      "Valid sizes");
+
+    this.class_min_shift = Integer.numberOfTrailingZeros(min);
+    final int class_count =
+      (Integer.numberOfTrailingZeros(max) - this.class_min_shift) + 1;
+
+    this.free = new ArrayList<>(class_count);
+    for (int index = 0; index < class_count; ++index) {
+      this.free.add(new ArrayDeque<>(8));
+    }
+    this.live = new IdentityHashMap<>(64);
+  }
+
+  /**
+   * Create a new allocator.
+   *
+   * @param in_config The allocator configuration
+   *
+   * @return A new allocator
+   *
+   * @throws RangeCheckException Iff the size classes in the configuration are
+   *                             not powers of two, or the minimum size class
+   *                             is larger than the maximum
+   */
+
+  public static JCGLStagingSlabAllocator create(
+    final JCGLStagingSlabAllocatorConfiguration in_config)
+    throws RangeCheckException
+  {
+    return new JCGLStagingSlabAllocator(in_config);
+  }
+
+  private static void checkPowerOfTwo(
+    final int x,
+    final String name)
+  {
+    if (x <= 0 || Integer.bitCount(x) != 1) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Size class must be a positive power of two.");
+      sb.append(System.lineSeparator());
+      sb.append("  ");
+      sb.append(name);
+      sb.append(": ");
+      sb.append(x);
+      throw new RangeCheckException(sb.toString());
+    }
+  }
+
+  private int sizeClassOf(
+    final int size)
+  {
+    if (size > this.config.sizeClassMaximum()) {
+      return -1;
+    }
+
+    final int clamped = Math.max(size, this.config.sizeClassMinimum());
+    final int shift = 32 - Integer.numberOfLeadingZeros(clamped - 1);
+    return shift - this.class_min_shift;
+  }
+
+  @Override
+  public synchronized ByteBuffer allocate(
+    final long size)
+  {
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid sizes");
+
+    final int isize = Math.toIntExact(size);
+    final int size_class = this.sizeClassOf(isize);
+
+    ByteBuffer slab = null;
+    if (size_class >= 0) {
+      slab = this.free.get(size_class).poll();
+    }
+
+    if (slab != null) {
+      this.bytes_retained -= (long) slab.capacity();
+      ++this.allocations_recycled;
+    } else {
+      final int slab_size =
+        size_class >= 0 ? 1 << (size_class + this.class_min_shift) : isize;
+      slab = ByteBuffer.allocateDirect(slab_size);
+    }
+
+    ++this.allocations;
+    this.bytes_in_use += (long) slab.capacity();
+
+    final ByteBuffer view = slab.duplicate();
+    view.clear();
+    view.limit(isize);
+    final ByteBuffer result = view.slice();
+    result.order(ByteOrder.nativeOrder());
+    this.live.put(result, slab);
+    return result;
+  }
+
+  @Override
+  public synchronized void release(
+    final ByteBuffer b)
+    throws IllegalArgumentException
+  {
+    NullCheck.notNull(b, "Buffer");
+
+    final ByteBuffer slab = this.live.remove(b);
+    if (slab == null) {
+      throw new IllegalArgumentException(
+        "Buffer was not allocated by this allocator, or was already released");
+    }
+
+    final long capacity = (long) slab.capacity();
+    ++this.releases;
+    this.bytes_in_use -= capacity;
+
+    final int size_class = this.sizeClassOf(slab.capacity());
+    final boolean pooled = size_class >= 0
+      && this.bytes_retained + capacity <= this.config.retainedBytesMaximum();
+
+    if (pooled) {
+      this.free.get(size_class).push(slab);
+      this.bytes_retained += capacity;
+    }
+  }
+
+  @Override
+  public synchronized JCGLStagingAllocatorStatistics statistics()
+  {
+    return JCGLStagingAllocatorStatistics.of(
+      this.allocations,
+      this.allocations_recycled,
+      this.releases,
+      this.bytes_in_use,
+      this.bytes_in_use + this.bytes_retained);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import org.immutables.value.Value;
+
+/**
+ * Configuration values for slab allocators.
+ *
+ * @see JCGLStagingSlabAllocator
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLStagingSlabAllocatorConfigurationType
+{
+  /**
+   * @return The size in bytes of the smallest size class. Must be a power of
+   * two.
+   */
+
+  @Value.Parameter
+  @Value.Default
+  default int sizeClassMinimum()
+  {
+    return 256;
+  }
+
+  /**
+   * @return The size in bytes of the largest size class. Must be a power of
+   * two. Allocations larger than this size are not pooled.
+   */
+
+  @Value.Parameter
+  @Value.Default
+  default int sizeClassMaximum()
+  {
+    return 16 * 1024 * 1024;
+  }
+
+  /**
+   * @return The maximum number of bytes of released memory that will be
+   * retained for reuse. Released buffers that would cause the retained memory
+   * to exceed this limit are discarded.
+   */
+
+  @Value.Parameter
+  @Value.Default
+  default long retainedBytesMaximum()
+  {
+    return 64L * 1024L * 1024L;
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+/**
+ * The result of waiting on a sync object.
+ */
+
+public enum JCGLSyncWaitResult
+{
+  /**
+   * The sync object was already signalled when the wait began.
+   */
+
+  SYNC_WAIT_ALREADY_SIGNALLED,
+
+  /**
+   * The sync object became signalled before the timeout expired.
+   */
+
+  SYNC_WAIT_CONDITION_SATISFIED,
+
+  /**
+   * The timeout expired before the sync object became signalled.
+   */
+
+  SYNC_WAIT_TIMEOUT_EXPIRED
+}
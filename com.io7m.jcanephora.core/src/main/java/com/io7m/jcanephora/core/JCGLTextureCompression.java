@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+/**
+ * The block compression schemes used by texture formats.
+ *
+ * @see JCGLTextureFormat#getCompression()
+ * @since 0.62.0
+ */
+
+public enum JCGLTextureCompression
+{
+  /**
+   * The format is not compressed: Each block is a single pixel.
+   */
+
+  TEXTURE_COMPRESSION_NONE(1, 1),
+
+  /**
+   * Red-green texture compression (also known as BC4 and BC5). This is part
+   * of the core OpenGL 3.0 specification.
+   */
+
+  TEXTURE_COMPRESSION_RGTC(4, 4),
+
+  /**
+   * S3 texture compression (also known as DXT, BC1, BC2, and BC3). This
+   * requires the {@code EXT_texture_compression_s3tc} extension.
+   */
+
+  TEXTURE_COMPRESSION_S3TC(4, 4),
+
+  /**
+   * Block partitioned texture compression (also known as BC6H and BC7). This
+   * requires OpenGL 4.2 or the {@code ARB_texture_compression_bptc}
+   * extension.
+   */
+
+  TEXTURE_COMPRESSION_BPTC(4, 4);
+
+  private final int block_width;
+  private final int block_height;
+
+  JCGLTextureCompression(
+    final int in_block_width,
+    final int in_block_height)
+  {
+    this.block_width = in_block_width;
+    this.block_height = in_block_height;
+  }
+
+  /**
+   * @return The width in pixels of a single block
+   */
+
+  public int getBlockWidth()
+  {
+    return this.block_width;
+  }
+
+  /**
+   * @return The height in pixels of a single block
+   */
+
+  public int getBlockHeight()
+  {
+    return this.block_height;
+  }
+}
@@ -385,11 +385,122 @@ public enum JCGLTextureFormat
   TEXTURE_FORMAT_RGBA_8U_4BPP(
     JCGLPixelFormat.PIXEL_COMPONENT_UNSIGNED_BYTE,
     4,
-    4);
+    4),
+
+  /**
+   * RGTC1 compressed, red channel, unsigned normalized components, 8 bytes
+   * per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_RGTC1_R_8BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_RGTC, 1, 8),
+
+  /**
+   * RGTC1 compressed, red channel, signed normalized components, 8 bytes per
+   * 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_RGTC, 1, 8),
+
+  /**
+   * RGTC2 compressed, red/green channels, unsigned normalized components, 16
+   * bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_RGTC2_RG_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_RGTC, 2, 16),
+
+  /**
+   * RGTC2 compressed, red/green channels, signed normalized components, 16
+   * bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_RGTC, 2, 16),
+
+  /**
+   * S3TC DXT1 compressed, red/green/blue channels, 8 bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_S3TC, 3, 8),
+
+  /**
+   * S3TC DXT1 compressed, red/green/blue channels with 1 bit alpha, 8 bytes
+   * per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_S3TC, 4, 8),
+
+  /**
+   * S3TC DXT3 compressed, red/green/blue/alpha channels with explicit alpha,
+   * 16 bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_S3TC, 4, 16),
+
+  /**
+   * S3TC DXT5 compressed, red/green/blue/alpha channels with interpolated
+   * alpha, 16 bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_S3TC, 4, 16),
+
+  /**
+   * BPTC compressed, red/green/blue/alpha channels, unsigned normalized
+   * components, 16 bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_BPTC_RGBA_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_BPTC, 4, 16),
+
+  /**
+   * BPTC compressed, red/green/blue channels, signed floating point
+   * components, 16 bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_BPTC, 3, 16),
+
+  /**
+   * BPTC compressed, red/green/blue channels, unsigned floating point
+   * components, 16 bytes per 4x4 block.
+   *
+   * @since 0.62.0
+   */
+
+  TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB(
+    JCGLTextureCompression.TEXTURE_COMPRESSION_BPTC, 3, 16);
 
   private final int bytes_per_pixel;
+  private final int bytes_per_block;
   private final int components;
   private final JCGLPixelFormat pixel_format;
+  private final JCGLTextureCompression compression;
 
   JCGLTextureFormat(
     final JCGLPixelFormat in_pixel_format,
@@ -399,14 +510,41 @@ public enum JCGLTextureFormat
     this.pixel_format = in_pixel_format;
     this.components = in_components;
     this.bytes_per_pixel = in_bytes_per_pixel;
+    this.bytes_per_block = in_bytes_per_pixel;
+    this.compression = JCGLTextureCompression.TEXTURE_COMPRESSION_NONE;
+  }
+
+  JCGLTextureFormat(
+    final JCGLTextureCompression in_compression,
+    final int in_components,
+    final int in_bytes_per_block)
+  {
+    this.pixel_format = JCGLPixelFormat.PIXEL_COMPONENT_UNSIGNED_BYTE;
+    this.components = in_components;
+    this.bytes_per_pixel = 0;
+    this.bytes_per_block = in_bytes_per_block;
+    this.compression = in_compression;
   }
 
   /**
-   * @return The number of bytes per pixel that this texture format requires.
+   * Compressed formats do not have a whole number of bytes per pixel; use
+   * {@link #getBytesPerBlock()} or
+   * {@link JCGLTextureFormats#imageSizeBytes(JCGLTextureFormat, long, long)}
+   * for those formats instead.
+   *
+   * @return The number of bytes per pixel that this texture format requires
+   *
+   * @throws JCGLExceptionFormatError Iff this format is compressed
    */
 
   public int getBytesPerPixel()
+    throws JCGLExceptionFormatError
   {
+    if (this.isCompressed()) {
+      throw new JCGLExceptionFormatError(String.format(
+        "Format %s is compressed and has no fixed number of bytes per pixel",
+        this));
+    }
     return this.bytes_per_pixel;
   }
 
@@ -427,4 +565,60 @@ public enum JCGLTextureFormat
   {
     return this.pixel_format;
   }
+
+  /**
+   * @return The compression scheme used by this format
+   *
+   * @since 0.62.0
+   */
+
+  public JCGLTextureCompression getCompression()
+  {
+    return this.compression;
+  }
+
+  /**
+   * @return {@code true} iff this format is block-compressed
+   *
+   * @since 0.62.0
+   */
+
+  public boolean isCompressed()
+  {
+    return this.compression != JCGLTextureCompression.TEXTURE_COMPRESSION_NONE;
+  }
+
+  /**
+   * @return The number of bytes used by a single block of this format; for
+   * uncompressed formats, this is the number of bytes per pixel
+   *
+   * @since 0.62.0
+   */
+
+  public int getBytesPerBlock()
+  {
+    return this.bytes_per_block;
+  }
+
+  /**
+   * @return The width in pixels of a single block of this format
+   *
+   * @since 0.62.0
+   */
+
+  public int getBlockWidth()
+  {
+    return this.compression.getBlockWidth();
+  }
+
+  /**
+   * @return The height in pixels of a single block of this format
+   *
+   * @since 0.62.0
+   */
+
+  public int getBlockHeight()
+  {
+    return this.compression.getBlockHeight();
+  }
 }
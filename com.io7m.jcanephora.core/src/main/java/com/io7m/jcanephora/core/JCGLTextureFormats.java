@@ -16,6 +16,10 @@
 
 package com.io7m.jcanephora.core;
 
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jregions.core.unparameterized.areas.AreaL;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
 import com.io7m.junreachable.UnreachableCodeException;
 
 /**
@@ -180,6 +184,17 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_RGBA_8_4BPP:
       case TEXTURE_FORMAT_RGBA_8I_4BPP:
       case TEXTURE_FORMAT_RGBA_8U_4BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
         return false;
     }
 
@@ -243,6 +258,17 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_RGBA_8_4BPP:
       case TEXTURE_FORMAT_RGBA_8I_4BPP:
       case TEXTURE_FORMAT_RGBA_8U_4BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
         return 0;
     }
 
@@ -313,7 +339,18 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_RGB_32I_12BPP:
       case TEXTURE_FORMAT_RGB_32U_12BPP:
       case TEXTURE_FORMAT_RGB_8I_3BPP:
-      case TEXTURE_FORMAT_RGB_8U_3BPP: {
+      case TEXTURE_FORMAT_RGB_8U_3BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB: {
         return false;
       }
     }
@@ -339,7 +376,9 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_RG_16F_4BPP:
       case TEXTURE_FORMAT_RG_32F_8BPP:
       case TEXTURE_FORMAT_R_16F_2BPP:
-      case TEXTURE_FORMAT_R_32F_4BPP: {
+      case TEXTURE_FORMAT_R_32F_4BPP:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB: {
         return true;
       }
       case TEXTURE_FORMAT_DEPTH_16_2BPP:
@@ -377,7 +416,16 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_R_32U_4BPP:
       case TEXTURE_FORMAT_R_8I_1BPP:
       case TEXTURE_FORMAT_R_8U_1BPP:
-      case TEXTURE_FORMAT_R_8_1BPP: {
+      case TEXTURE_FORMAT_R_8_1BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB: {
         return false;
       }
     }
@@ -438,7 +486,18 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_R_32U_4BPP:
       case TEXTURE_FORMAT_R_8I_1BPP:
       case TEXTURE_FORMAT_R_8U_1BPP:
-      case TEXTURE_FORMAT_R_8_1BPP: {
+      case TEXTURE_FORMAT_R_8_1BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB: {
         return false;
       }
       case TEXTURE_FORMAT_DEPTH_24_STENCIL_8_4BPP: {
@@ -504,9 +563,132 @@ public final class JCGLTextureFormats
       case TEXTURE_FORMAT_RGBA_8_4BPP:
       case TEXTURE_FORMAT_RGBA_8I_4BPP:
       case TEXTURE_FORMAT_RGBA_8U_4BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
         return 0;
     }
 
     throw new UnreachableCodeException();
   }
+
+  /**
+   * Calculate the number of bytes required to hold an image of the given size
+   * in format {@code f}. For compressed formats, the image is rounded up to a
+   * whole number of blocks in each dimension.
+   *
+   * @param f      The texture format
+   * @param width  The width of the image in pixels
+   * @param height The height of the image in pixels
+   *
+   * @return The size of the image in bytes
+   *
+   * @throws ArithmeticException Iff the size cannot be represented as a
+   *                             {@code long}
+   * @since 0.62.0
+   */
+
+  public static long imageSizeBytes(
+    final JCGLTextureFormat f,
+    final long width,
+    final long height)
+  {
+    NullCheck.notNull(f, "Format");
+
+    final long bw = (long) f.getBlockWidth();
+    final long bh = (long) f.getBlockHeight();
+    final long blocks_x = Math.addExact(width, bw - 1L) / bw;
+    final long blocks_y = Math.addExact(height, bh - 1L) / bh;
+    return Math.multiplyExact(
+      Math.multiplyExact(blocks_x, blocks_y), (long) f.getBytesPerBlock());
+  }
+
+  /**
+   * Check that {@code area} lies on block boundaries of format {@code f} for
+   * an image of size {@code image}. The offsets of the area must be multiples
+   * of the block size, and the extents of the area must be multiples of the
+   * block size unless the area extends to the edge of the image. The check
+   * trivially succeeds for uncompressed formats.
+   *
+   * @param f     The texture format
+   * @param image The size of the image
+   * @param area  The area
+   *
+   * @throws RangeCheckException Iff the area is not block-aligned
+   * @since 0.62.0
+   */
+
+  public static void checkBlockAligned(
+    final JCGLTextureFormat f,
+    final AreaSizeL image,
+    final AreaL area)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(f, "Format");
+    NullCheck.notNull(image, "Image");
+    NullCheck.notNull(area, "Area");
+
+    if (!f.isCompressed()) {
+      return;
+    }
+
+    final long bw = (long) f.getBlockWidth();
+    final long bh = (long) f.getBlockHeight();
+    final boolean x_ok = area.minimumX() % bw == 0L
+      && (area.width() % bw == 0L || area.maximumX() == image.width());
+    final boolean y_ok = area.minimumY() % bh == 0L
+      && (area.height() % bh == 0L || area.maximumY() == image.height());
+
+    if (!(x_ok && y_ok)) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Area is not aligned to the blocks of a compressed format.");
+      sb.append(System.lineSeparator());
+      sb.append("  Format:     ");
+      sb.append(f);
+      sb.append(System.lineSeparator());
+      sb.append("  Block size: ");
+      sb.append(bw);
+      sb.append("x");
+      sb.append(bh);
+      sb.append(System.lineSeparator());
+      sb.append("  Image size: ");
+      sb.append(image);
+      sb.append(System.lineSeparator());
+      sb.append("  Area:       ");
+      sb.append(area);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+  }
+
+  /**
+   * Check that mipmaps can be generated by OpenGL for textures of format
+   * {@code f}. Mipmaps cannot be generated for compressed formats; the levels
+   * of compressed textures must be uploaded explicitly.
+   *
+   * @param f The texture format
+   *
+   * @throws JCGLExceptionFormatError Iff mipmaps cannot be generated
+   * @since 0.62.0
+   */
+
+  public static void checkMipmapGenerationSupported(
+    final JCGLTextureFormat f)
+    throws JCGLExceptionFormatError
+  {
+    if (f.isCompressed()) {
+      final String m = String.format(
+        "Mipmaps cannot be generated for compressed format %s", f);
+      assert m != null;
+      throw new JCGLExceptionFormatError(m);
+    }
+  }
 }
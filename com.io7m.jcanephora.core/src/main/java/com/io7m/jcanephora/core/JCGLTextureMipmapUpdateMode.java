@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+/**
+ * The way in which texture updates affect the mipmaps of textures that have
+ * mipmapping minification filters.
+ *
+ * @since 0.62.0
+ */
+
+public enum JCGLTextureMipmapUpdateMode
+{
+  /**
+   * Mipmaps are regenerated immediately after every update. This is the
+   * default, and matches the behaviour of earlier versions.
+   */
+
+  TEXTURE_MIPMAP_UPDATE_IMMEDIATE,
+
+  /**
+   * Updates mark the mipmaps of the updated texture as dirty. Dirty mipmaps
+   * are regenerated once when the texture is next explicitly bound, or when
+   * all dirty textures are flushed, regardless of how many updates were made
+   * in the meantime.
+   */
+
+  TEXTURE_MIPMAP_UPDATE_DEFERRED
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Functions for reasoning about texture mipmap levels.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLTextureMipmaps
+{
+  private JCGLTextureMipmaps()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param filter A minification filter
+   *
+   * @return {@code true} iff {@code filter} samples from mipmaps
+   */
+
+  public static boolean isMipmapped(
+    final JCGLTextureFilterMinification filter)
+  {
+    NullCheck.notNull(filter, "Filter");
+
+    switch (filter) {
+      case TEXTURE_FILTER_LINEAR:
+      case TEXTURE_FILTER_NEAREST:
+        return false;
+      case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST:
+      case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
+      case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
+      case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
+        return true;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate the number of levels in a complete mipmap chain for an image
+   * of the given size. The chain ends with a {@code 1 * 1} level.
+   *
+   * @param size The size of level {@code 0}
+   *
+   * @return The number of levels, including level {@code 0}
+   */
+
+  public static int levelCount(
+    final AreaSizeL size)
+  {
+    NullCheck.notNull(size, "Size");
+
+    final long largest = Math.max(size.width(), size.height());
+    RangeCheck.checkGreaterEqualLong(largest, "Size", 1L, "Valid sizes");
+    return 64 - Long.numberOfLeadingZeros(largest);
+  }
+
+  /**
+   * @param texture A texture
+   *
+   * @return The number of mipmap levels that exist for {@code texture}; this
+   * is {@code 1} for textures that do not use a mipmapping minification filter
+   */
+
+  public static int levelCount(
+    final JCGLTextureUsableType texture)
+  {
+    NullCheck.notNull(texture, "Texture");
+
+    if (isMipmapped(texture.minificationFilter())) {
+      return levelCount(AreaSizeL.of(texture.width(), texture.height()));
+    }
+    return 1;
+  }
+
+  /**
+   * Calculate the size of mipmap level {@code level} of an image of the given
+   * size. Each level is half the size of the previous level, rounded down,
+   * and no side is ever smaller than {@code 1}.
+   *
+   * @param size  The size of level {@code 0}
+   * @param level The level
+   *
+   * @return The size of the level
+   *
+   * @throws RangeCheckException Iff {@code level} is not in the range {@code
+   *                             [0, levelCount(size))}
+   */
+
+  public static AreaSizeL levelSize(
+    final AreaSizeL size,
+    final int level)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(size, "Size");
+
+    final int count = levelCount(size);
+    RangeCheck.checkIncludedInInteger(
+      level,
+      "Level",
+      new RangeInclusiveI(0, count - 1),
+      "Valid levels");
+
+    return AreaSizeL.of(
+      Math.max(1L, size.width() >>> level),
+      Math.max(1L, size.height() >>> level));
+  }
+
+  /**
+   * Calculate the size of mipmap level {@code level} of the given texture.
+   *
+   * @param texture The texture
+   * @param level   The level
+   *
+   * @return The size of the level
+   *
+   * @throws RangeCheckException Iff {@code level} is not in the range {@code
+   *                             [0, levelCount(texture))}
+   */
+
+  public static AreaSizeL levelSize(
+    final JCGLTextureUsableType texture,
+    final int level)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(texture, "Texture");
+
+    RangeCheck.checkIncludedInInteger(
+      level,
+      "Level",
+      new RangeInclusiveI(0, levelCount(texture) - 1),
+      "Valid levels");
+    return levelSize(AreaSizeL.of(texture.width(), texture.height()), level);
+  }
+}
@@ -20,6 +20,7 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheckException;
 import com.io7m.jregions.core.unparameterized.areas.AreaL;
 import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesL;
 import com.io7m.junreachable.UnreachableCodeException;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
@@ -74,25 +75,7 @@ public final class JCGLTextureUpdates
     NullCheck.notNull(t, "Texture");
     NullCheck.notNull(update_area, "Area");
 
-    final AreaL texture_area = AreaSizesL.area(t.size());
-    if (!AreasL.contains(texture_area, update_area)) {
-      final StringBuilder sb = new StringBuilder(128);
-      sb.append("Target area is not contained within the texture's area.");
-      sb.append(System.lineSeparator());
-      sb.append("  Texture area: ");
-      sb.append(t.size());
-      sb.append(System.lineSeparator());
-      sb.append("  Target area:  ");
-      sb.append(update_area);
-      sb.append(System.lineSeparator());
-      throw new RangeCheckException(sb.toString());
-    }
-
-    final long width = update_area.width();
-    final long height = update_area.height();
-    final int bpp = t.format().getBytesPerPixel();
-    final long size = width * height * (long) bpp;
-
+    final long size = updateSize(t.size(), t.format(), update_area);
     final ByteBuffer data = ByteBuffer.allocateDirect(Math.toIntExact(size));
     data.order(ByteOrder.nativeOrder());
     return new UpdateCube(t, update_area, data);
@@ -133,13 +116,267 @@ public final class JCGLTextureUpdates
     NullCheck.notNull(t, "Texture");
     NullCheck.notNull(update_area, "Area");
 
-    final AreaL texture_area = AreaSizesL.area(t.size());
+    final long size = updateSize(t.size(), t.format(), update_area);
+    final ByteBuffer data = ByteBuffer.allocateDirect(Math.toIntExact(size));
+    data.order(ByteOrder.nativeOrder());
+    return new Update2D(t, update_area, data);
+  }
+
+  /**
+   * Create a new update that will replace the entirety of mipmap level {@code
+   * level} of {@code t}. The update is intended to be passed to {@link
+   * com.io7m.jcanephora.core.api.JCGLTextures2DType#texture2DUpdateMipmapLevel(JCGLTextureUnitType,
+   * int, JCGLTexture2DUpdateType)}.
+   *
+   * @param t     The texture
+   * @param level The mipmap level
+   *
+   * @return A new update
+   *
+   * @throws RangeCheckException Iff {@code level} is not a level of {@code t}
+   * @see JCGLTextureMipmaps#levelSize(JCGLTextureUsableType, int)
+   * @since 0.62.0
+   */
+
+  public static JCGLTexture2DUpdateType newUpdateReplacingMipmapLevel2D(
+    final JCGLTexture2DUsableType t,
+    final int level)
+  {
+    NullCheck.notNull(t, "Texture");
+
+    final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(t, level);
+    final AreaL update_area = AreaSizesL.area(level_size);
+    final long size = updateSize(level_size, t.format(), update_area);
+    final ByteBuffer data = ByteBuffer.allocateDirect(Math.toIntExact(size));
+    data.order(ByteOrder.nativeOrder());
+    return new Update2D(t, update_area, data);
+  }
+
+  /**
+   * Create a new update that will replace the entirety of mipmap level {@code
+   * level} of one face of {@code t}. The update is intended to be passed to
+   * {@link com.io7m.jcanephora.core.api.JCGLTexturesCubeType#textureCubeUpdateMipmapLevelLH(JCGLTextureUnitType,
+   * JCGLCubeMapFaceLH, int, JCGLTextureCubeUpdateType)}.
+   *
+   * @param t     The texture
+   * @param level The mipmap level
+   *
+   * @return A new update
+   *
+   * @throws RangeCheckException Iff {@code level} is not a level of {@code t}
+   * @see JCGLTextureMipmaps#levelSize(JCGLTextureUsableType, int)
+   * @since 0.62.0
+   */
+
+  public static JCGLTextureCubeUpdateType newUpdateReplacingMipmapLevelCube(
+    final JCGLTextureCubeUsableType t,
+    final int level)
+  {
+    NullCheck.notNull(t, "Texture");
+
+    final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(t, level);
+    final AreaL update_area = AreaSizesL.area(level_size);
+    final long size = updateSize(level_size, t.format(), update_area);
+    final ByteBuffer data = ByteBuffer.allocateDirect(Math.toIntExact(size));
+    data.order(ByteOrder.nativeOrder());
+    return new UpdateCube(t, update_area, data);
+  }
+
+  /**
+   * <p>Create a new update that will replace the entirety of mipmap level
+   * {@code level} of {@code t} with the contents of {@code data}.</p>
+   *
+   * <p>The buffer is used as-is and is not copied: the contents of the
+   * buffer between position {@code 0} and its capacity must be exactly the
+   * image data for the level, tightly packed. This allows applications to
+   * upload data from buffers that they already own, such as slices of
+   * memory-mapped files, without an intermediate copy.</p>
+   *
+   * @param t     The texture
+   * @param level The mipmap level
+   * @param data  The image data
+   *
+   * @return A new update
+   *
+   * @throws RangeCheckException Iff {@code level} is not a level of {@code t},
+   *                             or the capacity of {@code data} is not the
+   *                             size of the level in bytes
+   * @since 0.62.0
+   */
+
+  public static JCGLTexture2DUpdateType newUpdateWrappingMipmapLevel2D(
+    final JCGLTexture2DUsableType t,
+    final int level,
+    final ByteBuffer data)
+  {
+    NullCheck.notNull(t, "Texture");
+    NullCheck.notNull(data, "Data");
+
+    final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(t, level);
+    final AreaL update_area = AreaSizesL.area(level_size);
+    final long size = updateSize(level_size, t.format(), update_area);
+    checkWrappedSize(size, data);
+    return new Update2D(t, update_area, data);
+  }
+
+  /**
+   * <p>Create a new update that will replace the entirety of mipmap level
+   * {@code level} of one face of {@code t} with the contents of {@code
+   * data}.</p>
+   *
+   * <p>The buffer is used as-is and is not copied: the contents of the
+   * buffer between position {@code 0} and its capacity must be exactly the
+   * image data for the level, tightly packed.</p>
+   *
+   * @param t     The texture
+   * @param level The mipmap level
+   * @param data  The image data
+   *
+   * @return A new update
+   *
+   * @throws RangeCheckException Iff {@code level} is not a level of {@code t},
+   *                             or the capacity of {@code data} is not the
+   *                             size of the level in bytes
+   * @see #newUpdateWrappingMipmapLevel2D(JCGLTexture2DUsableType, int,
+   * ByteBuffer)
+   * @since 0.62.0
+   */
+
+  public static JCGLTextureCubeUpdateType newUpdateWrappingMipmapLevelCube(
+    final JCGLTextureCubeUsableType t,
+    final int level,
+    final ByteBuffer data)
+  {
+    NullCheck.notNull(t, "Texture");
+    NullCheck.notNull(data, "Data");
+
+    final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(t, level);
+    final AreaL update_area = AreaSizesL.area(level_size);
+    final long size = updateSize(level_size, t.format(), update_area);
+    checkWrappedSize(size, data);
+    return new UpdateCube(t, update_area, data);
+  }
+
+  /**
+   * Create a new update that will replace the entirety of one face of
+   * {@code t}, allocating the update's data from {@code allocator}.
+   *
+   * @param t         The texture
+   * @param allocator The staging allocator
+   *
+   * @return A new update
+   *
+   * @see JCGLStagingAllocatorType#releaseUpdate(JCGLDataUpdateType)
+   */
+
+  public static JCGLTextureCubeUpdateType newUpdateReplacingAllCube(
+    final JCGLTextureCubeUsableType t,
+    final JCGLStagingAllocatorType allocator)
+  {
+    NullCheck.notNull(t, "Texture");
+    return newUpdateReplacingAreaCube(
+      t, AreaSizesL.area(t.size()), allocator);
+  }
+
+  /**
+   * Create a new update that will replace the given {@code area} of {@code t},
+   * allocating the update's data from {@code allocator}. {@code area} must
+   * be included within the area of {@code t}. The update should be returned
+   * to the allocator with {@link
+   * JCGLStagingAllocatorType#releaseUpdate(JCGLDataUpdateType)} when it is no
+   * longer needed.
+   *
+   * @param t           The texture
+   * @param update_area The area that will be updated
+   * @param allocator   The staging allocator
+   *
+   * @return A new update
+   *
+   * @throws RangeCheckException Iff {@code area} is not included within {@code
+   *                             t}
+   */
+
+  public static JCGLTextureCubeUpdateType newUpdateReplacingAreaCube(
+    final JCGLTextureCubeUsableType t,
+    final AreaL update_area,
+    final JCGLStagingAllocatorType allocator)
+  {
+    NullCheck.notNull(t, "Texture");
+    NullCheck.notNull(update_area, "Area");
+    NullCheck.notNull(allocator, "Allocator");
+
+    final long size = updateSize(t.size(), t.format(), update_area);
+    final ByteBuffer data = allocator.allocate(size);
+    data.order(ByteOrder.nativeOrder());
+    return new UpdateCube(t, update_area, data);
+  }
+
+  /**
+   * Create a new update that will replace the entirety of {@code t},
+   * allocating the update's data from {@code allocator}.
+   *
+   * @param t         The texture
+   * @param allocator The staging allocator
+   *
+   * @return A new update
+   *
+   * @see JCGLStagingAllocatorType#releaseUpdate(JCGLDataUpdateType)
+   */
+
+  public static JCGLTexture2DUpdateType newUpdateReplacingAll2D(
+    final JCGLTexture2DUsableType t,
+    final JCGLStagingAllocatorType allocator)
+  {
+    NullCheck.notNull(t, "Texture");
+    return newUpdateReplacingArea2D(
+      t, AreaSizesL.area(t.size()), allocator);
+  }
+
+  /**
+   * Create a new update that will replace the given {@code area} of {@code t},
+   * allocating the update's data from {@code allocator}. {@code area} must
+   * be included within the area of {@code t}. The update should be returned
+   * to the allocator with {@link
+   * JCGLStagingAllocatorType#releaseUpdate(JCGLDataUpdateType)} when it is no
+   * longer needed.
+   *
+   * @param t           The texture
+   * @param update_area The area that will be updated
+   * @param allocator   The staging allocator
+   *
+   * @return A new update
+   *
+   * @throws RangeCheckException Iff {@code area} is not included within {@code
+   *                             t}
+   */
+
+  public static JCGLTexture2DUpdateType newUpdateReplacingArea2D(
+    final JCGLTexture2DUsableType t,
+    final AreaL update_area,
+    final JCGLStagingAllocatorType allocator)
+  {
+    NullCheck.notNull(t, "Texture");
+    NullCheck.notNull(update_area, "Area");
+    NullCheck.notNull(allocator, "Allocator");
+
+    final long size = updateSize(t.size(), t.format(), update_area);
+    final ByteBuffer data = allocator.allocate(size);
+    data.order(ByteOrder.nativeOrder());
+    return new Update2D(t, update_area, data);
+  }
+
+  private static long updateSize(
+    final AreaSizeL texture_size,
+    final JCGLTextureFormat format,
+    final AreaL update_area)
+  {
+    final AreaL texture_area = AreaSizesL.area(texture_size);
     if (!AreasL.contains(texture_area, update_area)) {
       final StringBuilder sb = new StringBuilder(128);
       sb.append("Target area is not contained within the texture's area.");
       sb.append(System.lineSeparator());
       sb.append("  Texture area: ");
-      sb.append(t.size());
+      sb.append(texture_size);
       sb.append(System.lineSeparator());
       sb.append("  Target area:  ");
       sb.append(update_area);
@@ -147,14 +384,27 @@ public final class JCGLTextureUpdates
       throw new RangeCheckException(sb.toString());
     }
 
-    final long width = update_area.width();
-    final long height = update_area.height();
-    final int bpp = t.format().getBytesPerPixel();
-    final long size = width * height * (long) bpp;
+    JCGLTextureFormats.checkBlockAligned(format, texture_size, update_area);
+    return JCGLTextureFormats.imageSizeBytes(
+      format, update_area.width(), update_area.height());
+  }
 
-    final ByteBuffer data = ByteBuffer.allocateDirect(Math.toIntExact(size));
-    data.order(ByteOrder.nativeOrder());
-    return new Update2D(t, update_area, data);
+  private static void checkWrappedSize(
+    final long size,
+    final ByteBuffer data)
+  {
+    if ((long) data.capacity() != size) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Buffer capacity does not match the size of the update.");
+      sb.append(System.lineSeparator());
+      sb.append("  Expected: ");
+      sb.append(size);
+      sb.append(System.lineSeparator());
+      sb.append("  Received: ");
+      sb.append(data.capacity());
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
   }
 
   private static final class Update2D implements JCGLTexture2DUpdateType
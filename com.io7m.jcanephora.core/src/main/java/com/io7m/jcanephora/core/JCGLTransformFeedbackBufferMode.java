@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+/**
+ * The manner in which captured varyings are written to transform feedback
+ * buffers.
+ */
+
+public enum JCGLTransformFeedbackBufferMode
+{
+  /**
+   * All captured varyings are written, interleaved, to the buffer bound to
+   * binding point {@code 0}.
+   */
+
+  TRANSFORM_FEEDBACK_INTERLEAVED,
+
+  /**
+   * Each captured varying {@code n} is written to the buffer bound to binding
+   * point {@code n}.
+   */
+
+  TRANSFORM_FEEDBACK_SEPARATE
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junreachable.UnreachableCodeException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Functions for validating transform feedback state.
+ */
+
+public final class JCGLTransformFeedbackChecks
+{
+  /**
+   * The alignment in bytes required of the offset and size of transform
+   * feedback buffer bindings.
+   */
+
+  public static final int BINDING_ALIGNMENT = 4;
+
+  private JCGLTransformFeedbackChecks()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Check that binding the bytes {@code range} of {@code buffer} to a transform
+   * feedback binding point is valid. A binding is valid iff the range is
+   * included in the buffer, and both the lower bound and the size of the range
+   * are multiples of {@link #BINDING_ALIGNMENT}.
+   *
+   * @param buffer The buffer
+   * @param range  The range of bytes
+   *
+   * @return {@code range}
+   *
+   * @throws RangeCheckException Iff the binding is not valid
+   */
+
+  public static UnsignedRangeInclusiveL checkBindingRange(
+    final JCGLBufferUsableType buffer,
+    final UnsignedRangeInclusiveL range)
+    throws RangeCheckException
+  {
+    JCGLUniformBufferBindings.checkBindingRange(
+      buffer, range, BINDING_ALIGNMENT);
+
+    if (Long.remainderUnsigned(
+      range.getInterval(), (long) BINDING_ALIGNMENT) != 0L) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Range size is not a multiple of the required alignment.");
+      sb.append(System.lineSeparator());
+      sb.append("  Range:     ");
+      sb.append(range);
+      sb.append(System.lineSeparator());
+      sb.append("  Alignment: ");
+      sb.append(BINDING_ALIGNMENT);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+
+    return range;
+  }
+
+  /**
+   * Check that the currently active program {@code program} is able to capture
+   * varyings, and that every binding point it writes to has a buffer bound.
+   *
+   * @param program  The currently active program, if any
+   * @param bindings The current transform feedback buffer bindings, with
+   *                 {@code null} elements indicating unbound binding points
+   *
+   * @return The active program
+   *
+   * @throws JCGLExceptionProgramNotActive               Iff no program is
+   *                                                     active
+   * @throws JCGLExceptionTransformFeedbackMisconfigured Iff the program does
+   *                                                     not capture any
+   *                                                     varyings, or captures
+   *                                                     more varyings than
+   *                                                     there are binding
+   *                                                     points
+   * @throws JCGLExceptionBufferNotBound                 Iff a required binding
+   *                                                     point has no buffer
+   *                                                     bound
+   * @throws JCGLExceptionDeleted                        Iff a required binding
+   *                                                     point has a deleted
+   *                                                     buffer bound
+   */
+
+  public static JCGLProgramShaderUsableType checkBegin(
+    final Optional<JCGLProgramShaderUsableType> program,
+    final JCGLArrayBufferUsableType[] bindings)
+    throws
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionTransformFeedbackMisconfigured,
+    JCGLExceptionBufferNotBound,
+    JCGLExceptionDeleted
+  {
+    NullCheck.notNull(program, "Program");
+    NullCheck.notNull(bindings, "Bindings");
+
+    if (!program.isPresent()) {
+      throw new JCGLExceptionProgramNotActive(
+        "Transform feedback requires an active program");
+    }
+
+    final JCGLProgramShaderUsableType p = program.get();
+    final List<String> varyings = p.transformFeedbackVaryings();
+    if (varyings.isEmpty()) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("The active program does not capture any varyings.");
+      sb.append(System.lineSeparator());
+      sb.append("  Program: ");
+      sb.append(p.name());
+      sb.append(System.lineSeparator());
+      throw new JCGLExceptionTransformFeedbackMisconfigured(sb.toString());
+    }
+
+    final int required;
+    switch (p.transformFeedbackBufferMode()) {
+      case TRANSFORM_FEEDBACK_INTERLEAVED: {
+        required = 1;
+        break;
+      }
+      case TRANSFORM_FEEDBACK_SEPARATE: {
+        required = varyings.size();
+        break;
+      }
+      default: {
+        throw new UnreachableCodeException();
+      }
+    }
+
+    if (required > bindings.length) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("The active program captures too many separate varyings.");
+      sb.append(System.lineSeparator());
+      sb.append("  Program:  ");
+      sb.append(p.name());
+      sb.append(System.lineSeparator());
+      sb.append("  Varyings: ");
+      sb.append(required);
+      sb.append(System.lineSeparator());
+      sb.append("  Maximum:  ");
+      sb.append(bindings.length);
+      sb.append(System.lineSeparator());
+      throw new JCGLExceptionTransformFeedbackMisconfigured(sb.toString());
+    }
+
+    for (int index = 0; index < required; ++index) {
+      if (bindings[index] == null) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("No buffer is bound to a required binding point.");
+        sb.append(System.lineSeparator());
+        sb.append("  Program:       ");
+        sb.append(p.name());
+        sb.append(System.lineSeparator());
+        sb.append("  Binding point: ");
+        sb.append(index);
+        sb.append(System.lineSeparator());
+        throw new JCGLExceptionBufferNotBound(sb.toString());
+      }
+      JCGLResources.checkNotDeleted(bindings[index]);
+    }
+
+    return p;
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+/**
+ * Functions for validating uniform buffer bindings.
+ */
+
+public final class JCGLUniformBufferBindings
+{
+  private JCGLUniformBufferBindings()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Check that {@code index} is a valid binding point.
+   *
+   * @param index The binding point
+   * @param max   The number of available binding points
+   *
+   * @return {@code index}
+   *
+   * @throws RangeCheckException Iff {@code index} is not in the range
+   *                             {@code [0, max)}
+   */
+
+  public static int checkBindingIndex(
+    final int index,
+    final int max)
+    throws RangeCheckException
+  {
+    return RangeCheck.checkIncludedInInteger(
+      index,
+      "Binding point",
+      new RangeInclusiveI(0, max - 1),
+      "Valid binding points");
+  }
+
+  /**
+   * <p>Check that binding the bytes {@code range} of {@code buffer} to a
+   * binding point is valid. A binding is valid iff the range is included in
+   * the buffer and the lower bound of the range is a multiple of
+   * {@code alignment}.</p>
+   *
+   * @param buffer    The buffer
+   * @param range     The range of bytes
+   * @param alignment The required alignment of the start of the range
+   *
+   * @return {@code range}
+   *
+   * @throws RangeCheckException Iff the binding is not valid
+   */
+
+  public static UnsignedRangeInclusiveL checkBindingRange(
+    final JCGLBufferUsableType buffer,
+    final UnsignedRangeInclusiveL range,
+    final int alignment)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(buffer, "Buffer");
+    NullCheck.notNull(range, "Range");
+    RangeCheck.checkIncludedInInteger(
+      alignment, "Alignment", Ranges.POSITIVE_INTEGER, "Valid alignments");
+
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      range, "Range", buffer.byteRange(), "Buffer range");
+
+    if (Long.remainderUnsigned(range.getLower(), (long) alignment) != 0L) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Range is not correctly aligned.");
+      sb.append(System.lineSeparator());
+      sb.append("  Range:     ");
+      sb.append(range);
+      sb.append(System.lineSeparator());
+      sb.append("  Alignment: ");
+      sb.append(alignment);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+
+    return range;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Functions for validating the arguments of uniform uploads.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLUniformChecks
+{
+  private JCGLUniformChecks()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Check that {@code count} elements of the array uniform {@code u} can be
+   * uploaded from a buffer that has {@code available} values remaining.
+   *
+   * @param u         The uniform
+   * @param count     The number of array elements to upload
+   * @param available The number of values remaining in the buffer
+   *
+   * @return The number of values that will be read from the buffer
+   *
+   * @throws RangeCheckException           Iff {@code count} is not in the
+   *                                       range {@code [1, u.size()]}
+   * @throws JCGLExceptionProgramTypeError Iff the buffer contains too few
+   *                                       values
+   */
+
+  public static int checkArray(
+    final JCGLProgramUniformType u,
+    final int count,
+    final int available)
+    throws RangeCheckException, JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(u, "Uniform");
+
+    RangeCheck.checkIncludedInInteger(
+      count,
+      "Count",
+      new RangeInclusiveI(1, Math.max(1, u.size())),
+      "Valid array element counts");
+
+    final JCGLType type = u.type();
+    final int required = Math.multiplyExact(count, type.getElementCount());
+    if (available < required) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Uniform data error.");
+      sb.append(System.lineSeparator());
+      sb.append("Expected: A buffer containing at least ");
+      sb.append(required);
+      sb.append(" values (");
+      sb.append(count);
+      sb.append(" elements of type ");
+      sb.append(type);
+      sb.append(")");
+      sb.append(System.lineSeparator());
+      sb.append("Actual: A buffer containing ");
+      sb.append(available);
+      sb.append(" values");
+      throw new JCGLExceptionProgramTypeError(sb.toString());
+    }
+    return required;
+  }
+}
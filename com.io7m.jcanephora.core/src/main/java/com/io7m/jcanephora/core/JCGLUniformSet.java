@@ -0,0 +1,678 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix3x3D;
+import com.io7m.jtensors.core.unparameterized.matrices.Matrix4x4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2I;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3I;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4I;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A prepared set of uniform values for a single program.</p>
+ *
+ * <p>A set is prepared once from a list of entries: each entry is resolved
+ * against the uniforms of the program and type-checked, and is thereafter
+ * identified by its index in the list. Values are written into a single
+ * off-heap block, and the whole block is uploaded with {@link
+ * com.io7m.jcanephora.core.api.JCGLShaderUniformsType#shaderUniformApply(JCGLUniformSet)}
+ * without any per-uniform lookups, checks, or allocations.</p>
+ *
+ * <p>Entries that name uniforms that do not exist in the program (typically
+ * because the GLSL compiler removed them as unused) are accepted, and are
+ * simply never uploaded.</p>
+ *
+ * <p>Uniform sets are not thread-safe.</p>
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLUniformSet
+{
+  private final JCGLProgramShaderUsableType program;
+  private final JCGLType[] types;
+  private final int[] locations;
+  private final int[] elements;
+  private final int[] offsets;
+  private final int[] words;
+  private final RangeInclusiveI indices;
+  private final FloatBuffer floats;
+  private final IntBuffer integers;
+
+  private JCGLUniformSet(
+    final JCGLProgramShaderUsableType in_program,
+    final List<JCGLUniformSetEntry> entries)
+  {
+    this.program = in_program;
+
+    final int count = entries.size();
+    this.types = new JCGLType[count];
+    this.locations = new int[count];
+    this.elements = new int[count];
+    this.offsets = new int[count];
+    this.words = new int[count];
+    this.indices = new RangeInclusiveI(0, count - 1);
+
+    final Map<String, JCGLProgramUniformType> uniforms =
+      in_program.uniforms();
+
+    int offset = 0;
+    for (int index = 0; index < count; ++index) {
+      final JCGLUniformSetEntry e = entries.get(index);
+      final JCGLType type = e.type();
+      final JCGLProgramUniformType u = uniforms.get(e.name());
+
+      if (u != null) {
+        if (u.type() != type) {
+          throw errorWrongType(e.name(), type, u.type());
+        }
+        this.locations[index] = u.glName();
+        this.elements[index] = u.size();
+      } else {
+        this.locations[index] = -1;
+        this.elements[index] = 1;
+      }
+
+      this.types[index] = type;
+      this.offsets[index] = offset;
+      this.words[index] =
+        Math.multiplyExact(type.getElementCount(), this.elements[index]);
+      offset = Math.addExact(offset, this.words[index]);
+    }
+
+    final ByteBuffer data =
+      ByteBuffer.allocateDirect(Math.multiplyExact(Math.max(offset, 1), 4));
+    data.order(ByteOrder.nativeOrder());
+    this.floats = data.asFloatBuffer();
+    this.integers = data.asIntBuffer();
+  }
+
+  /**
+   * Prepare a uniform set for the given program.
+   *
+   * @param program The program
+   * @param entries The uniforms that will be included in the set
+   *
+   * @return A new uniform set
+   *
+   * @throws JCGLExceptionProgramTypeError Iff a uniform exists in the program
+   *                                       but does not have the expected type
+   */
+
+  public static JCGLUniformSet prepare(
+    final JCGLProgramShaderUsableType program,
+    final List<JCGLUniformSetEntry> entries)
+    throws JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(program, "Program");
+    NullCheck.notNullAll(entries, "Entries");
+    return new JCGLUniformSet(program, entries);
+  }
+
+  private static JCGLExceptionProgramTypeError errorWrongType(
+    final String name,
+    final JCGLType expected,
+    final JCGLType actual)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Uniform type error.");
+    sb.append(System.lineSeparator());
+    sb.append("Uniform: ");
+    sb.append(name);
+    sb.append(System.lineSeparator());
+    sb.append("Expected: ");
+    sb.append(expected);
+    sb.append(System.lineSeparator());
+    sb.append("Actual: ");
+    sb.append(actual);
+    return new JCGLExceptionProgramTypeError(sb.toString());
+  }
+
+  private static JCGLExceptionProgramTypeError errorEntry(
+    final String error,
+    final int index,
+    final String expected,
+    final String actual)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append(error);
+    sb.append(System.lineSeparator());
+    sb.append("Entry index: ");
+    sb.append(index);
+    sb.append(System.lineSeparator());
+    sb.append("Expected: ");
+    sb.append(expected);
+    sb.append(System.lineSeparator());
+    sb.append("Actual: ");
+    sb.append(actual);
+    return new JCGLExceptionProgramTypeError(sb.toString());
+  }
+
+  private static boolean isIntegral(
+    final JCGLType type,
+    final int count)
+  {
+    return !type.isFloatingPointType()
+      && !type.isSamplerType()
+      && type.getElementCount() == count;
+  }
+
+  /**
+   * @return The program for which the set was prepared
+   */
+
+  public JCGLProgramShaderUsableType program()
+  {
+    return this.program;
+  }
+
+  /**
+   * @return The number of entries in the set
+   */
+
+  public int size()
+  {
+    return this.types.length;
+  }
+
+  /**
+   * @param index The entry index
+   *
+   * @return {@code true} iff the entry refers to a uniform that exists in the
+   * program
+   *
+   * @throws RangeCheckException Iff {@code index} is not a valid entry index
+   */
+
+  public boolean isActive(
+    final int index)
+    throws RangeCheckException
+  {
+    return this.locations[this.checkIndex(index)] >= 0;
+  }
+
+  private int checkIndex(
+    final int index)
+    throws RangeCheckException
+  {
+    return RangeCheck.checkIncludedInInteger(
+      index, "Entry index", this.indices, "Valid entry indices");
+  }
+
+  private int checkType(
+    final int index,
+    final JCGLType type)
+  {
+    final JCGLType actual = this.types[this.checkIndex(index)];
+    if (actual != type) {
+      throw errorEntry(
+        "Uniform type error.", index, type.toString(), actual.toString());
+    }
+    return this.offsets[index];
+  }
+
+  private int checkIntegral(
+    final int index,
+    final int count)
+  {
+    final JCGLType actual = this.types[this.checkIndex(index)];
+    if (!isIntegral(actual, count)) {
+      throw errorEntry(
+        "Uniform type error.",
+        index,
+        "An integer or boolean type with " + count + " elements",
+        actual.toString());
+    }
+    return this.offsets[index];
+  }
+
+  /**
+   * Set the value of a {@code float} uniform.
+   *
+   * @param index The entry index
+   * @param x     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setFloat(
+    final int index,
+    final float x)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT);
+    this.floats.put(o, x);
+  }
+
+  /**
+   * Set the value of a {@code vec2} uniform.
+   *
+   * @param index The entry index
+   * @param v     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setVector2f(
+    final int index,
+    final Vector2D v)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_VECTOR_2);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) v.x());
+    f.put(o + 1, (float) v.y());
+  }
+
+  /**
+   * Set the value of a {@code vec3} uniform.
+   *
+   * @param index The entry index
+   * @param v     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setVector3f(
+    final int index,
+    final Vector3D v)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_VECTOR_3);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) v.x());
+    f.put(o + 1, (float) v.y());
+    f.put(o + 2, (float) v.z());
+  }
+
+  /**
+   * Set the value of a {@code vec4} uniform.
+   *
+   * @param index The entry index
+   * @param v     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setVector4f(
+    final int index,
+    final Vector4D v)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_VECTOR_4);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) v.x());
+    f.put(o + 1, (float) v.y());
+    f.put(o + 2, (float) v.z());
+    f.put(o + 3, (float) v.w());
+  }
+
+  /**
+   * Set the value of an {@code int}, {@code uint}, or {@code bool} uniform.
+   *
+   * @param index The entry index
+   * @param x     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setInteger(
+    final int index,
+    final int x)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkIntegral(index, 1);
+    this.integers.put(o, x);
+  }
+
+  /**
+   * Set the value of an {@code ivec2}, {@code uvec2}, or {@code bvec2}
+   * uniform.
+   *
+   * @param index The entry index
+   * @param v     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setVector2i(
+    final int index,
+    final Vector2I v)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkIntegral(index, 2);
+    final IntBuffer i = this.integers;
+    i.put(o, v.x());
+    i.put(o + 1, v.y());
+  }
+
+  /**
+   * Set the value of an {@code ivec3}, {@code uvec3}, or {@code bvec3}
+   * uniform.
+   *
+   * @param index The entry index
+   * @param v     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setVector3i(
+    final int index,
+    final Vector3I v)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkIntegral(index, 3);
+    final IntBuffer i = this.integers;
+    i.put(o, v.x());
+    i.put(o + 1, v.y());
+    i.put(o + 2, v.z());
+  }
+
+  /**
+   * Set the value of an {@code ivec4}, {@code uvec4}, or {@code bvec4}
+   * uniform.
+   *
+   * @param index The entry index
+   * @param v     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setVector4i(
+    final int index,
+    final Vector4I v)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkIntegral(index, 4);
+    final IntBuffer i = this.integers;
+    i.put(o, v.x());
+    i.put(o + 1, v.y());
+    i.put(o + 2, v.z());
+    i.put(o + 3, v.w());
+  }
+
+  /**
+   * Set the value of a sampler uniform.
+   *
+   * @param index The entry index
+   * @param unit  The texture unit
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry is not a sampler
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setTextureUnit(
+    final int index,
+    final JCGLTextureUnitType unit)
+    throws JCGLExceptionProgramTypeError
+  {
+    final JCGLType actual = this.types[this.checkIndex(index)];
+    if (!actual.isSamplerType()) {
+      throw errorEntry(
+        "Uniform type error.", index, "A sampler type", actual.toString());
+    }
+    this.integers.put(this.offsets[index], unit.index());
+  }
+
+  /**
+   * Set the value of a {@code mat3} uniform.
+   *
+   * @param index The entry index
+   * @param m     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setMatrix3x3f(
+    final int index,
+    final Matrix3x3D m)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_MATRIX_3);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) m.r0c0());
+    f.put(o + 1, (float) m.r1c0());
+    f.put(o + 2, (float) m.r2c0());
+    f.put(o + 3, (float) m.r0c1());
+    f.put(o + 4, (float) m.r1c1());
+    f.put(o + 5, (float) m.r2c1());
+    f.put(o + 6, (float) m.r0c2());
+    f.put(o + 7, (float) m.r1c2());
+    f.put(o + 8, (float) m.r2c2());
+  }
+
+  /**
+   * Set the value of a {@code mat3} uniform.
+   *
+   * @param index The entry index
+   * @param m     The value
+   * @param <A>   The source coordinate space
+   * @param <B>   The target coordinate space
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public <A, B> void setPMatrix3x3f(
+    final int index,
+    final PMatrix3x3D<A, B> m)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_MATRIX_3);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) m.r0c0());
+    f.put(o + 1, (float) m.r1c0());
+    f.put(o + 2, (float) m.r2c0());
+    f.put(o + 3, (float) m.r0c1());
+    f.put(o + 4, (float) m.r1c1());
+    f.put(o + 5, (float) m.r2c1());
+    f.put(o + 6, (float) m.r0c2());
+    f.put(o + 7, (float) m.r1c2());
+    f.put(o + 8, (float) m.r2c2());
+  }
+
+  /**
+   * Set the value of a {@code mat4} uniform.
+   *
+   * @param index The entry index
+   * @param m     The value
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public void setMatrix4x4f(
+    final int index,
+    final Matrix4x4D m)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_MATRIX_4);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) m.r0c0());
+    f.put(o + 1, (float) m.r1c0());
+    f.put(o + 2, (float) m.r2c0());
+    f.put(o + 3, (float) m.r3c0());
+    f.put(o + 4, (float) m.r0c1());
+    f.put(o + 5, (float) m.r1c1());
+    f.put(o + 6, (float) m.r2c1());
+    f.put(o + 7, (float) m.r3c1());
+    f.put(o + 8, (float) m.r0c2());
+    f.put(o + 9, (float) m.r1c2());
+    f.put(o + 10, (float) m.r2c2());
+    f.put(o + 11, (float) m.r3c2());
+    f.put(o + 12, (float) m.r0c3());
+    f.put(o + 13, (float) m.r1c3());
+    f.put(o + 14, (float) m.r2c3());
+    f.put(o + 15, (float) m.r3c3());
+  }
+
+  /**
+   * Set the value of a {@code mat4} uniform.
+   *
+   * @param index The entry index
+   * @param m     The value
+   * @param <A>   The source coordinate space
+   * @param <B>   The target coordinate space
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry has a different type
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   */
+
+  public <A, B> void setPMatrix4x4f(
+    final int index,
+    final PMatrix4x4D<A, B> m)
+    throws JCGLExceptionProgramTypeError
+  {
+    final int o = this.checkType(index, JCGLType.TYPE_FLOAT_MATRIX_4);
+    final FloatBuffer f = this.floats;
+    f.put(o, (float) m.r0c0());
+    f.put(o + 1, (float) m.r1c0());
+    f.put(o + 2, (float) m.r2c0());
+    f.put(o + 3, (float) m.r3c0());
+    f.put(o + 4, (float) m.r0c1());
+    f.put(o + 5, (float) m.r1c1());
+    f.put(o + 6, (float) m.r2c1());
+    f.put(o + 7, (float) m.r3c1());
+    f.put(o + 8, (float) m.r0c2());
+    f.put(o + 9, (float) m.r1c2());
+    f.put(o + 10, (float) m.r2c2());
+    f.put(o + 11, (float) m.r3c2());
+    f.put(o + 12, (float) m.r0c3());
+    f.put(o + 13, (float) m.r1c3());
+    f.put(o + 14, (float) m.r2c3());
+    f.put(o + 15, (float) m.r3c3());
+  }
+
+  /**
+   * Set all of the values of a uniform of any floating point type, including
+   * all elements of arrays, from the values starting at the current position
+   * of {@code data}. Matrices are expected in column-major order. The
+   * position of {@code data} is not modified.
+   *
+   * @param index The entry index
+   * @param data  The values
+   *
+   * @throws JCGLExceptionProgramTypeError Iff the entry is not of a floating
+   * @throws RangeCheckException           Iff {@code index} is not a valid
+   *                                       entry index
+   *                                       point type, or {@code data} contains
+   *                                       too few values
+   */
+
+  public void setFloats(
+    final int index,
+    final FloatBuffer data)
+    throws JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(data, "Data");
+
+    final JCGLType actual = this.types[this.checkIndex(index)];
+    final int required = this.words[index];
+    final int available = data.remaining();
+    if (!actual.isFloatingPointType() || available < required) {
+      throw errorEntry(
+        "Uniform data error.",
+        index,
+        "A buffer containing at least " + required + " floating point values",
+        "A buffer containing " + available
+          + " values for a uniform of type " + actual);
+    }
+
+    final int o = this.offsets[index];
+    final int start = data.position();
+    final FloatBuffer f = this.floats;
+    for (int i = 0; i < required; ++i) {
+      f.put(o + i, data.get(start + i));
+    }
+  }
+
+  /**
+   * Pass the values of all active entries to the given uploader, in entry
+   * order. This is typically only called by implementations of {@link
+   * com.io7m.jcanephora.core.api.JCGLShaderUniformsType#shaderUniformApply(JCGLUniformSet)}.
+   *
+   * @param uploader The uploader
+   */
+
+  public void upload(
+    final JCGLUniformSetUploaderType uploader)
+  {
+    final FloatBuffer f = this.floats;
+    final IntBuffer i = this.integers;
+
+    for (int index = 0; index < this.types.length; ++index) {
+      final int location = this.locations[index];
+      if (location < 0) {
+        continue;
+      }
+
+      final JCGLType type = this.types[index];
+      final int start = this.offsets[index];
+      final int end = start + this.words[index];
+      if (type.isFloatingPointType()) {
+        f.clear();
+        f.position(start);
+        f.limit(end);
+        uploader.uploadFloats(location, type, this.elements[index], f);
+      } else {
+        i.clear();
+        i.position(start);
+        i.limit(end);
+        uploader.uploadIntegers(location, type, this.elements[index], i);
+      }
+    }
+  }
+}
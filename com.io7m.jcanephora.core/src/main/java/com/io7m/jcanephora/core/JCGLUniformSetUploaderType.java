@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * The type of receivers of the values of a prepared uniform set.
+ *
+ * @see JCGLUniformSet#upload(JCGLUniformSetUploaderType)
+ * @since 0.62.0
+ */
+
+public interface JCGLUniformSetUploaderType
+{
+  /**
+   * Upload the values of a uniform of a floating point type.
+   *
+   * @param location The uniform location
+   * @param type     The uniform type
+   * @param elements The number of array elements
+   * @param data     The values, positioned at the first value and limited to
+   *                 the last value of the uniform
+   */
+
+  void uploadFloats(
+    int location,
+    JCGLType type,
+    int elements,
+    FloatBuffer data);
+
+  /**
+   * Upload the values of a uniform of an integer, boolean, or sampler type.
+   *
+   * @param location The uniform location
+   * @param type     The uniform type
+   * @param elements The number of array elements
+   * @param data     The values, positioned at the first value and limited to
+   *                 the last value of the uniform
+   */
+
+  void uploadIntegers(
+    int location,
+    JCGLType type,
+    int elements,
+    IntBuffer data);
+}
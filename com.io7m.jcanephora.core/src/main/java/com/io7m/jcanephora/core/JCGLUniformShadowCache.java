@@ -0,0 +1,472 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import com.io7m.jnull.NullCheck;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>A CPU-side shadow copy of the values of the uniforms of a program.</p>
+ *
+ * <p>Each {@code update} method compares the given value against the value
+ * most recently recorded for the uniform at the given location, records the
+ * new value, and returns {@code true} iff the value actually needs to be
+ * uploaded. Values are compared bitwise, so {@code -0.0} and {@code 0.0} are
+ * considered distinct, and a {@code NaN} is considered identical to the same
+ * {@code NaN}.</p>
+ *
+ * <p>A location is only considered to hold a value once a value has been
+ * uploaded to it through the cache; values assigned by the driver at link
+ * time are not assumed. Locations that do not belong to any uniform of the
+ * program are never recorded, and uploads to them are never skipped.</p>
+ *
+ * <p>Shadow caches are not thread-safe.</p>
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLUniformShadowCache
+{
+  private final int[] offsets;
+  private final int[] capacities;
+  private final int[] known;
+  private final int[] values;
+  private long hits;
+  private long misses;
+
+  private JCGLUniformShadowCache(
+    final Collection<JCGLProgramUniformType> uniforms)
+  {
+    int locations = 0;
+    int total = 0;
+    for (final JCGLProgramUniformType u : uniforms) {
+      final int location = u.glName();
+      if (location >= 0) {
+        locations = Math.max(locations, location + 1);
+        total = Math.addExact(total, capacityOf(u));
+      }
+    }
+
+    this.offsets = new int[locations];
+    this.capacities = new int[locations];
+    this.known = new int[locations];
+    this.values = new int[total];
+    Arrays.fill(this.offsets, -1);
+
+    int offset = 0;
+    for (final JCGLProgramUniformType u : uniforms) {
+      final int location = u.glName();
+      if (location >= 0) {
+        final int capacity = capacityOf(u);
+        this.offsets[location] = offset;
+        this.capacities[location] = capacity;
+        offset += capacity;
+      }
+    }
+  }
+
+  /**
+   * Create a new shadow cache for the given uniforms.
+   *
+   * @param uniforms The uniforms of a program
+   *
+   * @return A new shadow cache
+   *
+   * @see JCGLProgramShaderUsableType#uniforms()
+   */
+
+  public static JCGLUniformShadowCache create(
+    final Collection<JCGLProgramUniformType> uniforms)
+  {
+    NullCheck.notNullAll(uniforms, "Uniforms");
+    return new JCGLUniformShadowCache(uniforms);
+  }
+
+  private static int capacityOf(
+    final JCGLProgramUniformType u)
+  {
+    return Math.multiplyExact(u.type().getElementCount(), u.size());
+  }
+
+  private int slot(
+    final int location,
+    final int count)
+  {
+    if (location >= 0 && location < this.offsets.length) {
+      if (this.capacities[location] >= count) {
+        return this.offsets[location];
+      }
+    }
+    return -1;
+  }
+
+  private boolean hit()
+  {
+    ++this.hits;
+    return false;
+  }
+
+  private boolean miss(
+    final int location,
+    final int count)
+  {
+    ++this.misses;
+    this.known[location] = Math.max(this.known[location], count);
+    return true;
+  }
+
+  private boolean forget(
+    final int location)
+  {
+    ++this.misses;
+    if (location >= 0 && location < this.known.length) {
+      this.known[location] = 0;
+    }
+    return true;
+  }
+
+  /**
+   * Record a single integer value.
+   *
+   * @param location The uniform location
+   * @param x        The value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateInteger(
+    final int location,
+    final int x)
+  {
+    final int base = this.slot(location, 1);
+    if (base < 0) {
+      return this.forget(location);
+    }
+
+    final int[] v = this.values;
+    if (this.known[location] >= 1 && v[base] == x) {
+      return this.hit();
+    }
+
+    v[base] = x;
+    return this.miss(location, 1);
+  }
+
+  /**
+   * Record a two-element integer vector.
+   *
+   * @param location The uniform location
+   * @param x        The x value
+   * @param y        The y value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateInteger2(
+    final int location,
+    final int x,
+    final int y)
+  {
+    final int base = this.slot(location, 2);
+    if (base < 0) {
+      return this.forget(location);
+    }
+
+    final int[] v = this.values;
+    if (this.known[location] >= 2 && v[base] == x && v[base + 1] == y) {
+      return this.hit();
+    }
+
+    v[base] = x;
+    v[base + 1] = y;
+    return this.miss(location, 2);
+  }
+
+  /**
+   * Record a three-element integer vector.
+   *
+   * @param location The uniform location
+   * @param x        The x value
+   * @param y        The y value
+   * @param z        The z value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateInteger3(
+    final int location,
+    final int x,
+    final int y,
+    final int z)
+  {
+    final int base = this.slot(location, 3);
+    if (base < 0) {
+      return this.forget(location);
+    }
+
+    final int[] v = this.values;
+    if (this.known[location] >= 3
+      && v[base] == x
+      && v[base + 1] == y
+      && v[base + 2] == z) {
+      return this.hit();
+    }
+
+    v[base] = x;
+    v[base + 1] = y;
+    v[base + 2] = z;
+    return this.miss(location, 3);
+  }
+
+  /**
+   * Record a four-element integer vector.
+   *
+   * @param location The uniform location
+   * @param x        The x value
+   * @param y        The y value
+   * @param z        The z value
+   * @param w        The w value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateInteger4(
+    final int location,
+    final int x,
+    final int y,
+    final int z,
+    final int w)
+  {
+    final int base = this.slot(location, 4);
+    if (base < 0) {
+      return this.forget(location);
+    }
+
+    final int[] v = this.values;
+    if (this.known[location] >= 4
+      && v[base] == x
+      && v[base + 1] == y
+      && v[base + 2] == z
+      && v[base + 3] == w) {
+      return this.hit();
+    }
+
+    v[base] = x;
+    v[base + 1] = y;
+    v[base + 2] = z;
+    v[base + 3] = w;
+    return this.miss(location, 4);
+  }
+
+  /**
+   * Record a single floating point value.
+   *
+   * @param location The uniform location
+   * @param x        The value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateFloat(
+    final int location,
+    final float x)
+  {
+    return this.updateInteger(location, Float.floatToRawIntBits(x));
+  }
+
+  /**
+   * Record a two-element floating point vector.
+   *
+   * @param location The uniform location
+   * @param x        The x value
+   * @param y        The y value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateFloat2(
+    final int location,
+    final float x,
+    final float y)
+  {
+    return this.updateInteger2(
+      location,
+      Float.floatToRawIntBits(x),
+      Float.floatToRawIntBits(y));
+  }
+
+  /**
+   * Record a three-element floating point vector.
+   *
+   * @param location The uniform location
+   * @param x        The x value
+   * @param y        The y value
+   * @param z        The z value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateFloat3(
+    final int location,
+    final float x,
+    final float y,
+    final float z)
+  {
+    return this.updateInteger3(
+      location,
+      Float.floatToRawIntBits(x),
+      Float.floatToRawIntBits(y),
+      Float.floatToRawIntBits(z));
+  }
+
+  /**
+   * Record a four-element floating point vector.
+   *
+   * @param location The uniform location
+   * @param x        The x value
+   * @param y        The y value
+   * @param z        The z value
+   * @param w        The w value
+   *
+   * @return {@code true} iff the value must be uploaded
+   */
+
+  public boolean updateFloat4(
+    final int location,
+    final float x,
+    final float y,
+    final float z,
+    final float w)
+  {
+    return this.updateInteger4(
+      location,
+      Float.floatToRawIntBits(x),
+      Float.floatToRawIntBits(y),
+      Float.floatToRawIntBits(z),
+      Float.floatToRawIntBits(w));
+  }
+
+  /**
+   * Record {@code count} floating point values, such as the elements of a
+   * matrix or of an array, starting at the current position of {@code data}.
+   * The position of {@code data} is not modified.
+   *
+   * @param location The uniform location
+   * @param data     The values
+   * @param count    The number of values
+   *
+   * @return {@code true} iff the values must be uploaded
+   */
+
+  public boolean updateFloats(
+    final int location,
+    final FloatBuffer data,
+    final int count)
+  {
+    NullCheck.notNull(data, "Data");
+
+    final int base = this.slot(location, count);
+    if (base < 0) {
+      return this.forget(location);
+    }
+
+    final int start = data.position();
+    if (data.limit() - start < count) {
+      return this.forget(location);
+    }
+
+    final int[] v = this.values;
+    boolean same = this.known[location] >= count;
+    for (int index = 0; index < count; ++index) {
+      final int bits = Float.floatToRawIntBits(data.get(start + index));
+      same = same && v[base + index] == bits;
+      v[base + index] = bits;
+    }
+
+    if (same) {
+      return this.hit();
+    }
+    return this.miss(location, count);
+  }
+
+  /**
+   * Record {@code count} integer values, such as the elements of an array,
+   * starting at the current position of {@code data}. The position of {@code
+   * data} is not modified.
+   *
+   * @param location The uniform location
+   * @param data     The values
+   * @param count    The number of values
+   *
+   * @return {@code true} iff the values must be uploaded
+   */
+
+  public boolean updateIntegers(
+    final int location,
+    final IntBuffer data,
+    final int count)
+  {
+    NullCheck.notNull(data, "Data");
+
+    final int base = this.slot(location, count);
+    if (base < 0) {
+      return this.forget(location);
+    }
+
+    final int start = data.position();
+    if (data.limit() - start < count) {
+      return this.forget(location);
+    }
+
+    final int[] v = this.values;
+    boolean same = this.known[location] >= count;
+    for (int index = 0; index < count; ++index) {
+      final int x = data.get(start + index);
+      same = same && v[base + index] == x;
+      v[base + index] = x;
+    }
+
+    if (same) {
+      return this.hit();
+    }
+    return this.miss(location, count);
+  }
+
+  /**
+   * Forget all recorded values. This must be called if the uniforms of the
+   * program are modified without going through the cache.
+   */
+
+  public void invalidate()
+  {
+    Arrays.fill(this.known, 0);
+  }
+
+  /**
+   * @return The cumulative statistics for the cache
+   */
+
+  public JCGLUniformShadowCacheStatistics statistics()
+  {
+    return JCGLUniformShadowCacheStatistics.of(this.hits, this.misses);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core;
+
+import org.immutables.value.Value;
+
+/**
+ * Cumulative statistics for a uniform shadow cache.
+ *
+ * @see JCGLUniformShadowCache
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLUniformShadowCacheStatisticsType
+{
+  /**
+   * @return The number of uploads that were skipped because the uniform
+   * already held the given value
+   */
+
+  @Value.Parameter
+  long hits();
+
+  /**
+   * @return The number of uploads that were performed
+   */
+
+  @Value.Parameter
+  long misses();
+}
@@ -104,6 +104,8 @@ public enum JCGLUnsignedType
       case TYPE_FLOAT:
       case TYPE_INT:
       case TYPE_SHORT:
+      case TYPE_INT_2_10_10_10_REV:
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV:
         throw new IllegalArgumentException(
           "Cannot convert " + s + " to an unsigned type");
       case TYPE_UNSIGNED_BYTE:
@@ -16,16 +16,24 @@
 
 package com.io7m.jcanephora.core.api;
 
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingType;
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingUsableType;
 import com.io7m.jcanephora.core.JCGLArrayBufferType;
 import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The interface to OpenGL array buffers.
@@ -175,4 +183,208 @@ public interface JCGLArrayBuffersType
   void arrayBufferUpdate(
     JCGLBufferUpdateType<JCGLArrayBufferType> u)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound;
+
+  /**
+   * <p>Allocate and bind a streaming array buffer consisting of {@code
+   * segments} segments of {@code segment_size} bytes each, informing the
+   * implementation that the buffer will be used in the manner specified by
+   * {@code usage}. The initial current segment is {@code 0}.</p>
+   *
+   * <p>Calling this method will unbind any currently bound array buffer.</p>
+   *
+   * @param segment_size The size in bytes of each segment
+   * @param segments     The number of segments
+   * @param usage        The usage hint
+   *
+   * @return A reference to the allocated buffer.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs.
+   * @see JCGLArrayBufferStreamingUsableType
+   */
+
+  JCGLArrayBufferStreamingType arrayBufferStreamingAllocate(
+    long segment_size,
+    int segments,
+    JCGLUsageHint usage)
+    throws JCGLException;
+
+  /**
+   * <p>Advance the current segment of the streaming array buffer {@code a}
+   * to the next segment in the ring.</p>
+   *
+   * <p>When the current segment wraps around to segment {@code 0}, the
+   * storage for the entire buffer is orphaned as if by {@link
+   * #arrayBufferReallocate(JCGLArrayBufferUsableType)}. Because each segment
+   * is written at most once between successive orphanings, writes performed
+   * with {@link #arrayBufferStreamingWrite(JCGLArrayBufferStreamingUsableType,
+   * JCGLByteBufferConsumerType)} never touch storage that may still be read by
+   * previously submitted drawing commands, and therefore never need to wait
+   * for the GPU.</p>
+   *
+   * @param a The streaming array buffer
+   *
+   * @throws JCGLException               Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted        If the array buffer has already been
+   *                                     deleted
+   * @throws JCGLExceptionBufferNotBound If the array buffer {@code a} is not
+   *                                     bound
+   */
+
+  void arrayBufferStreamingRotate(
+    JCGLArrayBufferStreamingUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound;
+
+  /**
+   * <p>Write to the current segment of the streaming array buffer {@code a}.
+   * The function {@code w} is passed a buffer of exactly {@link
+   * JCGLArrayBufferStreamingUsableType#segmentSize()} bytes, in native byte
+   * order, that maps directly onto the storage of the current segment. The
+   * buffer is only valid for the duration of the call to {@code w}.</p>
+   *
+   * <p>The write is performed without implicit synchronization: The
+   * implementation will not wait for previously submitted commands that read
+   * from the buffer to complete.</p>
+   *
+   * @param a The streaming array buffer
+   * @param w The function that will write to the current segment
+   *
+   * @throws JCGLException               Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted        If the array buffer has already been
+   *                                     deleted
+   * @throws JCGLExceptionBufferNotBound If the array buffer {@code a} is not
+   *                                     bound
+   */
+
+  void arrayBufferStreamingWrite(
+    JCGLArrayBufferStreamingUsableType a,
+    JCGLByteBufferConsumerType w)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound;
+
+  /**
+   * <p>Map the range of bytes {@code range} of the array buffer {@code a} into
+   * client memory for writing. The returned buffer is exactly
+   * {@code range.getInterval()} bytes in length, is in native byte order, and
+   * refers directly to the storage of the array buffer: Values written to it
+   * become the contents of the array buffer without any intermediate
+   * copies.</p>
+   *
+   * <p>The returned buffer is only valid until the array buffer is unmapped
+   * with {@link #arrayBufferUnmap(JCGLArrayBufferUsableType)}. Accessing the
+   * buffer after it has been unmapped results in undefined behaviour. While the
+   * array buffer is mapped, it may not be read, updated, or mapped again.</p>
+   *
+   * <p>If {@code flags} contains
+   * {@link JCGLBufferMapFlag#BUFFER_MAP_FLUSH_EXPLICIT}, modifications to the
+   * mapped range must be made visible with
+   * {@link #arrayBufferFlushMappedRange(JCGLArrayBufferUsableType,
+   * UnsignedRangeInclusiveL)};
+   * otherwise, the entire range is flushed when the array buffer is
+   * unmapped.</p>
+   *
+   * @param a     The array buffer
+   * @param range The range of bytes to map
+   * @param flags The mapping flags
+   *
+   * @return A buffer that refers to the mapped range
+   *
+   * @throws JCGLException               Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted        If the array buffer has already been
+   *                                     deleted
+   * @throws JCGLExceptionBufferNotBound If the array buffer {@code a} is not
+   *                                     bound
+   * @throws JCGLExceptionBufferMapped   If the array buffer is already mapped
+   * @throws RangeCheckException         Iff {@code range} is not included in
+   *                                     the array buffer's range
+   */
+
+  ByteBuffer arrayBufferMapRange(
+    JCGLArrayBufferUsableType a,
+    UnsignedRangeInclusiveL range,
+    Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException;
+
+  /**
+   * <p>Make modifications to the range of bytes {@code range} of the mapped
+   * array buffer {@code a} visible to the implementation. The range is given
+   * relative to the start of the mapped range. The call has no effect if the
+   * array buffer was not mapped with
+   * {@link JCGLBufferMapFlag#BUFFER_MAP_FLUSH_EXPLICIT}.</p>
+   *
+   * @param a     The array buffer
+   * @param range The range of bytes to flush, relative to the start of the
+   *              mapped range
+   *
+   * @throws JCGLException                 Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted          If the array buffer has already been
+   *                                       deleted
+   * @throws JCGLExceptionBufferNotBound   If the array buffer {@code a} is
+   *                                       not bound
+   * @throws JCGLExceptionBufferNotMapped  If the array buffer is not mapped
+   * @throws RangeCheckException           Iff {@code range} is not included
+   *                                       in the mapped range
+   */
+
+  void arrayBufferFlushMappedRange(
+    JCGLArrayBufferUsableType a,
+    UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException;
+
+  /**
+   * <p>Unmap the array buffer {@code a}, invalidating any buffer previously
+   * returned by
+   * {@link #arrayBufferMapRange(JCGLArrayBufferUsableType,
+   * UnsignedRangeInclusiveL, Set)}.</p>
+   *
+   * @param a The array buffer
+   *
+   * @return {@code false} iff the contents of the array buffer became corrupt
+   * whilst it was mapped (due to, for example, a screen mode change) and must
+   * be respecified
+   *
+   * @throws JCGLException                Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted         If the array buffer has already been
+   *                                      deleted
+   * @throws JCGLExceptionBufferNotBound  If the array buffer {@code a} is not
+   *                                      bound
+   * @throws JCGLExceptionBufferNotMapped If the array buffer is not mapped
+   */
+
+  boolean arrayBufferUnmap(
+    JCGLArrayBufferUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped;
+
+  /**
+   * <p>Copy the bytes {@code source_range} of the array buffer
+   * {@code source} to the bytes starting at {@code target_offset} of the
+   * array buffer {@code target}. The copy is performed entirely by the
+   * implementation and does not require either array buffer to be bound.
+   * {@code source} and {@code target} may be the same array buffer, in which
+   * case the source and target ranges must not overlap.</p>
+   *
+   * @param source        The source array buffer
+   * @param source_range  The range of bytes to copy from {@code source}
+   * @param target        The target array buffer
+   * @param target_offset The offset in bytes of the copied data in {@code
+   *                      target}
+   *
+   * @throws JCGLException             Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted      If either array buffer has already been
+   *                                   deleted
+   * @throws JCGLExceptionBufferMapped If either array buffer is mapped
+   * @throws RangeCheckException       Iff either range is not included in its
+   *                                   array buffer, or the ranges overlap
+   * @see com.io7m.jcanephora.core.JCGLBufferCopies
+   */
+
+  void arrayBufferCopy(
+    JCGLArrayBufferUsableType source,
+    UnsignedRangeInclusiveL source_range,
+    JCGLArrayBufferUsableType target,
+    long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException;
 }
+
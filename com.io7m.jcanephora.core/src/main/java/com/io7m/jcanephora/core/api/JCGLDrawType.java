@@ -17,8 +17,13 @@
 package com.io7m.jcanephora.core.api;
 
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLPrimitives;
+import com.io7m.jranges.RangeCheckException;
+
+import java.nio.IntBuffer;
 
 /**
  * Drawing commands.
@@ -110,4 +115,251 @@ public interface JCGLDrawType
     JCGLPrimitives p,
     int instances)
     throws JCGLException, JCGLExceptionBufferNotBound;
+
+  /**
+   * Draw primitives of type {@code p}, taking the data from each currently
+   * active vertex attribute using the {@code count} elements starting at
+   * element {@code first} of the currently bound index buffer. This allows
+   * many meshes to share a single index buffer.
+   *
+   * @param p     The type of primitives
+   * @param first The first index
+   * @param count The number of indices
+   *
+   * @throws JCGLException               On OpenGL errors
+   * @throws JCGLExceptionBufferNotBound If no index buffer is currently bound
+   * @throws RangeCheckException         If the given range of indices is not
+   *                                     included in the index buffer
+   * @see JCGLArrayObjectsType
+   */
+
+  void drawElementsRange(
+    JCGLPrimitives p,
+    long first,
+    int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException;
+
+  /**
+   * Equivalent to {@link #drawElementsRange(JCGLPrimitives, long, int)},
+   * except that {@code base_vertex} is added to each index taken from the
+   * index buffer before the index is used to fetch vertex attributes. This
+   * allows many meshes to share a single array buffer without having to
+   * rebase the indices of each mesh.
+   *
+   * @param p           The type of primitives
+   * @param first       The first index
+   * @param count       The number of indices
+   * @param base_vertex The value added to each index
+   *
+   * @throws JCGLException               On OpenGL errors
+   * @throws JCGLExceptionBufferNotBound If no index buffer is currently bound
+   * @throws RangeCheckException         If the given range of indices is not
+   *                                     included in the index buffer
+   * @see JCGLArrayObjectsType
+   */
+
+  void drawElementsBaseVertex(
+    JCGLPrimitives p,
+    long first,
+    int count,
+    int base_vertex)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException;
+
+  /**
+   * Equivalent to {@link #drawElementsRange(JCGLPrimitives, long, int)},
+   * except that the caller promises that every index taken from the index
+   * buffer is in the range {@code [start, end]}. Implementations may use this
+   * information to avoid scanning the index data.
+   *
+   * @param p     The type of primitives
+   * @param start The smallest index value used
+   * @param end   The largest index value used
+   * @param first The first index
+   * @param count The number of indices
+   *
+   * @throws JCGLException               On OpenGL errors
+   * @throws JCGLExceptionBufferNotBound If no index buffer is currently bound
+   * @throws RangeCheckException         If the given range of indices is not
+   *                                     included in the index buffer, or if
+   *                                     {@code start > end}
+   * @see JCGLArrayObjectsType
+   */
+
+  void drawRangeElements(
+    JCGLPrimitives p,
+    int start,
+    int end,
+    long first,
+    int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException;
+
+  /**
+   * <p>Perform one {@link #draw(JCGLPrimitives, int, int)} call for each of
+   * the remaining elements of {@code first} and {@code count}, using a
+   * single OpenGL call.</p>
+   *
+   * <p>The buffers are read from their current positions and are not
+   * modified. Implementations are not required to copy the buffers, so
+   * callers should use direct buffers to avoid copying.</p>
+   *
+   * @param p     The type of primitives
+   * @param first The first element of each draw
+   * @param count The number of elements of each draw
+   *
+   * @throws JCGLException       On OpenGL errors
+   * @throws RangeCheckException If {@code first} and {@code count} have
+   *                             different numbers of remaining elements, or
+   *                             if any of the values are negative
+   * @see JCGLArrayObjectsType
+   */
+
+  void multiDrawArrays(
+    JCGLPrimitives p,
+    IntBuffer first,
+    IntBuffer count)
+    throws JCGLException, RangeCheckException;
+
+  /**
+   * <p>Perform one {@link #drawElementsRange(JCGLPrimitives, long, int)}
+   * call for each of the remaining elements of {@code first} and {@code
+   * count}, using a single OpenGL call.</p>
+   *
+   * <p>The buffers are read from their current positions and are not
+   * modified. Implementations are not required to copy the buffers, so
+   * callers should use direct buffers to avoid copying.</p>
+   *
+   * @param p     The type of primitives
+   * @param first The first index of each draw
+   * @param count The number of indices of each draw
+   *
+   * @throws JCGLException               On OpenGL errors
+   * @throws JCGLExceptionBufferNotBound If no index buffer is currently bound
+   * @throws RangeCheckException         If {@code first} and {@code count}
+   *                                     have different numbers of remaining
+   *                                     elements, or if any of the draws
+   *                                     would read indices outside of the
+   *                                     index buffer
+   * @see JCGLArrayObjectsType
+   */
+
+  void multiDrawElements(
+    JCGLPrimitives p,
+    IntBuffer first,
+    IntBuffer count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException;
+
+  /**
+   * <p>Draw primitives of type {@code p} using the array draw command at
+   * byte offset {@code offset} of the currently bound indirect buffer.</p>
+   *
+   * @param p      The type of primitives
+   * @param offset The byte offset of the command
+   *
+   * @throws JCGLException                   On OpenGL errors
+   * @throws JCGLExceptionUnsupportedFeature If indirect drawing is not
+   *                                         supported
+   * @throws JCGLExceptionBufferNotBound     If no indirect buffer is bound
+   * @throws JCGLExceptionBufferMapped       If the indirect buffer is mapped
+   * @throws RangeCheckException             If the command is not included
+   *                                         in the indirect buffer
+   * @see JCGLIndirectBuffersType
+   * @see com.io7m.jcanephora.core.JCGLIndirectCommands
+   */
+
+  void drawArraysIndirect(
+    JCGLPrimitives p,
+    long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException;
+
+  /**
+   * <p>Draw primitives of type {@code p} using the element draw command at
+   * byte offset {@code offset} of the currently bound indirect buffer,
+   * taking indices from the currently bound index buffer.</p>
+   *
+   * @param p      The type of primitives
+   * @param offset The byte offset of the command
+   *
+   * @throws JCGLException                   On OpenGL errors
+   * @throws JCGLExceptionUnsupportedFeature If indirect drawing is not
+   *                                         supported
+   * @throws JCGLExceptionBufferNotBound     If no indirect buffer or no index
+   *                                         buffer is bound
+   * @throws JCGLExceptionBufferMapped       If the indirect buffer is mapped
+   * @throws RangeCheckException             If the command is not included
+   *                                         in the indirect buffer
+   * @see JCGLIndirectBuffersType
+   * @see com.io7m.jcanephora.core.JCGLIndirectCommands
+   */
+
+  void drawElementsIndirect(
+    JCGLPrimitives p,
+    long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException;
+
+  /**
+   * <p>Perform one {@link #drawArraysIndirect(JCGLPrimitives, long)} call
+   * for each of the {@code draws} array draw commands starting at byte
+   * offset {@code offset} of the currently bound indirect buffer. Commands
+   * are {@code stride} bytes apart, or tightly packed if {@code stride} is
+   * {@code 0}.</p>
+   *
+   * @param p      The type of primitives
+   * @param offset The byte offset of the first command
+   * @param draws  The number of commands
+   * @param stride The distance in bytes between commands
+   *
+   * @throws JCGLException                   On OpenGL errors
+   * @throws JCGLExceptionUnsupportedFeature If multi-draw indirect drawing is
+   *                                         not supported
+   * @throws JCGLExceptionBufferNotBound     If no indirect buffer is bound
+   * @throws JCGLExceptionBufferMapped       If the indirect buffer is mapped
+   * @throws RangeCheckException             If the commands are not included
+   *                                         in the indirect buffer
+   * @see JCGLIndirectBuffersType#indirectMultiDrawIsSupported()
+   */
+
+  void multiDrawArraysIndirect(
+    JCGLPrimitives p,
+    long offset,
+    int draws,
+    int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException;
+
+  /**
+   * <p>Perform one {@link #drawElementsIndirect(JCGLPrimitives, long)} call
+   * for each of the {@code draws} element draw commands starting at byte
+   * offset {@code offset} of the currently bound indirect buffer. Commands
+   * are {@code stride} bytes apart, or tightly packed if {@code stride} is
+   * {@code 0}.</p>
+   *
+   * @param p      The type of primitives
+   * @param offset The byte offset of the first command
+   * @param draws  The number of commands
+   * @param stride The distance in bytes between commands
+   *
+   * @throws JCGLException                   On OpenGL errors
+   * @throws JCGLExceptionUnsupportedFeature If multi-draw indirect drawing is
+   *                                         not supported
+   * @throws JCGLExceptionBufferNotBound     If no indirect buffer or no index
+   *                                         buffer is bound
+   * @throws JCGLExceptionBufferMapped       If the indirect buffer is mapped
+   * @throws RangeCheckException             If the commands are not included
+   *                                         in the indirect buffer
+   * @see JCGLIndirectBuffersType#indirectMultiDrawIsSupported()
+   */
+
+  void multiDrawElementsIndirect(
+    JCGLPrimitives p,
+    long offset,
+    int draws,
+    int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException;
 }
@@ -16,17 +16,23 @@
 
 package com.io7m.jcanephora.core.api;
 
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLIndexBufferType;
 import com.io7m.jcanephora.core.JCGLIndexBufferUsableType;
 import com.io7m.jcanephora.core.JCGLUnsignedType;
 import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The interface to OpenGL index buffers.
@@ -163,4 +169,132 @@ public interface JCGLIndexBuffersType
    */
 
   boolean indexBufferIsBound();
+
+  /**
+   * <p>Map the range of bytes {@code range} of the index buffer {@code i} into
+   * client memory for writing. The returned buffer is exactly
+   * {@code range.getInterval()} bytes in length, is in native byte order, and
+   * refers directly to the storage of the index buffer: Values written to it
+   * become the contents of the index buffer without any intermediate
+   * copies.</p>
+   *
+   * <p>The returned buffer is only valid until the index buffer is unmapped
+   * with {@link #indexBufferUnmap(JCGLIndexBufferUsableType)}. Accessing the
+   * buffer after it has been unmapped results in undefined behaviour. While the
+   * index buffer is mapped, it may not be read, updated, or mapped again.</p>
+   *
+   * <p>If {@code flags} contains
+   * {@link JCGLBufferMapFlag#BUFFER_MAP_FLUSH_EXPLICIT}, modifications to the
+   * mapped range must be made visible with
+   * {@link #indexBufferFlushMappedRange(JCGLIndexBufferUsableType,
+   * UnsignedRangeInclusiveL)};
+   * otherwise, the entire range is flushed when the index buffer is
+   * unmapped.</p>
+   *
+   * @param i     The index buffer
+   * @param range The range of bytes to map
+   * @param flags The mapping flags
+   *
+   * @return A buffer that refers to the mapped range
+   *
+   * @throws JCGLException               Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted        If the index buffer has already been
+   *                                     deleted
+   * @throws JCGLExceptionBufferNotBound If the index buffer {@code i} is not
+   *                                     bound
+   * @throws JCGLExceptionBufferMapped   If the index buffer is already mapped
+   * @throws RangeCheckException         Iff {@code range} is not included in
+   *                                     the index buffer's range
+   */
+
+  ByteBuffer indexBufferMapRange(
+    JCGLIndexBufferUsableType i,
+    UnsignedRangeInclusiveL range,
+    Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException;
+
+  /**
+   * <p>Make modifications to the range of bytes {@code range} of the mapped
+   * index buffer {@code i} visible to the implementation. The range is given
+   * relative to the start of the mapped range. The call has no effect if the
+   * index buffer was not mapped with
+   * {@link JCGLBufferMapFlag#BUFFER_MAP_FLUSH_EXPLICIT}.</p>
+   *
+   * @param i     The index buffer
+   * @param range The range of bytes to flush, relative to the start of the
+   *              mapped range
+   *
+   * @throws JCGLException                 Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted          If the index buffer has already been
+   *                                       deleted
+   * @throws JCGLExceptionBufferNotBound   If the index buffer {@code i} is
+   *                                       not bound
+   * @throws JCGLExceptionBufferNotMapped  If the index buffer is not mapped
+   * @throws RangeCheckException           Iff {@code range} is not included
+   *                                       in the mapped range
+   */
+
+  void indexBufferFlushMappedRange(
+    JCGLIndexBufferUsableType i,
+    UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException;
+
+  /**
+   * <p>Unmap the index buffer {@code i}, invalidating any buffer previously
+   * returned by
+   * {@link #indexBufferMapRange(JCGLIndexBufferUsableType,
+   * UnsignedRangeInclusiveL, Set)}.</p>
+   *
+   * @param i The index buffer
+   *
+   * @return {@code false} iff the contents of the index buffer became corrupt
+   * whilst it was mapped (due to, for example, a screen mode change) and must
+   * be respecified
+   *
+   * @throws JCGLException                Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted         If the index buffer has already been
+   *                                      deleted
+   * @throws JCGLExceptionBufferNotBound  If the index buffer {@code i} is not
+   *                                      bound
+   * @throws JCGLExceptionBufferNotMapped If the index buffer is not mapped
+   */
+
+  boolean indexBufferUnmap(
+    JCGLIndexBufferUsableType i)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped;
+
+  /**
+   * <p>Copy the bytes {@code source_range} of the index buffer
+   * {@code source} to the bytes starting at {@code target_offset} of the
+   * index buffer {@code target}. The copy is performed entirely by the
+   * implementation and does not require either index buffer to be bound.
+   * {@code source} and {@code target} may be the same index buffer, in which
+   * case the source and target ranges must not overlap.</p>
+   *
+   * @param source        The source index buffer
+   * @param source_range  The range of bytes to copy from {@code source}
+   * @param target        The target index buffer
+   * @param target_offset The offset in bytes of the copied data in {@code
+   *                      target}
+   *
+   * @throws JCGLException             Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted      If either index buffer has already been
+   *                                   deleted
+   * @throws JCGLExceptionBufferMapped If either index buffer is mapped
+   * @throws RangeCheckException       Iff either range is not included in its
+   *                                   index buffer, or the ranges overlap
+   * @see com.io7m.jcanephora.core.JCGLBufferCopies
+   */
+
+  void indexBufferCopy(
+    JCGLIndexBufferUsableType source,
+    UnsignedRangeInclusiveL source_range,
+    JCGLIndexBufferUsableType target,
+    long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException;
 }
+
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core.api;
+
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndirectBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>The interface to OpenGL indirect draw buffers.</p>
+ *
+ * <p>An indirect draw buffer holds draw commands that are consumed by the
+ * indirect draw functions of {@link JCGLDrawType}. Large numbers of draw
+ * commands can be written into a mapped indirect buffer and then submitted
+ * with a small number of calls.</p>
+ *
+ * <p>Indirect drawing is not part of OpenGL 3.3, and requires either
+ * OpenGL 4.0 or the {@code ARB_draw_indirect} extension. Multi-draw indirect
+ * drawing additionally requires either OpenGL 4.3 or the
+ * {@code ARB_multi_draw_indirect} extension.</p>
+ *
+ * @see com.io7m.jcanephora.core.JCGLIndirectCommands
+ */
+
+public interface JCGLIndirectBuffersType
+{
+  /**
+   * @return {@code true} iff the context supports indirect drawing
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean indirectDrawIsSupported()
+    throws JCGLException;
+
+  /**
+   * @return {@code true} iff the context supports multi-draw indirect drawing
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean indirectMultiDrawIsSupported()
+    throws JCGLException;
+
+  /**
+   * Allocate and bind an indirect buffer of {@code size} bytes, informing the
+   * implementation that the buffer will be used in the manner specified by
+   * {@code usage}.
+   *
+   * @param size  The size in bytes of the indirect buffer
+   * @param usage The usage hint
+   *
+   * @return An indirect buffer
+   *
+   * @throws JCGLException                   Iff an OpenGL error occurs
+   * @throws JCGLExceptionUnsupportedFeature Iff indirect drawing is not
+   *                                         supported
+   */
+
+  JCGLIndirectBufferType indirectBufferAllocate(
+    long size,
+    JCGLUsageHint usage)
+    throws JCGLException, JCGLExceptionUnsupportedFeature;
+
+  /**
+   * @return The currently bound indirect buffer, if one exists
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  Optional<JCGLIndirectBufferUsableType> indirectBufferGetCurrentlyBound()
+    throws JCGLException;
+
+  /**
+   * @return {@code true} iff any indirect buffer is currently bound
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean indirectBufferAnyIsBound()
+    throws JCGLException;
+
+  /**
+   * @param b An indirect buffer
+   *
+   * @return {@code true} iff {@code b} is currently bound
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff {@code b} has already been deleted
+   */
+
+  boolean indirectBufferIsBound(
+    JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * Bind the given indirect buffer.
+   *
+   * @param b The indirect buffer
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff {@code b} has already been deleted
+   */
+
+  void indirectBufferBind(
+    JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * Unbind the current indirect buffer. If no buffer is bound, this call has
+   * no effect.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  void indirectBufferUnbind()
+    throws JCGLException;
+
+  /**
+   * <p>Deletes the buffer referenced by {@code b}.</p>
+   *
+   * <p>Calling this method will unbind {@code b} iff it is bound.</p>
+   *
+   * @param b The indirect buffer
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff {@code b} has already been deleted
+   */
+
+  void indirectBufferDelete(
+    JCGLIndirectBufferType b)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * <p>Perform the indirect buffer update {@code u}.</p>
+   *
+   * @param u The update
+   *
+   * @throws JCGLException               Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted        If the indirect buffer has already
+   *                                     been deleted
+   * @throws JCGLExceptionBufferNotBound If the indirect buffer in {@code u}
+   *                                     is not bound
+   */
+
+  void indirectBufferUpdate(
+    JCGLBufferUpdateType<JCGLIndirectBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound;
+
+  /**
+   * <p>Map the range of bytes {@code range} of the indirect buffer {@code b}
+   * into client memory for writing. The returned buffer is exactly
+   * {@code range.getInterval()} bytes in length, is in native byte order, and
+   * refers directly to the storage of the indirect buffer.</p>
+   *
+   * <p>The returned buffer is only valid until the indirect buffer is
+   * unmapped with {@link #indirectBufferUnmap(JCGLIndirectBufferUsableType)}.
+   * While the indirect buffer is mapped, it may not be updated, mapped again,
+   * or used as the source of draw commands.</p>
+   *
+   * @param b     The indirect buffer
+   * @param range The range of bytes to map
+   * @param flags The mapping flags
+   *
+   * @return A buffer that refers to the mapped range
+   *
+   * @throws JCGLException               Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted        If the indirect buffer has already
+   *                                     been deleted
+   * @throws JCGLExceptionBufferNotBound If the indirect buffer {@code b} is
+   *                                     not bound
+   * @throws JCGLExceptionBufferMapped   If the indirect buffer is already
+   *                                     mapped
+   * @throws RangeCheckException         Iff {@code range} is not included in
+   *                                     the indirect buffer's range
+   * @see com.io7m.jcanephora.core.JCGLIndirectCommands
+   */
+
+  ByteBuffer indirectBufferMapRange(
+    JCGLIndirectBufferUsableType b,
+    UnsignedRangeInclusiveL range,
+    Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException;
+
+  /**
+   * <p>Make modifications to the range of bytes {@code range} of the mapped
+   * indirect buffer {@code b} visible to the implementation. The range is
+   * given relative to the start of the mapped range. The call has no effect
+   * if the indirect buffer was not mapped with
+   * {@link JCGLBufferMapFlag#BUFFER_MAP_FLUSH_EXPLICIT}.</p>
+   *
+   * @param b     The indirect buffer
+   * @param range The range of bytes to flush, relative to the start of the
+   *              mapped range
+   *
+   * @throws JCGLException                Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted         If the indirect buffer has already
+   *                                      been deleted
+   * @throws JCGLExceptionBufferNotBound  If the indirect buffer {@code b} is
+   *                                      not bound
+   * @throws JCGLExceptionBufferNotMapped If the indirect buffer is not mapped
+   * @throws RangeCheckException          Iff {@code range} is not included
+   *                                      in the mapped range
+   */
+
+  void indirectBufferFlushMappedRange(
+    JCGLIndirectBufferUsableType b,
+    UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException;
+
+  /**
+   * <p>Unmap the indirect buffer {@code b}, invalidating any buffer
+   * previously returned by
+   * {@link #indirectBufferMapRange(JCGLIndirectBufferUsableType,
+   * UnsignedRangeInclusiveL, Set)}.</p>
+   *
+   * @param b The indirect buffer
+   *
+   * @return {@code false} iff the contents of the indirect buffer became
+   * corrupt whilst it was mapped and must be respecified
+   *
+   * @throws JCGLException                Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted         If the indirect buffer has already
+   *                                      been deleted
+   * @throws JCGLExceptionBufferNotBound  If the indirect buffer {@code b} is
+   *                                      not bound
+   * @throws JCGLExceptionBufferNotMapped If the indirect buffer is not mapped
+   */
+
+  boolean indirectBufferUnmap(
+    JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped;
+}
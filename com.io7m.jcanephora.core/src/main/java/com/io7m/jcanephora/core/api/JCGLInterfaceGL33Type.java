@@ -123,4 +123,40 @@ public interface JCGLInterfaceGL33Type
    */
 
   JCGLTimersType timers();
+
+  /**
+   * @return The readbacks interface
+   */
+
+  JCGLReadbacksType readbacks();
+
+  /**
+   * @return The sync objects interface
+   */
+
+  JCGLSyncsType syncs();
+
+  /**
+   * @return The uniform buffers interface
+   */
+
+  JCGLUniformBuffersType uniformBuffers();
+
+  /**
+   * @return The indirect draw buffers interface
+   */
+
+  JCGLIndirectBuffersType indirectBuffers();
+
+  /**
+   * @return The primitive restart interface
+   */
+
+  JCGLPrimitiveRestartType primitiveRestart();
+
+  /**
+   * @return The transform feedback interface
+   */
+
+  JCGLTransformFeedbackType transformFeedback();
 }
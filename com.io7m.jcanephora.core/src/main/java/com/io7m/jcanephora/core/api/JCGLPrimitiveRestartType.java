@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core.api;
+
+import com.io7m.jcanephora.core.JCGLException;
+
+/**
+ * <p>OpenGL primitive restart.</p>
+ *
+ * <p>When primitive restart is enabled, any index in the current index buffer
+ * that is equal to the restart index ends the current primitive and begins a
+ * new one. This allows many line or triangle strips to be drawn with a single
+ * call to {@link JCGLDrawType#drawElements(com.io7m.jcanephora.core
+ * .JCGLPrimitives)}, without converting the strips to lists.</p>
+ */
+
+public interface JCGLPrimitiveRestartType
+{
+  /**
+   * Disable primitive restart.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  void primitiveRestartDisable()
+    throws JCGLException;
+
+  /**
+   * Enable primitive restart with the restart index {@code index}. The index
+   * is interpreted as an unsigned 32-bit integer, and is typically the
+   * largest value representable by the type of the index buffer (such as
+   * {@code 0xffff} for 16-bit indices). The OpenGL default restart index is
+   * {@code 0}.
+   *
+   * @param index The restart index
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  void primitiveRestartEnable(
+    int index)
+    throws JCGLException;
+
+  /**
+   * @return {@code true} iff primitive restart is enabled
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean primitiveRestartIsEnabled()
+    throws JCGLException;
+
+  /**
+   * @return The current restart index
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  int primitiveRestartGetIndex()
+    throws JCGLException;
+}
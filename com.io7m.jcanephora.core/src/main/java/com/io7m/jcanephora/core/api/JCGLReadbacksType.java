@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core.api;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceRH;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>Interface to asynchronous readback of buffer and texture data.</p>
+ *
+ * <p>The synchronous functions such as
+ * {@link JCGLTexturesType#texture2DGetImage(JCGLTextureUnitType,
+ * JCGLTexture2DUsableType)} and
+ * {@link JCGLArrayBuffersType#arrayBufferRead(JCGLArrayBufferUsableType,
+ * JCGLByteBufferProducerType)} force the CPU to wait until the GPU has
+ * finished executing all previously submitted commands. The functions in this
+ * interface instead enqueue a copy of the data into an internal pixel pack
+ * buffer, followed by a fence. The data is only transferred to memory
+ * accessible by the CPU when {@link #readbackPoll()} observes that the fence
+ * has been signalled, typically a few frames after the readback was
+ * requested.</p>
+ *
+ * <p>The returned futures are only ever completed by {@link #readbackPoll()},
+ * and therefore on the thread that owns the OpenGL context. Callers should
+ * call {@link #readbackPoll()} once per frame, ideally after all rendering
+ * commands for the frame have been submitted.</p>
+ *
+ * <p>The buffers that receive the data are obtained from a caller-supplied
+ * {@link JCGLByteBufferProducerType}. A pooled allocator such as
+ * {@link com.io7m.jcanephora.core.JCGLStagingAllocatorType} can be used to
+ * avoid allocating a new buffer for every readback.</p>
+ *
+ * <p>Pixel pack buffers are reused between readbacks. When a readback
+ * completes, its pack buffer is returned to a pool of idle buffers that holds
+ * at most {@code 8} buffers; the smallest buffer is deleted when the pool is
+ * full. When no idle buffer is large enough for a request, the idle buffers
+ * that are too small are deleted before a new buffer is allocated. The idle
+ * buffers can be deleted at any time with {@link #readbackPoolDelete()}.</p>
+ */
+
+public interface JCGLReadbacksType
+{
+  /**
+   * <p>Enqueue an asynchronous read of the range {@code range} of the array
+   * buffer {@code a}.</p>
+   *
+   * <p>The future is completed with a buffer of exactly
+   * {@code range.getInterval()} bytes, allocated by {@code f} at the moment
+   * the data becomes available. If {@code f} raises an exception, the future
+   * is completed exceptionally.</p>
+   *
+   * @param a     The array buffer
+   * @param range The range of bytes to read
+   * @param f     A function used to allocate the result buffer
+   *
+   * @return A future that will receive the contents of the buffer
+   *
+   * @throws JCGLException             Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted      If the array buffer has already been
+   *                                   deleted
+   * @throws JCGLExceptionBufferMapped If the array buffer is currently mapped
+   * @throws RangeCheckException       If {@code range} is not included in the
+   *                                   range of the buffer
+   */
+
+  CompletableFuture<ByteBuffer> readbackArrayBuffer(
+    JCGLArrayBufferUsableType a,
+    UnsignedRangeInclusiveL range,
+    JCGLByteBufferProducerType f)
+    throws JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionBufferMapped,
+    RangeCheckException;
+
+  /**
+   * <p>Enqueue an asynchronous read of the base level of the texture
+   * {@code t}. The texture will be bound to {@code unit} as a side effect of
+   * this function.</p>
+   *
+   * <p>The future is completed with a buffer large enough to hold the
+   * entire base level of the texture, allocated by {@code f} at the moment
+   * the data becomes available. If {@code f} raises an exception, the future
+   * is completed exceptionally.</p>
+   *
+   * @param unit The texture unit
+   * @param t    The texture
+   * @param f    A function used to allocate the result buffer
+   *
+   * @return A future that will receive the texture data
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the texture has already been deleted
+   */
+
+  CompletableFuture<ByteBuffer> readbackTexture2D(
+    JCGLTextureUnitType unit,
+    JCGLTexture2DUsableType t,
+    JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * <p>Enqueue an asynchronous read of the base level of the face
+   * {@code face} of the texture {@code t}. The texture will be bound to
+   * {@code unit} as a side effect of this function.</p>
+   *
+   * @param unit The texture unit
+   * @param face The cube map face
+   * @param t    The texture
+   * @param f    A function used to allocate the result buffer
+   *
+   * @return A future that will receive the texture data
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the texture has already been deleted
+   * @see #readbackTexture2D(JCGLTextureUnitType, JCGLTexture2DUsableType,
+   * JCGLByteBufferProducerType)
+   */
+
+  CompletableFuture<ByteBuffer> readbackTextureCubeLH(
+    JCGLTextureUnitType unit,
+    JCGLCubeMapFaceLH face,
+    JCGLTextureCubeUsableType t,
+    JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * <p>Enqueue an asynchronous read of the base level of the face
+   * {@code face} of the texture {@code t}, assuming a right-handed
+   * coordinate system.</p>
+   *
+   * @param unit The texture unit
+   * @param face The cube map face
+   * @param t    The texture
+   * @param f    A function used to allocate the result buffer
+   *
+   * @return A future that will receive the texture data
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the texture has already been deleted
+   */
+
+  default CompletableFuture<ByteBuffer> readbackTextureCubeRH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceRH face,
+    final JCGLTextureCubeUsableType t,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    return this.readbackTextureCubeLH(
+      unit, JCGLCubeMapFaceLH.fromRH(face), t, f);
+  }
+
+  /**
+   * <p>Check the fences of all pending readbacks without blocking, and
+   * complete the futures of those readbacks that have finished executing on
+   * the GPU.</p>
+   *
+   * <p>Readbacks are completed in the order in which they were requested.</p>
+   *
+   * @return The number of readbacks completed by this call
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  int readbackPoll()
+    throws JCGLException;
+
+  /**
+   * @return The number of readbacks that have been requested but not yet
+   * completed
+   */
+
+  int readbackPending();
+
+  /**
+   * @return The number of idle pack buffers currently held in the pool; the
+   * buffers of pending readbacks are not included
+   */
+
+  int readbackPoolSize();
+
+  /**
+   * Delete all idle pack buffers held in the pool. The buffers of pending
+   * readbacks are not affected, and are returned to the pool when their
+   * readbacks complete. This function should be called before the context
+   * is destroyed.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  void readbackPoolDelete()
+    throws JCGLException;
+}
@@ -17,10 +17,15 @@
 package com.io7m.jcanephora.core.api;
 
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
 import com.io7m.jcanephora.core.JCGLExceptionProgramTypeError;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLUniformSet;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
+import com.io7m.jcanephora.core.JCGLUniformShadowCacheStatistics;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
 import com.io7m.jtensors.core.parameterized.vectors.PVector2D;
@@ -39,6 +44,7 @@ import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vector4I;
 
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * The interface to setting uniforms in shaders.
@@ -66,6 +72,67 @@ public interface JCGLShaderUniformsType
   void shaderUniformSetActivityCheckingEnabled(
     boolean enabled);
 
+  /**
+   * <p>Enable or disable shadowing of the uniform values of the given program.
+   * When shadowing is enabled, the most recently uploaded value of each
+   * uniform of the program is recorded, and uploads of values identical to
+   * the recorded values are skipped. Shadowing is disabled by default.
+   * Disabling shadowing discards the recorded values and statistics.</p>
+   *
+   * <p>Uploads are attributed to the currently active program, which is the
+   * program that OpenGL modifies. Values that are assigned to the program
+   * other than through this interface are not observed, so shadowing should
+   * not be enabled for programs that are modified in that way.</p>
+   *
+   * @param p       The program
+   * @param enabled {@code true} iff shadowing should be performed
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff the program has been deleted
+   * @see JCGLUniformShadowCache
+   * @since 0.62.0
+   */
+
+  void shaderUniformSetShadowingEnabled(
+    JCGLProgramShaderUsableType p,
+    boolean enabled)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * @param p The program
+   *
+   * @return {@code true} iff shadowing is enabled for the given program
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff the program has been deleted
+   * @see #shaderUniformSetShadowingEnabled(JCGLProgramShaderUsableType,
+   * boolean)
+   * @since 0.62.0
+   */
+
+  boolean shaderUniformIsShadowingEnabled(
+    JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * Retrieve the statistics for the uniform shadow of the given program. The
+   * statistics are all zero if shadowing is not enabled for the program.
+   *
+   * @param p The program
+   *
+   * @return The cumulative shadowing statistics for the program
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff the program has been deleted
+   * @see #shaderUniformSetShadowingEnabled(JCGLProgramShaderUsableType,
+   * boolean)
+   * @since 0.62.0
+   */
+
+  JCGLUniformShadowCacheStatistics shaderUniformShadowingStatistics(
+    JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted;
+
   /**
    * Upload the value {@code value} to the uniform {@code u}.
    *
@@ -170,6 +237,86 @@ public interface JCGLShaderUniformsType
     JCGLExceptionProgramNotActive,
     JCGLExceptionProgramTypeError;
 
+  /**
+   * <p>Upload the first {@code count} elements of the array uniform {@code
+   * u} from {@code value} in a single call. The uniform may be of any scalar,
+   * vector, or matrix floating point type; matrices are read in column-major
+   * order. Values are read starting at the position of {@code value}, and
+   * the position and limit of {@code value} are not modified.</p>
+   *
+   * <p>The buffer is passed to OpenGL as-is, without any intermediate copy,
+   * and should therefore be a direct buffer in native byte order. This is
+   * the most efficient way to upload large arrays such as skinning matrix
+   * palettes.</p>
+   *
+   * @param u     The uniform
+   * @param count The number of array elements to upload, in the range
+   *              {@code [1, u.size()]}
+   * @param value The values
+   *
+   * @throws JCGLException                 Iff an OpenGL error occurs
+   * @throws JCGLExceptionProgramNotActive Iff the program to which the uniform
+   *                                       belongs is not active, and program
+   *                                       activity checking is enabled
+   * @throws JCGLExceptionProgramTypeError Iff the program uniform is not of a
+   *                                       floating point type and type
+   *                                       checking is enabled, or iff {@code
+   *                                       value} contains fewer than {@code
+   *                                       count} elements
+   * @see #shaderUniformSetTypeCheckingEnabled(boolean)
+   * @see #shaderUniformSetActivityCheckingEnabled(boolean)
+   * @see com.io7m.jcanephora.core.JCGLUniformChecks#checkArray(JCGLProgramUniformType, int, int)
+   * @since 0.62.0
+   */
+
+  void shaderUniformPutArrayf(
+    JCGLProgramUniformType u,
+    int count,
+    FloatBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError;
+
+  /**
+   * <p>Upload the first {@code count} elements of the array uniform {@code
+   * u} from {@code value} in a single call. The uniform may be of any signed
+   * integer, unsigned integer, boolean, or sampler scalar or vector type.
+   * Values are read starting at the position of {@code value}, and the
+   * position and limit of {@code value} are not modified.</p>
+   *
+   * <p>The buffer is passed to OpenGL as-is, without any intermediate copy,
+   * and should therefore be a direct buffer in native byte order.</p>
+   *
+   * @param u     The uniform
+   * @param count The number of array elements to upload, in the range
+   *              {@code [1, u.size()]}
+   * @param value The values
+   *
+   * @throws JCGLException                 Iff an OpenGL error occurs
+   * @throws JCGLExceptionProgramNotActive Iff the program to which the uniform
+   *                                       belongs is not active, and program
+   *                                       activity checking is enabled
+   * @throws JCGLExceptionProgramTypeError Iff the program uniform is of a
+   *                                       floating point type and type
+   *                                       checking is enabled, or iff {@code
+   *                                       value} contains fewer than {@code
+   *                                       count} elements
+   * @see #shaderUniformSetTypeCheckingEnabled(boolean)
+   * @see #shaderUniformSetActivityCheckingEnabled(boolean)
+   * @see com.io7m.jcanephora.core.JCGLUniformChecks#checkArray(JCGLProgramUniformType, int, int)
+   * @since 0.62.0
+   */
+
+  void shaderUniformPutArrayi(
+    JCGLProgramUniformType u,
+    int count,
+    IntBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError;
+
   /**
    * Upload the value {@code value} to the uniform {@code u}.
    *
@@ -782,4 +929,30 @@ public interface JCGLShaderUniformsType
     JCGLException,
     JCGLExceptionProgramNotActive,
     JCGLExceptionProgramTypeError;
+
+  /**
+   * Upload all of the values of the given prepared uniform set to the program
+   * for which the set was prepared. The uniforms of the set were resolved and
+   * type-checked when the set was prepared, so no per-uniform checks are
+   * performed. If program activity checking is enabled, the program of the
+   * set is checked once. Uploads are subject to uniform shadowing if
+   * shadowing is enabled for the program.
+   *
+   * @param set The uniform set
+   *
+   * @throws JCGLException                 Iff an OpenGL error occurs
+   * @throws JCGLExceptionProgramNotActive Iff the program for which the set
+   *                                       was prepared is not active, and
+   *                                       program activity checking is
+   *                                       enabled
+   * @see JCGLUniformSet#prepare(JCGLProgramShaderUsableType, java.util.List)
+   * @see #shaderUniformSetActivityCheckingEnabled(boolean)
+   * @see #shaderUniformSetShadowingEnabled(JCGLProgramShaderUsableType,
+   * boolean)
+   * @since 0.62.0
+   */
+
+  void shaderUniformApply(
+    JCGLUniformSet set)
+    throws JCGLException, JCGLExceptionProgramNotActive;
 }
@@ -16,18 +16,26 @@
 
 package com.io7m.jcanephora.core.api;
 
+import com.io7m.jcanephora.core.JCGLDriverInformation;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLFragmentShaderType;
 import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramBinary;
+import com.io7m.jcanephora.core.JCGLProgramBinaryType;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
 import com.io7m.jcanephora.core.JCGLVertexShaderType;
 import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -166,16 +174,226 @@ public interface JCGLShadersType extends JCGLShaderUniformsType
    * @throws JCGLException                    Iff an OpenGL error occurs
    */
 
+  default JCGLProgramShaderType shaderLinkProgram(
+    final String name,
+    final JCGLVertexShaderUsableType v,
+    final Optional<JCGLGeometryShaderUsableType> g,
+    final JCGLFragmentShaderUsableType f)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLException,
+    JCGLExceptionDeleted
+  {
+    return this.shaderLinkProgram(
+      name,
+      v,
+      g,
+      f,
+      Collections.emptyList(),
+      JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_INTERLEAVED);
+  }
+
+  /**
+   * Link a program consisting of the vertex shader {@code v}, the optional
+   * geometry shader {@code g}, and the fragment shader {@code f}. The output
+   * variables named in {@code varyings} are captured, in order, when the
+   * program is used whilst transform feedback is active.
+   *
+   * @param name     The name of the program
+   * @param v        A vertex shader
+   * @param g        A geometry shader, if required
+   * @param f        A fragment shader
+   * @param varyings The varyings that will be captured by transform feedback
+   * @param mode     The manner in which captured varyings are written to
+   *                 buffers
+   *
+   * @return A linked program
+   *
+   * @throws JCGLExceptionProgramCompileError Iff the program cannot be linked
+   * @throws JCGLExceptionDeleted             Iff any of the shaders have been
+   *                                          deleted
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   * @see JCGLTransformFeedbackType
+   */
+
   JCGLProgramShaderType shaderLinkProgram(
     String name,
     JCGLVertexShaderUsableType v,
     Optional<JCGLGeometryShaderUsableType> g,
-    JCGLFragmentShaderUsableType f)
+    JCGLFragmentShaderUsableType f,
+    List<String> varyings,
+    JCGLTransformFeedbackBufferMode mode)
     throws
     JCGLExceptionProgramCompileError,
     JCGLException,
     JCGLExceptionDeleted;
 
+  /**
+   * @return {@code true} iff the context supports retrieving and loading
+   * program binaries (OpenGL 4.1 or {@code ARB_get_program_binary}, with at
+   * least one binary format)
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  boolean shaderProgramBinaryIsSupported()
+    throws JCGLException;
+
+  /**
+   * @return Information identifying the driver. Program binaries produced by
+   * one driver are not expected to be accepted by any other driver.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  JCGLDriverInformation shaderProgramBinaryDriverInformation()
+    throws JCGLException;
+
+  /**
+   * Retrieve the binary representation of the given linked program.
+   *
+   * @param p The program
+   *
+   * @return The program binary
+   *
+   * @throws JCGLException                   Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted            Iff the program has been deleted
+   * @throws JCGLExceptionUnsupportedFeature Iff program binaries are not
+   *                                         supported, or the driver did not
+   *                                         produce a binary for the program
+   * @see #shaderProgramBinaryIsSupported()
+   * @since 0.62.0
+   */
+
+  JCGLProgramBinary shaderProgramBinaryGet(
+    JCGLProgramShaderUsableType p)
+    throws JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionUnsupportedFeature;
+
+  /**
+   * Create a program from a binary previously returned by {@link
+   * #shaderProgramBinaryGet(JCGLProgramShaderUsableType)}. No shaders are
+   * compiled, and the resulting program does not refer to any shader objects.
+   * The given transform feedback varyings and mode must be those that were
+   * used to link the original program; they are recorded for use by the
+   * transform feedback subsystem but are not otherwise checked.
+   *
+   * @param name     The name of the program
+   * @param binary   The program binary
+   * @param varyings The varyings that will be captured by transform feedback
+   * @param mode     The manner in which captured varyings are written to
+   *                 buffers
+   *
+   * @return A linked program
+   *
+   * @throws JCGLExceptionProgramCompileError Iff the driver rejects the binary
+   * @throws JCGLExceptionUnsupportedFeature  Iff program binaries are not
+   *                                          supported
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   * @see #shaderProgramBinaryIsSupported()
+   * @since 0.62.0
+   */
+
+  JCGLProgramShaderType shaderProgramBinaryLoad(
+    String name,
+    JCGLProgramBinaryType binary,
+    List<String> varyings,
+    JCGLTransformFeedbackBufferMode mode)
+    throws JCGLExceptionProgramCompileError,
+    JCGLExceptionUnsupportedFeature,
+    JCGLException;
+
+  /**
+   * @return {@code true} iff the context can compile and link shaders in
+   * parallel, and can report the completion of compilation without blocking
+   * ({@code KHR_parallel_shader_compile} or
+   * {@code ARB_parallel_shader_compile})
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  boolean shaderParallelCompileIsSupported()
+    throws JCGLException;
+
+  /**
+   * <p>Submit the given sources for compilation and linking. The shaders are
+   * compiled and the program is linked, but no status is queried; on most
+   * implementations, this call returns without waiting for the driver's
+   * compiler. The returned pending program must later be passed to
+   * {@link #shaderProgramPendingFinish(JCGLProgramPendingType)} in order to
+   * obtain the linked program, or any compilation errors.</p>
+   *
+   * <p>Submitting many programs before finishing any of them allows drivers
+   * that support parallel compilation to compile them concurrently.</p>
+   *
+   * @param sources The program sources
+   *
+   * @return A pending program
+   *
+   * @throws JCGLExceptionProgramCompileError Iff any of the shaders are
+   *                                          trivially invalid (such as being
+   *                                          empty)
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   * @see #shaderParallelCompileIsSupported()
+   * @since 0.62.0
+   */
+
+  JCGLProgramPendingType shaderProgramSubmit(
+    JCGLProgramSourcesType sources)
+    throws JCGLExceptionProgramCompileError, JCGLException;
+
+  /**
+   * Determine whether compilation and linking of the given pending program
+   * has completed. If parallel compilation is not supported, this method
+   * always returns {@code true}, and
+   * {@link #shaderProgramPendingFinish(JCGLProgramPendingType)} will block
+   * until the driver has finished.
+   *
+   * @param p The pending program
+   *
+   * @return {@code true} iff finishing the program will not block
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted Iff the pending program has already been
+   *                              finished
+   * @since 0.62.0
+   */
+
+  boolean shaderProgramPendingIsComplete(
+    JCGLProgramPendingType p)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * Finish the given pending program, checking the status of compilation and
+   * linking. The shader objects created by
+   * {@link #shaderProgramSubmit(JCGLProgramSourcesType)} are deleted, and so
+   * the resulting program does not refer to any shader objects. The pending
+   * program is consumed regardless of whether or not the program compiled
+   * successfully.
+   *
+   * @param p The pending program
+   *
+   * @return A linked program
+   *
+   * @throws JCGLExceptionProgramCompileError Iff the program cannot be
+   *                                          compiled or linked
+   * @throws JCGLExceptionDeleted             Iff the pending program has
+   *                                          already been finished
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  JCGLProgramShaderType shaderProgramPendingFinish(
+    JCGLProgramPendingType p)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionDeleted,
+    JCGLException;
+
   /**
    * Activate the given program for use in rendering.
    *
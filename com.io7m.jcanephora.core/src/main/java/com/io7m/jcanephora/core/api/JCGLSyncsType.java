@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core.api;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLSyncUsableType;
+import com.io7m.jcanephora.core.JCGLSyncWaitResult;
+import com.io7m.jranges.RangeCheckException;
+
+/**
+ * <p>Interface to OpenGL sync objects.</p>
+ *
+ * <p>A <i>fence</i> is a sync object that becomes <i>signalled</i> when the
+ * GPU has finished executing all of the commands that were submitted before
+ * the fence was inserted into the command stream. Fences allow the CPU to
+ * determine, for example, when it is safe to overwrite the contents of a
+ * streaming buffer that the GPU may still be reading, or when an
+ * asynchronous upload has actually completed.</p>
+ */
+
+public interface JCGLSyncsType
+{
+  /**
+   * Insert a new fence into the command stream.
+   *
+   * @return A new sync object
+   *
+   * @throws JCGLException On errors
+   */
+
+  JCGLSyncType syncFenceInsert()
+    throws JCGLException;
+
+  /**
+   * <p>Check the status of the sync object {@code s} without blocking.</p>
+   *
+   * <p>This function flushes the command stream if necessary, so that
+   * polling repeatedly is guaranteed to eventually observe the sync object
+   * becoming signalled.</p>
+   *
+   * @param s The sync object
+   *
+   * @return The current status of the sync object
+   *
+   * @throws JCGLException        On errors
+   * @throws JCGLExceptionDeleted If the sync object has been deleted
+   */
+
+  JCGLSyncStatus syncPoll(
+    JCGLSyncUsableType s)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * <p>Block the calling thread until the sync object {@code s} is
+   * signalled, or until {@code timeout} nanoseconds have elapsed.</p>
+   *
+   * @param s       The sync object
+   * @param timeout The maximum time to wait in nanoseconds
+   *
+   * @return The result of waiting
+   *
+   * @throws JCGLException        On errors
+   * @throws JCGLExceptionDeleted If the sync object has been deleted
+   * @throws RangeCheckException  If {@code timeout} is negative
+   */
+
+  JCGLSyncWaitResult syncClientWait(
+    JCGLSyncUsableType s,
+    long timeout)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException;
+
+  /**
+   * <p>Instruct the GPU to wait until the sync object {@code s} is signalled
+   * before executing any further commands. The function returns
+   * immediately, and does not block the calling thread.</p>
+   *
+   * <p>This is typically used to order commands submitted on a shared
+   * context after a fence inserted on another context.</p>
+   *
+   * @param s The sync object
+   *
+   * @throws JCGLException        On errors
+   * @throws JCGLExceptionDeleted If the sync object has been deleted
+   */
+
+  void syncServerWait(
+    JCGLSyncUsableType s)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * Delete the given sync object.
+   *
+   * @param s The sync object
+   *
+   * @throws JCGLException        On errors
+   * @throws JCGLExceptionDeleted If the sync object has already been deleted
+   */
+
+  void syncDelete(
+    JCGLSyncType s)
+    throws JCGLException, JCGLExceptionDeleted;
+}
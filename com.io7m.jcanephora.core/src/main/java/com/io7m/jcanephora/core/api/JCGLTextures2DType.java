@@ -17,13 +17,18 @@
 package com.io7m.jcanephora.core.api;
 
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLTexture2DType;
 import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
 import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureUpdates;
+import com.io7m.jcanephora.core.JCGLTextureUsableType;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
 
@@ -36,8 +41,11 @@ import java.nio.ByteBuffer;
 public interface JCGLTextures2DType
 {
   /**
-   * Bind the texture {@code texture} to the texture unit {@code unit}. Any
-   * existing bound texture (of any type) is unbound.
+   * <p>Bind the texture {@code texture} to the texture unit {@code unit}. Any
+   * existing bound texture (of any type) is unbound.</p>
+   *
+   * <p>If the mipmaps of {@code texture} have been marked as dirty by a
+   * deferred update, they are regenerated before the function returns.</p>
    *
    * @param unit    The texture unit
    * @param texture The texture
@@ -111,6 +119,12 @@ public interface JCGLTextures2DType
    * mag_filter}, with the OpenGL default being {@code TEXTURE_FILTER_LINEAR}.
    * </p>
    *
+   * <p>If {@code format} is a compressed format, storage is allocated for
+   * every mipmap level of the texture, but no mipmaps are generated: The
+   * levels must be uploaded explicitly with {@link
+   * #texture2DUpdateMipmapLevel(JCGLTextureUnitType, int,
+   * JCGLTexture2DUpdateType)}.</p>
+   *
    * @param unit       The texture unit to which the texture will be initially
    *                   bound
    * @param width      The width in pixels
@@ -125,7 +139,10 @@ public interface JCGLTextures2DType
    *
    * @return An allocated texture
    *
-   * @throws JCGLException Iff an OpenGL error occurs
+   * @throws JCGLException                   Iff an OpenGL error occurs
+   * @throws JCGLExceptionUnsupportedFeature Iff {@code format} is not
+   *                                         supported by the implementation
+   * @see JCGLTexturesType#textureFormatIsSupported(JCGLTextureFormat)
    */
 
   JCGLTexture2DType texture2DAllocate(
@@ -148,6 +165,13 @@ public interface JCGLTextures2DType
    * associated bindings for that unit. The updated texture will remain bound to
    * {@code unit} when the function returns.</p>
    *
+   * <p>If the texture has minification filters that require mipmaps, the
+   * mipmaps are regenerated or marked as dirty according to the current
+   * {@link JCGLTexturesType#textureGetMipmapUpdateMode() mipmap update
+   * mode}. In the deferred mode, the texture is not treated as having been
+   * explicitly bound, and so its mipmaps are not regenerated merely because it
+   * remains bound to {@code unit}.</p>
+   *
    * @param unit The texture unit that will be used to perform the update
    * @param data The data to upload
    *
@@ -159,6 +183,40 @@ public interface JCGLTextures2DType
     JCGLTexture2DUpdateType data)
     throws JCGLException;
 
+  /**
+   * <p>Replace the contents (or part of the contents) of mipmap level {@code
+   * level} of the texture {@code data.texture()} with {@code data}. This
+   * allows applications to upload mipmap chains that were computed ahead of
+   * time, instead of having them generated by the implementation.</p>
+   *
+   * <p>The area of {@code data} must be included in the area of the level, as
+   * given by {@link JCGLTextureMipmaps#levelSize(JCGLTextureUsableType,
+   * int)}. Textures that do not have mipmapping minification filters only
+   * have level {@code 0}. Uploading a level never regenerates the mipmaps of
+   * the texture, and never marks them as dirty, so an application supplying
+   * its own chain should upload level {@code 0} with this function rather than
+   * with {@link #texture2DUpdate(JCGLTextureUnitType,
+   * JCGLTexture2DUpdateType)}.</p>
+   *
+   * <p>The given {@code unit} will be used to perform the update, breaking any
+   * associated bindings for that unit. The updated texture will remain bound to
+   * {@code unit} when the function returns.</p>
+   *
+   * @param unit  The texture unit that will be used to perform the update
+   * @param level The mipmap level
+   * @param data  The data to upload
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @see JCGLTextureUpdates#newUpdateReplacingMipmapLevel2D(JCGLTexture2DUsableType, int)
+   * @since 0.62.0
+   */
+
+  void texture2DUpdateMipmapLevel(
+    JCGLTextureUnitType unit,
+    int level,
+    JCGLTexture2DUpdateType data)
+    throws JCGLException;
+
   /**
    * <p>Fetch image data for the given texture.</p>
    *
@@ -183,10 +241,14 @@ public interface JCGLTextures2DType
   /**
    * Regenerate the mipmaps for the 2D texture bound to the texture unit {@code
    * unit}. If the texture does not have mipmaps, the function has no effect.
+   * If the texture's mipmaps were marked as dirty, they are no longer dirty
+   * when the function returns.
    *
    * @param unit The texture unit
    *
-   * @throws JCGLException Iff an OpenGL error occurs
+   * @throws JCGLException            Iff an OpenGL error occurs
+   * @throws JCGLExceptionFormatError Iff the texture has mipmaps and a
+   *                                  compressed format
    */
 
   void texture2DRegenerateMipmaps(
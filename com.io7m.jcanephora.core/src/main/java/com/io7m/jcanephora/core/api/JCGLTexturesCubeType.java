@@ -19,13 +19,18 @@ package com.io7m.jcanephora.core.api;
 import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
 import com.io7m.jcanephora.core.JCGLCubeMapFaceRH;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLTextureCubeType;
 import com.io7m.jcanephora.core.JCGLTextureCubeUpdateType;
 import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureUpdates;
+import com.io7m.jcanephora.core.JCGLTextureUsableType;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
@@ -39,8 +44,11 @@ import java.nio.ByteBuffer;
 public interface JCGLTexturesCubeType
 {
   /**
-   * Bind the texture {@code texture} to the texture unit {@code unit}. Any
-   * existing bound texture (of any type) is unbound.
+   * <p>Bind the texture {@code texture} to the texture unit {@code unit}. Any
+   * existing bound texture (of any type) is unbound.</p>
+   *
+   * <p>If the mipmaps of {@code texture} have been marked as dirty by a
+   * deferred update, they are regenerated before the function returns.</p>
    *
    * @param unit    The texture unit
    * @param texture The texture
@@ -100,8 +108,10 @@ public interface JCGLTexturesCubeType
    * assuming a cube map that uses a left-handed coordinate system (the OpenGL
    * default).</p>
    *
-   * <p>If the texture has minification filters that require mipmaps, mipmaps
-   * will be generated during the update.</p>
+   * <p>If the texture has minification filters that require mipmaps, the
+   * mipmaps are regenerated or marked as dirty according to the current
+   * {@link JCGLTexturesType#textureGetMipmapUpdateMode() mipmap update
+   * mode}.</p>
    *
    * @param unit The texture unit that will be used to perform the update
    * @param face The cube face to modify
@@ -121,8 +131,10 @@ public interface JCGLTexturesCubeType
    * of the cube map texture {@code data.getTexture()} with {@code data},
    * assuming a cube map that uses a right-handed coordinate system.</p>
    *
-   * <p>If the texture has minification filters that require mipmaps, mipmaps
-   * will be generated during the update.</p>
+   * <p>If the texture has minification filters that require mipmaps, the
+   * mipmaps are regenerated or marked as dirty according to the current
+   * {@link JCGLTexturesType#textureGetMipmapUpdateMode() mipmap update
+   * mode}.</p>
    *
    * @param unit The texture unit that will be used to perform the update
    * @param face The cube face to modify
@@ -140,6 +152,63 @@ public interface JCGLTexturesCubeType
     this.textureCubeUpdateLH(unit, JCGLCubeMapFaceLH.fromRH(face), data);
   }
 
+  /**
+   * <p>Replace the contents (or part of the contents) of mipmap level {@code
+   * level} of the face {@code face} of the cube map texture {@code
+   * data.texture()} with {@code data}, assuming a cube map that uses a
+   * left-handed coordinate system (the OpenGL default).</p>
+   *
+   * <p>The area of {@code data} must be included in the area of the level, as
+   * given by {@link JCGLTextureMipmaps#levelSize(JCGLTextureUsableType,
+   * int)}. Textures that do not have mipmapping minification filters only
+   * have level {@code 0}. Uploading a level never regenerates the mipmaps of
+   * the texture, and never marks them as dirty.</p>
+   *
+   * @param unit  The texture unit that will be used to perform the update
+   * @param face  The cube face to modify
+   * @param level The mipmap level
+   * @param data  The data to upload
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @see JCGLTextureUpdates#newUpdateReplacingMipmapLevelCube(JCGLTextureCubeUsableType, int)
+   * @since 0.62.0
+   */
+
+  void textureCubeUpdateMipmapLevelLH(
+    JCGLTextureUnitType unit,
+    JCGLCubeMapFaceLH face,
+    int level,
+    JCGLTextureCubeUpdateType data)
+    throws JCGLException;
+
+  /**
+   * <p>Replace the contents (or part of the contents) of mipmap level {@code
+   * level} of the face {@code face} of the cube map texture {@code
+   * data.texture()} with {@code data}, assuming a cube map that uses a
+   * right-handed coordinate system.</p>
+   *
+   * @param unit  The texture unit that will be used to perform the update
+   * @param face  The cube face to modify
+   * @param level The mipmap level
+   * @param data  The data to upload
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @see #textureCubeUpdateMipmapLevelLH(JCGLTextureUnitType,
+   * JCGLCubeMapFaceLH, int, JCGLTextureCubeUpdateType)
+   * @since 0.62.0
+   */
+
+  default void textureCubeUpdateMipmapLevelRH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceRH face,
+    final int level,
+    final JCGLTextureCubeUpdateType data)
+    throws JCGLException
+  {
+    this.textureCubeUpdateMipmapLevelLH(
+      unit, JCGLCubeMapFaceLH.fromRH(face), level, data);
+  }
+
   /**
    * <p>Allocate a cube texture of width {@code size} and height {@code size} of
    * format {@code format}, binding it to {@code unit}.</p>
@@ -164,6 +233,12 @@ public interface JCGLTexturesCubeType
    * mag_filter}, with the OpenGL default being {@code TEXTURE_FILTER_LINEAR}.
    * </p>
    *
+   * <p>If {@code format} is a compressed format, storage is allocated for
+   * every mipmap level of the texture, but mipmaps are never generated for
+   * it. The levels of each face must be uploaded with {@link
+   * #textureCubeUpdateMipmapLevelLH(JCGLTextureUnitType, JCGLCubeMapFaceLH,
+   * int, JCGLTextureCubeUpdateType)}.</p>
+   *
    * @param unit       The texture unit to which the texture will be initially
    *                   bound
    * @param size       The width and height in pixels
@@ -179,7 +254,10 @@ public interface JCGLTexturesCubeType
    *
    * @return An allocated texture
    *
-   * @throws JCGLException Iff an OpenGL error occurs
+   * @throws JCGLException                   Iff an OpenGL error occurs
+   * @throws JCGLExceptionUnsupportedFeature Iff {@code format} is not
+   *                                         supported by the implementation
+   * @see JCGLTexturesType#textureFormatIsSupported(JCGLTextureFormat)
    */
 
   JCGLTextureCubeType textureCubeAllocate(
@@ -248,11 +326,14 @@ public interface JCGLTexturesCubeType
   /**
    * Regenerate the mipmaps for the cube texture bound to the texture unit
    * {@code unit}. If the texture does not have mipmaps, the function has no
-   * effect.
+   * effect. If the texture's mipmaps were marked as dirty, they are no longer
+   * dirty when the function returns.
    *
    * @param unit The texture unit
    *
-   * @throws JCGLException Iff an OpenGL error occurs
+   * @throws JCGLException            Iff an OpenGL error occurs
+   * @throws JCGLExceptionFormatError Iff the texture has mipmaps and a
+   *                                  compressed format
    */
 
   void textureCubeRegenerateMipmaps(
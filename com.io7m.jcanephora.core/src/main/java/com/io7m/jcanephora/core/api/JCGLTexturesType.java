@@ -17,7 +17,11 @@
 package com.io7m.jcanephora.core.api;
 
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLTextureCompression;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureMipmapUpdateMode;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureUsableType;
 
 import java.util.List;
 
@@ -40,6 +44,28 @@ public interface JCGLTexturesType
   int textureGetMaximumSize()
     throws JCGLException;
 
+  /**
+   * Determine whether textures of the given format can be allocated by the
+   * current implementation. All uncompressed formats and the {@link
+   * JCGLTextureCompression#TEXTURE_COMPRESSION_RGTC} formats are always
+   * supported. The {@link JCGLTextureCompression#TEXTURE_COMPRESSION_S3TC}
+   * formats require the {@code EXT_texture_compression_s3tc} extension, and
+   * the {@link JCGLTextureCompression#TEXTURE_COMPRESSION_BPTC} formats
+   * require OpenGL 4.2 or the {@code ARB_texture_compression_bptc}
+   * extension.
+   *
+   * @param format The texture format
+   *
+   * @return {@code true} iff textures of {@code format} can be allocated
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  boolean textureFormatIsSupported(
+    JCGLTextureFormat format)
+    throws JCGLException;
+
   /**
    * @return All available texture units for the current implementation.
    *
@@ -74,4 +100,68 @@ public interface JCGLTexturesType
   void textureUnitUnbind(
     JCGLTextureUnitType unit)
     throws JCGLException;
+
+  /**
+   * Set the way in which subsequent texture updates affect mipmaps. The
+   * default mode is {@link
+   * JCGLTextureMipmapUpdateMode#TEXTURE_MIPMAP_UPDATE_IMMEDIATE}. Changing the
+   * mode does not regenerate any mipmaps that are already dirty.
+   *
+   * @param mode The mipmap update mode
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @see #textureFlushMipmaps(JCGLTextureUnitType)
+   * @since 0.62.0
+   */
+
+  void textureSetMipmapUpdateMode(
+    JCGLTextureMipmapUpdateMode mode)
+    throws JCGLException;
+
+  /**
+   * @return The current mipmap update mode
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  JCGLTextureMipmapUpdateMode textureGetMipmapUpdateMode()
+    throws JCGLException;
+
+  /**
+   * @param texture The texture
+   *
+   * @return {@code true} iff the mipmaps of {@code texture} have been marked
+   * as dirty by a deferred update and have not yet been regenerated
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  boolean textureMipmapsAreDirty(
+    JCGLTextureUsableType texture)
+    throws JCGLException;
+
+  /**
+   * <p>Regenerate the mipmaps of every texture whose mipmaps have been marked
+   * as dirty by deferred updates. Each texture is regenerated exactly once,
+   * however many updates it received. Applications typically call this once
+   * per frame, after streaming updates and before drawing.</p>
+   *
+   * <p>Regenerating mipmaps requires binding textures, and the given {@code
+   * unit} will be used to perform the regeneration, breaking any associated
+   * bindings for that unit. The last regenerated texture (if any) will remain
+   * bound to {@code unit} when the function returns.</p>
+   *
+   * @param unit The texture unit that will be used to regenerate mipmaps
+   *
+   * @return The number of textures whose mipmaps were regenerated
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   * @since 0.62.0
+   */
+
+  int textureFlushMipmaps(
+    JCGLTextureUnitType unit)
+    throws JCGLException;
 }
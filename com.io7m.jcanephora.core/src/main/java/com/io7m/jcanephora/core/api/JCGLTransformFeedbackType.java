@@ -0,0 +1,359 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.core.api;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackActive;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackMisconfigured;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryType;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryUsableType;
+import com.io7m.jcanephora.core.JCGLQueryResultAvailability;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Interface to OpenGL transform feedback.</p>
+ *
+ * <p>Transform feedback captures the values of selected output variables
+ * ("varyings") of the vertex or geometry stage into array buffers, without
+ * the values ever leaving the GPU. The captured buffers can then be used
+ * directly as vertex sources for subsequent draw calls, allowing work such
+ * as skinning and particle simulation to be performed entirely on the
+ * GPU.</p>
+ *
+ * <p>The varyings to be captured are declared when the program is linked,
+ * with {@link JCGLShadersType#shaderLinkProgram(String,
+ * com.io7m.jcanephora.core.JCGLVertexShaderUsableType, Optional,
+ * com.io7m.jcanephora.core.JCGLFragmentShaderUsableType, List,
+ * JCGLTransformFeedbackBufferMode)}.</p>
+ *
+ * <p>The number of primitives actually written can be retrieved with a
+ * <i>primitives-written query</i>, in order to determine the number of
+ * vertices to draw from the captured buffers.</p>
+ */
+
+public interface JCGLTransformFeedbackType
+{
+  /**
+   * @return The maximum number of varyings that can be captured in
+   * {@link JCGLTransformFeedbackBufferMode#TRANSFORM_FEEDBACK_SEPARATE} mode,
+   * and therefore the number of available buffer binding points
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  int transformFeedbackGetMaximumSeparateAttributes()
+    throws JCGLException;
+
+  /**
+   * @return {@code true} iff the context supports pausing and resuming
+   * transform feedback
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean transformFeedbackPauseIsSupported()
+    throws JCGLException;
+
+  /**
+   * Bind the whole of the array buffer {@code a} to the transform feedback
+   * binding point {@code index}.
+   *
+   * @param index The binding point
+   * @param a     The array buffer
+   *
+   * @throws JCGLException                        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted                 Iff the buffer has been
+   *                                              deleted
+   * @throws JCGLExceptionTransformFeedbackActive Iff transform feedback is
+   *                                              active
+   * @throws RangeCheckException                  Iff {@code index} is not a
+   *                                              valid binding point
+   */
+
+  void transformFeedbackBufferBindIndexed(
+    int index,
+    JCGLArrayBufferUsableType a)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException;
+
+  /**
+   * Bind the bytes {@code range} of the array buffer {@code a} to the
+   * transform feedback binding point {@code index}. The lower bound and the
+   * size of the range must both be multiples of {@code 4}.
+   *
+   * @param index The binding point
+   * @param a     The array buffer
+   * @param range The range of bytes
+   *
+   * @throws JCGLException                        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted                 Iff the buffer has been
+   *                                              deleted
+   * @throws JCGLExceptionTransformFeedbackActive Iff transform feedback is
+   *                                              active
+   * @throws RangeCheckException                  Iff {@code index} is not a
+   *                                              valid binding point, or the
+   *                                              range is not valid
+   */
+
+  void transformFeedbackBufferBindIndexedRange(
+    int index,
+    JCGLArrayBufferUsableType a,
+    UnsignedRangeInclusiveL range)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException;
+
+  /**
+   * Unbind any buffer bound to the transform feedback binding point
+   * {@code index}.
+   *
+   * @param index The binding point
+   *
+   * @throws JCGLException                        Iff an OpenGL error occurs
+   * @throws JCGLExceptionTransformFeedbackActive Iff transform feedback is
+   *                                              active
+   * @throws RangeCheckException                  Iff {@code index} is not a
+   *                                              valid binding point
+   */
+
+  void transformFeedbackBufferUnbindIndexed(
+    int index)
+    throws
+    JCGLException,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException;
+
+  /**
+   * @param index The binding point
+   *
+   * @return The buffer bound to the transform feedback binding point
+   * {@code index}, if any
+   *
+   * @throws JCGLException       Iff an OpenGL error occurs
+   * @throws RangeCheckException Iff {@code index} is not a valid binding point
+   */
+
+  Optional<JCGLArrayBufferUsableType> transformFeedbackBufferGetIndexedBinding(
+    int index)
+    throws JCGLException, RangeCheckException;
+
+  /**
+   * <p>Begin capturing primitives of type {@code p}. The currently active
+   * program must have been linked with at least one captured varying, and
+   * each binding point written by the program must have a buffer bound.</p>
+   *
+   * <p>Whilst transform feedback is active, only primitives compatible with
+   * {@code p} may be drawn, and the active program and transform feedback
+   * buffer bindings may not be changed.</p>
+   *
+   * @param p The type of captured primitives
+   *
+   * @throws JCGLException                               Iff an OpenGL error
+   *                                                     occurs
+   * @throws JCGLExceptionProgramNotActive               Iff no program is
+   *                                                     active
+   * @throws JCGLExceptionTransformFeedbackActive        Iff transform feedback
+   *                                                     is already active
+   * @throws JCGLExceptionTransformFeedbackMisconfigured Iff the active program
+   *                                                     does not capture
+   *                                                     varyings
+   * @throws JCGLExceptionBufferNotBound                 Iff a required binding
+   *                                                     point has no buffer
+   *                                                     bound
+   */
+
+  void transformFeedbackBegin(
+    JCGLTransformFeedbackPrimitive p)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionTransformFeedbackActive,
+    JCGLExceptionTransformFeedbackMisconfigured,
+    JCGLExceptionBufferNotBound;
+
+  /**
+   * Temporarily stop capturing primitives. Pausing transform feedback that
+   * is already paused has no effect.
+   *
+   * @throws JCGLException                           Iff an OpenGL error occurs
+   * @throws JCGLExceptionUnsupportedFeature         Iff pausing is not
+   *                                                 supported
+   * @throws JCGLExceptionTransformFeedbackNotActive Iff transform feedback is
+   *                                                 not active
+   * @see #transformFeedbackPauseIsSupported()
+   */
+
+  void transformFeedbackPause()
+    throws
+    JCGLException,
+    JCGLExceptionUnsupportedFeature,
+    JCGLExceptionTransformFeedbackNotActive;
+
+  /**
+   * Resume capturing primitives after a call to {@link
+   * #transformFeedbackPause()}. Resuming transform feedback that is not paused
+   * has no effect.
+   *
+   * @throws JCGLException                           Iff an OpenGL error occurs
+   * @throws JCGLExceptionUnsupportedFeature         Iff pausing is not
+   *                                                 supported
+   * @throws JCGLExceptionTransformFeedbackNotActive Iff transform feedback is
+   *                                                 not active
+   * @see #transformFeedbackPauseIsSupported()
+   */
+
+  void transformFeedbackResume()
+    throws
+    JCGLException,
+    JCGLExceptionUnsupportedFeature,
+    JCGLExceptionTransformFeedbackNotActive;
+
+  /**
+   * Stop capturing primitives.
+   *
+   * @throws JCGLException                           Iff an OpenGL error occurs
+   * @throws JCGLExceptionTransformFeedbackNotActive Iff transform feedback is
+   *                                                 not active
+   */
+
+  void transformFeedbackEnd()
+    throws JCGLException, JCGLExceptionTransformFeedbackNotActive;
+
+  /**
+   * @return {@code true} iff transform feedback is active (including when
+   * paused)
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean transformFeedbackIsActive()
+    throws JCGLException;
+
+  /**
+   * @return {@code true} iff transform feedback is active and paused
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  boolean transformFeedbackIsPaused()
+    throws JCGLException;
+
+  /**
+   * @return The type of primitives being captured, if transform feedback is
+   * active
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  Optional<JCGLTransformFeedbackPrimitive> transformFeedbackGetPrimitive()
+    throws JCGLException;
+
+  /**
+   * @return A new primitives-written query
+   *
+   * @throws JCGLException On errors
+   */
+
+  JCGLPrimitivesWrittenQueryType transformFeedbackQueryAllocate()
+    throws JCGLException;
+
+  /**
+   * Start counting the primitives written by transform feedback.
+   *
+   * @param q The query
+   *
+   * @throws JCGLException On errors
+   */
+
+  void transformFeedbackQueryBegin(
+    JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException;
+
+  /**
+   * Stop counting the primitives written by transform feedback.
+   *
+   * @param q The query
+   *
+   * @throws JCGLException On errors
+   */
+
+  void transformFeedbackQueryFinish(
+    JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException;
+
+  /**
+   * <p>Ask the GPU if the query has executed and therefore has a result that
+   * can be fetched.</p>
+   *
+   * @param q The query
+   *
+   * @return The availability of the result of the query
+   *
+   * @throws JCGLException On errors
+   * @see JCGLTimersType#timerQueryResultAvailability(
+   *com.io7m.jcanephora.core.JCGLTimerQueryUsableType)
+   */
+
+  JCGLQueryResultAvailability transformFeedbackQueryResultAvailability(
+    JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException;
+
+  /**
+   * Retrieve the result for the query. If the result is not yet available,
+   * the call blocks until it is.
+   *
+   * @param q The query
+   *
+   * @return The number of primitives written between the execution of the
+   * begin and finish commands
+   *
+   * @throws JCGLException On errors
+   */
+
+  long transformFeedbackQueryResultGet(
+    JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException;
+
+  /**
+   * Delete the given query.
+   *
+   * @param q The query
+   *
+   * @throws JCGLException On errors
+   */
+
+  void transformFeedbackQueryDelete(
+    JCGLPrimitivesWrittenQueryType q)
+    throws JCGLException;
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.core.api;
+
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLUniformBufferType;
+import com.io7m.jcanephora.core.JCGLUniformBufferUsableType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+import java.util.Optional;
+
+/**
+ * <p>The interface to OpenGL uniform buffers.</p>
+ *
+ * <p>A uniform buffer holds the values of the uniforms declared in one or
+ * more uniform blocks. Buffers are attached to numbered <i>binding
+ * points</i>, and the uniform blocks of each program are associated with
+ * binding points using {@link #uniformBlockBind(JCGLProgramUniformBlockType,
+ * int)}. Data that is shared between many programs (such as camera or light
+ * parameters) can therefore be uploaded once and then made available to all
+ * programs with a single binding.</p>
+ *
+ * <p>Uniform buffers are populated using the {@code std140} layout. The
+ * {@code com.io7m.jcanephora.cursors} package provides cursors for the
+ * padded {@code std140} array element types.</p>
+ */
+
+public interface JCGLUniformBuffersType
+{
+  /**
+   * @return The number of available uniform buffer binding points
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  int uniformBufferGetMaximumBindings()
+    throws JCGLException;
+
+  /**
+   * @return The required alignment in bytes of the start of ranges passed
+   * to {@link #uniformBufferBindIndexedRange(int, JCGLUniformBufferUsableType,
+   * UnsignedRangeInclusiveL)}
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  int uniformBufferGetOffsetAlignment()
+    throws JCGLException;
+
+  /**
+   * <p>Allocate a uniform buffer of {@code size} bytes, informing the
+   * implementation that the buffer will be used in the manner specified by
+   * {@code usage}.</p>
+   *
+   * <p>Calling this method does not affect any of the indexed binding
+   * points.</p>
+   *
+   * @param size  The size in bytes of the uniform buffer
+   * @param usage The usage hint
+   *
+   * @return A reference to the allocated buffer
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  JCGLUniformBufferType uniformBufferAllocate(
+    long size,
+    JCGLUsageHint usage)
+    throws JCGLException;
+
+  /**
+   * <p>Perform the uniform buffer update {@code u}.</p>
+   *
+   * <p>The buffer does not need to be bound, and calling this method does not
+   * affect any of the indexed binding points.</p>
+   *
+   * @param u The update
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the buffer has already been deleted
+   */
+
+  void uniformBufferUpdate(
+    JCGLBufferUpdateType<JCGLUniformBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * <p>Deletes the buffer referenced by {@code u}.</p>
+   *
+   * <p>Calling this method will remove {@code u} from any indexed binding
+   * points to which it is bound.</p>
+   *
+   * @param u The uniform buffer
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the buffer has already been deleted
+   */
+
+  void uniformBufferDelete(
+    JCGLUniformBufferType u)
+    throws JCGLException, JCGLExceptionDeleted;
+
+  /**
+   * <p>Bind the entirety of the buffer {@code u} to the binding point
+   * {@code index}.</p>
+   *
+   * <p>If {@code u} is already bound in its entirety to the binding point,
+   * this call has no effect.</p>
+   *
+   * @param index The binding point
+   * @param u     The uniform buffer
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the buffer has already been deleted
+   * @throws RangeCheckException  If {@code index} is not a valid binding
+   *                              point
+   */
+
+  void uniformBufferBindIndexed(
+    int index,
+    JCGLUniformBufferUsableType u)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException;
+
+  /**
+   * <p>Bind the given range of the buffer {@code u} to the binding point
+   * {@code index}. The lower bound of the range must be a multiple of
+   * {@link #uniformBufferGetOffsetAlignment()}. This allows the data for
+   * many draw calls to be held in a single buffer.</p>
+   *
+   * <p>If the same range of {@code u} is already bound to the binding point,
+   * this call has no effect.</p>
+   *
+   * @param index The binding point
+   * @param u     The uniform buffer
+   * @param range The range of bytes within the buffer
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the buffer has already been deleted
+   * @throws RangeCheckException  If {@code index} is not a valid binding
+   *                              point, if {@code range} is not included in
+   *                              the buffer, or if {@code range} is not
+   *                              correctly aligned
+   */
+
+  void uniformBufferBindIndexedRange(
+    int index,
+    JCGLUniformBufferUsableType u,
+    UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException;
+
+  /**
+   * Unbind the buffer bound to the binding point {@code index}. If no buffer
+   * is bound, this call has no effect.
+   *
+   * @param index The binding point
+   *
+   * @throws JCGLException       Iff an OpenGL error occurs
+   * @throws RangeCheckException If {@code index} is not a valid binding
+   *                             point
+   */
+
+  void uniformBufferUnbindIndexed(
+    int index)
+    throws JCGLException, RangeCheckException;
+
+  /**
+   * @param index The binding point
+   *
+   * @return The buffer bound to the binding point {@code index}, if any
+   *
+   * @throws JCGLException       Iff an OpenGL error occurs
+   * @throws RangeCheckException If {@code index} is not a valid binding
+   *                             point
+   */
+
+  Optional<JCGLUniformBufferUsableType> uniformBufferGetIndexedBinding(
+    int index)
+    throws JCGLException, RangeCheckException;
+
+  /**
+   * <p>Associate the uniform block {@code b} with the binding point
+   * {@code index}. The association is part of the state of the program that
+   * owns the block, and persists until the program is relinked or deleted.
+   * The program does not need to be active.</p>
+   *
+   * @param b     The uniform block
+   * @param index The binding point
+   *
+   * @throws JCGLException        Iff an OpenGL error occurs
+   * @throws JCGLExceptionDeleted If the program that owns the block has been
+   *                              deleted
+   * @throws RangeCheckException  If {@code index} is not a valid binding
+   *                              point
+   */
+
+  void uniformBlockBind(
+    JCGLProgramUniformBlockType b,
+    int index)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException;
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.cursors;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Functions for quantizing vertex attributes into compact formats.</p>
+ *
+ * <p>A vertex consisting of a position, normal, and texture coordinates
+ * stored as {@code float} values occupies {@code 32} bytes. Storing the
+ * position with {@link #putPositionUNorm16(ByteBuffer, int, Vector3D,
+ * Vector3D, Vector3D)}, the normal with {@link
+ * #putNormalSNorm2101010(ByteBuffer, int, Vector3D)}, and the texture
+ * coordinates with {@link #putUVHalf(ByteBuffer, int, Vector2D)} reduces this
+ * to {@code 16} bytes.</p>
+ *
+ * <p>Conversions of signed normalized values follow the OpenGL 4.2 rules,
+ * where {@code -1.0}, {@code 0.0}, and {@code 1.0} are all exactly
+ * representable.</p>
+ */
+
+public final class JCGLVertexQuantization
+{
+  private JCGLVertexQuantization()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static double clampUnsigned(
+    final double x)
+  {
+    return Math.max(0.0, Math.min(1.0, x));
+  }
+
+  private static double clampSigned(
+    final double x)
+  {
+    return Math.max(-1.0, Math.min(1.0, x));
+  }
+
+  private static double signNotZero(
+    final double x)
+  {
+    return x >= 0.0 ? 1.0 : -1.0;
+  }
+
+  private static double relative(
+    final double x,
+    final double min,
+    final double max)
+  {
+    final double extent = max - min;
+    if (extent <= 0.0) {
+      return 0.0;
+    }
+    return (x - min) / extent;
+  }
+
+  /**
+   * Quantize a value in the range {@code [0, 1]} to an unsigned normalized
+   * 16-bit integer. Values outside of the range are clamped.
+   *
+   * @param x The value
+   *
+   * @return A value in the range {@code [0, 65535]}
+   */
+
+  public static int packUNorm16(
+    final double x)
+  {
+    return (int) Math.round(clampUnsigned(x) * 65535.0);
+  }
+
+  /**
+   * @param x An unsigned normalized 16-bit integer (only the least
+   *          significant 16 bits are used)
+   *
+   * @return The value in the range {@code [0, 1]} represented by {@code x}
+   */
+
+  public static double unpackUNorm16(
+    final int x)
+  {
+    return (double) (x & 0xffff) / 65535.0;
+  }
+
+  /**
+   * Quantize a value in the range {@code [-1, 1]} to a signed normalized
+   * 16-bit integer. Values outside of the range are clamped.
+   *
+   * @param x The value
+   *
+   * @return A value in the range {@code [-32767, 32767]}
+   */
+
+  public static int packSNorm16(
+    final double x)
+  {
+    return (int) Math.round(clampSigned(x) * 32767.0);
+  }
+
+  /**
+   * @param x A signed normalized 16-bit integer (only the least significant
+   *          16 bits are used)
+   *
+   * @return The value in the range {@code [-1, 1]} represented by {@code x}
+   */
+
+  public static double unpackSNorm16(
+    final int x)
+  {
+    return Math.max((double) (short) x / 32767.0, -1.0);
+  }
+
+  /**
+   * Pack four values in the range {@code [-1, 1]} into a value suitable for
+   * use with {@code JCGLScalarType.TYPE_INT_2_10_10_10_REV} normalized
+   * attributes. Values outside of the range are clamped.
+   *
+   * @param x The first component
+   * @param y The second component
+   * @param z The third component
+   * @param w The fourth component (only {@code -1}, {@code 0}, and {@code 1}
+   *          are representable)
+   *
+   * @return A packed value
+   */
+
+  public static int packSNorm2101010(
+    final double x,
+    final double y,
+    final double z,
+    final double w)
+  {
+    final int xi = (int) Math.round(clampSigned(x) * 511.0) & 0x3ff;
+    final int yi = (int) Math.round(clampSigned(y) * 511.0) & 0x3ff;
+    final int zi = (int) Math.round(clampSigned(z) * 511.0) & 0x3ff;
+    final int wi = (int) Math.round(clampSigned(w)) & 0x3;
+    return xi | (yi << 10) | (zi << 20) | (wi << 30);
+  }
+
+  /**
+   * @param p A value packed with {@link #packSNorm2101010(double, double,
+   *          double, double)}
+   *
+   * @return The unpacked components
+   */
+
+  public static Vector4D unpackSNorm2101010(
+    final int p)
+  {
+    final int xi = (p << 22) >> 22;
+    final int yi = (p << 12) >> 22;
+    final int zi = (p << 2) >> 22;
+    final int wi = p >> 30;
+    return Vector4D.of(
+      Math.max((double) xi / 511.0, -1.0),
+      Math.max((double) yi / 511.0, -1.0),
+      Math.max((double) zi / 511.0, -1.0),
+      Math.max((double) wi, -1.0));
+  }
+
+  /**
+   * Pack four values in the range {@code [0, 1]} into a value suitable for
+   * use with {@code JCGLScalarType.TYPE_UNSIGNED_INT_2_10_10_10_REV}
+   * normalized attributes. Values outside of the range are clamped.
+   *
+   * @param x The first component
+   * @param y The second component
+   * @param z The third component
+   * @param w The fourth component
+   *
+   * @return A packed value
+   */
+
+  public static int packUNorm2101010(
+    final double x,
+    final double y,
+    final double z,
+    final double w)
+  {
+    final int xi = (int) Math.round(clampUnsigned(x) * 1023.0);
+    final int yi = (int) Math.round(clampUnsigned(y) * 1023.0);
+    final int zi = (int) Math.round(clampUnsigned(z) * 1023.0);
+    final int wi = (int) Math.round(clampUnsigned(w) * 3.0);
+    return xi | (yi << 10) | (zi << 20) | (wi << 30);
+  }
+
+  /**
+   * @param p A value packed with {@link #packUNorm2101010(double, double,
+   *          double, double)}
+   *
+   * @return The unpacked components
+   */
+
+  public static Vector4D unpackUNorm2101010(
+    final int p)
+  {
+    return Vector4D.of(
+      (double) (p & 0x3ff) / 1023.0,
+      (double) ((p >>> 10) & 0x3ff) / 1023.0,
+      (double) ((p >>> 20) & 0x3ff) / 1023.0,
+      (double) ((p >>> 30) & 0x3) / 3.0);
+  }
+
+  /**
+   * Encode a unit vector using the octahedral mapping. The vector is
+   * projected onto the octahedron {@code |x| + |y| + |z| = 1}, and the lower
+   * hemisphere is folded over the upper one, yielding two components in the
+   * range {@code [-1, 1]}.
+   *
+   * @param n The unit vector
+   *
+   * @return The encoded vector
+   */
+
+  public static Vector2D octahedralEncode(
+    final Vector3D n)
+  {
+    NullCheck.notNull(n, "Normal");
+
+    final double l1 = Math.abs(n.x()) + Math.abs(n.y()) + Math.abs(n.z());
+    if (l1 == 0.0) {
+      return Vector2D.of(0.0, 0.0);
+    }
+
+    final double px = n.x() / l1;
+    final double py = n.y() / l1;
+    if (n.z() >= 0.0) {
+      return Vector2D.of(px, py);
+    }
+
+    return Vector2D.of(
+      (1.0 - Math.abs(py)) * signNotZero(px),
+      (1.0 - Math.abs(px)) * signNotZero(py));
+  }
+
+  /**
+   * Decode a vector encoded with {@link #octahedralEncode(Vector3D)}.
+   *
+   * @param e The encoded vector
+   *
+   * @return A unit vector
+   */
+
+  public static Vector3D octahedralDecode(
+    final Vector2D e)
+  {
+    NullCheck.notNull(e, "Encoded");
+
+    final double z = 1.0 - Math.abs(e.x()) - Math.abs(e.y());
+    double x = e.x();
+    double y = e.y();
+    if (z < 0.0) {
+      x = (1.0 - Math.abs(e.y())) * signNotZero(e.x());
+      y = (1.0 - Math.abs(e.x())) * signNotZero(e.y());
+    }
+
+    final double m = Math.sqrt(x * x + y * y + z * z);
+    return Vector3D.of(x / m, y / m, z / m);
+  }
+
+  /**
+   * Write a position as four unsigned normalized 16-bit integers, relative to
+   * the bounding box {@code [min, max]}. The fourth component is always
+   * {@code 1.0}. Exactly {@code 8} bytes are written, and the data should be
+   * read with a normalized attribute of {@code 4} elements of type {@code
+   * TYPE_UNSIGNED_SHORT}. A shader recovers the original position {@code p}
+   * with {@code min + (p.xyz * (max - min))}.
+   *
+   * @param b      The target buffer
+   * @param offset The offset in bytes of the position
+   * @param p      The position
+   * @param min    The minimum corner of the bounding box
+   * @param max    The maximum corner of the bounding box
+   */
+
+  public static void putPositionUNorm16(
+    final ByteBuffer b,
+    final int offset,
+    final Vector3D p,
+    final Vector3D min,
+    final Vector3D max)
+  {
+    NullCheck.notNull(b, "Buffer");
+    NullCheck.notNull(p, "Position");
+    NullCheck.notNull(min, "Minimum");
+    NullCheck.notNull(max, "Maximum");
+
+    b.putShort(offset, (short) packUNorm16(relative(p.x(), min.x(), max.x())));
+    b.putShort(
+      offset + 2, (short) packUNorm16(relative(p.y(), min.y(), max.y())));
+    b.putShort(
+      offset + 4, (short) packUNorm16(relative(p.z(), min.z(), max.z())));
+    b.putShort(offset + 6, (short) 0xffff);
+  }
+
+  /**
+   * Write a unit normal as a single {@code TYPE_INT_2_10_10_10_REV} value.
+   * The fourth component is {@code 0.0}. Exactly {@code 4} bytes are
+   * written, and the data should be read with a normalized attribute of
+   * {@code 4} elements of type {@code TYPE_INT_2_10_10_10_REV}.
+   *
+   * @param b      The target buffer
+   * @param offset The offset in bytes of the normal
+   * @param n      The normal
+   */
+
+  public static void putNormalSNorm2101010(
+    final ByteBuffer b,
+    final int offset,
+    final Vector3D n)
+  {
+    NullCheck.notNull(b, "Buffer");
+    NullCheck.notNull(n, "Normal");
+    b.putInt(offset, packSNorm2101010(n.x(), n.y(), n.z(), 0.0));
+  }
+
+  /**
+   * Write a unit normal as two signed normalized 16-bit integers using the
+   * octahedral mapping. Exactly {@code 4} bytes are written, and the data
+   * should be read with a normalized attribute of {@code 2} elements of type
+   * {@code TYPE_SHORT}. A shader recovers the normal by performing the same
+   * steps as {@link #octahedralDecode(Vector2D)}.
+   *
+   * @param b      The target buffer
+   * @param offset The offset in bytes of the normal
+   * @param n      The normal
+   */
+
+  public static void putNormalOctahedralSNorm16(
+    final ByteBuffer b,
+    final int offset,
+    final Vector3D n)
+  {
+    NullCheck.notNull(b, "Buffer");
+
+    final Vector2D e = octahedralEncode(n);
+    b.putShort(offset, (short) packSNorm16(e.x()));
+    b.putShort(offset + 2, (short) packSNorm16(e.y()));
+  }
+
+  /**
+   * Write texture coordinates as two 16-bit floating point values. Exactly
+   * {@code 4} bytes are written, and the data should be read with an
+   * attribute of {@code 2} elements of type {@code TYPE_HALF_FLOAT}.
+   *
+   * @param b      The target buffer
+   * @param offset The offset in bytes of the coordinates
+   * @param uv     The texture coordinates
+   */
+
+  public static void putUVHalf(
+    final ByteBuffer b,
+    final int offset,
+    final Vector2D uv)
+  {
+    NullCheck.notNull(b, "Buffer");
+    NullCheck.notNull(uv, "UV");
+
+    b.putChar(offset, Binary16.packDouble(uv.x()));
+    b.putChar(offset + 2, Binary16.packDouble(uv.y()));
+  }
+}
@@ -16,20 +16,29 @@
 
 package com.io7m.jcanephora.fake;
 
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingType;
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingUsableType;
 import com.io7m.jcanephora.core.JCGLArrayBufferType;
 import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLBufferCopies;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLUsageHint;
 import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLByteBufferConsumerType;
 import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 final class FakeArrayBuffers implements JCGLArrayBuffersType
 {
@@ -47,14 +57,14 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
   }
 
   private final FakeContext context;
-  private @Nullable FakeArrayBuffer bind;
+  private @Nullable JCGLArrayBufferUsableType bind;
 
   FakeArrayBuffers(final FakeContext c)
   {
     this.context = NullCheck.notNull(c, "Context");
   }
 
-  private void actualBind(final FakeArrayBuffer a)
+  private void actualBind(final JCGLArrayBufferUsableType a)
   {
     LOG.trace("bind {} -> {}", this.bind, a);
     if (!Objects.equals(a, this.bind)) {
@@ -78,14 +88,14 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
     NullCheck.notNull(a, "Array");
-    this.checkArray(a);
+    final FakeBuffer fa = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
+      FakeBuffer.checkNotMapped(fa);
       final UnsignedRangeInclusiveL r = a.byteRange();
       final long size = r.getInterval();
       final ByteBuffer b = f.apply(size);
       b.rewind();
-      final FakeArrayBuffer fa = (FakeArrayBuffer) a;
       final ByteBuffer fa_data = fa.getData();
 
       /*
@@ -129,7 +139,7 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
   public void arrayBufferReallocate(final JCGLArrayBufferUsableType a)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
-    this.checkArray(a);
+    final FakeBuffer fa = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
       final UnsignedRangeInclusiveL r = a.byteRange();
@@ -141,6 +151,7 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
           "reallocate ({} bytes, {})", Long.valueOf(size), usage);
       }
 
+      fa.setUnmapped();
     } else {
       throw this.notBound(a);
     }
@@ -174,13 +185,14 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
     throws JCGLException, JCGLExceptionDeleted
   {
     this.checkArray(a);
-    this.actualBind((FakeArrayBuffer) a);
+    this.actualBind(a);
   }
 
-  private void checkArray(final JCGLArrayBufferUsableType a)
+  private FakeBuffer checkArray(final JCGLArrayBufferUsableType a)
   {
     FakeCompatibilityChecks.checkArrayBuffer(this.context, a);
     JCGLResources.checkNotDeleted(a);
+    return (FakeBuffer) a;
   }
 
   @Override
@@ -194,11 +206,12 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
   public void arrayBufferDelete(final JCGLArrayBufferType a)
     throws JCGLException, JCGLExceptionDeleted
   {
-    this.checkArray(a);
+    final FakeBuffer fa = this.checkArray(a);
 
     LOG.debug("delete {}", Integer.valueOf(a.glName()));
 
-    ((FakeArrayBuffer) a).setDeleted();
+    fa.setDeleted();
+    fa.setUnmapped();
 
     if (Objects.equals(a, this.bind)) {
       this.actualUnbind();
@@ -212,13 +225,13 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
   {
     NullCheck.notNull(u, "Update");
     final JCGLArrayBufferType a = u.buffer();
-    this.checkArray(a);
+    final FakeBuffer fa = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
+      FakeBuffer.checkNotMapped(fa);
       final UnsignedRangeInclusiveL r = u.dataUpdateRange();
       final ByteBuffer data = u.data();
       data.rewind();
-      final FakeArrayBuffer fa = (FakeArrayBuffer) a;
       final ByteBuffer fa_data = fa.getData();
 
       /*
@@ -229,13 +242,156 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
       final long hi = r.getUpper();
       for (long index = lo; Long.compareUnsigned(index, hi) <= 0; ++index) {
         final int ii = (int) index;
-        fa_data.put(ii, data.get(ii));
+        fa_data.put(ii, data.get((int) (index - lo)));
       }
     } else {
       throw this.notBound(a);
     }
   }
 
+  @Override
+  public JCGLArrayBufferStreamingType arrayBufferStreamingAllocate(
+    final long segment_size,
+    final int segments,
+    final JCGLUsageHint usage)
+    throws JCGLException
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      segment_size, "Segment size", Ranges.POSITIVE_LONG, "Valid size range");
+    RangeCheck.checkIncludedInInteger(
+      segments, "Segments", Ranges.POSITIVE_INTEGER, "Valid segment counts");
+
+    final long size = Math.multiplyExact(segment_size, (long) segments);
+    LOG.debug(
+      "allocate streaming ({} segments × {} bytes, {})",
+      Integer.valueOf(segments),
+      Long.valueOf(segment_size),
+      usage);
+
+    final ByteBuffer data = ByteBuffer.allocate(Math.toIntExact(size));
+    final FakeArrayBufferStreaming ao = new FakeArrayBufferStreaming(
+      this.context,
+      this.context.getFreshID(),
+      data,
+      segment_size,
+      segments,
+      usage);
+
+    this.actualBind(ao);
+    return ao;
+  }
+
+  @Override
+  public void arrayBufferStreamingRotate(
+    final JCGLArrayBufferStreamingUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(a, "Array");
+    this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      final FakeArrayBufferStreaming sa = (FakeArrayBufferStreaming) a;
+      if (sa.segmentAdvance()) {
+        this.arrayBufferReallocate(sa);
+      }
+      LOG.trace(
+        "rotate {} -> segment {}", sa, Integer.valueOf(sa.segmentCurrent()));
+    } else {
+      throw this.notBound(a);
+    }
+  }
+
+  @Override
+  public void arrayBufferStreamingWrite(
+    final JCGLArrayBufferStreamingUsableType a,
+    final JCGLByteBufferConsumerType w)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(a, "Array");
+    NullCheck.notNull(w, "Writer");
+    final FakeBuffer fa = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      FakeBuffer.checkNotMapped(fa);
+      w.accept(fa.getDataRange(a.segmentCurrentByteRange()));
+    } else {
+      throw this.notBound(a);
+    }
+  }
+
+  @Override
+  public ByteBuffer arrayBufferMapRange(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(a, "Array");
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final FakeBuffer fa = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      FakeBuffer.checkNotMapped(fa);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range, "Map range", a.byteRange(), "Buffer range");
+
+      LOG.trace("map {} {} {}", a, range, flags);
+
+      final boolean explicit =
+        flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+      fa.setMapped(range, explicit);
+      return fa.getDataRange(range);
+    }
+
+    throw this.notBound(a);
+  }
+
+  @Override
+  public void arrayBufferFlushMappedRange(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(a, "Array");
+    NullCheck.notNull(range, "Range");
+    final FakeBuffer fa = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      final UnsignedRangeInclusiveL mapped = FakeBuffer.checkMapped(fa);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range,
+        "Flush range",
+        new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+        "Mapped range");
+      return;
+    }
+
+    throw this.notBound(a);
+  }
+
+  @Override
+  public boolean arrayBufferUnmap(
+    final JCGLArrayBufferUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    NullCheck.notNull(a, "Array");
+    final FakeBuffer fa = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      FakeBuffer.checkMapped(fa);
+      LOG.trace("unmap {}", a);
+      fa.setUnmapped();
+      return true;
+    }
+
+    throw this.notBound(a);
+  }
+
   private JCGLExceptionBufferNotBound notBound(
     final JCGLArrayBufferUsableType a)
   {
@@ -249,4 +405,36 @@ final class FakeArrayBuffers implements JCGLArrayBuffersType
     sb.append(this.bind == null ? "none" : this.bind);
     return new JCGLExceptionBufferNotBound(sb.toString());
   }
+
+  @Override
+  public void arrayBufferCopy(
+    final JCGLArrayBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLArrayBufferUsableType target,
+    final long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    final FakeBuffer s = this.checkArray(source);
+    final FakeBuffer t = this.checkArray(target);
+    FakeBuffer.checkNotMapped(s);
+    FakeBuffer.checkNotMapped(t);
+    JCGLBufferCopies.checkCopy(source, source_range, target, target_offset);
+
+    LOG.trace(
+      "copy {} {} -> {} {}",
+      source,
+      source_range,
+      target,
+      Long.valueOf(target_offset));
+
+    final ByteBuffer s_data = s.getData();
+    final ByteBuffer t_data = t.getData();
+    final long lo = source_range.getLower();
+    final long hi = source_range.getUpper();
+    for (long index = lo; Long.compareUnsigned(index, hi) <= 0; ++index) {
+      final int ti = (int) (target_offset + (index - lo));
+      t_data.put(ti, s_data.get((int) index));
+    }
+  }
 }
@@ -56,6 +56,7 @@ final class FakeArrayObjects implements JCGLArrayObjectsType
   private static final RangeInclusiveI MAX_ATTRIBS_RANGE;
   private static final Logger LOG;
   private static final RangeInclusiveI VALID_ELEMENT_COUNT;
+  private static final RangeInclusiveI VALID_ELEMENT_COUNT_PACKED;
   private static final String ATTR_FLOAT_TRACE_FORMAT;
   private static final String ATTR_INTEGRAL_TRACE_FORMAT;
   private static final String ATTR_DISABLED_TRACE_FORMAT;
@@ -63,6 +64,7 @@ final class FakeArrayObjects implements JCGLArrayObjectsType
   static {
     MAX_ATTRIBS_RANGE = new RangeInclusiveI(16, Integer.MAX_VALUE);
     VALID_ELEMENT_COUNT = new RangeInclusiveI(1, 4);
+    VALID_ELEMENT_COUNT_PACKED = new RangeInclusiveI(4, 4);
     LOG = LoggerFactory.getLogger(FakeArrayObjects.class);
 
     ATTR_FLOAT_TRACE_FORMAT =
@@ -431,7 +433,7 @@ final class FakeArrayObjects implements JCGLArrayObjectsType
       RangeCheck.checkIncludedInInteger(
         elements,
         "Element count",
-        VALID_ELEMENT_COUNT,
+        type.isPacked() ? VALID_ELEMENT_COUNT_PACKED : VALID_ELEMENT_COUNT,
         "Valid element counts");
       RangeCheck.checkIncludedInInteger(
         stride, "Stride", Ranges.NATURAL_INTEGER, "Valid strides");
@@ -17,16 +17,22 @@
 package com.io7m.jcanephora.fake;
 
 import com.io7m.jcanephora.core.JCGLBufferUsableType;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLUsageHint;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 abstract class FakeBuffer extends FakeReferable implements JCGLBufferUsableType
 {
   private final JCGLUsageHint usage;
   private final UnsignedRangeInclusiveL range;
+  private @Nullable UnsignedRangeInclusiveL mapped;
+  private boolean mapped_flush_explicit;
   private final ByteBuffer data;
 
   FakeBuffer(
@@ -58,4 +64,80 @@ abstract class FakeBuffer extends FakeReferable implements JCGLBufferUsableType
   {
     return this.data;
   }
+
+  /**
+   * @param r The range of bytes
+   *
+   * @return A view of the range {@code r} of the buffer's storage, in native
+   * byte order
+   */
+
+  public final ByteBuffer getDataRange(
+    final UnsignedRangeInclusiveL r)
+  {
+    final ByteBuffer view = this.data.duplicate();
+
+    /*
+     * XXX: Clearly overflowing integers.
+     */
+
+    view.position((int) r.getLower());
+    view.limit((int) (r.getUpper() + 1L));
+    final ByteBuffer slice = view.slice();
+    slice.order(ByteOrder.nativeOrder());
+    return slice;
+  }
+
+  static void checkNotMapped(
+    final FakeBuffer b)
+    throws JCGLExceptionBufferMapped
+  {
+    final UnsignedRangeInclusiveL r = b.mapped;
+    if (r != null) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Buffer is mapped.");
+      sb.append(System.lineSeparator());
+      sb.append("  Buffer: ");
+      sb.append(b);
+      sb.append(System.lineSeparator());
+      sb.append("  Mapped range: ");
+      sb.append(r);
+      throw new JCGLExceptionBufferMapped(sb.toString());
+    }
+  }
+
+  static UnsignedRangeInclusiveL checkMapped(
+    final FakeBuffer b)
+    throws JCGLExceptionBufferNotMapped
+  {
+    final UnsignedRangeInclusiveL r = b.mapped;
+    if (r == null) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Buffer is not mapped.");
+      sb.append(System.lineSeparator());
+      sb.append("  Buffer: ");
+      sb.append(b);
+      throw new JCGLExceptionBufferNotMapped(sb.toString());
+    }
+    return r;
+  }
+
+  final boolean isMappedFlushExplicit()
+  {
+    return this.mapped_flush_explicit;
+  }
+
+  final void setMapped(
+    final UnsignedRangeInclusiveL r,
+    final boolean flush_explicit)
+  {
+    this.mapped = NullCheck.notNull(r, "Range");
+    this.mapped_flush_explicit = flush_explicit;
+  }
+
+  final void setUnmapped()
+  {
+    this.mapped = null;
+    this.mapped_flush_explicit = false;
+  }
 }
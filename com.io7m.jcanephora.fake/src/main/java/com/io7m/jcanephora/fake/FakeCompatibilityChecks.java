@@ -28,11 +28,16 @@ import com.io7m.jcanephora.core.JCGLFramebufferDrawBufferType;
 import com.io7m.jcanephora.core.JCGLFramebufferUsableType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
 import com.io7m.jcanephora.core.JCGLIndexBufferUsableType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryUsableType;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLSyncUsableType;
 import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
 import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
 import com.io7m.jcanephora.core.JCGLTimerQueryUsableType;
+import com.io7m.jcanephora.core.JCGLUniformBufferUsableType;
 import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.junreachable.UnreachableCodeException;
@@ -220,6 +225,13 @@ final class FakeCompatibilityChecks
     return (FakeProgramShader) checkAny(c, p);
   }
 
+  public static FakeProgramPending checkProgramPending(
+    final FakeContext c,
+    final JCGLProgramPendingType p)
+  {
+    return (FakeProgramPending) checkAny(c, p);
+  }
+
   public static FakeTextureUnit checkTextureUnit(
     final FakeContext c,
     final JCGLTextureUnitType u)
@@ -275,4 +287,36 @@ final class FakeCompatibilityChecks
   {
     return (FakeTimerQuery) checkAny(c, q);
   }
+
+  public static FakePrimitivesWrittenQuery checkPrimitivesWrittenQuery(
+    final FakeContext c,
+    final JCGLPrimitivesWrittenQueryUsableType q)
+  {
+    return (FakePrimitivesWrittenQuery) checkAny(c, q);
+  }
+
+  public static FakeSync checkSync(
+    final FakeContext c,
+    final JCGLSyncUsableType s)
+  {
+    return (FakeSync) checkAny(c, s);
+  }
+
+  public static void checkUniformBuffer(
+    final FakeContext current,
+    final JCGLUniformBufferUsableType x)
+    throws JCGLExceptionWrongContext
+  {
+    NullCheck.notNull(x, "Uniform buffer");
+    checkAny(current, x);
+  }
+
+  public static void checkIndirectBuffer(
+    final FakeContext current,
+    final JCGLIndirectBufferUsableType x)
+    throws JCGLExceptionWrongContext
+  {
+    NullCheck.notNull(x, "Indirect buffer");
+    checkAny(current, x);
+  }
 }
@@ -25,6 +25,8 @@ import com.io7m.jcanephora.core.api.JCGLContextUsableType;
 import com.io7m.jcanephora.core.api.JCGLImplementationType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.Ranges;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +36,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 /**
  * The type of fake contexts.
@@ -56,6 +59,8 @@ public final class FakeContext implements JCGLContextType
   private final AtomicInteger next_id;
   private final FakeShaderListenerType shader_listener;
   private volatile boolean destroyed;
+  private volatile LongSupplier sync_clock;
+  private volatile long sync_latency;
 
   /**
    * Construct a context.
@@ -74,6 +79,8 @@ public final class FakeContext implements JCGLContextType
     throws JCGLExceptionNonCompliant
   {
     this.next_id = new AtomicInteger(1);
+    this.sync_clock = System::nanoTime;
+    this.sync_latency = 0L;
     this.shader_listener = NullCheck.notNull(in_listener, "Listener");
     this.gl33 = new FakeInterfaceGL33(this);
     this.destroyed = false;
@@ -92,6 +99,49 @@ public final class FakeContext implements JCGLContextType
     return this.next_id.getAndIncrement();
   }
 
+  LongSupplier getSyncClock()
+  {
+    return this.sync_clock;
+  }
+
+  long getSyncLatency()
+  {
+    return this.sync_latency;
+  }
+
+  /**
+   * Set the clock used to decide when fence sync objects created on this
+   * context become signalled. The clock must return a monotonically
+   * increasing time in nanoseconds. The default clock is {@link
+   * System#nanoTime()}.
+   *
+   * @param clock The clock
+   */
+
+  public void setSyncClock(
+    final LongSupplier clock)
+  {
+    this.sync_clock = NullCheck.notNull(clock, "Clock");
+  }
+
+  /**
+   * Set the time in nanoseconds that must elapse, according to the sync
+   * clock, between the insertion of a fence and the fence becoming
+   * signalled. The default latency is {@code 0}, meaning that fences are
+   * signalled immediately.
+   *
+   * @param latency The latency in nanoseconds
+   *
+   * @see #setSyncClock(LongSupplier)
+   */
+
+  public void setSyncLatency(
+    final long latency)
+  {
+    this.sync_latency = RangeCheck.checkIncludedInLong(
+      latency, "Latency", Ranges.NATURAL_LONG, "Valid latencies");
+  }
+
   void setSharedWith(final FakeContext other)
   {
     LOG.debug("sharing context {} with {}", this, other);
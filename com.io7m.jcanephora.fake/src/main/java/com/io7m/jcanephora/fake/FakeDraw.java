@@ -16,16 +16,27 @@
 
 package com.io7m.jcanephora.fake;
 
+import com.io7m.jcanephora.core.JCGLDrawChecks;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndexBufferUsableType;
+import com.io7m.jcanephora.core.JCGLIndirectCommands;
 import com.io7m.jcanephora.core.JCGLPrimitives;
 import com.io7m.jcanephora.core.api.JCGLDrawType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Optional;
+
 final class FakeDraw implements JCGLDrawType
 {
   private static final Logger LOG;
@@ -35,15 +46,130 @@ final class FakeDraw implements JCGLDrawType
   }
 
   private final FakeIndexBuffers index_buffers;
+  private final FakeIndirectBuffers indirect_buffers;
+  private final FakeTransformFeedback feedback;
 
   FakeDraw(
     final FakeContext in_c,
     final FakeShaders in_shaders,
-    final FakeIndexBuffers in_index_buffers)
+    final FakeIndexBuffers in_index_buffers,
+    final FakeIndirectBuffers in_indirect_buffers,
+    final FakeTransformFeedback in_feedback)
   {
     NullCheck.notNull(in_c, "Context");
     NullCheck.notNull(in_shaders, "Shaders");
     this.index_buffers = NullCheck.notNull(in_index_buffers, "Index buffers");
+    this.indirect_buffers =
+      NullCheck.notNull(in_indirect_buffers, "Indirect buffers");
+    this.feedback = NullCheck.notNull(in_feedback, "Transform feedback");
+  }
+
+  private static ByteBuffer commandData(
+    final FakeBuffer b)
+  {
+    final ByteBuffer data = b.getData().duplicate();
+    data.order(ByteOrder.nativeOrder());
+    return data;
+  }
+
+  private static void checkReserved(
+    final int reserved,
+    final long offset)
+    throws RangeCheckException
+  {
+    if (reserved != 0) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Reserved field of indirect command must be zero.");
+      sb.append(System.lineSeparator());
+      sb.append("  Offset: ");
+      sb.append(offset);
+      sb.append(System.lineSeparator());
+      sb.append("  Value: ");
+      sb.append(reserved);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+  }
+
+  private static long checkArraysCommand(
+    final ByteBuffer data,
+    final long offset)
+    throws RangeCheckException
+  {
+    final int base = Math.toIntExact(offset);
+    final int count = data.getInt(base);
+    final int instances = data.getInt(base + 4);
+    final int first = data.getInt(base + 8);
+    final int reserved = data.getInt(base + 12);
+
+    LOG.trace(
+      "indirect arrays @{}: count {} instances {} first {}",
+      Long.valueOf(offset),
+      Integer.valueOf(count),
+      Integer.valueOf(instances),
+      Integer.valueOf(first));
+
+    RangeCheck.checkIncludedInInteger(
+      count, "Count", Ranges.NATURAL_INTEGER, "Valid count");
+    RangeCheck.checkIncludedInInteger(
+      instances, "Instances", Ranges.NATURAL_INTEGER, "Valid instances");
+    RangeCheck.checkIncludedInInteger(
+      first, "First", Ranges.NATURAL_INTEGER, "Valid index");
+    checkReserved(reserved, offset);
+    return (long) count * (long) instances;
+  }
+
+  private static long checkElementsCommand(
+    final ByteBuffer data,
+    final long offset,
+    final long indices)
+    throws RangeCheckException
+  {
+    final int base = Math.toIntExact(offset);
+    final int count = data.getInt(base);
+    final int instances = data.getInt(base + 4);
+    final int first = data.getInt(base + 8);
+    final int base_vertex = data.getInt(base + 12);
+    final int reserved = data.getInt(base + 16);
+
+    LOG.trace(
+      "indirect elements @{}: count {} instances {} first {} base {}",
+      Long.valueOf(offset),
+      Integer.valueOf(count),
+      Integer.valueOf(instances),
+      Integer.valueOf(first),
+      Integer.valueOf(base_vertex));
+
+    RangeCheck.checkIncludedInInteger(
+      instances, "Instances", Ranges.NATURAL_INTEGER, "Valid instances");
+    JCGLDrawChecks.checkElementRange(
+      Integer.toUnsignedLong(first), count, indices);
+    checkReserved(reserved, offset);
+    return (long) count * (long) instances;
+  }
+
+  private JCGLIndexBufferUsableType currentIndexBuffer()
+    throws JCGLExceptionBufferNotBound
+  {
+    final Optional<JCGLIndexBufferUsableType> ib_opt =
+      this.index_buffers.indexBufferGetCurrentlyBound();
+    if (ib_opt.isPresent()) {
+      return ib_opt.get();
+    }
+    throw new JCGLExceptionBufferNotBound(
+      "No index buffer is currently bound");
+  }
+
+  private void onMultiDraw(
+    final JCGLPrimitives p,
+    final IntBuffer count,
+    final int draws)
+    throws JCGLException
+  {
+    final int c_base = count.position();
+    for (int index = 0; index < draws; ++index) {
+      this.feedback.onDraw(p, (long) count.get(c_base + index));
+    }
   }
 
   @Override
@@ -64,6 +190,7 @@ final class FakeDraw implements JCGLDrawType
       Integer.valueOf(count),
       p,
       Integer.valueOf(first));
+    this.feedback.onDraw(p, (long) count);
   }
 
   @Override
@@ -88,6 +215,7 @@ final class FakeDraw implements JCGLDrawType
       p,
       Integer.valueOf(first),
       Integer.valueOf(instances));
+    this.feedback.onDraw(p, (long) count * (long) instances);
   }
 
   @Override
@@ -98,6 +226,7 @@ final class FakeDraw implements JCGLDrawType
 
     if (this.index_buffers.indexBufferIsBound()) {
       LOG.trace("drawElements: {}", p);
+      this.feedback.onDraw(p, this.currentIndexBuffer().indices());
     } else {
       throw new JCGLExceptionBufferNotBound("No index buffer is bound");
     }
@@ -115,9 +244,202 @@ final class FakeDraw implements JCGLDrawType
 
     if (this.index_buffers.indexBufferIsBound()) {
       LOG.trace("drawElementsInstanced: {}", p);
+      this.feedback.onDraw(
+        p, this.currentIndexBuffer().indices() * (long) instances);
     } else {
       throw new JCGLExceptionBufferNotBound(
         "No index buffer is currently bound");
     }
   }
+
+  @Override
+  public void drawElementsRange(
+    final JCGLPrimitives p,
+    final long first,
+    final int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JCGLIndexBufferUsableType ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    LOG.trace(
+      "drawElementsRange: count {} of {} from {}",
+      Integer.valueOf(count),
+      p,
+      Long.valueOf(first));
+    this.feedback.onDraw(p, (long) count);
+  }
+
+  @Override
+  public void drawElementsBaseVertex(
+    final JCGLPrimitives p,
+    final long first,
+    final int count,
+    final int base_vertex)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JCGLIndexBufferUsableType ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    LOG.trace(
+      "drawElementsBaseVertex: count {} of {} from {}, base vertex {}",
+      Integer.valueOf(count),
+      p,
+      Long.valueOf(first),
+      Integer.valueOf(base_vertex));
+    this.feedback.onDraw(p, (long) count);
+  }
+
+  @Override
+  public void drawRangeElements(
+    final JCGLPrimitives p,
+    final int start,
+    final int end,
+    final long first,
+    final int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    RangeCheck.checkIncludedInInteger(
+      start, "Start", Ranges.NATURAL_INTEGER, "Valid index");
+    RangeCheck.checkGreaterEqualInteger(end, "End", start, "Start");
+
+    final JCGLIndexBufferUsableType ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    LOG.trace(
+      "drawRangeElements: count {} of {} from {}, range [{}, {}]",
+      Integer.valueOf(count),
+      p,
+      Long.valueOf(first),
+      Integer.valueOf(start),
+      Integer.valueOf(end));
+    this.feedback.onDraw(p, (long) count);
+  }
+
+  @Override
+  public void multiDrawArrays(
+    final JCGLPrimitives p,
+    final IntBuffer first,
+    final IntBuffer count)
+    throws JCGLException, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final int draws = JCGLDrawChecks.checkMultiDraw(first, count);
+    LOG.trace("multiDrawArrays: {} draws of {}", Integer.valueOf(draws), p);
+    this.onMultiDraw(p, count, draws);
+  }
+
+  @Override
+  public void multiDrawElements(
+    final JCGLPrimitives p,
+    final IntBuffer first,
+    final IntBuffer count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JCGLIndexBufferUsableType ib = this.currentIndexBuffer();
+    final int draws =
+      JCGLDrawChecks.checkMultiDrawElements(first, count, ib.indices());
+    LOG.trace("multiDrawElements: {} draws of {}", Integer.valueOf(draws), p);
+    this.onMultiDraw(p, count, draws);
+  }
+
+  @Override
+  public void drawArraysIndirect(
+    final JCGLPrimitives p,
+    final long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    this.multiDrawArraysIndirect(p, offset, 1, 0);
+  }
+
+  @Override
+  public void drawElementsIndirect(
+    final JCGLPrimitives p,
+    final long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    this.multiDrawElementsIndirect(p, offset, 1, 0);
+  }
+
+  @Override
+  public void multiDrawArraysIndirect(
+    final JCGLPrimitives p,
+    final long offset,
+    final int draws,
+    final int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final FakeIndirectBuffer b = this.indirect_buffers.getCurrentDrawable();
+    final int actual_stride = JCGLIndirectCommands.checkCommands(
+      b,
+      offset,
+      draws,
+      stride,
+      JCGLIndirectCommands.DRAW_ARRAYS_COMMAND_SIZE_BYTES);
+
+    LOG.trace(
+      "multiDrawArraysIndirect {} {} {} {}",
+      p,
+      Long.valueOf(offset),
+      Integer.valueOf(draws),
+      Integer.valueOf(actual_stride));
+
+    final ByteBuffer data = commandData(b);
+    for (int index = 0; index < draws; ++index) {
+      this.feedback.onDraw(p, checkArraysCommand(
+        data, offset + ((long) index * (long) actual_stride)));
+    }
+  }
+
+  @Override
+  public void multiDrawElementsIndirect(
+    final JCGLPrimitives p,
+    final long offset,
+    final int draws,
+    final int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JCGLIndexBufferUsableType ib = this.currentIndexBuffer();
+    final FakeIndirectBuffer b = this.indirect_buffers.getCurrentDrawable();
+    final int actual_stride = JCGLIndirectCommands.checkCommands(
+      b,
+      offset,
+      draws,
+      stride,
+      JCGLIndirectCommands.DRAW_ELEMENTS_COMMAND_SIZE_BYTES);
+
+    LOG.trace(
+      "multiDrawElementsIndirect {} {} {} {}",
+      p,
+      Long.valueOf(offset),
+      Integer.valueOf(draws),
+      Integer.valueOf(actual_stride));
+
+    final ByteBuffer data = commandData(b);
+    final long indices = ib.indices();
+    for (int index = 0; index < draws; ++index) {
+      this.feedback.onDraw(p, checkElementsCommand(
+        data, offset + ((long) index * (long) actual_stride), indices));
+    }
+  }
 }
@@ -17,9 +17,13 @@
 package com.io7m.jcanephora.fake;
 
 import com.io7m.jcanephora.core.JCGLArrayObjectUsableType;
+import com.io7m.jcanephora.core.JCGLBufferCopies;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionIndexBufferAlreadyConfigured;
 import com.io7m.jcanephora.core.JCGLIndexBufferType;
@@ -32,7 +36,9 @@ import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 final class FakeIndexBuffers implements JCGLIndexBuffersType
 {
@@ -86,7 +93,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
     NullCheck.notNull(i, "Index buffer");
-    this.checkIndexBuffer(i);
+    final FakeIndexBuffer ib = this.checkIndexBuffer(i);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -95,6 +102,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
     if (i_opt.isPresent()) {
       final JCGLIndexBufferUsableType current_ib = i_opt.get();
       if (Objects.equals(i, current_ib)) {
+        FakeBuffer.checkNotMapped(ib);
         final UnsignedRangeInclusiveL r = i.byteRange();
         final long size = r.getInterval();
         final ByteBuffer b = f.apply(size);
@@ -155,7 +163,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
   public void indexBufferReallocate(final JCGLIndexBufferUsableType i)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
-    this.checkIndexBuffer(i);
+    final FakeIndexBuffer ib = this.checkIndexBuffer(i);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -178,6 +186,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
           final int i_index = (int) index;
           fa_data.put(i_index, (byte) 0);
         }
+        ib.setUnmapped();
         return;
       }
     }
@@ -284,6 +293,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
   {
     final FakeIndexBuffer i = this.checkIndexBuffer(ii);
     i.setDeleted();
+    i.setUnmapped();
 
     for (final JCGLReferenceContainerType c : i.referringContainers()) {
       if (c instanceof FakeArrayObject) {
@@ -300,7 +310,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
   {
     NullCheck.notNull(u, "Update");
     final JCGLIndexBufferType ii = u.buffer();
-    this.checkIndexBuffer(ii);
+    final FakeIndexBuffer ib = this.checkIndexBuffer(ii);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -309,6 +319,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
     if (i_opt.isPresent()) {
       final JCGLIndexBufferUsableType current_ib = i_opt.get();
       if (Objects.equals(ii, current_ib)) {
+        FakeBuffer.checkNotMapped(ib);
         final UnsignedRangeInclusiveL r = u.dataUpdateRange();
         final ByteBuffer data = u.data();
         data.rewind();
@@ -323,7 +334,7 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
         final long hi = r.getUpper();
         for (long index = lo; Long.compareUnsigned(index, hi) <= 0; ++index) {
           final int i_index = (int) index;
-          fa_data.put(i_index, data.get(i_index));
+          fa_data.put(i_index, data.get((int) (index - lo)));
         }
         return;
       }
@@ -332,6 +343,98 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
     throw notBound(ii, i_opt);
   }
 
+  @Override
+  public ByteBuffer indexBufferMapRange(
+    final JCGLIndexBufferUsableType i,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final FakeIndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        FakeBuffer.checkNotMapped(ib);
+        UnsignedRangeCheck.checkRangeIncludedInLong(
+          range, "Map range", i.byteRange(), "Buffer range");
+
+        LOG.trace("map {} {} {}", i, range, flags);
+
+        final boolean explicit =
+          flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+        ib.setMapped(range, explicit);
+        return ib.getDataRange(range);
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
+  @Override
+  public void indexBufferFlushMappedRange(
+    final JCGLIndexBufferUsableType i,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    final FakeIndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        final UnsignedRangeInclusiveL mapped = FakeBuffer.checkMapped(ib);
+        UnsignedRangeCheck.checkRangeIncludedInLong(
+          range,
+          "Flush range",
+          new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+          "Mapped range");
+
+        return;
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
+  @Override
+  public boolean indexBufferUnmap(
+    final JCGLIndexBufferUsableType i)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    final FakeIndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        FakeBuffer.checkMapped(ib);
+        LOG.trace("unmap {}", i);
+
+        ib.setUnmapped();
+        return true;
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
   @Override
   public boolean indexBufferIsBound()
   {
@@ -339,4 +442,36 @@ final class FakeIndexBuffers implements JCGLIndexBuffersType
       this.array_objects.arrayObjectGetCurrentlyBound();
     return ao.indexBufferBound().isPresent();
   }
+
+  @Override
+  public void indexBufferCopy(
+    final JCGLIndexBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLIndexBufferUsableType target,
+    final long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    final FakeIndexBuffer s = this.checkIndexBuffer(source);
+    final FakeIndexBuffer t = this.checkIndexBuffer(target);
+    FakeBuffer.checkNotMapped(s);
+    FakeBuffer.checkNotMapped(t);
+    JCGLBufferCopies.checkCopy(source, source_range, target, target_offset);
+
+    LOG.trace(
+      "copy {} {} -> {} {}",
+      source,
+      source_range,
+      target,
+      Long.valueOf(target_offset));
+
+    final ByteBuffer s_data = s.getData();
+    final ByteBuffer t_data = t.getData();
+    final long lo = source_range.getLower();
+    final long hi = source_range.getUpper();
+    for (long index = lo; Long.compareUnsigned(index, hi) <= 0; ++index) {
+      final int ti = (int) (target_offset + (index - lo));
+      t_data.put(ti, s_data.get((int) index));
+    }
+  }
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndirectBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+final class FakeIndirectBuffers implements JCGLIndirectBuffersType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(FakeIndirectBuffers.class);
+  }
+
+  private final FakeContext context;
+  private @Nullable JCGLIndirectBufferUsableType bind;
+
+  FakeIndirectBuffers(final FakeContext c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+  }
+
+  /**
+   * @return The currently bound indirect buffer
+   *
+   * @throws JCGLExceptionBufferNotBound If no indirect buffer is bound
+   * @throws JCGLExceptionBufferMapped   If the bound buffer is mapped
+   */
+
+  FakeIndirectBuffer getCurrentDrawable()
+    throws JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped
+  {
+    final JCGLIndirectBufferUsableType b = this.bind;
+    if (b == null) {
+      throw new JCGLExceptionBufferNotBound(
+        "No indirect buffer is currently bound");
+    }
+    final FakeIndirectBuffer fb = (FakeIndirectBuffer) b;
+    FakeBuffer.checkNotMapped(fb);
+    return fb;
+  }
+
+  private void actualBind(final JCGLIndirectBufferUsableType b)
+  {
+    LOG.trace("bind {} -> {}", this.bind, b);
+    if (!Objects.equals(b, this.bind)) {
+      this.bind = b;
+    }
+  }
+
+  private void actualUnbind()
+  {
+    LOG.trace("unbind {} -> {}", this.bind, null);
+    if (this.bind != null) {
+      this.bind = null;
+    }
+  }
+
+  private FakeBuffer checkIndirect(final JCGLIndirectBufferUsableType b)
+  {
+    FakeCompatibilityChecks.checkIndirectBuffer(this.context, b);
+    JCGLResources.checkNotDeleted(b);
+    return (FakeBuffer) b;
+  }
+
+  @Override
+  public boolean indirectDrawIsSupported()
+    throws JCGLException
+  {
+    return true;
+  }
+
+  @Override
+  public boolean indirectMultiDrawIsSupported()
+    throws JCGLException
+  {
+    return true;
+  }
+
+  @Override
+  public JCGLIndirectBufferType indirectBufferAllocate(
+    final long size,
+    final JCGLUsageHint usage)
+    throws JCGLException, JCGLExceptionUnsupportedFeature
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid size range");
+
+    LOG.debug("allocate ({} bytes, {})", Long.valueOf(size), usage);
+
+    final ByteBuffer data = ByteBuffer.allocate((int) size);
+    final FakeIndirectBuffer b = new FakeIndirectBuffer(
+      this.context, this.context.getFreshID(), data, usage);
+
+    this.actualBind(b);
+    return b;
+  }
+
+  @Override
+  public Optional<JCGLIndirectBufferUsableType>
+  indirectBufferGetCurrentlyBound()
+    throws JCGLException
+  {
+    return Optional.ofNullable(this.bind);
+  }
+
+  @Override
+  public boolean indirectBufferAnyIsBound()
+    throws JCGLException
+  {
+    return this.bind != null;
+  }
+
+  @Override
+  public boolean indirectBufferIsBound(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    this.checkIndirect(b);
+    return Objects.equals(b, this.bind);
+  }
+
+  @Override
+  public void indirectBufferBind(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    this.checkIndirect(b);
+    this.actualBind(b);
+  }
+
+  @Override
+  public void indirectBufferUnbind()
+    throws JCGLException
+  {
+    this.actualUnbind();
+  }
+
+  @Override
+  public void indirectBufferDelete(
+    final JCGLIndirectBufferType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final FakeBuffer fb = this.checkIndirect(b);
+
+    LOG.debug("delete {}", Integer.valueOf(b.glName()));
+
+    fb.setDeleted();
+    fb.setUnmapped();
+
+    if (Objects.equals(b, this.bind)) {
+      this.actualUnbind();
+    }
+  }
+
+  @Override
+  public void indirectBufferUpdate(
+    final JCGLBufferUpdateType<JCGLIndirectBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(u, "Update");
+    final JCGLIndirectBufferType b = u.buffer();
+    final FakeBuffer fb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      FakeBuffer.checkNotMapped(fb);
+      final UnsignedRangeInclusiveL r = u.dataUpdateRange();
+      final ByteBuffer data = u.data();
+      data.rewind();
+      final ByteBuffer fb_data = fb.getData();
+
+      /*
+       * XXX: Clearly overflowing integers.
+       */
+
+      final long lo = r.getLower();
+      final long hi = r.getUpper();
+      for (long index = lo; Long.compareUnsigned(index, hi) <= 0; ++index) {
+        final int ii = (int) index;
+        fb_data.put(ii, data.get((int) (index - lo)));
+      }
+      return;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public ByteBuffer indirectBufferMapRange(
+    final JCGLIndirectBufferUsableType b,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final FakeBuffer fb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      FakeBuffer.checkNotMapped(fb);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range, "Map range", b.byteRange(), "Buffer range");
+
+      LOG.trace("map {} {} {}", b, range, flags);
+
+      final boolean explicit =
+        flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+      fb.setMapped(range, explicit);
+      return fb.getDataRange(range);
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public void indirectBufferFlushMappedRange(
+    final JCGLIndirectBufferUsableType b,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    final FakeBuffer fb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      final UnsignedRangeInclusiveL mapped = FakeBuffer.checkMapped(fb);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range,
+        "Flush range",
+        new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+        "Mapped range");
+      return;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public boolean indirectBufferUnmap(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    final FakeBuffer fb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      FakeBuffer.checkMapped(fb);
+      LOG.trace("unmap {}", b);
+      fb.setUnmapped();
+      return true;
+    }
+
+    throw this.notBound(b);
+  }
+
+  private JCGLExceptionBufferNotBound notBound(
+    final JCGLIndirectBufferUsableType b)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Buffer is not bound.");
+    sb.append(System.lineSeparator());
+    sb.append("  Required: ");
+    sb.append(b);
+    sb.append(System.lineSeparator());
+    sb.append("  Actual: ");
+    sb.append(this.bind == null ? "none" : this.bind);
+    return new JCGLExceptionBufferNotBound(sb.toString());
+  }
+}
@@ -27,13 +27,19 @@ import com.io7m.jcanephora.core.api.JCGLDepthBuffersType;
 import com.io7m.jcanephora.core.api.JCGLDrawType;
 import com.io7m.jcanephora.core.api.JCGLFramebuffersType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
 import com.io7m.jcanephora.core.api.JCGLPolygonModesType;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
 import com.io7m.jcanephora.core.api.JCGLScissorType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
 import com.io7m.jcanephora.core.api.JCGLStencilBuffersType;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
 import com.io7m.jcanephora.core.api.JCGLTexturesType;
 import com.io7m.jcanephora.core.api.JCGLTimersType;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
 import com.io7m.jcanephora.core.api.JCGLViewportsType;
 import com.io7m.junreachable.UnimplementedCodeException;
 
@@ -54,6 +60,12 @@ final class FakeInterfaceGL33 implements JCGLInterfaceGL33Type
   private final FakeScissor scissor;
   private final FakeFramebuffers framebuffers;
   private final FakeTimers timers;
+  private final FakeSyncs syncs;
+  private final FakeReadbacks readbacks;
+  private final FakeUniformBuffers uniform_buffers;
+  private final FakeIndirectBuffers indirect_buffers;
+  private final FakePrimitiveRestart primitive_restart;
+  private final FakeTransformFeedback transform_feedback;
 
   FakeInterfaceGL33(final FakeContext c)
     throws JCGLExceptionNonCompliant
@@ -63,7 +75,15 @@ final class FakeInterfaceGL33 implements JCGLInterfaceGL33Type
     this.array_objects =
       new FakeArrayObjects(c, this.array_buffers, this.index_buffers);
     this.shaders = new FakeShaders(c);
-    this.draw = new FakeDraw(c, this.shaders, this.index_buffers);
+    this.indirect_buffers = new FakeIndirectBuffers(c);
+    this.primitive_restart = new FakePrimitiveRestart(c);
+    this.transform_feedback = new FakeTransformFeedback(c, this.shaders);
+    this.draw = new FakeDraw(
+      c,
+      this.shaders,
+      this.index_buffers,
+      this.indirect_buffers,
+      this.transform_feedback);
     this.clear = new FakeClear(c);
     this.textures = new FakeTextures(c);
     this.framebuffers = new FakeFramebuffers(c, this.textures);
@@ -74,6 +94,9 @@ final class FakeInterfaceGL33 implements JCGLInterfaceGL33Type
     this.viewports = new FakeViewports(c);
     this.scissor = new FakeScissor(c);
     this.timers = new FakeTimers(c);
+    this.syncs = new FakeSyncs(c);
+    this.readbacks = new FakeReadbacks(c, this.textures, this.syncs);
+    this.uniform_buffers = new FakeUniformBuffers(c);
   }
 
   @Override
@@ -177,4 +200,40 @@ final class FakeInterfaceGL33 implements JCGLInterfaceGL33Type
   {
     return this.timers;
   }
+
+  @Override
+  public JCGLReadbacksType readbacks()
+  {
+    return this.readbacks;
+  }
+
+  @Override
+  public JCGLSyncsType syncs()
+  {
+    return this.syncs;
+  }
+
+  @Override
+  public JCGLUniformBuffersType uniformBuffers()
+  {
+    return this.uniform_buffers;
+  }
+
+  @Override
+  public JCGLIndirectBuffersType indirectBuffers()
+  {
+    return this.indirect_buffers;
+  }
+
+  @Override
+  public JCGLPrimitiveRestartType primitiveRestart()
+  {
+    return this.primitive_restart;
+  }
+
+  @Override
+  public JCGLTransformFeedbackType transformFeedback()
+  {
+    return this.transform_feedback;
+  }
 }
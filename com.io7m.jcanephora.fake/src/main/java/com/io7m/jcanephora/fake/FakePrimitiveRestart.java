@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import com.io7m.jnull.NullCheck;
+
+final class FakePrimitiveRestart implements JCGLPrimitiveRestartType
+{
+  private boolean enabled;
+  private int current_index;
+
+  FakePrimitiveRestart(final FakeContext c)
+  {
+    final FakeContext context = NullCheck.notNull(c, "Context");
+    this.enabled = false;
+    this.current_index = 0;
+  }
+
+  @Override
+  public void primitiveRestartDisable()
+    throws JCGLException
+  {
+    if (this.enabled) {
+      this.enabled = false;
+    }
+  }
+
+  @Override
+  public void primitiveRestartEnable(
+    final int index)
+    throws JCGLException
+  {
+    if (!this.enabled) {
+      this.enabled = true;
+    }
+    if (this.current_index != index) {
+      this.current_index = index;
+    }
+  }
+
+  @Override
+  public boolean primitiveRestartIsEnabled()
+    throws JCGLException
+  {
+    return this.enabled;
+  }
+
+  @Override
+  public int primitiveRestartGetIndex()
+    throws JCGLException
+  {
+    return this.current_index;
+  }
+}
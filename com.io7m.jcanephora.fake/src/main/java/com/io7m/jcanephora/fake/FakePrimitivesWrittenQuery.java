@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryType;
+
+final class FakePrimitivesWrittenQuery extends FakeObjectUnshared
+  implements JCGLPrimitivesWrittenQueryType
+{
+  private long primitives;
+  private boolean started;
+
+  FakePrimitivesWrittenQuery(
+    final FakeContext ctx,
+    final int id)
+  {
+    super(ctx, id);
+  }
+
+  long getPrimitives()
+  {
+    return this.primitives;
+  }
+
+  void setPrimitives(final long p)
+  {
+    this.primitives = p;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder("[PrimitivesWrittenQuery ");
+    sb.append(super.glName());
+    sb.append(']');
+    return sb.toString();
+  }
+
+  boolean isStarted()
+  {
+    return this.started;
+  }
+
+  void setStarted(final boolean s)
+  {
+    this.started = s;
+  }
+}
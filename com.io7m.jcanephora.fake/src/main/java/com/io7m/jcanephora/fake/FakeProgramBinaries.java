@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLProgramAttributeType;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLProgramUniformType;
+import com.io7m.jcanephora.core.JCGLType;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * <p>The encoding of fake program binaries.</p>
+ *
+ * <p>A fake program binary is simply a serialized copy of the reflected
+ * interface of a program, so that programs loaded from binaries have the same
+ * attributes, uniforms, and uniform blocks as the original program.</p>
+ */
+
+final class FakeProgramBinaries
+{
+  /**
+   * The binary format used for all fake program binaries.
+   */
+
+  static final int FORMAT = 0x10000;
+
+  private static final int MAGIC = 0x4A434642;
+
+  private FakeProgramBinaries()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Encode the interface of the given program.
+   *
+   * @param p The program
+   *
+   * @return The encoded program
+   */
+
+  static byte[] encode(
+    final JCGLProgramShaderUsableType p)
+  {
+    try (final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256)) {
+      try (final DataOutputStream out = new DataOutputStream(bytes)) {
+        out.writeInt(MAGIC);
+
+        final Map<String, JCGLProgramAttributeType> attributes =
+          p.attributes();
+        out.writeInt(attributes.size());
+        for (final JCGLProgramAttributeType a : attributes.values()) {
+          out.writeUTF(a.name());
+          out.writeInt(a.glName());
+          out.writeUTF(a.type().name());
+        }
+
+        final Map<String, JCGLProgramUniformType> uniforms = p.uniforms();
+        out.writeInt(uniforms.size());
+        for (final JCGLProgramUniformType u : uniforms.values()) {
+          out.writeUTF(u.name());
+          out.writeInt(u.glName());
+          out.writeUTF(u.type().name());
+          out.writeInt(u.size());
+        }
+
+        final Map<String, JCGLProgramUniformBlockType> blocks =
+          p.uniformBlocks();
+        out.writeInt(blocks.size());
+        for (final JCGLProgramUniformBlockType b : blocks.values()) {
+          out.writeUTF(b.name());
+          out.writeInt(b.glName());
+          out.writeLong(b.sizeBytes());
+        }
+      }
+      return bytes.toByteArray();
+    } catch (final IOException e) {
+      throw new UnreachableCodeException(e);
+    }
+  }
+
+  /**
+   * Decode the interface of a program.
+   *
+   * @param context    The current context
+   * @param p          The program that will own the interface
+   * @param data       The encoded program
+   * @param attributes The resulting attributes
+   * @param uniforms   The resulting uniforms
+   * @param blocks     The resulting uniform blocks
+   *
+   * @throws IOException If the data is not a valid fake program binary
+   */
+
+  static void decode(
+    final FakeContext context,
+    final JCGLProgramShaderUsableType p,
+    final byte[] data,
+    final Map<String, JCGLProgramAttributeType> attributes,
+    final Map<String, JCGLProgramUniformType> uniforms,
+    final Map<String, JCGLProgramUniformBlockType> blocks)
+    throws IOException
+  {
+    try (final DataInputStream in =
+           new DataInputStream(new ByteArrayInputStream(data))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Bad magic number");
+      }
+
+      final int attribute_count = in.readInt();
+      for (int index = 0; index < attribute_count; ++index) {
+        final String name = in.readUTF();
+        final int location = in.readInt();
+        final JCGLType type = readType(in);
+        attributes.put(
+          name, new FakeProgramAttribute(context, p, location, name, type));
+      }
+
+      final int uniform_count = in.readInt();
+      for (int index = 0; index < uniform_count; ++index) {
+        final String name = in.readUTF();
+        final int location = in.readInt();
+        final JCGLType type = readType(in);
+        final int size = in.readInt();
+        uniforms.put(
+          name,
+          new FakeProgramUniform(context, p, location, name, type, size));
+      }
+
+      final int block_count = in.readInt();
+      for (int index = 0; index < block_count; ++index) {
+        final String name = in.readUTF();
+        final int block_index = in.readInt();
+        final long size = in.readLong();
+        blocks.put(
+          name,
+          new FakeProgramUniformBlock(context, p, block_index, name, size));
+      }
+
+      if (in.read() != -1) {
+        throw new IOException("Trailing data");
+      }
+    }
+  }
+
+  private static JCGLType readType(
+    final DataInputStream in)
+    throws IOException
+  {
+    final String name = in.readUTF();
+    try {
+      return JCGLType.valueOf(name);
+    } catch (final IllegalArgumentException e) {
+      throw new IOException("Unrecognized type: " + name, e);
+    }
+  }
+}
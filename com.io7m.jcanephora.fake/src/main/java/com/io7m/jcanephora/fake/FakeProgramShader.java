@@ -18,10 +18,17 @@ package com.io7m.jcanephora.fake;
 
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLReferableType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -30,9 +37,13 @@ final class FakeProgramShader extends FakeObjectShared
   implements JCGLProgramShaderType
 {
   private final String name;
+  private final List<String> feedback_varyings;
+  private final JCGLTransformFeedbackBufferMode feedback_mode;
   private final Map<String, JCGLProgramAttributeType> attributes;
   private final Map<String, JCGLProgramUniformType> uniforms;
+  private final Map<String, JCGLProgramUniformBlockType> uniform_blocks;
   private final FakeReferenceContainer references;
+  private @Nullable JCGLUniformShadowCache shadow;
 
   FakeProgramShader(
     final FakeContext ctx,
@@ -42,16 +53,49 @@ final class FakeProgramShader extends FakeObjectShared
     final Optional<FakeGeometryShader> gs,
     final FakeFragmentShader fs,
     final Map<String, JCGLProgramAttributeType> in_attributes,
-    final Map<String, JCGLProgramUniformType> in_uniforms)
+    final Map<String, JCGLProgramUniformType> in_uniforms,
+    final Map<String, JCGLProgramUniformBlockType> in_blocks,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
+  {
+    this(
+      ctx,
+      id,
+      in_name,
+      in_attributes,
+      in_uniforms,
+      in_blocks,
+      in_varyings,
+      in_mode);
+    this.references.referenceAdd(vs);
+    this.references.referenceAdd(fs);
+    gs.ifPresent(this.references::referenceAdd);
+  }
+
+  /**
+   * Construct a program that does not refer to any shaders, such as a program
+   * created from a program binary.
+   */
+
+  FakeProgramShader(
+    final FakeContext ctx,
+    final int id,
+    final String in_name,
+    final Map<String, JCGLProgramAttributeType> in_attributes,
+    final Map<String, JCGLProgramUniformType> in_uniforms,
+    final Map<String, JCGLProgramUniformBlockType> in_blocks,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
   {
     super(ctx, id);
     this.name = NullCheck.notNull(in_name, "Name");
+    this.feedback_varyings = Collections.unmodifiableList(
+      new ArrayList<>(NullCheck.notNullAll(in_varyings, "Varyings")));
+    this.feedback_mode = NullCheck.notNull(in_mode, "Mode");
     this.attributes = NullCheck.notNull(in_attributes, "Attributes");
     this.uniforms = NullCheck.notNull(in_uniforms, "Uniforms");
+    this.uniform_blocks = NullCheck.notNull(in_blocks, "Uniform blocks");
     this.references = new FakeReferenceContainer(this, 3);
-    this.references.referenceAdd(vs);
-    this.references.referenceAdd(fs);
-    gs.ifPresent(this.references::referenceAdd);
   }
 
   @Override
@@ -72,9 +116,38 @@ final class FakeProgramShader extends FakeObjectShared
     return this.uniforms;
   }
 
+  @Override
+  public Map<String, JCGLProgramUniformBlockType> uniformBlocks()
+  {
+    return this.uniform_blocks;
+  }
+
+  @Override
+  public List<String> transformFeedbackVaryings()
+  {
+    return this.feedback_varyings;
+  }
+
+  @Override
+  public JCGLTransformFeedbackBufferMode transformFeedbackBufferMode()
+  {
+    return this.feedback_mode;
+  }
+
   @Override
   public Set<JCGLReferableType> references()
   {
     return this.references.references();
   }
+
+  @Nullable JCGLUniformShadowCache uniformShadow()
+  {
+    return this.shadow;
+  }
+
+  void setUniformShadow(
+    final @Nullable JCGLUniformShadowCache in_shadow)
+  {
+    this.shadow = in_shadow;
+  }
 }
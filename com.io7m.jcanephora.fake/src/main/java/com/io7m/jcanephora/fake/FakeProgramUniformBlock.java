@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.Ranges;
+
+/**
+ * A fake implementation of program uniform blocks.
+ */
+
+public final class FakeProgramUniformBlock extends FakeObjectPseudoShared
+  implements JCGLProgramUniformBlockType
+{
+  private final int index;
+  private final String name;
+  private final JCGLProgramShaderUsableType program;
+  private final long size;
+
+  /**
+   * Construct a uniform block.
+   *
+   * @param in_context The context
+   * @param in_program The owning program
+   * @param in_index   The uniform block index
+   * @param in_name    The uniform block name
+   * @param in_size    The size of the uniform block in bytes
+   */
+
+  public FakeProgramUniformBlock(
+    final FakeContext in_context,
+    final JCGLProgramShaderUsableType in_program,
+    final int in_index,
+    final String in_name,
+    final long in_size)
+  {
+    super(in_context);
+
+    this.program = NullCheck.notNull(in_program, "Program");
+    this.index = RangeCheck.checkIncludedInInteger(
+      in_index,
+      "Uniform block index",
+      Ranges.NATURAL_INTEGER,
+      "Valid uniform block indices");
+    this.name = NullCheck.notNull(in_name, "Uniform block name");
+    this.size = RangeCheck.checkIncludedInLong(
+      in_size, "Size", Ranges.POSITIVE_LONG, "Valid sizes");
+  }
+
+  @Override
+  public String name()
+  {
+    return this.name;
+  }
+
+  @Override
+  public JCGLProgramShaderUsableType program()
+  {
+    return this.program;
+  }
+
+  @Override
+  public long sizeBytes()
+  {
+    return this.size;
+  }
+
+  @Override
+  public int glName()
+  {
+    return this.index;
+  }
+}
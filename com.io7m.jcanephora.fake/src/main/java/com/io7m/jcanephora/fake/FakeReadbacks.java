@@ -0,0 +1,273 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fake readbacks. The data is copied into a pooled buffer at the moment the
+ * readback is requested, and the readback is completed by the first call to
+ * {@link #readbackPoll()} that observes the fence inserted at the same time as
+ * signalled. The pooled buffers stand in for pixel pack buffers, and are
+ * managed in the same way.
+ */
+
+final class FakeReadbacks implements JCGLReadbacksType
+{
+  private static final Logger LOG;
+  private static final int POOL_MAXIMUM = 8;
+
+  static {
+    LOG = LoggerFactory.getLogger(FakeReadbacks.class);
+  }
+
+  private final FakeContext context;
+  private final FakeTextures textures;
+  private final FakeSyncs syncs;
+  private final ArrayDeque<Pending> pending;
+  private final ArrayDeque<ByteBuffer> pool;
+
+  FakeReadbacks(
+    final FakeContext c,
+    final FakeTextures in_textures,
+    final FakeSyncs in_syncs)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+    this.textures = NullCheck.notNull(in_textures, "Textures");
+    this.syncs = NullCheck.notNull(in_syncs, "Syncs");
+    this.pending = new ArrayDeque<>(8);
+    this.pool = new ArrayDeque<>(8);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readbackArrayBuffer(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(a, "Array");
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(f, "Producer");
+
+    FakeCompatibilityChecks.checkArrayBuffer(this.context, a);
+    JCGLResources.checkNotDeleted(a);
+    final FakeBuffer b = (FakeBuffer) a;
+    FakeBuffer.checkNotMapped(b);
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      range, "Range", a.byteRange(), "Buffer range");
+
+    final ByteBuffer source = b.getData().duplicate();
+    source.position(Math.toIntExact(range.getLower()));
+    source.limit(Math.toIntExact(range.getUpper() + 1L));
+    return this.enqueue(source, f);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readbackTexture2D(
+    final JCGLTextureUnitType unit,
+    final JCGLTexture2DUsableType t,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(f, "Producer");
+
+    FakeTextures.checkTextureUnit(this.context, unit);
+    final FakeTexture2D ft = FakeTextures.checkTexture2D(this.context, t);
+    this.textures.texture2DBind(unit, t);
+
+    final ByteBuffer source = ft.getData().duplicate();
+    source.rewind();
+    return this.enqueue(source, f);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readbackTextureCubeLH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceLH face,
+    final JCGLTextureCubeUsableType t,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(face, "Face");
+    NullCheck.notNull(f, "Producer");
+
+    FakeTextures.checkTextureUnit(this.context, unit);
+    final FakeTextureCube ft =
+      FakeTextures.checkTextureCube(this.context, t);
+    this.textures.textureCubeBind(unit, t);
+
+    final ByteBuffer source = ft.getData(face).duplicate();
+    source.rewind();
+    return this.enqueue(source, f);
+  }
+
+  @Override
+  public int readbackPoll()
+    throws JCGLException
+  {
+    int completed = 0;
+    while (!this.pending.isEmpty()) {
+      final Pending r = this.pending.peek();
+      if (this.syncs.syncPoll(r.sync) == JCGLSyncStatus.SYNC_UNSIGNALLED) {
+        break;
+      }
+
+      this.pending.remove();
+      this.syncs.syncDelete(r.sync);
+      try {
+        final ByteBuffer data = NullCheck.notNull(
+          r.producer.apply((long) r.size), "Produced buffer");
+        final ByteBuffer source = r.data.duplicate();
+        source.position(0);
+        source.limit(r.size);
+        data.rewind();
+        data.put(source);
+        data.rewind();
+        r.future.complete(data);
+      } catch (final Exception e) {
+        r.future.completeExceptionally(e);
+      } finally {
+        this.release(r.data);
+      }
+      ++completed;
+    }
+    return completed;
+  }
+
+  @Override
+  public int readbackPending()
+  {
+    return this.pending.size();
+  }
+
+  @Override
+  public int readbackPoolSize()
+  {
+    return this.pool.size();
+  }
+
+  @Override
+  public void readbackPoolDelete()
+    throws JCGLException
+  {
+    this.pool.clear();
+  }
+
+  private CompletableFuture<ByteBuffer> enqueue(
+    final ByteBuffer source,
+    final JCGLByteBufferProducerType f)
+  {
+    final int size = source.remaining();
+    final ByteBuffer copy = this.acquire(size);
+    copy.clear();
+    copy.put(source);
+    copy.rewind();
+
+    final Pending r = new Pending(copy, size, this.syncs.syncFenceInsert(), f);
+    this.pending.add(r);
+
+    LOG.trace(
+      "readback {} bytes (pending {})",
+      Integer.valueOf(size),
+      Integer.valueOf(this.pending.size()));
+    return r.future;
+  }
+
+  private void release(final ByteBuffer b)
+  {
+    this.pool.push(b);
+
+    if (this.pool.size() > POOL_MAXIMUM) {
+      ByteBuffer smallest = b;
+      for (final ByteBuffer p : this.pool) {
+        if (p.capacity() < smallest.capacity()) {
+          smallest = p;
+        }
+      }
+      this.pool.remove(smallest);
+    }
+  }
+
+  private ByteBuffer acquire(final int size)
+  {
+    @Nullable ByteBuffer best = null;
+    for (final ByteBuffer p : this.pool) {
+      if (p.capacity() >= size) {
+        if (best == null || p.capacity() < best.capacity()) {
+          best = p;
+        }
+      }
+    }
+
+    if (best != null) {
+      this.pool.remove(best);
+      return best;
+    }
+
+    this.pool.clear();
+    return ByteBuffer.allocate(size);
+  }
+
+  private static final class Pending
+  {
+    private final ByteBuffer data;
+    private final int size;
+    private final JCGLSyncType sync;
+    private final JCGLByteBufferProducerType producer;
+    private final CompletableFuture<ByteBuffer> future;
+
+    Pending(
+      final ByteBuffer in_data,
+      final int in_size,
+      final JCGLSyncType in_sync,
+      final JCGLByteBufferProducerType in_producer)
+    {
+      this.data = in_data;
+      this.size = in_size;
+      this.sync = in_sync;
+      this.producer = in_producer;
+      this.future = new CompletableFuture<>();
+    }
+  }
+}
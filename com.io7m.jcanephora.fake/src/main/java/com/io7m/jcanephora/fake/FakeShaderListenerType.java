@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
 
@@ -108,4 +109,28 @@ public interface FakeShaderListenerType
     Map<String, JCGLProgramAttributeType> attributes,
     Map<String, JCGLProgramUniformType> uniforms)
     throws JCGLException;
+
+  /**
+   * Called when a program is about to be linked, after {@link
+   * #onLinkProgram(FakeContext, JCGLProgramShaderUsableType, String,
+   * JCGLVertexShaderUsableType, Optional, JCGLFragmentShaderUsableType, Map,
+   * Map)}. The default implementation declares no uniform blocks.
+   *
+   * @param context The current context
+   * @param p       The resulting program
+   * @param name    The program name
+   * @param blocks  The uniform blocks that the resulting program will have
+   *
+   * @throws JCGLException If required
+   */
+
+  default void onLinkProgramUniformBlocks(
+    final FakeContext context,
+    final JCGLProgramShaderUsableType p,
+    final String name,
+    final Map<String, JCGLProgramUniformBlockType> blocks)
+    throws JCGLException
+  {
+    // Nothing by default
+  }
 }
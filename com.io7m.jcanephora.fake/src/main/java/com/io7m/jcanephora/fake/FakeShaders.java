@@ -16,26 +16,42 @@
 
 package com.io7m.jcanephora.fake;
 
+import com.io7m.jcanephora.core.JCGLDriverInformation;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
 import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
 import com.io7m.jcanephora.core.JCGLExceptionProgramTypeError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLFragmentShaderType;
 import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
+import com.io7m.jcanephora.core.JCGLProgramBinary;
+import com.io7m.jcanephora.core.JCGLProgramBinaryType;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
 import com.io7m.jcanephora.core.JCGLType;
+import com.io7m.jcanephora.core.JCGLUniformChecks;
+import com.io7m.jcanephora.core.JCGLUniformSet;
+import com.io7m.jcanephora.core.JCGLUniformSetUploaderType;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
+import com.io7m.jcanephora.core.JCGLUniformShadowCacheStatistics;
 import com.io7m.jcanephora.core.JCGLVertexShaderType;
 import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrices3x3D;
+import com.io7m.jtensors.core.parameterized.matrices.PMatrices4x4D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix3x3D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrix4x4D;
 import com.io7m.jtensors.core.parameterized.vectors.PVector2D;
@@ -55,7 +71,9 @@ import com.io7m.jtensors.core.unparameterized.vectors.Vector4I;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,14 +85,18 @@ final class FakeShaders implements JCGLShadersType
 {
   private static final Logger LOG;
   private static final Pattern NON_EMPTY;
+  private static final JCGLDriverInformation DRIVER;
 
   static {
     LOG = LoggerFactory.getLogger(FakeShaders.class);
     NON_EMPTY = Pattern.compile("^\\s*$");
+    DRIVER = JCGLDriverInformation.of("io7m", "jcanephora fake", "3.3.0");
   }
 
   private final FakeContext context;
   private final FakeShaderListenerType listener;
+  private final FloatBuffer matrix;
+  private final UniformSetUploader uploader;
   private boolean check_active;
   private boolean check_type;
   private JCGLProgramShaderUsableType current;
@@ -85,6 +107,8 @@ final class FakeShaders implements JCGLShadersType
     this.listener = NullCheck.notNull(c.getShaderListener(), "Shader listener");
     this.check_active = true;
     this.check_type = true;
+    this.uploader = new UniformSetUploader();
+    this.matrix = FloatBuffer.allocate(16);
   }
 
   private static boolean isEmpty(final List<String> lines)
@@ -101,6 +125,43 @@ final class FakeShaders implements JCGLShadersType
     return true;
   }
 
+  private static void putMatrix3x3(
+    final FloatBuffer b,
+    final Matrix3x3D m)
+  {
+    b.put((float) m.r0c0());
+    b.put((float) m.r1c0());
+    b.put((float) m.r2c0());
+    b.put((float) m.r0c1());
+    b.put((float) m.r1c1());
+    b.put((float) m.r2c1());
+    b.put((float) m.r0c2());
+    b.put((float) m.r1c2());
+    b.put((float) m.r2c2());
+  }
+
+  private static void putMatrix4x4(
+    final FloatBuffer b,
+    final Matrix4x4D m)
+  {
+    b.put((float) m.r0c0());
+    b.put((float) m.r1c0());
+    b.put((float) m.r2c0());
+    b.put((float) m.r3c0());
+    b.put((float) m.r0c1());
+    b.put((float) m.r1c1());
+    b.put((float) m.r2c1());
+    b.put((float) m.r3c1());
+    b.put((float) m.r0c2());
+    b.put((float) m.r1c2());
+    b.put((float) m.r2c2());
+    b.put((float) m.r3c2());
+    b.put((float) m.r0c3());
+    b.put((float) m.r1c3());
+    b.put((float) m.r2c3());
+    b.put((float) m.r3c3());
+  }
+
   private static JCGLExceptionProgramTypeError errorWrongType(
     final JCGLProgramUniformType u,
     final JCGLType t)
@@ -237,13 +298,19 @@ final class FakeShaders implements JCGLShadersType
     final String name,
     final JCGLVertexShaderUsableType iv,
     final Optional<JCGLGeometryShaderUsableType> ig,
-    final JCGLFragmentShaderUsableType ifs)
+    final JCGLFragmentShaderUsableType ifs,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
     throws JCGLExceptionProgramCompileError, JCGLException
   {
     NullCheck.notNull(name, "Name");
     NullCheck.notNull(iv, "Vertex shader");
     NullCheck.notNull(ig, "Geometry shader");
     NullCheck.notNull(ifs, "Fragment shader");
+    NullCheck.notNullAll(varyings, "Varyings");
+    NullCheck.notNull(mode, "Mode");
+
+    checkVaryings(name, varyings, mode);
 
     final FakeVertexShader v =
       FakeCompatibilityChecks.checkVertexShader(this.context, iv);
@@ -265,9 +332,13 @@ final class FakeShaders implements JCGLShadersType
     g.ifPresent(
       gg -> LOG.debug("[{}] geometry {}", name, gg.name()));
     LOG.debug("[{}] fragment {}", name, f.name());
+    for (final String varying : varyings) {
+      LOG.debug("[{}] captured varying {} ({})", name, varying, mode);
+    }
 
     final Map<String, JCGLProgramAttributeType> attributes = new HashMap<>();
     final Map<String, JCGLProgramUniformType> uniforms = new HashMap<>();
+    final Map<String, JCGLProgramUniformBlockType> blocks = new HashMap<>();
 
     final FakeProgramShader p = new FakeProgramShader(
       this.context,
@@ -277,10 +348,42 @@ final class FakeShaders implements JCGLShadersType
       g,
       f,
       attributes,
-      uniforms);
+      uniforms,
+      blocks,
+      varyings,
+      mode);
+
+    this.reflectProgram(p, v, g, f, attributes, uniforms, blocks);
+    return p;
+  }
+
+  private static void checkVaryings(
+    final String name,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
+    throws JCGLExceptionProgramCompileError
+  {
+    if (mode == JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_SEPARATE
+      && varyings.size() > FakeTransformFeedback.MAXIMUM_SEPARATE_ATTRIBUTES) {
+      throw new JCGLExceptionProgramCompileError(
+        name, "Too many separate transform feedback varyings");
+    }
+  }
+
+  private void reflectProgram(
+    final FakeProgramShader p,
+    final FakeVertexShader v,
+    final Optional<FakeGeometryShader> g,
+    final FakeFragmentShader f,
+    final Map<String, JCGLProgramAttributeType> attributes,
+    final Map<String, JCGLProgramUniformType> uniforms,
+    final Map<String, JCGLProgramUniformBlockType> blocks)
+  {
+    final String name = p.name();
 
     this.listener.onLinkProgram(
       this.context, p, name, v, g.map(gg -> gg), f, attributes, uniforms);
+    this.listener.onLinkProgramUniformBlocks(this.context, p, name, blocks);
 
     for (final String k : attributes.keySet()) {
       final JCGLProgramAttributeType a = attributes.get(k);
@@ -302,9 +405,191 @@ final class FakeShaders implements JCGLShadersType
         a.type());
     }
 
+    for (final String k : blocks.keySet()) {
+      final JCGLProgramUniformBlockType b = blocks.get(k);
+      LOG.trace(
+        "[{}] uniform block {} {} {}",
+        name,
+        b.name(),
+        Integer.valueOf(b.glName()),
+        Long.valueOf(b.sizeBytes()));
+    }
+  }
+
+  @Override
+  public boolean shaderProgramBinaryIsSupported()
+    throws JCGLException
+  {
+    return true;
+  }
+
+  @Override
+  public JCGLDriverInformation shaderProgramBinaryDriverInformation()
+    throws JCGLException
+  {
+    return DRIVER;
+  }
+
+  @Override
+  public JCGLProgramBinary shaderProgramBinaryGet(
+    final JCGLProgramShaderUsableType p)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionUnsupportedFeature
+  {
+    NullCheck.notNull(p, "Program");
+
+    FakeCompatibilityChecks.checkProgramShader(this.context, p);
+    JCGLResources.checkNotDeleted(p);
+
+    return JCGLProgramBinary.of(
+      FakeProgramBinaries.FORMAT, FakeProgramBinaries.encode(p));
+  }
+
+  @Override
+  public JCGLProgramShaderType shaderProgramBinaryLoad(
+    final String name,
+    final JCGLProgramBinaryType binary,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionUnsupportedFeature,
+    JCGLException
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(binary, "Binary");
+    NullCheck.notNullAll(varyings, "Varyings");
+    NullCheck.notNull(mode, "Mode");
+
+    LOG.debug("load program binary {}", name);
+
+    if (binary.format() != FakeProgramBinaries.FORMAT) {
+      throw new JCGLExceptionProgramCompileError(
+        name,
+        String.format(
+          "Unsupported program binary format 0x%x",
+          Integer.valueOf(binary.format())));
+    }
+
+    final Map<String, JCGLProgramAttributeType> attributes = new HashMap<>();
+    final Map<String, JCGLProgramUniformType> uniforms = new HashMap<>();
+    final Map<String, JCGLProgramUniformBlockType> blocks = new HashMap<>();
+
+    final FakeProgramShader p = new FakeProgramShader(
+      this.context,
+      this.context.getFreshID(),
+      name,
+      attributes,
+      uniforms,
+      blocks,
+      varyings,
+      mode);
+
+    try {
+      FakeProgramBinaries.decode(
+        this.context, p, binary.data(), attributes, uniforms, blocks);
+    } catch (final IOException e) {
+      throw new JCGLExceptionProgramCompileError(
+        name, "Corrupt program binary: " + e.getMessage());
+    }
     return p;
   }
 
+  @Override
+  public boolean shaderParallelCompileIsSupported()
+    throws JCGLException
+  {
+    return true;
+  }
+
+  @Override
+  public JCGLProgramPendingType shaderProgramSubmit(
+    final JCGLProgramSourcesType sources)
+    throws JCGLExceptionProgramCompileError, JCGLException
+  {
+    NullCheck.notNull(sources, "Sources");
+
+    final String name = sources.name();
+    final Optional<List<String>> g_lines = sources.geometry();
+    final boolean g_empty = g_lines.isPresent() && isEmpty(g_lines.get());
+    if (isEmpty(sources.vertex()) || g_empty || isEmpty(sources.fragment())) {
+      throw new JCGLExceptionProgramCompileError(name, "Empty program");
+    }
+
+    LOG.debug("submit program {}", name);
+    return new FakeProgramPending(
+      this.context, this.context.getFreshID(), sources);
+  }
+
+  @Override
+  public boolean shaderProgramPendingIsComplete(
+    final JCGLProgramPendingType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(p, "Program");
+
+    FakeCompatibilityChecks.checkProgramPending(this.context, p);
+    JCGLResources.checkNotDeleted(p);
+    return true;
+  }
+
+  @Override
+  public JCGLProgramShaderType shaderProgramPendingFinish(
+    final JCGLProgramPendingType p)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionDeleted,
+    JCGLException
+  {
+    NullCheck.notNull(p, "Program");
+
+    final FakeProgramPending pp =
+      FakeCompatibilityChecks.checkProgramPending(this.context, p);
+    JCGLResources.checkNotDeleted(pp);
+    pp.setDeleted();
+
+    final JCGLProgramSourcesType sources = pp.sources();
+    final String name = sources.name();
+    final List<String> varyings = sources.transformFeedbackVaryings();
+    final JCGLTransformFeedbackBufferMode mode =
+      sources.transformFeedbackBufferMode();
+
+    LOG.debug("finish program {}", name);
+    checkVaryings(name, varyings, mode);
+
+    final FakeVertexShader v =
+      (FakeVertexShader) this.shaderCompileVertex(name, sources.vertex());
+    final Optional<FakeGeometryShader> g = sources.geometry().map(
+      lines -> (FakeGeometryShader) this.shaderCompileGeometry(name, lines));
+    final FakeFragmentShader f =
+      (FakeFragmentShader) this.shaderCompileFragment(name, sources.fragment());
+
+    final Map<String, JCGLProgramAttributeType> attributes = new HashMap<>();
+    final Map<String, JCGLProgramUniformType> uniforms = new HashMap<>();
+    final Map<String, JCGLProgramUniformBlockType> blocks = new HashMap<>();
+
+    final FakeProgramShader prog = new FakeProgramShader(
+      this.context,
+      pp.glName(),
+      name,
+      attributes,
+      uniforms,
+      blocks,
+      varyings,
+      mode);
+
+    try {
+      this.reflectProgram(prog, v, g, f, attributes, uniforms, blocks);
+    } finally {
+      this.shaderDeleteVertex(v);
+      g.ifPresent(this::shaderDeleteGeometry);
+      this.shaderDeleteFragment(f);
+    }
+    return prog;
+  }
+
   @Override
   public void shaderActivateProgram(final JCGLProgramShaderUsableType p)
     throws JCGLException, JCGLExceptionDeleted
@@ -344,6 +629,68 @@ final class FakeShaders implements JCGLShadersType
     this.check_active = enabled;
   }
 
+  @Override
+  public void shaderUniformSetShadowingEnabled(
+    final JCGLProgramShaderUsableType p,
+    final boolean enabled)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final FakeProgramShader pp = this.checkShadowProgram(p);
+    if (enabled) {
+      if (pp.uniformShadow() == null) {
+        pp.setUniformShadow(
+          JCGLUniformShadowCache.create(pp.uniforms().values()));
+      }
+    } else {
+      pp.setUniformShadow(null);
+    }
+  }
+
+  @Override
+  public boolean shaderUniformIsShadowingEnabled(
+    final JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    return this.checkShadowProgram(p).uniformShadow() != null;
+  }
+
+  @Override
+  public JCGLUniformShadowCacheStatistics shaderUniformShadowingStatistics(
+    final JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JCGLUniformShadowCache cache =
+      this.checkShadowProgram(p).uniformShadow();
+    if (cache != null) {
+      return cache.statistics();
+    }
+    return JCGLUniformShadowCacheStatistics.of(0L, 0L);
+  }
+
+  private FakeProgramShader checkShadowProgram(
+    final JCGLProgramShaderUsableType p)
+  {
+    NullCheck.notNull(p, "Shader");
+    final FakeProgramShader pp =
+      FakeCompatibilityChecks.checkProgramShader(this.context, p);
+    JCGLResources.checkNotDeleted(pp);
+    return pp;
+  }
+
+  /**
+   * @return The shadow of the uniforms of the current program, if the current
+   * program has shadowing enabled
+   */
+
+  private @Nullable JCGLUniformShadowCache currentShadow()
+  {
+    final JCGLProgramShaderUsableType p = this.current;
+    if (p != null) {
+      return ((FakeProgramShader) p).uniformShadow();
+    }
+    return null;
+  }
+
   @Override
   public void shaderUniformPutFloat(
     final JCGLProgramUniformType u,
@@ -351,6 +698,11 @@ final class FakeShaders implements JCGLShadersType
     throws JCGLException
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat(u.glName(), value);
+    }
   }
 
   @Override
@@ -363,6 +715,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger(u.glName(), value);
+    }
   }
 
   @Override
@@ -375,6 +732,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger(u.glName(), value);
+    }
   }
 
   @Override
@@ -405,6 +767,73 @@ final class FakeShaders implements JCGLShadersType
       sb.append(" floating point values");
       throw new JCGLExceptionProgramTypeError(sb.toString());
     }
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloats(u.glName(), value, required * u.size());
+    }
+  }
+
+  @Override
+  public void shaderUniformPutArrayf(
+    final JCGLProgramUniformType u,
+    final int count,
+    final FloatBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(value, "Value");
+    this.checkActive(u);
+    this.checkIsFloatingPoint(u);
+
+    final int words =
+      JCGLUniformChecks.checkArray(u, count, value.remaining());
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloats(u.glName(), value, words);
+    }
+  }
+
+  @Override
+  public void shaderUniformPutArrayi(
+    final JCGLProgramUniformType u,
+    final int count,
+    final IntBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(value, "Value");
+    this.checkActive(u);
+    this.checkIsIntegral(u);
+
+    final int words =
+      JCGLUniformChecks.checkArray(u, count, value.remaining());
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateIntegers(u.glName(), value, words);
+    }
+  }
+
+  @Override
+  public void shaderUniformApply(
+    final JCGLUniformSet set)
+    throws JCGLException, JCGLExceptionProgramNotActive
+  {
+    NullCheck.notNull(set, "Set");
+
+    if (this.check_active) {
+      final JCGLProgramShaderUsableType p = set.program();
+      if (!Objects.equals(p, this.current)) {
+        throw this.errorNotActive(p);
+      }
+    }
+
+    this.uploader.shadow = this.currentShadow();
+    set.upload(this.uploader);
   }
 
   @Override
@@ -417,6 +846,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat2(u.glName(), (float) value.x(), (float) value.y());
+    }
   }
 
   @Override
@@ -429,6 +863,15 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat3(
+        u.glName(),
+        (float) value.x(),
+        (float) value.y(),
+        (float) value.z());
+    }
   }
 
   @Override
@@ -441,6 +884,16 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat4(
+        u.glName(),
+        (float) value.x(),
+        (float) value.y(),
+        (float) value.z(),
+        (float) value.w());
+    }
   }
 
   @Override
@@ -453,6 +906,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger2(u.glName(), value.x(), value.y());
+    }
   }
 
   @Override
@@ -465,6 +923,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger3(u.glName(), value.x(), value.y(), value.z());
+    }
   }
 
   @Override
@@ -477,6 +940,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger4(u.glName(), value.x(), value.y(), value.z(), value.w());
+    }
   }
 
   @Override
@@ -489,6 +957,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger2(u.glName(), value.x(), value.y());
+    }
   }
 
   @Override
@@ -501,6 +974,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger3(u.glName(), value.x(), value.y(), value.z());
+    }
   }
 
   @Override
@@ -513,6 +991,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger4(u.glName(), value.x(), value.y(), value.z(), value.w());
+    }
   }
 
   @Override
@@ -525,6 +1008,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat2(u.glName(), (float) value.x(), (float) value.y());
+    }
   }
 
   @Override
@@ -537,6 +1025,15 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat3(
+        u.glName(),
+        (float) value.x(),
+        (float) value.y(),
+        (float) value.z());
+    }
   }
 
   @Override
@@ -549,6 +1046,16 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateFloat4(
+        u.glName(),
+        (float) value.x(),
+        (float) value.y(),
+        (float) value.z(),
+        (float) value.w());
+    }
   }
 
   @Override
@@ -561,6 +1068,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger2(u.glName(), value.x(), value.y());
+    }
   }
 
   @Override
@@ -573,6 +1085,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger3(u.glName(), value.x(), value.y(), value.z());
+    }
   }
 
   @Override
@@ -585,6 +1102,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger4(u.glName(), value.x(), value.y(), value.z(), value.w());
+    }
   }
 
   @Override
@@ -597,6 +1119,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger2(u.glName(), value.x(), value.y());
+    }
   }
 
   @Override
@@ -609,6 +1136,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger3(u.glName(), value.x(), value.y(), value.z());
+    }
   }
 
   @Override
@@ -621,6 +1153,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger4(u.glName(), value.x(), value.y(), value.z(), value.w());
+    }
   }
 
   @Override
@@ -633,6 +1170,14 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      this.matrix.clear();
+      putMatrix3x3(this.matrix, value);
+      this.matrix.flip();
+      s.updateFloats(u.glName(), this.matrix, 9);
+    }
   }
 
   @Override
@@ -645,6 +1190,14 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      this.matrix.clear();
+      putMatrix3x3(this.matrix, PMatrices3x3D.toUnparameterized(value));
+      this.matrix.flip();
+      s.updateFloats(u.glName(), this.matrix, 9);
+    }
   }
 
   @Override
@@ -657,6 +1210,14 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      this.matrix.clear();
+      putMatrix4x4(this.matrix, value);
+      this.matrix.flip();
+      s.updateFloats(u.glName(), this.matrix, 16);
+    }
   }
 
   @Override
@@ -669,6 +1230,14 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      this.matrix.clear();
+      putMatrix4x4(this.matrix, PMatrices4x4D.toUnparameterized(value));
+      this.matrix.flip();
+      s.updateFloats(u.glName(), this.matrix, 16);
+    }
   }
 
   @Override
@@ -681,6 +1250,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_SAMPLER_2D);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger(u.glName(), value.index());
+    }
   }
 
   @Override
@@ -693,6 +1267,11 @@ final class FakeShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_SAMPLER_CUBE);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null) {
+      s.updateInteger(u.glName(), value.index());
+    }
   }
 
   private void checkIsFloatingPoint(final JCGLProgramUniformType u)
@@ -712,6 +1291,23 @@ final class FakeShaders implements JCGLShadersType
     }
   }
 
+  private void checkIsIntegral(final JCGLProgramUniformType u)
+  {
+    if (this.check_type) {
+      final JCGLType type_uniform = u.type();
+      if (type_uniform.isFloatingPointType()) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Uniform type error.");
+        sb.append(System.lineSeparator());
+        sb.append("Expected: An integer, boolean, or sampler type");
+        sb.append(System.lineSeparator());
+        sb.append("Actual: ");
+        sb.append(type_uniform);
+        throw new JCGLExceptionProgramTypeError(sb.toString());
+      }
+    }
+  }
+
   private void checkActiveAndType(
     final JCGLProgramUniformType u,
     final JCGLType t)
@@ -754,4 +1350,36 @@ final class FakeShaders implements JCGLShadersType
     sb.append(this.current);
     return new JCGLExceptionProgramNotActive(sb.toString());
   }
+
+  private static final class UniformSetUploader
+    implements JCGLUniformSetUploaderType
+  {
+    private @Nullable JCGLUniformShadowCache shadow;
+
+    @Override
+    public void uploadFloats(
+      final int location,
+      final JCGLType type,
+      final int elements,
+      final FloatBuffer data)
+    {
+      final JCGLUniformShadowCache s = this.shadow;
+      if (s != null) {
+        s.updateFloats(location, data, data.remaining());
+      }
+    }
+
+    @Override
+    public void uploadIntegers(
+      final int location,
+      final JCGLType type,
+      final int elements,
+      final IntBuffer data)
+    {
+      final JCGLUniformShadowCache s = this.shadow;
+      if (s != null) {
+        s.updateIntegers(location, data, data.remaining());
+      }
+    }
+  }
 }
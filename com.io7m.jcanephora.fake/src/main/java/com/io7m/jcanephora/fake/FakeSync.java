@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLSyncType;
+
+final class FakeSync extends FakeObjectShared implements JCGLSyncType
+{
+  private final long signal_time;
+  private boolean signalled;
+
+  FakeSync(
+    final FakeContext ctx,
+    final int id,
+    final long in_signal_time)
+  {
+    super(ctx, id);
+    this.signal_time = in_signal_time;
+  }
+
+  long getSignalTime()
+  {
+    return this.signal_time;
+  }
+
+  boolean isSignalled()
+  {
+    return this.signalled;
+  }
+
+  void setSignalled()
+  {
+    this.signalled = true;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder("[Sync ");
+    sb.append(super.glName());
+    sb.append(']');
+    return sb.toString();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLSyncUsableType;
+import com.io7m.jcanephora.core.JCGLSyncWaitResult;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fake sync objects. A fence becomes signalled when the sync clock of the
+ * context reaches the time at which the fence was inserted plus the sync
+ * latency of the context. Client waits never block: A wait that would have
+ * been satisfied within the timeout immediately marks the fence as
+ * signalled.
+ *
+ * @see FakeContext#setSyncClock(java.util.function.LongSupplier)
+ * @see FakeContext#setSyncLatency(long)
+ */
+
+final class FakeSyncs implements JCGLSyncsType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(FakeSyncs.class);
+  }
+
+  private final FakeContext context;
+
+  FakeSyncs(final FakeContext c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+  }
+
+  @Override
+  public JCGLSyncType syncFenceInsert()
+    throws JCGLException
+  {
+    final long time =
+      this.context.getSyncClock().getAsLong() + this.context.getSyncLatency();
+    final FakeSync s =
+      new FakeSync(this.context, this.context.getFreshID(), time);
+    LOG.trace("fence {} (signal at {})", s, Long.valueOf(time));
+    return s;
+  }
+
+  @Override
+  public JCGLSyncStatus syncPoll(
+    final JCGLSyncUsableType s)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final FakeSync fs = this.checkSync(s);
+    final long now = this.context.getSyncClock().getAsLong();
+    if (fs.isSignalled() || now - fs.getSignalTime() >= 0L) {
+      fs.setSignalled();
+      return JCGLSyncStatus.SYNC_SIGNALLED;
+    }
+    return JCGLSyncStatus.SYNC_UNSIGNALLED;
+  }
+
+  @Override
+  public JCGLSyncWaitResult syncClientWait(
+    final JCGLSyncUsableType s,
+    final long timeout)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    RangeCheck.checkIncludedInLong(
+      timeout, "Timeout", Ranges.NATURAL_LONG, "Valid timeouts");
+
+    final FakeSync fs = this.checkSync(s);
+    final long now = this.context.getSyncClock().getAsLong();
+    if (fs.isSignalled() || now - fs.getSignalTime() >= 0L) {
+      fs.setSignalled();
+      return JCGLSyncWaitResult.SYNC_WAIT_ALREADY_SIGNALLED;
+    }
+    if (fs.getSignalTime() - now <= timeout) {
+      fs.setSignalled();
+      return JCGLSyncWaitResult.SYNC_WAIT_CONDITION_SATISFIED;
+    }
+    return JCGLSyncWaitResult.SYNC_WAIT_TIMEOUT_EXPIRED;
+  }
+
+  @Override
+  public void syncServerWait(
+    final JCGLSyncUsableType s)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final FakeSync fs = this.checkSync(s);
+    LOG.trace("server wait {}", fs);
+  }
+
+  @Override
+  public void syncDelete(
+    final JCGLSyncType s)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final FakeSync fs = this.checkSync(s);
+    fs.setDeleted();
+    LOG.trace("delete {}", fs);
+  }
+
+  private FakeSync checkSync(final JCGLSyncUsableType s)
+  {
+    NullCheck.notNull(s, "Sync");
+    final FakeSync fs = FakeCompatibilityChecks.checkSync(this.context, s);
+    JCGLResources.checkNotDeleted(s);
+    return fs;
+  }
+}
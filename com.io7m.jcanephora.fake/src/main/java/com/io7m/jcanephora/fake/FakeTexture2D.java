@@ -20,6 +20,7 @@ import com.io7m.jcanephora.core.JCGLTexture2DType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
 import com.io7m.jnull.NullCheck;
@@ -41,6 +42,7 @@ final class FakeTexture2D extends FakeReferable implements JCGLTexture2DType
   private final JCGLTextureWrapS wrap_s;
   private final JCGLTextureWrapT wrap_t;
   private final ByteBuffer data;
+  private boolean mipmaps_dirty;
   private final AreaSizeL size;
 
   FakeTexture2D(
@@ -74,7 +76,8 @@ final class FakeTexture2D extends FakeReferable implements JCGLTexture2DType
     this.range_y = new UnsignedRangeInclusiveL(0L, in_height - 1L);
 
     final long byte_size =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
     this.byte_range =
       new UnsignedRangeInclusiveL(0L, byte_size - 1L);
 
@@ -86,6 +89,16 @@ final class FakeTexture2D extends FakeReferable implements JCGLTexture2DType
     return this.data;
   }
 
+  boolean mipmapsDirty()
+  {
+    return this.mipmaps_dirty;
+  }
+
+  void setMipmapsDirty(final boolean dirty)
+  {
+    this.mipmaps_dirty = dirty;
+  }
+
   @Override
   public JCGLTextureFilterMagnification magnificationFilter()
   {
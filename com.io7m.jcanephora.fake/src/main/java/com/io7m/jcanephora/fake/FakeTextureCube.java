@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLTextureCubeType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
@@ -46,6 +47,7 @@ final class FakeTextureCube extends FakeReferable implements JCGLTextureCubeType
   private final JCGLTextureWrapT wrap_t;
   private final AreaSizeL size;
   private final EnumMap<JCGLCubeMapFaceLH, ByteBuffer> faces;
+  private boolean mipmaps_dirty;
 
   FakeTextureCube(
     final FakeContext in_context,
@@ -80,11 +82,13 @@ final class FakeTextureCube extends FakeReferable implements JCGLTextureCubeType
     this.range_y = new UnsignedRangeInclusiveL(0L, in_size - 1L);
 
     final long size_bytes =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
     this.byte_range = new UnsignedRangeInclusiveL(0L, size_bytes - 1L);
 
     final long face_size =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
 
     this.faces = new EnumMap<>(JCGLCubeMapFaceLH.class);
     for (final JCGLCubeMapFaceLH v : JCGLCubeMapFaceLH.values()) {
@@ -92,6 +96,16 @@ final class FakeTextureCube extends FakeReferable implements JCGLTextureCubeType
     }
   }
 
+  boolean mipmapsDirty()
+  {
+    return this.mipmaps_dirty;
+  }
+
+  void setMipmapsDirty(final boolean dirty)
+  {
+    this.mipmaps_dirty = dirty;
+  }
+
   @Override
   public JCGLTextureFilterMagnification magnificationFilter()
   {
@@ -31,6 +31,9 @@ import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmapUpdateMode;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
 import com.io7m.jcanephora.core.JCGLTextureUsableType;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
@@ -71,6 +74,9 @@ final class FakeTextures implements JCGLTexturesType
   private final int size;
   private final Int2ObjectMap<IntSet> texture_to_units;
   private final boolean[] temp_unbind;
+  private final List<FakeTexture2D> mipmaps_dirty_2d;
+  private final List<FakeTextureCube> mipmaps_dirty_cube;
+  private JCGLTextureMipmapUpdateMode mipmap_mode;
   private FakeFramebuffers framebuffers;
 
   FakeTextures(
@@ -81,6 +87,10 @@ final class FakeTextures implements JCGLTexturesType
     this.size = makeSize();
     this.texture_to_units = new Int2ObjectOpenHashMap<>(this.units.size());
     this.temp_unbind = new boolean[this.units.size()];
+    this.mipmaps_dirty_2d = new ArrayList<>(16);
+    this.mipmaps_dirty_cube = new ArrayList<>(16);
+    this.mipmap_mode =
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_IMMEDIATE;
   }
 
   private static List<JCGLTextureUnitType> makeUnits(
@@ -210,13 +220,52 @@ final class FakeTextures implements JCGLTexturesType
               source_data.get((int) (source_offset + 3L)));
             break;
           }
-          default:
-            throw new UnreachableCodeException();
+          default: {
+            for (int index = 0; index < bpp; ++index) {
+              target_data.put(
+                (int) (target_offset + (long) index),
+                source_data.get((int) (source_offset + (long) index)));
+            }
+            break;
+          }
         }
       }
     }
   }
 
+  /**
+   * Copy the given area of an image of format {@code format}. The area is
+   * converted to blocks, so that compressed formats are copied a block at a
+   * time; the blocks of uncompressed formats are single pixels.
+   */
+
+  private static void copyArea(
+    final JCGLTextureFormat format,
+    final AreaL area,
+    final ByteBuffer source_data,
+    final ByteBuffer target_data,
+    final long target_width)
+  {
+    final long bw = (long) format.getBlockWidth();
+    final long bh = (long) format.getBlockHeight();
+    copyBytes(
+      format.getBytesPerBlock(),
+      area.minimumX() / bw,
+      blocks(area.width(), bw),
+      area.minimumY() / bh,
+      blocks(area.height(), bh),
+      source_data,
+      target_data,
+      blocks(target_width, bw));
+  }
+
+  private static long blocks(
+    final long size,
+    final long block_size)
+  {
+    return (size + (block_size - 1L)) / block_size;
+  }
+
   private void bindingAddTextureReference(
     final int texture_id,
     final int index)
@@ -251,6 +300,15 @@ final class FakeTextures implements JCGLTexturesType
     return this.size;
   }
 
+  @Override
+  public boolean textureFormatIsSupported(
+    final JCGLTextureFormat format)
+    throws JCGLException
+  {
+    NullCheck.notNull(format, "Format");
+    return true;
+  }
+
   @Override
   public List<JCGLTextureUnitType> textureGetUnits()
     throws JCGLException
@@ -297,6 +355,19 @@ final class FakeTextures implements JCGLTexturesType
     final JCGLTextureUnitType unit,
     final JCGLTexture2DUsableType texture)
     throws JCGLException
+  {
+    this.bind2D(unit, texture);
+
+    final FakeTexture2D t = (FakeTexture2D) texture;
+    if (t.mipmapsDirty()) {
+      this.mipmapsDiscard2D(t);
+    }
+  }
+
+  private void bind2D(
+    final JCGLTextureUnitType unit,
+    final JCGLTexture2DUsableType texture)
+    throws JCGLException
   {
     final FakeTexture2D t = checkTexture2D(this.context, texture);
     final FakeTextureUnit u = checkTextureUnit(this.context, unit);
@@ -324,6 +395,7 @@ final class FakeTextures implements JCGLTexturesType
     LOG.debug("delete {}", Integer.valueOf(texture.glName()));
 
     final int texture_id = texture.glName();
+    this.mipmapsDiscard2D((FakeTexture2D) texture);
     ((FakeTexture2D) texture).setDeleted();
     this.unbindDeleted(texture_id);
   }
@@ -391,7 +463,7 @@ final class FakeTextures implements JCGLTexturesType
     RangeCheck.checkGreaterEqualLong(width, "Width", 2L, "Valid widths");
     RangeCheck.checkGreaterEqualLong(height, "Height", 2L, "Valid heights");
 
-    final long bytes = width * height * format.getBytesPerPixel();
+    final long bytes = JCGLTextureFormats.imageSizeBytes(format, width, height);
     LOG.debug(
       "allocate {} {}x{} {} bytes",
       format,
@@ -437,30 +509,22 @@ final class FakeTextures implements JCGLTexturesType
       AreasL.contains(texture_area, update_area),
       ignored -> "Update area must be included in texture area");
 
-    this.texture2DBind(unit, texture);
+    final JCGLTextureFormat format = texture.format();
+    JCGLTextureFormats.checkBlockAligned(format, texture.size(), update_area);
 
-    final FakeTexture2D ft = (FakeTexture2D) data.texture();
-    final ByteBuffer target_data = ft.getData();
-
-    final long source_min_x = update_area.minimumX();
-    final long source_width = update_area.width();
-    final long source_min_y = update_area.minimumY();
-    final long source_height = update_area.height();
-    final ByteBuffer source_data = data.data();
+    this.bind2D(unit, texture);
 
-    final long target_width = texture_area.width();
+    final FakeTexture2D ft = (FakeTexture2D) data.texture();
+    copyArea(
+      format,
+      update_area,
+      data.data(),
+      ft.getData(),
+      texture_area.width());
 
-    final int bpp = texture.format().getBytesPerPixel();
-    copyBytes(
-      bpp,
-      source_min_x,
-      source_width,
-      source_min_y,
-      source_height,
-      source_data,
-      target_data,
-      target_width
-    );
+    if (JCGLTextureMipmaps.isMipmapped(texture.minificationFilter())) {
+      this.mipmapsUpdated2D(ft);
+    }
   }
 
   @Override
@@ -476,7 +540,7 @@ final class FakeTextures implements JCGLTexturesType
     checkTexture2D(this.context, texture);
 
     final FakeTexture2D ft = (FakeTexture2D) texture;
-    this.texture2DBind(unit, texture);
+    this.bind2D(unit, texture);
     final ByteBuffer data = ft.getData().duplicate();
     data.order(ByteOrder.nativeOrder());
     return data;
@@ -503,6 +567,8 @@ final class FakeTextures implements JCGLTexturesType
         case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
         case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
         case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR: {
+          JCGLTextureFormats.checkMipmapGenerationSupported(b.format());
+          this.mipmapsDiscard2D(b);
           break;
         }
       }
@@ -522,6 +588,19 @@ final class FakeTextures implements JCGLTexturesType
     final JCGLTextureUnitType unit,
     final JCGLTextureCubeUsableType texture)
     throws JCGLException
+  {
+    this.bindCube(unit, texture);
+
+    final FakeTextureCube t = (FakeTextureCube) texture;
+    if (t.mipmapsDirty()) {
+      this.mipmapsDiscardCube(t);
+    }
+  }
+
+  private void bindCube(
+    final JCGLTextureUnitType unit,
+    final JCGLTextureCubeUsableType texture)
+    throws JCGLException
   {
     final FakeTextureCube t =
       checkTextureCube(this.context, texture);
@@ -558,6 +637,7 @@ final class FakeTextures implements JCGLTexturesType
     LOG.debug("delete {}", Integer.valueOf(texture.glName()));
 
     final int texture_id = texture.glName();
+    this.mipmapsDiscardCube((FakeTextureCube) texture);
     ((FakeTextureCube) texture).setDeleted();
     this.unbindDeleted(texture_id);
   }
@@ -605,29 +685,68 @@ final class FakeTextures implements JCGLTexturesType
       AreasL.contains(texture_area, update_area),
       ignored -> "Update area must be included in texture area");
 
-    this.textureCubeBind(unit, texture);
+    final JCGLTextureFormat format = texture.format();
+    JCGLTextureFormats.checkBlockAligned(format, texture.size(), update_area);
+
+    this.bindCube(unit, texture);
 
     final FakeTextureCube ft = (FakeTextureCube) data.texture();
-    final ByteBuffer target_data = ft.getData(face);
+    copyArea(
+      format,
+      update_area,
+      data.data(),
+      ft.getData(face),
+      texture_area.width());
 
-    final long source_min_x = update_area.minimumX();
-    final long source_width = update_area.width();
-    final long source_min_y = update_area.minimumY();
-    final long source_height = update_area.height();
-    final ByteBuffer source_data = data.data();
+    if (JCGLTextureMipmaps.isMipmapped(texture.minificationFilter())) {
+      this.mipmapsUpdatedCube(ft);
+    }
+  }
 
-    final long target_width = texture_area.width();
+  @Override
+  public void textureCubeUpdateMipmapLevelLH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceLH face,
+    final int level,
+    final JCGLTextureCubeUpdateType data)
+    throws JCGLException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(unit, "Unit");
 
-    final int bpp = texture.format().getBytesPerPixel();
-    copyBytes(
-      bpp,
-      source_min_x,
-      source_width,
-      source_min_y,
-      source_height,
-      source_data,
-      target_data,
-      target_width);
+    final JCGLTextureCubeUsableType texture = data.texture();
+    checkTextureUnit(this.context, unit);
+    final FakeTextureCube ft = checkTextureCube(this.context, texture);
+
+    final AreaL update_area = data.area();
+    final AreaL level_area =
+      AreaSizesL.area(JCGLTextureMipmaps.levelSize(texture, level));
+
+    Preconditions.checkPrecondition(
+      update_area,
+      AreasL.contains(level_area, update_area),
+      ignored -> "Update area must be included in mipmap level area");
+
+    JCGLTextureFormats.checkBlockAligned(
+      texture.format(),
+      JCGLTextureMipmaps.levelSize(texture, level),
+      update_area);
+
+    this.bindCube(unit, texture);
+
+    /*
+     * Only level 0 is stored; the contents of other levels are discarded
+     * once they have been validated.
+     */
+
+    if (level == 0) {
+      copyArea(
+        texture.format(),
+        update_area,
+        data.data(),
+        ft.getData(face),
+        texture.size().width());
+    }
   }
 
   @Override
@@ -651,7 +770,8 @@ final class FakeTextures implements JCGLTexturesType
     NullCheck.notNull(mag_filter, "Magnification filter");
     RangeCheck.checkGreaterEqualLong(in_size, "Size", 2L, "Valid sizes");
 
-    final long bytes = (in_size * in_size) * 6L * format.getBytesPerPixel();
+    final long bytes =
+      JCGLTextureFormats.imageSizeBytes(format, in_size, in_size) * 6L;
     LOG.debug(
       "allocate {} {}x{}x6 {} bytes",
       format,
@@ -690,7 +810,7 @@ final class FakeTextures implements JCGLTexturesType
     checkTextureCube(this.context, texture);
 
     final FakeTextureCube ft = (FakeTextureCube) texture;
-    this.textureCubeBind(unit, texture);
+    this.bindCube(unit, texture);
     final ByteBuffer data = ft.getData(face).duplicate();
     data.order(ByteOrder.nativeOrder());
     return data;
@@ -717,6 +837,8 @@ final class FakeTextures implements JCGLTexturesType
         case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
         case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
         case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR: {
+          JCGLTextureFormats.checkMipmapGenerationSupported(b.format());
+          this.mipmapsDiscardCube(b);
           break;
         }
       }
@@ -731,6 +853,187 @@ final class FakeTextures implements JCGLTexturesType
     }
   }
 
+  private void mipmapsUpdated2D(
+    final FakeTexture2D t)
+  {
+    /*
+     * Mipmaps cannot be generated for compressed formats: The levels are
+     * uploaded explicitly instead.
+     */
+
+    if (t.format().isCompressed()) {
+      return;
+    }
+
+    switch (this.mipmap_mode) {
+      case TEXTURE_MIPMAP_UPDATE_IMMEDIATE: {
+        this.mipmapsDiscard2D(t);
+        break;
+      }
+      case TEXTURE_MIPMAP_UPDATE_DEFERRED: {
+        if (!t.mipmapsDirty()) {
+          t.setMipmapsDirty(true);
+          this.mipmaps_dirty_2d.add(t);
+        }
+        break;
+      }
+    }
+  }
+
+  private void mipmapsUpdatedCube(
+    final FakeTextureCube t)
+  {
+    /*
+     * Mipmaps cannot be generated for compressed formats: The levels are
+     * uploaded explicitly instead.
+     */
+
+    if (t.format().isCompressed()) {
+      return;
+    }
+
+    switch (this.mipmap_mode) {
+      case TEXTURE_MIPMAP_UPDATE_IMMEDIATE: {
+        this.mipmapsDiscardCube(t);
+        break;
+      }
+      case TEXTURE_MIPMAP_UPDATE_DEFERRED: {
+        if (!t.mipmapsDirty()) {
+          t.setMipmapsDirty(true);
+          this.mipmaps_dirty_cube.add(t);
+        }
+        break;
+      }
+    }
+  }
+
+  private void mipmapsDiscard2D(
+    final FakeTexture2D t)
+  {
+    if (t.mipmapsDirty()) {
+      t.setMipmapsDirty(false);
+      this.mipmaps_dirty_2d.remove(t);
+    }
+  }
+
+  private void mipmapsDiscardCube(
+    final FakeTextureCube t)
+  {
+    if (t.mipmapsDirty()) {
+      t.setMipmapsDirty(false);
+      this.mipmaps_dirty_cube.remove(t);
+    }
+  }
+
+  @Override
+  public void textureSetMipmapUpdateMode(
+    final JCGLTextureMipmapUpdateMode mode)
+    throws JCGLException
+  {
+    this.mipmap_mode = NullCheck.notNull(mode, "Mode");
+  }
+
+  @Override
+  public JCGLTextureMipmapUpdateMode textureGetMipmapUpdateMode()
+    throws JCGLException
+  {
+    return this.mipmap_mode;
+  }
+
+  @Override
+  public boolean textureMipmapsAreDirty(
+    final JCGLTextureUsableType texture)
+    throws JCGLException
+  {
+    NullCheck.notNull(texture, "Texture");
+
+    if (texture instanceof JCGLTexture2DUsableType) {
+      return checkTexture2D(
+        this.context, (JCGLTexture2DUsableType) texture).mipmapsDirty();
+    }
+    if (texture instanceof JCGLTextureCubeUsableType) {
+      return checkTextureCube(
+        this.context, (JCGLTextureCubeUsableType) texture).mipmapsDirty();
+    }
+    throw new UnreachableCodeException();
+  }
+
+  @Override
+  public int textureFlushMipmaps(
+    final JCGLTextureUnitType unit)
+    throws JCGLException
+  {
+    NullCheck.notNull(unit, "Unit");
+    checkTextureUnit(this.context, unit);
+
+    final int count =
+      this.mipmaps_dirty_2d.size() + this.mipmaps_dirty_cube.size();
+
+    if (count > 0) {
+      LOG.trace("flush mipmaps: {} textures", Integer.valueOf(count));
+    }
+
+    for (int k = 0; k < this.mipmaps_dirty_2d.size(); ++k) {
+      final FakeTexture2D t = this.mipmaps_dirty_2d.get(k);
+      this.bind2D(unit, t);
+      t.setMipmapsDirty(false);
+    }
+    this.mipmaps_dirty_2d.clear();
+
+    for (int k = 0; k < this.mipmaps_dirty_cube.size(); ++k) {
+      final FakeTextureCube t = this.mipmaps_dirty_cube.get(k);
+      this.bindCube(unit, t);
+      t.setMipmapsDirty(false);
+    }
+    this.mipmaps_dirty_cube.clear();
+    return count;
+  }
+
+  @Override
+  public void texture2DUpdateMipmapLevel(
+    final JCGLTextureUnitType unit,
+    final int level,
+    final JCGLTexture2DUpdateType data)
+    throws JCGLException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(unit, "Unit");
+
+    final JCGLTexture2DUsableType texture = data.texture();
+    checkTextureUnit(this.context, unit);
+    final FakeTexture2D ft = checkTexture2D(this.context, texture);
+
+    final AreaL update_area = data.area();
+    final AreaL level_area =
+      AreaSizesL.area(JCGLTextureMipmaps.levelSize(texture, level));
+
+    Preconditions.checkPrecondition(
+      update_area,
+      AreasL.contains(level_area, update_area),
+      ignored -> "Update area must be included in mipmap level area");
+
+    JCGLTextureFormats.checkBlockAligned(
+      texture.format(),
+      JCGLTextureMipmaps.levelSize(texture, level),
+      update_area);
+
+    this.bind2D(unit, texture);
+
+    /*
+     * Only level 0 is stored; the contents of other levels are discarded
+     * once they have been validated.
+     */
+
+    if (level == 0) {
+      copyArea(
+        texture.format(),
+        update_area,
+        data.data(),
+        ft.getData(),
+        texture.width());
+    }
+  }
+
   void setFramebuffers(final FakeFramebuffers fb)
   {
     this.framebuffers = NullCheck.notNull(fb, "Framebuffers");
@@ -0,0 +1,476 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionQueryAlreadyRunning;
+import com.io7m.jcanephora.core.JCGLExceptionQueryNotRunning;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackActive;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackMisconfigured;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLPrimitives;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryType;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryUsableType;
+import com.io7m.jcanephora.core.JCGLQueryResultAvailability;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackChecks;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
+import com.io7m.jcanephora.core.JCGLUniformBufferBindings;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junreachable.UnreachableCodeException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Optional;
+
+final class FakeTransformFeedback implements JCGLTransformFeedbackType
+{
+  /**
+   * The number of transform feedback binding points exposed by the fake
+   * implementation. This is the minimum required by OpenGL 3.3.
+   */
+
+  static final int MAXIMUM_SEPARATE_ATTRIBUTES = 4;
+
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(FakeTransformFeedback.class);
+  }
+
+  private final FakeContext context;
+  private final FakeShaders shaders;
+  private final JCGLArrayBufferUsableType[] bindings;
+  private final UnsignedRangeInclusiveL[] binding_ranges;
+  private @Nullable JCGLTransformFeedbackPrimitive active;
+  private boolean paused;
+  private @Nullable FakePrimitivesWrittenQuery running;
+
+  FakeTransformFeedback(
+    final FakeContext c,
+    final FakeShaders in_shaders)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+    this.shaders = NullCheck.notNull(in_shaders, "Shaders");
+    this.bindings = new JCGLArrayBufferUsableType[MAXIMUM_SEPARATE_ATTRIBUTES];
+    this.binding_ranges =
+      new UnsignedRangeInclusiveL[MAXIMUM_SEPARATE_ATTRIBUTES];
+  }
+
+  private static boolean isCompatible(
+    final JCGLTransformFeedbackPrimitive f,
+    final JCGLPrimitives p)
+  {
+    switch (f) {
+      case FEEDBACK_POINTS:
+        return p == JCGLPrimitives.PRIMITIVE_POINTS;
+      case FEEDBACK_LINES:
+        return p == JCGLPrimitives.PRIMITIVE_LINES
+          || p == JCGLPrimitives.PRIMITIVE_LINE_LOOP;
+      case FEEDBACK_TRIANGLES:
+        return p == JCGLPrimitives.PRIMITIVE_TRIANGLES
+          || p == JCGLPrimitives.PRIMITIVE_TRIANGLE_STRIP;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private static long primitivesFor(
+    final JCGLPrimitives p,
+    final long vertices)
+  {
+    switch (p) {
+      case PRIMITIVE_POINTS:
+        return vertices;
+      case PRIMITIVE_LINES:
+        return vertices / 2L;
+      case PRIMITIVE_LINE_LOOP:
+        return vertices >= 2L ? vertices : 0L;
+      case PRIMITIVE_TRIANGLES:
+        return vertices / 3L;
+      case PRIMITIVE_TRIANGLE_STRIP:
+        return Math.max(0L, vertices - 2L);
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Record the drawing of {@code vertices} vertices as primitives {@code p}.
+   * Geometry shaders are not simulated, so the primitives written are those
+   * assembled directly from the drawn vertices.
+   *
+   * @param p        The drawn primitives
+   * @param vertices The number of vertices drawn
+   *
+   * @throws JCGLExceptionTransformFeedbackMisconfigured Iff transform feedback
+   *                                                     is active, not
+   *                                                     paused, and {@code p}
+   *                                                     is not compatible with
+   *                                                     the captured primitive
+   *                                                     type
+   */
+
+  void onDraw(
+    final JCGLPrimitives p,
+    final long vertices)
+    throws JCGLExceptionTransformFeedbackMisconfigured
+  {
+    if (this.active == null || this.paused) {
+      return;
+    }
+
+    if (!isCompatible(this.active, p)) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Primitives are incompatible with transform feedback.");
+      sb.append(System.lineSeparator());
+      sb.append("  Captured: ");
+      sb.append(this.active);
+      sb.append(System.lineSeparator());
+      sb.append("  Drawn:    ");
+      sb.append(p);
+      sb.append(System.lineSeparator());
+      throw new JCGLExceptionTransformFeedbackMisconfigured(sb.toString());
+    }
+
+    if (this.running != null) {
+      final long written = primitivesFor(p, vertices);
+      LOG.trace("captured {} {}", Long.valueOf(written), this.active);
+      this.running.setPrimitives(this.running.getPrimitives() + written);
+    }
+  }
+
+  private int checkIndex(final int index)
+  {
+    return JCGLUniformBufferBindings.checkBindingIndex(
+      index, this.bindings.length);
+  }
+
+  private void checkInactive()
+    throws JCGLExceptionTransformFeedbackActive
+  {
+    if (this.active != null) {
+      throw new JCGLExceptionTransformFeedbackActive(
+        "Transform feedback buffer bindings cannot be changed whilst "
+          + "transform feedback is active");
+    }
+  }
+
+  private void checkActive()
+    throws JCGLExceptionTransformFeedbackNotActive
+  {
+    if (this.active == null) {
+      throw new JCGLExceptionTransformFeedbackNotActive(
+        "Transform feedback is not active");
+    }
+  }
+
+  private boolean isBoundTo(
+    final int index,
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+  {
+    return Objects.equals(a, this.bindings[index])
+      && Objects.equals(range, this.binding_ranges[index]);
+  }
+
+  @Override
+  public int transformFeedbackGetMaximumSeparateAttributes()
+    throws JCGLException
+  {
+    return this.bindings.length;
+  }
+
+  @Override
+  public boolean transformFeedbackPauseIsSupported()
+    throws JCGLException
+  {
+    return true;
+  }
+
+  @Override
+  public void transformFeedbackBufferBindIndexed(
+    final int index,
+    final JCGLArrayBufferUsableType a)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException
+  {
+    this.checkIndex(index);
+    FakeCompatibilityChecks.checkArrayBuffer(this.context, a);
+    JCGLResources.checkNotDeleted(a);
+    this.checkInactive();
+
+    final UnsignedRangeInclusiveL range = a.byteRange();
+    if (!this.isBoundTo(index, a, range)) {
+      LOG.trace("bind {} -> {}", Integer.valueOf(index), a);
+      this.bindings[index] = a;
+      this.binding_ranges[index] = range;
+    }
+  }
+
+  @Override
+  public void transformFeedbackBufferBindIndexedRange(
+    final int index,
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException
+  {
+    this.checkIndex(index);
+    FakeCompatibilityChecks.checkArrayBuffer(this.context, a);
+    JCGLResources.checkNotDeleted(a);
+    JCGLTransformFeedbackChecks.checkBindingRange(a, range);
+    this.checkInactive();
+
+    if (!this.isBoundTo(index, a, range)) {
+      LOG.trace("bind {} -> {} {}", Integer.valueOf(index), a, range);
+      this.bindings[index] = a;
+      this.binding_ranges[index] = range;
+    }
+  }
+
+  @Override
+  public void transformFeedbackBufferUnbindIndexed(
+    final int index)
+    throws
+    JCGLException,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkInactive();
+
+    if (this.bindings[index] != null) {
+      LOG.trace("unbind {}", Integer.valueOf(index));
+      this.bindings[index] = null;
+      this.binding_ranges[index] = null;
+    }
+  }
+
+  @Override
+  public Optional<JCGLArrayBufferUsableType>
+  transformFeedbackBufferGetIndexedBinding(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+    return Optional.ofNullable(this.bindings[index]);
+  }
+
+  @Override
+  public void transformFeedbackBegin(
+    final JCGLTransformFeedbackPrimitive p)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionTransformFeedbackActive,
+    JCGLExceptionTransformFeedbackMisconfigured,
+    JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(p, "Primitive");
+
+    if (this.active != null) {
+      throw new JCGLExceptionTransformFeedbackActive(
+        "Transform feedback is already active");
+    }
+
+    JCGLTransformFeedbackChecks.checkBegin(
+      this.shaders.shaderActivatedProgram(), this.bindings);
+
+    LOG.trace("begin {}", p);
+    this.active = p;
+    this.paused = false;
+  }
+
+  @Override
+  public void transformFeedbackPause()
+    throws
+    JCGLException,
+    JCGLExceptionUnsupportedFeature,
+    JCGLExceptionTransformFeedbackNotActive
+  {
+    this.checkActive();
+
+    if (!this.paused) {
+      LOG.trace("pause");
+      this.paused = true;
+    }
+  }
+
+  @Override
+  public void transformFeedbackResume()
+    throws
+    JCGLException,
+    JCGLExceptionUnsupportedFeature,
+    JCGLExceptionTransformFeedbackNotActive
+  {
+    this.checkActive();
+
+    if (this.paused) {
+      LOG.trace("resume");
+      this.paused = false;
+    }
+  }
+
+  @Override
+  public void transformFeedbackEnd()
+    throws JCGLException, JCGLExceptionTransformFeedbackNotActive
+  {
+    this.checkActive();
+
+    LOG.trace("end");
+    this.active = null;
+    this.paused = false;
+  }
+
+  @Override
+  public boolean transformFeedbackIsActive()
+    throws JCGLException
+  {
+    return this.active != null;
+  }
+
+  @Override
+  public boolean transformFeedbackIsPaused()
+    throws JCGLException
+  {
+    return this.paused;
+  }
+
+  @Override
+  public Optional<JCGLTransformFeedbackPrimitive>
+  transformFeedbackGetPrimitive()
+    throws JCGLException
+  {
+    return Optional.ofNullable(this.active);
+  }
+
+  @Override
+  public JCGLPrimitivesWrittenQueryType transformFeedbackQueryAllocate()
+    throws JCGLException
+  {
+    return new FakePrimitivesWrittenQuery(
+      this.context, this.context.getFreshID());
+  }
+
+  private FakePrimitivesWrittenQuery checkQuery(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+  {
+    NullCheck.notNull(q, "Query");
+
+    final FakePrimitivesWrittenQuery wq =
+      FakeCompatibilityChecks.checkPrimitivesWrittenQuery(this.context, q);
+    JCGLResources.checkNotDeleted(q);
+    return wq;
+  }
+
+  @Override
+  public void transformFeedbackQueryBegin(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    final FakePrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    if (this.running != null) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Primitives-written query is already running.");
+      sb.append(System.lineSeparator());
+      sb.append("Query: ");
+      sb.append(this.running);
+      sb.append(System.lineSeparator());
+      throw new JCGLExceptionQueryAlreadyRunning(sb.toString());
+    }
+
+    wq.setPrimitives(0L);
+    wq.setStarted(true);
+    this.running = wq;
+  }
+
+  @Override
+  public void transformFeedbackQueryFinish(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    this.checkQuery(q);
+
+    if (!Objects.equals(q, this.running)) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("This primitives-written query is not running.");
+      sb.append(System.lineSeparator());
+      if (this.running != null) {
+        sb.append("Currently running query: ");
+        sb.append(this.running);
+        sb.append(System.lineSeparator());
+      }
+      throw new JCGLExceptionQueryNotRunning(sb.toString());
+    }
+
+    this.running = null;
+  }
+
+  @Override
+  public JCGLQueryResultAvailability transformFeedbackQueryResultAvailability(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    final FakePrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    if (!wq.isStarted()) {
+      return JCGLQueryResultAvailability.QUERY_RESULT_NOT_YET_REQUESTED;
+    }
+
+    return JCGLQueryResultAvailability.QUERY_RESULT_AVAILABLE;
+  }
+
+  @Override
+  public long transformFeedbackQueryResultGet(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    return this.checkQuery(q).getPrimitives();
+  }
+
+  @Override
+  public void transformFeedbackQueryDelete(
+    final JCGLPrimitivesWrittenQueryType q)
+    throws JCGLException
+  {
+    final FakePrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    if (Objects.equals(this.running, q)) {
+      this.running = null;
+    }
+
+    wq.setDeleted();
+  }
+}
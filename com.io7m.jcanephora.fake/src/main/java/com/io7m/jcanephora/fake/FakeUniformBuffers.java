@@ -0,0 +1,224 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.fake;
+
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLUniformBufferBindings;
+import com.io7m.jcanephora.core.JCGLUniformBufferType;
+import com.io7m.jcanephora.core.JCGLUniformBufferUsableType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+final class FakeUniformBuffers implements JCGLUniformBuffersType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(FakeUniformBuffers.class);
+  }
+
+  private final FakeContext context;
+  private final JCGLUniformBufferUsableType[] bindings;
+  private final UnsignedRangeInclusiveL[] binding_ranges;
+
+  FakeUniformBuffers(
+    final FakeContext c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+
+    /*
+     * The minimum values required by OpenGL 3.3.
+     */
+
+    this.bindings = new JCGLUniformBufferUsableType[36];
+    this.binding_ranges = new UnsignedRangeInclusiveL[36];
+  }
+
+  private FakeBuffer checkUniform(final JCGLUniformBufferUsableType u)
+  {
+    FakeCompatibilityChecks.checkUniformBuffer(this.context, u);
+    JCGLResources.checkNotDeleted(u);
+    return (FakeBuffer) u;
+  }
+
+  private int checkIndex(final int index)
+  {
+    return JCGLUniformBufferBindings.checkBindingIndex(
+      index, this.bindings.length);
+  }
+
+  @Override
+  public int uniformBufferGetMaximumBindings()
+    throws JCGLException
+  {
+    return this.bindings.length;
+  }
+
+  @Override
+  public int uniformBufferGetOffsetAlignment()
+    throws JCGLException
+  {
+    return 256;
+  }
+
+  @Override
+  public JCGLUniformBufferType uniformBufferAllocate(
+    final long size,
+    final JCGLUsageHint usage)
+    throws JCGLException
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid size range");
+
+    LOG.debug("allocate ({} bytes, {})", Long.valueOf(size), usage);
+
+    final ByteBuffer data = ByteBuffer.allocate((int) size);
+    return new FakeUniformBuffer(
+      this.context, this.context.getFreshID(), data, usage);
+  }
+
+  @Override
+  public void uniformBufferUpdate(
+    final JCGLBufferUpdateType<JCGLUniformBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(u, "Update");
+    final FakeBuffer fu = this.checkUniform(u.buffer());
+    FakeBuffer.checkNotMapped(fu);
+
+    final UnsignedRangeInclusiveL r = u.dataUpdateRange();
+    final ByteBuffer data = u.data();
+    data.rewind();
+    final ByteBuffer fu_data = fu.getData();
+
+    final long lo = r.getLower();
+    final long hi = r.getUpper();
+    for (long index = lo; Long.compareUnsigned(index, hi) <= 0; ++index) {
+      final int ii = (int) index;
+      fu_data.put(ii, data.get((int) (index - lo)));
+    }
+  }
+
+  @Override
+  public void uniformBufferDelete(
+    final JCGLUniformBufferType u)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final FakeBuffer fu = this.checkUniform(u);
+
+    LOG.debug("delete {}", Integer.valueOf(u.glName()));
+
+    fu.setDeleted();
+    fu.setUnmapped();
+
+    for (int index = 0; index < this.bindings.length; ++index) {
+      if (Objects.equals(u, this.bindings[index])) {
+        this.bindings[index] = null;
+        this.binding_ranges[index] = null;
+      }
+    }
+  }
+
+  @Override
+  public void uniformBufferBindIndexed(
+    final int index,
+    final JCGLUniformBufferUsableType u)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkUniform(u);
+
+    LOG.trace("bind {} -> {}", Integer.valueOf(index), u);
+    this.bindings[index] = u;
+    this.binding_ranges[index] = u.byteRange();
+  }
+
+  @Override
+  public void uniformBufferBindIndexedRange(
+    final int index,
+    final JCGLUniformBufferUsableType u,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkUniform(u);
+    JCGLUniformBufferBindings.checkBindingRange(
+      u, range, this.uniformBufferGetOffsetAlignment());
+
+    LOG.trace("bind {} -> {} {}", Integer.valueOf(index), u, range);
+    this.bindings[index] = u;
+    this.binding_ranges[index] = range;
+  }
+
+  @Override
+  public void uniformBufferUnbindIndexed(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+
+    LOG.trace("unbind {}", Integer.valueOf(index));
+    this.bindings[index] = null;
+    this.binding_ranges[index] = null;
+  }
+
+  @Override
+  public Optional<JCGLUniformBufferUsableType> uniformBufferGetIndexedBinding(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+    return Optional.ofNullable(this.bindings[index]);
+  }
+
+  @Override
+  public void uniformBlockBind(
+    final JCGLProgramUniformBlockType b,
+    final int index)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    NullCheck.notNull(b, "Uniform block");
+    this.checkIndex(index);
+
+    final FakeProgramShader p =
+      FakeCompatibilityChecks.checkProgramShader(this.context, b.program());
+    JCGLResources.checkNotDeleted(p);
+
+    LOG.trace(
+      "[{}] uniform block {} -> {}",
+      p.name(),
+      b.name(),
+      Integer.valueOf(index));
+  }
+}
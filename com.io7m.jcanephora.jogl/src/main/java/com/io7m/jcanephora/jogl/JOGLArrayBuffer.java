@@ -37,13 +37,13 @@ final class JOGLArrayBuffer extends JOGLBuffer implements JCGLArrayBufferType
     this.image = String.format("[JOGLArrayBuffer %s]", super.toString());
   }
 
-  static JOGLArrayBuffer checkArray(
+  static JOGLBuffer checkArray(
     final GLContext current,
     final JCGLArrayBufferUsableType x)
     throws JCGLExceptionWrongContext
   {
     NullCheck.notNull(x, "Array buffers");
-    return (JOGLArrayBuffer) JOGLCompatibilityChecks.checkAny(current, x);
+    return (JOGLBuffer) JOGLCompatibilityChecks.checkAny(current, x);
   }
 
   @Override
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.jogl;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.jogamp.opengl.GLContext;
+
+final class JOGLArrayBufferStreaming extends JOGLBuffer
+  implements JCGLArrayBufferStreamingType
+{
+  private final int segment_count;
+  private final long segment_size;
+  private final String image;
+  private int segment;
+
+  JOGLArrayBufferStreaming(
+    final GLContext in_context,
+    final int in_id,
+    final long in_segment_size,
+    final int in_segment_count,
+    final JCGLUsageHint in_usage)
+  {
+    super(
+      in_context,
+      in_id,
+      Math.multiplyExact(in_segment_size, (long) in_segment_count),
+      in_usage);
+
+    this.segment_size = in_segment_size;
+    this.segment_count = in_segment_count;
+    this.segment = 0;
+    this.image = String.format(
+      "[JOGLArrayBufferStreaming %s %d×%d]",
+      super.toString(),
+      Integer.valueOf(in_segment_count),
+      Long.valueOf(in_segment_size));
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.image;
+  }
+
+  @Override
+  public int segmentCount()
+  {
+    return this.segment_count;
+  }
+
+  @Override
+  public long segmentSize()
+  {
+    return this.segment_size;
+  }
+
+  @Override
+  public int segmentCurrent()
+  {
+    return this.segment;
+  }
+
+  /**
+   * Advance to the next segment.
+   *
+   * @return {@code true} iff the current segment wrapped around to {@code 0}
+   */
+
+  boolean segmentAdvance()
+  {
+    this.segment = (this.segment + 1) % this.segment_count;
+    return this.segment == 0;
+  }
+}
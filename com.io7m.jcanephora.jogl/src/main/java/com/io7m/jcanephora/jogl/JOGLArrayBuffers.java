@@ -16,31 +16,43 @@
 
 package com.io7m.jcanephora.jogl;
 
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingType;
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingUsableType;
 import com.io7m.jcanephora.core.JCGLArrayBufferType;
 import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLBufferCopies;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLUsageHint;
 import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLByteBufferConsumerType;
 import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GL3;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 final class JOGLArrayBuffers implements JCGLArrayBuffersType
 {
@@ -52,7 +64,7 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
 
   private final GL3 gl;
   private final IntBuffer int_cache;
-  private @Nullable JOGLArrayBuffer bind;
+  private @Nullable JCGLArrayBufferUsableType bind;
 
   JOGLArrayBuffers(
     final JOGLContext c)
@@ -77,9 +89,10 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
   {
     NullCheck.notNull(a, "Array buffer");
     NullCheck.notNull(f, "Producer");
-    this.checkArray(a);
+    final JOGLBuffer ab = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
+      JOGLBuffer.checkNotMapped(ab);
       final long size = a.byteRange().getInterval();
       final ByteBuffer b = f.apply(size);
       this.gl.glGetBufferSubData(GL.GL_ARRAY_BUFFER, 0L, size, b);
@@ -127,7 +140,7 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
     final JCGLArrayBufferUsableType a)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
-    this.checkArray(a);
+    final JOGLBuffer b = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
       final UnsignedRangeInclusiveL r = a.byteRange();
@@ -144,12 +157,13 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
         size,
         null,
         JOGLTypeConversions.usageHintToGL(usage));
+      b.setUnmapped();
     } else {
       throw this.notBound(a);
     }
   }
 
-  private void actualBind(final JOGLArrayBuffer a)
+  private void actualBind(final JCGLArrayBufferUsableType a)
   {
     if (LOG.isTraceEnabled()) {
       LOG.trace("bind {} -> {}", this.bind, a);
@@ -201,13 +215,14 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
     throws JCGLException, JCGLExceptionDeleted
   {
     this.checkArray(a);
-    this.actualBind((JOGLArrayBuffer) a);
+    this.actualBind(a);
   }
 
-  private void checkArray(final JCGLArrayBufferUsableType a)
+  private JOGLBuffer checkArray(final JCGLArrayBufferUsableType a)
   {
-    JOGLArrayBuffer.checkArray(this.gl.getContext(), a);
+    final JOGLBuffer b = JOGLArrayBuffer.checkArray(this.gl.getContext(), a);
     JCGLResources.checkNotDeleted(a);
+    return b;
   }
 
   @Override
@@ -221,7 +236,7 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
   public void arrayBufferDelete(final JCGLArrayBufferType a)
     throws JCGLException, JCGLExceptionDeleted
   {
-    this.checkArray(a);
+    final JOGLBuffer b = this.checkArray(a);
 
     if (LOG.isDebugEnabled()) {
       LOG.debug("delete {}", Integer.valueOf(a.glName()));
@@ -230,7 +245,8 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
     this.int_cache.rewind();
     this.int_cache.put(0, a.glName());
     this.gl.glDeleteBuffers(1, this.int_cache);
-    ((JOGLArrayBuffer) a).setDeleted();
+    b.setDeleted();
+    b.setUnmapped();
 
     if (Objects.equals(a, this.bind)) {
       this.actualUnbind();
@@ -244,9 +260,10 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
   {
     NullCheck.notNull(u, "Update");
     final JCGLArrayBufferType a = u.buffer();
-    this.checkArray(a);
+    final JOGLBuffer b = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
+      JOGLBuffer.checkNotMapped(b);
       final UnsignedRangeInclusiveL r = u.dataUpdateRange();
       final ByteBuffer data = u.data();
       data.rewind();
@@ -257,6 +274,196 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
     }
   }
 
+  @Override
+  public JCGLArrayBufferStreamingType arrayBufferStreamingAllocate(
+    final long segment_size,
+    final int segments,
+    final JCGLUsageHint usage)
+    throws JCGLException
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      segment_size, "Segment size", Ranges.POSITIVE_LONG, "Valid size range");
+    RangeCheck.checkIncludedInInteger(
+      segments, "Segments", Ranges.POSITIVE_INTEGER, "Valid segment counts");
+
+    final long size = Math.multiplyExact(segment_size, (long) segments);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "allocate streaming ({} segments × {} bytes, {})",
+        Integer.valueOf(segments),
+        Long.valueOf(segment_size),
+        usage);
+    }
+
+    this.int_cache.rewind();
+    this.gl.glGenBuffers(1, this.int_cache);
+    final int id = this.int_cache.get(0);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocated {}", Integer.valueOf(id));
+    }
+
+    final JOGLArrayBufferStreaming a = new JOGLArrayBufferStreaming(
+      this.gl.getContext(), id, segment_size, segments, usage);
+    this.actualBind(a);
+
+    this.gl.glBufferData(
+      GL.GL_ARRAY_BUFFER, size, null, JOGLTypeConversions.usageHintToGL(usage));
+
+    return a;
+  }
+
+  @Override
+  public void arrayBufferStreamingRotate(
+    final JCGLArrayBufferStreamingUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(a, "Array buffer");
+    final JOGLArrayBufferStreaming sa =
+      (JOGLArrayBufferStreaming) this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      if (sa.segmentAdvance()) {
+        this.arrayBufferReallocate(sa);
+      }
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+          "rotate {} -> segment {}", sa, Integer.valueOf(sa.segmentCurrent()));
+      }
+    } else {
+      throw this.notBound(a);
+    }
+  }
+
+  @Override
+  public void arrayBufferStreamingWrite(
+    final JCGLArrayBufferStreamingUsableType a,
+    final JCGLByteBufferConsumerType w)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(a, "Array buffer");
+    NullCheck.notNull(w, "Writer");
+    final JOGLBuffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      JOGLBuffer.checkNotMapped(b);
+      final UnsignedRangeInclusiveL r = a.segmentCurrentByteRange();
+      final ByteBuffer window = this.gl.glMapBufferRange(
+        GL.GL_ARRAY_BUFFER,
+        r.getLower(),
+        r.getInterval(),
+        GL.GL_MAP_WRITE_BIT
+          | GL.GL_MAP_INVALIDATE_RANGE_BIT
+          | GL.GL_MAP_UNSYNCHRONIZED_BIT);
+      JOGLErrorChecking.checkErrors(this.gl);
+
+      try {
+        window.order(ByteOrder.nativeOrder());
+        window.rewind();
+        w.accept(window);
+      } finally {
+        this.gl.glUnmapBuffer(GL.GL_ARRAY_BUFFER);
+      }
+    } else {
+      throw this.notBound(a);
+    }
+  }
+
+  @Override
+  public ByteBuffer arrayBufferMapRange(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(a, "Array buffer");
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final JOGLBuffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      JOGLBuffer.checkNotMapped(b);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range, "Map range", a.byteRange(), "Buffer range");
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("map {} {} {}", a, range, flags);
+      }
+
+      final ByteBuffer m = this.gl.glMapBufferRange(
+        GL.GL_ARRAY_BUFFER,
+        range.getLower(),
+        range.getInterval(),
+        GL.GL_MAP_WRITE_BIT
+          | JOGLTypeConversions.bufferMapFlagSetToMask(flags));
+      JOGLErrorChecking.checkErrors(this.gl);
+
+      final boolean explicit =
+        flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+      b.setMapped(range, explicit);
+      m.order(ByteOrder.nativeOrder());
+      m.rewind();
+      return m;
+    }
+
+    throw this.notBound(a);
+  }
+
+  @Override
+  public void arrayBufferFlushMappedRange(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(a, "Array buffer");
+    NullCheck.notNull(range, "Range");
+    final JOGLBuffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      final UnsignedRangeInclusiveL mapped = JOGLBuffer.checkMapped(b);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range,
+        "Flush range",
+        new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+        "Mapped range");
+
+      if (b.isMappedFlushExplicit()) {
+        this.gl.glFlushMappedBufferRange(
+          GL.GL_ARRAY_BUFFER, range.getLower(), range.getInterval());
+      }
+      return;
+    }
+
+    throw this.notBound(a);
+  }
+
+  @Override
+  public boolean arrayBufferUnmap(
+    final JCGLArrayBufferUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    NullCheck.notNull(a, "Array buffer");
+    final JOGLBuffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      JOGLBuffer.checkMapped(b);
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unmap {}", a);
+      }
+
+      b.setUnmapped();
+      return this.gl.glUnmapBuffer(GL.GL_ARRAY_BUFFER);
+    }
+
+    throw this.notBound(a);
+  }
+
   private JCGLExceptionBufferNotBound notBound(
     final JCGLArrayBufferUsableType a)
   {
@@ -270,4 +477,40 @@ final class JOGLArrayBuffers implements JCGLArrayBuffersType
     sb.append(this.bind == null ? "none" : this.bind);
     return new JCGLExceptionBufferNotBound(sb.toString());
   }
+
+  @Override
+  public void arrayBufferCopy(
+    final JCGLArrayBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLArrayBufferUsableType target,
+    final long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    final JOGLBuffer s = this.checkArray(source);
+    final JOGLBuffer t = this.checkArray(target);
+    JOGLBuffer.checkNotMapped(s);
+    JOGLBuffer.checkNotMapped(t);
+    JCGLBufferCopies.checkCopy(source, source_range, target, target_offset);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "copy {} {} -> {} {}",
+        source,
+        source_range,
+        target,
+        Long.valueOf(target_offset));
+    }
+
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_READ_BUFFER, s.glName());
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_WRITE_BUFFER, t.glName());
+    this.gl.glCopyBufferSubData(
+      GL2ES3.GL_COPY_READ_BUFFER,
+      GL2ES3.GL_COPY_WRITE_BUFFER,
+      source_range.getLower(),
+      target_offset,
+      source_range.getInterval());
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_READ_BUFFER, 0);
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_WRITE_BUFFER, 0);
+  }
 }
@@ -17,8 +17,11 @@
 package com.io7m.jcanephora.jogl;
 
 import com.io7m.jcanephora.core.JCGLBufferUsableType;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLUsageHint;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import com.jogamp.opengl.GLContext;
 
@@ -26,6 +29,8 @@ abstract class JOGLBuffer extends JOGLReferable implements JCGLBufferUsableType
 {
   private final JCGLUsageHint usage;
   private final UnsignedRangeInclusiveL range;
+  private @Nullable UnsignedRangeInclusiveL mapped;
+  private boolean mapped_flush_explicit;
   private final String image;
 
   JOGLBuffer(
@@ -66,4 +71,57 @@ abstract class JOGLBuffer extends JOGLReferable implements JCGLBufferUsableType
   {
     return this.range;
   }
+
+  static void checkNotMapped(
+    final JOGLBuffer b)
+    throws JCGLExceptionBufferMapped
+  {
+    final UnsignedRangeInclusiveL r = b.mapped;
+    if (r != null) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Buffer is mapped.");
+      sb.append(System.lineSeparator());
+      sb.append("  Buffer: ");
+      sb.append(b);
+      sb.append(System.lineSeparator());
+      sb.append("  Mapped range: ");
+      sb.append(r);
+      throw new JCGLExceptionBufferMapped(sb.toString());
+    }
+  }
+
+  static UnsignedRangeInclusiveL checkMapped(
+    final JOGLBuffer b)
+    throws JCGLExceptionBufferNotMapped
+  {
+    final UnsignedRangeInclusiveL r = b.mapped;
+    if (r == null) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Buffer is not mapped.");
+      sb.append(System.lineSeparator());
+      sb.append("  Buffer: ");
+      sb.append(b);
+      throw new JCGLExceptionBufferNotMapped(sb.toString());
+    }
+    return r;
+  }
+
+  final boolean isMappedFlushExplicit()
+  {
+    return this.mapped_flush_explicit;
+  }
+
+  final void setMapped(
+    final UnsignedRangeInclusiveL r,
+    final boolean flush_explicit)
+  {
+    this.mapped = NullCheck.notNull(r, "Range");
+    this.mapped_flush_explicit = flush_explicit;
+  }
+
+  final void setUnmapped()
+  {
+    this.mapped = null;
+    this.mapped_flush_explicit = false;
+  }
 }
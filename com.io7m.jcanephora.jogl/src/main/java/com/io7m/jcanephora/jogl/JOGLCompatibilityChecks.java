@@ -18,6 +18,7 @@ package com.io7m.jcanephora.jogl;
 
 import com.io7m.jcanephora.core.JCGLExceptionWrongContext;
 import com.io7m.junreachable.UnreachableCodeException;
+import com.jogamp.common.util.VersionNumber;
 import com.jogamp.opengl.GLContext;
 
 import java.util.Objects;
@@ -54,11 +55,108 @@ import java.util.Objects;
 
 final class JOGLCompatibilityChecks
 {
+  private static final VersionNumber GL_40 = new VersionNumber(4, 0, 0);
+  private static final VersionNumber GL_41 = new VersionNumber(4, 1, 0);
+  private static final VersionNumber GL_42 = new VersionNumber(4, 2, 0);
+  private static final VersionNumber GL_43 = new VersionNumber(4, 3, 0);
+
   private JOGLCompatibilityChecks()
   {
     throw new UnreachableCodeException();
   }
 
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports indirect drawing
+   */
+
+  static boolean isIndirectDrawSupported(
+    final GLContext c)
+  {
+    return c.getGLVersionNumber().compareTo(GL_40) >= 0
+      || c.isExtensionAvailable("GL_ARB_draw_indirect");
+  }
+
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports multi-draw indirect drawing
+   */
+
+  static boolean isMultiDrawIndirectSupported(
+    final GLContext c)
+  {
+    return c.getGLVersionNumber().compareTo(GL_43) >= 0
+      || c.isExtensionAvailable("GL_ARB_multi_draw_indirect");
+  }
+
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports pausing and resuming
+   * transform feedback
+   */
+
+  static boolean isTransformFeedbackPauseSupported(
+    final GLContext c)
+  {
+    return c.getGLVersionNumber().compareTo(GL_40) >= 0
+      || c.isExtensionAvailable("GL_ARB_transform_feedback2");
+  }
+
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports program binaries
+   */
+
+  static boolean isProgramBinarySupported(
+    final GLContext c)
+  {
+    return c.getGLVersionNumber().compareTo(GL_41) >= 0
+      || c.isExtensionAvailable("GL_ARB_get_program_binary");
+  }
+
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports non-blocking queries of
+   * parallel shader compilation
+   */
+
+  static boolean isParallelShaderCompileSupported(
+    final GLContext c)
+  {
+    return c.isExtensionAvailable("GL_KHR_parallel_shader_compile")
+      || c.isExtensionAvailable("GL_ARB_parallel_shader_compile");
+  }
+
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports S3TC texture compression
+   */
+
+  static boolean isTextureCompressionS3TCSupported(
+    final GLContext c)
+  {
+    return c.isExtensionAvailable("GL_EXT_texture_compression_s3tc");
+  }
+
+  /**
+   * @param c The current context
+   *
+   * @return {@code true} iff the context supports BPTC texture compression
+   */
+
+  static boolean isTextureCompressionBPTCSupported(
+    final GLContext c)
+  {
+    return c.getGLVersionNumber().compareTo(GL_42) >= 0
+      || c.isExtensionAvailable("GL_ARB_texture_compression_bptc");
+  }
+
   @SuppressWarnings("unchecked")
   static <A> A checkAny(
     final GLContext current,
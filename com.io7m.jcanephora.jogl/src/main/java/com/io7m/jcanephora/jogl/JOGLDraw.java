@@ -16,30 +16,55 @@
 
 package com.io7m.jcanephora.jogl;
 
+import com.io7m.jcanephora.core.JCGLDrawChecks;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLIndirectCommands;
 import com.io7m.jcanephora.core.JCGLPrimitives;
 import com.io7m.jcanephora.core.api.JCGLDrawType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.jogamp.common.nio.PointerBuffer;
 import com.jogamp.opengl.GL3;
 
+import java.nio.IntBuffer;
+
 final class JOGLDraw implements JCGLDrawType
 {
   private final JOGLArrayObjects array_objects;
   private final JOGLIndexBuffers index_buffers;
+  private final JOGLIndirectBuffers indirect_buffers;
   private final GL3 g3;
+  private PointerBuffer offsets;
 
   JOGLDraw(
     final JOGLContext in_context,
     final JOGLArrayObjects in_array_objects,
-    final JOGLIndexBuffers in_index_buffers)
+    final JOGLIndexBuffers in_index_buffers,
+    final JOGLIndirectBuffers in_indirect_buffers)
   {
     final JOGLContext context = NullCheck.notNull(in_context, "Context");
     this.array_objects = NullCheck.notNull(in_array_objects, "Array objects");
     this.index_buffers = NullCheck.notNull(in_index_buffers, "Index buffers");
+    this.indirect_buffers =
+      NullCheck.notNull(in_indirect_buffers, "Indirect buffers");
     this.g3 = context.getGL3();
+    this.offsets = PointerBuffer.allocateDirect(64);
+  }
+
+  private JOGLIndexBuffer currentIndexBuffer()
+    throws JCGLExceptionBufferNotBound
+  {
+    if (this.index_buffers.indexBufferIsBound()) {
+      return this.array_objects.getCurrentIndexBuffer();
+    }
+    throw new JCGLExceptionBufferNotBound(
+      "No index buffer is currently bound");
   }
 
   @Override
@@ -116,4 +141,221 @@ final class JOGLDraw implements JCGLDrawType
         "No index buffer is currently bound");
     }
   }
+
+  @Override
+  public void drawElementsRange(
+    final JCGLPrimitives p,
+    final long first,
+    final int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JOGLIndexBuffer ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    final int pgl = JOGLTypeConversions.primitiveToGL(p);
+    final int type = JOGLTypeConversions.unsignedTypeToGL(ib.type());
+    final long offset = first * (long) ib.type().getSizeBytes();
+    this.g3.glDrawElements(pgl, count, type, offset);
+  }
+
+  @Override
+  public void drawElementsBaseVertex(
+    final JCGLPrimitives p,
+    final long first,
+    final int count,
+    final int base_vertex)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JOGLIndexBuffer ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    final int pgl = JOGLTypeConversions.primitiveToGL(p);
+    final int type = JOGLTypeConversions.unsignedTypeToGL(ib.type());
+    final long offset = first * (long) ib.type().getSizeBytes();
+    this.g3.glDrawElementsBaseVertex(pgl, count, type, offset, base_vertex);
+  }
+
+  @Override
+  public void drawRangeElements(
+    final JCGLPrimitives p,
+    final int start,
+    final int end,
+    final long first,
+    final int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    RangeCheck.checkIncludedInInteger(
+      start, "Start", Ranges.NATURAL_INTEGER, "Valid index");
+    RangeCheck.checkGreaterEqualInteger(end, "End", start, "Start");
+
+    final JOGLIndexBuffer ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    final int pgl = JOGLTypeConversions.primitiveToGL(p);
+    final int type = JOGLTypeConversions.unsignedTypeToGL(ib.type());
+    final long offset = first * (long) ib.type().getSizeBytes();
+    this.g3.glDrawRangeElements(pgl, start, end, count, type, offset);
+  }
+
+  @Override
+  public void multiDrawArrays(
+    final JCGLPrimitives p,
+    final IntBuffer first,
+    final IntBuffer count)
+    throws JCGLException, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final int draws = JCGLDrawChecks.checkMultiDraw(first, count);
+    this.g3.glMultiDrawArrays(
+      JOGLTypeConversions.primitiveToGL(p), first, count, draws);
+  }
+
+  @Override
+  public void multiDrawElements(
+    final JCGLPrimitives p,
+    final IntBuffer first,
+    final IntBuffer count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final JOGLIndexBuffer ib = this.currentIndexBuffer();
+    final int draws =
+      JCGLDrawChecks.checkMultiDrawElements(first, count, ib.indices());
+
+    /*
+     * OpenGL expects an array of byte offsets into the index buffer. The
+     * array is retained between calls and only grows, so that repeated
+     * calls do not allocate.
+     */
+
+    if (this.offsets.capacity() < draws) {
+      this.offsets = PointerBuffer.allocateDirect(
+        Math.max(draws, this.offsets.capacity() * 2));
+    }
+
+    final long size = (long) ib.type().getSizeBytes();
+    final int f_base = first.position();
+    for (int index = 0; index < draws; ++index) {
+      this.offsets.put(index, (long) first.get(f_base + index) * size);
+    }
+    this.offsets.rewind();
+
+    final int pgl = JOGLTypeConversions.primitiveToGL(p);
+    final int type = JOGLTypeConversions.unsignedTypeToGL(ib.type());
+    this.g3.glMultiDrawElements(pgl, count, type, this.offsets, draws);
+  }
+
+  @Override
+  public void drawArraysIndirect(
+    final JCGLPrimitives p,
+    final long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkIndirectDrawSupported();
+
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b, offset, 1, 0, JCGLIndirectCommands.DRAW_ARRAYS_COMMAND_SIZE_BYTES);
+
+    this.g3.glDrawArraysIndirect(
+      JOGLTypeConversions.primitiveToGL(p), offset);
+  }
+
+  @Override
+  public void drawElementsIndirect(
+    final JCGLPrimitives p,
+    final long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkIndirectDrawSupported();
+
+    final JOGLIndexBuffer ib = this.currentIndexBuffer();
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b, offset, 1, 0, JCGLIndirectCommands.DRAW_ELEMENTS_COMMAND_SIZE_BYTES);
+
+    this.g3.glDrawElementsIndirect(
+      JOGLTypeConversions.primitiveToGL(p),
+      JOGLTypeConversions.unsignedTypeToGL(ib.type()),
+      offset);
+  }
+
+  @Override
+  public void multiDrawArraysIndirect(
+    final JCGLPrimitives p,
+    final long offset,
+    final int draws,
+    final int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkMultiDrawIndirectSupported();
+
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b,
+      offset,
+      draws,
+      stride,
+      JCGLIndirectCommands.DRAW_ARRAYS_COMMAND_SIZE_BYTES);
+
+    this.g3.glMultiDrawArraysIndirect(
+      JOGLTypeConversions.primitiveToGL(p), offset, draws, stride);
+  }
+
+  @Override
+  public void multiDrawElementsIndirect(
+    final JCGLPrimitives p,
+    final long offset,
+    final int draws,
+    final int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkMultiDrawIndirectSupported();
+
+    final JOGLIndexBuffer ib = this.currentIndexBuffer();
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    final int actual_stride = JCGLIndirectCommands.checkCommands(
+      b,
+      offset,
+      draws,
+      stride,
+      JCGLIndirectCommands.DRAW_ELEMENTS_COMMAND_SIZE_BYTES);
+
+    /*
+     * JOGL only exposes glMultiDrawElementsIndirect with a client-side
+     * pointer argument, which cannot be used to specify an offset into a
+     * bound indirect buffer. The commands are therefore submitted one at a
+     * time; this is equivalent, albeit with a call per command.
+     */
+
+    final int pgl = JOGLTypeConversions.primitiveToGL(p);
+    final int type = JOGLTypeConversions.unsignedTypeToGL(ib.type());
+    for (int index = 0; index < draws; ++index) {
+      this.g3.glDrawElementsIndirect(
+        pgl, type, offset + ((long) index * (long) actual_stride));
+    }
+  }
 }
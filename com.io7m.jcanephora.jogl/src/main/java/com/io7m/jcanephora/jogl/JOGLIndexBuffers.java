@@ -17,9 +17,13 @@
 package com.io7m.jcanephora.jogl;
 
 import com.io7m.jcanephora.core.JCGLArrayObjectUsableType;
+import com.io7m.jcanephora.core.JCGLBufferCopies;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionIndexBufferAlreadyConfigured;
 import com.io7m.jcanephora.core.JCGLIndexBufferType;
@@ -32,18 +36,23 @@ import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GL3;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 final class JOGLIndexBuffers implements JCGLIndexBuffersType
 {
@@ -101,7 +110,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
     NullCheck.notNull(i, "Index buffer");
-    this.checkIndexBuffer(i);
+    final JOGLIndexBuffer ib = this.checkIndexBuffer(i);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -110,6 +119,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
     if (i_opt.isPresent()) {
       final JCGLIndexBufferUsableType current_ib = i_opt.get();
       if (Objects.equals(i, current_ib)) {
+        JOGLBuffer.checkNotMapped(ib);
         final long size = i.byteRange().getInterval();
         final ByteBuffer b = f.apply(size);
         this.gl.glGetBufferSubData(GL.GL_ELEMENT_ARRAY_BUFFER, 0L, size, b);
@@ -270,6 +280,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
     this.int_cache.put(0, i.glName());
     this.gl.glDeleteBuffers(1, this.int_cache);
     i.setDeleted();
+    i.setUnmapped();
 
     for (final JCGLReferenceContainerType c : i.referringContainers()) {
       if (c instanceof JOGLArrayObject) {
@@ -286,7 +297,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
   {
     NullCheck.notNull(u, "Update");
     final JCGLIndexBufferType ii = u.buffer();
-    this.checkIndexBuffer(ii);
+    final JOGLIndexBuffer ib = this.checkIndexBuffer(ii);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -295,6 +306,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
     if (i_opt.isPresent()) {
       final JCGLIndexBufferUsableType current_ib = i_opt.get();
       if (Objects.equals(ii, current_ib)) {
+        JOGLBuffer.checkNotMapped(ib);
         final UnsignedRangeInclusiveL r = u.dataUpdateRange();
         final ByteBuffer data = u.data();
         data.rewind();
@@ -312,7 +324,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
     final JCGLIndexBufferUsableType i)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
-    this.checkIndexBuffer(i);
+    final JOGLIndexBuffer ib = this.checkIndexBuffer(i);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -330,6 +342,7 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
         final long size = r.getInterval();
         final int usage = JOGLTypeConversions.usageHintToGL(i.usageHint());
         this.gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, size, null, usage);
+        ib.setUnmapped();
         return;
       }
     }
@@ -337,6 +350,116 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
     throw notBound(i, i_opt);
   }
 
+  @Override
+  public ByteBuffer indexBufferMapRange(
+    final JCGLIndexBufferUsableType i,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final JOGLIndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        JOGLBuffer.checkNotMapped(ib);
+        UnsignedRangeCheck.checkRangeIncludedInLong(
+          range, "Map range", i.byteRange(), "Buffer range");
+
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("map {} {} {}", i, range, flags);
+        }
+
+        final ByteBuffer m = this.gl.glMapBufferRange(
+          GL.GL_ELEMENT_ARRAY_BUFFER,
+          range.getLower(),
+          range.getInterval(),
+          GL.GL_MAP_WRITE_BIT
+            | JOGLTypeConversions.bufferMapFlagSetToMask(flags));
+        JOGLErrorChecking.checkErrors(this.gl);
+
+        final boolean explicit =
+          flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+        ib.setMapped(range, explicit);
+        m.order(ByteOrder.nativeOrder());
+        m.rewind();
+        return m;
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
+  @Override
+  public void indexBufferFlushMappedRange(
+    final JCGLIndexBufferUsableType i,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    final JOGLIndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        final UnsignedRangeInclusiveL mapped = JOGLBuffer.checkMapped(ib);
+        UnsignedRangeCheck.checkRangeIncludedInLong(
+          range,
+          "Flush range",
+          new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+          "Mapped range");
+
+        if (ib.isMappedFlushExplicit()) {
+          this.gl.glFlushMappedBufferRange(
+            GL.GL_ELEMENT_ARRAY_BUFFER, range.getLower(), range.getInterval());
+        }
+        return;
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
+  @Override
+  public boolean indexBufferUnmap(
+    final JCGLIndexBufferUsableType i)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    final JOGLIndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        JOGLBuffer.checkMapped(ib);
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("unmap {}", i);
+        }
+
+        ib.setUnmapped();
+        return this.gl.glUnmapBuffer(GL.GL_ELEMENT_ARRAY_BUFFER);
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
   @Override
   public boolean indexBufferIsBound()
   {
@@ -344,4 +467,40 @@ final class JOGLIndexBuffers implements JCGLIndexBuffersType
       this.array_objects.arrayObjectGetCurrentlyBound();
     return ao.indexBufferBound().isPresent();
   }
+
+  @Override
+  public void indexBufferCopy(
+    final JCGLIndexBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLIndexBufferUsableType target,
+    final long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    final JOGLIndexBuffer s = this.checkIndexBuffer(source);
+    final JOGLIndexBuffer t = this.checkIndexBuffer(target);
+    JOGLBuffer.checkNotMapped(s);
+    JOGLBuffer.checkNotMapped(t);
+    JCGLBufferCopies.checkCopy(source, source_range, target, target_offset);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "copy {} {} -> {} {}",
+        source,
+        source_range,
+        target,
+        Long.valueOf(target_offset));
+    }
+
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_READ_BUFFER, s.glName());
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_WRITE_BUFFER, t.glName());
+    this.gl.glCopyBufferSubData(
+      GL2ES3.GL_COPY_READ_BUFFER,
+      GL2ES3.GL_COPY_WRITE_BUFFER,
+      source_range.getLower(),
+      target_offset,
+      source_range.getInterval());
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_READ_BUFFER, 0);
+    this.gl.glBindBuffer(GL2ES3.GL_COPY_WRITE_BUFFER, 0);
+  }
 }
@@ -0,0 +1,410 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.jogl;
+
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndirectBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+final class JOGLIndirectBuffers implements JCGLIndirectBuffersType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JOGLIndirectBuffers.class);
+  }
+
+  private final GL3 gl;
+  private final IntBuffer int_cache;
+  private final boolean supported;
+  private final boolean supported_multi;
+  private @Nullable JCGLIndirectBufferUsableType bind;
+
+  JOGLIndirectBuffers(
+    final JOGLContext c)
+  {
+    NullCheck.notNull(c, "Context");
+    this.gl = c.getGL3();
+    this.int_cache = Buffers.newDirectIntBuffer(1);
+
+    final GLContext context = this.gl.getContext();
+    this.supported =
+      JOGLCompatibilityChecks.isIndirectDrawSupported(context);
+    this.supported_multi = this.supported
+      && JOGLCompatibilityChecks.isMultiDrawIndirectSupported(context);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "indirect drawing supported: {}",
+        Boolean.valueOf(this.supported));
+      LOG.debug(
+        "multi-draw indirect drawing supported: {}",
+        Boolean.valueOf(this.supported_multi));
+    }
+
+    /*
+     * Configure baseline defaults.
+     */
+
+    if (this.supported) {
+      this.gl.glBindBuffer(GL3ES3.GL_DRAW_INDIRECT_BUFFER, 0);
+      JOGLErrorChecking.checkErrors(this.gl);
+    }
+  }
+
+  void checkIndirectDrawSupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.supported) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Indirect drawing requires OpenGL 4.0 or ARB_draw_indirect");
+    }
+  }
+
+  void checkMultiDrawIndirectSupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.supported_multi) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Multi-draw indirect drawing requires OpenGL 4.3 or "
+          + "ARB_multi_draw_indirect");
+    }
+  }
+
+  /**
+   * @return The currently bound indirect buffer
+   *
+   * @throws JCGLExceptionBufferNotBound If no indirect buffer is bound
+   * @throws JCGLExceptionBufferMapped   If the bound buffer is mapped
+   */
+
+  JCGLIndirectBufferUsableType getCurrentDrawable()
+    throws JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped
+  {
+    final JCGLIndirectBufferUsableType b = this.bind;
+    if (b == null) {
+      throw new JCGLExceptionBufferNotBound(
+        "No indirect buffer is currently bound");
+    }
+    JOGLBuffer.checkNotMapped((JOGLBuffer) b);
+    return b;
+  }
+
+  @Override
+  public boolean indirectDrawIsSupported()
+    throws JCGLException
+  {
+    return this.supported;
+  }
+
+  @Override
+  public boolean indirectMultiDrawIsSupported()
+    throws JCGLException
+  {
+    return this.supported_multi;
+  }
+
+  @Override
+  public JCGLIndirectBufferType indirectBufferAllocate(
+    final long size,
+    final JCGLUsageHint usage)
+    throws JCGLException, JCGLExceptionUnsupportedFeature
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid size range");
+    this.checkIndirectDrawSupported();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocate ({} bytes, {})", Long.valueOf(size), usage);
+    }
+
+    this.int_cache.rewind();
+    this.gl.glGenBuffers(1, this.int_cache);
+    final int id = this.int_cache.get(0);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocated {}", Integer.valueOf(id));
+    }
+
+    final JOGLIndirectBuffer b =
+      new JOGLIndirectBuffer(this.gl.getContext(), id, size, usage);
+    this.actualBind(b);
+
+    this.gl.glBufferData(
+      GL3ES3.GL_DRAW_INDIRECT_BUFFER,
+      size,
+      null,
+      JOGLTypeConversions.usageHintToGL(usage));
+    return b;
+  }
+
+  private void actualBind(
+    final JCGLIndirectBufferUsableType b)
+  {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {}", this.bind, b);
+    }
+
+    if (!Objects.equals(b, this.bind)) {
+      this.gl.glBindBuffer(GL3ES3.GL_DRAW_INDIRECT_BUFFER, b.glName());
+      this.bind = b;
+    }
+  }
+
+  private void actualUnbind()
+  {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("unbind {} -> {}", this.bind, null);
+    }
+
+    if (this.bind != null) {
+      this.gl.glBindBuffer(GL3ES3.GL_DRAW_INDIRECT_BUFFER, 0);
+      this.bind = null;
+    }
+  }
+
+  private JOGLBuffer checkIndirect(
+    final JCGLIndirectBufferUsableType b)
+  {
+    final JOGLBuffer jb =
+      JOGLIndirectBuffer.checkIndirect(this.gl.getContext(), b);
+    JCGLResources.checkNotDeleted(b);
+    return jb;
+  }
+
+  @Override
+  public Optional<JCGLIndirectBufferUsableType>
+  indirectBufferGetCurrentlyBound()
+    throws JCGLException
+  {
+    return Optional.ofNullable(this.bind);
+  }
+
+  @Override
+  public boolean indirectBufferAnyIsBound()
+    throws JCGLException
+  {
+    return this.bind != null;
+  }
+
+  @Override
+  public boolean indirectBufferIsBound(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    this.checkIndirect(b);
+    return Objects.equals(b, this.bind);
+  }
+
+  @Override
+  public void indirectBufferBind(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    this.checkIndirect(b);
+    this.actualBind(b);
+  }
+
+  @Override
+  public void indirectBufferUnbind()
+    throws JCGLException
+  {
+    this.actualUnbind();
+  }
+
+  @Override
+  public void indirectBufferDelete(
+    final JCGLIndirectBufferType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JOGLBuffer jb = this.checkIndirect(b);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("delete {}", Integer.valueOf(b.glName()));
+    }
+
+    this.int_cache.rewind();
+    this.int_cache.put(0, b.glName());
+    this.gl.glDeleteBuffers(1, this.int_cache);
+    jb.setDeleted();
+    jb.setUnmapped();
+
+    if (Objects.equals(b, this.bind)) {
+      this.actualUnbind();
+    }
+  }
+
+  @Override
+  public void indirectBufferUpdate(
+    final JCGLBufferUpdateType<JCGLIndirectBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(u, "Update");
+    final JCGLIndirectBufferType b = u.buffer();
+    final JOGLBuffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      JOGLBuffer.checkNotMapped(jb);
+      final UnsignedRangeInclusiveL r = u.dataUpdateRange();
+      final ByteBuffer data = u.data();
+      data.rewind();
+      this.gl.glBufferSubData(
+        GL3ES3.GL_DRAW_INDIRECT_BUFFER, r.getLower(), r.getInterval(), data);
+      return;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public ByteBuffer indirectBufferMapRange(
+    final JCGLIndirectBufferUsableType b,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final JOGLBuffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      JOGLBuffer.checkNotMapped(jb);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range, "Map range", b.byteRange(), "Buffer range");
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("map {} {} {}", b, range, flags);
+      }
+
+      final ByteBuffer m = this.gl.glMapBufferRange(
+        GL3ES3.GL_DRAW_INDIRECT_BUFFER,
+        range.getLower(),
+        range.getInterval(),
+        GL.GL_MAP_WRITE_BIT
+          | JOGLTypeConversions.bufferMapFlagSetToMask(flags));
+      JOGLErrorChecking.checkErrors(this.gl);
+
+      final boolean explicit =
+        flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+      jb.setMapped(range, explicit);
+      m.order(ByteOrder.nativeOrder());
+      m.rewind();
+      return m;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public void indirectBufferFlushMappedRange(
+    final JCGLIndirectBufferUsableType b,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    final JOGLBuffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      final UnsignedRangeInclusiveL mapped = JOGLBuffer.checkMapped(jb);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range,
+        "Flush range",
+        new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+        "Mapped range");
+
+      if (jb.isMappedFlushExplicit()) {
+        this.gl.glFlushMappedBufferRange(
+          GL3ES3.GL_DRAW_INDIRECT_BUFFER,
+          range.getLower(),
+          range.getInterval());
+      }
+      return;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public boolean indirectBufferUnmap(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    final JOGLBuffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      JOGLBuffer.checkMapped(jb);
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unmap {}", b);
+      }
+
+      jb.setUnmapped();
+      return this.gl.glUnmapBuffer(GL3ES3.GL_DRAW_INDIRECT_BUFFER);
+    }
+
+    throw this.notBound(b);
+  }
+
+  private JCGLExceptionBufferNotBound notBound(
+    final JCGLIndirectBufferUsableType b)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Buffer is not bound.");
+    sb.append(System.lineSeparator());
+    sb.append("  Required: ");
+    sb.append(b);
+    sb.append(System.lineSeparator());
+    sb.append("  Actual: ");
+    sb.append(this.bind == null ? "none" : this.bind);
+    return new JCGLExceptionBufferNotBound(sb.toString());
+  }
+}
@@ -27,13 +27,19 @@ import com.io7m.jcanephora.core.api.JCGLDepthBuffersType;
 import com.io7m.jcanephora.core.api.JCGLDrawType;
 import com.io7m.jcanephora.core.api.JCGLFramebuffersType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
 import com.io7m.jcanephora.core.api.JCGLPolygonModesType;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
 import com.io7m.jcanephora.core.api.JCGLScissorType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
 import com.io7m.jcanephora.core.api.JCGLStencilBuffersType;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
 import com.io7m.jcanephora.core.api.JCGLTexturesType;
 import com.io7m.jcanephora.core.api.JCGLTimersType;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
 import com.io7m.jcanephora.core.api.JCGLViewportsType;
 import com.io7m.jnull.NullCheck;
 
@@ -56,6 +62,12 @@ final class JOGLInterfaceGL33 implements JCGLInterfaceGL33Type
   private final JOGLScissor scissor;
   private final JOGLStencilBuffers stencil;
   private final JOGLTimers timers;
+  private final JOGLSyncs syncs;
+  private final JOGLReadbacks readbacks;
+  private final JOGLUniformBuffers uniform_buffers;
+  private final JOGLIndirectBuffers indirect_buffers;
+  private final JOGLPrimitiveRestart primitive_restart;
+  private final JOGLTransformFeedback transform_feedback;
 
   JOGLInterfaceGL33(
     final JOGLContext c)
@@ -68,7 +80,11 @@ final class JOGLInterfaceGL33 implements JCGLInterfaceGL33Type
     this.array_objects =
       new JOGLArrayObjects(c, this.array_buffers, this.index_buffers);
     this.shaders = new JOGLShaders(c);
-    this.draw = new JOGLDraw(c, this.array_objects, this.index_buffers);
+    this.transform_feedback = new JOGLTransformFeedback(c, this.shaders);
+    this.indirect_buffers = new JOGLIndirectBuffers(c);
+    this.primitive_restart = new JOGLPrimitiveRestart(c);
+    this.draw = new JOGLDraw(
+      c, this.array_objects, this.index_buffers, this.indirect_buffers);
     this.clear = new JOGLClear(c);
     this.textures = new JOGLTextures(c);
     this.framebuffers = new JOGLFramebuffers(c, this.textures);
@@ -81,6 +97,9 @@ final class JOGLInterfaceGL33 implements JCGLInterfaceGL33Type
     this.scissor = new JOGLScissor(c);
     this.stencil = new JOGLStencilBuffers(c, this.framebuffers);
     this.timers = new JOGLTimers(c);
+    this.syncs = new JOGLSyncs(c);
+    this.readbacks = new JOGLReadbacks(c, this.textures, this.syncs);
+    this.uniform_buffers = new JOGLUniformBuffers(c);
   }
 
   @Override
@@ -184,4 +203,40 @@ final class JOGLInterfaceGL33 implements JCGLInterfaceGL33Type
   {
     return this.timers;
   }
+
+  @Override
+  public JCGLReadbacksType readbacks()
+  {
+    return this.readbacks;
+  }
+
+  @Override
+  public JCGLSyncsType syncs()
+  {
+    return this.syncs;
+  }
+
+  @Override
+  public JCGLUniformBuffersType uniformBuffers()
+  {
+    return this.uniform_buffers;
+  }
+
+  @Override
+  public JCGLIndirectBuffersType indirectBuffers()
+  {
+    return this.indirect_buffers;
+  }
+
+  @Override
+  public JCGLPrimitiveRestartType primitiveRestart()
+  {
+    return this.primitive_restart;
+  }
+
+  @Override
+  public JCGLTransformFeedbackType transformFeedback()
+  {
+    return this.transform_feedback;
+  }
 }
@@ -19,12 +19,18 @@ package com.io7m.jcanephora.jogl;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLReferableType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 import com.jogamp.opengl.GLContext;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -33,9 +39,13 @@ final class JOGLProgramShader extends JOGLObjectShared
   implements JCGLProgramShaderType
 {
   private final String name;
+  private final List<String> feedback_varyings;
+  private final JCGLTransformFeedbackBufferMode feedback_mode;
   private final JOGLReferenceContainer references;
   private Map<String, JCGLProgramAttributeType> attributes;
   private Map<String, JCGLProgramUniformType> uniforms;
+  private Map<String, JCGLProgramUniformBlockType> uniform_blocks;
+  private @Nullable JCGLUniformShadowCache shadow;
 
   JOGLProgramShader(
     final GLContext ctx,
@@ -43,16 +53,36 @@ final class JOGLProgramShader extends JOGLObjectShared
     final String in_name,
     final JOGLVertexShader vs,
     final Optional<JOGLGeometryShader> gs,
-    final JOGLFragmentShader fs)
+    final JOGLFragmentShader fs,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
   {
-    super(ctx, id);
-    this.name = NullCheck.notNull(in_name, "Name");
-    this.references = new JOGLReferenceContainer(this, 3);
+    this(ctx, id, in_name, in_varyings, in_mode);
     this.references.referenceAdd(vs);
     gs.ifPresent(this.references::referenceAdd);
     this.references.referenceAdd(fs);
   }
 
+  /**
+   * Construct a program that does not refer to any shaders, such as a program
+   * created from a program binary.
+   */
+
+  JOGLProgramShader(
+    final GLContext ctx,
+    final int id,
+    final String in_name,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
+  {
+    super(ctx, id);
+    this.name = NullCheck.notNull(in_name, "Name");
+    this.feedback_varyings = Collections.unmodifiableList(
+      new ArrayList<>(NullCheck.notNullAll(in_varyings, "Varyings")));
+    this.feedback_mode = NullCheck.notNull(in_mode, "Mode");
+    this.references = new JOGLReferenceContainer(this, 3);
+  }
+
   static JOGLProgramShader checkProgramShader(
     final GLContext c,
     final JCGLProgramShaderUsableType p)
@@ -106,9 +136,46 @@ final class JOGLProgramShader extends JOGLObjectShared
       "Uniforms"));
   }
 
+  @Override
+  public Map<String, JCGLProgramUniformBlockType> uniformBlocks()
+  {
+    return this.uniform_blocks;
+  }
+
+  void setUniformBlocks(
+    final Map<String, JCGLProgramUniformBlockType> in_blocks)
+  {
+    this.uniform_blocks = Collections.unmodifiableMap(NullCheck.notNull(
+      in_blocks,
+      "Uniform blocks"));
+  }
+
+  @Override
+  public List<String> transformFeedbackVaryings()
+  {
+    return this.feedback_varyings;
+  }
+
+  @Override
+  public JCGLTransformFeedbackBufferMode transformFeedbackBufferMode()
+  {
+    return this.feedback_mode;
+  }
+
   @Override
   public Set<JCGLReferableType> references()
   {
     return this.references.references();
   }
+
+  @Nullable JCGLUniformShadowCache uniformShadow()
+  {
+    return this.shadow;
+  }
+
+  void setUniformShadow(
+    final @Nullable JCGLUniformShadowCache in_shadow)
+  {
+    this.shadow = in_shadow;
+  }
 }
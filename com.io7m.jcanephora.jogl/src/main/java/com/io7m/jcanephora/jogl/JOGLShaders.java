@@ -17,22 +17,35 @@
 package com.io7m.jcanephora.jogl;
 
 import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jcanephora.core.JCGLDriverInformation;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
 import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
 import com.io7m.jcanephora.core.JCGLExceptionProgramTypeError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLFragmentShaderType;
 import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
+import com.io7m.jcanephora.core.JCGLProgramBinary;
+import com.io7m.jcanephora.core.JCGLProgramBinaryType;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
 import com.io7m.jcanephora.core.JCGLType;
+import com.io7m.jcanephora.core.JCGLUniformChecks;
+import com.io7m.jcanephora.core.JCGLUniformSet;
+import com.io7m.jcanephora.core.JCGLUniformSetUploaderType;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
+import com.io7m.jcanephora.core.JCGLUniformShadowCacheStatistics;
 import com.io7m.jcanephora.core.JCGLVertexShaderType;
 import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
@@ -62,7 +75,9 @@ import com.io7m.junreachable.UnreachableCodeException;
 import com.io7m.mutable.numbers.core.MutableLong;
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GLContext;
 import com.jogamp.opengl.GLException;
 import org.slf4j.Logger;
@@ -85,6 +100,12 @@ final class JOGLShaders implements JCGLShadersType
   private static final Logger LOG;
   private static final Pattern NON_EMPTY;
 
+  /**
+   * {@code GL_COMPLETION_STATUS_KHR}, which JOGL does not define.
+   */
+
+  private static final int GL_COMPLETION_STATUS = 0x91B1;
+
   static {
     LOG = LoggerFactory.getLogger(JOGLShaders.class);
     NON_EMPTY = Pattern.compile("^\\s*$");
@@ -99,6 +120,10 @@ final class JOGLShaders implements JCGLShadersType
   private final MatrixByteBuffered4x4s32 m4x4;
   private final FloatBuffer m3x3_buffer_view;
   private final FloatBuffer m4x4_buffer_view;
+  private final boolean binary_supported;
+  private final boolean parallel_supported;
+  private final JCGLDriverInformation driver;
+  private final UniformSetUploader uploader;
   private @Nullable JCGLProgramShaderUsableType current;
   private boolean check_type;
   private boolean check_active;
@@ -110,6 +135,7 @@ final class JOGLShaders implements JCGLShadersType
     this.icache = Buffers.newDirectIntBuffer(1);
     this.check_active = true;
     this.check_type = true;
+    this.uploader = new UniformSetUploader();
 
     /*
      * Configure baseline defaults.
@@ -118,6 +144,33 @@ final class JOGLShaders implements JCGLShadersType
     this.g3.glUseProgram(0);
     JOGLErrorChecking.checkErrors(this.g3);
 
+    this.driver = JCGLDriverInformation.of(
+      this.g3.glGetString(GL.GL_VENDOR),
+      this.g3.glGetString(GL.GL_RENDERER),
+      this.g3.glGetString(GL.GL_VERSION));
+
+    boolean binaries =
+      JOGLCompatibilityChecks.isProgramBinarySupported(this.g3.getContext());
+    if (binaries) {
+      this.icache.rewind();
+      this.g3.glGetIntegerv(GL2ES2.GL_NUM_PROGRAM_BINARY_FORMATS, this.icache);
+      binaries = this.icache.get(0) > 0;
+    }
+    this.binary_supported = binaries;
+
+    this.parallel_supported =
+      JOGLCompatibilityChecks.isParallelShaderCompileSupported(
+        this.g3.getContext());
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "program binaries supported: {}",
+        Boolean.valueOf(this.binary_supported));
+      LOG.debug(
+        "parallel shader compilation supported: {}",
+        Boolean.valueOf(this.parallel_supported));
+    }
+
     final ByteBuffer m3x3_buffer =
       ByteBuffer.allocateDirect(3 * 3 * 4).order(ByteOrder.nativeOrder());
     this.m3x3_buffer_view =
@@ -337,6 +390,17 @@ final class JOGLShaders implements JCGLShadersType
     final List<String> lines,
     final int size,
     final int id)
+  {
+    this.compileSourcesDeferred(lines, size, id);
+    if (!this.isCompiled(id)) {
+      throw getCompilationError(this.g3, name, id);
+    }
+  }
+
+  private void compileSourcesDeferred(
+    final List<String> lines,
+    final int size,
+    final int id)
   {
     final IntBuffer line_lengths = Buffers.newDirectIntBuffer(size);
     final String[] line_array = new String[size];
@@ -344,13 +408,22 @@ final class JOGLShaders implements JCGLShadersType
 
     this.g3.glShaderSource(id, line_array.length, line_array, line_lengths);
     this.g3.glCompileShader(id);
+  }
 
+  private boolean isCompiled(
+    final int id)
+  {
     this.icache.rewind();
     this.g3.glGetShaderiv(id, GL3.GL_COMPILE_STATUS, this.icache);
-    final int status = this.icache.get(0);
-    if (status == 0) {
-      throw getCompilationError(this.g3, name, id);
-    }
+    return this.icache.get(0) != 0;
+  }
+
+  private boolean isLinked(
+    final int id)
+  {
+    this.icache.rewind();
+    this.g3.glGetProgramiv(id, GL3.GL_LINK_STATUS, this.icache);
+    return this.icache.get(0) != 0;
   }
 
   @Override
@@ -443,13 +516,17 @@ final class JOGLShaders implements JCGLShadersType
     final String name,
     final JCGLVertexShaderUsableType jv,
     final Optional<JCGLGeometryShaderUsableType> jg,
-    final JCGLFragmentShaderUsableType jf)
+    final JCGLFragmentShaderUsableType jf,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
     throws JCGLExceptionProgramCompileError, JCGLException
   {
     NullCheck.notNull(name, "Name");
     NullCheck.notNull(jv, "Vertex shader");
     NullCheck.notNull(jg, "Geometry shader");
     NullCheck.notNull(jf, "Fragment shader");
+    NullCheck.notNullAll(varyings, "Varyings");
+    NullCheck.notNull(mode, "Mode");
 
     final GLContext c = this.context.getContext();
     final JOGLVertexShader v = JOGLVertexShader.checkVertexShader(c, jv);
@@ -472,6 +549,9 @@ final class JOGLShaders implements JCGLShadersType
       jg.ifPresent(
         gg -> LOG.debug("[{}] geometry {}", name, gg.name()));
       LOG.debug("[{}] fragment {}", name, f.name());
+      for (final String varying : varyings) {
+        LOG.debug("[{}] captured varying {} ({})", name, varying, mode);
+      }
     }
 
     final int pid = this.g3.glCreateProgram();
@@ -481,29 +561,325 @@ final class JOGLShaders implements JCGLShadersType
     this.g3.glAttachShader(pid, v.glName());
     this.g3.glAttachShader(pid, f.glName());
     jg.ifPresent(gg -> this.g3.glAttachShader(pid, gg.glName()));
-    this.g3.glLinkProgram(pid);
+    this.linkDeferred(pid, varyings, mode);
 
-    this.icache.rewind();
-    this.g3.glGetProgramiv(pid, GL3.GL_LINK_STATUS, this.icache);
-    final int status = this.icache.get(0);
-    if (status == 0) {
+    if (!this.isLinked(pid)) {
       throw getLinkError(this.g3, name, pid);
     }
 
+    return this.reflectProgram(
+      new JOGLProgramShader(c, pid, name, v, g, f, varyings, mode));
+  }
+
+  private void linkDeferred(
+    final int pid,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
+  {
+    if (!varyings.isEmpty()) {
+      this.g3.glTransformFeedbackVaryings(
+        pid,
+        varyings.size(),
+        varyings.toArray(new String[varyings.size()]),
+        JOGLTypeConversions.transformFeedbackBufferModeToGL(mode));
+    }
+    if (this.binary_supported) {
+      this.g3.glProgramParameteri(
+        pid, GL2ES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL.GL_TRUE);
+    }
+    this.g3.glLinkProgram(pid);
+  }
+
+  private JOGLProgramShader reflectProgram(
+    final JOGLProgramShader program)
+  {
     final Map<String, JCGLProgramAttributeType> attributes = new HashMap<>(16);
     final Map<String, JCGLProgramUniformType> uniforms = new HashMap<>(32);
-
-    final JOGLProgramShader program = new JOGLProgramShader(
-      c, pid, name, v, g, f);
+    final Map<String, JCGLProgramUniformBlockType> blocks = new HashMap<>(8);
 
     this.getAttributes(program, attributes);
     this.getUniforms(program, uniforms);
+    this.getUniformBlocks(program, blocks);
 
     program.setAttributes(attributes);
     program.setUniforms(uniforms);
+    program.setUniformBlocks(blocks);
     return program;
   }
 
+  private void checkProgramBinarySupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.binary_supported) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Program binaries require OpenGL 4.1 or ARB_get_program_binary, and "
+          + "at least one supported binary format");
+    }
+  }
+
+  @Override
+  public boolean shaderProgramBinaryIsSupported()
+    throws JCGLException
+  {
+    return this.binary_supported;
+  }
+
+  @Override
+  public JCGLDriverInformation shaderProgramBinaryDriverInformation()
+    throws JCGLException
+  {
+    return this.driver;
+  }
+
+  @Override
+  public JCGLProgramBinary shaderProgramBinaryGet(
+    final JCGLProgramShaderUsableType p)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionUnsupportedFeature
+  {
+    NullCheck.notNull(p, "Program");
+    this.checkProgramBinarySupported();
+
+    final GLContext c = this.context.getContext();
+    JOGLProgramShader.checkProgramShader(c, p);
+    JCGLResources.checkNotDeleted(p);
+
+    final int id = p.glName();
+    this.icache.rewind();
+    this.g3.glGetProgramiv(id, GL2ES2.GL_PROGRAM_BINARY_LENGTH, this.icache);
+    final int size = this.icache.get(0);
+    if (size <= 0) {
+      throw new JCGLExceptionUnsupportedFeature(
+        String.format("No binary is available for program %s", p.name()));
+    }
+
+    final ByteBuffer data = Buffers.newDirectByteBuffer(size);
+    final IntBuffer length = Buffers.newDirectIntBuffer(1);
+    final IntBuffer format = Buffers.newDirectIntBuffer(1);
+    this.g3.glGetProgramBinary(id, size, length, format, data);
+    JOGLErrorChecking.checkErrors(this.g3);
+
+    final byte[] bytes = new byte[length.get(0)];
+    data.get(bytes);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "[{}] program binary format 0x{} ({} bytes)",
+        p.name(),
+        Integer.toHexString(format.get(0)),
+        Integer.valueOf(bytes.length));
+    }
+
+    return JCGLProgramBinary.of(format.get(0), bytes);
+  }
+
+  @Override
+  public JCGLProgramShaderType shaderProgramBinaryLoad(
+    final String name,
+    final JCGLProgramBinaryType binary,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionUnsupportedFeature,
+    JCGLException
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(binary, "Binary");
+    NullCheck.notNullAll(varyings, "Varyings");
+    NullCheck.notNull(mode, "Mode");
+    this.checkProgramBinarySupported();
+
+    final byte[] bytes = binary.data();
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "[{}] load program binary format 0x{} ({} bytes)",
+        name,
+        Integer.toHexString(binary.format()),
+        Integer.valueOf(bytes.length));
+    }
+
+    final ByteBuffer data = Buffers.newDirectByteBuffer(bytes.length);
+    data.put(bytes);
+    data.rewind();
+
+    final int pid = this.g3.glCreateProgram();
+    Preconditions.checkPreconditionI(
+      pid, pid > 0, ignored -> "Generated program ID must be positive");
+
+    this.g3.glProgramParameteri(
+      pid, GL2ES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL.GL_TRUE);
+    this.g3.glProgramBinary(pid, binary.format(), data, bytes.length);
+
+    /*
+     * Unsupported formats are reported as GL_INVALID_ENUM, whilst corrupt or
+     * stale binaries simply fail to link.
+     */
+
+    final int error = this.g3.glGetError();
+    this.icache.rewind();
+    this.g3.glGetProgramiv(pid, GL3.GL_LINK_STATUS, this.icache);
+    final int status = this.icache.get(0);
+    if (error != GL.GL_NO_ERROR || status == 0) {
+      final JCGLExceptionProgramCompileError ex =
+        getLinkError(this.g3, name, pid);
+      this.g3.glDeleteProgram(pid);
+      throw ex;
+    }
+
+    final GLContext c = this.context.getContext();
+    return this.reflectProgram(
+      new JOGLProgramShader(c, pid, name, varyings, mode));
+  }
+
+  @Override
+  public boolean shaderParallelCompileIsSupported()
+    throws JCGLException
+  {
+    return this.parallel_supported;
+  }
+
+  @Override
+  public JCGLProgramPendingType shaderProgramSubmit(
+    final JCGLProgramSourcesType sources)
+    throws JCGLExceptionProgramCompileError, JCGLException
+  {
+    NullCheck.notNull(sources, "Sources");
+
+    final String name = sources.name();
+    final List<String> v_lines = sources.vertex();
+    final Optional<List<String>> g_lines = sources.geometry();
+    final List<String> f_lines = sources.fragment();
+    final List<String> varyings = sources.transformFeedbackVaryings();
+    final JCGLTransformFeedbackBufferMode mode =
+      sources.transformFeedbackBufferMode();
+
+    final boolean g_empty = g_lines.isPresent() && isEmpty(g_lines.get());
+    if (isEmpty(v_lines) || g_empty || isEmpty(f_lines)) {
+      throw new JCGLExceptionProgramCompileError(name, "Empty program");
+    }
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("submit program {}", name);
+    }
+
+    final int vid = this.g3.glCreateShader(GL2ES2.GL_VERTEX_SHADER);
+    this.compileSourcesDeferred(v_lines, v_lines.size(), vid);
+
+    final int gid;
+    if (g_lines.isPresent()) {
+      final List<String> lines = g_lines.get();
+      gid = this.g3.glCreateShader(GL3.GL_GEOMETRY_SHADER);
+      this.compileSourcesDeferred(lines, lines.size(), gid);
+    } else {
+      gid = 0;
+    }
+
+    final int fid = this.g3.glCreateShader(GL2ES2.GL_FRAGMENT_SHADER);
+    this.compileSourcesDeferred(f_lines, f_lines.size(), fid);
+
+    final int pid = this.g3.glCreateProgram();
+    Preconditions.checkPreconditionI(
+      pid, pid > 0, ignored -> "Generated program ID must be positive");
+
+    this.g3.glAttachShader(pid, vid);
+    this.g3.glAttachShader(pid, fid);
+    if (gid > 0) {
+      this.g3.glAttachShader(pid, gid);
+    }
+    this.linkDeferred(pid, varyings, mode);
+    JOGLErrorChecking.checkErrors(this.g3);
+
+    final GLContext c = this.context.getContext();
+    return new JOGLProgramPending(
+      c, pid, name, vid, gid, fid, varyings, mode);
+  }
+
+  @Override
+  public boolean shaderProgramPendingIsComplete(
+    final JCGLProgramPendingType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(p, "Program");
+
+    final GLContext c = this.context.getContext();
+    JOGLProgramPending.checkProgramPending(c, p);
+    JCGLResources.checkNotDeleted(p);
+
+    if (!this.parallel_supported) {
+      return true;
+    }
+
+    this.icache.rewind();
+    this.g3.glGetProgramiv(p.glName(), GL_COMPLETION_STATUS, this.icache);
+    return this.icache.get(0) != 0;
+  }
+
+  @Override
+  public JCGLProgramShaderType shaderProgramPendingFinish(
+    final JCGLProgramPendingType p)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionDeleted,
+    JCGLException
+  {
+    NullCheck.notNull(p, "Program");
+
+    final GLContext c = this.context.getContext();
+    final JOGLProgramPending pp = JOGLProgramPending.checkProgramPending(c, p);
+    JCGLResources.checkNotDeleted(pp);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("finish program {}", pp.name());
+    }
+
+    final JCGLExceptionProgramCompileError error = this.pendingError(pp);
+
+    final int pid = pp.glName();
+    this.g3.glDetachShader(pid, pp.vertex());
+    this.g3.glDeleteShader(pp.vertex());
+    if (pp.geometry() > 0) {
+      this.g3.glDetachShader(pid, pp.geometry());
+      this.g3.glDeleteShader(pp.geometry());
+    }
+    this.g3.glDetachShader(pid, pp.fragment());
+    this.g3.glDeleteShader(pp.fragment());
+    pp.setDeleted();
+
+    if (error != null) {
+      this.g3.glDeleteProgram(pid);
+      throw error;
+    }
+
+    return this.reflectProgram(new JOGLProgramShader(
+      c,
+      pid,
+      pp.name(),
+      pp.transformFeedbackVaryings(),
+      pp.transformFeedbackBufferMode()));
+  }
+
+  private @Nullable JCGLExceptionProgramCompileError pendingError(
+    final JOGLProgramPending p)
+  {
+    final String name = p.name();
+    if (!this.isCompiled(p.vertex())) {
+      return getCompilationError(this.g3, name, p.vertex());
+    }
+    if (p.geometry() > 0 && !this.isCompiled(p.geometry())) {
+      return getCompilationError(this.g3, name, p.geometry());
+    }
+    if (!this.isCompiled(p.fragment())) {
+      return getCompilationError(this.g3, name, p.fragment());
+    }
+    if (!this.isLinked(p.glName())) {
+      return getLinkError(this.g3, name, p.glName());
+    }
+    return null;
+  }
+
   @Override
   public void shaderActivateProgram(
     final JCGLProgramShaderUsableType p)
@@ -690,6 +1066,63 @@ final class JOGLShaders implements JCGLShadersType
     }
   }
 
+  private void getUniformBlocks(
+    final JCGLProgramShaderUsableType program,
+    final Map<String, JCGLProgramUniformBlockType> out)
+    throws JCGLException
+  {
+    final GLContext c = this.context.getContext();
+
+    final int id = program.glName();
+    this.icache.rewind();
+    this.g3.glGetProgramiv(id, GL3.GL_ACTIVE_UNIFORM_BLOCKS, this.icache);
+    final int max = this.icache.get(0);
+    this.icache.rewind();
+    this.g3.glGetProgramiv(
+      id, GL3.GL_ACTIVE_UNIFORM_BLOCK_MAX_NAME_LENGTH, this.icache);
+    final int length = this.icache.get(0);
+
+    final ByteBuffer buffer_name = Buffers.newDirectByteBuffer(length);
+    final IntBuffer buffer_length = Buffers.newDirectIntBuffer(1);
+    final IntBuffer buffer_size = Buffers.newDirectIntBuffer(1);
+
+    for (int index = 0; index < max; ++index) {
+      buffer_length.rewind();
+      buffer_size.rewind();
+      buffer_name.rewind();
+
+      this.g3.glGetActiveUniformBlockName(
+        id, index, length, buffer_length, buffer_name);
+      this.g3.glGetActiveUniformBlockiv(
+        id, index, GL3.GL_UNIFORM_BLOCK_DATA_SIZE, buffer_size);
+
+      final int size = buffer_size.get(0);
+
+      final int name_length = buffer_length.get(0);
+      final byte[] temp_buffer = new byte[name_length];
+      buffer_name.get(temp_buffer);
+      final String name = new String(temp_buffer);
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+          "[{}] uniform block {} {} (size {})",
+          program.name(),
+          Integer.valueOf(index),
+          name,
+          Integer.valueOf(size));
+      }
+
+      Preconditions.checkPrecondition(
+        name,
+        !out.containsKey(name),
+        ignored -> "Uniform block name must be unique");
+
+      final JOGLProgramUniformBlock block =
+        new JOGLProgramUniformBlock(c, program, index, name, (long) size);
+      out.put(name, block);
+    }
+  }
+
   @Override
   public void shaderUniformSetTypeCheckingEnabled(final boolean enabled)
   {
@@ -702,6 +1135,68 @@ final class JOGLShaders implements JCGLShadersType
     this.check_active = enabled;
   }
 
+  @Override
+  public void shaderUniformSetShadowingEnabled(
+    final JCGLProgramShaderUsableType p,
+    final boolean enabled)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JOGLProgramShader pp = this.checkShadowProgram(p);
+    if (enabled) {
+      if (pp.uniformShadow() == null) {
+        pp.setUniformShadow(
+          JCGLUniformShadowCache.create(pp.uniforms().values()));
+      }
+    } else {
+      pp.setUniformShadow(null);
+    }
+  }
+
+  @Override
+  public boolean shaderUniformIsShadowingEnabled(
+    final JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    return this.checkShadowProgram(p).uniformShadow() != null;
+  }
+
+  @Override
+  public JCGLUniformShadowCacheStatistics shaderUniformShadowingStatistics(
+    final JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JCGLUniformShadowCache cache =
+      this.checkShadowProgram(p).uniformShadow();
+    if (cache != null) {
+      return cache.statistics();
+    }
+    return JCGLUniformShadowCacheStatistics.of(0L, 0L);
+  }
+
+  private JOGLProgramShader checkShadowProgram(
+    final JCGLProgramShaderUsableType p)
+  {
+    NullCheck.notNull(p, "Shader");
+    final JOGLProgramShader pp =
+      JOGLProgramShader.checkProgramShader(this.context.getContext(), p);
+    JCGLResources.checkNotDeleted(pp);
+    return pp;
+  }
+
+  /**
+   * @return The shadow of the uniforms of the current program, if the current
+   * program has shadowing enabled
+   */
+
+  private @Nullable JCGLUniformShadowCache currentShadow()
+  {
+    final JCGLProgramShaderUsableType p = this.current;
+    if (p != null) {
+      return ((JOGLProgramShader) p).uniformShadow();
+    }
+    return null;
+  }
+
   @Override
   public void shaderUniformPutFloat(
     final JCGLProgramUniformType u,
@@ -712,6 +1207,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat(u.glName(), value)) {
+      return;
+    }
+
     this.g3.glUniform1f(u.glName(), value);
   }
 
@@ -725,6 +1226,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value)) {
+      return;
+    }
+
     this.g3.glUniform1i(u.glName(), value);
   }
 
@@ -738,6 +1245,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value)) {
+      return;
+    }
+
     this.g3.glUniform1ui(u.glName(), value);
   }
 
@@ -772,6 +1285,73 @@ final class JOGLShaders implements JCGLShadersType
 
     final int location = u.glName();
     final int elements = u.size();
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(location, value, required * elements)) {
+      return;
+    }
+
+    this.uploadFloats(location, type, elements, value);
+  }
+
+  @Override
+  public void shaderUniformPutArrayf(
+    final JCGLProgramUniformType u,
+    final int count,
+    final FloatBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(value, "Value");
+    this.checkActive(u);
+    this.checkIsFloatingPoint(u);
+
+    final int words =
+      JCGLUniformChecks.checkArray(u, count, value.remaining());
+    final int location = u.glName();
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(location, value, words)) {
+      return;
+    }
+
+    this.uploadFloats(location, u.type(), count, value);
+  }
+
+  @Override
+  public void shaderUniformPutArrayi(
+    final JCGLProgramUniformType u,
+    final int count,
+    final IntBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(value, "Value");
+    this.checkActive(u);
+    this.checkIsIntegral(u);
+
+    final int words =
+      JCGLUniformChecks.checkArray(u, count, value.remaining());
+    final int location = u.glName();
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateIntegers(location, value, words)) {
+      return;
+    }
+
+    this.uploadIntegers(location, u.type(), count, value);
+  }
+
+  private void uploadFloats(
+    final int location,
+    final JCGLType type,
+    final int elements,
+    final FloatBuffer value)
+  {
     switch (type) {
       case TYPE_BOOLEAN:
       case TYPE_BOOLEAN_VECTOR_2:
@@ -831,6 +1411,79 @@ final class JOGLShaders implements JCGLShadersType
     }
   }
 
+  private void uploadIntegers(
+    final int location,
+    final JCGLType type,
+    final int elements,
+    final IntBuffer value)
+  {
+    switch (type) {
+      case TYPE_FLOAT:
+      case TYPE_FLOAT_MATRIX_2:
+      case TYPE_FLOAT_MATRIX_3:
+      case TYPE_FLOAT_MATRIX_4:
+      case TYPE_FLOAT_VECTOR_2:
+      case TYPE_FLOAT_VECTOR_3:
+      case TYPE_FLOAT_VECTOR_4:
+      case TYPE_FLOAT_MATRIX_4x3:
+      case TYPE_FLOAT_MATRIX_4x2:
+      case TYPE_FLOAT_MATRIX_3x4:
+      case TYPE_FLOAT_MATRIX_3x2:
+      case TYPE_FLOAT_MATRIX_2x4:
+      case TYPE_FLOAT_MATRIX_2x3:
+        throw new UnreachableCodeException();
+      case TYPE_BOOLEAN:
+      case TYPE_INTEGER:
+      case TYPE_SAMPLER_2D:
+      case TYPE_SAMPLER_3D:
+      case TYPE_SAMPLER_CUBE:
+        this.g3.glUniform1iv(location, elements, value);
+        break;
+      case TYPE_BOOLEAN_VECTOR_2:
+      case TYPE_INTEGER_VECTOR_2:
+        this.g3.glUniform2iv(location, elements, value);
+        break;
+      case TYPE_BOOLEAN_VECTOR_3:
+      case TYPE_INTEGER_VECTOR_3:
+        this.g3.glUniform3iv(location, elements, value);
+        break;
+      case TYPE_BOOLEAN_VECTOR_4:
+      case TYPE_INTEGER_VECTOR_4:
+        this.g3.glUniform4iv(location, elements, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER:
+        this.g3.glUniform1uiv(location, elements, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER_VECTOR_2:
+        this.g3.glUniform2uiv(location, elements, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER_VECTOR_3:
+        this.g3.glUniform3uiv(location, elements, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER_VECTOR_4:
+        this.g3.glUniform4uiv(location, elements, value);
+        break;
+    }
+  }
+
+  @Override
+  public void shaderUniformApply(
+    final JCGLUniformSet set)
+    throws JCGLException, JCGLExceptionProgramNotActive
+  {
+    NullCheck.notNull(set, "Set");
+
+    if (this.check_active) {
+      final JCGLProgramShaderUsableType p = set.program();
+      if (!Objects.equals(p, this.current)) {
+        throw this.errorNotActive(p);
+      }
+    }
+
+    this.uploader.shadow = this.currentShadow();
+    set.upload(this.uploader);
+  }
+
   @Override
   public void shaderUniformPutVector2f(
     final JCGLProgramUniformType u,
@@ -841,6 +1494,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat2(
+      u.glName(), (float) value.x(), (float) value.y())) {
+      return;
+    }
+
     this.g3.glUniform2f(
       u.glName(),
       (float) value.x(),
@@ -857,6 +1517,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat3(
+      u.glName(), (float) value.x(), (float) value.y(), (float) value.z())) {
+      return;
+    }
+
     this.g3.glUniform3f(
       u.glName(),
       (float) value.x(),
@@ -874,6 +1541,17 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat4(
+      u.glName(),
+      (float) value.x(),
+      (float) value.y(),
+      (float) value.z(),
+      (float) value.w())) {
+      return;
+    }
+
     this.g3.glUniform4f(
       u.glName(),
       (float) value.x(),
@@ -892,6 +1570,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     this.g3.glUniform2i(
       u.glName(), value.x(), value.y());
   }
@@ -906,6 +1590,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     this.g3.glUniform3i(
       u.glName(), value.x(), value.y(), value.z());
   }
@@ -920,6 +1611,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     this.g3.glUniform4i(
       u.glName(),
       value.x(),
@@ -938,6 +1636,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     this.g3.glUniform2ui(
       u.glName(), value.x(), value.y());
   }
@@ -952,6 +1656,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     this.g3.glUniform3ui(
       u.glName(), value.x(), value.y(), value.z());
   }
@@ -966,6 +1677,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     this.g3.glUniform4ui(
       u.glName(),
       value.x(),
@@ -984,6 +1702,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat2(
+      u.glName(), (float) value.x(), (float) value.y())) {
+      return;
+    }
+
     this.g3.glUniform2f(
       u.glName(),
       (float) value.x(),
@@ -1000,6 +1725,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat3(
+      u.glName(), (float) value.x(), (float) value.y(), (float) value.z())) {
+      return;
+    }
+
     this.g3.glUniform3f(
       u.glName(),
       (float) value.x(),
@@ -1017,6 +1749,17 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat4(
+      u.glName(),
+      (float) value.x(),
+      (float) value.y(),
+      (float) value.z(),
+      (float) value.w())) {
+      return;
+    }
+
     this.g3.glUniform4f(
       u.glName(),
       (float) value.x(),
@@ -1035,6 +1778,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     this.g3.glUniform2i(u.glName(), value.x(), value.y());
   }
 
@@ -1048,6 +1797,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     this.g3.glUniform3i(u.glName(), value.x(), value.y(), value.z());
   }
 
@@ -1061,6 +1817,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     this.g3.glUniform4i(
       u.glName(), value.x(), value.y(), value.z(), value.w());
   }
@@ -1075,6 +1838,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     this.g3.glUniform2ui(u.glName(), value.x(), value.y());
   }
 
@@ -1088,6 +1857,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     this.g3.glUniform3ui(u.glName(), value.x(), value.y(), value.z());
   }
 
@@ -1101,6 +1877,13 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     this.g3.glUniform4ui(
       u.glName(), value.x(), value.y(), value.z(), value.w());
   }
@@ -1117,6 +1900,12 @@ final class JOGLShaders implements JCGLShadersType
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_3);
 
     this.m3x3.setMatrix3x3D(value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m3x3_buffer_view, 9)) {
+      return;
+    }
+
     this.g3.glUniformMatrix3fv(
       u.glName(), 1, false, this.m3x3_buffer_view);
   }
@@ -1134,6 +1923,12 @@ final class JOGLShaders implements JCGLShadersType
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_3);
 
     this.pm3x3.setPMatrix3x3D((PMatrix3x3D<Object, Object>) value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m3x3_buffer_view, 9)) {
+      return;
+    }
+
     this.g3.glUniformMatrix3fv(
       u.glName(), 1, false, this.m3x3_buffer_view);
   }
@@ -1150,6 +1945,12 @@ final class JOGLShaders implements JCGLShadersType
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_4);
 
     this.m4x4.setMatrix4x4D(value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m4x4_buffer_view, 16)) {
+      return;
+    }
+
     this.g3.glUniformMatrix4fv(
       u.glName(), 1, false, this.m4x4_buffer_view);
   }
@@ -1167,6 +1968,12 @@ final class JOGLShaders implements JCGLShadersType
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_4);
 
     this.pm4x4.setPMatrix4x4D((PMatrix4x4D<Object, Object>) value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m4x4_buffer_view, 16)) {
+      return;
+    }
+
     this.g3.glUniformMatrix4fv(
       u.glName(), 1, false, this.m4x4_buffer_view);
   }
@@ -1181,6 +1988,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_SAMPLER_2D);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value.index())) {
+      return;
+    }
+
     this.g3.glUniform1i(u.glName(), value.index());
   }
 
@@ -1194,6 +2007,12 @@ final class JOGLShaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_SAMPLER_CUBE);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value.index())) {
+      return;
+    }
+
     this.g3.glUniform1i(u.glName(), value.index());
   }
 
@@ -1234,6 +2053,23 @@ final class JOGLShaders implements JCGLShadersType
     }
   }
 
+  private void checkIsIntegral(final JCGLProgramUniformType u)
+  {
+    if (this.check_type) {
+      final JCGLType type_uniform = u.type();
+      if (type_uniform.isFloatingPointType()) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Uniform type error.");
+        sb.append(System.lineSeparator());
+        sb.append("Expected: An integer, boolean, or sampler type");
+        sb.append(System.lineSeparator());
+        sb.append("Actual: ");
+        sb.append(type_uniform);
+        throw new JCGLExceptionProgramTypeError(sb.toString());
+      }
+    }
+  }
+
   private void checkActive(final JCGLProgramUniformType u)
   {
     final JCGLProgramShaderUsableType u_program = u.program();
@@ -1257,4 +2093,36 @@ final class JOGLShaders implements JCGLShadersType
     sb.append(this.current);
     return new JCGLExceptionProgramNotActive(sb.toString());
   }
+
+  private final class UniformSetUploader
+    implements JCGLUniformSetUploaderType
+  {
+    private @Nullable JCGLUniformShadowCache shadow;
+
+    @Override
+    public void uploadFloats(
+      final int location,
+      final JCGLType type,
+      final int elements,
+      final FloatBuffer data)
+    {
+      final JCGLUniformShadowCache s = this.shadow;
+      if (s == null || s.updateFloats(location, data, data.remaining())) {
+        JOGLShaders.this.uploadFloats(location, type, elements, data);
+      }
+    }
+
+    @Override
+    public void uploadIntegers(
+      final int location,
+      final JCGLType type,
+      final int elements,
+      final IntBuffer data)
+    {
+      final JCGLUniformShadowCache s = this.shadow;
+      if (s == null || s.updateIntegers(location, data, data.remaining())) {
+        JOGLShaders.this.uploadIntegers(location, type, elements, data);
+      }
+    }
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.jogl;
+
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLSyncUsableType;
+import com.io7m.jnull.NullCheck;
+import com.jogamp.opengl.GLContext;
+
+final class JOGLSync extends JOGLObjectShared implements JCGLSyncType
+{
+  private final long handle;
+
+  JOGLSync(
+    final GLContext ctx,
+    final int id,
+    final long in_handle)
+  {
+    super(ctx, id);
+    this.handle = in_handle;
+  }
+
+  static JOGLSync checkSync(
+    final GLContext c,
+    final JCGLSyncUsableType s)
+  {
+    NullCheck.notNull(c, "Context");
+    NullCheck.notNull(s, "Sync");
+    return (JOGLSync) JOGLCompatibilityChecks.checkAny(c, s);
+  }
+
+  long getHandle()
+  {
+    return this.handle;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder("[Sync ");
+    sb.append(super.glName());
+    sb.append(']');
+    return sb.toString();
+  }
+}
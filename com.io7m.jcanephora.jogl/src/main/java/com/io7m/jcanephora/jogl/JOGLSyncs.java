@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.jogl;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLSyncUsableType;
+import com.io7m.jcanephora.core.JCGLSyncWaitResult;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class JOGLSyncs implements JCGLSyncsType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JOGLSyncs.class);
+  }
+
+  private final JOGLContext context;
+  private final GL3 g3;
+  private int next_id;
+
+  JOGLSyncs(final JOGLContext c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+    this.g3 = c.getGL3();
+    this.next_id = 1;
+  }
+
+  private static JCGLSyncWaitResult waitResult(
+    final JCGLSyncUsableType s,
+    final int status)
+  {
+    switch (status) {
+      case GL3.GL_ALREADY_SIGNALED:
+        return JCGLSyncWaitResult.SYNC_WAIT_ALREADY_SIGNALLED;
+      case GL3.GL_CONDITION_SATISFIED:
+        return JCGLSyncWaitResult.SYNC_WAIT_CONDITION_SATISFIED;
+      case GL3.GL_TIMEOUT_EXPIRED:
+        return JCGLSyncWaitResult.SYNC_WAIT_TIMEOUT_EXPIRED;
+      default: {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Waiting on a sync object failed.");
+        sb.append(System.lineSeparator());
+        sb.append("Sync: ");
+        sb.append(s);
+        sb.append(System.lineSeparator());
+        sb.append("Status: 0x");
+        sb.append(Integer.toHexString(status));
+        sb.append(System.lineSeparator());
+        throw new JCGLException(sb.toString());
+      }
+    }
+  }
+
+  @Override
+  public JCGLSyncType syncFenceInsert()
+    throws JCGLException
+  {
+    final long handle =
+      this.g3.glFenceSync(GL3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+    if (handle == 0L) {
+      throw new JCGLException("Could not create a fence sync object.");
+    }
+
+    final JOGLSync s =
+      new JOGLSync(this.context.getContext(), this.next_id, handle);
+    ++this.next_id;
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("fence {}", Integer.valueOf(s.glName()));
+    }
+    return s;
+  }
+
+  @Override
+  public JCGLSyncStatus syncPoll(
+    final JCGLSyncUsableType s)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JCGLSyncWaitResult r = this.syncClientWait(s, 0L);
+    if (r == JCGLSyncWaitResult.SYNC_WAIT_TIMEOUT_EXPIRED) {
+      return JCGLSyncStatus.SYNC_UNSIGNALLED;
+    }
+    return JCGLSyncStatus.SYNC_SIGNALLED;
+  }
+
+  @Override
+  public JCGLSyncWaitResult syncClientWait(
+    final JCGLSyncUsableType s,
+    final long timeout)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    RangeCheck.checkIncludedInLong(
+      timeout, "Timeout", Ranges.NATURAL_LONG, "Valid timeouts");
+
+    final JOGLSync js = this.checkSync(s);
+    final int status = this.g3.glClientWaitSync(
+      js.getHandle(), GL3.GL_SYNC_FLUSH_COMMANDS_BIT, timeout);
+    return waitResult(s, status);
+  }
+
+  @Override
+  public void syncServerWait(
+    final JCGLSyncUsableType s)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JOGLSync js = this.checkSync(s);
+    this.g3.glWaitSync(js.getHandle(), 0, GL2ES3.GL_TIMEOUT_IGNORED);
+  }
+
+  @Override
+  public void syncDelete(
+    final JCGLSyncType s)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JOGLSync js = this.checkSync(s);
+    this.g3.glDeleteSync(js.getHandle());
+    js.setDeleted();
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("delete {}", Integer.valueOf(js.glName()));
+    }
+  }
+
+  private JOGLSync checkSync(final JCGLSyncUsableType s)
+  {
+    final JOGLSync js = JOGLSync.checkSync(this.context.getContext(), s);
+    JCGLResources.checkNotDeleted(s);
+    return js;
+  }
+}
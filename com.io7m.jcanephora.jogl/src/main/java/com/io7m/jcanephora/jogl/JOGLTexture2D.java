@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
 import com.io7m.jnull.NullCheck;
@@ -42,6 +43,7 @@ final class JOGLTexture2D extends JOGLReferable
   private final JCGLTextureWrapS wrap_s;
   private final JCGLTextureWrapT wrap_t;
   private final AreaSizeL size;
+  private boolean mipmaps_dirty;
 
   JOGLTexture2D(
     final GLContext in_context,
@@ -74,7 +76,8 @@ final class JOGLTexture2D extends JOGLReferable
     this.range_y = new UnsignedRangeInclusiveL(0L, in_height - 1L);
 
     final long byte_size =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
     this.byte_range =
       new UnsignedRangeInclusiveL(0L, byte_size - 1L);
   }
@@ -86,6 +89,16 @@ final class JOGLTexture2D extends JOGLReferable
     return (JOGLTexture2D) JOGLCompatibilityChecks.checkAny(c, t);
   }
 
+  boolean mipmapsDirty()
+  {
+    return this.mipmaps_dirty;
+  }
+
+  void setMipmapsDirty(final boolean dirty)
+  {
+    this.mipmaps_dirty = dirty;
+  }
+
   @Override
   public JCGLTextureFilterMagnification magnificationFilter()
   {
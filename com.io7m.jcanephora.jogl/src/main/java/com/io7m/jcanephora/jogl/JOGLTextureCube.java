@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
@@ -43,6 +44,7 @@ final class JOGLTextureCube extends JOGLReferable
   private final JCGLTextureWrapR wrap_r;
   private final JCGLTextureWrapS wrap_s;
   private final JCGLTextureWrapT wrap_t;
+  private boolean mipmaps_dirty;
   private final AreaSizeL area;
 
   JOGLTextureCube(
@@ -78,7 +80,8 @@ final class JOGLTextureCube extends JOGLReferable
     this.range_y = new UnsignedRangeInclusiveL(0L, in_size - 1L);
 
     final long size =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
     this.byte_range = new UnsignedRangeInclusiveL(0L, size - 1L);
   }
 
@@ -89,6 +92,16 @@ final class JOGLTextureCube extends JOGLReferable
     return (JOGLTextureCube) JOGLCompatibilityChecks.checkAny(c, t);
   }
 
+  boolean mipmapsDirty()
+  {
+    return this.mipmaps_dirty;
+  }
+
+  void setMipmapsDirty(final boolean dirty)
+  {
+    this.mipmaps_dirty = dirty;
+  }
+
   @Override
   public JCGLTextureFilterMagnification magnificationFilter()
   {
@@ -25,6 +25,7 @@ import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -336,6 +337,61 @@ final class JOGLTextureSpecs
         gl_internalformat = GL2ES3.GL_R8UI;
         break;
       }
+      case TEXTURE_FORMAT_RGTC1_R_8BPB: {
+        gl_format = GL2ES2.GL_RED;
+        gl_internalformat = GL2GL3.GL_COMPRESSED_RED_RGTC1;
+        break;
+      }
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB: {
+        gl_format = GL2ES2.GL_RED;
+        gl_internalformat = GL2GL3.GL_COMPRESSED_SIGNED_RED_RGTC1;
+        break;
+      }
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB: {
+        gl_format = GL2ES2.GL_RG;
+        gl_internalformat = GL2GL3.GL_COMPRESSED_RG_RGTC2;
+        break;
+      }
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB: {
+        gl_format = GL2ES2.GL_RG;
+        gl_internalformat = GL2GL3.GL_COMPRESSED_SIGNED_RG_RGTC2;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB: {
+        gl_format = GL.GL_RGB;
+        gl_internalformat = GL.GL_COMPRESSED_RGB_S3TC_DXT1_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB: {
+        gl_format = GL.GL_RGBA;
+        gl_internalformat = GL.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB: {
+        gl_format = GL.GL_RGBA;
+        gl_internalformat = GL.GL_COMPRESSED_RGBA_S3TC_DXT3_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB: {
+        gl_format = GL.GL_RGBA;
+        gl_internalformat = GL.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB: {
+        gl_format = GL.GL_RGBA;
+        gl_internalformat = GL3.GL_COMPRESSED_RGBA_BPTC_UNORM_ARB;
+        break;
+      }
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB: {
+        gl_format = GL.GL_RGB;
+        gl_internalformat = GL3.GL_COMPRESSED_RGB_BPTC_SIGNED_FLOAT_ARB;
+        break;
+      }
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB: {
+        gl_format = GL.GL_RGB;
+        gl_internalformat = GL3.GL_COMPRESSED_RGB_BPTC_UNSIGNED_FLOAT_ARB;
+        break;
+      }
       case TEXTURE_FORMAT_DEPTH_24_STENCIL_8_4BPP: {
         gl_format = GL.GL_DEPTH_STENCIL;
         gl_internalformat = GL.GL_DEPTH24_STENCIL8;
@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
 import com.io7m.jcanephora.core.JCGLExceptionTextureNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLReferableType;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLTexture2DType;
@@ -32,6 +33,9 @@ import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmapUpdateMode;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
 import com.io7m.jcanephora.core.JCGLTextureUsableType;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
@@ -44,6 +48,7 @@ import com.io7m.jregions.core.unparameterized.areas.AreaL;
 import com.io7m.jregions.core.unparameterized.areas.AreasL;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesL;
+import com.io7m.junreachable.UnreachableCodeException;
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL3;
@@ -76,6 +81,11 @@ final class JOGLTextures implements JCGLTexturesType
   private final List<JCGLTextureUnitType> units;
   private final int size;
   private final Int2ObjectMap<BitSet> texture_to_units;
+  private final List<JOGLTexture2D> mipmaps_dirty_2d;
+  private final List<JOGLTextureCube> mipmaps_dirty_cube;
+  private final boolean compression_s3tc;
+  private final boolean compression_bptc;
+  private JCGLTextureMipmapUpdateMode mipmap_mode;
   private JOGLFramebuffers framebuffers;
 
   JOGLTextures(final JOGLContext c)
@@ -87,6 +97,16 @@ final class JOGLTextures implements JCGLTexturesType
     this.units = makeUnits(c, this.g3, this.icache);
     this.size = makeSize(this.g3, this.icache);
     this.texture_to_units = new Int2ObjectOpenHashMap<>(this.units.size());
+    this.mipmaps_dirty_2d = new ArrayList<>(16);
+    this.mipmaps_dirty_cube = new ArrayList<>(16);
+    this.mipmap_mode =
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_IMMEDIATE;
+    this.compression_s3tc =
+      JOGLCompatibilityChecks.isTextureCompressionS3TCSupported(
+        this.g3.getContext());
+    this.compression_bptc =
+      JOGLCompatibilityChecks.isTextureCompressionBPTCSupported(
+        this.g3.getContext());
 
     /*
      * Configure baseline defaults.
@@ -205,6 +225,119 @@ final class JOGLTextures implements JCGLTexturesType
     return this.size;
   }
 
+  @Override
+  public boolean textureFormatIsSupported(
+    final JCGLTextureFormat format)
+    throws JCGLException
+  {
+    NullCheck.notNull(format, "Format");
+
+    switch (format.getCompression()) {
+      case TEXTURE_COMPRESSION_NONE:
+      case TEXTURE_COMPRESSION_RGTC:
+        return true;
+      case TEXTURE_COMPRESSION_S3TC:
+        return this.compression_s3tc;
+      case TEXTURE_COMPRESSION_BPTC:
+        return this.compression_bptc;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private void checkFormatSupported(
+    final JCGLTextureFormat format)
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.textureFormatIsSupported(format)) {
+      switch (format.getCompression()) {
+        case TEXTURE_COMPRESSION_NONE:
+        case TEXTURE_COMPRESSION_RGTC:
+          break;
+        case TEXTURE_COMPRESSION_S3TC:
+          throw new JCGLExceptionUnsupportedFeature(
+            String.format(
+              "Texture format %s requires EXT_texture_compression_s3tc",
+              format));
+        case TEXTURE_COMPRESSION_BPTC:
+          throw new JCGLExceptionUnsupportedFeature(
+            String.format(
+              "Texture format %s requires OpenGL 4.2 or "
+                + "ARB_texture_compression_bptc",
+              format));
+      }
+    }
+  }
+
+  /**
+   * Allocate storage for every level of a compressed texture. Mipmaps cannot
+   * be generated for compressed formats, so the levels are allocated
+   * explicitly and must be uploaded by the application.
+   */
+
+  private void compressedAllocate(
+    final int target,
+    final JOGLTextureSpec spec,
+    final JCGLTextureUsableType t)
+  {
+    final AreaSizeL base = AreaSizeL.of(t.width(), t.height());
+    final int levels = JCGLTextureMipmaps.levelCount(t);
+    for (int level = 0; level < levels; ++level) {
+      final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(base, level);
+      final long bytes = JCGLTextureFormats.imageSizeBytes(
+        t.format(), level_size.width(), level_size.height());
+      this.g3.glCompressedTexImage2D(
+        target,
+        level,
+        spec.getInternalFormat(),
+        Math.toIntExact(level_size.width()),
+        Math.toIntExact(level_size.height()),
+        0,
+        Math.toIntExact(bytes),
+        null);
+    }
+  }
+
+  private void subImage2D(
+    final int target,
+    final int level,
+    final JCGLTextureFormat format,
+    final AreaL update_area,
+    final ByteBuffer buffer)
+  {
+    final int x_offset = Math.toIntExact(update_area.minimumX());
+    final int y_offset = Math.toIntExact(update_area.minimumY());
+    final int width = Math.toIntExact(update_area.width());
+    final int height = Math.toIntExact(update_area.height());
+    final JOGLTextureSpec spec = JOGLTextureSpecs.getTextureSpec(format);
+
+    if (format.isCompressed()) {
+      final long bytes = JCGLTextureFormats.imageSizeBytes(
+        format, (long) width, (long) height);
+      this.g3.glCompressedTexSubImage2D(
+        target,
+        level,
+        x_offset,
+        y_offset,
+        width,
+        height,
+        spec.getInternalFormat(),
+        Math.toIntExact(bytes),
+        buffer);
+    } else {
+      this.g3.glTexSubImage2D(
+        target,
+        level,
+        x_offset,
+        y_offset,
+        width,
+        height,
+        spec.getFormat(),
+        spec.getType(),
+        buffer);
+    }
+  }
+
   @Override
   public List<JCGLTextureUnitType> textureGetUnits()
     throws JCGLException
@@ -261,6 +394,19 @@ final class JOGLTextures implements JCGLTexturesType
     final JCGLTextureUnitType unit,
     final JCGLTexture2DUsableType texture)
     throws JCGLException
+  {
+    this.bind2D(unit, texture);
+
+    final JOGLTexture2D t = (JOGLTexture2D) texture;
+    if (t.mipmapsDirty()) {
+      this.mipmapsRegenerate2D(unit.index(), t);
+    }
+  }
+
+  private void bind2D(
+    final JCGLTextureUnitType unit,
+    final JCGLTexture2DUsableType texture)
+    throws JCGLException
   {
     final GLContext c = this.context.getContext();
     final JOGLTexture2D t = checkTexture2D(c, texture);
@@ -336,6 +482,7 @@ final class JOGLTextures implements JCGLTexturesType
     this.icache.rewind();
     this.icache.put(0, texture_id);
     this.g3.glDeleteTextures(1, this.icache);
+    this.mipmapsDiscard2D((JOGLTexture2D) texture);
     ((JOGLTexture2D) texture).setDeleted();
 
     this.unbindDeleted(texture_id);
@@ -395,8 +542,9 @@ final class JOGLTextures implements JCGLTexturesType
     NullCheck.notNull(mag_filter, "Magnification filter");
     RangeCheck.checkGreaterEqualLong(width, "Width", 2L, "Valid widths");
     RangeCheck.checkGreaterEqualLong(height, "Height", 2L, "Valid heights");
+    this.checkFormatSupported(format);
 
-    final long bytes = width * height * (long) format.getBytesPerPixel();
+    final long bytes = JCGLTextureFormats.imageSizeBytes(format, width, height);
     if (LOG.isDebugEnabled()) {
       LOG.debug(
         "allocate {} {}x{} {} bytes",
@@ -442,27 +590,32 @@ final class JOGLTextures implements JCGLTexturesType
     final JOGLTextureSpec spec = JOGLTextureSpecs.getTextureSpec(format);
     this.g3.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
     this.g3.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
-    this.g3.glTexImage2D(
-      GL.GL_TEXTURE_2D,
-      0,
-      spec.getInternalFormat(),
-      Math.toIntExact(width),
-      Math.toIntExact(height),
-      0,
-      spec.getFormat(),
-      spec.getType(),
-      null);
-
-    switch (min_filter) {
-      case TEXTURE_FILTER_NEAREST:
-      case TEXTURE_FILTER_LINEAR:
-        break;
-      case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        this.g3.glGenerateMipmap(GL.GL_TEXTURE_2D);
-        break;
+
+    if (format.isCompressed()) {
+      this.compressedAllocate(GL.GL_TEXTURE_2D, spec, t);
+    } else {
+      this.g3.glTexImage2D(
+        GL.GL_TEXTURE_2D,
+        0,
+        spec.getInternalFormat(),
+        Math.toIntExact(width),
+        Math.toIntExact(height),
+        0,
+        spec.getFormat(),
+        spec.getType(),
+        null);
+
+      switch (min_filter) {
+        case TEXTURE_FILTER_NEAREST:
+        case TEXTURE_FILTER_LINEAR:
+          break;
+        case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
+          this.g3.glGenerateMipmap(GL.GL_TEXTURE_2D);
+          break;
+        }
       }
     }
 
@@ -484,7 +637,7 @@ final class JOGLTextures implements JCGLTexturesType
     final JCGLTexture2DUsableType texture = data.texture();
     final GLContext c = this.context.getContext();
     checkTextureUnit(c, unit);
-    checkTexture2D(c, texture);
+    final JOGLTexture2D t = checkTexture2D(c, texture);
 
     final AreaL update_area = data.area();
     final AreaL texture_area = AreaSizesL.area(texture.size());
@@ -494,26 +647,11 @@ final class JOGLTextures implements JCGLTexturesType
       AreasL.contains(texture_area, update_area),
       ignored -> "Update area must be included in texture area");
 
-    final int x_offset = Math.toIntExact(update_area.minimumX());
-    final int y_offset = Math.toIntExact(update_area.minimumY());
-    final int width = Math.toIntExact(update_area.width());
-    final int height = Math.toIntExact(update_area.height());
-
     final JCGLTextureFormat format = texture.format();
-    final JOGLTextureSpec spec = JOGLTextureSpecs.getTextureSpec(format);
-    final ByteBuffer buffer = data.data();
+    JCGLTextureFormats.checkBlockAligned(format, texture.size(), update_area);
 
-    this.texture2DBind(unit, texture);
-    this.g3.glTexSubImage2D(
-      GL.GL_TEXTURE_2D,
-      0,
-      x_offset,
-      y_offset,
-      width,
-      height,
-      spec.getFormat(),
-      spec.getType(),
-      buffer);
+    this.bind2D(unit, texture);
+    this.subImage2D(GL.GL_TEXTURE_2D, 0, format, update_area, data.data());
 
     switch (texture.minificationFilter()) {
       case TEXTURE_FILTER_LINEAR:
@@ -523,7 +661,7 @@ final class JOGLTextures implements JCGLTexturesType
       case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
       case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
       case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        this.g3.glGenerateMipmap(GL.GL_TEXTURE_2D);
+        this.mipmapsUpdated2D(unit.index(), t);
         break;
       }
     }
@@ -548,19 +686,24 @@ final class JOGLTextures implements JCGLTexturesType
     final AreaSizeL area = texture.size();
     final long width = area.width();
     final long height = area.height();
-    final long size_bytes = width * height * (long) format.getBytesPerPixel();
+    final long size_bytes =
+      JCGLTextureFormats.imageSizeBytes(format, width, height);
 
     final ByteBuffer data =
       ByteBuffer.allocateDirect(Math.toIntExact(size_bytes));
     data.order(ByteOrder.nativeOrder());
 
-    this.texture2DBind(unit, texture);
-    this.g3.glGetTexImage(
-      GL.GL_TEXTURE_2D,
-      0,
-      spec.getFormat(),
-      spec.getType(),
-      data);
+    this.bind2D(unit, texture);
+    if (format.isCompressed()) {
+      this.g3.glGetCompressedTexImage(GL.GL_TEXTURE_2D, 0, data);
+    } else {
+      this.g3.glGetTexImage(
+        GL.GL_TEXTURE_2D,
+        0,
+        spec.getFormat(),
+        spec.getType(),
+        data);
+    }
     return data;
   }
 
@@ -587,8 +730,8 @@ final class JOGLTextures implements JCGLTexturesType
         case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
         case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
         case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR: {
-          this.g3.glActiveTexture(GL.GL_TEXTURE0 + u.index());
-          this.g3.glGenerateMipmap(GL.GL_TEXTURE_2D);
+          JCGLTextureFormats.checkMipmapGenerationSupported(b.format());
+          this.mipmapsRegenerate2D(u.index(), b);
           break;
         }
       }
@@ -603,6 +746,202 @@ final class JOGLTextures implements JCGLTexturesType
     }
   }
 
+  private void mipmapsUpdated2D(
+    final int index,
+    final JOGLTexture2D t)
+  {
+    /*
+     * Mipmaps cannot be generated for compressed formats: The levels are
+     * uploaded explicitly instead.
+     */
+
+    if (t.format().isCompressed()) {
+      return;
+    }
+
+    switch (this.mipmap_mode) {
+      case TEXTURE_MIPMAP_UPDATE_IMMEDIATE: {
+        this.mipmapsRegenerate2D(index, t);
+        break;
+      }
+      case TEXTURE_MIPMAP_UPDATE_DEFERRED: {
+        if (!t.mipmapsDirty()) {
+          t.setMipmapsDirty(true);
+          this.mipmaps_dirty_2d.add(t);
+        }
+        break;
+      }
+    }
+  }
+
+  private void mipmapsUpdatedCube(
+    final int index,
+    final JOGLTextureCube t)
+  {
+    /*
+     * Mipmaps cannot be generated for compressed formats: The levels are
+     * uploaded explicitly instead.
+     */
+
+    if (t.format().isCompressed()) {
+      return;
+    }
+
+    switch (this.mipmap_mode) {
+      case TEXTURE_MIPMAP_UPDATE_IMMEDIATE: {
+        this.mipmapsRegenerateCube(index, t);
+        break;
+      }
+      case TEXTURE_MIPMAP_UPDATE_DEFERRED: {
+        if (!t.mipmapsDirty()) {
+          t.setMipmapsDirty(true);
+          this.mipmaps_dirty_cube.add(t);
+        }
+        break;
+      }
+    }
+  }
+
+  private void mipmapsRegenerate2D(
+    final int index,
+    final JOGLTexture2D t)
+  {
+    this.g3.glActiveTexture(GL.GL_TEXTURE0 + index);
+    this.g3.glGenerateMipmap(GL.GL_TEXTURE_2D);
+    this.mipmapsDiscard2D(t);
+  }
+
+  private void mipmapsRegenerateCube(
+    final int index,
+    final JOGLTextureCube t)
+  {
+    this.g3.glActiveTexture(GL.GL_TEXTURE0 + index);
+    this.g3.glGenerateMipmap(GL.GL_TEXTURE_CUBE_MAP);
+    this.mipmapsDiscardCube(t);
+  }
+
+  private void mipmapsDiscard2D(
+    final JOGLTexture2D t)
+  {
+    if (t.mipmapsDirty()) {
+      t.setMipmapsDirty(false);
+      this.mipmaps_dirty_2d.remove(t);
+    }
+  }
+
+  private void mipmapsDiscardCube(
+    final JOGLTextureCube t)
+  {
+    if (t.mipmapsDirty()) {
+      t.setMipmapsDirty(false);
+      this.mipmaps_dirty_cube.remove(t);
+    }
+  }
+
+  @Override
+  public void textureSetMipmapUpdateMode(
+    final JCGLTextureMipmapUpdateMode mode)
+    throws JCGLException
+  {
+    this.mipmap_mode = NullCheck.notNull(mode, "Mode");
+  }
+
+  @Override
+  public JCGLTextureMipmapUpdateMode textureGetMipmapUpdateMode()
+    throws JCGLException
+  {
+    return this.mipmap_mode;
+  }
+
+  @Override
+  public boolean textureMipmapsAreDirty(
+    final JCGLTextureUsableType texture)
+    throws JCGLException
+  {
+    NullCheck.notNull(texture, "Texture");
+
+    final GLContext c = this.context.getContext();
+    if (texture instanceof JCGLTexture2DUsableType) {
+      return checkTexture2D(
+        c, (JCGLTexture2DUsableType) texture).mipmapsDirty();
+    }
+    if (texture instanceof JCGLTextureCubeUsableType) {
+      return checkTextureCube(
+        c, (JCGLTextureCubeUsableType) texture).mipmapsDirty();
+    }
+    throw new UnreachableCodeException();
+  }
+
+  @Override
+  public int textureFlushMipmaps(
+    final JCGLTextureUnitType unit)
+    throws JCGLException
+  {
+    NullCheck.notNull(unit, "Unit");
+
+    final GLContext c = this.context.getContext();
+    checkTextureUnit(c, unit);
+
+    final int index = unit.index();
+    final int count =
+      this.mipmaps_dirty_2d.size() + this.mipmaps_dirty_cube.size();
+
+    if (count > 0 && LOG.isTraceEnabled()) {
+      LOG.trace("flush mipmaps: {} textures", Integer.valueOf(count));
+    }
+
+    for (int k = 0; k < this.mipmaps_dirty_2d.size(); ++k) {
+      final JOGLTexture2D t = this.mipmaps_dirty_2d.get(k);
+      this.bind2D(unit, t);
+      this.g3.glActiveTexture(GL.GL_TEXTURE0 + index);
+      this.g3.glGenerateMipmap(GL.GL_TEXTURE_2D);
+      t.setMipmapsDirty(false);
+    }
+    this.mipmaps_dirty_2d.clear();
+
+    for (int k = 0; k < this.mipmaps_dirty_cube.size(); ++k) {
+      final JOGLTextureCube t = this.mipmaps_dirty_cube.get(k);
+      this.bindCube(unit, t);
+      this.g3.glActiveTexture(GL.GL_TEXTURE0 + index);
+      this.g3.glGenerateMipmap(GL.GL_TEXTURE_CUBE_MAP);
+      t.setMipmapsDirty(false);
+    }
+    this.mipmaps_dirty_cube.clear();
+    return count;
+  }
+
+  @Override
+  public void texture2DUpdateMipmapLevel(
+    final JCGLTextureUnitType unit,
+    final int level,
+    final JCGLTexture2DUpdateType data)
+    throws JCGLException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(unit, "Unit");
+
+    final JCGLTexture2DUsableType texture = data.texture();
+    final GLContext c = this.context.getContext();
+    checkTextureUnit(c, unit);
+    checkTexture2D(c, texture);
+
+    final AreaL update_area = data.area();
+    final AreaL level_area =
+      AreaSizesL.area(JCGLTextureMipmaps.levelSize(texture, level));
+
+    Preconditions.checkPrecondition(
+      update_area,
+      AreasL.contains(level_area, update_area),
+      ignored -> "Update area must be included in mipmap level area");
+
+    final JCGLTextureFormat format = texture.format();
+    JCGLTextureFormats.checkBlockAligned(
+      format, JCGLTextureMipmaps.levelSize(texture, level), update_area);
+
+    this.bind2D(unit, texture);
+    this.subImage2D(GL.GL_TEXTURE_2D, level, format, update_area, data.data());
+  }
+
   void setFramebuffers(final JOGLFramebuffers in_fb)
   {
     this.framebuffers = NullCheck.notNull(in_fb, "Framebuffers");
@@ -613,6 +952,19 @@ final class JOGLTextures implements JCGLTexturesType
     final JCGLTextureUnitType unit,
     final JCGLTextureCubeUsableType texture)
     throws JCGLException
+  {
+    this.bindCube(unit, texture);
+
+    final JOGLTextureCube t = (JOGLTextureCube) texture;
+    if (t.mipmapsDirty()) {
+      this.mipmapsRegenerateCube(unit.index(), t);
+    }
+  }
+
+  private void bindCube(
+    final JCGLTextureUnitType unit,
+    final JCGLTextureCubeUsableType texture)
+    throws JCGLException
   {
     final GLContext c = this.context.getContext();
     final JOGLTextureCube t = checkTextureCube(c, texture);
@@ -671,6 +1023,7 @@ final class JOGLTextures implements JCGLTexturesType
     this.icache.rewind();
     this.icache.put(0, texture_id);
     this.g3.glDeleteTextures(1, this.icache);
+    this.mipmapsDiscardCube((JOGLTextureCube) texture);
     ((JOGLTextureCube) texture).setDeleted();
     this.unbindDeleted(texture_id);
   }
@@ -711,7 +1064,7 @@ final class JOGLTextures implements JCGLTexturesType
     final JCGLTextureCubeUsableType texture = data.texture();
     final GLContext c = this.context.getContext();
     checkTextureUnit(c, unit);
-    checkTextureCube(c, texture);
+    final JOGLTextureCube t = checkTextureCube(c, texture);
 
     final AreaL update_area = data.area();
     final AreaL texture_area = AreaSizesL.area(texture.size());
@@ -721,27 +1074,12 @@ final class JOGLTextures implements JCGLTexturesType
       AreasL.contains(texture_area, update_area),
       ignored -> "Update area must be included in texture area");
 
-    final int x_offset = Math.toIntExact(update_area.minimumX());
-    final int y_offset = Math.toIntExact(update_area.minimumY());
-    final int width = Math.toIntExact(update_area.width());
-    final int height = Math.toIntExact(update_area.height());
-
     final JCGLTextureFormat format = texture.format();
-    final JOGLTextureSpec spec = JOGLTextureSpecs.getTextureSpec(format);
-    final ByteBuffer buffer = data.data();
+    JCGLTextureFormats.checkBlockAligned(format, texture.size(), update_area);
     final int gface = JOGLTypeConversions.cubeFaceToGL(face);
 
-    this.textureCubeBind(unit, texture);
-    this.g3.glTexSubImage2D(
-      gface,
-      0,
-      x_offset,
-      y_offset,
-      width,
-      height,
-      spec.getFormat(),
-      spec.getType(),
-      buffer);
+    this.bindCube(unit, texture);
+    this.subImage2D(gface, 0, format, update_area, data.data());
 
     switch (texture.minificationFilter()) {
       case TEXTURE_FILTER_LINEAR:
@@ -751,12 +1089,46 @@ final class JOGLTextures implements JCGLTexturesType
       case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
       case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
       case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        this.g3.glGenerateMipmap(GL.GL_TEXTURE_CUBE_MAP);
+        this.mipmapsUpdatedCube(unit.index(), t);
         break;
       }
     }
   }
 
+  @Override
+  public void textureCubeUpdateMipmapLevelLH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceLH face,
+    final int level,
+    final JCGLTextureCubeUpdateType data)
+    throws JCGLException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(unit, "Unit");
+
+    final JCGLTextureCubeUsableType texture = data.texture();
+    final GLContext c = this.context.getContext();
+    checkTextureUnit(c, unit);
+    checkTextureCube(c, texture);
+
+    final AreaL update_area = data.area();
+    final AreaL level_area =
+      AreaSizesL.area(JCGLTextureMipmaps.levelSize(texture, level));
+
+    Preconditions.checkPrecondition(
+      update_area,
+      AreasL.contains(level_area, update_area),
+      ignored -> "Update area must be included in mipmap level area");
+
+    final JCGLTextureFormat format = texture.format();
+    JCGLTextureFormats.checkBlockAligned(
+      format, JCGLTextureMipmaps.levelSize(texture, level), update_area);
+    final int gface = JOGLTypeConversions.cubeFaceToGL(face);
+
+    this.bindCube(unit, texture);
+    this.subImage2D(gface, level, format, update_area, data.data());
+  }
+
   @Override
   public JCGLTextureCubeType textureCubeAllocate(
     final JCGLTextureUnitType unit,
@@ -778,8 +1150,10 @@ final class JOGLTextures implements JCGLTexturesType
     NullCheck.notNull(min_filter, "Minification filter");
     NullCheck.notNull(mag_filter, "Magnification filter");
     RangeCheck.checkGreaterEqualLong(in_size, "Size", 2L, "Valid sizes");
+    this.checkFormatSupported(format);
 
-    final long bytes = (in_size * in_size) * 6L * format.getBytesPerPixel();
+    final long bytes =
+      JCGLTextureFormats.imageSizeBytes(format, in_size, in_size) * 6L;
     if (LOG.isDebugEnabled()) {
       LOG.debug(
         "allocate {} {}x{}x6 {} bytes",
@@ -830,30 +1204,36 @@ final class JOGLTextures implements JCGLTexturesType
     this.g3.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
     this.g3.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
 
-    for (final JCGLCubeMapFaceLH f : JCGLCubeMapFaceLH.values()) {
-      final int gface = JOGLTypeConversions.cubeFaceToGL(f);
-      this.g3.glTexImage2D(
-        gface,
-        0,
-        spec.getInternalFormat(),
-        Math.toIntExact(in_size),
-        Math.toIntExact(in_size),
-        0,
-        spec.getFormat(),
-        spec.getType(),
-        null);
-    }
+    if (format.isCompressed()) {
+      for (final JCGLCubeMapFaceLH f : JCGLCubeMapFaceLH.values()) {
+        this.compressedAllocate(JOGLTypeConversions.cubeFaceToGL(f), spec, t);
+      }
+    } else {
+      for (final JCGLCubeMapFaceLH f : JCGLCubeMapFaceLH.values()) {
+        final int gface = JOGLTypeConversions.cubeFaceToGL(f);
+        this.g3.glTexImage2D(
+          gface,
+          0,
+          spec.getInternalFormat(),
+          Math.toIntExact(in_size),
+          Math.toIntExact(in_size),
+          0,
+          spec.getFormat(),
+          spec.getType(),
+          null);
+      }
 
-    switch (min_filter) {
-      case TEXTURE_FILTER_NEAREST:
-      case TEXTURE_FILTER_LINEAR:
-        break;
-      case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        this.g3.glGenerateMipmap(GL.GL_TEXTURE_CUBE_MAP);
-        break;
+      switch (min_filter) {
+        case TEXTURE_FILTER_NEAREST:
+        case TEXTURE_FILTER_LINEAR:
+          break;
+        case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
+          this.g3.glGenerateMipmap(GL.GL_TEXTURE_CUBE_MAP);
+          break;
+        }
       }
     }
 
@@ -884,20 +1264,25 @@ final class JOGLTextures implements JCGLTexturesType
     final AreaSizeL area = texture.size();
     final long width = area.width();
     final long height = area.height();
-    final long size_bytes = width * height * (long) format.getBytesPerPixel();
+    final long size_bytes =
+      JCGLTextureFormats.imageSizeBytes(format, width, height);
     final ByteBuffer data =
       ByteBuffer.allocateDirect(Math.toIntExact(size_bytes));
     data.order(ByteOrder.nativeOrder());
 
     final int gface = JOGLTypeConversions.cubeFaceToGL(face);
 
-    this.textureCubeBind(unit, texture);
-    this.g3.glGetTexImage(
-      gface,
-      0,
-      spec.getFormat(),
-      spec.getType(),
-      data);
+    this.bindCube(unit, texture);
+    if (format.isCompressed()) {
+      this.g3.glGetCompressedTexImage(gface, 0, data);
+    } else {
+      this.g3.glGetTexImage(
+        gface,
+        0,
+        spec.getFormat(),
+        spec.getType(),
+        data);
+    }
     return data;
   }
 
@@ -924,8 +1309,8 @@ final class JOGLTextures implements JCGLTexturesType
         case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
         case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
         case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR: {
-          this.g3.glActiveTexture(GL.GL_TEXTURE0 + u.index());
-          this.g3.glGenerateMipmap(GL.GL_TEXTURE_CUBE_MAP);
+          JCGLTextureFormats.checkMipmapGenerationSupported(b.format());
+          this.mipmapsRegenerateCube(u.index(), b);
           break;
         }
       }
@@ -0,0 +1,501 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.jogl;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionQueryAlreadyRunning;
+import com.io7m.jcanephora.core.JCGLExceptionQueryNotRunning;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackActive;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackMisconfigured;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryType;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryUsableType;
+import com.io7m.jcanephora.core.JCGLQueryResultAvailability;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackChecks;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
+import com.io7m.jcanephora.core.JCGLUniformBufferBindings;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+final class JOGLTransformFeedback implements JCGLTransformFeedbackType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JOGLTransformFeedback.class);
+  }
+
+  private final JOGLContext context;
+  private final GL3 gl;
+  private final JCGLShadersType shaders;
+  private final IntBuffer int_cache;
+  private final LongBuffer long_cache;
+  private final boolean pause_supported;
+  private final JCGLArrayBufferUsableType[] bindings;
+  private final UnsignedRangeInclusiveL[] binding_ranges;
+  private @Nullable JCGLTransformFeedbackPrimitive active;
+  private boolean paused;
+  private @Nullable JOGLPrimitivesWrittenQuery running;
+
+  JOGLTransformFeedback(
+    final JOGLContext c,
+    final JCGLShadersType in_shaders)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+    this.shaders = NullCheck.notNull(in_shaders, "Shaders");
+    this.gl = c.getGL3();
+    this.int_cache = Buffers.newDirectIntBuffer(1);
+    this.long_cache = Buffers.newDirectLongBuffer(1);
+
+    this.int_cache.rewind();
+    this.gl.glGetIntegerv(
+      GL2ES3.GL_MAX_TRANSFORM_FEEDBACK_SEPARATE_ATTRIBS, this.int_cache);
+    final int max = this.int_cache.get(0);
+    this.pause_supported =
+      JOGLCompatibilityChecks.isTransformFeedbackPauseSupported(
+        this.gl.getContext());
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "implementation supports {} transform feedback bindings",
+        Integer.valueOf(max));
+      LOG.debug(
+        "transform feedback pausing supported: {}",
+        Boolean.valueOf(this.pause_supported));
+    }
+
+    this.bindings = new JCGLArrayBufferUsableType[max];
+    this.binding_ranges = new UnsignedRangeInclusiveL[max];
+
+    /*
+     * Configure baseline defaults.
+     */
+
+    this.gl.glBindBuffer(GL2ES3.GL_TRANSFORM_FEEDBACK_BUFFER, 0);
+    for (int index = 0; index < max; ++index) {
+      this.gl.glBindBufferBase(GL2ES3.GL_TRANSFORM_FEEDBACK_BUFFER, index, 0);
+    }
+    JOGLErrorChecking.checkErrors(this.gl);
+  }
+
+  private int checkIndex(final int index)
+  {
+    return JCGLUniformBufferBindings.checkBindingIndex(
+      index, this.bindings.length);
+  }
+
+  private void checkInactive()
+    throws JCGLExceptionTransformFeedbackActive
+  {
+    if (this.active != null) {
+      throw new JCGLExceptionTransformFeedbackActive(
+        "Transform feedback buffer bindings cannot be changed whilst "
+          + "transform feedback is active");
+    }
+  }
+
+  private void checkActive()
+    throws JCGLExceptionTransformFeedbackNotActive
+  {
+    if (this.active == null) {
+      throw new JCGLExceptionTransformFeedbackNotActive(
+        "Transform feedback is not active");
+    }
+  }
+
+  private void checkPauseSupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.pause_supported) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Pausing transform feedback requires OpenGL 4.0 or "
+          + "ARB_transform_feedback2");
+    }
+  }
+
+  private boolean isBoundTo(
+    final int index,
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+  {
+    return Objects.equals(a, this.bindings[index])
+      && Objects.equals(range, this.binding_ranges[index]);
+  }
+
+  @Override
+  public int transformFeedbackGetMaximumSeparateAttributes()
+    throws JCGLException
+  {
+    return this.bindings.length;
+  }
+
+  @Override
+  public boolean transformFeedbackPauseIsSupported()
+    throws JCGLException
+  {
+    return this.pause_supported;
+  }
+
+  @Override
+  public void transformFeedbackBufferBindIndexed(
+    final int index,
+    final JCGLArrayBufferUsableType a)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException
+  {
+    this.checkIndex(index);
+    JOGLArrayBuffer.checkArray(this.context.getContext(), a);
+    JCGLResources.checkNotDeleted(a);
+    this.checkInactive();
+
+    final UnsignedRangeInclusiveL range = a.byteRange();
+    if (this.isBoundTo(index, a, range)) {
+      return;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {}", Integer.valueOf(index), a);
+    }
+
+    this.gl.glBindBufferBase(
+      GL2ES3.GL_TRANSFORM_FEEDBACK_BUFFER, index, a.glName());
+    this.bindings[index] = a;
+    this.binding_ranges[index] = range;
+  }
+
+  @Override
+  public void transformFeedbackBufferBindIndexedRange(
+    final int index,
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException
+  {
+    this.checkIndex(index);
+    JOGLArrayBuffer.checkArray(this.context.getContext(), a);
+    JCGLResources.checkNotDeleted(a);
+    JCGLTransformFeedbackChecks.checkBindingRange(a, range);
+    this.checkInactive();
+
+    if (this.isBoundTo(index, a, range)) {
+      return;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {} {}", Integer.valueOf(index), a, range);
+    }
+
+    this.gl.glBindBufferRange(
+      GL2ES3.GL_TRANSFORM_FEEDBACK_BUFFER,
+      index,
+      a.glName(),
+      range.getLower(),
+      range.getInterval());
+    this.bindings[index] = a;
+    this.binding_ranges[index] = range;
+  }
+
+  @Override
+  public void transformFeedbackBufferUnbindIndexed(
+    final int index)
+    throws
+    JCGLException,
+    JCGLExceptionTransformFeedbackActive,
+    RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkInactive();
+
+    if (this.bindings[index] != null) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unbind {}", Integer.valueOf(index));
+      }
+
+      this.gl.glBindBufferBase(GL2ES3.GL_TRANSFORM_FEEDBACK_BUFFER, index, 0);
+      this.bindings[index] = null;
+      this.binding_ranges[index] = null;
+    }
+  }
+
+  @Override
+  public Optional<JCGLArrayBufferUsableType>
+  transformFeedbackBufferGetIndexedBinding(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+    return Optional.ofNullable(this.bindings[index]);
+  }
+
+  @Override
+  public void transformFeedbackBegin(
+    final JCGLTransformFeedbackPrimitive p)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionTransformFeedbackActive,
+    JCGLExceptionTransformFeedbackMisconfigured,
+    JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(p, "Primitive");
+
+    if (this.active != null) {
+      throw new JCGLExceptionTransformFeedbackActive(
+        "Transform feedback is already active");
+    }
+
+    JCGLTransformFeedbackChecks.checkBegin(
+      this.shaders.shaderActivatedProgram(), this.bindings);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("begin {}", p);
+    }
+
+    this.gl.glBeginTransformFeedback(
+      JOGLTypeConversions.transformFeedbackPrimitiveToGL(p));
+    this.active = p;
+    this.paused = false;
+  }
+
+  @Override
+  public void transformFeedbackPause()
+    throws
+    JCGLException,
+    JCGLExceptionUnsupportedFeature,
+    JCGLExceptionTransformFeedbackNotActive
+  {
+    this.checkPauseSupported();
+    this.checkActive();
+
+    if (this.paused) {
+      LOG.trace("redundant transform feedback pause ignored");
+      return;
+    }
+
+    this.gl.glPauseTransformFeedback();
+    this.paused = true;
+  }
+
+  @Override
+  public void transformFeedbackResume()
+    throws
+    JCGLException,
+    JCGLExceptionUnsupportedFeature,
+    JCGLExceptionTransformFeedbackNotActive
+  {
+    this.checkPauseSupported();
+    this.checkActive();
+
+    if (!this.paused) {
+      LOG.trace("redundant transform feedback resume ignored");
+      return;
+    }
+
+    this.gl.glResumeTransformFeedback();
+    this.paused = false;
+  }
+
+  @Override
+  public void transformFeedbackEnd()
+    throws JCGLException, JCGLExceptionTransformFeedbackNotActive
+  {
+    this.checkActive();
+
+    LOG.trace("end");
+    this.gl.glEndTransformFeedback();
+    this.active = null;
+    this.paused = false;
+  }
+
+  @Override
+  public boolean transformFeedbackIsActive()
+    throws JCGLException
+  {
+    return this.active != null;
+  }
+
+  @Override
+  public boolean transformFeedbackIsPaused()
+    throws JCGLException
+  {
+    return this.paused;
+  }
+
+  @Override
+  public Optional<JCGLTransformFeedbackPrimitive>
+  transformFeedbackGetPrimitive()
+    throws JCGLException
+  {
+    return Optional.ofNullable(this.active);
+  }
+
+  @Override
+  public JCGLPrimitivesWrittenQueryType transformFeedbackQueryAllocate()
+    throws JCGLException
+  {
+    this.int_cache.rewind();
+    this.gl.glGenQueries(1, this.int_cache);
+    final int id = this.int_cache.get(0);
+    final JOGLPrimitivesWrittenQuery q =
+      new JOGLPrimitivesWrittenQuery(this.context.getContext(), id);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocate {}", Integer.valueOf(q.glName()));
+    }
+
+    return q;
+  }
+
+  private JOGLPrimitivesWrittenQuery checkQuery(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+  {
+    NullCheck.notNull(q, "Query");
+
+    final GLContext c = this.context.getContext();
+    final JOGLPrimitivesWrittenQuery wq =
+      JOGLPrimitivesWrittenQuery.checkPrimitivesWrittenQuery(c, q);
+    JCGLResources.checkNotDeleted(q);
+    return wq;
+  }
+
+  @Override
+  public void transformFeedbackQueryBegin(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    final JOGLPrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    if (this.running != null) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Primitives-written query is already running.");
+      sb.append(System.lineSeparator());
+      sb.append("Query: ");
+      sb.append(this.running);
+      sb.append(System.lineSeparator());
+      throw new JCGLExceptionQueryAlreadyRunning(sb.toString());
+    }
+
+    this.gl.glBeginQuery(
+      GL2ES3.GL_TRANSFORM_FEEDBACK_PRIMITIVES_WRITTEN, wq.glName());
+    wq.setExecuted(true);
+    this.running = wq;
+  }
+
+  @Override
+  public void transformFeedbackQueryFinish(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    this.checkQuery(q);
+
+    if (!Objects.equals(q, this.running)) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("This primitives-written query is not running.");
+      sb.append(System.lineSeparator());
+      if (this.running != null) {
+        sb.append("Currently running query: ");
+        sb.append(this.running);
+        sb.append(System.lineSeparator());
+      }
+      throw new JCGLExceptionQueryNotRunning(sb.toString());
+    }
+
+    this.gl.glEndQuery(GL2ES3.GL_TRANSFORM_FEEDBACK_PRIMITIVES_WRITTEN);
+    this.running = null;
+  }
+
+  @Override
+  public JCGLQueryResultAvailability transformFeedbackQueryResultAvailability(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    final JOGLPrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    if (!wq.isExecuted()) {
+      return JCGLQueryResultAvailability.QUERY_RESULT_NOT_YET_REQUESTED;
+    }
+
+    this.int_cache.rewind();
+    this.gl.glGetQueryObjectiv(
+      wq.glName(), GL2ES3.GL_QUERY_RESULT_AVAILABLE, this.int_cache);
+    if (this.int_cache.get(0) == GL.GL_TRUE) {
+      return JCGLQueryResultAvailability.QUERY_RESULT_AVAILABLE;
+    }
+    return JCGLQueryResultAvailability.QUERY_RESULT_NOT_YET_AVAILABLE;
+  }
+
+  @Override
+  public long transformFeedbackQueryResultGet(
+    final JCGLPrimitivesWrittenQueryUsableType q)
+    throws JCGLException
+  {
+    final JOGLPrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    this.long_cache.rewind();
+    this.gl.glGetQueryObjecti64v(
+      wq.glName(), GL2ES3.GL_QUERY_RESULT, this.long_cache);
+    return this.long_cache.get(0);
+  }
+
+  @Override
+  public void transformFeedbackQueryDelete(
+    final JCGLPrimitivesWrittenQueryType q)
+    throws JCGLException
+  {
+    final JOGLPrimitivesWrittenQuery wq = this.checkQuery(q);
+
+    this.int_cache.put(0, wq.glName());
+    this.gl.glDeleteQueries(1, this.int_cache);
+    wq.setDeleted();
+
+    if (Objects.equals(this.running, q)) {
+      this.running = null;
+    }
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("delete {}", Integer.valueOf(wq.glName()));
+    }
+  }
+}
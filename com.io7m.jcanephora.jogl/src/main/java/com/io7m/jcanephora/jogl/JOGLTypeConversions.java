@@ -18,6 +18,7 @@ package com.io7m.jcanephora.jogl;
 
 import com.io7m.jcanephora.core.JCGLBlendEquation;
 import com.io7m.jcanephora.core.JCGLBlendFunction;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
 import com.io7m.jcanephora.core.JCGLDepthFunction;
 import com.io7m.jcanephora.core.JCGLFaceSelection;
@@ -37,6 +38,8 @@ import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
 import com.io7m.jcanephora.core.JCGLType;
 import com.io7m.jcanephora.core.JCGLUnsignedType;
 import com.io7m.jcanephora.core.JCGLUsageHint;
@@ -439,6 +442,75 @@ public final class JOGLTypeConversions
     throw new UnreachableCodeException();
   }
 
+  /**
+   * Convert buffer map flags to GL constants.
+   *
+   * @param flags The flags.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int bufferMapFlagSetToMask(
+    final Set<JCGLBufferMapFlag> flags)
+  {
+    int mask = 0;
+    for (final JCGLBufferMapFlag f : flags) {
+      assert f != null;
+      mask |= bufferMapFlagToGL(f);
+    }
+    return mask;
+  }
+
+  /**
+   * Convert buffer map flags to GL constants.
+   *
+   * @param flag The flag.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int bufferMapFlagToGL(
+    final JCGLBufferMapFlag flag)
+  {
+    switch (flag) {
+      case BUFFER_MAP_INVALIDATE_RANGE:
+        return GL.GL_MAP_INVALIDATE_RANGE_BIT;
+      case BUFFER_MAP_INVALIDATE_BUFFER:
+        return GL.GL_MAP_INVALIDATE_BUFFER_BIT;
+      case BUFFER_MAP_UNSYNCHRONIZED:
+        return GL.GL_MAP_UNSYNCHRONIZED_BIT;
+      case BUFFER_MAP_FLUSH_EXPLICIT:
+        return GL.GL_MAP_FLUSH_EXPLICIT_BIT;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Convert buffer map flags from GL constants.
+   *
+   * @param flag The GL constant.
+   *
+   * @return The value.
+   */
+
+  public static JCGLBufferMapFlag bufferMapFlagFromGL(
+    final int flag)
+  {
+    switch (flag) {
+      case GL.GL_MAP_INVALIDATE_RANGE_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_RANGE;
+      case GL.GL_MAP_INVALIDATE_BUFFER_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_BUFFER;
+      case GL.GL_MAP_UNSYNCHRONIZED_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_UNSYNCHRONIZED;
+      case GL.GL_MAP_FLUSH_EXPLICIT_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT;
+      default:
+        throw new UnreachableCodeException();
+    }
+  }
+
   /**
    * Convert types from GL constants.
    *
@@ -467,6 +539,10 @@ public final class JOGLTypeConversions
         return JCGLScalarType.TYPE_UNSIGNED_INT;
       case GL.GL_FLOAT:
         return JCGLScalarType.TYPE_FLOAT;
+      case GL3.GL_INT_2_10_10_10_REV:
+        return JCGLScalarType.TYPE_INT_2_10_10_10_REV;
+      case GL2ES2.GL_UNSIGNED_INT_2_10_10_10_REV:
+        return JCGLScalarType.TYPE_UNSIGNED_INT_2_10_10_10_REV;
       default:
         throw new UnreachableCodeException();
     }
@@ -500,6 +576,10 @@ public final class JOGLTypeConversions
         return GL.GL_UNSIGNED_INT;
       case TYPE_UNSIGNED_SHORT:
         return GL.GL_UNSIGNED_SHORT;
+      case TYPE_INT_2_10_10_10_REV:
+        return GL3.GL_INT_2_10_10_10_REV;
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV:
+        return GL2ES2.GL_UNSIGNED_INT_2_10_10_10_REV;
     }
 
     throw new UnreachableCodeException();
@@ -777,6 +857,50 @@ public final class JOGLTypeConversions
     throw new UnreachableCodeException();
   }
 
+  /**
+   * Convert transform feedback primitives to GL constants.
+   *
+   * @param p The primitives.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int transformFeedbackPrimitiveToGL(
+    final JCGLTransformFeedbackPrimitive p)
+  {
+    switch (p) {
+      case FEEDBACK_POINTS:
+        return GL.GL_POINTS;
+      case FEEDBACK_LINES:
+        return GL.GL_LINES;
+      case FEEDBACK_TRIANGLES:
+        return GL.GL_TRIANGLES;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Convert transform feedback buffer modes to GL constants.
+   *
+   * @param m The buffer mode.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int transformFeedbackBufferModeToGL(
+    final JCGLTransformFeedbackBufferMode m)
+  {
+    switch (m) {
+      case TRANSFORM_FEEDBACK_INTERLEAVED:
+        return GL2ES3.GL_INTERLEAVED_ATTRIBS;
+      case TRANSFORM_FEEDBACK_SEPARATE:
+        return GL2ES3.GL_SEPARATE_ATTRIBS;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
   /**
    * Convert filters from GL constants.
    *
@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.jogl;
+
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLUniformBufferBindings;
+import com.io7m.jcanephora.core.JCGLUniformBufferType;
+import com.io7m.jcanephora.core.JCGLUniformBufferUsableType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+final class JOGLUniformBuffers implements JCGLUniformBuffersType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JOGLUniformBuffers.class);
+  }
+
+  private final JOGLContext context;
+  private final GL3 gl;
+  private final IntBuffer int_cache;
+  private final int alignment;
+  private final JCGLUniformBufferUsableType[] bindings;
+  private final UnsignedRangeInclusiveL[] binding_ranges;
+
+  JOGLUniformBuffers(
+    final JOGLContext c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+    this.gl = c.getGL3();
+    this.int_cache = Buffers.newDirectIntBuffer(1);
+
+    this.int_cache.rewind();
+    this.gl.glGetIntegerv(
+      GL2ES3.GL_MAX_UNIFORM_BUFFER_BINDINGS, this.int_cache);
+    final int max = this.int_cache.get(0);
+    this.int_cache.rewind();
+    this.gl.glGetIntegerv(
+      GL2ES3.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT, this.int_cache);
+    this.alignment = this.int_cache.get(0);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "implementation supports {} uniform buffer bindings",
+        Integer.valueOf(max));
+      LOG.debug(
+        "implementation requires uniform buffer offset alignment {}",
+        Integer.valueOf(this.alignment));
+    }
+
+    this.bindings = new JCGLUniformBufferUsableType[max];
+    this.binding_ranges = new UnsignedRangeInclusiveL[max];
+
+    /*
+     * Configure baseline defaults.
+     */
+
+    this.gl.glBindBuffer(GL2ES3.GL_UNIFORM_BUFFER, 0);
+    for (int index = 0; index < max; ++index) {
+      this.gl.glBindBufferBase(GL2ES3.GL_UNIFORM_BUFFER, index, 0);
+    }
+    JOGLErrorChecking.checkErrors(this.gl);
+  }
+
+  private JOGLBuffer checkUniform(final JCGLUniformBufferUsableType u)
+  {
+    final GLContext c = this.context.getContext();
+    final JOGLBuffer b = JOGLUniformBuffer.checkUniform(c, u);
+    JCGLResources.checkNotDeleted(u);
+    return b;
+  }
+
+  private int checkIndex(final int index)
+  {
+    return JCGLUniformBufferBindings.checkBindingIndex(
+      index, this.bindings.length);
+  }
+
+  @Override
+  public int uniformBufferGetMaximumBindings()
+    throws JCGLException
+  {
+    return this.bindings.length;
+  }
+
+  @Override
+  public int uniformBufferGetOffsetAlignment()
+    throws JCGLException
+  {
+    return this.alignment;
+  }
+
+  @Override
+  public JCGLUniformBufferType uniformBufferAllocate(
+    final long size,
+    final JCGLUsageHint usage)
+    throws JCGLException
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid size range");
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocate ({} bytes, {})", Long.valueOf(size), usage);
+    }
+
+    this.int_cache.rewind();
+    this.gl.glGenBuffers(1, this.int_cache);
+    final int id = this.int_cache.get(0);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocated {}", Integer.valueOf(id));
+    }
+
+    final JOGLUniformBuffer u =
+      new JOGLUniformBuffer(this.gl.getContext(), id, size, usage);
+
+    this.gl.glBindBuffer(GL2ES3.GL_UNIFORM_BUFFER, id);
+    this.gl.glBufferData(
+      GL2ES3.GL_UNIFORM_BUFFER,
+      size,
+      null,
+      JOGLTypeConversions.usageHintToGL(usage));
+    this.gl.glBindBuffer(GL2ES3.GL_UNIFORM_BUFFER, 0);
+    return u;
+  }
+
+  @Override
+  public void uniformBufferUpdate(
+    final JCGLBufferUpdateType<JCGLUniformBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(u, "Update");
+    final JCGLUniformBufferType ub = u.buffer();
+    final JOGLBuffer b = this.checkUniform(ub);
+    JOGLBuffer.checkNotMapped(b);
+
+    final UnsignedRangeInclusiveL r = u.dataUpdateRange();
+    final ByteBuffer data = u.data();
+    data.rewind();
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("update {} {}", ub, r);
+    }
+
+    this.gl.glBindBuffer(GL2ES3.GL_UNIFORM_BUFFER, ub.glName());
+    this.gl.glBufferSubData(
+      GL2ES3.GL_UNIFORM_BUFFER, r.getLower(), r.getInterval(), data);
+    this.gl.glBindBuffer(GL2ES3.GL_UNIFORM_BUFFER, 0);
+  }
+
+  @Override
+  public void uniformBufferDelete(
+    final JCGLUniformBufferType u)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JOGLBuffer b = this.checkUniform(u);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("delete {}", Integer.valueOf(u.glName()));
+    }
+
+    this.int_cache.rewind();
+    this.int_cache.put(0, u.glName());
+    this.gl.glDeleteBuffers(1, this.int_cache);
+    b.setDeleted();
+    b.setUnmapped();
+
+    for (int index = 0; index < this.bindings.length; ++index) {
+      if (Objects.equals(u, this.bindings[index])) {
+        this.bindings[index] = null;
+        this.binding_ranges[index] = null;
+      }
+    }
+  }
+
+  @Override
+  public void uniformBufferBindIndexed(
+    final int index,
+    final JCGLUniformBufferUsableType u)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkUniform(u);
+
+    final UnsignedRangeInclusiveL range = u.byteRange();
+    if (this.isBoundTo(index, u, range)) {
+      return;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {}", Integer.valueOf(index), u);
+    }
+
+    this.gl.glBindBufferBase(GL2ES3.GL_UNIFORM_BUFFER, index, u.glName());
+    this.bindings[index] = u;
+    this.binding_ranges[index] = range;
+  }
+
+  @Override
+  public void uniformBufferBindIndexedRange(
+    final int index,
+    final JCGLUniformBufferUsableType u,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkUniform(u);
+    JCGLUniformBufferBindings.checkBindingRange(u, range, this.alignment);
+
+    if (this.isBoundTo(index, u, range)) {
+      return;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {} {}", Integer.valueOf(index), u, range);
+    }
+
+    this.gl.glBindBufferRange(
+      GL2ES3.GL_UNIFORM_BUFFER,
+      index,
+      u.glName(),
+      range.getLower(),
+      range.getInterval());
+    this.bindings[index] = u;
+    this.binding_ranges[index] = range;
+  }
+
+  private boolean isBoundTo(
+    final int index,
+    final JCGLUniformBufferUsableType u,
+    final UnsignedRangeInclusiveL range)
+  {
+    return Objects.equals(u, this.bindings[index])
+      && Objects.equals(range, this.binding_ranges[index]);
+  }
+
+  @Override
+  public void uniformBufferUnbindIndexed(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+
+    if (this.bindings[index] != null) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unbind {}", Integer.valueOf(index));
+      }
+
+      this.gl.glBindBufferBase(GL2ES3.GL_UNIFORM_BUFFER, index, 0);
+      this.bindings[index] = null;
+      this.binding_ranges[index] = null;
+    }
+  }
+
+  @Override
+  public Optional<JCGLUniformBufferUsableType> uniformBufferGetIndexedBinding(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+    return Optional.ofNullable(this.bindings[index]);
+  }
+
+  @Override
+  public void uniformBlockBind(
+    final JCGLProgramUniformBlockType b,
+    final int index)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    NullCheck.notNull(b, "Uniform block");
+    this.checkIndex(index);
+
+    final GLContext c = this.context.getContext();
+    final JOGLProgramShader p =
+      JOGLProgramShader.checkProgramShader(c, b.program());
+    JCGLResources.checkNotDeleted(p);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "[{}] uniform block {} -> {}",
+        p.name(),
+        b.name(),
+        Integer.valueOf(index));
+    }
+
+    this.gl.glUniformBlockBinding(p.glName(), b.glName(), index);
+  }
+}
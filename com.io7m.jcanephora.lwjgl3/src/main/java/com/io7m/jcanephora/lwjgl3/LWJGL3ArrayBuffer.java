@@ -37,13 +37,13 @@ final class LWJGL3ArrayBuffer extends LWJGL3Buffer implements
     this.image = String.format("[LWJGLArrayBuffer %s]", super.toString());
   }
 
-  static LWJGL3ArrayBuffer checkArray(
+  static LWJGL3Buffer checkArray(
     final LWJGL3Context current,
     final JCGLArrayBufferUsableType x)
     throws JCGLExceptionWrongContext
   {
     NullCheck.notNull(x, "Context");
-    return (LWJGL3ArrayBuffer) LWJGL3CompatibilityChecks.checkAny(current, x);
+    return (LWJGL3Buffer) LWJGL3CompatibilityChecks.checkAny(current, x);
   }
 
   @Override
@@ -16,28 +16,41 @@
 
 package com.io7m.jcanephora.lwjgl3;
 
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingType;
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingUsableType;
 import com.io7m.jcanephora.core.JCGLArrayBufferType;
 import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLBufferCopies;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLUsageHint;
 import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLByteBufferConsumerType;
 import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jnull.Nullable;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL31;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
 {
@@ -48,7 +61,7 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
   }
 
   private final LWJGL3Context context;
-  private @Nullable LWJGL3ArrayBuffer bind;
+  private @Nullable JCGLArrayBufferUsableType bind;
 
   LWJGL3ArrayBuffers(
     final LWJGL3Context c)
@@ -71,9 +84,10 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
   {
     NullCheck.notNull(a, "Array buffer");
     NullCheck.notNull(f, "Buffer producer");
-    this.checkArray(a);
+    final LWJGL3Buffer ab = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
+      LWJGL3Buffer.checkNotMapped(ab);
       final long size = a.byteRange().getInterval();
       final ByteBuffer b = f.apply(size);
       GL15.glGetBufferSubData(GL15.GL_ARRAY_BUFFER, 0L, b);
@@ -121,7 +135,7 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
     final JCGLArrayBufferUsableType a)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
-    this.checkArray(a);
+    final LWJGL3Buffer b = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
       final UnsignedRangeInclusiveL r = a.byteRange();
@@ -137,12 +151,13 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
         GL15.GL_ARRAY_BUFFER,
         size,
         LWJGL3TypeConversions.usageHintToGL(usage));
+      b.setUnmapped();
     } else {
       throw this.notBound(a);
     }
   }
 
-  private void actualBind(final LWJGL3ArrayBuffer a)
+  private void actualBind(final JCGLArrayBufferUsableType a)
   {
     if (LOG.isTraceEnabled()) {
       LOG.trace("bind {} -> {}", this.bind, a);
@@ -194,13 +209,14 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
     throws JCGLException, JCGLExceptionDeleted
   {
     this.checkArray(a);
-    this.actualBind((LWJGL3ArrayBuffer) a);
+    this.actualBind(a);
   }
 
-  private void checkArray(final JCGLArrayBufferUsableType a)
+  private LWJGL3Buffer checkArray(final JCGLArrayBufferUsableType a)
   {
-    LWJGL3ArrayBuffer.checkArray(this.context, a);
+    final LWJGL3Buffer b = LWJGL3ArrayBuffer.checkArray(this.context, a);
     JCGLResources.checkNotDeleted(a);
+    return b;
   }
 
   @Override
@@ -214,14 +230,15 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
   public void arrayBufferDelete(final JCGLArrayBufferType a)
     throws JCGLException, JCGLExceptionDeleted
   {
-    this.checkArray(a);
+    final LWJGL3Buffer b = this.checkArray(a);
 
     if (LOG.isDebugEnabled()) {
       LOG.debug("delete {}", Integer.valueOf(a.glName()));
     }
 
     GL15.glDeleteBuffers(a.glName());
-    ((LWJGL3ArrayBuffer) a).setDeleted();
+    b.setDeleted();
+    b.setUnmapped();
 
     if (Objects.equals(a, this.bind)) {
       this.actualUnbind();
@@ -235,9 +252,10 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
   {
     NullCheck.notNull(u, "Update");
     final JCGLArrayBufferType a = u.buffer();
-    this.checkArray(a);
+    final LWJGL3Buffer b = this.checkArray(a);
 
     if (Objects.equals(a, this.bind)) {
+      LWJGL3Buffer.checkNotMapped(b);
       final UnsignedRangeInclusiveL r = u.dataUpdateRange();
       final ByteBuffer data = u.data();
       data.rewind();
@@ -248,6 +266,196 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
     }
   }
 
+  @Override
+  public JCGLArrayBufferStreamingType arrayBufferStreamingAllocate(
+    final long segment_size,
+    final int segments,
+    final JCGLUsageHint usage)
+    throws JCGLException
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      segment_size, "Segment size", Ranges.POSITIVE_LONG, "Valid size range");
+    RangeCheck.checkIncludedInInteger(
+      segments, "Segments", Ranges.POSITIVE_INTEGER, "Valid segment counts");
+
+    final long size = Math.multiplyExact(segment_size, (long) segments);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "allocate streaming ({} segments × {} bytes, {})",
+        Integer.valueOf(segments),
+        Long.valueOf(segment_size),
+        usage);
+    }
+
+    final int id = GL15.glGenBuffers();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocated {}", Integer.valueOf(id));
+    }
+
+    final LWJGL3ArrayBufferStreaming a = new LWJGL3ArrayBufferStreaming(
+      this.context, id, segment_size, segments, usage);
+    this.actualBind(a);
+
+    GL15.glBufferData(
+      GL15.GL_ARRAY_BUFFER,
+      size,
+      LWJGL3TypeConversions.usageHintToGL(usage));
+
+    return a;
+  }
+
+  @Override
+  public void arrayBufferStreamingRotate(
+    final JCGLArrayBufferStreamingUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(a, "Array buffer");
+    final LWJGL3ArrayBufferStreaming sa =
+      (LWJGL3ArrayBufferStreaming) this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      if (sa.segmentAdvance()) {
+        this.arrayBufferReallocate(sa);
+      }
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+          "rotate {} -> segment {}", sa, Integer.valueOf(sa.segmentCurrent()));
+      }
+    } else {
+      throw this.notBound(a);
+    }
+  }
+
+  @Override
+  public void arrayBufferStreamingWrite(
+    final JCGLArrayBufferStreamingUsableType a,
+    final JCGLByteBufferConsumerType w)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(a, "Array buffer");
+    NullCheck.notNull(w, "Writer");
+    final LWJGL3Buffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      LWJGL3Buffer.checkNotMapped(b);
+      final UnsignedRangeInclusiveL r = a.segmentCurrentByteRange();
+      final ByteBuffer window = GL30.glMapBufferRange(
+        GL15.GL_ARRAY_BUFFER,
+        r.getLower(),
+        r.getInterval(),
+        GL30.GL_MAP_WRITE_BIT
+          | GL30.GL_MAP_INVALIDATE_RANGE_BIT
+          | GL30.GL_MAP_UNSYNCHRONIZED_BIT);
+      LWJGL3ErrorChecking.checkErrors();
+
+      try {
+        window.order(ByteOrder.nativeOrder());
+        window.rewind();
+        w.accept(window);
+      } finally {
+        GL15.glUnmapBuffer(GL15.GL_ARRAY_BUFFER);
+      }
+    } else {
+      throw this.notBound(a);
+    }
+  }
+
+  @Override
+  public ByteBuffer arrayBufferMapRange(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(a, "Array buffer");
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final LWJGL3Buffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      LWJGL3Buffer.checkNotMapped(b);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range, "Map range", a.byteRange(), "Buffer range");
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("map {} {} {}", a, range, flags);
+      }
+
+      final ByteBuffer m = GL30.glMapBufferRange(
+        GL15.GL_ARRAY_BUFFER,
+        range.getLower(),
+        range.getInterval(),
+        GL30.GL_MAP_WRITE_BIT
+          | LWJGL3TypeConversions.bufferMapFlagSetToMask(flags));
+      LWJGL3ErrorChecking.checkErrors();
+
+      final boolean explicit =
+        flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+      b.setMapped(range, explicit);
+      m.order(ByteOrder.nativeOrder());
+      m.rewind();
+      return m;
+    }
+
+    throw this.notBound(a);
+  }
+
+  @Override
+  public void arrayBufferFlushMappedRange(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(a, "Array buffer");
+    NullCheck.notNull(range, "Range");
+    final LWJGL3Buffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      final UnsignedRangeInclusiveL mapped = LWJGL3Buffer.checkMapped(b);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range,
+        "Flush range",
+        new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+        "Mapped range");
+
+      if (b.isMappedFlushExplicit()) {
+        GL30.glFlushMappedBufferRange(
+          GL15.GL_ARRAY_BUFFER, range.getLower(), range.getInterval());
+      }
+      return;
+    }
+
+    throw this.notBound(a);
+  }
+
+  @Override
+  public boolean arrayBufferUnmap(
+    final JCGLArrayBufferUsableType a)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    NullCheck.notNull(a, "Array buffer");
+    final LWJGL3Buffer b = this.checkArray(a);
+
+    if (Objects.equals(a, this.bind)) {
+      LWJGL3Buffer.checkMapped(b);
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unmap {}", a);
+      }
+
+      b.setUnmapped();
+      return GL15.glUnmapBuffer(GL15.GL_ARRAY_BUFFER);
+    }
+
+    throw this.notBound(a);
+  }
+
   private JCGLExceptionBufferNotBound notBound(
     final JCGLArrayBufferUsableType a)
   {
@@ -261,4 +469,40 @@ final class LWJGL3ArrayBuffers implements JCGLArrayBuffersType
     sb.append(this.bind == null ? "none" : this.bind);
     return new JCGLExceptionBufferNotBound(sb.toString());
   }
+
+  @Override
+  public void arrayBufferCopy(
+    final JCGLArrayBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLArrayBufferUsableType target,
+    final long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    final LWJGL3Buffer s = this.checkArray(source);
+    final LWJGL3Buffer t = this.checkArray(target);
+    LWJGL3Buffer.checkNotMapped(s);
+    LWJGL3Buffer.checkNotMapped(t);
+    JCGLBufferCopies.checkCopy(source, source_range, target, target_offset);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "copy {} {} -> {} {}",
+        source,
+        source_range,
+        target,
+        Long.valueOf(target_offset));
+    }
+
+    GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, s.glName());
+    GL15.glBindBuffer(GL31.GL_COPY_WRITE_BUFFER, t.glName());
+    GL31.glCopyBufferSubData(
+      GL31.GL_COPY_READ_BUFFER,
+      GL31.GL_COPY_WRITE_BUFFER,
+      source_range.getLower(),
+      target_offset,
+      source_range.getInterval());
+    GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, 0);
+    GL15.glBindBuffer(GL31.GL_COPY_WRITE_BUFFER, 0);
+  }
 }
@@ -60,12 +60,14 @@ final class LWJGL3ArrayObjects implements JCGLArrayObjectsType
 {
   private static final Logger LOG;
   private static final RangeInclusiveI VALID_ELEMENT_COUNT;
+  private static final RangeInclusiveI VALID_ELEMENT_COUNT_PACKED;
   private static final String ATTR_FLOAT_TRACE_FORMAT;
   private static final String ATTR_INTEGRAL_TRACE_FORMAT;
   private static final String ATTR_DISABLED_TRACE_FORMAT;
 
   static {
     VALID_ELEMENT_COUNT = new RangeInclusiveI(1, 4);
+    VALID_ELEMENT_COUNT_PACKED = new RangeInclusiveI(4, 4);
     LOG = LoggerFactory.getLogger(LWJGL3ArrayObjects.class);
     ATTR_FLOAT_TRACE_FORMAT =
       "[{}]: attr {} floating type:{}/{} norm:{} off:{} stride:{} div:{}";
@@ -526,7 +528,7 @@ final class LWJGL3ArrayObjects implements JCGLArrayObjectsType
       RangeCheck.checkIncludedInInteger(
         elements,
         "Element count",
-        VALID_ELEMENT_COUNT,
+        type.isPacked() ? VALID_ELEMENT_COUNT_PACKED : VALID_ELEMENT_COUNT,
         "Valid element counts");
       RangeCheck.checkIncludedInInteger(
         stride, "Stride", Ranges.NATURAL_INTEGER, "Valid strides");
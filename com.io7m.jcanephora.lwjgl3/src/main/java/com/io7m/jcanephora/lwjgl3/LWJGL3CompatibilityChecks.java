@@ -18,6 +18,7 @@ package com.io7m.jcanephora.lwjgl3;
 
 import com.io7m.jcanephora.core.JCGLExceptionWrongContext;
 import com.io7m.junreachable.UnreachableCodeException;
+import org.lwjgl.opengl.GLCapabilities;
 
 import java.util.Objects;
 
@@ -58,6 +59,92 @@ final class LWJGL3CompatibilityChecks
     throw new UnreachableCodeException();
   }
 
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports indirect drawing
+   */
+
+  static boolean isIndirectDrawSupported(
+    final GLCapabilities c)
+  {
+    return c.OpenGL40 || c.GL_ARB_draw_indirect;
+  }
+
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports multi-draw indirect drawing
+   */
+
+  static boolean isMultiDrawIndirectSupported(
+    final GLCapabilities c)
+  {
+    return c.OpenGL43 || c.GL_ARB_multi_draw_indirect;
+  }
+
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports pausing and resuming
+   * transform feedback
+   */
+
+  static boolean isTransformFeedbackPauseSupported(
+    final GLCapabilities c)
+  {
+    return c.OpenGL40 || c.GL_ARB_transform_feedback2;
+  }
+
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports program binaries
+   */
+
+  static boolean isProgramBinarySupported(
+    final GLCapabilities c)
+  {
+    return c.OpenGL41 || c.GL_ARB_get_program_binary;
+  }
+
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports non-blocking queries of
+   * parallel shader compilation
+   */
+
+  static boolean isParallelShaderCompileSupported(
+    final GLCapabilities c)
+  {
+    return c.GL_ARB_parallel_shader_compile;
+  }
+
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports S3TC texture compression
+   */
+
+  static boolean isTextureCompressionS3TCSupported(
+    final GLCapabilities c)
+  {
+    return c.GL_EXT_texture_compression_s3tc;
+  }
+
+  /**
+   * @param c The capabilities of the current context
+   *
+   * @return {@code true} iff the context supports BPTC texture compression
+   */
+
+  static boolean isTextureCompressionBPTCSupported(
+    final GLCapabilities c)
+  {
+    return c.OpenGL42 || c.GL_ARB_texture_compression_bptc;
+  }
+
   @SuppressWarnings("unchecked")
   static <A> A checkAny(
     final LWJGL3Context current,
@@ -16,29 +16,60 @@
 
 package com.io7m.jcanephora.lwjgl3;
 
+import com.io7m.jcanephora.core.JCGLDrawChecks;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLIndirectCommands;
 import com.io7m.jcanephora.core.JCGLPrimitives;
 import com.io7m.jcanephora.core.api.JCGLDrawType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.PointerBuffer;
 import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL12;
+import org.lwjgl.opengl.GL14;
 import org.lwjgl.opengl.GL31;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GL40;
+import org.lwjgl.opengl.GL43;
+
+import java.nio.IntBuffer;
 
 final class LWJGL3Draw implements JCGLDrawType
 {
   private final LWJGL3ArrayObjects array_objects;
   private final LWJGL3IndexBuffers index_buffers;
+  private final LWJGL3IndirectBuffers indirect_buffers;
+  private PointerBuffer offsets;
 
   LWJGL3Draw(
     final LWJGL3Context in_context,
     final LWJGL3ArrayObjects in_array_objects,
-    final LWJGL3IndexBuffers in_index_buffers)
+    final LWJGL3IndexBuffers in_index_buffers,
+    final LWJGL3IndirectBuffers in_indirect_buffers)
   {
     NullCheck.notNull(in_context, "Context");
     this.array_objects = NullCheck.notNull(in_array_objects, "Array objects");
     this.index_buffers = NullCheck.notNull(in_index_buffers, "Index buffers");
+    this.indirect_buffers =
+      NullCheck.notNull(in_indirect_buffers, "Indirect buffers");
+    this.offsets = BufferUtils.createPointerBuffer(64);
+  }
+
+  private LWJGL3IndexBuffer currentIndexBuffer()
+    throws JCGLExceptionBufferNotBound
+  {
+    if (this.index_buffers.indexBufferIsBound()) {
+      return this.array_objects.getCurrentIndexBuffer();
+    }
+    throw new JCGLExceptionBufferNotBound(
+      "No index buffer is currently bound");
   }
 
   @Override
@@ -115,4 +146,215 @@ final class LWJGL3Draw implements JCGLDrawType
         "No index buffer is currently bound");
     }
   }
+
+  @Override
+  public void drawElementsRange(
+    final JCGLPrimitives p,
+    final long first,
+    final int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final LWJGL3IndexBuffer ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    final int pgl = LWJGL3TypeConversions.primitiveToGL(p);
+    final int type = LWJGL3TypeConversions.unsignedTypeToGL(ib.type());
+    final long offset = first * (long) ib.type().getSizeBytes();
+    GL11.glDrawElements(pgl, count, type, offset);
+  }
+
+  @Override
+  public void drawElementsBaseVertex(
+    final JCGLPrimitives p,
+    final long first,
+    final int count,
+    final int base_vertex)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final LWJGL3IndexBuffer ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    final int pgl = LWJGL3TypeConversions.primitiveToGL(p);
+    final int type = LWJGL3TypeConversions.unsignedTypeToGL(ib.type());
+    final long offset = first * (long) ib.type().getSizeBytes();
+    GL32.glDrawElementsBaseVertex(pgl, count, type, offset, base_vertex);
+  }
+
+  @Override
+  public void drawRangeElements(
+    final JCGLPrimitives p,
+    final int start,
+    final int end,
+    final long first,
+    final int count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    RangeCheck.checkIncludedInInteger(
+      start, "Start", Ranges.NATURAL_INTEGER, "Valid index");
+    RangeCheck.checkGreaterEqualInteger(end, "End", start, "Start");
+
+    final LWJGL3IndexBuffer ib = this.currentIndexBuffer();
+    JCGLDrawChecks.checkElementRange(first, count, ib.indices());
+
+    final int pgl = LWJGL3TypeConversions.primitiveToGL(p);
+    final int type = LWJGL3TypeConversions.unsignedTypeToGL(ib.type());
+    final long offset = first * (long) ib.type().getSizeBytes();
+    GL12.glDrawRangeElements(pgl, start, end, count, type, offset);
+  }
+
+  @Override
+  public void multiDrawArrays(
+    final JCGLPrimitives p,
+    final IntBuffer first,
+    final IntBuffer count)
+    throws JCGLException, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    JCGLDrawChecks.checkMultiDraw(first, count);
+    GL14.glMultiDrawArrays(
+      LWJGL3TypeConversions.primitiveToGL(p), first, count);
+  }
+
+  @Override
+  public void multiDrawElements(
+    final JCGLPrimitives p,
+    final IntBuffer first,
+    final IntBuffer count)
+    throws JCGLException, JCGLExceptionBufferNotBound, RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+
+    final LWJGL3IndexBuffer ib = this.currentIndexBuffer();
+    final int draws =
+      JCGLDrawChecks.checkMultiDrawElements(first, count, ib.indices());
+
+    /*
+     * OpenGL expects an array of byte offsets into the index buffer. The
+     * array is retained between calls and only grows, so that repeated
+     * calls do not allocate.
+     */
+
+    if (this.offsets.capacity() < draws) {
+      this.offsets = BufferUtils.createPointerBuffer(
+        Math.max(draws, this.offsets.capacity() * 2));
+    }
+
+    final long size = (long) ib.type().getSizeBytes();
+    final int f_base = first.position();
+    this.offsets.clear();
+    for (int index = 0; index < draws; ++index) {
+      this.offsets.put(index, (long) first.get(f_base + index) * size);
+    }
+    this.offsets.limit(draws);
+
+    final int pgl = LWJGL3TypeConversions.primitiveToGL(p);
+    final int type = LWJGL3TypeConversions.unsignedTypeToGL(ib.type());
+    GL14.glMultiDrawElements(pgl, count, type, this.offsets);
+  }
+
+  @Override
+  public void drawArraysIndirect(
+    final JCGLPrimitives p,
+    final long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkIndirectDrawSupported();
+
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b, offset, 1, 0, JCGLIndirectCommands.DRAW_ARRAYS_COMMAND_SIZE_BYTES);
+
+    GL40.glDrawArraysIndirect(
+      LWJGL3TypeConversions.primitiveToGL(p), offset);
+  }
+
+  @Override
+  public void drawElementsIndirect(
+    final JCGLPrimitives p,
+    final long offset)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkIndirectDrawSupported();
+
+    final LWJGL3IndexBuffer ib = this.currentIndexBuffer();
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b, offset, 1, 0, JCGLIndirectCommands.DRAW_ELEMENTS_COMMAND_SIZE_BYTES);
+
+    GL40.glDrawElementsIndirect(
+      LWJGL3TypeConversions.primitiveToGL(p),
+      LWJGL3TypeConversions.unsignedTypeToGL(ib.type()),
+      offset);
+  }
+
+  @Override
+  public void multiDrawArraysIndirect(
+    final JCGLPrimitives p,
+    final long offset,
+    final int draws,
+    final int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkMultiDrawIndirectSupported();
+
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b,
+      offset,
+      draws,
+      stride,
+      JCGLIndirectCommands.DRAW_ARRAYS_COMMAND_SIZE_BYTES);
+
+    GL43.glMultiDrawArraysIndirect(
+      LWJGL3TypeConversions.primitiveToGL(p), offset, draws, stride);
+  }
+
+  @Override
+  public void multiDrawElementsIndirect(
+    final JCGLPrimitives p,
+    final long offset,
+    final int draws,
+    final int stride)
+    throws JCGLException, JCGLExceptionUnsupportedFeature,
+    JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(p, "Primitives");
+    this.indirect_buffers.checkMultiDrawIndirectSupported();
+
+    final LWJGL3IndexBuffer ib = this.currentIndexBuffer();
+    final JCGLIndirectBufferUsableType b =
+      this.indirect_buffers.getCurrentDrawable();
+    JCGLIndirectCommands.checkCommands(
+      b,
+      offset,
+      draws,
+      stride,
+      JCGLIndirectCommands.DRAW_ELEMENTS_COMMAND_SIZE_BYTES);
+
+    GL43.glMultiDrawElementsIndirect(
+      LWJGL3TypeConversions.primitiveToGL(p),
+      LWJGL3TypeConversions.unsignedTypeToGL(ib.type()),
+      offset,
+      draws,
+      stride);
+  }
 }
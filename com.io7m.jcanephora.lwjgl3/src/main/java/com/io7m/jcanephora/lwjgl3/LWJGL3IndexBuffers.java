@@ -17,9 +17,13 @@
 package com.io7m.jcanephora.lwjgl3;
 
 import com.io7m.jcanephora.core.JCGLArrayObjectUsableType;
+import com.io7m.jcanephora.core.JCGLBufferCopies;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionIndexBufferAlreadyConfigured;
 import com.io7m.jcanephora.core.JCGLIndexBufferType;
@@ -32,15 +36,21 @@ import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL31;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
 {
@@ -94,7 +104,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
     NullCheck.notNull(i, "Index buffer");
-    this.checkIndexBuffer(i);
+    final LWJGL3IndexBuffer ib = this.checkIndexBuffer(i);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -103,6 +113,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
     if (i_opt.isPresent()) {
       final JCGLIndexBufferUsableType current_ib = i_opt.get();
       if (Objects.equals(i, current_ib)) {
+        LWJGL3Buffer.checkNotMapped(ib);
         final long size = i.byteRange().getInterval();
         final ByteBuffer b = f.apply(size);
         GL15.glGetBufferSubData(GL15.GL_ELEMENT_ARRAY_BUFFER, 0L, b);
@@ -256,6 +267,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
 
     GL15.glDeleteBuffers(i.glName());
     i.setDeleted();
+    i.setUnmapped();
 
     for (final JCGLReferenceContainerType c : i.referringContainers()) {
       if (c instanceof LWJGL3ArrayObject) {
@@ -272,7 +284,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
   {
     NullCheck.notNull(u, "Update");
     final JCGLIndexBufferType ii = u.buffer();
-    this.checkIndexBuffer(ii);
+    final LWJGL3IndexBuffer ib = this.checkIndexBuffer(ii);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -281,6 +293,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
     if (i_opt.isPresent()) {
       final JCGLIndexBufferUsableType current_ib = i_opt.get();
       if (Objects.equals(ii, current_ib)) {
+        LWJGL3Buffer.checkNotMapped(ib);
         final UnsignedRangeInclusiveL r = u.dataUpdateRange();
         final ByteBuffer data = u.data();
         data.rewind();
@@ -298,7 +311,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
     final JCGLIndexBufferUsableType i)
     throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
   {
-    this.checkIndexBuffer(i);
+    final LWJGL3IndexBuffer ib = this.checkIndexBuffer(i);
 
     final JCGLArrayObjectUsableType ao =
       this.array_objects.arrayObjectGetCurrentlyBound();
@@ -316,6 +329,7 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
         final long size = r.getInterval();
         final int usage = LWJGL3TypeConversions.usageHintToGL(i.usageHint());
         GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, size, usage);
+        ib.setUnmapped();
         return;
       }
     }
@@ -323,6 +337,118 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
     throw notBound(i, i_opt);
   }
 
+  @Override
+  public ByteBuffer indexBufferMapRange(
+    final JCGLIndexBufferUsableType i,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final LWJGL3IndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        LWJGL3Buffer.checkNotMapped(ib);
+        UnsignedRangeCheck.checkRangeIncludedInLong(
+          range, "Map range", i.byteRange(), "Buffer range");
+
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("map {} {} {}", i, range, flags);
+        }
+
+        final ByteBuffer m = GL30.glMapBufferRange(
+          GL15.GL_ELEMENT_ARRAY_BUFFER,
+          range.getLower(),
+          range.getInterval(),
+          GL30.GL_MAP_WRITE_BIT
+            | LWJGL3TypeConversions.bufferMapFlagSetToMask(flags));
+        LWJGL3ErrorChecking.checkErrors();
+
+        final boolean explicit =
+          flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+        ib.setMapped(range, explicit);
+        m.order(ByteOrder.nativeOrder());
+        m.rewind();
+        return m;
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
+  @Override
+  public void indexBufferFlushMappedRange(
+    final JCGLIndexBufferUsableType i,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    final LWJGL3IndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        final UnsignedRangeInclusiveL mapped = LWJGL3Buffer.checkMapped(ib);
+        UnsignedRangeCheck.checkRangeIncludedInLong(
+          range,
+          "Flush range",
+          new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+          "Mapped range");
+
+        if (ib.isMappedFlushExplicit()) {
+          GL30.glFlushMappedBufferRange(
+            GL15.GL_ELEMENT_ARRAY_BUFFER,
+            range.getLower(),
+            range.getInterval());
+        }
+        return;
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
+  @Override
+  public boolean indexBufferUnmap(
+    final JCGLIndexBufferUsableType i)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    final LWJGL3IndexBuffer ib = this.checkIndexBuffer(i);
+
+    final JCGLArrayObjectUsableType ao =
+      this.array_objects.arrayObjectGetCurrentlyBound();
+
+    final Optional<JCGLIndexBufferUsableType> i_opt = ao.indexBufferBound();
+    if (i_opt.isPresent()) {
+      final JCGLIndexBufferUsableType current_ib = i_opt.get();
+      if (Objects.equals(i, current_ib)) {
+        LWJGL3Buffer.checkMapped(ib);
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("unmap {}", i);
+        }
+
+        ib.setUnmapped();
+        return GL15.glUnmapBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER);
+      }
+    }
+
+    throw notBound(i, i_opt);
+  }
+
   @Override
   public boolean indexBufferIsBound()
   {
@@ -330,4 +456,40 @@ final class LWJGL3IndexBuffers implements JCGLIndexBuffersType
       this.array_objects.arrayObjectGetCurrentlyBound();
     return ao.indexBufferBound().isPresent();
   }
+
+  @Override
+  public void indexBufferCopy(
+    final JCGLIndexBufferUsableType source,
+    final UnsignedRangeInclusiveL source_range,
+    final JCGLIndexBufferUsableType target,
+    final long target_offset)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    final LWJGL3IndexBuffer s = this.checkIndexBuffer(source);
+    final LWJGL3IndexBuffer t = this.checkIndexBuffer(target);
+    LWJGL3Buffer.checkNotMapped(s);
+    LWJGL3Buffer.checkNotMapped(t);
+    JCGLBufferCopies.checkCopy(source, source_range, target, target_offset);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "copy {} {} -> {} {}",
+        source,
+        source_range,
+        target,
+        Long.valueOf(target_offset));
+    }
+
+    GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, s.glName());
+    GL15.glBindBuffer(GL31.GL_COPY_WRITE_BUFFER, t.glName());
+    GL31.glCopyBufferSubData(
+      GL31.GL_COPY_READ_BUFFER,
+      GL31.GL_COPY_WRITE_BUFFER,
+      source_range.getLower(),
+      target_offset,
+      source_range.getInterval());
+    GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, 0);
+    GL15.glBindBuffer(GL31.GL_COPY_WRITE_BUFFER, 0);
+  }
 }
@@ -0,0 +1,400 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLIndirectBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL40;
+import org.lwjgl.opengl.GLCapabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+final class LWJGL3IndirectBuffers implements JCGLIndirectBuffersType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(LWJGL3IndirectBuffers.class);
+  }
+
+  private final LWJGL3Context context;
+  private final boolean supported;
+  private final boolean supported_multi;
+  private @Nullable JCGLIndirectBufferUsableType bind;
+
+  LWJGL3IndirectBuffers(
+    final LWJGL3Context c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+
+    final GLCapabilities caps = GL.getCapabilities();
+    this.supported =
+      LWJGL3CompatibilityChecks.isIndirectDrawSupported(caps);
+    this.supported_multi = this.supported
+      && LWJGL3CompatibilityChecks.isMultiDrawIndirectSupported(caps);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "indirect drawing supported: {}",
+        Boolean.valueOf(this.supported));
+      LOG.debug(
+        "multi-draw indirect drawing supported: {}",
+        Boolean.valueOf(this.supported_multi));
+    }
+
+    /*
+     * Configure baseline defaults.
+     */
+
+    if (this.supported) {
+      GL15.glBindBuffer(GL40.GL_DRAW_INDIRECT_BUFFER, 0);
+      LWJGL3ErrorChecking.checkErrors();
+    }
+  }
+
+  void checkIndirectDrawSupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.supported) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Indirect drawing requires OpenGL 4.0 or ARB_draw_indirect");
+    }
+  }
+
+  void checkMultiDrawIndirectSupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.supported_multi) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Multi-draw indirect drawing requires OpenGL 4.3 or "
+          + "ARB_multi_draw_indirect");
+    }
+  }
+
+  /**
+   * @return The currently bound indirect buffer
+   *
+   * @throws JCGLExceptionBufferNotBound If no indirect buffer is bound
+   * @throws JCGLExceptionBufferMapped   If the bound buffer is mapped
+   */
+
+  JCGLIndirectBufferUsableType getCurrentDrawable()
+    throws JCGLExceptionBufferNotBound, JCGLExceptionBufferMapped
+  {
+    final JCGLIndirectBufferUsableType b = this.bind;
+    if (b == null) {
+      throw new JCGLExceptionBufferNotBound(
+        "No indirect buffer is currently bound");
+    }
+    LWJGL3Buffer.checkNotMapped((LWJGL3Buffer) b);
+    return b;
+  }
+
+  @Override
+  public boolean indirectDrawIsSupported()
+    throws JCGLException
+  {
+    return this.supported;
+  }
+
+  @Override
+  public boolean indirectMultiDrawIsSupported()
+    throws JCGLException
+  {
+    return this.supported_multi;
+  }
+
+  @Override
+  public JCGLIndirectBufferType indirectBufferAllocate(
+    final long size,
+    final JCGLUsageHint usage)
+    throws JCGLException, JCGLExceptionUnsupportedFeature
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid size range");
+    this.checkIndirectDrawSupported();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocate ({} bytes, {})", Long.valueOf(size), usage);
+    }
+
+    final int id = GL15.glGenBuffers();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocated {}", Integer.valueOf(id));
+    }
+
+    final LWJGL3IndirectBuffer b =
+      new LWJGL3IndirectBuffer(this.context, id, size, usage);
+    this.actualBind(b);
+
+    GL15.glBufferData(
+      GL40.GL_DRAW_INDIRECT_BUFFER,
+      size,
+      LWJGL3TypeConversions.usageHintToGL(usage));
+    return b;
+  }
+
+  private void actualBind(
+    final JCGLIndirectBufferUsableType b)
+  {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {}", this.bind, b);
+    }
+
+    if (!Objects.equals(b, this.bind)) {
+      GL15.glBindBuffer(GL40.GL_DRAW_INDIRECT_BUFFER, b.glName());
+      this.bind = b;
+    }
+  }
+
+  private void actualUnbind()
+  {
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("unbind {} -> {}", this.bind, null);
+    }
+
+    if (this.bind != null) {
+      GL15.glBindBuffer(GL40.GL_DRAW_INDIRECT_BUFFER, 0);
+      this.bind = null;
+    }
+  }
+
+  private LWJGL3Buffer checkIndirect(
+    final JCGLIndirectBufferUsableType b)
+  {
+    final LWJGL3Buffer jb =
+      LWJGL3IndirectBuffer.checkIndirect(this.context, b);
+    JCGLResources.checkNotDeleted(b);
+    return jb;
+  }
+
+  @Override
+  public Optional<JCGLIndirectBufferUsableType>
+  indirectBufferGetCurrentlyBound()
+    throws JCGLException
+  {
+    return Optional.ofNullable(this.bind);
+  }
+
+  @Override
+  public boolean indirectBufferAnyIsBound()
+    throws JCGLException
+  {
+    return this.bind != null;
+  }
+
+  @Override
+  public boolean indirectBufferIsBound(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    this.checkIndirect(b);
+    return Objects.equals(b, this.bind);
+  }
+
+  @Override
+  public void indirectBufferBind(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    this.checkIndirect(b);
+    this.actualBind(b);
+  }
+
+  @Override
+  public void indirectBufferUnbind()
+    throws JCGLException
+  {
+    this.actualUnbind();
+  }
+
+  @Override
+  public void indirectBufferDelete(
+    final JCGLIndirectBufferType b)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final LWJGL3Buffer jb = this.checkIndirect(b);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("delete {}", Integer.valueOf(b.glName()));
+    }
+
+    GL15.glDeleteBuffers(b.glName());
+    jb.setDeleted();
+    jb.setUnmapped();
+
+    if (Objects.equals(b, this.bind)) {
+      this.actualUnbind();
+    }
+  }
+
+  @Override
+  public void indirectBufferUpdate(
+    final JCGLBufferUpdateType<JCGLIndirectBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound
+  {
+    NullCheck.notNull(u, "Update");
+    final JCGLIndirectBufferType b = u.buffer();
+    final LWJGL3Buffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      LWJGL3Buffer.checkNotMapped(jb);
+      final UnsignedRangeInclusiveL r = u.dataUpdateRange();
+      final ByteBuffer data = u.data();
+      data.rewind();
+      GL15.glBufferSubData(GL40.GL_DRAW_INDIRECT_BUFFER, r.getLower(), data);
+      return;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public ByteBuffer indirectBufferMapRange(
+    final JCGLIndirectBufferUsableType b,
+    final UnsignedRangeInclusiveL range,
+    final Set<JCGLBufferMapFlag> flags)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(flags, "Flags");
+    final LWJGL3Buffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      LWJGL3Buffer.checkNotMapped(jb);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range, "Map range", b.byteRange(), "Buffer range");
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("map {} {} {}", b, range, flags);
+      }
+
+      final ByteBuffer m = GL30.glMapBufferRange(
+        GL40.GL_DRAW_INDIRECT_BUFFER,
+        range.getLower(),
+        range.getInterval(),
+        GL30.GL_MAP_WRITE_BIT
+          | LWJGL3TypeConversions.bufferMapFlagSetToMask(flags));
+      LWJGL3ErrorChecking.checkErrors();
+
+      final boolean explicit =
+        flags.contains(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT);
+      jb.setMapped(range, explicit);
+      m.order(ByteOrder.nativeOrder());
+      m.rewind();
+      return m;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public void indirectBufferFlushMappedRange(
+    final JCGLIndirectBufferUsableType b,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped, RangeCheckException
+  {
+    NullCheck.notNull(range, "Range");
+    final LWJGL3Buffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      final UnsignedRangeInclusiveL mapped = LWJGL3Buffer.checkMapped(jb);
+      UnsignedRangeCheck.checkRangeIncludedInLong(
+        range,
+        "Flush range",
+        new UnsignedRangeInclusiveL(0L, mapped.getInterval() - 1L),
+        "Mapped range");
+
+      if (jb.isMappedFlushExplicit()) {
+        GL30.glFlushMappedBufferRange(
+          GL40.GL_DRAW_INDIRECT_BUFFER,
+          range.getLower(),
+          range.getInterval());
+      }
+      return;
+    }
+
+    throw this.notBound(b);
+  }
+
+  @Override
+  public boolean indirectBufferUnmap(
+    final JCGLIndirectBufferUsableType b)
+    throws JCGLException, JCGLExceptionDeleted, JCGLExceptionBufferNotBound,
+    JCGLExceptionBufferNotMapped
+  {
+    final LWJGL3Buffer jb = this.checkIndirect(b);
+
+    if (Objects.equals(b, this.bind)) {
+      LWJGL3Buffer.checkMapped(jb);
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unmap {}", b);
+      }
+
+      jb.setUnmapped();
+      return GL15.glUnmapBuffer(GL40.GL_DRAW_INDIRECT_BUFFER);
+    }
+
+    throw this.notBound(b);
+  }
+
+  private JCGLExceptionBufferNotBound notBound(
+    final JCGLIndirectBufferUsableType b)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Buffer is not bound.");
+    sb.append(System.lineSeparator());
+    sb.append("  Required: ");
+    sb.append(b);
+    sb.append(System.lineSeparator());
+    sb.append("  Actual: ");
+    sb.append(this.bind == null ? "none" : this.bind);
+    return new JCGLExceptionBufferNotBound(sb.toString());
+  }
+}
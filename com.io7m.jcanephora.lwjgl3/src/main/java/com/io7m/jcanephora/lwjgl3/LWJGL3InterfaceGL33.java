@@ -27,13 +27,19 @@ import com.io7m.jcanephora.core.api.JCGLDepthBuffersType;
 import com.io7m.jcanephora.core.api.JCGLDrawType;
 import com.io7m.jcanephora.core.api.JCGLFramebuffersType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
 import com.io7m.jcanephora.core.api.JCGLPolygonModesType;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
 import com.io7m.jcanephora.core.api.JCGLScissorType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
 import com.io7m.jcanephora.core.api.JCGLStencilBuffersType;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
 import com.io7m.jcanephora.core.api.JCGLTexturesType;
 import com.io7m.jcanephora.core.api.JCGLTimersType;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
 import com.io7m.jcanephora.core.api.JCGLViewportsType;
 import com.io7m.jnull.NullCheck;
 
@@ -56,6 +62,12 @@ final class LWJGL3InterfaceGL33 implements JCGLInterfaceGL33Type
   private final LWJGL3DepthBuffers depth_buffers;
   private final LWJGL3StencilBuffers stencil_buffers;
   private final LWJGL3Timers timers;
+  private final LWJGL3Syncs syncs;
+  private final LWJGL3Readbacks readbacks;
+  private final LWJGL3UniformBuffers uniform_buffers;
+  private final LWJGL3IndirectBuffers indirect_buffers;
+  private final LWJGL3PrimitiveRestart primitive_restart;
+  private final LWJGL3TransformFeedback transform_feedback;
 
   LWJGL3InterfaceGL33(
     final LWJGL3Context c)
@@ -67,7 +79,10 @@ final class LWJGL3InterfaceGL33 implements JCGLInterfaceGL33Type
     this.index_buffers = new LWJGL3IndexBuffers(c);
     this.array_objects =
       new LWJGL3ArrayObjects(c, this.array_buffers, this.index_buffers);
-    this.draw = new LWJGL3Draw(c, this.array_objects, this.index_buffers);
+    this.indirect_buffers = new LWJGL3IndirectBuffers(c);
+    this.primitive_restart = new LWJGL3PrimitiveRestart(c);
+    this.draw = new LWJGL3Draw(
+      c, this.array_objects, this.index_buffers, this.indirect_buffers);
     this.blending = new LWJGL3Blending(c);
     this.color_mask = new LWJGL3ColorBufferMasking(c);
     this.clear = new LWJGL3Clear(c);
@@ -77,9 +92,13 @@ final class LWJGL3InterfaceGL33 implements JCGLInterfaceGL33Type
     this.depth_buffers = new LWJGL3DepthBuffers(c, this.framebuffers);
     this.polygon_modes = new LWJGL3PolygonMode(c);
     this.shaders = new LWJGL3Shaders(c);
+    this.transform_feedback = new LWJGL3TransformFeedback(c, this.shaders);
     this.scissor = new LWJGL3Scissor(c);
     this.stencil_buffers = new LWJGL3StencilBuffers(c, this.framebuffers);
     this.timers = new LWJGL3Timers(c);
+    this.syncs = new LWJGL3Syncs(c);
+    this.readbacks = new LWJGL3Readbacks(c, this.textures, this.syncs);
+    this.uniform_buffers = new LWJGL3UniformBuffers(c);
     this.viewports = new LWJGL3Viewports(c);
   }
 
@@ -184,4 +203,40 @@ final class LWJGL3InterfaceGL33 implements JCGLInterfaceGL33Type
   {
     return this.timers;
   }
+
+  @Override
+  public JCGLReadbacksType readbacks()
+  {
+    return this.readbacks;
+  }
+
+  @Override
+  public JCGLSyncsType syncs()
+  {
+    return this.syncs;
+  }
+
+  @Override
+  public JCGLUniformBuffersType uniformBuffers()
+  {
+    return this.uniform_buffers;
+  }
+
+  @Override
+  public JCGLIndirectBuffersType indirectBuffers()
+  {
+    return this.indirect_buffers;
+  }
+
+  @Override
+  public JCGLPrimitiveRestartType primitiveRestart()
+  {
+    return this.primitive_restart;
+  }
+
+  @Override
+  public JCGLTransformFeedbackType transformFeedback()
+  {
+    return this.transform_feedback;
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import com.io7m.jnull.NullCheck;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL31;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class LWJGL3PrimitiveRestart implements JCGLPrimitiveRestartType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(LWJGL3PrimitiveRestart.class);
+  }
+
+  private boolean enabled;
+  private int current_index;
+
+  LWJGL3PrimitiveRestart(final LWJGL3Context c)
+  {
+    NullCheck.notNull(c, "Context");
+    this.enabled = false;
+    this.current_index = 0;
+
+    /*
+     * Configure baseline defaults.
+     */
+
+    GL11.glDisable(GL31.GL_PRIMITIVE_RESTART);
+    GL31.glPrimitiveRestartIndex(this.current_index);
+    LWJGL3ErrorChecking.checkErrors();
+  }
+
+  @Override
+  public void primitiveRestartDisable()
+    throws JCGLException
+  {
+    if (this.enabled) {
+      GL11.glDisable(GL31.GL_PRIMITIVE_RESTART);
+      this.enabled = false;
+    } else {
+      LOG.trace("redundant primitive restart disable ignored");
+    }
+  }
+
+  @Override
+  public void primitiveRestartEnable(
+    final int index)
+    throws JCGLException
+  {
+    if (!this.enabled) {
+      GL11.glEnable(GL31.GL_PRIMITIVE_RESTART);
+      this.enabled = true;
+    } else {
+      LOG.trace("redundant primitive restart enable ignored");
+    }
+    if (this.current_index != index) {
+      GL31.glPrimitiveRestartIndex(index);
+      this.current_index = index;
+    } else {
+      LOG.trace("redundant primitive restart index ignored");
+    }
+  }
+
+  @Override
+  public boolean primitiveRestartIsEnabled()
+    throws JCGLException
+  {
+    return this.enabled;
+  }
+
+  @Override
+  public int primitiveRestartGetIndex()
+    throws JCGLException
+  {
+    return this.current_index;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jnull.NullCheck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class LWJGL3ProgramPending extends LWJGL3ObjectShared
+  implements JCGLProgramPendingType
+{
+  private final String name;
+  private final int vertex;
+  private final int geometry;
+  private final int fragment;
+  private final List<String> feedback_varyings;
+  private final JCGLTransformFeedbackBufferMode feedback_mode;
+
+  /**
+   * Construct a pending program. The {@code in_geometry} shader is {@code 0}
+   * if the program does not have a geometry shader.
+   */
+
+  LWJGL3ProgramPending(
+    final LWJGL3Context ctx,
+    final int id,
+    final String in_name,
+    final int in_vertex,
+    final int in_geometry,
+    final int in_fragment,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
+  {
+    super(ctx, id);
+    this.name = NullCheck.notNull(in_name, "Name");
+    this.vertex = in_vertex;
+    this.geometry = in_geometry;
+    this.fragment = in_fragment;
+    this.feedback_varyings = Collections.unmodifiableList(
+      new ArrayList<>(NullCheck.notNullAll(in_varyings, "Varyings")));
+    this.feedback_mode = NullCheck.notNull(in_mode, "Mode");
+  }
+
+  static LWJGL3ProgramPending checkProgramPending(
+    final LWJGL3Context c,
+    final JCGLProgramPendingType p)
+  {
+    return (LWJGL3ProgramPending) LWJGL3CompatibilityChecks.checkAny(c, p);
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder("[ProgramPending ");
+    sb.append(super.glName());
+    sb.append(" ");
+    sb.append(this.name);
+    sb.append(']');
+    return sb.toString();
+  }
+
+  @Override
+  public String name()
+  {
+    return this.name;
+  }
+
+  int vertex()
+  {
+    return this.vertex;
+  }
+
+  int geometry()
+  {
+    return this.geometry;
+  }
+
+  int fragment()
+  {
+    return this.fragment;
+  }
+
+  List<String> transformFeedbackVaryings()
+  {
+    return this.feedback_varyings;
+  }
+
+  JCGLTransformFeedbackBufferMode transformFeedbackBufferMode()
+  {
+    return this.feedback_mode;
+  }
+}
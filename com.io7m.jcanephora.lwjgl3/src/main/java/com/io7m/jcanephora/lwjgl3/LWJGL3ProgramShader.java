@@ -19,11 +19,17 @@ package com.io7m.jcanephora.lwjgl3;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLReferableType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -32,9 +38,13 @@ final class LWJGL3ProgramShader extends LWJGL3ObjectShared
   implements JCGLProgramShaderType
 {
   private final String name;
+  private final List<String> feedback_varyings;
+  private final JCGLTransformFeedbackBufferMode feedback_mode;
   private final LWJGL3ReferenceContainer references;
   private Map<String, JCGLProgramAttributeType> attributes;
   private Map<String, JCGLProgramUniformType> uniforms;
+  private Map<String, JCGLProgramUniformBlockType> uniform_blocks;
+  private @Nullable JCGLUniformShadowCache shadow;
 
   LWJGL3ProgramShader(
     final LWJGL3Context ctx,
@@ -42,16 +52,36 @@ final class LWJGL3ProgramShader extends LWJGL3ObjectShared
     final String in_name,
     final LWJGL3VertexShader vs,
     final Optional<LWJGL3GeometryShader> gs,
-    final LWJGL3FragmentShader fs)
+    final LWJGL3FragmentShader fs,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
   {
-    super(ctx, id);
-    this.name = NullCheck.notNull(in_name, "Name");
-    this.references = new LWJGL3ReferenceContainer(this, 3);
+    this(ctx, id, in_name, in_varyings, in_mode);
     this.references.referenceAdd(vs);
     gs.ifPresent(this.references::referenceAdd);
     this.references.referenceAdd(fs);
   }
 
+  /**
+   * Construct a program that does not refer to any shaders, such as a program
+   * created from a program binary.
+   */
+
+  LWJGL3ProgramShader(
+    final LWJGL3Context ctx,
+    final int id,
+    final String in_name,
+    final List<String> in_varyings,
+    final JCGLTransformFeedbackBufferMode in_mode)
+  {
+    super(ctx, id);
+    this.name = NullCheck.notNull(in_name, "Name");
+    this.feedback_varyings = Collections.unmodifiableList(
+      new ArrayList<>(NullCheck.notNullAll(in_varyings, "Varyings")));
+    this.feedback_mode = NullCheck.notNull(in_mode, "Mode");
+    this.references = new LWJGL3ReferenceContainer(this, 3);
+  }
+
   static LWJGL3ProgramShader checkProgramShader(
     final LWJGL3Context c,
     final JCGLProgramShaderUsableType p)
@@ -105,9 +135,46 @@ final class LWJGL3ProgramShader extends LWJGL3ObjectShared
       "Uniforms"));
   }
 
+  @Override
+  public Map<String, JCGLProgramUniformBlockType> uniformBlocks()
+  {
+    return this.uniform_blocks;
+  }
+
+  void setUniformBlocks(
+    final Map<String, JCGLProgramUniformBlockType> in_blocks)
+  {
+    this.uniform_blocks = Collections.unmodifiableMap(NullCheck.notNull(
+      in_blocks,
+      "Uniform blocks"));
+  }
+
+  @Override
+  public List<String> transformFeedbackVaryings()
+  {
+    return this.feedback_varyings;
+  }
+
+  @Override
+  public JCGLTransformFeedbackBufferMode transformFeedbackBufferMode()
+  {
+    return this.feedback_mode;
+  }
+
   @Override
   public Set<JCGLReferableType> references()
   {
     return this.references.references();
   }
+
+  @Nullable JCGLUniformShadowCache uniformShadow()
+  {
+    return this.shadow;
+  }
+
+  void setUniformShadow(
+    final @Nullable JCGLUniformShadowCache in_shadow)
+  {
+    this.shadow = in_shadow;
+  }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.Ranges;
+
+final class LWJGL3ProgramUniformBlock extends LWJGL3ObjectPseudoShared
+  implements JCGLProgramUniformBlockType
+{
+  private final int index;
+  private final String name;
+  private final JCGLProgramShaderUsableType program;
+  private final long size;
+
+  LWJGL3ProgramUniformBlock(
+    final LWJGL3Context in_context,
+    final JCGLProgramShaderUsableType in_program,
+    final int in_index,
+    final String in_name,
+    final long in_size)
+  {
+    super(in_context);
+
+    this.program = NullCheck.notNull(in_program, "Program");
+    this.index = RangeCheck.checkIncludedInInteger(
+      in_index,
+      "Uniform block index",
+      Ranges.NATURAL_INTEGER,
+      "Valid uniform block indices");
+    this.name = NullCheck.notNull(in_name, "Uniform block name");
+    this.size = RangeCheck.checkIncludedInLong(
+      in_size, "Size", Ranges.POSITIVE_LONG, "Valid sizes");
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder("[ProgramUniformBlock ");
+    sb.append(this.index);
+    sb.append(" ");
+    sb.append(this.name);
+    sb.append(" ");
+    sb.append(this.size);
+    sb.append(']');
+    return sb.toString();
+  }
+
+  @Override
+  public String name()
+  {
+    return this.name;
+  }
+
+  @Override
+  public JCGLProgramShaderUsableType program()
+  {
+    return this.program;
+  }
+
+  @Override
+  public long sizeBytes()
+  {
+    return this.size;
+  }
+
+  @Override
+  public int glName()
+  {
+    return this.index;
+  }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureUsableType;
+import com.io7m.jcanephora.core.api.JCGLByteBufferProducerType;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jnull.Nullable;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeCheck;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL13;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+import org.lwjgl.opengl.GL31;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+final class LWJGL3Readbacks implements JCGLReadbacksType
+{
+  private static final Logger LOG;
+  private static final int POOL_MAXIMUM = 8;
+
+  static {
+    LOG = LoggerFactory.getLogger(LWJGL3Readbacks.class);
+  }
+
+  private final LWJGL3Context context;
+  private final LWJGL3Textures textures;
+  private final LWJGL3Syncs syncs;
+  private final ArrayDeque<PackBuffer> pool;
+  private final ArrayDeque<Pending> pending;
+
+  LWJGL3Readbacks(
+    final LWJGL3Context c,
+    final LWJGL3Textures in_textures,
+    final LWJGL3Syncs in_syncs)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+    this.textures = NullCheck.notNull(in_textures, "Textures");
+    this.syncs = NullCheck.notNull(in_syncs, "Syncs");
+    this.pool = new ArrayDeque<>(8);
+    this.pending = new ArrayDeque<>(8);
+  }
+
+  private static long textureSize(
+    final JCGLTextureUsableType t)
+  {
+    final JCGLTextureFormat format = t.format();
+    return JCGLTextureFormats.imageSizeBytes(format, t.width(), t.height());
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readbackArrayBuffer(
+    final JCGLArrayBufferUsableType a,
+    final UnsignedRangeInclusiveL range,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionBufferMapped,
+    RangeCheckException
+  {
+    NullCheck.notNull(a, "Array");
+    NullCheck.notNull(range, "Range");
+    NullCheck.notNull(f, "Producer");
+
+    final LWJGL3Buffer b =
+      LWJGL3ArrayBuffer.checkArray(this.context, a);
+    JCGLResources.checkNotDeleted(a);
+    LWJGL3Buffer.checkNotMapped(b);
+    UnsignedRangeCheck.checkRangeIncludedInLong(
+      range, "Range", a.byteRange(), "Buffer range");
+
+    final long size = range.getInterval();
+    final PackBuffer p = this.packBufferAcquire(size);
+    GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, b.glName());
+    GL15.glBindBuffer(GL31.GL_COPY_WRITE_BUFFER, p.name);
+    GL31.glCopyBufferSubData(
+      GL31.GL_COPY_READ_BUFFER,
+      GL31.GL_COPY_WRITE_BUFFER,
+      range.getLower(),
+      0L,
+      size);
+    GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, 0);
+    GL15.glBindBuffer(GL31.GL_COPY_WRITE_BUFFER, 0);
+    return this.enqueue(p, size, f);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readbackTexture2D(
+    final JCGLTextureUnitType unit,
+    final JCGLTexture2DUsableType t,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(f, "Producer");
+
+    LWJGL3Textures.checkTextureUnit(this.context, unit);
+    LWJGL3Textures.checkTexture2D(this.context, t);
+
+    final LWJGL3TextureSpec spec =
+      LWJGL3TextureSpecs.getTextureSpec(t.format());
+    final long size = textureSize(t);
+    final PackBuffer p = this.packBufferAcquire(size);
+
+    this.textures.texture2DBind(unit, t);
+    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, p.name);
+    if (t.format().isCompressed()) {
+      GL13.glGetCompressedTexImage(GL11.GL_TEXTURE_2D, 0, 0L);
+    } else {
+      GL11.glGetTexImage(
+        GL11.GL_TEXTURE_2D, 0, spec.getFormat(), spec.getType(), 0L);
+    }
+    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+    return this.enqueue(p, size, f);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readbackTextureCubeLH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceLH face,
+    final JCGLTextureCubeUsableType t,
+    final JCGLByteBufferProducerType f)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(face, "Face");
+    NullCheck.notNull(f, "Producer");
+
+    LWJGL3Textures.checkTextureUnit(this.context, unit);
+    LWJGL3Textures.checkTextureCube(this.context, t);
+
+    final LWJGL3TextureSpec spec =
+      LWJGL3TextureSpecs.getTextureSpec(t.format());
+    final long size = textureSize(t);
+    final PackBuffer p = this.packBufferAcquire(size);
+
+    this.textures.textureCubeBind(unit, t);
+    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, p.name);
+    final int gface = LWJGL3TypeConversions.cubeFaceToGL(face);
+    if (t.format().isCompressed()) {
+      GL13.glGetCompressedTexImage(gface, 0, 0L);
+    } else {
+      GL11.glGetTexImage(gface, 0, spec.getFormat(), spec.getType(), 0L);
+    }
+    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+    return this.enqueue(p, size, f);
+  }
+
+  @Override
+  public int readbackPoll()
+    throws JCGLException
+  {
+    int completed = 0;
+    while (!this.pending.isEmpty()) {
+      final Pending r = this.pending.peek();
+
+      try {
+        if (this.syncs.syncPoll(r.sync) == JCGLSyncStatus.SYNC_UNSIGNALLED) {
+          break;
+        }
+      } catch (final JCGLException e) {
+        this.pending.remove();
+        this.release(r);
+        r.future.completeExceptionally(e);
+        ++completed;
+        continue;
+      }
+
+      this.pending.remove();
+      this.finish(r);
+      ++completed;
+    }
+    return completed;
+  }
+
+  @Override
+  public int readbackPending()
+  {
+    return this.pending.size();
+  }
+
+  @Override
+  public int readbackPoolSize()
+  {
+    return this.pool.size();
+  }
+
+  @Override
+  public void readbackPoolDelete()
+    throws JCGLException
+  {
+    while (!this.pool.isEmpty()) {
+      this.packBufferDelete(this.pool.remove());
+    }
+  }
+
+  private CompletableFuture<ByteBuffer> enqueue(
+    final PackBuffer p,
+    final long size,
+    final JCGLByteBufferProducerType f)
+  {
+    final JCGLSyncType sync = this.syncs.syncFenceInsert();
+    final Pending r = new Pending(p, sync, size, f);
+    this.pending.add(r);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "readback {} bytes via {} (pending {})",
+        Long.valueOf(size),
+        Integer.valueOf(p.name),
+        Integer.valueOf(this.pending.size()));
+    }
+    return r.future;
+  }
+
+  private void finish(final Pending r)
+  {
+    try {
+      final ByteBuffer data =
+        NullCheck.notNull(r.producer.apply(r.size), "Produced buffer");
+      final ByteBuffer view = data.duplicate();
+      view.rewind();
+      view.limit(Math.toIntExact(r.size));
+      GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, r.buffer.name);
+      GL15.glGetBufferSubData(GL31.GL_COPY_READ_BUFFER, 0L, view);
+      GL15.glBindBuffer(GL31.GL_COPY_READ_BUFFER, 0);
+      data.rewind();
+      r.future.complete(data);
+    } catch (final Exception e) {
+      r.future.completeExceptionally(e);
+    } finally {
+      this.release(r);
+    }
+  }
+
+  private void release(final Pending r)
+  {
+    this.syncs.syncDelete(r.sync);
+    this.pool.push(r.buffer);
+
+    if (this.pool.size() > POOL_MAXIMUM) {
+      PackBuffer smallest = r.buffer;
+      for (final PackBuffer p : this.pool) {
+        if (p.capacity < smallest.capacity) {
+          smallest = p;
+        }
+      }
+      this.pool.remove(smallest);
+      this.packBufferDelete(smallest);
+    }
+  }
+
+  /**
+   * Take the smallest pooled pack buffer that can hold {@code size} bytes,
+   * allocating a new one if no such buffer exists. In the latter case, every
+   * pooled buffer is too small to hold {@code size} bytes and is deleted, so
+   * that readbacks of increasing sizes do not accumulate unusable buffers.
+   */
+
+  private PackBuffer packBufferAcquire(final long size)
+  {
+    @Nullable PackBuffer best = null;
+    final Iterator<PackBuffer> iter = this.pool.iterator();
+    while (iter.hasNext()) {
+      final PackBuffer p = iter.next();
+      if (p.capacity >= size) {
+        if (best == null || p.capacity < best.capacity) {
+          best = p;
+        }
+      }
+    }
+
+    if (best != null) {
+      this.pool.remove(best);
+      return best;
+    }
+
+    while (!this.pool.isEmpty()) {
+      this.packBufferDelete(this.pool.remove());
+    }
+
+    final int name = GL15.glGenBuffers();
+    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, name);
+    GL15.glBufferData(GL21.GL_PIXEL_PACK_BUFFER, size, GL15.GL_STREAM_READ);
+    GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "allocated pack buffer {} ({} bytes)",
+        Integer.valueOf(name),
+        Long.valueOf(size));
+    }
+    return new PackBuffer(name, size);
+  }
+
+  private void packBufferDelete(final PackBuffer p)
+  {
+    GL15.glDeleteBuffers(p.name);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "deleted pack buffer {} ({} bytes)",
+        Integer.valueOf(p.name),
+        Long.valueOf(p.capacity));
+    }
+  }
+
+  private static final class PackBuffer
+  {
+    private final int name;
+    private final long capacity;
+
+    PackBuffer(
+      final int in_name,
+      final long in_capacity)
+    {
+      this.name = in_name;
+      this.capacity = in_capacity;
+    }
+  }
+
+  private static final class Pending
+  {
+    private final PackBuffer buffer;
+    private final JCGLSyncType sync;
+    private final long size;
+    private final JCGLByteBufferProducerType producer;
+    private final CompletableFuture<ByteBuffer> future;
+
+    Pending(
+      final PackBuffer in_buffer,
+      final JCGLSyncType in_sync,
+      final long in_size,
+      final JCGLByteBufferProducerType in_producer)
+    {
+      this.buffer = in_buffer;
+      this.sync = in_sync;
+      this.size = in_size;
+      this.producer = in_producer;
+      this.future = new CompletableFuture<>();
+    }
+  }
+}
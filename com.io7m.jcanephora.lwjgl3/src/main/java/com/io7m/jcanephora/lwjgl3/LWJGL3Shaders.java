@@ -17,22 +17,35 @@
 package com.io7m.jcanephora.lwjgl3;
 
 import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jcanephora.core.JCGLDriverInformation;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
 import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
 import com.io7m.jcanephora.core.JCGLExceptionProgramTypeError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLFragmentShaderType;
 import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
+import com.io7m.jcanephora.core.JCGLProgramBinary;
+import com.io7m.jcanephora.core.JCGLProgramBinaryType;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
 import com.io7m.jcanephora.core.JCGLType;
+import com.io7m.jcanephora.core.JCGLUniformChecks;
+import com.io7m.jcanephora.core.JCGLUniformSet;
+import com.io7m.jcanephora.core.JCGLUniformSetUploaderType;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
+import com.io7m.jcanephora.core.JCGLUniformShadowCacheStatistics;
 import com.io7m.jcanephora.core.JCGLVertexShaderType;
 import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
@@ -61,10 +74,15 @@ import com.io7m.jtensors.storage.bytebuffered.PMatrixByteBuffered4x4s32;
 import com.io7m.junreachable.UnreachableCodeException;
 import com.io7m.mutable.numbers.core.MutableLong;
 import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.ARBParallelShaderCompile;
+import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL20;
 import org.lwjgl.opengl.GL21;
 import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL31;
 import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GL41;
+import org.lwjgl.opengl.GL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -96,6 +114,10 @@ final class LWJGL3Shaders implements JCGLShadersType
   private final FloatBuffer m4x4_buffer_view;
   private final PMatrixByteBuffered4x4s32<Object, Object> pm4x4;
   private final MatrixByteBuffered4x4s32 m4x4;
+  private final boolean binary_supported;
+  private final boolean parallel_supported;
+  private final JCGLDriverInformation driver;
+  private final UniformSetUploader uploader;
   private @Nullable JCGLProgramShaderUsableType current;
   private boolean check_type;
   private boolean check_active;
@@ -105,6 +127,7 @@ final class LWJGL3Shaders implements JCGLShadersType
     this.context = NullCheck.notNull(c, "Context");
     this.check_active = true;
     this.check_type = true;
+    this.uploader = new UniformSetUploader();
 
     /*
      * Configure baseline defaults.
@@ -113,6 +136,28 @@ final class LWJGL3Shaders implements JCGLShadersType
     GL20.glUseProgram(0);
     LWJGL3ErrorChecking.checkErrors();
 
+    this.driver = JCGLDriverInformation.of(
+      GL11.glGetString(GL11.GL_VENDOR),
+      GL11.glGetString(GL11.GL_RENDERER),
+      GL11.glGetString(GL11.GL_VERSION));
+
+    this.binary_supported =
+      LWJGL3CompatibilityChecks.isProgramBinarySupported(GL.getCapabilities())
+        && GL11.glGetInteger(GL41.GL_NUM_PROGRAM_BINARY_FORMATS) > 0;
+
+    this.parallel_supported =
+      LWJGL3CompatibilityChecks.isParallelShaderCompileSupported(
+        GL.getCapabilities());
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "program binaries supported: {}",
+        Boolean.valueOf(this.binary_supported));
+      LOG.debug(
+        "parallel shader compilation supported: {}",
+        Boolean.valueOf(this.parallel_supported));
+    }
+
     final ByteBuffer m3x3_buffer =
       ByteBuffer.allocateDirect(3 * 3 * 4).order(ByteOrder.nativeOrder());
     this.m3x3_buffer_view =
@@ -199,17 +244,35 @@ final class LWJGL3Shaders implements JCGLShadersType
     final List<String> lines,
     final int size,
     final int id)
+  {
+    compileSourcesDeferred(lines, size, id);
+    if (!isCompiled(id)) {
+      throw getCompilationError(name, id);
+    }
+  }
+
+  private static void compileSourcesDeferred(
+    final List<String> lines,
+    final int size,
+    final int id)
   {
     final String[] line_array = new String[size];
     lines.toArray(line_array);
 
     GL20.glShaderSource(id, (CharSequence[]) line_array);
     GL20.glCompileShader(id);
+  }
 
-    final int status = GL20.glGetShaderi(id, GL20.GL_COMPILE_STATUS);
-    if (status == 0) {
-      throw getCompilationError(name, id);
-    }
+  private static boolean isCompiled(
+    final int id)
+  {
+    return GL20.glGetShaderi(id, GL20.GL_COMPILE_STATUS) != 0;
+  }
+
+  private static boolean isLinked(
+    final int id)
+  {
+    return GL20.glGetProgrami(id, GL20.GL_LINK_STATUS) != 0;
   }
 
   @Override
@@ -417,13 +480,17 @@ final class LWJGL3Shaders implements JCGLShadersType
     final String name,
     final JCGLVertexShaderUsableType jv,
     final Optional<JCGLGeometryShaderUsableType> jg,
-    final JCGLFragmentShaderUsableType jf)
+    final JCGLFragmentShaderUsableType jf,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
     throws JCGLExceptionProgramCompileError, JCGLException
   {
     NullCheck.notNull(name, "Name");
     NullCheck.notNull(jv, "Vertex shader");
     NullCheck.notNull(jg, "Geometry shader");
     NullCheck.notNull(jf, "Fragment shader");
+    NullCheck.notNullAll(varyings, "Varyings");
+    NullCheck.notNull(mode, "Mode");
 
     final LWJGL3VertexShader v =
       LWJGL3VertexShader.checkVertexShader(this.context, jv);
@@ -446,6 +513,9 @@ final class LWJGL3Shaders implements JCGLShadersType
       jg.ifPresent(
         gg -> LOG.debug("[{}] geometry {}", name, gg.name()));
       LOG.debug("[{}] fragment {}", name, f.name());
+      for (final String varying : varyings) {
+        LOG.debug("[{}] captured varying {} ({})", name, varying, mode);
+      }
     }
 
     final int pid = GL20.glCreateProgram();
@@ -455,27 +525,315 @@ final class LWJGL3Shaders implements JCGLShadersType
     GL20.glAttachShader(pid, v.glName());
     GL20.glAttachShader(pid, f.glName());
     jg.ifPresent(gg -> GL20.glAttachShader(pid, gg.glName()));
-    GL20.glLinkProgram(pid);
+    this.linkDeferred(pid, varyings, mode);
 
-    final int status = GL20.glGetProgrami(pid, GL20.GL_LINK_STATUS);
-    if (status == 0) {
+    if (!isLinked(pid)) {
       throw getLinkError(name, pid);
     }
 
+    final LWJGL3Context c = this.context;
+    return this.reflectProgram(
+      new LWJGL3ProgramShader(c, pid, name, v, g, f, varyings, mode));
+  }
+
+  private void linkDeferred(
+    final int pid,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
+  {
+    if (!varyings.isEmpty()) {
+      GL30.glTransformFeedbackVaryings(
+        pid,
+        varyings.toArray(new CharSequence[varyings.size()]),
+        LWJGL3TypeConversions.transformFeedbackBufferModeToGL(mode));
+    }
+    if (this.binary_supported) {
+      GL41.glProgramParameteri(
+        pid, GL41.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL11.GL_TRUE);
+    }
+    GL20.glLinkProgram(pid);
+  }
+
+  private LWJGL3ProgramShader reflectProgram(
+    final LWJGL3ProgramShader program)
+  {
     final Map<String, JCGLProgramAttributeType> attributes = new HashMap<>(16);
     final Map<String, JCGLProgramUniformType> uniforms = new HashMap<>(32);
-
-    final LWJGL3ProgramShader program = new LWJGL3ProgramShader(
-      this.context, pid, name, v, g, f);
+    final Map<String, JCGLProgramUniformBlockType> blocks = new HashMap<>(8);
 
     this.getAttributes(program, attributes);
     this.getUniforms(program, uniforms);
+    this.getUniformBlocks(program, blocks);
 
     program.setAttributes(attributes);
     program.setUniforms(uniforms);
+    program.setUniformBlocks(blocks);
     return program;
   }
 
+  private void checkProgramBinarySupported()
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.binary_supported) {
+      throw new JCGLExceptionUnsupportedFeature(
+        "Program binaries require OpenGL 4.1 or ARB_get_program_binary, and "
+          + "at least one supported binary format");
+    }
+  }
+
+  @Override
+  public boolean shaderProgramBinaryIsSupported()
+    throws JCGLException
+  {
+    return this.binary_supported;
+  }
+
+  @Override
+  public JCGLDriverInformation shaderProgramBinaryDriverInformation()
+    throws JCGLException
+  {
+    return this.driver;
+  }
+
+  @Override
+  public JCGLProgramBinary shaderProgramBinaryGet(
+    final JCGLProgramShaderUsableType p)
+    throws
+    JCGLException,
+    JCGLExceptionDeleted,
+    JCGLExceptionUnsupportedFeature
+  {
+    NullCheck.notNull(p, "Program");
+    this.checkProgramBinarySupported();
+
+    LWJGL3ProgramShader.checkProgramShader(this.context, p);
+    JCGLResources.checkNotDeleted(p);
+
+    final int id = p.glName();
+    final int size = GL20.glGetProgrami(id, GL41.GL_PROGRAM_BINARY_LENGTH);
+    if (size <= 0) {
+      throw new JCGLExceptionUnsupportedFeature(
+        String.format("No binary is available for program %s", p.name()));
+    }
+
+    final ByteBuffer data = BufferUtils.createByteBuffer(size);
+    final IntBuffer length = BufferUtils.createIntBuffer(1);
+    final IntBuffer format = BufferUtils.createIntBuffer(1);
+    GL41.glGetProgramBinary(id, length, format, data);
+    LWJGL3ErrorChecking.checkErrors();
+
+    final byte[] bytes = new byte[length.get(0)];
+    data.get(bytes);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "[{}] program binary format 0x{} ({} bytes)",
+        p.name(),
+        Integer.toHexString(format.get(0)),
+        Integer.valueOf(bytes.length));
+    }
+
+    return JCGLProgramBinary.of(format.get(0), bytes);
+  }
+
+  @Override
+  public JCGLProgramShaderType shaderProgramBinaryLoad(
+    final String name,
+    final JCGLProgramBinaryType binary,
+    final List<String> varyings,
+    final JCGLTransformFeedbackBufferMode mode)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionUnsupportedFeature,
+    JCGLException
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(binary, "Binary");
+    NullCheck.notNullAll(varyings, "Varyings");
+    NullCheck.notNull(mode, "Mode");
+    this.checkProgramBinarySupported();
+
+    final byte[] bytes = binary.data();
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "[{}] load program binary format 0x{} ({} bytes)",
+        name,
+        Integer.toHexString(binary.format()),
+        Integer.valueOf(bytes.length));
+    }
+
+    final ByteBuffer data = BufferUtils.createByteBuffer(bytes.length);
+    data.put(bytes);
+    data.rewind();
+
+    final int pid = GL20.glCreateProgram();
+    Preconditions.checkPreconditionI(
+      pid, pid > 0, ignored -> "Generated program ID must be positive");
+
+    GL41.glProgramParameteri(
+      pid, GL41.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL11.GL_TRUE);
+    GL41.glProgramBinary(pid, binary.format(), data);
+
+    /*
+     * Unsupported formats are reported as GL_INVALID_ENUM, whilst corrupt or
+     * stale binaries simply fail to link.
+     */
+
+    final int error = GL11.glGetError();
+    final int status = GL20.glGetProgrami(pid, GL20.GL_LINK_STATUS);
+    if (error != GL11.GL_NO_ERROR || status == 0) {
+      final JCGLExceptionProgramCompileError ex = getLinkError(name, pid);
+      GL20.glDeleteProgram(pid);
+      throw ex;
+    }
+
+    return this.reflectProgram(
+      new LWJGL3ProgramShader(this.context, pid, name, varyings, mode));
+  }
+
+  @Override
+  public boolean shaderParallelCompileIsSupported()
+    throws JCGLException
+  {
+    return this.parallel_supported;
+  }
+
+  @Override
+  public JCGLProgramPendingType shaderProgramSubmit(
+    final JCGLProgramSourcesType sources)
+    throws JCGLExceptionProgramCompileError, JCGLException
+  {
+    NullCheck.notNull(sources, "Sources");
+
+    final String name = sources.name();
+    final List<String> v_lines = sources.vertex();
+    final Optional<List<String>> g_lines = sources.geometry();
+    final List<String> f_lines = sources.fragment();
+    final List<String> varyings = sources.transformFeedbackVaryings();
+    final JCGLTransformFeedbackBufferMode mode =
+      sources.transformFeedbackBufferMode();
+
+    final boolean g_empty = g_lines.isPresent() && isEmpty(g_lines.get());
+    if (isEmpty(v_lines) || g_empty || isEmpty(f_lines)) {
+      throw new JCGLExceptionProgramCompileError(name, "Empty program");
+    }
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("submit program {}", name);
+    }
+
+    final int vid = GL20.glCreateShader(GL20.GL_VERTEX_SHADER);
+    compileSourcesDeferred(v_lines, v_lines.size(), vid);
+
+    final int gid;
+    if (g_lines.isPresent()) {
+      final List<String> lines = g_lines.get();
+      gid = GL20.glCreateShader(GL32.GL_GEOMETRY_SHADER);
+      compileSourcesDeferred(lines, lines.size(), gid);
+    } else {
+      gid = 0;
+    }
+
+    final int fid = GL20.glCreateShader(GL20.GL_FRAGMENT_SHADER);
+    compileSourcesDeferred(f_lines, f_lines.size(), fid);
+
+    final int pid = GL20.glCreateProgram();
+    Preconditions.checkPreconditionI(
+      pid, pid > 0, ignored -> "Generated program ID must be positive");
+
+    GL20.glAttachShader(pid, vid);
+    GL20.glAttachShader(pid, fid);
+    if (gid > 0) {
+      GL20.glAttachShader(pid, gid);
+    }
+    this.linkDeferred(pid, varyings, mode);
+    LWJGL3ErrorChecking.checkErrors();
+
+    return new LWJGL3ProgramPending(
+      this.context, pid, name, vid, gid, fid, varyings, mode);
+  }
+
+  @Override
+  public boolean shaderProgramPendingIsComplete(
+    final JCGLProgramPendingType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(p, "Program");
+
+    LWJGL3ProgramPending.checkProgramPending(this.context, p);
+    JCGLResources.checkNotDeleted(p);
+
+    if (!this.parallel_supported) {
+      return true;
+    }
+
+    return GL20.glGetProgrami(
+      p.glName(), ARBParallelShaderCompile.GL_COMPLETION_STATUS_ARB) != 0;
+  }
+
+  @Override
+  public JCGLProgramShaderType shaderProgramPendingFinish(
+    final JCGLProgramPendingType p)
+    throws
+    JCGLExceptionProgramCompileError,
+    JCGLExceptionDeleted,
+    JCGLException
+  {
+    NullCheck.notNull(p, "Program");
+
+    final LWJGL3ProgramPending pp =
+      LWJGL3ProgramPending.checkProgramPending(this.context, p);
+    JCGLResources.checkNotDeleted(pp);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("finish program {}", pp.name());
+    }
+
+    final JCGLExceptionProgramCompileError error = pendingError(pp);
+
+    final int pid = pp.glName();
+    GL20.glDetachShader(pid, pp.vertex());
+    GL20.glDeleteShader(pp.vertex());
+    if (pp.geometry() > 0) {
+      GL20.glDetachShader(pid, pp.geometry());
+      GL20.glDeleteShader(pp.geometry());
+    }
+    GL20.glDetachShader(pid, pp.fragment());
+    GL20.glDeleteShader(pp.fragment());
+    pp.setDeleted();
+
+    if (error != null) {
+      GL20.glDeleteProgram(pid);
+      throw error;
+    }
+
+    return this.reflectProgram(new LWJGL3ProgramShader(
+      this.context,
+      pid,
+      pp.name(),
+      pp.transformFeedbackVaryings(),
+      pp.transformFeedbackBufferMode()));
+  }
+
+  private static @Nullable JCGLExceptionProgramCompileError pendingError(
+    final LWJGL3ProgramPending p)
+  {
+    final String name = p.name();
+    if (!isCompiled(p.vertex())) {
+      return getCompilationError(name, p.vertex());
+    }
+    if (p.geometry() > 0 && !isCompiled(p.geometry())) {
+      return getCompilationError(name, p.geometry());
+    }
+    if (!isCompiled(p.fragment())) {
+      return getCompilationError(name, p.fragment());
+    }
+    if (!isLinked(p.glName())) {
+      return getLinkError(name, p.glName());
+    }
+    return null;
+  }
+
   @Override
   public void shaderActivateProgram(
     final JCGLProgramShaderUsableType p)
@@ -645,6 +1003,40 @@ final class LWJGL3Shaders implements JCGLShadersType
     }
   }
 
+  private void getUniformBlocks(
+    final JCGLProgramShaderUsableType program,
+    final Map<String, JCGLProgramUniformBlockType> out)
+    throws JCGLException
+  {
+    final int id = program.glName();
+    final int max =
+      GL20.glGetProgrami(id, GL31.GL_ACTIVE_UNIFORM_BLOCKS);
+
+    for (int index = 0; index < max; ++index) {
+      final String name = GL31.glGetActiveUniformBlockName(id, index);
+      final int size = GL31.glGetActiveUniformBlocki(
+        id, index, GL31.GL_UNIFORM_BLOCK_DATA_SIZE);
+
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+          "[{}] uniform block {} {} (size {})",
+          program.name(),
+          Integer.valueOf(index),
+          name,
+          Integer.valueOf(size));
+      }
+
+      Preconditions.checkPrecondition(
+        name,
+        !out.containsKey(name),
+        ignored -> "Uniform block name must be unique");
+
+      final LWJGL3ProgramUniformBlock block = new LWJGL3ProgramUniformBlock(
+        this.context, program, index, name, (long) size);
+      out.put(name, block);
+    }
+  }
+
   @Override
   public void shaderUniformSetTypeCheckingEnabled(final boolean enabled)
   {
@@ -657,6 +1049,68 @@ final class LWJGL3Shaders implements JCGLShadersType
     this.check_active = enabled;
   }
 
+  @Override
+  public void shaderUniformSetShadowingEnabled(
+    final JCGLProgramShaderUsableType p,
+    final boolean enabled)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final LWJGL3ProgramShader pp = this.checkShadowProgram(p);
+    if (enabled) {
+      if (pp.uniformShadow() == null) {
+        pp.setUniformShadow(
+          JCGLUniformShadowCache.create(pp.uniforms().values()));
+      }
+    } else {
+      pp.setUniformShadow(null);
+    }
+  }
+
+  @Override
+  public boolean shaderUniformIsShadowingEnabled(
+    final JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    return this.checkShadowProgram(p).uniformShadow() != null;
+  }
+
+  @Override
+  public JCGLUniformShadowCacheStatistics shaderUniformShadowingStatistics(
+    final JCGLProgramShaderUsableType p)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final JCGLUniformShadowCache cache =
+      this.checkShadowProgram(p).uniformShadow();
+    if (cache != null) {
+      return cache.statistics();
+    }
+    return JCGLUniformShadowCacheStatistics.of(0L, 0L);
+  }
+
+  private LWJGL3ProgramShader checkShadowProgram(
+    final JCGLProgramShaderUsableType p)
+  {
+    NullCheck.notNull(p, "Shader");
+    final LWJGL3ProgramShader pp =
+      LWJGL3ProgramShader.checkProgramShader(this.context, p);
+    JCGLResources.checkNotDeleted(pp);
+    return pp;
+  }
+
+  /**
+   * @return The shadow of the uniforms of the current program, if the current
+   * program has shadowing enabled
+   */
+
+  private @Nullable JCGLUniformShadowCache currentShadow()
+  {
+    final JCGLProgramShaderUsableType p = this.current;
+    if (p != null) {
+      return ((LWJGL3ProgramShader) p).uniformShadow();
+    }
+    return null;
+  }
+
   @Override
   public void shaderUniformPutFloat(
     final JCGLProgramUniformType u,
@@ -667,6 +1121,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat(u.glName(), value)) {
+      return;
+    }
+
     GL20.glUniform1f(u.glName(), value);
   }
 
@@ -680,6 +1140,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value)) {
+      return;
+    }
+
     GL20.glUniform1i(u.glName(), value);
   }
 
@@ -693,6 +1159,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value)) {
+      return;
+    }
+
     GL30.glUniform1ui(u.glName(), value);
   }
 
@@ -727,6 +1199,86 @@ final class LWJGL3Shaders implements JCGLShadersType
 
     final int location = u.glName();
     final int elements = u.size();
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    final int count = value.remaining() / required * required;
+    if (s != null && !s.updateFloats(location, value, count)) {
+      return;
+    }
+
+    this.uploadFloats(location, type, elements, value);
+  }
+
+  @Override
+  public void shaderUniformPutArrayf(
+    final JCGLProgramUniformType u,
+    final int count,
+    final FloatBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(value, "Value");
+    this.checkActive(u);
+    this.checkIsFloatingPoint(u);
+
+    final int words =
+      JCGLUniformChecks.checkArray(u, count, value.remaining());
+    final int location = u.glName();
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(location, value, words)) {
+      return;
+    }
+
+    final int limit = value.limit();
+    try {
+      value.limit(value.position() + words);
+      this.uploadFloats(location, u.type(), count, value);
+    } finally {
+      value.limit(limit);
+    }
+  }
+
+  @Override
+  public void shaderUniformPutArrayi(
+    final JCGLProgramUniformType u,
+    final int count,
+    final IntBuffer value)
+    throws
+    JCGLException,
+    JCGLExceptionProgramNotActive,
+    JCGLExceptionProgramTypeError
+  {
+    NullCheck.notNull(value, "Value");
+    this.checkActive(u);
+    this.checkIsIntegral(u);
+
+    final int words =
+      JCGLUniformChecks.checkArray(u, count, value.remaining());
+    final int location = u.glName();
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateIntegers(location, value, words)) {
+      return;
+    }
+
+    final int limit = value.limit();
+    try {
+      value.limit(value.position() + words);
+      this.uploadIntegers(location, u.type(), count, value);
+    } finally {
+      value.limit(limit);
+    }
+  }
+
+  private void uploadFloats(
+    final int location,
+    final JCGLType type,
+    final int elements,
+    final FloatBuffer value)
+  {
     switch (type) {
       case TYPE_BOOLEAN:
       case TYPE_BOOLEAN_VECTOR_2:
@@ -786,6 +1338,79 @@ final class LWJGL3Shaders implements JCGLShadersType
     }
   }
 
+  private void uploadIntegers(
+    final int location,
+    final JCGLType type,
+    final int elements,
+    final IntBuffer value)
+  {
+    switch (type) {
+      case TYPE_FLOAT:
+      case TYPE_FLOAT_MATRIX_2:
+      case TYPE_FLOAT_MATRIX_3:
+      case TYPE_FLOAT_MATRIX_4:
+      case TYPE_FLOAT_VECTOR_2:
+      case TYPE_FLOAT_VECTOR_3:
+      case TYPE_FLOAT_VECTOR_4:
+      case TYPE_FLOAT_MATRIX_4x3:
+      case TYPE_FLOAT_MATRIX_4x2:
+      case TYPE_FLOAT_MATRIX_3x4:
+      case TYPE_FLOAT_MATRIX_3x2:
+      case TYPE_FLOAT_MATRIX_2x4:
+      case TYPE_FLOAT_MATRIX_2x3:
+        throw new UnreachableCodeException();
+      case TYPE_BOOLEAN:
+      case TYPE_INTEGER:
+      case TYPE_SAMPLER_2D:
+      case TYPE_SAMPLER_3D:
+      case TYPE_SAMPLER_CUBE:
+        GL20.glUniform1iv(location, value);
+        break;
+      case TYPE_BOOLEAN_VECTOR_2:
+      case TYPE_INTEGER_VECTOR_2:
+        GL20.glUniform2iv(location, value);
+        break;
+      case TYPE_BOOLEAN_VECTOR_3:
+      case TYPE_INTEGER_VECTOR_3:
+        GL20.glUniform3iv(location, value);
+        break;
+      case TYPE_BOOLEAN_VECTOR_4:
+      case TYPE_INTEGER_VECTOR_4:
+        GL20.glUniform4iv(location, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER:
+        GL30.glUniform1uiv(location, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER_VECTOR_2:
+        GL30.glUniform2uiv(location, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER_VECTOR_3:
+        GL30.glUniform3uiv(location, value);
+        break;
+      case TYPE_UNSIGNED_INTEGER_VECTOR_4:
+        GL30.glUniform4uiv(location, value);
+        break;
+    }
+  }
+
+  @Override
+  public void shaderUniformApply(
+    final JCGLUniformSet set)
+    throws JCGLException, JCGLExceptionProgramNotActive
+  {
+    NullCheck.notNull(set, "Set");
+
+    if (this.check_active) {
+      final JCGLProgramShaderUsableType p = set.program();
+      if (!Objects.equals(p, this.current)) {
+        throw this.errorNotActive(p);
+      }
+    }
+
+    this.uploader.shadow = this.currentShadow();
+    set.upload(this.uploader);
+  }
+
   @Override
   public void shaderUniformPutVector2f(
     final JCGLProgramUniformType u,
@@ -796,6 +1421,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat2(
+      u.glName(), (float) value.x(), (float) value.y())) {
+      return;
+    }
+
     GL20.glUniform2f(
       u.glName(),
       (float) value.x(),
@@ -812,6 +1444,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat3(
+      u.glName(), (float) value.x(), (float) value.y(), (float) value.z())) {
+      return;
+    }
+
     GL20.glUniform3f(
       u.glName(),
       (float) value.x(),
@@ -829,6 +1468,17 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat4(
+      u.glName(),
+      (float) value.x(),
+      (float) value.y(),
+      (float) value.z(),
+      (float) value.w())) {
+      return;
+    }
+
     GL20.glUniform4f(
       u.glName(),
       (float) value.x(),
@@ -847,6 +1497,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     GL20.glUniform2i(
       u.glName(), value.x(), value.y());
   }
@@ -861,6 +1517,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     GL20.glUniform3i(
       u.glName(), value.x(), value.y(), value.z());
   }
@@ -875,6 +1538,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     GL20.glUniform4i(
       u.glName(),
       value.x(),
@@ -893,6 +1563,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     GL30.glUniform2ui(u.glName(), value.x(), value.y());
   }
 
@@ -906,6 +1582,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     GL30.glUniform3ui(
       u.glName(), value.x(), value.y(), value.z());
   }
@@ -920,6 +1603,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     GL30.glUniform4ui(
       u.glName(),
       value.x(),
@@ -938,6 +1628,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat2(
+      u.glName(), (float) value.x(), (float) value.y())) {
+      return;
+    }
+
     GL20.glUniform2f(
       u.glName(),
       (float) value.x(),
@@ -954,6 +1651,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat3(
+      u.glName(), (float) value.x(), (float) value.y(), (float) value.z())) {
+      return;
+    }
+
     GL20.glUniform3f(
       u.glName(),
       (float) value.x(),
@@ -971,6 +1675,17 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloat4(
+      u.glName(),
+      (float) value.x(),
+      (float) value.y(),
+      (float) value.z(),
+      (float) value.w())) {
+      return;
+    }
+
     GL20.glUniform4f(
       u.glName(),
       (float) value.x(),
@@ -989,6 +1704,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     GL20.glUniform2i(
       u.glName(),
       value.x(),
@@ -1005,6 +1726,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     GL20.glUniform3i(
       u.glName(),
       value.x(),
@@ -1022,6 +1750,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     GL20.glUniform4i(
       u.glName(),
       value.x(),
@@ -1040,6 +1775,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_2);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger2(u.glName(), value.x(), value.y())) {
+      return;
+    }
+
     GL30.glUniform2ui(
       u.glName(),
       value.x(),
@@ -1056,6 +1797,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_3);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger3(
+      u.glName(), value.x(), value.y(), value.z())) {
+      return;
+    }
+
     GL30.glUniform3ui(
       u.glName(),
       value.x(),
@@ -1073,6 +1821,13 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_UNSIGNED_INTEGER_VECTOR_4);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger4(
+      u.glName(), value.x(), value.y(), value.z(), value.w())) {
+      return;
+    }
+
     GL30.glUniform4ui(
       u.glName(),
       value.x(),
@@ -1092,6 +1847,12 @@ final class LWJGL3Shaders implements JCGLShadersType
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_3);
     this.m3x3.setMatrix3x3D(value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m3x3_buffer_view, 9)) {
+      return;
+    }
+
     GL20.glUniformMatrix3fv(u.glName(), false, this.m3x3_buffer_view);
   }
 
@@ -1107,6 +1868,12 @@ final class LWJGL3Shaders implements JCGLShadersType
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_3);
     this.pm3x3.setPMatrix3x3D((PMatrix3x3D<Object, Object>) value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m3x3_buffer_view, 9)) {
+      return;
+    }
+
     GL20.glUniformMatrix3fv(u.glName(), false, this.m3x3_buffer_view);
   }
 
@@ -1121,6 +1888,12 @@ final class LWJGL3Shaders implements JCGLShadersType
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_4);
     this.m4x4.setMatrix4x4D(value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m4x4_buffer_view, 16)) {
+      return;
+    }
+
     GL20.glUniformMatrix4fv(u.glName(), false, this.m4x4_buffer_view);
   }
 
@@ -1136,6 +1909,12 @@ final class LWJGL3Shaders implements JCGLShadersType
   {
     this.checkActiveAndType(u, JCGLType.TYPE_FLOAT_MATRIX_4);
     this.pm4x4.setPMatrix4x4D((PMatrix4x4D<Object, Object>) value);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateFloats(u.glName(), this.m4x4_buffer_view, 16)) {
+      return;
+    }
+
     GL20.glUniformMatrix4fv(u.glName(), false, this.m4x4_buffer_view);
   }
 
@@ -1149,6 +1928,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_SAMPLER_2D);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value.index())) {
+      return;
+    }
+
     GL20.glUniform1i(u.glName(), value.index());
   }
 
@@ -1162,6 +1947,12 @@ final class LWJGL3Shaders implements JCGLShadersType
     JCGLExceptionProgramTypeError
   {
     this.checkActiveAndType(u, JCGLType.TYPE_SAMPLER_CUBE);
+
+    final JCGLUniformShadowCache s = this.currentShadow();
+    if (s != null && !s.updateInteger(u.glName(), value.index())) {
+      return;
+    }
+
     GL20.glUniform1i(u.glName(), value.index());
   }
 
@@ -1202,6 +1993,23 @@ final class LWJGL3Shaders implements JCGLShadersType
     }
   }
 
+  private void checkIsIntegral(final JCGLProgramUniformType u)
+  {
+    if (this.check_type) {
+      final JCGLType type_uniform = u.type();
+      if (type_uniform.isFloatingPointType()) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Uniform type error.");
+        sb.append(System.lineSeparator());
+        sb.append("Expected: An integer, boolean, or sampler type");
+        sb.append(System.lineSeparator());
+        sb.append("Actual: ");
+        sb.append(type_uniform);
+        throw new JCGLExceptionProgramTypeError(sb.toString());
+      }
+    }
+  }
+
   private void checkActive(final JCGLProgramUniformType u)
   {
     final JCGLProgramShaderUsableType u_program = u.program();
@@ -1225,4 +2033,36 @@ final class LWJGL3Shaders implements JCGLShadersType
     sb.append(this.current);
     return new JCGLExceptionProgramNotActive(sb.toString());
   }
+
+  private final class UniformSetUploader
+    implements JCGLUniformSetUploaderType
+  {
+    private @Nullable JCGLUniformShadowCache shadow;
+
+    @Override
+    public void uploadFloats(
+      final int location,
+      final JCGLType type,
+      final int elements,
+      final FloatBuffer data)
+    {
+      final JCGLUniformShadowCache s = this.shadow;
+      if (s == null || s.updateFloats(location, data, data.remaining())) {
+        LWJGL3Shaders.this.uploadFloats(location, type, elements, data);
+      }
+    }
+
+    @Override
+    public void uploadIntegers(
+      final int location,
+      final JCGLType type,
+      final int elements,
+      final IntBuffer data)
+    {
+      final JCGLUniformShadowCache s = this.shadow;
+      if (s == null || s.updateIntegers(location, data, data.remaining())) {
+        LWJGL3Shaders.this.uploadIntegers(location, type, elements, data);
+      }
+    }
+  }
 }
@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
 import com.io7m.jnull.NullCheck;
@@ -41,6 +42,7 @@ final class LWJGL3Texture2D extends LWJGL3Referable
   private final JCGLTextureWrapS wrap_s;
   private final JCGLTextureWrapT wrap_t;
   private final AreaSizeL size;
+  private boolean mipmaps_dirty;
 
   LWJGL3Texture2D(
     final LWJGL3Context in_context,
@@ -73,7 +75,8 @@ final class LWJGL3Texture2D extends LWJGL3Referable
     this.range_y = new UnsignedRangeInclusiveL(0L, in_height - 1L);
 
     final long byte_size =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
     this.byte_range =
       new UnsignedRangeInclusiveL(0L, byte_size - 1L);
   }
@@ -85,6 +88,16 @@ final class LWJGL3Texture2D extends LWJGL3Referable
     return (LWJGL3Texture2D) LWJGL3CompatibilityChecks.checkAny(c, t);
   }
 
+  boolean mipmapsDirty()
+  {
+    return this.mipmaps_dirty;
+  }
+
+  void setMipmapsDirty(final boolean dirty)
+  {
+    this.mipmaps_dirty = dirty;
+  }
+
   @Override
   public JCGLTextureFilterMagnification magnificationFilter()
   {
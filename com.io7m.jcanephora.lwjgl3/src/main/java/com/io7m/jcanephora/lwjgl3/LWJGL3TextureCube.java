@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
@@ -42,6 +43,7 @@ final class LWJGL3TextureCube extends LWJGL3Referable
   private final JCGLTextureWrapR wrap_r;
   private final JCGLTextureWrapS wrap_s;
   private final JCGLTextureWrapT wrap_t;
+  private boolean mipmaps_dirty;
   private final AreaSizeL area;
 
   LWJGL3TextureCube(
@@ -77,7 +79,8 @@ final class LWJGL3TextureCube extends LWJGL3Referable
     this.range_y = new UnsignedRangeInclusiveL(0L, in_size - 1L);
 
     final long size =
-      this.width * this.height * (long) this.format.getBytesPerPixel();
+      JCGLTextureFormats.imageSizeBytes(
+        this.format, this.width, this.height);
     this.byte_range = new UnsignedRangeInclusiveL(0L, size - 1L);
   }
 
@@ -88,6 +91,16 @@ final class LWJGL3TextureCube extends LWJGL3Referable
     return (LWJGL3TextureCube) LWJGL3CompatibilityChecks.checkAny(c, t);
   }
 
+  boolean mipmapsDirty()
+  {
+    return this.mipmaps_dirty;
+  }
+
+  void setMipmapsDirty(final boolean dirty)
+  {
+    this.mipmaps_dirty = dirty;
+  }
+
   @Override
   public JCGLTextureFilterMagnification magnificationFilter()
   {
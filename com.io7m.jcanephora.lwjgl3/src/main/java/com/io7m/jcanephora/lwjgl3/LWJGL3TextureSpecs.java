@@ -21,9 +21,11 @@ import com.io7m.jcanephora.core.JCGLPixelFormat;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
 import com.io7m.jnull.NullCheck;
 import com.io7m.junreachable.UnreachableCodeException;
+import org.lwjgl.opengl.EXTTextureCompressionS3TC;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL14;
 import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL42;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -335,6 +337,65 @@ final class LWJGL3TextureSpecs
         gl_internalformat = GL30.GL_R8UI;
         break;
       }
+      case TEXTURE_FORMAT_RGTC1_R_8BPB: {
+        gl_format = GL11.GL_RED;
+        gl_internalformat = GL30.GL_COMPRESSED_RED_RGTC1;
+        break;
+      }
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB: {
+        gl_format = GL11.GL_RED;
+        gl_internalformat = GL30.GL_COMPRESSED_SIGNED_RED_RGTC1;
+        break;
+      }
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB: {
+        gl_format = GL30.GL_RG;
+        gl_internalformat = GL30.GL_COMPRESSED_RG_RGTC2;
+        break;
+      }
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB: {
+        gl_format = GL30.GL_RG;
+        gl_internalformat = GL30.GL_COMPRESSED_SIGNED_RG_RGTC2;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB: {
+        gl_format = GL11.GL_RGB;
+        gl_internalformat =
+          EXTTextureCompressionS3TC.GL_COMPRESSED_RGB_S3TC_DXT1_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB: {
+        gl_format = GL11.GL_RGBA;
+        gl_internalformat =
+          EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT1_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB: {
+        gl_format = GL11.GL_RGBA;
+        gl_internalformat =
+          EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT3_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB: {
+        gl_format = GL11.GL_RGBA;
+        gl_internalformat =
+          EXTTextureCompressionS3TC.GL_COMPRESSED_RGBA_S3TC_DXT5_EXT;
+        break;
+      }
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB: {
+        gl_format = GL11.GL_RGBA;
+        gl_internalformat = GL42.GL_COMPRESSED_RGBA_BPTC_UNORM;
+        break;
+      }
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB: {
+        gl_format = GL11.GL_RGB;
+        gl_internalformat = GL42.GL_COMPRESSED_RGB_BPTC_SIGNED_FLOAT;
+        break;
+      }
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB: {
+        gl_format = GL11.GL_RGB;
+        gl_internalformat = GL42.GL_COMPRESSED_RGB_BPTC_UNSIGNED_FLOAT;
+        break;
+      }
       case TEXTURE_FORMAT_DEPTH_24_STENCIL_8_4BPP: {
         gl_format = GL30.GL_DEPTH_STENCIL;
         gl_internalformat = GL30.GL_DEPTH24_STENCIL8;
@@ -21,6 +21,7 @@ import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
 import com.io7m.jcanephora.core.JCGLException;
 import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
 import com.io7m.jcanephora.core.JCGLExceptionTextureNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLReferableType;
 import com.io7m.jcanephora.core.JCGLResources;
 import com.io7m.jcanephora.core.JCGLTexture2DType;
@@ -32,6 +33,9 @@ import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmapUpdateMode;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
 import com.io7m.jcanephora.core.JCGLTextureUsableType;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
@@ -42,7 +46,9 @@ import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheck;
 import com.io7m.jregions.core.unparameterized.areas.AreaL;
 import com.io7m.jregions.core.unparameterized.areas.AreasL;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
 import com.io7m.jregions.core.unparameterized.sizes.AreaSizesL;
+import com.io7m.junreachable.UnreachableCodeException;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.lwjgl.opengl.GL11;
@@ -50,6 +56,7 @@ import org.lwjgl.opengl.GL12;
 import org.lwjgl.opengl.GL13;
 import org.lwjgl.opengl.GL20;
 import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +80,11 @@ final class LWJGL3Textures implements JCGLTexturesType
   private final List<JCGLTextureUnitType> units;
   private final int size;
   private final Int2ObjectMap<BitSet> texture_to_units;
+  private final List<LWJGL3Texture2D> mipmaps_dirty_2d;
+  private final List<LWJGL3TextureCube> mipmaps_dirty_cube;
+  private final boolean compression_s3tc;
+  private final boolean compression_bptc;
+  private JCGLTextureMipmapUpdateMode mipmap_mode;
   private LWJGL3Framebuffers framebuffers;
 
   LWJGL3Textures(final LWJGL3Context c)
@@ -82,6 +94,16 @@ final class LWJGL3Textures implements JCGLTexturesType
     this.units = makeUnits(c);
     this.size = makeSize();
     this.texture_to_units = new Int2ObjectOpenHashMap<>(this.units.size());
+    this.mipmaps_dirty_2d = new ArrayList<>(16);
+    this.mipmaps_dirty_cube = new ArrayList<>(16);
+    this.mipmap_mode =
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_IMMEDIATE;
+    this.compression_s3tc =
+      LWJGL3CompatibilityChecks.isTextureCompressionS3TCSupported(
+        GL.getCapabilities());
+    this.compression_bptc =
+      LWJGL3CompatibilityChecks.isTextureCompressionBPTCSupported(
+        GL.getCapabilities());
 
     /*
      * Configure baseline defaults.
@@ -188,6 +210,116 @@ final class LWJGL3Textures implements JCGLTexturesType
     return this.size;
   }
 
+  @Override
+  public boolean textureFormatIsSupported(
+    final JCGLTextureFormat format)
+    throws JCGLException
+  {
+    NullCheck.notNull(format, "Format");
+
+    switch (format.getCompression()) {
+      case TEXTURE_COMPRESSION_NONE:
+      case TEXTURE_COMPRESSION_RGTC:
+        return true;
+      case TEXTURE_COMPRESSION_S3TC:
+        return this.compression_s3tc;
+      case TEXTURE_COMPRESSION_BPTC:
+        return this.compression_bptc;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private void checkFormatSupported(
+    final JCGLTextureFormat format)
+    throws JCGLExceptionUnsupportedFeature
+  {
+    if (!this.textureFormatIsSupported(format)) {
+      switch (format.getCompression()) {
+        case TEXTURE_COMPRESSION_NONE:
+        case TEXTURE_COMPRESSION_RGTC:
+          break;
+        case TEXTURE_COMPRESSION_S3TC:
+          throw new JCGLExceptionUnsupportedFeature(
+            String.format(
+              "Texture format %s requires EXT_texture_compression_s3tc",
+              format));
+        case TEXTURE_COMPRESSION_BPTC:
+          throw new JCGLExceptionUnsupportedFeature(
+            String.format(
+              "Texture format %s requires OpenGL 4.2 or "
+                + "ARB_texture_compression_bptc",
+              format));
+      }
+    }
+  }
+
+  /**
+   * Allocate storage for every level of a compressed texture. Mipmaps cannot
+   * be generated for compressed formats, so the levels are allocated
+   * explicitly and must be uploaded by the application.
+   */
+
+  private static void compressedAllocate(
+    final int target,
+    final LWJGL3TextureSpec spec,
+    final JCGLTextureUsableType t)
+  {
+    final AreaSizeL base = AreaSizeL.of(t.width(), t.height());
+    final int levels = JCGLTextureMipmaps.levelCount(t);
+    for (int level = 0; level < levels; ++level) {
+      final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(base, level);
+      final long bytes = JCGLTextureFormats.imageSizeBytes(
+        t.format(), level_size.width(), level_size.height());
+      GL13.glCompressedTexImage2D(
+        target,
+        level,
+        spec.getInternalFormat(),
+        Math.toIntExact(level_size.width()),
+        Math.toIntExact(level_size.height()),
+        0,
+        Math.toIntExact(bytes),
+        0L);
+    }
+  }
+
+  private static void subImage2D(
+    final int target,
+    final int level,
+    final JCGLTextureFormat format,
+    final AreaL update_area,
+    final ByteBuffer buffer)
+  {
+    final int x_offset = Math.toIntExact(update_area.minimumX());
+    final int y_offset = Math.toIntExact(update_area.minimumY());
+    final int width = Math.toIntExact(update_area.width());
+    final int height = Math.toIntExact(update_area.height());
+    final LWJGL3TextureSpec spec = LWJGL3TextureSpecs.getTextureSpec(format);
+
+    if (format.isCompressed()) {
+      GL13.glCompressedTexSubImage2D(
+        target,
+        level,
+        x_offset,
+        y_offset,
+        width,
+        height,
+        spec.getInternalFormat(),
+        buffer);
+    } else {
+      GL11.glTexSubImage2D(
+        target,
+        level,
+        x_offset,
+        y_offset,
+        width,
+        height,
+        spec.getFormat(),
+        spec.getType(),
+        buffer);
+    }
+  }
+
   @Override
   public List<JCGLTextureUnitType> textureGetUnits()
     throws JCGLException
@@ -244,6 +376,19 @@ final class LWJGL3Textures implements JCGLTexturesType
     final JCGLTextureUnitType unit,
     final JCGLTexture2DUsableType texture)
     throws JCGLException
+  {
+    this.bind2D(unit, texture);
+
+    final LWJGL3Texture2D t = (LWJGL3Texture2D) texture;
+    if (t.mipmapsDirty()) {
+      this.mipmapsRegenerate2D(unit.index(), t);
+    }
+  }
+
+  private void bind2D(
+    final JCGLTextureUnitType unit,
+    final JCGLTexture2DUsableType texture)
+    throws JCGLException
   {
     final LWJGL3Texture2D t =
       checkTexture2D(this.context, texture);
@@ -316,6 +461,7 @@ final class LWJGL3Textures implements JCGLTexturesType
     }
 
     GL11.glDeleteTextures(texture.glName());
+    this.mipmapsDiscard2D((LWJGL3Texture2D) texture);
     ((LWJGL3Texture2D) texture).setDeleted();
 
     this.unbindDeleted(texture.glName());
@@ -373,8 +519,9 @@ final class LWJGL3Textures implements JCGLTexturesType
     NullCheck.notNull(mag_filter, "Magnification filter");
     RangeCheck.checkGreaterEqualLong(width, "Width", 2L, "Valid widths");
     RangeCheck.checkGreaterEqualLong(height, "Height", 2L, "Valid heights");
+    this.checkFormatSupported(format);
 
-    final long bytes = width * height * (long) format.getBytesPerPixel();
+    final long bytes = JCGLTextureFormats.imageSizeBytes(format, width, height);
     if (LOG.isDebugEnabled()) {
       LOG.debug(
         "allocate {} {}x{} {} bytes",
@@ -417,27 +564,32 @@ final class LWJGL3Textures implements JCGLTexturesType
     final LWJGL3TextureSpec spec = LWJGL3TextureSpecs.getTextureSpec(format);
     GL11.glPixelStorei(GL11.GL_PACK_ALIGNMENT, 1);
     GL11.glPixelStorei(GL11.GL_UNPACK_ALIGNMENT, 1);
-    GL11.glTexImage2D(
-      GL11.GL_TEXTURE_2D,
-      0,
-      spec.getInternalFormat(),
-      Math.toIntExact(width),
-      Math.toIntExact(height),
-      0,
-      spec.getFormat(),
-      spec.getType(),
-      (ByteBuffer) null);
-
-    switch (min_filter) {
-      case TEXTURE_FILTER_NEAREST:
-      case TEXTURE_FILTER_LINEAR:
-        break;
-      case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
-        break;
+
+    if (format.isCompressed()) {
+      compressedAllocate(GL11.GL_TEXTURE_2D, spec, t);
+    } else {
+      GL11.glTexImage2D(
+        GL11.GL_TEXTURE_2D,
+        0,
+        spec.getInternalFormat(),
+        Math.toIntExact(width),
+        Math.toIntExact(height),
+        0,
+        spec.getFormat(),
+        spec.getType(),
+        (ByteBuffer) null);
+
+      switch (min_filter) {
+        case TEXTURE_FILTER_NEAREST:
+        case TEXTURE_FILTER_LINEAR:
+          break;
+        case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
+          GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+          break;
+        }
       }
     }
 
@@ -458,7 +610,7 @@ final class LWJGL3Textures implements JCGLTexturesType
 
     final JCGLTexture2DUsableType texture = data.texture();
     checkTextureUnit(this.context, unit);
-    checkTexture2D(this.context, texture);
+    final LWJGL3Texture2D t = checkTexture2D(this.context, texture);
 
     final AreaL update_area = data.area();
     final AreaL texture_area = AreaSizesL.area(texture.size());
@@ -468,26 +620,11 @@ final class LWJGL3Textures implements JCGLTexturesType
       AreasL.contains(texture_area, update_area),
       ignored -> "Update area must be included in texture area");
 
-    final int x_offset = Math.toIntExact(update_area.minimumX());
-    final int y_offset = Math.toIntExact(update_area.minimumY());
-    final int width = Math.toIntExact(update_area.width());
-    final int height = Math.toIntExact(update_area.height());
-
     final JCGLTextureFormat format = texture.format();
-    final LWJGL3TextureSpec spec = LWJGL3TextureSpecs.getTextureSpec(format);
-    final ByteBuffer buffer = data.data();
+    JCGLTextureFormats.checkBlockAligned(format, texture.size(), update_area);
 
-    this.texture2DBind(unit, texture);
-    GL11.glTexSubImage2D(
-      GL11.GL_TEXTURE_2D,
-      0,
-      x_offset,
-      y_offset,
-      width,
-      height,
-      spec.getFormat(),
-      spec.getType(),
-      buffer);
+    this.bind2D(unit, texture);
+    subImage2D(GL11.GL_TEXTURE_2D, 0, format, update_area, data.data());
 
     switch (texture.minificationFilter()) {
       case TEXTURE_FILTER_LINEAR:
@@ -497,7 +634,7 @@ final class LWJGL3Textures implements JCGLTexturesType
       case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
       case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
       case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+        this.mipmapsUpdated2D(unit.index(), t);
         break;
       }
     }
@@ -521,17 +658,23 @@ final class LWJGL3Textures implements JCGLTexturesType
     final AreaL area = AreaSizesL.area(texture.size());
     final long width = area.width();
     final long height = area.height();
-    final long data_size = width * height * (long) format.getBytesPerPixel();
-    final ByteBuffer data = ByteBuffer.allocateDirect(Math.toIntExact(data_size));
+    final long data_size =
+      JCGLTextureFormats.imageSizeBytes(format, width, height);
+    final ByteBuffer data =
+      ByteBuffer.allocateDirect(Math.toIntExact(data_size));
     data.order(ByteOrder.nativeOrder());
 
-    this.texture2DBind(unit, texture);
-    GL11.glGetTexImage(
-      GL11.GL_TEXTURE_2D,
-      0,
-      spec.getFormat(),
-      spec.getType(),
-      data);
+    this.bind2D(unit, texture);
+    if (format.isCompressed()) {
+      GL13.glGetCompressedTexImage(GL11.GL_TEXTURE_2D, 0, data);
+    } else {
+      GL11.glGetTexImage(
+        GL11.GL_TEXTURE_2D,
+        0,
+        spec.getFormat(),
+        spec.getType(),
+        data);
+    }
     return data;
   }
 
@@ -558,8 +701,8 @@ final class LWJGL3Textures implements JCGLTexturesType
         case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
         case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
         case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR: {
-          GL13.glActiveTexture(GL13.GL_TEXTURE0 + u.index());
-          GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+          JCGLTextureFormats.checkMipmapGenerationSupported(b.format());
+          this.mipmapsRegenerate2D(u.index(), b);
           break;
         }
       }
@@ -574,6 +717,199 @@ final class LWJGL3Textures implements JCGLTexturesType
     }
   }
 
+  private void mipmapsUpdated2D(
+    final int index,
+    final LWJGL3Texture2D t)
+  {
+    /*
+     * Mipmaps cannot be generated for compressed formats: The levels are
+     * uploaded explicitly instead.
+     */
+
+    if (t.format().isCompressed()) {
+      return;
+    }
+
+    switch (this.mipmap_mode) {
+      case TEXTURE_MIPMAP_UPDATE_IMMEDIATE: {
+        this.mipmapsRegenerate2D(index, t);
+        break;
+      }
+      case TEXTURE_MIPMAP_UPDATE_DEFERRED: {
+        if (!t.mipmapsDirty()) {
+          t.setMipmapsDirty(true);
+          this.mipmaps_dirty_2d.add(t);
+        }
+        break;
+      }
+    }
+  }
+
+  private void mipmapsUpdatedCube(
+    final int index,
+    final LWJGL3TextureCube t)
+  {
+    /*
+     * Mipmaps cannot be generated for compressed formats: The levels are
+     * uploaded explicitly instead.
+     */
+
+    if (t.format().isCompressed()) {
+      return;
+    }
+
+    switch (this.mipmap_mode) {
+      case TEXTURE_MIPMAP_UPDATE_IMMEDIATE: {
+        this.mipmapsRegenerateCube(index, t);
+        break;
+      }
+      case TEXTURE_MIPMAP_UPDATE_DEFERRED: {
+        if (!t.mipmapsDirty()) {
+          t.setMipmapsDirty(true);
+          this.mipmaps_dirty_cube.add(t);
+        }
+        break;
+      }
+    }
+  }
+
+  private void mipmapsRegenerate2D(
+    final int index,
+    final LWJGL3Texture2D t)
+  {
+    GL13.glActiveTexture(GL13.GL_TEXTURE0 + index);
+    GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+    this.mipmapsDiscard2D(t);
+  }
+
+  private void mipmapsRegenerateCube(
+    final int index,
+    final LWJGL3TextureCube t)
+  {
+    GL13.glActiveTexture(GL13.GL_TEXTURE0 + index);
+    GL30.glGenerateMipmap(GL13.GL_TEXTURE_CUBE_MAP);
+    this.mipmapsDiscardCube(t);
+  }
+
+  private void mipmapsDiscard2D(
+    final LWJGL3Texture2D t)
+  {
+    if (t.mipmapsDirty()) {
+      t.setMipmapsDirty(false);
+      this.mipmaps_dirty_2d.remove(t);
+    }
+  }
+
+  private void mipmapsDiscardCube(
+    final LWJGL3TextureCube t)
+  {
+    if (t.mipmapsDirty()) {
+      t.setMipmapsDirty(false);
+      this.mipmaps_dirty_cube.remove(t);
+    }
+  }
+
+  @Override
+  public void textureSetMipmapUpdateMode(
+    final JCGLTextureMipmapUpdateMode mode)
+    throws JCGLException
+  {
+    this.mipmap_mode = NullCheck.notNull(mode, "Mode");
+  }
+
+  @Override
+  public JCGLTextureMipmapUpdateMode textureGetMipmapUpdateMode()
+    throws JCGLException
+  {
+    return this.mipmap_mode;
+  }
+
+  @Override
+  public boolean textureMipmapsAreDirty(
+    final JCGLTextureUsableType texture)
+    throws JCGLException
+  {
+    NullCheck.notNull(texture, "Texture");
+
+    if (texture instanceof JCGLTexture2DUsableType) {
+      return checkTexture2D(
+        this.context, (JCGLTexture2DUsableType) texture).mipmapsDirty();
+    }
+    if (texture instanceof JCGLTextureCubeUsableType) {
+      return checkTextureCube(
+        this.context, (JCGLTextureCubeUsableType) texture).mipmapsDirty();
+    }
+    throw new UnreachableCodeException();
+  }
+
+  @Override
+  public int textureFlushMipmaps(
+    final JCGLTextureUnitType unit)
+    throws JCGLException
+  {
+    NullCheck.notNull(unit, "Unit");
+
+    checkTextureUnit(this.context, unit);
+
+    final int index = unit.index();
+    final int count =
+      this.mipmaps_dirty_2d.size() + this.mipmaps_dirty_cube.size();
+
+    if (count > 0 && LOG.isTraceEnabled()) {
+      LOG.trace("flush mipmaps: {} textures", Integer.valueOf(count));
+    }
+
+    for (int k = 0; k < this.mipmaps_dirty_2d.size(); ++k) {
+      final LWJGL3Texture2D t = this.mipmaps_dirty_2d.get(k);
+      this.bind2D(unit, t);
+      GL13.glActiveTexture(GL13.GL_TEXTURE0 + index);
+      GL30.glGenerateMipmap(GL11.GL_TEXTURE_2D);
+      t.setMipmapsDirty(false);
+    }
+    this.mipmaps_dirty_2d.clear();
+
+    for (int k = 0; k < this.mipmaps_dirty_cube.size(); ++k) {
+      final LWJGL3TextureCube t = this.mipmaps_dirty_cube.get(k);
+      this.bindCube(unit, t);
+      GL13.glActiveTexture(GL13.GL_TEXTURE0 + index);
+      GL30.glGenerateMipmap(GL13.GL_TEXTURE_CUBE_MAP);
+      t.setMipmapsDirty(false);
+    }
+    this.mipmaps_dirty_cube.clear();
+    return count;
+  }
+
+  @Override
+  public void texture2DUpdateMipmapLevel(
+    final JCGLTextureUnitType unit,
+    final int level,
+    final JCGLTexture2DUpdateType data)
+    throws JCGLException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(unit, "Unit");
+
+    final JCGLTexture2DUsableType texture = data.texture();
+    checkTextureUnit(this.context, unit);
+    checkTexture2D(this.context, texture);
+
+    final AreaL update_area = data.area();
+    final AreaL level_area =
+      AreaSizesL.area(JCGLTextureMipmaps.levelSize(texture, level));
+
+    Preconditions.checkPrecondition(
+      update_area,
+      AreasL.contains(level_area, update_area),
+      ignored -> "Update area must be included in mipmap level area");
+
+    final JCGLTextureFormat format = texture.format();
+    JCGLTextureFormats.checkBlockAligned(
+      format, JCGLTextureMipmaps.levelSize(texture, level), update_area);
+
+    this.bind2D(unit, texture);
+    subImage2D(GL11.GL_TEXTURE_2D, level, format, update_area, data.data());
+  }
+
   void setFramebuffers(final LWJGL3Framebuffers in_fb)
   {
     this.framebuffers = NullCheck.notNull(in_fb, "Framebuffers");
@@ -584,6 +920,19 @@ final class LWJGL3Textures implements JCGLTexturesType
     final JCGLTextureUnitType unit,
     final JCGLTextureCubeUsableType texture)
     throws JCGLException
+  {
+    this.bindCube(unit, texture);
+
+    final LWJGL3TextureCube t = (LWJGL3TextureCube) texture;
+    if (t.mipmapsDirty()) {
+      this.mipmapsRegenerateCube(unit.index(), t);
+    }
+  }
+
+  private void bindCube(
+    final JCGLTextureUnitType unit,
+    final JCGLTextureCubeUsableType texture)
+    throws JCGLException
   {
     final LWJGL3TextureCube t =
       checkTextureCube(this.context, texture);
@@ -641,6 +990,7 @@ final class LWJGL3Textures implements JCGLTexturesType
     }
 
     GL11.glDeleteTextures(texture.glName());
+    this.mipmapsDiscardCube((LWJGL3TextureCube) texture);
     ((LWJGL3TextureCube) texture).setDeleted();
     this.unbindDeleted(texture.glName());
   }
@@ -679,7 +1029,7 @@ final class LWJGL3Textures implements JCGLTexturesType
 
     final JCGLTextureCubeUsableType texture = data.texture();
     checkTextureUnit(this.context, unit);
-    checkTextureCube(this.context, texture);
+    final LWJGL3TextureCube t = checkTextureCube(this.context, texture);
 
     final AreaL update_area = data.area();
     final AreaL texture_area = AreaSizesL.area(texture.size());
@@ -689,27 +1039,12 @@ final class LWJGL3Textures implements JCGLTexturesType
       AreasL.contains(texture_area, update_area),
       ignored -> "Update area must be included in texture area");
 
-    final int x_offset = Math.toIntExact(update_area.minimumX());
-    final int y_offset = Math.toIntExact(update_area.minimumY());
-    final int width = Math.toIntExact(update_area.width());
-    final int height = Math.toIntExact(update_area.height());
-
     final JCGLTextureFormat format = texture.format();
-    final LWJGL3TextureSpec spec = LWJGL3TextureSpecs.getTextureSpec(format);
-    final ByteBuffer buffer = data.data();
+    JCGLTextureFormats.checkBlockAligned(format, texture.size(), update_area);
     final int gface = LWJGL3TypeConversions.cubeFaceToGL(face);
 
-    this.textureCubeBind(unit, texture);
-    GL11.glTexSubImage2D(
-      gface,
-      0,
-      x_offset,
-      y_offset,
-      width,
-      height,
-      spec.getFormat(),
-      spec.getType(),
-      buffer);
+    this.bindCube(unit, texture);
+    subImage2D(gface, 0, format, update_area, data.data());
 
     switch (texture.minificationFilter()) {
       case TEXTURE_FILTER_LINEAR:
@@ -719,12 +1054,45 @@ final class LWJGL3Textures implements JCGLTexturesType
       case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
       case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
       case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        GL30.glGenerateMipmap(GL13.GL_TEXTURE_CUBE_MAP);
+        this.mipmapsUpdatedCube(unit.index(), t);
         break;
       }
     }
   }
 
+  @Override
+  public void textureCubeUpdateMipmapLevelLH(
+    final JCGLTextureUnitType unit,
+    final JCGLCubeMapFaceLH face,
+    final int level,
+    final JCGLTextureCubeUpdateType data)
+    throws JCGLException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(unit, "Unit");
+
+    final JCGLTextureCubeUsableType texture = data.texture();
+    checkTextureUnit(this.context, unit);
+    checkTextureCube(this.context, texture);
+
+    final AreaL update_area = data.area();
+    final AreaL level_area =
+      AreaSizesL.area(JCGLTextureMipmaps.levelSize(texture, level));
+
+    Preconditions.checkPrecondition(
+      update_area,
+      AreasL.contains(level_area, update_area),
+      ignored -> "Update area must be included in mipmap level area");
+
+    final JCGLTextureFormat format = texture.format();
+    JCGLTextureFormats.checkBlockAligned(
+      format, JCGLTextureMipmaps.levelSize(texture, level), update_area);
+    final int gface = LWJGL3TypeConversions.cubeFaceToGL(face);
+
+    this.bindCube(unit, texture);
+    subImage2D(gface, level, format, update_area, data.data());
+  }
+
   @Override
   public JCGLTextureCubeType textureCubeAllocate(
     final JCGLTextureUnitType unit,
@@ -745,8 +1113,10 @@ final class LWJGL3Textures implements JCGLTexturesType
     NullCheck.notNull(min_filter, "Minification filter");
     NullCheck.notNull(mag_filter, "Magnification filter");
     RangeCheck.checkGreaterEqualLong(in_size, "Size", 2L, "Valid sizes");
+    this.checkFormatSupported(format);
 
-    final long bytes = (in_size * in_size) * 6L * format.getBytesPerPixel();
+    final long bytes =
+      JCGLTextureFormats.imageSizeBytes(format, in_size, in_size) * 6L;
     if (LOG.isDebugEnabled()) {
       LOG.debug(
         "allocate {} {}x{}x6 {} bytes",
@@ -794,30 +1164,36 @@ final class LWJGL3Textures implements JCGLTexturesType
     GL11.glPixelStorei(GL11.GL_PACK_ALIGNMENT, 1);
     GL11.glPixelStorei(GL11.GL_UNPACK_ALIGNMENT, 1);
 
-    for (final JCGLCubeMapFaceLH f : JCGLCubeMapFaceLH.values()) {
-      final int gface = LWJGL3TypeConversions.cubeFaceToGL(f);
-      GL11.glTexImage2D(
-        gface,
-        0,
-        spec.getInternalFormat(),
-        Math.toIntExact(in_size),
-        Math.toIntExact(in_size),
-        0,
-        spec.getFormat(),
-        spec.getType(),
-        (ByteBuffer) null);
-    }
+    if (format.isCompressed()) {
+      for (final JCGLCubeMapFaceLH f : JCGLCubeMapFaceLH.values()) {
+        compressedAllocate(LWJGL3TypeConversions.cubeFaceToGL(f), spec, t);
+      }
+    } else {
+      for (final JCGLCubeMapFaceLH f : JCGLCubeMapFaceLH.values()) {
+        final int gface = LWJGL3TypeConversions.cubeFaceToGL(f);
+        GL11.glTexImage2D(
+          gface,
+          0,
+          spec.getInternalFormat(),
+          Math.toIntExact(in_size),
+          Math.toIntExact(in_size),
+          0,
+          spec.getFormat(),
+          spec.getType(),
+          (ByteBuffer) null);
+      }
 
-    switch (min_filter) {
-      case TEXTURE_FILTER_NEAREST:
-      case TEXTURE_FILTER_LINEAR:
-        break;
-      case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
-      case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
-        GL30.glGenerateMipmap(GL13.GL_TEXTURE_CUBE_MAP);
-        break;
+      switch (min_filter) {
+        case TEXTURE_FILTER_NEAREST:
+        case TEXTURE_FILTER_LINEAR:
+          break;
+        case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST: {
+          GL30.glGenerateMipmap(GL13.GL_TEXTURE_CUBE_MAP);
+          break;
+        }
       }
     }
 
@@ -847,7 +1223,8 @@ final class LWJGL3Textures implements JCGLTexturesType
     final AreaL area = AreaSizesL.area(texture.size());
     final long width = area.width();
     final long height = area.height();
-    final long size_butes = width * height * (long) format.getBytesPerPixel();
+    final long size_butes =
+      JCGLTextureFormats.imageSizeBytes(format, width, height);
 
     final ByteBuffer data =
       ByteBuffer.allocateDirect(Math.toIntExact(size_butes));
@@ -855,13 +1232,17 @@ final class LWJGL3Textures implements JCGLTexturesType
 
     final int gface = LWJGL3TypeConversions.cubeFaceToGL(face);
 
-    this.textureCubeBind(unit, texture);
-    GL11.glGetTexImage(
-      gface,
-      0,
-      spec.getFormat(),
-      spec.getType(),
-      data);
+    this.bindCube(unit, texture);
+    if (format.isCompressed()) {
+      GL13.glGetCompressedTexImage(gface, 0, data);
+    } else {
+      GL11.glGetTexImage(
+        gface,
+        0,
+        spec.getFormat(),
+        spec.getType(),
+        data);
+    }
     return data;
   }
 
@@ -888,8 +1269,8 @@ final class LWJGL3Textures implements JCGLTexturesType
         case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
         case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
         case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR: {
-          GL13.glActiveTexture(GL13.GL_TEXTURE0 + u.index());
-          GL30.glGenerateMipmap(GL13.GL_TEXTURE_CUBE_MAP);
+          JCGLTextureFormats.checkMipmapGenerationSupported(b.format());
+          this.mipmapsRegenerateCube(u.index(), b);
           break;
         }
       }
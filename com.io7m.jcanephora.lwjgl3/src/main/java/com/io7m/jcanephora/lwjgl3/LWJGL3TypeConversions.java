@@ -18,6 +18,7 @@ package com.io7m.jcanephora.lwjgl3;
 
 import com.io7m.jcanephora.core.JCGLBlendEquation;
 import com.io7m.jcanephora.core.JCGLBlendFunction;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
 import com.io7m.jcanephora.core.JCGLDepthFunction;
 import com.io7m.jcanephora.core.JCGLFaceSelection;
@@ -37,6 +38,8 @@ import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
 import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
 import com.io7m.jcanephora.core.JCGLType;
 import com.io7m.jcanephora.core.JCGLUnsignedType;
 import com.io7m.jcanephora.core.JCGLUsageHint;
@@ -49,6 +52,7 @@ import org.lwjgl.opengl.GL15;
 import org.lwjgl.opengl.GL20;
 import org.lwjgl.opengl.GL21;
 import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL33;
 import org.lwjgl.opengles.GLES20;
 
 import java.util.Set;
@@ -443,6 +447,75 @@ public final class LWJGL3TypeConversions
     throw new UnreachableCodeException();
   }
 
+  /**
+   * Convert buffer map flags to GL constants.
+   *
+   * @param flags The flags.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int bufferMapFlagSetToMask(
+    final Set<JCGLBufferMapFlag> flags)
+  {
+    int mask = 0;
+    for (final JCGLBufferMapFlag f : flags) {
+      assert f != null;
+      mask |= bufferMapFlagToGL(f);
+    }
+    return mask;
+  }
+
+  /**
+   * Convert buffer map flags to GL constants.
+   *
+   * @param flag The flag.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int bufferMapFlagToGL(
+    final JCGLBufferMapFlag flag)
+  {
+    switch (flag) {
+      case BUFFER_MAP_INVALIDATE_RANGE:
+        return GL30.GL_MAP_INVALIDATE_RANGE_BIT;
+      case BUFFER_MAP_INVALIDATE_BUFFER:
+        return GL30.GL_MAP_INVALIDATE_BUFFER_BIT;
+      case BUFFER_MAP_UNSYNCHRONIZED:
+        return GL30.GL_MAP_UNSYNCHRONIZED_BIT;
+      case BUFFER_MAP_FLUSH_EXPLICIT:
+        return GL30.GL_MAP_FLUSH_EXPLICIT_BIT;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Convert buffer map flags from GL constants.
+   *
+   * @param flag The GL constant.
+   *
+   * @return The value.
+   */
+
+  public static JCGLBufferMapFlag bufferMapFlagFromGL(
+    final int flag)
+  {
+    switch (flag) {
+      case GL30.GL_MAP_INVALIDATE_RANGE_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_RANGE;
+      case GL30.GL_MAP_INVALIDATE_BUFFER_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_BUFFER;
+      case GL30.GL_MAP_UNSYNCHRONIZED_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_UNSYNCHRONIZED;
+      case GL30.GL_MAP_FLUSH_EXPLICIT_BIT:
+        return JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT;
+      default:
+        throw new UnreachableCodeException();
+    }
+  }
+
   /**
    * Convert types from GL constants.
    *
@@ -471,6 +544,10 @@ public final class LWJGL3TypeConversions
         return JCGLScalarType.TYPE_UNSIGNED_INT;
       case GL11.GL_FLOAT:
         return JCGLScalarType.TYPE_FLOAT;
+      case GL33.GL_INT_2_10_10_10_REV:
+        return JCGLScalarType.TYPE_INT_2_10_10_10_REV;
+      case GL12.GL_UNSIGNED_INT_2_10_10_10_REV:
+        return JCGLScalarType.TYPE_UNSIGNED_INT_2_10_10_10_REV;
       default:
         throw new UnreachableCodeException();
     }
@@ -504,6 +581,10 @@ public final class LWJGL3TypeConversions
         return GL11.GL_UNSIGNED_INT;
       case TYPE_UNSIGNED_SHORT:
         return GL11.GL_UNSIGNED_SHORT;
+      case TYPE_INT_2_10_10_10_REV:
+        return GL33.GL_INT_2_10_10_10_REV;
+      case TYPE_UNSIGNED_INT_2_10_10_10_REV:
+        return GL12.GL_UNSIGNED_INT_2_10_10_10_REV;
     }
 
     throw new UnreachableCodeException();
@@ -781,6 +862,50 @@ public final class LWJGL3TypeConversions
     throw new UnreachableCodeException();
   }
 
+  /**
+   * Convert transform feedback primitives to GL constants.
+   *
+   * @param p The primitives.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int transformFeedbackPrimitiveToGL(
+    final JCGLTransformFeedbackPrimitive p)
+  {
+    switch (p) {
+      case FEEDBACK_POINTS:
+        return GL11.GL_POINTS;
+      case FEEDBACK_LINES:
+        return GL11.GL_LINES;
+      case FEEDBACK_TRIANGLES:
+        return GL11.GL_TRIANGLES;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Convert transform feedback buffer modes to GL constants.
+   *
+   * @param m The buffer mode.
+   *
+   * @return The resulting GL constant.
+   */
+
+  public static int transformFeedbackBufferModeToGL(
+    final JCGLTransformFeedbackBufferMode m)
+  {
+    switch (m) {
+      case TRANSFORM_FEEDBACK_INTERLEAVED:
+        return GL30.GL_INTERLEAVED_ATTRIBS;
+      case TRANSFORM_FEEDBACK_SEPARATE:
+        return GL30.GL_SEPARATE_ATTRIBS;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
   /**
    * Convert filters from GL constants.
    *
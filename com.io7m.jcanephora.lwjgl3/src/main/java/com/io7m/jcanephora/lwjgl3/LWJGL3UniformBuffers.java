@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.JCGLUniformBufferBindings;
+import com.io7m.jcanephora.core.JCGLUniformBufferType;
+import com.io7m.jcanephora.core.JCGLUniformBufferUsableType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL31;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+final class LWJGL3UniformBuffers implements JCGLUniformBuffersType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(LWJGL3UniformBuffers.class);
+  }
+
+  private final LWJGL3Context context;
+  private final int alignment;
+  private final JCGLUniformBufferUsableType[] bindings;
+  private final UnsignedRangeInclusiveL[] binding_ranges;
+
+  LWJGL3UniformBuffers(
+    final LWJGL3Context c)
+  {
+    this.context = NullCheck.notNull(c, "Context");
+
+    final int max = GL11.glGetInteger(GL31.GL_MAX_UNIFORM_BUFFER_BINDINGS);
+    this.alignment =
+      GL11.glGetInteger(GL31.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "implementation supports {} uniform buffer bindings",
+        Integer.valueOf(max));
+      LOG.debug(
+        "implementation requires uniform buffer offset alignment {}",
+        Integer.valueOf(this.alignment));
+    }
+
+    this.bindings = new JCGLUniformBufferUsableType[max];
+    this.binding_ranges = new UnsignedRangeInclusiveL[max];
+
+    /*
+     * Configure baseline defaults.
+     */
+
+    GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, 0);
+    for (int index = 0; index < max; ++index) {
+      GL30.glBindBufferBase(GL31.GL_UNIFORM_BUFFER, index, 0);
+    }
+    LWJGL3ErrorChecking.checkErrors();
+  }
+
+  private LWJGL3Buffer checkUniform(final JCGLUniformBufferUsableType u)
+  {
+    final LWJGL3Buffer b = LWJGL3UniformBuffer.checkUniform(this.context, u);
+    JCGLResources.checkNotDeleted(u);
+    return b;
+  }
+
+  private int checkIndex(final int index)
+  {
+    return JCGLUniformBufferBindings.checkBindingIndex(
+      index, this.bindings.length);
+  }
+
+  @Override
+  public int uniformBufferGetMaximumBindings()
+    throws JCGLException
+  {
+    return this.bindings.length;
+  }
+
+  @Override
+  public int uniformBufferGetOffsetAlignment()
+    throws JCGLException
+  {
+    return this.alignment;
+  }
+
+  @Override
+  public JCGLUniformBufferType uniformBufferAllocate(
+    final long size,
+    final JCGLUsageHint usage)
+    throws JCGLException
+  {
+    NullCheck.notNull(usage, "Usage");
+    RangeCheck.checkIncludedInLong(
+      size, "Size", Ranges.NATURAL_LONG, "Valid size range");
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocate ({} bytes, {})", Long.valueOf(size), usage);
+    }
+
+    final int id = GL15.glGenBuffers();
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("allocated {}", Integer.valueOf(id));
+    }
+
+    final LWJGL3UniformBuffer u =
+      new LWJGL3UniformBuffer(this.context, id, size, usage);
+
+    GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, id);
+    GL15.glBufferData(
+      GL31.GL_UNIFORM_BUFFER,
+      size,
+      LWJGL3TypeConversions.usageHintToGL(usage));
+    GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, 0);
+    return u;
+  }
+
+  @Override
+  public void uniformBufferUpdate(
+    final JCGLBufferUpdateType<JCGLUniformBufferType> u)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    NullCheck.notNull(u, "Update");
+    final JCGLUniformBufferType ub = u.buffer();
+    final LWJGL3Buffer b = this.checkUniform(ub);
+    LWJGL3Buffer.checkNotMapped(b);
+
+    final UnsignedRangeInclusiveL r = u.dataUpdateRange();
+    final ByteBuffer data = u.data();
+    data.rewind();
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("update {} {}", ub, r);
+    }
+
+    GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, ub.glName());
+    GL15.glBufferSubData(GL31.GL_UNIFORM_BUFFER, r.getLower(), data);
+    GL15.glBindBuffer(GL31.GL_UNIFORM_BUFFER, 0);
+  }
+
+  @Override
+  public void uniformBufferDelete(
+    final JCGLUniformBufferType u)
+    throws JCGLException, JCGLExceptionDeleted
+  {
+    final LWJGL3Buffer b = this.checkUniform(u);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("delete {}", Integer.valueOf(u.glName()));
+    }
+
+    GL15.glDeleteBuffers(u.glName());
+    b.setDeleted();
+    b.setUnmapped();
+
+    for (int index = 0; index < this.bindings.length; ++index) {
+      if (Objects.equals(u, this.bindings[index])) {
+        this.bindings[index] = null;
+        this.binding_ranges[index] = null;
+      }
+    }
+  }
+
+  @Override
+  public void uniformBufferBindIndexed(
+    final int index,
+    final JCGLUniformBufferUsableType u)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkUniform(u);
+
+    final UnsignedRangeInclusiveL range = u.byteRange();
+    if (this.isBoundTo(index, u, range)) {
+      return;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {}", Integer.valueOf(index), u);
+    }
+
+    GL30.glBindBufferBase(GL31.GL_UNIFORM_BUFFER, index, u.glName());
+    this.bindings[index] = u;
+    this.binding_ranges[index] = range;
+  }
+
+  @Override
+  public void uniformBufferBindIndexedRange(
+    final int index,
+    final JCGLUniformBufferUsableType u,
+    final UnsignedRangeInclusiveL range)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    this.checkIndex(index);
+    this.checkUniform(u);
+    JCGLUniformBufferBindings.checkBindingRange(u, range, this.alignment);
+
+    if (this.isBoundTo(index, u, range)) {
+      return;
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace("bind {} -> {} {}", Integer.valueOf(index), u, range);
+    }
+
+    GL30.glBindBufferRange(
+      GL31.GL_UNIFORM_BUFFER,
+      index,
+      u.glName(),
+      range.getLower(),
+      range.getInterval());
+    this.bindings[index] = u;
+    this.binding_ranges[index] = range;
+  }
+
+  private boolean isBoundTo(
+    final int index,
+    final JCGLUniformBufferUsableType u,
+    final UnsignedRangeInclusiveL range)
+  {
+    return Objects.equals(u, this.bindings[index])
+      && Objects.equals(range, this.binding_ranges[index]);
+  }
+
+  @Override
+  public void uniformBufferUnbindIndexed(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+
+    if (this.bindings[index] != null) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("unbind {}", Integer.valueOf(index));
+      }
+
+      GL30.glBindBufferBase(GL31.GL_UNIFORM_BUFFER, index, 0);
+      this.bindings[index] = null;
+      this.binding_ranges[index] = null;
+    }
+  }
+
+  @Override
+  public Optional<JCGLUniformBufferUsableType> uniformBufferGetIndexedBinding(
+    final int index)
+    throws JCGLException, RangeCheckException
+  {
+    this.checkIndex(index);
+    return Optional.ofNullable(this.bindings[index]);
+  }
+
+  @Override
+  public void uniformBlockBind(
+    final JCGLProgramUniformBlockType b,
+    final int index)
+    throws JCGLException, JCGLExceptionDeleted, RangeCheckException
+  {
+    NullCheck.notNull(b, "Uniform block");
+    this.checkIndex(index);
+
+    final LWJGL3ProgramShader p =
+      LWJGL3ProgramShader.checkProgramShader(this.context, b.program());
+    JCGLResources.checkNotDeleted(p);
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+        "[{}] uniform block {} -> {}",
+        p.name(),
+        b.name(),
+        Integer.valueOf(index));
+    }
+
+    GL31.glUniformBlockBinding(p.glName(), b.glName(), index);
+  }
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLArrayObjectBuilderType;
+import com.io7m.jcanephora.core.JCGLArrayObjectType;
+import com.io7m.jcanephora.core.JCGLArrayObjectUsableType;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLIndexBufferType;
+import com.io7m.jcanephora.core.JCGLIndexBufferUsableType;
+import com.io7m.jcanephora.core.JCGLResources;
+import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLArrayObjectsType;
+import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.Ranges;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default implementation of the {@link JCGLMeshArenaType} interface.
+ */
+
+public final class JCGLMeshArena implements JCGLMeshArenaType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JCGLMeshArena.class);
+  }
+
+  private final JCGLArrayBuffersType g_ab;
+  private final JCGLIndexBuffersType g_ib;
+  private final JCGLArrayObjectsType g_ao;
+  private final JCGLMeshArenaConfiguration config;
+  private final JCGLArrayBufferType array_buffer;
+  private final JCGLIndexBufferType index_buffer;
+  private final JCGLArrayObjectType array_object;
+  private final JCGLMeshArenaFreeList vertices_free;
+  private final JCGLMeshArenaFreeList indices_free;
+  private final List<Allocation> live;
+  private final long vertex_size;
+  private final long index_size;
+  private boolean deleted;
+
+  private JCGLMeshArena(
+    final JCGLArrayBuffersType in_g_ab,
+    final JCGLIndexBuffersType in_g_ib,
+    final JCGLArrayObjectsType in_g_ao,
+    final JCGLMeshArenaConfiguration in_config,
+    final JCGLArrayBufferType in_array_buffer,
+    final JCGLIndexBufferType in_index_buffer,
+    final JCGLArrayObjectType in_array_object)
+  {
+    this.g_ab = in_g_ab;
+    this.g_ib = in_g_ib;
+    this.g_ao = in_g_ao;
+    this.config = in_config;
+    this.array_buffer = in_array_buffer;
+    this.index_buffer = in_index_buffer;
+    this.array_object = in_array_object;
+    this.vertex_size = (long) in_config.vertexSizeBytes();
+    this.index_size = (long) in_config.indexType().getSizeBytes();
+    this.vertices_free = new JCGLMeshArenaFreeList(in_config.vertexCapacity());
+    this.indices_free = new JCGLMeshArenaFreeList(in_config.indexCapacity());
+    this.live = new ArrayList<>(128);
+  }
+
+  /**
+   * Create a new mesh arena. The arena's buffers and array object are
+   * allocated immediately. As a side effect, no array object and no array
+   * buffer will be bound when this method returns.
+   *
+   * @param g_ab   An array buffer interface
+   * @param g_ib   An index buffer interface
+   * @param g_ao   An array object interface
+   * @param config The arena configuration
+   * @param layout A function that configures the arena's vertex attributes
+   *
+   * @return A new arena
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  public static JCGLMeshArenaType create(
+    final JCGLArrayBuffersType g_ab,
+    final JCGLIndexBuffersType g_ib,
+    final JCGLArrayObjectsType g_ao,
+    final JCGLMeshArenaConfiguration config,
+    final JCGLMeshArenaLayoutType layout)
+    throws JCGLException
+  {
+    NullCheck.notNull(g_ab, "Array buffers");
+    NullCheck.notNull(g_ib, "Index buffers");
+    NullCheck.notNull(g_ao, "Array objects");
+    NullCheck.notNull(config, "Configuration");
+    NullCheck.notNull(layout, "Layout");
+
+    RangeCheck.checkIncludedInInteger(
+      config.vertexSizeBytes(),
+      "Vertex size",
+      Ranges.POSITIVE_INTEGER,
+      "Valid vertex sizes");
+    RangeCheck.checkIncludedInLong(
+      config.vertexCapacity(),
+      "Vertex capacity",
+      Ranges.POSITIVE_LONG,
+      "Valid vertex capacities");
+    RangeCheck.checkIncludedInLong(
+      config.indexCapacity(),
+      "Index capacity",
+      Ranges.POSITIVE_LONG,
+      "Valid index capacities");
+
+    LOG.debug(
+      "allocate arena {} vertices ({} bytes), {} indices ({})",
+      Long.valueOf(config.vertexCapacity()),
+      Integer.valueOf(config.vertexSizeBytes()),
+      Long.valueOf(config.indexCapacity()),
+      config.indexType());
+
+    g_ao.arrayObjectUnbind();
+
+    final JCGLArrayBufferType ab = g_ab.arrayBufferAllocate(
+      config.vertexCapacity() * (long) config.vertexSizeBytes(),
+      config.usageHint());
+    final JCGLIndexBufferType ib = g_ib.indexBufferAllocate(
+      config.indexCapacity(), config.indexType(), config.usageHint());
+
+    final JCGLArrayObjectBuilderType b = g_ao.arrayObjectNewBuilder();
+    b.setIndexBuffer(ib);
+    layout.configure(b, ab);
+    final JCGLArrayObjectType ao = g_ao.arrayObjectAllocate(b);
+
+    g_ao.arrayObjectUnbind();
+    g_ab.arrayBufferUnbind();
+    return new JCGLMeshArena(g_ab, g_ib, g_ao, config, ab, ib, ao);
+  }
+
+  private static long move(
+    final CopyType c,
+    final long from,
+    final long to,
+    final long size)
+  {
+    if (from == to) {
+      return 0L;
+    }
+
+    /*
+     * Blocks only ever move towards the start of the buffer. If the source
+     * and target ranges overlap, the block is moved in chunks no larger than
+     * the distance moved, so that no individual copy overlaps itself.
+     */
+
+    final long distance = from - to;
+    long done = 0L;
+    while (done < size) {
+      final long length = Math.min(distance, size - done);
+      c.copy(
+        new UnsignedRangeInclusiveL(from + done, from + done + length - 1L),
+        to + done);
+      done += length;
+    }
+    return size;
+  }
+
+  private Allocation checkAllocation(
+    final JCGLMeshArenaAllocationType a)
+  {
+    NullCheck.notNull(a, "Allocation");
+    JCGLResources.checkNotDeleted(this);
+
+    if (a instanceof Allocation) {
+      final Allocation aa = (Allocation) a;
+      if (Objects.equals(aa.arena, this) && !aa.freed) {
+        return aa;
+      }
+    }
+
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Allocation is not a live allocation of this arena.");
+    sb.append(System.lineSeparator());
+    sb.append("  Arena: ");
+    sb.append(this);
+    sb.append(System.lineSeparator());
+    sb.append("  Allocation: ");
+    sb.append(a);
+    sb.append(System.lineSeparator());
+    throw new JCGLExceptionMeshArenaAllocationInvalid(sb.toString());
+  }
+
+  @Override
+  public JCGLMeshArenaConfiguration configuration()
+  {
+    return this.config;
+  }
+
+  @Override
+  public JCGLArrayObjectUsableType arrayObject()
+  {
+    return this.array_object;
+  }
+
+  @Override
+  public JCGLArrayBufferUsableType arrayBuffer()
+  {
+    return this.array_buffer;
+  }
+
+  @Override
+  public JCGLIndexBufferUsableType indexBuffer()
+  {
+    return this.index_buffer;
+  }
+
+  @Override
+  public JCGLMeshArenaAllocationType allocate(
+    final long vertices,
+    final long indices)
+    throws JCGLExceptionMeshArenaExhausted
+  {
+    JCGLResources.checkNotDeleted(this);
+    RangeCheck.checkIncludedInLong(
+      vertices, "Vertex count", Ranges.POSITIVE_LONG, "Valid vertex counts");
+    RangeCheck.checkIncludedInLong(
+      indices, "Index count", Ranges.NATURAL_LONG, "Valid index counts");
+
+    final long v_offset = this.vertices_free.allocate(vertices);
+    if (v_offset < 0L) {
+      throw this.exhausted("vertices", vertices, this.vertices_free);
+    }
+
+    final long i_offset = this.indices_free.allocate(indices);
+    if (i_offset < 0L) {
+      this.vertices_free.release(v_offset, vertices);
+      throw this.exhausted("indices", indices, this.indices_free);
+    }
+
+    final Allocation a =
+      new Allocation(this, v_offset, vertices, i_offset, indices);
+    this.live.add(a);
+    return a;
+  }
+
+  private JCGLExceptionMeshArenaExhausted exhausted(
+    final String what,
+    final long requested,
+    final JCGLMeshArenaFreeList list)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("No free block is large enough for the requested ");
+    sb.append(what);
+    sb.append(".");
+    sb.append(System.lineSeparator());
+    sb.append("  Requested: ");
+    sb.append(requested);
+    sb.append(System.lineSeparator());
+    sb.append("  Free: ");
+    sb.append(list.freeTotal());
+    sb.append(System.lineSeparator());
+    sb.append("  Largest free block: ");
+    sb.append(list.freeLargest());
+    sb.append(System.lineSeparator());
+    return new JCGLExceptionMeshArenaExhausted(sb.toString());
+  }
+
+  @Override
+  public void free(
+    final JCGLMeshArenaAllocationType a)
+    throws JCGLExceptionMeshArenaAllocationInvalid
+  {
+    final Allocation aa = this.checkAllocation(a);
+    this.vertices_free.release(aa.vertex_offset, aa.vertex_count);
+    this.indices_free.release(aa.index_offset, aa.index_count);
+    aa.freed = true;
+    this.live.remove(aa);
+  }
+
+  @Override
+  public JCGLBufferUpdateType<JCGLArrayBufferType> vertexUpdate(
+    final JCGLMeshArenaAllocationType a)
+    throws JCGLExceptionMeshArenaAllocationInvalid
+  {
+    final Allocation aa = this.checkAllocation(a);
+    return JCGLBufferUpdates.newUpdateReplacingRange(
+      this.array_buffer, aa.vertexByteRange());
+  }
+
+  @Override
+  public JCGLBufferUpdateType<JCGLIndexBufferType> indexUpdate(
+    final JCGLMeshArenaAllocationType a)
+    throws JCGLExceptionMeshArenaAllocationInvalid, IllegalStateException
+  {
+    final Allocation aa = this.checkAllocation(a);
+    return JCGLBufferUpdates.newUpdateReplacingRange(
+      this.index_buffer, aa.indexByteRange());
+  }
+
+  @Override
+  public void updateVertices(
+    final JCGLBufferUpdateType<JCGLArrayBufferType> u)
+    throws JCGLException, IllegalArgumentException
+  {
+    NullCheck.notNull(u, "Update");
+    JCGLResources.checkNotDeleted(this);
+
+    if (!Objects.equals(u.buffer(), this.array_buffer)) {
+      throw new IllegalArgumentException(
+        "Update does not refer to the arena's array buffer");
+    }
+
+    this.g_ab.arrayBufferBind(this.array_buffer);
+    this.g_ab.arrayBufferUpdate(u);
+  }
+
+  @Override
+  public void updateIndices(
+    final JCGLBufferUpdateType<JCGLIndexBufferType> u)
+    throws JCGLException, IllegalArgumentException
+  {
+    NullCheck.notNull(u, "Update");
+    JCGLResources.checkNotDeleted(this);
+
+    if (!Objects.equals(u.buffer(), this.index_buffer)) {
+      throw new IllegalArgumentException(
+        "Update does not refer to the arena's index buffer");
+    }
+
+    this.g_ao.arrayObjectBind(this.array_object);
+    this.g_ib.indexBufferUpdate(u);
+  }
+
+  @Override
+  public long defragment()
+    throws JCGLException
+  {
+    JCGLResources.checkNotDeleted(this);
+
+    final JCGLArrayBufferType ab = this.array_buffer;
+    final JCGLIndexBufferType ib = this.index_buffer;
+    final CopyType copy_vertices =
+      (r, offset) -> this.g_ab.arrayBufferCopy(ab, r, ab, offset);
+    final CopyType copy_indices =
+      (r, offset) -> this.g_ib.indexBufferCopy(ib, r, ib, offset);
+
+    long moved = 0L;
+
+    this.live.sort(Comparator.comparingLong(a -> a.vertex_offset));
+    long v_cursor = 0L;
+    for (final Allocation a : this.live) {
+      moved += move(
+        copy_vertices,
+        a.vertex_offset * this.vertex_size,
+        v_cursor * this.vertex_size,
+        a.vertex_count * this.vertex_size);
+      a.vertex_offset = v_cursor;
+      v_cursor += a.vertex_count;
+    }
+    this.vertices_free.reset(v_cursor);
+
+    this.live.sort(Comparator.comparingLong(a -> a.index_offset));
+    long i_cursor = 0L;
+    for (final Allocation a : this.live) {
+      if (a.index_count > 0L) {
+        moved += move(
+          copy_indices,
+          a.index_offset * this.index_size,
+          i_cursor * this.index_size,
+          a.index_count * this.index_size);
+        a.index_offset = i_cursor;
+        i_cursor += a.index_count;
+      }
+    }
+    this.indices_free.reset(i_cursor);
+
+    LOG.debug(
+      "defragmented: {} allocations, {} bytes moved",
+      Integer.valueOf(this.live.size()),
+      Long.valueOf(moved));
+    return moved;
+  }
+
+  @Override
+  public JCGLMeshArenaStatistics statistics()
+  {
+    return JCGLMeshArenaStatistics.of(
+      (long) this.live.size(),
+      this.vertices_free.freeTotal(),
+      this.vertices_free.freeLargest(),
+      this.indices_free.freeTotal(),
+      this.indices_free.freeLargest());
+  }
+
+  @Override
+  public void delete()
+    throws JCGLException
+  {
+    JCGLResources.checkNotDeleted(this);
+
+    this.g_ao.arrayObjectUnbind();
+    this.g_ao.arrayObjectDelete(this.array_object);
+    this.g_ab.arrayBufferDelete(this.array_buffer);
+    this.g_ib.indexBufferDelete(this.index_buffer);
+
+    for (final Allocation a : this.live) {
+      a.freed = true;
+    }
+    this.live.clear();
+    this.deleted = true;
+  }
+
+  @Override
+  public boolean isDeleted()
+  {
+    return this.deleted;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("[JCGLMeshArena ");
+    sb.append(this.array_buffer);
+    sb.append(" ");
+    sb.append(this.index_buffer);
+    sb.append("]");
+    return sb.toString();
+  }
+
+  @FunctionalInterface
+  private interface CopyType
+  {
+    void copy(
+      UnsignedRangeInclusiveL source_range,
+      long target_offset);
+  }
+
+  private static final class Allocation implements JCGLMeshArenaAllocationType
+  {
+    private final JCGLMeshArena arena;
+    private final long vertex_count;
+    private final long index_count;
+    private long vertex_offset;
+    private long index_offset;
+    private boolean freed;
+
+    Allocation(
+      final JCGLMeshArena in_arena,
+      final long in_vertex_offset,
+      final long in_vertex_count,
+      final long in_index_offset,
+      final long in_index_count)
+    {
+      this.arena = in_arena;
+      this.vertex_offset = in_vertex_offset;
+      this.vertex_count = in_vertex_count;
+      this.index_offset = in_index_offset;
+      this.index_count = in_index_count;
+    }
+
+    @Override
+    public long baseVertex()
+    {
+      return this.vertex_offset;
+    }
+
+    @Override
+    public long vertexCount()
+    {
+      return this.vertex_count;
+    }
+
+    @Override
+    public long firstIndex()
+    {
+      return this.index_offset;
+    }
+
+    @Override
+    public long indexCount()
+    {
+      return this.index_count;
+    }
+
+    @Override
+    public UnsignedRangeInclusiveL vertexByteRange()
+    {
+      final long size = this.arena.vertex_size;
+      final long lower = this.vertex_offset * size;
+      return new UnsignedRangeInclusiveL(
+        lower, lower + (this.vertex_count * size) - 1L);
+    }
+
+    @Override
+    public UnsignedRangeInclusiveL indexByteRange()
+      throws IllegalStateException
+    {
+      if (this.index_count == 0L) {
+        throw new IllegalStateException("Allocation has no indices");
+      }
+
+      final long size = this.arena.index_size;
+      final long lower = this.index_offset * size;
+      return new UnsignedRangeInclusiveL(
+        lower, lower + (this.index_count * size) - 1L);
+    }
+
+    @Override
+    public boolean isFreed()
+    {
+      return this.freed;
+    }
+
+    @Override
+    public String toString()
+    {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("[Allocation vertices ");
+      sb.append(this.vertex_offset);
+      sb.append("+");
+      sb.append(this.vertex_count);
+      sb.append(" indices ");
+      sb.append(this.index_offset);
+      sb.append("+");
+      sb.append(this.index_count);
+      sb.append(this.freed ? " freed]" : "]");
+      return sb.toString();
+    }
+  }
+}
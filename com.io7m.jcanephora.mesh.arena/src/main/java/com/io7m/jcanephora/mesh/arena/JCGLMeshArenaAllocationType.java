@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+
+/**
+ * <p>The type of mesh allocations within an arena.</p>
+ *
+ * <p>An allocation reserves a contiguous block of vertices in the arena's
+ * array buffer and a contiguous block of indices in the arena's index buffer.
+ * Indices are stored relative to the first vertex of the allocation, and
+ * meshes are therefore expected to be drawn with a base vertex of
+ * {@link #baseVertex()}.</p>
+ *
+ * <p>The position of an allocation may change when the arena is defragmented,
+ * and so the values returned by {@link #baseVertex()} and {@link
+ * #firstIndex()} should not be cached across calls to {@link
+ * JCGLMeshArenaType#defragment()}.</p>
+ */
+
+public interface JCGLMeshArenaAllocationType
+{
+  /**
+   * @return The index of the first vertex of the allocation
+   */
+
+  long baseVertex();
+
+  /**
+   * @return The number of vertices in the allocation
+   */
+
+  long vertexCount();
+
+  /**
+   * @return The index of the first index of the allocation
+   */
+
+  long firstIndex();
+
+  /**
+   * @return The number of indices in the allocation
+   */
+
+  long indexCount();
+
+  /**
+   * @return The range of bytes occupied by the allocation in the arena's
+   * array buffer
+   */
+
+  UnsignedRangeInclusiveL vertexByteRange();
+
+  /**
+   * @return The range of bytes occupied by the allocation in the arena's
+   * index buffer
+   *
+   * @throws IllegalStateException Iff {@link #indexCount()} is {@code 0}
+   */
+
+  UnsignedRangeInclusiveL indexByteRange()
+    throws IllegalStateException;
+
+  /**
+   * @return {@code true} iff the allocation has been freed
+   */
+
+  boolean isFreed();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import org.immutables.value.Value;
+
+/**
+ * The configuration of a mesh arena.
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLMeshArenaConfigurationType
+{
+  /**
+   * @return The size in bytes of a single vertex
+   */
+
+  @Value.Parameter
+  int vertexSizeBytes();
+
+  /**
+   * @return The maximum number of vertices held by the arena
+   */
+
+  @Value.Parameter
+  long vertexCapacity();
+
+  /**
+   * @return The type of indices held by the arena
+   */
+
+  @Value.Parameter
+  JCGLUnsignedType indexType();
+
+  /**
+   * @return The maximum number of indices held by the arena
+   */
+
+  @Value.Parameter
+  long indexCapacity();
+
+  /**
+   * @return The usage hint for the arena's buffers
+   */
+
+  @Value.Default
+  default JCGLUsageHint usageHint()
+  {
+    return JCGLUsageHint.USAGE_STATIC_DRAW;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A first-fit free list over the range {@code [0, capacity)}. Blocks are
+ * keyed by their starting offset, and adjacent free blocks are coalesced
+ * when a block is released.
+ */
+
+final class JCGLMeshArenaFreeList
+{
+  private final long capacity;
+  private final TreeMap<Long, Long> free;
+  private long free_total;
+
+  JCGLMeshArenaFreeList(
+    final long in_capacity)
+  {
+    this.capacity = in_capacity;
+    this.free = new TreeMap<>();
+    this.reset(0L);
+  }
+
+  /**
+   * Mark everything below {@code used} as allocated, and everything at or
+   * above {@code used} as free.
+   *
+   * @param used The number of allocated elements at the start of the range
+   */
+
+  void reset(
+    final long used)
+  {
+    this.free.clear();
+    this.free_total = this.capacity - used;
+    if (this.free_total > 0L) {
+      this.free.put(Long.valueOf(used), Long.valueOf(this.free_total));
+    }
+  }
+
+  /**
+   * Allocate {@code size} elements.
+   *
+   * @param size The number of elements
+   *
+   * @return The offset of the allocated block, or {@code -1} if no free block
+   * is large enough
+   */
+
+  long allocate(
+    final long size)
+  {
+    if (size == 0L) {
+      return 0L;
+    }
+
+    final Iterator<Map.Entry<Long, Long>> iter =
+      this.free.entrySet().iterator();
+
+    while (iter.hasNext()) {
+      final Map.Entry<Long, Long> e = iter.next();
+      final long block_offset = e.getKey().longValue();
+      final long block_size = e.getValue().longValue();
+      if (block_size >= size) {
+        iter.remove();
+        if (block_size > size) {
+          this.free.put(
+            Long.valueOf(block_offset + size),
+            Long.valueOf(block_size - size));
+        }
+        this.free_total -= size;
+        return block_offset;
+      }
+    }
+
+    return -1L;
+  }
+
+  /**
+   * Release the block of {@code size} elements at {@code offset}.
+   *
+   * @param offset The offset of the block
+   * @param size   The number of elements
+   */
+
+  void release(
+    final long offset,
+    final long size)
+  {
+    if (size == 0L) {
+      return;
+    }
+
+    long new_offset = offset;
+    long new_size = size;
+
+    final Map.Entry<Long, Long> lower =
+      this.free.lowerEntry(Long.valueOf(offset));
+    if (lower != null) {
+      final long l_offset = lower.getKey().longValue();
+      final long l_size = lower.getValue().longValue();
+      if (l_offset + l_size == offset) {
+        this.free.remove(lower.getKey());
+        new_offset = l_offset;
+        new_size += l_size;
+      }
+    }
+
+    final Long upper_key = Long.valueOf(offset + size);
+    final Long upper_size = this.free.remove(upper_key);
+    if (upper_size != null) {
+      new_size += upper_size.longValue();
+    }
+
+    this.free.put(Long.valueOf(new_offset), Long.valueOf(new_size));
+    this.free_total += size;
+  }
+
+  /**
+   * @return The total number of free elements
+   */
+
+  long freeTotal()
+  {
+    return this.free_total;
+  }
+
+  /**
+   * @return The size of the largest free block
+   */
+
+  long freeLargest()
+  {
+    long largest = 0L;
+    for (final Long size : this.free.values()) {
+      largest = Math.max(largest, size.longValue());
+    }
+    return largest;
+  }
+}
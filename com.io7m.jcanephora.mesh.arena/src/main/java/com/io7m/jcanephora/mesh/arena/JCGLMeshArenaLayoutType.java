@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLArrayObjectBuilderType;
+
+/**
+ * A function that configures the vertex attributes of the single array object
+ * shared by all meshes in an arena.
+ */
+
+@FunctionalInterface
+public interface JCGLMeshArenaLayoutType
+{
+  /**
+   * Configure the vertex attributes of {@code b}. All attributes are expected
+   * to be sourced from {@code a}, the array buffer that holds the vertices of
+   * every mesh in the arena. The index buffer of {@code b} has already been
+   * set and must not be changed.
+   *
+   * @param b The array object builder
+   * @param a The arena's array buffer
+   */
+
+  void configure(
+    JCGLArrayObjectBuilderType b,
+    JCGLArrayBufferUsableType a);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Statistics describing the current occupancy of a mesh arena.
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLMeshArenaStatisticsType
+{
+  /**
+   * @return The number of live allocations
+   */
+
+  @Value.Parameter
+  long allocations();
+
+  /**
+   * @return The number of vertices that are not allocated
+   */
+
+  @Value.Parameter
+  long verticesFree();
+
+  /**
+   * @return The size of the largest contiguous block of free vertices
+   */
+
+  @Value.Parameter
+  long verticesFreeLargestBlock();
+
+  /**
+   * @return The number of indices that are not allocated
+   */
+
+  @Value.Parameter
+  long indicesFree();
+
+  /**
+   * @return The size of the largest contiguous block of free indices
+   */
+
+  @Value.Parameter
+  long indicesFreeLargestBlock();
+}
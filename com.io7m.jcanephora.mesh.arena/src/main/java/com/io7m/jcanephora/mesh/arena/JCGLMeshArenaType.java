@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.mesh.arena;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLArrayBufferUsableType;
+import com.io7m.jcanephora.core.JCGLArrayObjectUsableType;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLIndexBufferType;
+import com.io7m.jcanephora.core.JCGLIndexBufferUsableType;
+import com.io7m.jcanephora.core.JCGLResourceUsableType;
+
+/**
+ * <p>The type of mesh arenas.</p>
+ *
+ * <p>A mesh arena owns a single array buffer, a single index buffer, and a
+ * single array object that refers to both. Meshes are sub-allocated from the
+ * buffers using a first-fit free list, and so any number of meshes may be
+ * drawn without binding a different array object.</p>
+ *
+ * <p>Mesh arenas are not thread-safe, and must only be used from the thread
+ * that owns the OpenGL context in which they were created.</p>
+ */
+
+public interface JCGLMeshArenaType extends JCGLResourceUsableType
+{
+  /**
+   * @return The arena configuration
+   */
+
+  JCGLMeshArenaConfiguration configuration();
+
+  /**
+   * @return The array object shared by all meshes in the arena
+   */
+
+  JCGLArrayObjectUsableType arrayObject();
+
+  /**
+   * @return The array buffer that holds the vertices of all meshes
+   */
+
+  JCGLArrayBufferUsableType arrayBuffer();
+
+  /**
+   * @return The index buffer that holds the indices of all meshes
+   */
+
+  JCGLIndexBufferUsableType indexBuffer();
+
+  /**
+   * Allocate space for a mesh with {@code vertices} vertices and {@code
+   * indices} indices. The contents of the allocated space are undefined until
+   * specified with {@link #updateVertices(JCGLBufferUpdateType)} and {@link
+   * #updateIndices(JCGLBufferUpdateType)}.
+   *
+   * @param vertices The number of vertices (must be positive)
+   * @param indices  The number of indices (may be {@code 0} for non-indexed
+   *                 meshes)
+   *
+   * @return A new allocation
+   *
+   * @throws JCGLExceptionMeshArenaExhausted Iff there is no free block large
+   *                                         enough for the mesh
+   */
+
+  JCGLMeshArenaAllocationType allocate(
+    long vertices,
+    long indices)
+    throws JCGLExceptionMeshArenaExhausted;
+
+  /**
+   * Free the allocation {@code a}, returning the space it occupied to the
+   * arena. Adjacent free blocks are coalesced.
+   *
+   * @param a The allocation
+   *
+   * @throws JCGLExceptionMeshArenaAllocationInvalid Iff {@code a} has already
+   *                                                 been freed, or was not
+   *                                                 created by this arena
+   */
+
+  void free(
+    JCGLMeshArenaAllocationType a)
+    throws JCGLExceptionMeshArenaAllocationInvalid;
+
+  /**
+   * Create an update that will replace the vertices of the allocation {@code
+   * a}.
+   *
+   * @param a The allocation
+   *
+   * @return A new update
+   *
+   * @throws JCGLExceptionMeshArenaAllocationInvalid Iff {@code a} is not a
+   *                                                 live allocation of this
+   *                                                 arena
+   */
+
+  JCGLBufferUpdateType<JCGLArrayBufferType> vertexUpdate(
+    JCGLMeshArenaAllocationType a)
+    throws JCGLExceptionMeshArenaAllocationInvalid;
+
+  /**
+   * Create an update that will replace the indices of the allocation {@code
+   * a}. Indices are relative to the allocation's base vertex.
+   *
+   * @param a The allocation
+   *
+   * @return A new update
+   *
+   * @throws JCGLExceptionMeshArenaAllocationInvalid Iff {@code a} is not a
+   *                                                 live allocation of this
+   *                                                 arena
+   * @throws IllegalStateException                   Iff {@code a} has no
+   *                                                 indices
+   */
+
+  JCGLBufferUpdateType<JCGLIndexBufferType> indexUpdate(
+    JCGLMeshArenaAllocationType a)
+    throws JCGLExceptionMeshArenaAllocationInvalid, IllegalStateException;
+
+  /**
+   * Upload vertex data to the arena's array buffer. As a side effect, the
+   * arena's array buffer will be bound.
+   *
+   * @param u The update
+   *
+   * @throws JCGLException            Iff an OpenGL error occurs
+   * @throws IllegalArgumentException Iff the update does not refer to the
+   *                                  arena's array buffer
+   */
+
+  void updateVertices(
+    JCGLBufferUpdateType<JCGLArrayBufferType> u)
+    throws JCGLException, IllegalArgumentException;
+
+  /**
+   * Upload index data to the arena's index buffer. As a side effect, the
+   * arena's array object will be bound.
+   *
+   * @param u The update
+   *
+   * @throws JCGLException            Iff an OpenGL error occurs
+   * @throws IllegalArgumentException Iff the update does not refer to the
+   *                                  arena's index buffer
+   */
+
+  void updateIndices(
+    JCGLBufferUpdateType<JCGLIndexBufferType> u)
+    throws JCGLException, IllegalArgumentException;
+
+  /**
+   * Compact all live allocations towards the start of the arena's buffers,
+   * leaving a single contiguous free block at the end of each buffer. Data
+   * is moved entirely on the GPU using buffer-to-buffer copies, and the
+   * array object shared by the arena's meshes remains valid. The base vertex
+   * and first index of any allocation may change.
+   *
+   * @return The number of bytes moved
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  long defragment()
+    throws JCGLException;
+
+  /**
+   * @return The current arena statistics
+   */
+
+  JCGLMeshArenaStatistics statistics();
+
+  /**
+   * Delete the arena, deleting its array object and buffers. All allocations
+   * become invalid.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  void delete()
+    throws JCGLException;
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Arrays;
+
+/**
+ * <p>Functions for measuring the post-transform vertex cache efficiency of
+ * triangle lists.</p>
+ *
+ * <p>The cache is simulated as a FIFO of the given size, which is how most
+ * hardware has historically behaved.</p>
+ */
+
+public final class JCGLMeshCacheAnalysis
+{
+  private JCGLMeshCacheAnalysis()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Simulate a FIFO post-transform cache of {@code cache_size} entries and
+   * count the cache misses incurred by rendering the triangle list {@code
+   * indices}.
+   *
+   * @param indices      The triangle list
+   * @param vertex_count The number of vertices referenced by {@code indices}
+   * @param cache_size   The size of the simulated cache
+   *
+   * @return The number of vertices transformed
+   *
+   * @throws RangeCheckException Iff {@code cache_size} is not positive, or
+   *                             {@code indices} is not a valid triangle list
+   * @see JCGLMeshIndices#checkTriangleList(int[], int)
+   */
+
+  public static long misses(
+    final int[] indices,
+    final int vertex_count,
+    final int cache_size)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(indices, "Indices");
+    RangeCheck.checkIncludedInInteger(
+      cache_size, "Cache size", Ranges.POSITIVE_INTEGER, "Valid cache sizes");
+    JCGLMeshIndices.checkTriangleList(indices, vertex_count);
+
+    /*
+     * A vertex is in the FIFO iff it was inserted fewer than cache_size
+     * insertions ago. Recording the insertion "time" of each vertex avoids
+     * having to maintain the FIFO itself.
+     */
+
+    final long[] inserted = new long[vertex_count];
+    Arrays.fill(inserted, Long.MIN_VALUE / 2L);
+
+    long time = 0L;
+    long misses = 0L;
+    for (int index = 0; index < indices.length; ++index) {
+      final int vertex = indices[index];
+      if (time - inserted[vertex] > (long) cache_size) {
+        inserted[vertex] = time;
+        ++time;
+        ++misses;
+      }
+    }
+    return misses;
+  }
+
+  /**
+   * Calculate the <i>average cache miss ratio</i> of the given triangle list.
+   * The ratio is the number of transformed vertices divided by the number of
+   * triangles, and falls in the range {@code [0.5, 3.0]} for typical meshes.
+   * Lower values are better.
+   *
+   * @param indices      The triangle list
+   * @param vertex_count The number of vertices referenced by {@code indices}
+   * @param cache_size   The size of the simulated cache
+   *
+   * @return The ACMR, or {@code 0.0} if there are no triangles
+   *
+   * @throws RangeCheckException Iff {@code cache_size} is not positive, or
+   *                             {@code indices} is not a valid triangle list
+   * @see #misses(int[], int, int)
+   */
+
+  public static double acmr(
+    final int[] indices,
+    final int vertex_count,
+    final int cache_size)
+    throws RangeCheckException
+  {
+    final long misses = misses(indices, vertex_count, cache_size);
+    final int triangles = indices.length / 3;
+    if (triangles == 0) {
+      return 0.0;
+    }
+    return (double) misses / (double) triangles;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import org.immutables.value.Value;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The CPU-side data of an indexed triangle mesh.</p>
+ *
+ * <p>Vertices are interleaved at a fixed stride starting at offset {@code 0}
+ * of {@link #vertices()}, and indices start at offset {@code 0} of {@link
+ * #indices()}. Index data is read in the byte order of the index buffer.</p>
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLMeshDataType
+{
+  /**
+   * @return The vertex data
+   */
+
+  @Value.Parameter
+  ByteBuffer vertices();
+
+  /**
+   * @return The size in bytes of a single vertex
+   */
+
+  @Value.Parameter
+  int vertexStride();
+
+  /**
+   * @return The number of vertices
+   */
+
+  @Value.Parameter
+  int vertexCount();
+
+  /**
+   * @return The index data
+   */
+
+  @Value.Parameter
+  ByteBuffer indices();
+
+  /**
+   * @return The type of the indices
+   */
+
+  @Value.Parameter
+  JCGLUnsignedType indexType();
+
+  /**
+   * @return The number of indices
+   */
+
+  @Value.Parameter
+  int indexCount();
+}
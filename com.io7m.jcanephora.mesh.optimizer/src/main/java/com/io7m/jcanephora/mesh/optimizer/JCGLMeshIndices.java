@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Functions for reading, writing, and narrowing index data.
+ */
+
+public final class JCGLMeshIndices
+{
+  private JCGLMeshIndices()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Determine the smallest unsigned type that can represent {@code
+   * max_index}.
+   *
+   * @param max_index The largest index value
+   *
+   * @return The smallest type that can hold {@code max_index}
+   *
+   * @throws RangeCheckException Iff {@code max_index} is negative or cannot
+   *                             be represented by any unsigned type
+   */
+
+  public static JCGLUnsignedType smallestTypeFor(
+    final long max_index)
+    throws RangeCheckException
+  {
+    RangeCheck.checkIncludedInLong(
+      max_index, "Index", Ranges.NATURAL_LONG, "Valid indices");
+
+    if (max_index <= 0xffL) {
+      return JCGLUnsignedType.TYPE_UNSIGNED_BYTE;
+    }
+    if (max_index <= 0xffffL) {
+      return JCGLUnsignedType.TYPE_UNSIGNED_SHORT;
+    }
+    if (max_index <= 0xffffffffL) {
+      return JCGLUnsignedType.TYPE_UNSIGNED_INT;
+    }
+
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Index is too large to be represented by any unsigned type.");
+    sb.append(System.lineSeparator());
+    sb.append("  Index: ");
+    sb.append(max_index);
+    sb.append(System.lineSeparator());
+    throw new RangeCheckException(sb.toString());
+  }
+
+  /**
+   * Read {@code count} indices of type {@code type} from {@code data},
+   * starting at index {@code 0}. The byte order of {@code data} is respected,
+   * and the position of {@code data} is not modified.
+   *
+   * @param data  The index data
+   * @param type  The type of the indices
+   * @param count The number of indices
+   *
+   * @return The indices
+   *
+   * @throws RangeCheckException Iff {@code data} is too small to hold {@code
+   *                             count} indices, or an index is too large to
+   *                             be represented as a non-negative {@code int}
+   */
+
+  public static int[] read(
+    final ByteBuffer data,
+    final JCGLUnsignedType type,
+    final int count)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(type, "Type");
+    checkCapacity(data, type, count);
+
+    final int[] indices = new int[count];
+    switch (type) {
+      case TYPE_UNSIGNED_BYTE: {
+        for (int index = 0; index < count; ++index) {
+          indices[index] = (int) data.get(index) & 0xff;
+        }
+        return indices;
+      }
+      case TYPE_UNSIGNED_SHORT: {
+        for (int index = 0; index < count; ++index) {
+          indices[index] = (int) data.getShort(index * 2) & 0xffff;
+        }
+        return indices;
+      }
+      case TYPE_UNSIGNED_INT: {
+        for (int index = 0; index < count; ++index) {
+          final int value = data.getInt(index * 4);
+          if (value < 0) {
+            final StringBuilder sb = new StringBuilder(128);
+            sb.append("Index is too large.");
+            sb.append(System.lineSeparator());
+            sb.append("  Position: ");
+            sb.append(index);
+            sb.append(System.lineSeparator());
+            sb.append("  Index: ");
+            sb.append(Integer.toUnsignedString(value));
+            sb.append(System.lineSeparator());
+            throw new RangeCheckException(sb.toString());
+          }
+          indices[index] = value;
+        }
+        return indices;
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Write {@code indices} to a new direct buffer in native byte order as
+   * values of type {@code type}.
+   *
+   * @param indices The indices
+   * @param type    The type of the written indices
+   *
+   * @return A new buffer
+   *
+   * @throws RangeCheckException Iff any index cannot be represented by
+   *                             {@code type}
+   */
+
+  public static ByteBuffer write(
+    final int[] indices,
+    final JCGLUnsignedType type)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(indices, "Indices");
+    NullCheck.notNull(type, "Type");
+
+    final int max = maximum(indices);
+    final JCGLUnsignedType smallest = smallestTypeFor((long) max);
+    if (smallest.getSizeBytes() > type.getSizeBytes()) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Index type is too small for the given indices.");
+      sb.append(System.lineSeparator());
+      sb.append("  Type: ");
+      sb.append(type);
+      sb.append(System.lineSeparator());
+      sb.append("  Maximum index: ");
+      sb.append(max);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+
+    final ByteBuffer data =
+      ByteBuffer.allocateDirect(indices.length * type.getSizeBytes())
+        .order(ByteOrder.nativeOrder());
+
+    switch (type) {
+      case TYPE_UNSIGNED_BYTE: {
+        for (int index = 0; index < indices.length; ++index) {
+          data.put(index, (byte) indices[index]);
+        }
+        return data;
+      }
+      case TYPE_UNSIGNED_SHORT: {
+        for (int index = 0; index < indices.length; ++index) {
+          data.putShort(index * 2, (short) indices[index]);
+        }
+        return data;
+      }
+      case TYPE_UNSIGNED_INT: {
+        for (int index = 0; index < indices.length; ++index) {
+          data.putInt(index * 4, indices[index]);
+        }
+        return data;
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Narrow the given index data to the smallest unsigned type that can
+   * represent every index, but not smaller than {@code minimum}. Some
+   * implementations handle {@link JCGLUnsignedType#TYPE_UNSIGNED_BYTE}
+   * indices poorly, so callers may wish to pass {@link
+   * JCGLUnsignedType#TYPE_UNSIGNED_SHORT} as the minimum.
+   *
+   * @param indices The indices
+   * @param minimum The smallest acceptable type
+   *
+   * @return The narrowest acceptable index type
+   */
+
+  public static JCGLUnsignedType narrowestType(
+    final int[] indices,
+    final JCGLUnsignedType minimum)
+  {
+    NullCheck.notNull(indices, "Indices");
+    NullCheck.notNull(minimum, "Minimum");
+
+    final JCGLUnsignedType smallest =
+      smallestTypeFor((long) maximum(indices));
+    if (smallest.getSizeBytes() < minimum.getSizeBytes()) {
+      return minimum;
+    }
+    return smallest;
+  }
+
+  /**
+   * @param indices The indices
+   *
+   * @return The largest of the given indices, or {@code 0} if there are no
+   * indices
+   */
+
+  public static int maximum(
+    final int[] indices)
+  {
+    NullCheck.notNull(indices, "Indices");
+
+    int max = 0;
+    for (int index = 0; index < indices.length; ++index) {
+      max = Math.max(max, indices[index]);
+    }
+    return max;
+  }
+
+  /**
+   * Check that {@code indices} is a valid triangle list: The number of
+   * indices must be a multiple of three, and every index must be less than
+   * {@code vertex_count}.
+   *
+   * @param indices      The triangle list
+   * @param vertex_count The number of vertices
+   *
+   * @throws RangeCheckException Iff the triangle list is not valid
+   */
+
+  public static void checkTriangleList(
+    final int[] indices,
+    final int vertex_count)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(indices, "Indices");
+    RangeCheck.checkIncludedInInteger(
+      vertex_count, "Vertex count", Ranges.NATURAL_INTEGER, "Valid counts");
+
+    if (indices.length % 3 != 0) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Index count must be a multiple of three.");
+      sb.append(System.lineSeparator());
+      sb.append("  Index count: ");
+      sb.append(indices.length);
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+
+    for (int index = 0; index < indices.length; ++index) {
+      final int value = indices[index];
+      if (value < 0 || value >= vertex_count) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Index refers to a nonexistent vertex.");
+        sb.append(System.lineSeparator());
+        sb.append("  Position: ");
+        sb.append(index);
+        sb.append(System.lineSeparator());
+        sb.append("  Index: ");
+        sb.append(value);
+        sb.append(System.lineSeparator());
+        sb.append("  Vertex count: ");
+        sb.append(vertex_count);
+        sb.append(System.lineSeparator());
+        throw new RangeCheckException(sb.toString());
+      }
+    }
+  }
+
+  private static void checkCapacity(
+    final ByteBuffer data,
+    final JCGLUnsignedType type,
+    final int count)
+  {
+    RangeCheck.checkIncludedInInteger(
+      count, "Index count", Ranges.NATURAL_INTEGER, "Valid index counts");
+    RangeCheck.checkLessEqualLong(
+      (long) count * (long) type.getSizeBytes(),
+      "Required size",
+      (long) data.capacity(),
+      "Buffer capacity");
+  }
+}
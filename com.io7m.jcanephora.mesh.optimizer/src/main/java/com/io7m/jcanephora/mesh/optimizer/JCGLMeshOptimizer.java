@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The default implementation of the {@link JCGLMeshOptimizerType} interface.
+ */
+
+public final class JCGLMeshOptimizer implements JCGLMeshOptimizerType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JCGLMeshOptimizer.class);
+  }
+
+  private final JCGLMeshOptimizerConfiguration config;
+
+  private JCGLMeshOptimizer(
+    final JCGLMeshOptimizerConfiguration in_config)
+  {
+    this.config = NullCheck.notNull(in_config, "Config");
+
+    RangeCheck.checkGreaterEqualInteger(
+      in_config.optimizationCacheSize(),
+      "Optimization cache size",
+      JCGLMeshVertexCacheOptimizer.CACHE_SIZE_MINIMUM,
+      "Minimum cache size");
+    RangeCheck.checkIncludedInInteger(
+      in_config.analysisCacheSize(),
+      "Analysis cache size",
+      Ranges.POSITIVE_INTEGER,
+      "Valid cache sizes");
+  }
+
+  /**
+   * Create a new optimizer.
+   *
+   * @param in_config The optimizer configuration
+   *
+   * @return A new optimizer
+   *
+   * @throws RangeCheckException Iff the cache sizes in the configuration are
+   *                             out of range
+   */
+
+  public static JCGLMeshOptimizerType create(
+    final JCGLMeshOptimizerConfiguration in_config)
+    throws RangeCheckException
+  {
+    return new JCGLMeshOptimizer(in_config);
+  }
+
+  private static void checkMesh(
+    final JCGLMeshData mesh)
+  {
+    RangeCheck.checkIncludedInInteger(
+      mesh.vertexStride(),
+      "Vertex stride",
+      Ranges.POSITIVE_INTEGER,
+      "Valid strides");
+    RangeCheck.checkIncludedInInteger(
+      mesh.vertexCount(),
+      "Vertex count",
+      Ranges.NATURAL_INTEGER,
+      "Valid counts");
+    RangeCheck.checkLessEqualLong(
+      (long) mesh.vertexCount() * (long) mesh.vertexStride(),
+      "Required vertex data size",
+      (long) mesh.vertices().capacity(),
+      "Vertex buffer capacity");
+  }
+
+  @Override
+  public JCGLMeshOptimizerConfiguration configuration()
+  {
+    return this.config;
+  }
+
+  @Override
+  public JCGLMeshOptimizerResult optimize(
+    final JCGLMeshData mesh)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(mesh, "Mesh");
+    checkMesh(mesh);
+
+    final int vertex_count = mesh.vertexCount();
+    final int[] indices_original = JCGLMeshIndices.read(
+      mesh.indices(), mesh.indexType(), mesh.indexCount());
+    JCGLMeshIndices.checkTriangleList(indices_original, vertex_count);
+
+    final int analysis_size = this.config.analysisCacheSize();
+    final double acmr_before = JCGLMeshCacheAnalysis.acmr(
+      indices_original, vertex_count, analysis_size);
+
+    int[] indices = indices_original;
+    if (this.config.reorderTriangles()) {
+      indices = JCGLMeshVertexCacheOptimizer.optimize(
+        indices, vertex_count, this.config.optimizationCacheSize());
+    }
+
+    final ByteBuffer vertices;
+    if (this.config.reorderVertices()) {
+      final int[] remap =
+        JCGLMeshVertexFetchOptimizer.remap(indices, vertex_count);
+      indices = JCGLMeshVertexFetchOptimizer.remapIndices(indices, remap);
+      vertices = JCGLMeshVertexFetchOptimizer.remapVertices(
+        mesh.vertices(), mesh.vertexStride(), remap);
+    } else {
+      final int size = vertex_count * mesh.vertexStride();
+      final ByteBuffer source = mesh.vertices().duplicate();
+      source.limit(size);
+      source.position(0);
+      vertices = ByteBuffer.allocateDirect(size).order(source.order());
+      vertices.put(source);
+      vertices.rewind();
+    }
+
+    final double acmr_after =
+      JCGLMeshCacheAnalysis.acmr(indices, vertex_count, analysis_size);
+
+    final JCGLUnsignedType index_type = JCGLMeshIndices.narrowestType(
+      indices, this.config.indexTypeMinimum());
+    final ByteBuffer index_data = JCGLMeshIndices.write(indices, index_type);
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+        "optimized {} triangles: ACMR {} -> {}, indices {} -> {}",
+        Integer.valueOf(indices.length / 3),
+        String.format("%.3f", Double.valueOf(acmr_before)),
+        String.format("%.3f", Double.valueOf(acmr_after)),
+        mesh.indexType(),
+        index_type);
+    }
+
+    return JCGLMeshOptimizerResult.of(
+      JCGLMeshData.of(
+        vertices,
+        mesh.vertexStride(),
+        vertex_count,
+        index_data,
+        index_type,
+        indices.length),
+      acmr_before,
+      acmr_after);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import org.immutables.value.Value;
+
+/**
+ * Configuration values for mesh optimizers.
+ *
+ * @see JCGLMeshOptimizer
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLMeshOptimizerConfigurationType
+{
+  /**
+   * @return {@code true} iff triangles should be reordered for post-transform
+   * vertex cache efficiency
+   *
+   * @see JCGLMeshVertexCacheOptimizer
+   */
+
+  @Value.Default
+  default boolean reorderTriangles()
+  {
+    return true;
+  }
+
+  /**
+   * @return {@code true} iff vertices should be reordered for vertex fetch
+   * locality
+   *
+   * @see JCGLMeshVertexFetchOptimizer
+   */
+
+  @Value.Default
+  default boolean reorderVertices()
+  {
+    return true;
+  }
+
+  /**
+   * @return The size of the LRU cache modelled when reordering triangles
+   */
+
+  @Value.Default
+  default int optimizationCacheSize()
+  {
+    return 32;
+  }
+
+  /**
+   * @return The size of the FIFO cache simulated when calculating the ACMR
+   * of meshes
+   *
+   * @see JCGLMeshCacheAnalysis
+   */
+
+  @Value.Default
+  default int analysisCacheSize()
+  {
+    return 16;
+  }
+
+  /**
+   * @return The smallest index type that will be produced when narrowing
+   * indices. Some implementations handle {@link
+   * JCGLUnsignedType#TYPE_UNSIGNED_BYTE} indices poorly, and so {@link
+   * JCGLUnsignedType#TYPE_UNSIGNED_SHORT} may be a better choice on those
+   * implementations.
+   */
+
+  @Value.Default
+  default JCGLUnsignedType indexTypeMinimum()
+  {
+    return JCGLUnsignedType.TYPE_UNSIGNED_BYTE;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+/**
+ * The result of optimizing a mesh.
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLMeshOptimizerResultType
+{
+  /**
+   * @return The optimized mesh
+   */
+
+  @Value.Parameter
+  JCGLMeshData mesh();
+
+  /**
+   * @return The average cache miss ratio of the original mesh
+   *
+   * @see JCGLMeshCacheAnalysis#acmr(int[], int, int)
+   */
+
+  @Value.Parameter
+  double acmrBefore();
+
+  /**
+   * @return The average cache miss ratio of the optimized mesh
+   *
+   * @see JCGLMeshCacheAnalysis#acmr(int[], int, int)
+   */
+
+  @Value.Parameter
+  double acmrAfter();
+}
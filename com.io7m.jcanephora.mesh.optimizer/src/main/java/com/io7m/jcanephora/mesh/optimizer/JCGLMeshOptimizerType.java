@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jranges.RangeCheckException;
+
+/**
+ * <p>The type of mesh optimizers.</p>
+ *
+ * <p>A mesh optimizer rewrites the CPU-side data of an indexed triangle
+ * mesh before it is uploaded to array and index buffers. The triangles are
+ * reordered for post-transform vertex cache efficiency, the vertices are
+ * reordered for fetch locality, and the indices are narrowed to the smallest
+ * type that can represent them. The rendered result is unchanged.</p>
+ *
+ * <p>Mesh optimizers do not require an OpenGL context, and are safe to use
+ * from any thread.</p>
+ */
+
+public interface JCGLMeshOptimizerType
+{
+  /**
+   * @return The optimizer configuration
+   */
+
+  JCGLMeshOptimizerConfiguration configuration();
+
+  /**
+   * Optimize the given mesh. The given mesh is not modified, and the buffers
+   * of the returned mesh are new direct buffers.
+   *
+   * @param mesh The mesh
+   *
+   * @return The optimized mesh, along with cache statistics
+   *
+   * @throws RangeCheckException Iff the buffers of the mesh are too small for
+   *                             the declared vertex and index counts, or the
+   *                             indices do not form a valid triangle list
+   */
+
+  JCGLMeshOptimizerResult optimize(JCGLMeshData mesh)
+    throws RangeCheckException;
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.mesh.optimizer;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.Ranges;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>Vertex reordering for vertex fetch locality.</p>
+ *
+ * <p>Vertices are renumbered in the order in which they are first referenced
+ * by the index data, so that the vertex fetches of a triangle list sweep
+ * through memory as linearly as possible. Triangles should be reordered
+ * with {@link JCGLMeshVertexCacheOptimizer} first, as the vertex order is
+ * derived from the triangle order.</p>
+ */
+
+public final class JCGLMeshVertexFetchOptimizer
+{
+  private JCGLMeshVertexFetchOptimizer()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate a vertex remapping table for the given triangle list. Element
+   * {@code i} of the returned table is the new position of vertex {@code i}.
+   * Vertices that are not referenced by any index are placed after all
+   * referenced vertices, in their original order.
+   *
+   * @param indices      The triangle list
+   * @param vertex_count The number of vertices referenced by {@code indices}
+   *
+   * @return A remapping table of length {@code vertex_count}
+   *
+   * @throws RangeCheckException Iff {@code indices} is not a valid triangle
+   *                             list
+   * @see JCGLMeshIndices#checkTriangleList(int[], int)
+   */
+
+  public static int[] remap(
+    final int[] indices,
+    final int vertex_count)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(indices, "Indices");
+    JCGLMeshIndices.checkTriangleList(indices, vertex_count);
+
+    final int[] remap = new int[vertex_count];
+    Arrays.fill(remap, -1);
+
+    int next = 0;
+    for (int index = 0; index < indices.length; ++index) {
+      final int vertex = indices[index];
+      if (remap[vertex] < 0) {
+        remap[vertex] = next;
+        ++next;
+      }
+    }
+
+    for (int vertex = 0; vertex < vertex_count; ++vertex) {
+      if (remap[vertex] < 0) {
+        remap[vertex] = next;
+        ++next;
+      }
+    }
+
+    return remap;
+  }
+
+  /**
+   * Apply a remapping table to index data.
+   *
+   * @param indices The indices
+   * @param remap   The remapping table
+   *
+   * @return A new array of remapped indices
+   *
+   * @see #remap(int[], int)
+   */
+
+  public static int[] remapIndices(
+    final int[] indices,
+    final int[] remap)
+  {
+    NullCheck.notNull(indices, "Indices");
+    NullCheck.notNull(remap, "Remap");
+
+    final int[] output = new int[indices.length];
+    for (int index = 0; index < indices.length; ++index) {
+      output[index] = remap[indices[index]];
+    }
+    return output;
+  }
+
+  /**
+   * Apply a remapping table to vertex data. The returned buffer is a new
+   * direct buffer with the same byte order as {@code vertices}. The position
+   * of {@code vertices} is not modified.
+   *
+   * @param vertices The vertex data
+   * @param stride   The size in bytes of a single vertex
+   * @param remap    The remapping table
+   *
+   * @return A new buffer of {@code remap.length} reordered vertices
+   *
+   * @throws RangeCheckException Iff {@code stride} is not positive, or
+   *                             {@code vertices} is too small to hold {@code
+   *                             remap.length} vertices
+   * @see #remap(int[], int)
+   */
+
+  public static ByteBuffer remapVertices(
+    final ByteBuffer vertices,
+    final int stride,
+    final int[] remap)
+    throws RangeCheckException
+  {
+    NullCheck.notNull(vertices, "Vertices");
+    NullCheck.notNull(remap, "Remap");
+    RangeCheck.checkIncludedInInteger(
+      stride, "Stride", Ranges.POSITIVE_INTEGER, "Valid strides");
+
+    final long size = (long) remap.length * (long) stride;
+    RangeCheck.checkLessEqualLong(
+      size, "Required size", (long) vertices.capacity(), "Buffer capacity");
+
+    final ByteBuffer source = vertices.duplicate();
+    final ByteBuffer target =
+      ByteBuffer.allocateDirect((int) size).order(vertices.order());
+
+    for (int vertex = 0; vertex < remap.length; ++vertex) {
+      final int source_offset = vertex * stride;
+      source.limit(source_offset + stride);
+      source.position(source_offset);
+      target.position(remap[vertex] * stride);
+      target.put(source);
+    }
+
+    target.rewind();
+    return target;
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.program.cache;
+
+import com.io7m.jcanephora.core.JCGLDriverInformation;
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
+import com.io7m.jcanephora.core.JCGLFragmentShaderType;
+import com.io7m.jcanephora.core.JCGLGeometryShaderType;
+import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramBinary;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.JCGLVertexShaderType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jnull.NullCheck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The default implementation of the {@link JCGLProgramCacheType} interface.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLProgramCache implements JCGLProgramCacheType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JCGLProgramCache.class);
+  }
+
+  private final JCGLProgramCacheConfiguration config;
+  private final Map<String, JCGLProgramCacheEntry> entries;
+  private boolean dirty;
+  private long hits;
+  private long misses;
+  private long rejections;
+
+  private JCGLProgramCache(
+    final JCGLProgramCacheConfiguration in_config,
+    final Map<String, JCGLProgramCacheEntry> in_entries)
+  {
+    this.config = NullCheck.notNull(in_config, "Config");
+    this.entries = NullCheck.notNull(in_entries, "Entries");
+    this.dirty = false;
+  }
+
+  /**
+   * Open a program cache. If the configured file does not exist, the cache
+   * is initially empty. If the file exists but cannot be parsed, a warning is
+   * logged and the cache is initially empty; the file will be replaced when
+   * the cache is next saved.
+   *
+   * @param in_config The cache configuration
+   *
+   * @return A new program cache
+   *
+   * @throws IOException On I/O errors other than the file not existing
+   */
+
+  public static JCGLProgramCacheType open(
+    final JCGLProgramCacheConfiguration in_config)
+    throws IOException
+  {
+    NullCheck.notNull(in_config, "Config");
+
+    final Path file = in_config.file();
+    if (!Files.exists(file)) {
+      LOG.debug("cache file {} does not exist", file);
+      return new JCGLProgramCache(in_config, new HashMap<>(16));
+    }
+
+    try {
+      final Map<String, JCGLProgramCacheEntry> entries =
+        JCGLProgramCacheFiles.read(file);
+      LOG.debug(
+        "loaded {} entries from cache file {}",
+        Integer.valueOf(entries.size()),
+        file);
+      return new JCGLProgramCache(in_config, entries);
+    } catch (final NoSuchFileException e) {
+      LOG.debug("cache file {} does not exist", file);
+      return new JCGLProgramCache(in_config, new HashMap<>(16));
+    } catch (final IOException e) {
+      LOG.warn("ignoring unreadable cache file {}: {}", file, e.getMessage());
+      final JCGLProgramCache cache =
+        new JCGLProgramCache(in_config, new HashMap<>(16));
+      cache.dirty = true;
+      return cache;
+    }
+  }
+
+  private static JCGLProgramShaderType linkFromSource(
+    final JCGLShadersType g,
+    final JCGLProgramSourcesType sources)
+    throws JCGLException
+  {
+    final String name = sources.name();
+
+    JCGLVertexShaderType vs = null;
+    JCGLGeometryShaderType gs = null;
+    JCGLFragmentShaderType fs = null;
+
+    try {
+      vs = g.shaderCompileVertex(name, sources.vertex());
+      final Optional<List<String>> g_lines = sources.geometry();
+      if (g_lines.isPresent()) {
+        gs = g.shaderCompileGeometry(name, g_lines.get());
+      }
+      fs = g.shaderCompileFragment(name, sources.fragment());
+
+      final Optional<JCGLGeometryShaderUsableType> g_opt =
+        Optional.ofNullable(gs);
+      return g.shaderLinkProgram(
+        name,
+        vs,
+        g_opt,
+        fs,
+        sources.transformFeedbackVaryings(),
+        sources.transformFeedbackBufferMode());
+    } finally {
+      if (vs != null) {
+        g.shaderDeleteVertex(vs);
+      }
+      if (gs != null) {
+        g.shaderDeleteGeometry(gs);
+      }
+      if (fs != null) {
+        g.shaderDeleteFragment(fs);
+      }
+    }
+  }
+
+  @Override
+  public JCGLProgramCacheConfiguration configuration()
+  {
+    return this.config;
+  }
+
+  @Override
+  public JCGLProgramShaderType cacheLinkProgram(
+    final JCGLShadersType g,
+    final JCGLProgramSourcesType sources)
+    throws JCGLExceptionProgramCompileError, JCGLException
+  {
+    NullCheck.notNull(g, "Shaders");
+    NullCheck.notNull(sources, "Sources");
+
+    if (!g.shaderProgramBinaryIsSupported()) {
+      ++this.misses;
+      return linkFromSource(g, sources);
+    }
+
+    final JCGLDriverInformation driver =
+      g.shaderProgramBinaryDriverInformation();
+    final String key = JCGLProgramCacheKeys.key(driver, sources);
+
+    final JCGLProgramCacheEntry entry = this.entries.get(key);
+    if (entry != null) {
+      final Optional<JCGLProgramShaderType> loaded =
+        this.loadFromBinary(g, sources, entry);
+      if (loaded.isPresent()) {
+        ++this.hits;
+        return loaded.get();
+      }
+
+      ++this.rejections;
+      this.entries.remove(key);
+      this.dirty = true;
+    }
+
+    ++this.misses;
+    final JCGLProgramShaderType p = linkFromSource(g, sources);
+
+    try {
+      final JCGLProgramBinary binary = g.shaderProgramBinaryGet(p);
+      this.entries.put(key, new JCGLProgramCacheEntry(
+        key,
+        binary.format(),
+        ByteBuffer.wrap(binary.data()),
+        JCGLProgramCacheEntry.describe(p)));
+      this.dirty = true;
+    } catch (final JCGLExceptionUnsupportedFeature e) {
+      LOG.debug("{}: not caching program: {}", sources.name(), e.getMessage());
+    }
+
+    return p;
+  }
+
+  private Optional<JCGLProgramShaderType> loadFromBinary(
+    final JCGLShadersType g,
+    final JCGLProgramSourcesType sources,
+    final JCGLProgramCacheEntry entry)
+    throws JCGLException
+  {
+    final JCGLProgramShaderType p;
+    try {
+      p = g.shaderProgramBinaryLoad(
+        sources.name(),
+        JCGLProgramBinary.of(entry.format(), entry.dataCopy()),
+        sources.transformFeedbackVaryings(),
+        sources.transformFeedbackBufferMode());
+    } catch (final JCGLExceptionProgramCompileError e) {
+      LOG.debug(
+        "{}: driver rejected cached binary: {}",
+        sources.name(),
+        e.getMessage());
+      return Optional.empty();
+    }
+
+    if (!JCGLProgramCacheEntry.describe(p).equals(entry.interfaceLines())) {
+      LOG.debug(
+        "{}: cached binary does not match cached interface",
+        sources.name());
+      g.shaderDeleteProgram(p);
+      return Optional.empty();
+    }
+
+    return Optional.of(p);
+  }
+
+  @Override
+  public void cacheSave()
+    throws IOException
+  {
+    if (!this.dirty) {
+      return;
+    }
+
+    final Path file = this.config.file().toAbsolutePath();
+    final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+    LOG.debug(
+      "saving {} entries to cache file {}",
+      Integer.valueOf(this.entries.size()),
+      file);
+
+    JCGLProgramCacheFiles.write(tmp, this.entries.values());
+    Files.move(
+      tmp,
+      file,
+      StandardCopyOption.REPLACE_EXISTING,
+      StandardCopyOption.ATOMIC_MOVE);
+    this.dirty = false;
+  }
+
+  @Override
+  public JCGLProgramCacheStatistics cacheStatistics()
+  {
+    return JCGLProgramCacheStatistics.of(
+      this.hits, this.misses, this.rejections, this.entries.size());
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.program.cache;
+
+import com.io7m.jcanephora.core.JCGLProgramAttributeType;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLProgramUniformType;
+import com.io7m.jnull.NullCheck;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single cached program binary, along with a canonical description of the
+ * reflected interface of the program that produced it.
+ */
+
+final class JCGLProgramCacheEntry
+{
+  private final String key;
+  private final int format;
+  private final ByteBuffer data;
+  private final List<String> interface_lines;
+
+  JCGLProgramCacheEntry(
+    final String in_key,
+    final int in_format,
+    final ByteBuffer in_data,
+    final List<String> in_interface)
+  {
+    this.key = NullCheck.notNull(in_key, "Key");
+    this.format = in_format;
+    this.data = NullCheck.notNull(in_data, "Data");
+    this.interface_lines = Collections.unmodifiableList(
+      NullCheck.notNull(in_interface, "Interface"));
+  }
+
+  /**
+   * Produce a canonical description of the reflected interface of the given
+   * program. Two programs with equal descriptions expose the same attributes,
+   * uniforms, and uniform blocks at the same locations.
+   *
+   * @param p The program
+   *
+   * @return A sorted list of interface lines
+   */
+
+  static List<String> describe(
+    final JCGLProgramShaderUsableType p)
+  {
+    final List<String> lines = new ArrayList<>(
+      p.attributes().size() + p.uniforms().size() + p.uniformBlocks().size());
+
+    for (final JCGLProgramAttributeType a : p.attributes().values()) {
+      lines.add(String.format(
+        "attribute %s %d %s",
+        a.name(),
+        Integer.valueOf(a.glName()),
+        a.type().name()));
+    }
+    for (final JCGLProgramUniformType u : p.uniforms().values()) {
+      lines.add(String.format(
+        "uniform %s %d %s %d",
+        u.name(),
+        Integer.valueOf(u.glName()),
+        u.type().name(),
+        Integer.valueOf(u.size())));
+    }
+    for (final JCGLProgramUniformBlockType b : p.uniformBlocks().values()) {
+      lines.add(String.format(
+        "block %s %d %d",
+        b.name(),
+        Integer.valueOf(b.glName()),
+        Long.valueOf(b.sizeBytes())));
+    }
+
+    Collections.sort(lines);
+    return lines;
+  }
+
+  String key()
+  {
+    return this.key;
+  }
+
+  int format()
+  {
+    return this.format;
+  }
+
+  /**
+   * @return A read-only view of the binary data
+   */
+
+  ByteBuffer data()
+  {
+    return this.data.asReadOnlyBuffer();
+  }
+
+  /**
+   * @return A copy of the binary data
+   */
+
+  byte[] dataCopy()
+  {
+    final ByteBuffer view = this.data();
+    view.rewind();
+    final byte[] out = new byte[view.remaining()];
+    view.get(out);
+    return out;
+  }
+
+  List<String> interfaceLines()
+  {
+    return this.interface_lines;
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.program.cache;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Functions to read and write program cache files.</p>
+ *
+ * <p>A cache file consists of a header (the magic number {@code JCPC}, a
+ * version number, and an entry count) followed by the entries. Each entry
+ * consists of the cache key, the binary format, the length-prefixed binary
+ * data, and the interface lines. Strings are written as a length followed by
+ * UTF-8 bytes. All integers are big-endian.</p>
+ *
+ * <p>Files are read fully into memory and the binary data of each entry is
+ * copied into its own buffer, so that no reference to the file is retained
+ * after reading. In particular, files are not mapped, as a mapped file cannot
+ * be replaced on some platforms until the mapping is garbage collected.</p>
+ */
+
+final class JCGLProgramCacheFiles
+{
+  static final int MAGIC = 0x4A435043;
+  static final int VERSION = 1;
+
+  private JCGLProgramCacheFiles()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Read all entries from the given file.
+   *
+   * @param file The file
+   *
+   * @return The entries, by key
+   *
+   * @throws IOException On I/O errors, or if the file is not a valid cache
+   */
+
+  static Map<String, JCGLProgramCacheEntry> read(
+    final Path file)
+    throws IOException
+  {
+    final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    buffer.order(ByteOrder.BIG_ENDIAN);
+
+    try {
+      final int magic = buffer.getInt();
+      if (magic != MAGIC) {
+        throw new IOException(String.format(
+          "Bad magic number (expected 0x%08x, got 0x%08x)",
+          Integer.valueOf(MAGIC),
+          Integer.valueOf(magic)));
+      }
+
+      final int version = buffer.getInt();
+      if (version != VERSION) {
+        throw new IOException(String.format(
+          "Unsupported cache version (expected %d, got %d)",
+          Integer.valueOf(VERSION),
+          Integer.valueOf(version)));
+      }
+
+      final int count = checkCount(buffer, buffer.getInt());
+      final Map<String, JCGLProgramCacheEntry> entries =
+        new HashMap<>(count);
+
+      for (int index = 0; index < count; ++index) {
+        final String key = readString(buffer);
+        final int format = buffer.getInt();
+        final int length = checkCount(buffer, buffer.getInt());
+
+        final byte[] data = new byte[length];
+        buffer.get(data);
+
+        final int lines_count = checkCount(buffer, buffer.getInt());
+        final List<String> lines = new ArrayList<>(lines_count);
+        for (int line = 0; line < lines_count; ++line) {
+          lines.add(readString(buffer));
+        }
+
+        entries.put(key, new JCGLProgramCacheEntry(
+          key, format, ByteBuffer.wrap(data), lines));
+      }
+
+      if (buffer.hasRemaining()) {
+        throw new IOException(String.format(
+          "Trailing data at end of cache (%d bytes)",
+          Integer.valueOf(buffer.remaining())));
+      }
+
+      return entries;
+    } catch (final BufferUnderflowException | IllegalArgumentException e) {
+      throw new IOException("Truncated cache file", e);
+    }
+  }
+
+  /**
+   * Write the given entries to the given file.
+   *
+   * @param file    The file
+   * @param entries The entries
+   *
+   * @throws IOException On I/O errors
+   */
+
+  static void write(
+    final Path file,
+    final Collection<JCGLProgramCacheEntry> entries)
+    throws IOException
+  {
+    try (final OutputStream os = Files.newOutputStream(file)) {
+      try (final DataOutputStream out =
+             new DataOutputStream(new BufferedOutputStream(os))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(entries.size());
+
+        for (final JCGLProgramCacheEntry e : entries) {
+          writeString(out, e.key());
+          out.writeInt(e.format());
+          final byte[] data = e.dataCopy();
+          out.writeInt(data.length);
+          out.write(data);
+
+          final List<String> lines = e.interfaceLines();
+          out.writeInt(lines.size());
+          for (final String line : lines) {
+            writeString(out, line);
+          }
+        }
+        out.flush();
+      }
+    }
+  }
+
+  private static int checkCount(
+    final ByteBuffer buffer,
+    final int count)
+    throws IOException
+  {
+    if (count < 0 || count > buffer.remaining()) {
+      throw new IOException(String.format(
+        "Invalid length %d at offset %d",
+        Integer.valueOf(count),
+        Integer.valueOf(buffer.position())));
+    }
+    return count;
+  }
+
+  private static String readString(
+    final ByteBuffer buffer)
+    throws IOException
+  {
+    final int length = checkCount(buffer, buffer.getInt());
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeString(
+    final DataOutputStream out,
+    final String text)
+    throws IOException
+  {
+    final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
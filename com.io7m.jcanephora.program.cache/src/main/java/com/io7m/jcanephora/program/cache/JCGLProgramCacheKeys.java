@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.program.cache;
+
+import com.io7m.jcanephora.core.JCGLDriverInformationType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Functions to calculate program cache keys.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLProgramCacheKeys
+{
+  private JCGLProgramCacheKeys()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Calculate the cache key for the given sources on the given driver. The
+   * key is the hex-encoded SHA-256 hash of the shader sources, the transform
+   * feedback parameters, and the driver vendor, renderer, and version. The
+   * name of the program does not contribute to the key.
+   *
+   * @param driver  The driver information
+   * @param sources The program sources
+   *
+   * @return The cache key
+   */
+
+  public static String key(
+    final JCGLDriverInformationType driver,
+    final JCGLProgramSourcesType sources)
+  {
+    NullCheck.notNull(driver, "Driver");
+    NullCheck.notNull(sources, "Sources");
+
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new UnreachableCodeException(e);
+    }
+
+    updateLines(digest, sources.vertex());
+    if (sources.geometry().isPresent()) {
+      updateInt(digest, 1);
+      updateLines(digest, sources.geometry().get());
+    } else {
+      updateInt(digest, 0);
+    }
+    updateLines(digest, sources.fragment());
+    updateLines(digest, sources.transformFeedbackVaryings());
+    updateString(digest, sources.transformFeedbackBufferMode().name());
+    updateString(digest, driver.vendor());
+    updateString(digest, driver.renderer());
+    updateString(digest, driver.version());
+
+    final byte[] hash = digest.digest();
+    final StringBuilder sb = new StringBuilder(hash.length * 2);
+    for (final byte b : hash) {
+      sb.append(String.format("%02x", Integer.valueOf(b & 0xff)));
+    }
+    return sb.toString();
+  }
+
+  private static void updateLines(
+    final MessageDigest digest,
+    final List<String> lines)
+  {
+    updateInt(digest, lines.size());
+    for (final String line : lines) {
+      updateString(digest, line);
+    }
+  }
+
+  private static void updateString(
+    final MessageDigest digest,
+    final String text)
+  {
+    final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    updateInt(digest, bytes.length);
+    digest.update(bytes);
+  }
+
+  private static void updateInt(
+    final MessageDigest digest,
+    final int x)
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4);
+    b.putInt(0, x);
+    digest.update(b.array());
+  }
+}
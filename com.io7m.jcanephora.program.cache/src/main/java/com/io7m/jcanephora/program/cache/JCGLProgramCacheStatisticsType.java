@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.program.cache;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Statistics gathered by a program cache since it was opened.
+ *
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLProgramCacheStatisticsType
+{
+  /**
+   * @return The number of programs that were created from cached binaries
+   */
+
+  @Value.Parameter(order = 0)
+  long hits();
+
+  /**
+   * @return The number of programs that were compiled and linked from source
+   * because no cached binary existed
+   */
+
+  @Value.Parameter(order = 1)
+  long misses();
+
+  /**
+   * @return The number of cached binaries that were discarded because the
+   * driver rejected them, or because the resulting program did not match the
+   * cached interface
+   */
+
+  @Value.Parameter(order = 2)
+  long rejections();
+
+  /**
+   * @return The number of binaries currently held in the cache
+   */
+
+  @Value.Parameter(order = 3)
+  int entries();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.program.cache;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramSourcesType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+
+import java.io.IOException;
+
+/**
+ * <p>The type of program caches.</p>
+ *
+ * <p>A program cache stores the binaries of linked programs, keyed by the
+ * program sources and the identity of the driver that produced them. A
+ * program that is found in the cache is created directly from its binary,
+ * skipping compilation and linking entirely. If the driver rejects a cached
+ * binary, the binary is discarded and the program is compiled and linked
+ * from source as if it had never been cached.</p>
+ *
+ * <p>Program caches are not thread-safe, and must only be used from the
+ * thread that owns the OpenGL context.</p>
+ *
+ * @since 0.62.0
+ */
+
+public interface JCGLProgramCacheType
+{
+  /**
+   * @return The cache configuration
+   */
+
+  JCGLProgramCacheConfiguration configuration();
+
+  /**
+   * Create a program from the given sources, using a cached binary if one is
+   * available. If program binaries are not supported by the context, the
+   * program is always compiled and linked from source.
+   *
+   * @param g       The shader interface
+   * @param sources The program sources
+   *
+   * @return A linked program
+   *
+   * @throws JCGLExceptionProgramCompileError Iff the program cannot be
+   *                                          compiled or linked
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   */
+
+  JCGLProgramShaderType cacheLinkProgram(
+    JCGLShadersType g,
+    JCGLProgramSourcesType sources)
+    throws JCGLExceptionProgramCompileError, JCGLException;
+
+  /**
+   * Write the contents of the cache to the configured file, if the contents
+   * have changed since the cache was opened or last saved. The file is
+   * replaced atomically.
+   *
+   * @throws IOException On I/O errors
+   */
+
+  void cacheSave()
+    throws IOException;
+
+  /**
+   * @return The statistics gathered since the cache was opened
+   */
+
+  JCGLProgramCacheStatistics cacheStatistics();
+}
@@ -22,6 +22,7 @@ import com.io7m.jregions.core.unparameterized.areas.AreaL;
 import org.immutables.value.Value;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * The type of render states.
@@ -96,4 +97,10 @@ public interface JCGLRenderStateType
   {
     return JCGLStencilStateMutable.create();
   }
+
+  /**
+   * @return The primitive restart index, if primitive restart is enabled
+   */
+
+  OptionalInt primitiveRestartIndex();
 }
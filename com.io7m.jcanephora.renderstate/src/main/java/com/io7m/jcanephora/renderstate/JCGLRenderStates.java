@@ -23,6 +23,7 @@ import com.io7m.jcanephora.core.api.JCGLColorBufferMaskingType;
 import com.io7m.jcanephora.core.api.JCGLCullingType;
 import com.io7m.jcanephora.core.api.JCGLDepthBuffersType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
 import com.io7m.jcanephora.core.api.JCGLScissorType;
 import com.io7m.jcanephora.core.api.JCGLStencilBuffersType;
 import com.io7m.jnull.NullCheck;
@@ -30,6 +31,7 @@ import com.io7m.jregions.core.unparameterized.areas.AreaL;
 import com.io7m.junreachable.UnreachableCodeException;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Functions to manipulate render states.
@@ -63,6 +65,7 @@ public final class JCGLRenderStates
     configurePolygonMode(g, r);
     configureScissor(g, r);
     configureStencil(g, r);
+    configurePrimitiveRestart(g, r);
   }
 
   private static void configurePolygonMode(
@@ -163,6 +166,19 @@ public final class JCGLRenderStates
     }
   }
 
+  private static void configurePrimitiveRestart(
+    final JCGLInterfaceGL33Type g,
+    final JCGLRenderStateType r)
+  {
+    final JCGLPrimitiveRestartType g_p = g.primitiveRestart();
+    final OptionalInt index_opt = r.primitiveRestartIndex();
+    if (index_opt.isPresent()) {
+      g_p.primitiveRestartEnable(index_opt.getAsInt());
+    } else {
+      g_p.primitiveRestartDisable();
+    }
+  }
+
   private static void configureCulling(
     final JCGLInterfaceGL33Type g,
     final JCGLRenderStateType r)
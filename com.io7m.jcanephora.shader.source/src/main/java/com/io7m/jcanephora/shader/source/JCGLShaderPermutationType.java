@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+import java.util.Map;
+
+/**
+ * <p>A shader permutation: a set of preprocessor definitions that select one
+ * variant of a shader.</p>
+ *
+ * <p>Each definition that the source references is emitted as {@code #define
+ * name value} directly after the {@code #version} directive of the root
+ * source file. Definition names must be valid GLSL identifiers, and values
+ * must not contain line breaks. An empty value defines the name without a
+ * value. Two permutations are equal iff they have the same definitions,
+ * regardless of the order in which the definitions were added.</p>
+ *
+ * @see JCGLShaderPermutations#key(JCGLShaderPermutationType)
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLShaderPermutationType
+{
+  /**
+   * @return The preprocessor definitions
+   */
+
+  @Value.Parameter
+  Map<String, String> defines();
+}
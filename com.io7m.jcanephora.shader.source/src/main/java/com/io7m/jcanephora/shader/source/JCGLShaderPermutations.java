@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Functions over shader permutations.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLShaderPermutations
+{
+  private static final Pattern VALID_NAME;
+  private static final JCGLShaderPermutation EMPTY;
+
+  static {
+    VALID_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    EMPTY = JCGLShaderPermutation.of(Collections.emptyMap());
+  }
+
+  private JCGLShaderPermutations()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return The permutation that has no definitions
+   */
+
+  public static JCGLShaderPermutation empty()
+  {
+    return EMPTY;
+  }
+
+  /**
+   * Calculate the canonical key of a permutation. The key consists of the
+   * definitions sorted by name, formatted as {@code name=length:value} and
+   * separated by {@code ;}, where {@code length} is the number of characters
+   * in {@code value}. Values may contain any character other than line
+   * breaks, so the length prefix ensures that permutations have equal keys
+   * if and only if they are equal. The key of the empty permutation is the
+   * empty string.
+   *
+   * @param p The permutation
+   *
+   * @return The canonical key
+   *
+   * @throws JCGLShaderSourceException Iff the permutation contains an invalid
+   *                                   definition
+   */
+
+  public static String key(
+    final JCGLShaderPermutationType p)
+    throws JCGLShaderSourceException
+  {
+    NullCheck.notNull(p, "Permutation");
+
+    final StringBuilder sb = new StringBuilder(64);
+    for (final Map.Entry<String, String> e : sorted(p).entrySet()) {
+      if (sb.length() > 0) {
+        sb.append(';');
+      }
+      sb.append(e.getKey());
+      sb.append('=');
+      sb.append(e.getValue().length());
+      sb.append(':');
+      sb.append(e.getValue());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Check the definitions of a permutation and return them sorted by name.
+   *
+   * @param p The permutation
+   *
+   * @return The sorted definitions
+   *
+   * @throws JCGLShaderSourceException Iff the permutation contains an invalid
+   *                                   definition
+   */
+
+  static Map<String, String> sorted(
+    final JCGLShaderPermutationType p)
+    throws JCGLShaderSourceException
+  {
+    final Map<String, String> defines = new TreeMap<>(p.defines());
+    for (final Map.Entry<String, String> e : defines.entrySet()) {
+      final String name = e.getKey();
+      final String value = e.getValue();
+      if (!VALID_NAME.matcher(name).matches()) {
+        throw new JCGLShaderSourceException(
+          "Invalid definition name: " + name);
+      }
+      if (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+        throw new JCGLShaderSourceException(
+          "Definition value contains a line break: " + name);
+      }
+    }
+    return defines;
+  }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The default implementation of the {@link JCGLShaderPreprocessorType}
+ * interface.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLShaderPreprocessor implements JCGLShaderPreprocessorType
+{
+  private static final Pattern DIRECTIVE;
+  private static final Pattern INCLUDE;
+  private static final Pattern IDENTIFIER;
+
+  static {
+    DIRECTIVE = Pattern.compile("^\\s*#\\s*([A-Za-z_]+)(.*)$");
+    INCLUDE = Pattern.compile("^\\s*\"([^\"]+)\"\\s*(//.*)?$");
+    IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+  }
+
+  private final JCGLShaderSourceResolverType resolver;
+  private final Map<String, List<String>> files;
+
+  private JCGLShaderPreprocessor(
+    final JCGLShaderSourceResolverType in_resolver)
+  {
+    this.resolver = NullCheck.notNull(in_resolver, "Resolver");
+    this.files = new HashMap<>(64);
+  }
+
+  /**
+   * Create a new preprocessor.
+   *
+   * @param in_resolver The resolver used to load source files
+   *
+   * @return A new preprocessor
+   */
+
+  public static JCGLShaderPreprocessorType create(
+    final JCGLShaderSourceResolverType in_resolver)
+  {
+    return new JCGLShaderPreprocessor(in_resolver);
+  }
+
+  private static String resolveName(
+    final String including,
+    final String name)
+    throws JCGLShaderSourceException
+  {
+    final List<String> segments = new ArrayList<>(8);
+    if (!name.startsWith("/")) {
+      final int slash = including.lastIndexOf('/');
+      if (slash >= 0) {
+        for (final String s : including.substring(0, slash).split("/")) {
+          segments.add(s);
+        }
+      }
+    }
+
+    for (final String s : name.split("/")) {
+      if (s.isEmpty() || ".".equals(s)) {
+        continue;
+      }
+      if ("..".equals(s)) {
+        if (segments.isEmpty()) {
+          throw new JCGLShaderSourceException(
+            "Source name escapes the source root: " + name);
+        }
+        segments.remove(segments.size() - 1);
+        continue;
+      }
+      segments.add(s);
+    }
+
+    if (segments.isEmpty()) {
+      throw new JCGLShaderSourceException("Empty source name: " + name);
+    }
+    return String.join("/", segments);
+  }
+
+  private static String stripTerminator(
+    final String line)
+  {
+    int end = line.length();
+    while (end > 0) {
+      final char c = line.charAt(end - 1);
+      if (c != '\n' && c != '\r') {
+        break;
+      }
+      --end;
+    }
+    return line.substring(0, end);
+  }
+
+  private static JCGLShaderSourceException errorAt(
+    final String file,
+    final int line,
+    final String message)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append(file);
+    sb.append(":");
+    sb.append(line);
+    sb.append(": ");
+    sb.append(message);
+    return new JCGLShaderSourceException(sb.toString());
+  }
+
+  private static JCGLShaderSourceException errorCycle(
+    final Deque<String> stack,
+    final String name)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Include cycle: ");
+    final Iterator<String> iter = stack.descendingIterator();
+    while (iter.hasNext()) {
+      sb.append(iter.next());
+      sb.append(" -> ");
+    }
+    sb.append(name);
+    return new JCGLShaderSourceException(sb.toString());
+  }
+
+  private static Set<String> identifiers(
+    final List<String> lines)
+  {
+    final Set<String> names = new HashSet<>(256);
+    for (final String line : lines) {
+      final Matcher m = IDENTIFIER.matcher(line);
+      while (m.find()) {
+        names.add(m.group());
+      }
+    }
+    return names;
+  }
+
+  private static String line(
+    final int line,
+    final int file)
+  {
+    final StringBuilder sb = new StringBuilder(32);
+    sb.append("#line ");
+    sb.append(line);
+    sb.append(' ');
+    sb.append(file);
+    sb.append('\n');
+    return sb.toString();
+  }
+
+  private static String hash(
+    final List<String> lines)
+  {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new UnreachableCodeException(e);
+    }
+
+    final ByteBuffer size = ByteBuffer.allocate(4);
+    for (final String line : lines) {
+      final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+      size.putInt(0, bytes.length);
+      digest.update(size.array());
+      digest.update(bytes);
+    }
+
+    final byte[] result = digest.digest();
+    final StringBuilder sb = new StringBuilder(result.length * 2);
+    for (final byte b : result) {
+      sb.append(String.format("%02x", Integer.valueOf(b & 0xff)));
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public JCGLShaderSource preprocess(
+    final String name,
+    final JCGLShaderPermutationType permutation)
+    throws IOException, JCGLShaderSourceException
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(permutation, "Permutation");
+
+    final Map<String, String> defines =
+      JCGLShaderPermutations.sorted(permutation);
+    final String root = resolveName("", name);
+
+    final Expansion e = new Expansion();
+    this.expand(e, root);
+
+    /*
+     * A definition is used if its name occurs in the expanded source, or in
+     * the value of another used definition.
+     */
+
+    final Map<String, String> used = new TreeMap<>();
+    final Deque<String> pending = new ArrayDeque<>(identifiers(e.output));
+    while (!pending.isEmpty()) {
+      final String identifier = pending.pop();
+      final String value = defines.get(identifier);
+      if (value != null && !used.containsKey(identifier)) {
+        used.put(identifier, value);
+        pending.addAll(identifiers(Collections.singletonList(value)));
+      }
+    }
+
+    final List<String> definitions = new ArrayList<>(used.size());
+    for (final Map.Entry<String, String> d : used.entrySet()) {
+      final StringBuilder sb = new StringBuilder(64);
+      sb.append("#define ");
+      sb.append(d.getKey());
+      if (!d.getValue().isEmpty()) {
+        sb.append(' ');
+        sb.append(d.getValue());
+      }
+      sb.append('\n');
+      definitions.add(sb.toString());
+    }
+    if (!definitions.isEmpty()) {
+      definitions.add(line(e.version_line + 1, 0));
+    }
+    e.output.addAll(Math.max(e.version_end, 0), definitions);
+
+    return JCGLShaderSource.of(
+      root,
+      JCGLShaderPermutation.of(used),
+      e.output,
+      e.included,
+      hash(e.output));
+  }
+
+  @Override
+  public void invalidate()
+  {
+    this.files.clear();
+  }
+
+  private List<String> file(
+    final String name)
+    throws IOException, JCGLShaderSourceException
+  {
+    final List<String> cached = this.files.get(name);
+    if (cached != null) {
+      return cached;
+    }
+
+    final Optional<List<String>> resolved = this.resolver.resolve(name);
+    if (!resolved.isPresent()) {
+      throw new JCGLShaderSourceException("No such source file: " + name);
+    }
+
+    final List<String> raw = resolved.get();
+    final List<String> lines = new ArrayList<>(raw.size());
+    for (final String line : raw) {
+      lines.add(stripTerminator(line));
+    }
+    this.files.put(name, lines);
+    return lines;
+  }
+
+  private void expand(
+    final Expansion e,
+    final String name)
+    throws IOException, JCGLShaderSourceException
+  {
+    if (e.stack.contains(name)) {
+      throw errorCycle(e.stack, name);
+    }
+    if (e.once.contains(name)) {
+      return;
+    }
+
+    final List<String> lines = this.file(name);
+    e.included.add(name);
+    if (!e.numbers.containsKey(name)) {
+      e.numbers.put(name, Integer.valueOf(e.numbers.size()));
+    }
+    final int number = e.numbers.get(name).intValue();
+    if (!e.stack.isEmpty()) {
+      e.output.add(line(1, number));
+    }
+    e.stack.push(name);
+
+    for (int index = 0; index < lines.size(); ++index) {
+      final String line = lines.get(index);
+      final Matcher directive = DIRECTIVE.matcher(line);
+      if (directive.matches()) {
+        final String kind = directive.group(1);
+        final String rest = directive.group(2);
+
+        if ("include".equals(kind)) {
+          final Matcher include = INCLUDE.matcher(rest);
+          if (!include.matches()) {
+            throw errorAt(name, index + 1, "Malformed #include directive");
+          }
+          this.expand(e, resolveName(name, include.group(1)));
+          e.output.add(line(index + 2, number));
+          continue;
+        }
+
+        if ("pragma".equals(kind) && "once".equals(rest.trim())) {
+          e.once.add(name);
+          e.output.add("\n");
+          continue;
+        }
+
+        if ("version".equals(kind)) {
+          if (e.stack.size() > 1) {
+            throw errorAt(
+              name, index + 1, "#version is not permitted in included files");
+          }
+          if (e.version_end < 0) {
+            e.output.add(line + "\n");
+            e.version_end = e.output.size();
+            e.version_line = index + 1;
+            continue;
+          }
+        }
+      }
+
+      e.output.add(line + "\n");
+    }
+
+    e.stack.pop();
+  }
+
+  private static final class Expansion
+  {
+    private final List<String> output;
+    private final Set<String> included;
+    private final Map<String, Integer> numbers;
+    private final Set<String> once;
+    private final Deque<String> stack;
+    private int version_end;
+    private int version_line;
+
+    Expansion()
+    {
+      this.output = new ArrayList<>(256);
+      this.included = new LinkedHashSet<>(8);
+      this.numbers = new HashMap<>(8);
+      this.once = new HashSet<>(8);
+      this.stack = new ArrayDeque<>(8);
+      this.version_end = -1;
+      this.version_line = 0;
+    }
+  }
+}
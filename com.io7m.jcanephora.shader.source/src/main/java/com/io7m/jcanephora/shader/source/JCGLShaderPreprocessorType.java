@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import java.io.IOException;
+
+/**
+ * <p>The type of GLSL preprocessors.</p>
+ *
+ * <p>A preprocessor expands a small set of directives before source code is
+ * passed to the GLSL compiler, and leaves every other directive to the
+ * compiler:</p>
+ *
+ * <ul>
+ * <li>{@code #include "name"} is replaced by the contents of the named file.
+ * Names are relative to the directory of the including file unless they
+ * begin with {@code /}, in which case they are relative to the root of the
+ * resolver. Cyclic includes are rejected.</li>
+ * <li>{@code #pragma once} causes the file containing it to be included at
+ * most once per preprocessed source.</li>
+ * <li>The definitions of the requested permutation are inserted directly
+ * after the {@code #version} directive of the root file, or at the start of
+ * the root file if it has no {@code #version} directive. Included files must
+ * not contain {@code #version} directives.</li>
+ * <li>Definitions whose names do not occur anywhere in the expanded source,
+ * or in the value of another retained definition, cannot affect the compiled
+ * shader, and are omitted. Permutations that differ only in such definitions
+ * therefore produce identical source.</li>
+ * <li>{@code #line} directives are inserted at the start of each included
+ * file, after each {@code #include} directive, and after the inserted
+ * definitions, so that the line numbers in compiler errors refer to the
+ * original files. The source string number of each file is its index in
+ * {@link JCGLShaderSourceType#files()}. The directives follow the GLSL 3.30
+ * semantics, in which {@code #line n} gives the next line the number
+ * {@code n}.</li>
+ * </ul>
+ *
+ * <p>Preprocessors cache the files they resolve, so preprocessing many
+ * permutations of the same sources reads each file once. Preprocessors are
+ * not thread-safe.</p>
+ *
+ * @since 0.62.0
+ */
+
+public interface JCGLShaderPreprocessorType
+{
+  /**
+   * Preprocess one permutation of a shader.
+   *
+   * @param name        The name of the root source file
+   * @param permutation The permutation
+   *
+   * @return The preprocessed source
+   *
+   * @throws IOException               On I/O errors
+   * @throws JCGLShaderSourceException Iff a file does not exist, an include
+   *                                   is cyclic or malformed, or the
+   *                                   permutation is invalid
+   */
+
+  JCGLShaderSource preprocess(
+    String name,
+    JCGLShaderPermutationType permutation)
+    throws IOException, JCGLShaderSourceException;
+
+  /**
+   * Discard all cached files, so that subsequent preprocessing observes any
+   * changes made to the files since they were first resolved.
+   */
+
+  void invalidate();
+}
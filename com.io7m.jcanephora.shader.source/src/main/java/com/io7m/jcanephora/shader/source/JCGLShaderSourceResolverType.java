@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>The type of shader source resolvers.</p>
+ *
+ * <p>A resolver maps the normalized, {@code /}-separated name of a source
+ * file (such as {@code lighting/brdf.glsl}) to the lines of that file.
+ * Names never begin with {@code /} and never contain {@code .} or {@code ..}
+ * segments.</p>
+ *
+ * @see JCGLShaderSourceResolvers
+ * @since 0.62.0
+ */
+
+public interface JCGLShaderSourceResolverType
+{
+  /**
+   * Resolve a source file. The returned lines may or may not include line
+   * terminators.
+   *
+   * @param name The normalized name of the file
+   *
+   * @return The lines of the file, or nothing if the file does not exist
+   *
+   * @throws IOException On I/O errors
+   */
+
+  Optional<List<String>> resolve(String name)
+    throws IOException;
+}
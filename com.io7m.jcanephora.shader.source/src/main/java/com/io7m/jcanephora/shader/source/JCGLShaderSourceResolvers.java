@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jnull.NullCheck;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Standard shader source resolvers. All resolvers read files as UTF-8.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLShaderSourceResolvers
+{
+  private JCGLShaderSourceResolvers()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Create a resolver that loads sources as resources of the given class. The
+   * file {@code x/y.glsl} is loaded from the resource {@code base/x/y.glsl}.
+   *
+   * @param c    The class used to load resources
+   * @param base The absolute resource path of the directory holding sources,
+   *             such as {@code /com/example/shaders}
+   *
+   * @return A new resolver
+   */
+
+  public static JCGLShaderSourceResolverType forResources(
+    final Class<?> c,
+    final String base)
+  {
+    NullCheck.notNull(c, "Class");
+    NullCheck.notNull(base, "Base");
+
+    final String prefix = base.endsWith("/") ? base : base + "/";
+    return name -> {
+      final InputStream stream = c.getResourceAsStream(prefix + name);
+      if (stream == null) {
+        return Optional.empty();
+      }
+      try (final InputStream is = stream) {
+        return Optional.of(readLines(is));
+      }
+    };
+  }
+
+  /**
+   * Create a resolver that loads sources from files below the given
+   * directory.
+   *
+   * @param directory The directory holding sources
+   *
+   * @return A new resolver
+   */
+
+  public static JCGLShaderSourceResolverType forDirectory(
+    final Path directory)
+  {
+    NullCheck.notNull(directory, "Directory");
+
+    return name -> {
+      final Path file = directory.resolve(name);
+      try (final InputStream is = Files.newInputStream(file)) {
+        return Optional.of(readLines(is));
+      } catch (final NoSuchFileException e) {
+        return Optional.empty();
+      }
+    };
+  }
+
+  private static List<String> readLines(
+    final InputStream is)
+    throws IOException
+  {
+    final List<String> lines = new ArrayList<>(64);
+    try (final BufferedReader reader = new BufferedReader(
+      new InputStreamReader(is, StandardCharsets.UTF_8))) {
+      while (true) {
+        final String line = reader.readLine();
+        if (line == null) {
+          return lines;
+        }
+        lines.add(line);
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * The fully preprocessed source of one permutation of a shader.
+ *
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLShaderSourceType
+{
+  /**
+   * @return The normalized name of the root source file
+   */
+
+  @Value.Parameter(order = 0)
+  String name();
+
+  /**
+   * @return The definitions of the requested permutation that were applied
+   * to the source; definitions that the source does not reference are omitted
+   */
+
+  @Value.Parameter(order = 1)
+  JCGLShaderPermutation permutation();
+
+  /**
+   * @return The expanded source, with each line terminated by {@code \n}, in
+   * the form accepted by the {@code shaderCompile*} functions
+   */
+
+  @Value.Parameter(order = 2)
+  List<String> lines();
+
+  /**
+   * @return The names of the files that contributed to the source, in order
+   * of first inclusion, beginning with the root file
+   */
+
+  @Value.Parameter(order = 3)
+  List<String> files();
+
+  /**
+   * @return The hex-encoded SHA-256 hash of {@link #lines()}; sources with
+   * equal hashes are interchangeable regardless of their names or
+   * permutations
+   */
+
+  @Value.Parameter(order = 4)
+  String hash();
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLFragmentShaderType;
+import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
+import com.io7m.jcanephora.core.JCGLGeometryShaderType;
+import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLVertexShaderType;
+import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jnull.NullCheck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The default implementation of the {@link JCGLShaderVariantCacheType}
+ * interface.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLShaderVariantCache implements JCGLShaderVariantCacheType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JCGLShaderVariantCache.class);
+  }
+
+  private final JCGLShadersType shaders;
+  private final JCGLShaderPreprocessorType preprocessor;
+  private final Map<String, JCGLShaderSource> sources;
+  private final Map<String, JCGLVertexShaderType> vertices;
+  private final Map<String, JCGLGeometryShaderType> geometries;
+  private final Map<String, JCGLFragmentShaderType> fragments;
+  private final Map<String, JCGLProgramShaderType> programs;
+  private long sources_preprocessed;
+  private long shaders_compiled;
+  private long shaders_shared;
+  private long programs_linked;
+  private long programs_shared;
+
+  private JCGLShaderVariantCache(
+    final JCGLShadersType in_shaders,
+    final JCGLShaderPreprocessorType in_preprocessor)
+  {
+    this.shaders = NullCheck.notNull(in_shaders, "Shaders");
+    this.preprocessor = NullCheck.notNull(in_preprocessor, "Preprocessor");
+    this.sources = new HashMap<>(64);
+    this.vertices = new HashMap<>(32);
+    this.geometries = new HashMap<>(8);
+    this.fragments = new HashMap<>(32);
+    this.programs = new HashMap<>(32);
+  }
+
+  /**
+   * Create a new, empty variant cache.
+   *
+   * @param in_shaders      The shader interface used to compile and link
+   * @param in_preprocessor The preprocessor used to expand sources
+   *
+   * @return A new variant cache
+   */
+
+  public static JCGLShaderVariantCacheType create(
+    final JCGLShadersType in_shaders,
+    final JCGLShaderPreprocessorType in_preprocessor)
+  {
+    return new JCGLShaderVariantCache(in_shaders, in_preprocessor);
+  }
+
+  private static String shaderName(
+    final JCGLShaderSource source)
+  {
+    final String key = JCGLShaderPermutations.key(source.permutation());
+    if (key.isEmpty()) {
+      return source.name();
+    }
+    return source.name() + "[" + key + "]";
+  }
+
+  private JCGLShaderSource source(
+    final String name,
+    final JCGLShaderPermutationType permutation)
+    throws IOException, JCGLShaderSourceException
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(permutation, "Permutation");
+
+    final String key = JCGLShaderPermutations.key(permutation) + "|" + name;
+    final JCGLShaderSource existing = this.sources.get(key);
+    if (existing != null) {
+      return existing;
+    }
+
+    final JCGLShaderSource source =
+      this.preprocessor.preprocess(name, permutation);
+    ++this.sources_preprocessed;
+    this.sources.put(key, source);
+    return source;
+  }
+
+  @Override
+  public JCGLVertexShaderUsableType cacheVertex(
+    final String name,
+    final JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException
+  {
+    return this.vertex(this.source(name, permutation));
+  }
+
+  @Override
+  public JCGLGeometryShaderUsableType cacheGeometry(
+    final String name,
+    final JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException
+  {
+    return this.geometry(this.source(name, permutation));
+  }
+
+  @Override
+  public JCGLFragmentShaderUsableType cacheFragment(
+    final String name,
+    final JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException
+  {
+    return this.fragment(this.source(name, permutation));
+  }
+
+  @Override
+  public JCGLProgramShaderUsableType cacheProgram(
+    final String name,
+    final String vertex,
+    final Optional<String> geometry,
+    final String fragment,
+    final JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException
+  {
+    NullCheck.notNull(name, "Name");
+    NullCheck.notNull(geometry, "Geometry");
+
+    final JCGLShaderSource vs = this.source(vertex, permutation);
+    final JCGLShaderSource fs = this.source(fragment, permutation);
+    final Optional<JCGLShaderSource> gs;
+    if (geometry.isPresent()) {
+      gs = Optional.of(this.source(geometry.get(), permutation));
+    } else {
+      gs = Optional.empty();
+    }
+
+    final StringBuilder sb = new StringBuilder(160);
+    sb.append(vs.hash());
+    sb.append('/');
+    sb.append(gs.isPresent() ? gs.get().hash() : "-");
+    sb.append('/');
+    sb.append(fs.hash());
+    final String key = sb.toString();
+
+    final JCGLProgramShaderType existing = this.programs.get(key);
+    if (existing != null) {
+      ++this.programs_shared;
+      return existing;
+    }
+
+    final JCGLVertexShaderUsableType v = this.vertex(vs);
+    final JCGLFragmentShaderUsableType f = this.fragment(fs);
+    final Optional<JCGLGeometryShaderUsableType> g;
+    if (gs.isPresent()) {
+      g = Optional.of(this.geometry(gs.get()));
+    } else {
+      g = Optional.empty();
+    }
+
+    LOG.debug("linking {} ({})", name, key);
+    final JCGLProgramShaderType p =
+      this.shaders.shaderLinkProgram(name, v, g, f);
+    ++this.programs_linked;
+    this.programs.put(key, p);
+    return p;
+  }
+
+  private JCGLVertexShaderUsableType vertex(
+    final JCGLShaderSource source)
+  {
+    final JCGLVertexShaderType existing = this.vertices.get(source.hash());
+    if (existing != null) {
+      ++this.shaders_shared;
+      return existing;
+    }
+
+    final String name = shaderName(source);
+    LOG.debug("compiling vertex shader {}", name);
+    final JCGLVertexShaderType s =
+      this.shaders.shaderCompileVertex(name, source.lines());
+    ++this.shaders_compiled;
+    this.vertices.put(source.hash(), s);
+    return s;
+  }
+
+  private JCGLGeometryShaderUsableType geometry(
+    final JCGLShaderSource source)
+  {
+    final JCGLGeometryShaderType existing = this.geometries.get(source.hash());
+    if (existing != null) {
+      ++this.shaders_shared;
+      return existing;
+    }
+
+    final String name = shaderName(source);
+    LOG.debug("compiling geometry shader {}", name);
+    final JCGLGeometryShaderType s =
+      this.shaders.shaderCompileGeometry(name, source.lines());
+    ++this.shaders_compiled;
+    this.geometries.put(source.hash(), s);
+    return s;
+  }
+
+  private JCGLFragmentShaderUsableType fragment(
+    final JCGLShaderSource source)
+  {
+    final JCGLFragmentShaderType existing = this.fragments.get(source.hash());
+    if (existing != null) {
+      ++this.shaders_shared;
+      return existing;
+    }
+
+    final String name = shaderName(source);
+    LOG.debug("compiling fragment shader {}", name);
+    final JCGLFragmentShaderType s =
+      this.shaders.shaderCompileFragment(name, source.lines());
+    ++this.shaders_compiled;
+    this.fragments.put(source.hash(), s);
+    return s;
+  }
+
+  @Override
+  public JCGLShaderVariantCacheStatistics cacheStatistics()
+  {
+    return JCGLShaderVariantCacheStatistics.of(
+      this.sources_preprocessed,
+      this.shaders_compiled,
+      this.shaders_shared,
+      this.programs_linked,
+      this.programs_shared);
+  }
+
+  @Override
+  public void cacheDelete()
+    throws JCGLException
+  {
+    for (final JCGLProgramShaderType p : this.programs.values()) {
+      this.shaders.shaderDeleteProgram(p);
+    }
+    for (final JCGLVertexShaderType s : this.vertices.values()) {
+      this.shaders.shaderDeleteVertex(s);
+    }
+    for (final JCGLGeometryShaderType s : this.geometries.values()) {
+      this.shaders.shaderDeleteGeometry(s);
+    }
+    for (final JCGLFragmentShaderType s : this.fragments.values()) {
+      this.shaders.shaderDeleteFragment(s);
+    }
+
+    this.programs.clear();
+    this.vertices.clear();
+    this.geometries.clear();
+    this.fragments.clear();
+    this.sources.clear();
+    this.sources_preprocessed = 0L;
+    this.shaders_compiled = 0L;
+    this.shaders_shared = 0L;
+    this.programs_linked = 0L;
+    this.programs_shared = 0L;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+/**
+ * Statistics gathered by a shader variant cache since it was created or last
+ * deleted.
+ *
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLShaderVariantCacheStatisticsType
+{
+  /**
+   * @return The number of permutations that were preprocessed
+   */
+
+  @Value.Parameter(order = 0)
+  long sourcesPreprocessed();
+
+  /**
+   * @return The number of shaders that were compiled
+   */
+
+  @Value.Parameter(order = 1)
+  long shadersCompiled();
+
+  /**
+   * @return The number of shader requests that were satisfied by an existing
+   * shader with identical source
+   */
+
+  @Value.Parameter(order = 2)
+  long shadersShared();
+
+  /**
+   * @return The number of programs that were linked
+   */
+
+  @Value.Parameter(order = 3)
+  long programsLinked();
+
+  /**
+   * @return The number of program requests that were satisfied by an
+   * existing program linked from identical shaders
+   */
+
+  @Value.Parameter(order = 4)
+  long programsShared();
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.shader.source;
+
+import com.io7m.jcanephora.core.JCGLException;
+import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
+import com.io7m.jcanephora.core.JCGLGeometryShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * <p>The type of shader variant caches.</p>
+ *
+ * <p>A variant cache preprocesses, compiles, and links shader permutations
+ * lazily: nothing is compiled until a permutation is first requested, so an
+ * application only pays for the variants that it actually uses. Compiled
+ * shaders are keyed by the hash of their preprocessed source, so
+ * permutations that expand to identical source (for example, because a
+ * definition is not referenced by a particular file) share a single shader
+ * object, as do the programs that are linked from them.</p>
+ *
+ * <p>The cache owns every object it creates, and hands out only the usable
+ * interfaces of those objects. All objects are deleted by {@link
+ * #cacheDelete()}. Variant caches are not thread-safe, and must only be used
+ * from the thread that owns the OpenGL context.</p>
+ *
+ * @since 0.62.0
+ */
+
+public interface JCGLShaderVariantCacheType
+{
+  /**
+   * Retrieve a vertex shader, preprocessing and compiling it if necessary.
+   *
+   * @param name        The name of the root source file
+   * @param permutation The permutation
+   *
+   * @return A compiled vertex shader
+   *
+   * @throws IOException                      On I/O errors
+   * @throws JCGLShaderSourceException        Iff the source cannot be
+   *                                          preprocessed
+   * @throws JCGLExceptionProgramCompileError Iff the shader cannot be
+   *                                          compiled
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   */
+
+  JCGLVertexShaderUsableType cacheVertex(
+    String name,
+    JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException;
+
+  /**
+   * Retrieve a geometry shader, preprocessing and compiling it if necessary.
+   *
+   * @param name        The name of the root source file
+   * @param permutation The permutation
+   *
+   * @return A compiled geometry shader
+   *
+   * @throws IOException                      On I/O errors
+   * @throws JCGLShaderSourceException        Iff the source cannot be
+   *                                          preprocessed
+   * @throws JCGLExceptionProgramCompileError Iff the shader cannot be
+   *                                          compiled
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   */
+
+  JCGLGeometryShaderUsableType cacheGeometry(
+    String name,
+    JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException;
+
+  /**
+   * Retrieve a fragment shader, preprocessing and compiling it if necessary.
+   *
+   * @param name        The name of the root source file
+   * @param permutation The permutation
+   *
+   * @return A compiled fragment shader
+   *
+   * @throws IOException                      On I/O errors
+   * @throws JCGLShaderSourceException        Iff the source cannot be
+   *                                          preprocessed
+   * @throws JCGLExceptionProgramCompileError Iff the shader cannot be
+   *                                          compiled
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   */
+
+  JCGLFragmentShaderUsableType cacheFragment(
+    String name,
+    JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException;
+
+  /**
+   * Retrieve a program, preprocessing, compiling, and linking its shaders if
+   * necessary. The same permutation is applied to every shader.
+   *
+   * @param name        The name of the program, used in error messages
+   * @param vertex      The name of the root vertex shader source file
+   * @param geometry    The name of the root geometry shader source file, if
+   *                    any
+   * @param fragment    The name of the root fragment shader source file
+   * @param permutation The permutation
+   *
+   * @return A linked program
+   *
+   * @throws IOException                      On I/O errors
+   * @throws JCGLShaderSourceException        Iff a source cannot be
+   *                                          preprocessed
+   * @throws JCGLExceptionProgramCompileError Iff a shader cannot be compiled
+   *                                          or the program cannot be linked
+   * @throws JCGLException                    Iff an OpenGL error occurs
+   */
+
+  JCGLProgramShaderUsableType cacheProgram(
+    String name,
+    String vertex,
+    Optional<String> geometry,
+    String fragment,
+    JCGLShaderPermutationType permutation)
+    throws
+    IOException,
+    JCGLShaderSourceException,
+    JCGLExceptionProgramCompileError,
+    JCGLException;
+
+  /**
+   * @return The statistics gathered since the cache was created or last
+   * deleted
+   */
+
+  JCGLShaderVariantCacheStatistics cacheStatistics();
+
+  /**
+   * Delete every program and shader created by the cache, and reset the
+   * statistics. The cache remains usable, and will recreate objects on
+   * demand.
+   *
+   * @throws JCGLException Iff an OpenGL error occurs
+   */
+
+  void cacheDelete()
+    throws JCGLException;
+}
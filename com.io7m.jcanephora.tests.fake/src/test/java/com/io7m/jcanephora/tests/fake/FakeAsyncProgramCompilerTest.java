@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.fake;
+
+import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupported;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.fake.JCGLImplementationFake;
+import com.io7m.jcanephora.fake.JCGLImplementationFakeType;
+import com.io7m.jcanephora.tests.contracts.JCGLAsyncProgramCompilerContract;
+import com.io7m.jcanephora.tests.contracts.JCGLShadersContract;
+import com.io7m.jcanephora.tests.contracts.JCGLSharedContextPair;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.io.BufferedReader;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class FakeAsyncProgramCompilerTest
+  extends JCGLAsyncProgramCompilerContract
+{
+  @Override
+  protected JCGLSharedContextPair<JCGLContextType> getContextsSharedWith(
+    final String name,
+    final String shared)
+  {
+    try {
+      final JCGLImplementationFakeType i = JCGLImplementationFake.getInstance();
+      final JCGLContextType c0 =
+        i.newContext(name, new FakeDefaultShaderListener());
+      final JCGLContextType c1 = i.newContextSharedWith(
+        c0, shared, new FakeDefaultShaderListener());
+      return new JCGLSharedContextPair<>(c0, c0, c1, c1);
+    } catch (final JCGLExceptionUnsupported | JCGLExceptionNonCompliant x) {
+      throw new UnreachableCodeException(x);
+    }
+  }
+
+  @Override
+  protected List<String> getShaderLines(final String name)
+  {
+    final Class<JCGLShadersContract> c = JCGLShadersContract.class;
+    final List<String> lines = new ArrayList<>(32);
+    try (final InputStream is = c.getResourceAsStream(name)) {
+      try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(is))) {
+        while (true) {
+          final String line = reader.readLine();
+          if (line == null) {
+            return lines;
+          }
+          lines.add(line + "\n");
+        }
+      }
+    } catch (final IOException e) {
+      throw new IOError(e);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+    this.shutDownCompilers();
+  }
+}
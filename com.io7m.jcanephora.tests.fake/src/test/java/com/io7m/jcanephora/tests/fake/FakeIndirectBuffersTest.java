@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.fake;
+
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupported;
+import com.io7m.jcanephora.core.JCGLIndirectBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectCommands;
+import com.io7m.jcanephora.core.JCGLPrimitives;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLDrawType;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.fake.JCGLImplementationFake;
+import com.io7m.jcanephora.fake.JCGLImplementationFakeType;
+import com.io7m.jcanephora.tests.contracts.JCGLIndirectBuffersContract;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+
+public final class FakeIndirectBuffersTest extends JCGLIndirectBuffersContract
+{
+  private static ByteBuffer map(
+    final JCGLIndirectBuffersType g_i,
+    final JCGLIndirectBufferType b)
+  {
+    return g_i.indirectBufferMapRange(
+      b, b.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Override
+  protected JCGLContextType newGL33Context(
+    final String name,
+    final int depth_bits,
+    final int stencil_bits)
+  {
+    try {
+      final JCGLImplementationFakeType i = JCGLImplementationFake.getInstance();
+      return i.newContext(name, new FakeDefaultShaderListener());
+    } catch (final JCGLExceptionUnsupported | JCGLExceptionNonCompliant x) {
+      throw new UnreachableCodeException(x);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+
+  }
+
+  @Test
+  public void testSupported()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+    Assert.assertTrue(g_i.indirectDrawIsSupported());
+    Assert.assertTrue(g_i.indirectMultiDrawIsSupported());
+  }
+
+  @Test
+  public void testMapWriteCommands()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(32L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final ByteBuffer m = map(g_i, b);
+    final int next = JCGLIndirectCommands.putDrawArrays(m, 0, 3, 2, 6);
+    Assert.assertEquals(16L, (long) next);
+    g_i.indirectBufferUnmap(b);
+
+    final ByteBuffer r = map(g_i, b);
+    Assert.assertEquals(3L, (long) r.getInt(0));
+    Assert.assertEquals(2L, (long) r.getInt(4));
+    Assert.assertEquals(6L, (long) r.getInt(8));
+    Assert.assertEquals(0L, (long) r.getInt(12));
+  }
+
+  @Test
+  public void testDrawArraysIndirectReservedNonZero()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(16L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final ByteBuffer m = map(g_i, b);
+    JCGLIndirectCommands.putDrawArrays(m, 0, 3, 1, 0);
+    m.putInt(12, 1);
+    g_i.indirectBufferUnmap(b);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+  }
+
+  @Test
+  public void testDrawArraysIndirectNegativeCount()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(16L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final ByteBuffer m = map(g_i, b);
+    JCGLIndirectCommands.putDrawArrays(m, 0, -1, 1, 0);
+    g_i.indirectBufferUnmap(b);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+  }
+
+  @Test
+  public void testDrawElementsIndirectExceedsIndices()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateIndexed(g);
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(40L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final ByteBuffer m = map(g_i, b);
+    final int next = JCGLIndirectCommands.putDrawElements(m, 0, 10, 1, 0, 0);
+    JCGLIndirectCommands.putDrawElements(m, next, 10, 1, 95, 0);
+    g_i.indirectBufferUnmap(b);
+
+    g_d.drawElementsIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.multiDrawElementsIndirect(
+      JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 2, 0);
+  }
+}
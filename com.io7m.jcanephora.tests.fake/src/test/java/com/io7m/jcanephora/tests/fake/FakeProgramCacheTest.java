@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.fake;
+
+import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupported;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.fake.JCGLImplementationFake;
+import com.io7m.jcanephora.fake.JCGLImplementationFakeType;
+import com.io7m.jcanephora.program.cache.JCGLProgramCacheStatistics;
+import com.io7m.jcanephora.program.cache.JCGLProgramCacheType;
+import com.io7m.jcanephora.tests.contracts.JCGLProgramCacheContract;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class FakeProgramCacheTest extends JCGLProgramCacheContract
+{
+  @Override
+  protected JCGLContextType newGL33Context(
+    final String name,
+    final int depth_bits,
+    final int stencil_bits)
+  {
+    try {
+      final JCGLImplementationFakeType i = JCGLImplementationFake.getInstance();
+      return i.newContext(name, new FakeDefaultShaderListener());
+    } catch (final JCGLExceptionUnsupported | JCGLExceptionNonCompliant x) {
+      throw new UnreachableCodeException(x);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+
+  }
+
+  /**
+   * Damage the magic number of the fake binary held in the cache file, so
+   * that the cache file remains valid but the driver rejects the binary.
+   */
+
+  @Test
+  public void testRejectedBinaryRelinked()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+      c.cacheSave();
+    }
+
+    final Path file = this.cacheFile();
+    final byte[] data = Files.readAllBytes(file);
+    boolean damaged = false;
+    for (int index = 0; index + 3 < data.length; ++index) {
+      if (data[index] == 0x4A
+        && data[index + 1] == 0x43
+        && data[index + 2] == 0x46
+        && data[index + 3] == 0x42) {
+        data[index] = 0x0;
+        damaged = true;
+      }
+    }
+    Assert.assertTrue(damaged);
+    Files.write(file, data);
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+
+      final JCGLProgramCacheStatistics stats = c.cacheStatistics();
+      Assert.assertEquals(1L, stats.hits());
+      Assert.assertEquals(1L, stats.misses());
+      Assert.assertEquals(1L, stats.rejections());
+      Assert.assertEquals(1L, (long) stats.entries());
+    }
+  }
+}
@@ -378,6 +378,38 @@ public final class FakeShadersTest extends JCGLShadersContract
         context, p, location++, "sc", JCGLType.TYPE_SAMPLER_CUBE, 1));
   }
 
+  private static void onLinkUniforms3(
+    final FakeContext context,
+    final JCGLProgramShaderUsableType p,
+    final Map<String, JCGLProgramAttributeType> attributes,
+    final Map<String, JCGLProgramUniformType> uniforms)
+  {
+    int location = 0;
+
+    uniforms.put(
+      "bones[0]", new FakeProgramUniform(
+        context, p, location++, "bones[0]", JCGLType.TYPE_FLOAT_MATRIX_4, 8));
+    uniforms.put(
+      "colors[0]", new FakeProgramUniform(
+        context, p, location++, "colors[0]", JCGLType.TYPE_FLOAT_VECTOR_4, 4));
+    uniforms.put(
+      "indices[0]", new FakeProgramUniform(
+        context,
+        p,
+        location++,
+        "indices[0]",
+        JCGLType.TYPE_INTEGER_VECTOR_2,
+        4));
+    uniforms.put(
+      "masks[0]", new FakeProgramUniform(
+        context,
+        p,
+        location++,
+        "masks[0]",
+        JCGLType.TYPE_UNSIGNED_INTEGER,
+        3));
+  }
+
   @Override
   protected Interfaces getInterfaces(final String name)
   {
@@ -582,6 +614,11 @@ public final class FakeShadersTest extends JCGLShadersContract
         return;
       }
 
+      if ("uniforms3".equals(name)) {
+        FakeShadersTest.onLinkUniforms3(context, p, attributes, uniforms);
+        return;
+      }
+
       if ("incompatible0".equals(name)) {
         throw new JCGLExceptionProgramCompileError(name, "Failure");
       }
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.fake;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupported;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLSyncWaitResult;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
+import com.io7m.jcanephora.fake.FakeContext;
+import com.io7m.jcanephora.fake.JCGLImplementationFake;
+import com.io7m.jcanephora.fake.JCGLImplementationFakeType;
+import com.io7m.jcanephora.tests.contracts.JCGLSyncsContract;
+import com.io7m.junreachable.UnreachableCodeException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class FakeSyncsTest extends JCGLSyncsContract
+{
+  @Override
+  protected JCGLContextType newGL33Context(
+    final String name,
+    final int depth_bits,
+    final int stencil_bits)
+  {
+    try {
+      final JCGLImplementationFakeType i = JCGLImplementationFake.getInstance();
+      return i.newContext(name, new FakeDefaultShaderListener());
+    } catch (final JCGLExceptionUnsupported | JCGLExceptionNonCompliant x) {
+      throw new UnreachableCodeException(x);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+
+  }
+
+  @Test
+  public void testLatency()
+  {
+    final FakeContext c = (FakeContext) this.newGL33Context("main", 24, 8);
+    final AtomicLong clock = new AtomicLong(0L);
+    c.setSyncClock(clock::get);
+    c.setSyncLatency(100L);
+
+    final JCGLSyncsType g_s = c.contextGetGL33().syncs();
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    Assert.assertEquals(JCGLSyncStatus.SYNC_UNSIGNALLED, g_s.syncPoll(s));
+    Assert.assertEquals(
+      JCGLSyncWaitResult.SYNC_WAIT_TIMEOUT_EXPIRED,
+      g_s.syncClientWait(s, 10L));
+
+    clock.set(99L);
+    Assert.assertEquals(JCGLSyncStatus.SYNC_UNSIGNALLED, g_s.syncPoll(s));
+    clock.set(100L);
+    Assert.assertEquals(JCGLSyncStatus.SYNC_SIGNALLED, g_s.syncPoll(s));
+  }
+
+  @Test
+  public void testClientWaitWithinTimeout()
+  {
+    final FakeContext c = (FakeContext) this.newGL33Context("main", 24, 8);
+    final AtomicLong clock = new AtomicLong(0L);
+    c.setSyncClock(clock::get);
+    c.setSyncLatency(100L);
+
+    final JCGLSyncsType g_s = c.contextGetGL33().syncs();
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    Assert.assertEquals(
+      JCGLSyncWaitResult.SYNC_WAIT_CONDITION_SATISFIED,
+      g_s.syncClientWait(s, 100L));
+    Assert.assertEquals(JCGLSyncStatus.SYNC_SIGNALLED, g_s.syncPoll(s));
+  }
+
+  @Test
+  public void testReadbackLatency()
+    throws Exception
+  {
+    final FakeContext c = (FakeContext) this.newGL33Context("main", 24, 8);
+    final AtomicLong clock = new AtomicLong(0L);
+    c.setSyncClock(clock::get);
+    c.setSyncLatency(100L);
+
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = g33.arrayBuffers().arrayBufferAllocate(
+      16L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    g33.arrayBuffers().arrayBufferUnbind();
+
+    final CompletableFuture<ByteBuffer> f0 = g_r.readbackArrayBuffer(
+      a, a.byteRange(), size -> ByteBuffer.allocate((int) size));
+    clock.set(50L);
+    final CompletableFuture<ByteBuffer> f1 = g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(0L, 3L),
+      size -> ByteBuffer.allocate((int) size));
+
+    Assert.assertEquals(0L, (long) g_r.readbackPoll());
+    Assert.assertEquals(2L, (long) g_r.readbackPending());
+
+    clock.set(100L);
+    Assert.assertEquals(1L, (long) g_r.readbackPoll());
+    Assert.assertTrue(f0.isDone());
+    Assert.assertFalse(f1.isDone());
+
+    clock.set(150L);
+    Assert.assertEquals(1L, (long) g_r.readbackPoll());
+    Assert.assertEquals(4L, (long) f1.get().capacity());
+    Assert.assertEquals(0L, (long) g_r.readbackPending());
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.fake;
+
+import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
+import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackMisconfigured;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupported;
+import com.io7m.jcanephora.core.JCGLFragmentShaderType;
+import com.io7m.jcanephora.core.JCGLPrimitives;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
+import com.io7m.jcanephora.core.JCGLVertexShaderType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jcanephora.fake.JCGLImplementationFake;
+import com.io7m.jcanephora.fake.JCGLImplementationFakeType;
+import com.io7m.jcanephora.tests.contracts.JCGLTransformFeedbackContract;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public final class FakeTransformFeedbackTest
+  extends JCGLTransformFeedbackContract
+{
+  @Override
+  protected JCGLContextType newGL33Context(
+    final String name,
+    final int depth_bits,
+    final int stencil_bits)
+  {
+    try {
+      final JCGLImplementationFakeType i = JCGLImplementationFake.getInstance();
+      return i.newContext(name, new FakeDefaultShaderListener());
+    } catch (final JCGLExceptionUnsupported | JCGLExceptionNonCompliant x) {
+      throw new UnreachableCodeException(x);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+
+  }
+
+  @Test
+  public void testDrawIncompatiblePrimitive()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+
+    this.expected.expect(JCGLExceptionTransformFeedbackMisconfigured.class);
+    g.drawing().draw(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0, 6);
+  }
+
+  @Test
+  public void testDrawPausedNotCounted()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    final JCGLPrimitivesWrittenQueryType q =
+      gt.transformFeedbackQueryAllocate();
+
+    gt.transformFeedbackQueryBegin(q);
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_LINES);
+    g.drawing().draw(JCGLPrimitives.PRIMITIVE_LINES, 0, 6);
+    gt.transformFeedbackPause();
+    g.drawing().draw(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0, 6);
+    gt.transformFeedbackResume();
+    g.drawing().draw(JCGLPrimitives.PRIMITIVE_LINE_LOOP, 0, 6);
+    gt.transformFeedbackEnd();
+    gt.transformFeedbackQueryFinish(q);
+
+    Assert.assertEquals(3L + 6L, gt.transformFeedbackQueryResultGet(q));
+  }
+
+  @Test
+  public void testLinkTooManySeparate()
+  {
+    final JCGLShadersType gs = this.getGL33("main").shaders();
+
+    final JCGLVertexShaderType v = gs.shaderCompileVertex(
+      "transform_feedback0", getShaderLines("transform_feedback0.vert"));
+    final JCGLFragmentShaderType f =
+      gs.shaderCompileFragment("valid0", getShaderLines("valid0.frag"));
+
+    this.expected.expect(JCGLExceptionProgramCompileError.class);
+    gs.shaderLinkProgram(
+      "transform_feedback0",
+      v,
+      Optional.empty(),
+      f,
+      Arrays.asList("a", "b", "c", "d", "e"),
+      JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_SEPARATE);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.fake;
+
+import com.io7m.jcanephora.core.JCGLExceptionNonCompliant;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupported;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLUniformBufferType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
+import com.io7m.jcanephora.fake.FakeContext;
+import com.io7m.jcanephora.fake.FakeProgramUniformBlock;
+import com.io7m.jcanephora.fake.JCGLImplementationFake;
+import com.io7m.jcanephora.fake.JCGLImplementationFakeType;
+import com.io7m.jcanephora.tests.contracts.JCGLUniformBuffersContract;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junreachable.UnreachableCodeException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.junit.Test;
+
+import java.util.Map;
+
+public final class FakeUniformBuffersTest extends JCGLUniformBuffersContract
+{
+  @Override
+  protected JCGLContextType newGL33Context(
+    final String name,
+    final int depth_bits,
+    final int stencil_bits)
+  {
+    try {
+      final JCGLImplementationFakeType i = JCGLImplementationFake.getInstance();
+      return i.newContext(name, new UniformBlocksShaderListener());
+    } catch (final JCGLExceptionUnsupported | JCGLExceptionNonCompliant x) {
+      throw new UnreachableCodeException(x);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+
+  }
+
+  @Test
+  public void testBindIndexedRangeAlignment()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(1024L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBufferBindIndexedRange(
+      0, u, new UnsignedRangeInclusiveL(128L, 255L));
+  }
+
+  private static final class UniformBlocksShaderListener
+    extends FakeDefaultShaderListener
+  {
+    UniformBlocksShaderListener()
+    {
+
+    }
+
+    @Override
+    public void onLinkProgramUniformBlocks(
+      final FakeContext context,
+      final JCGLProgramShaderUsableType p,
+      final String name,
+      final Map<String, JCGLProgramUniformBlockType> blocks)
+    {
+      if ("uniform_blocks0".equals(name)) {
+        blocks.put(
+          "Camera", new FakeProgramUniformBlock(context, p, 0, "Camera", 144L));
+      }
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.jogl;
+
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import com.io7m.jcanephora.tests.contracts.JCGLPrimitiveRestartContract;
+import com.jogamp.opengl.DebugGL3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class JOGLPrimitiveRestartTestGL33
+  extends JCGLPrimitiveRestartContract
+{
+  @Override
+  public void onTestCompleted()
+  {
+    JOGLTestContexts.closeAllContexts();
+  }
+
+  @Override
+  protected JCGLPrimitiveRestartType getPrimitiveRestart(final String name)
+  {
+    final JCGLContextType c = JOGLTestContexts.newGL33Context(name, 24, 8);
+    final JCGLInterfaceGL33Type cg = c.contextGetGL33();
+    return cg.primitiveRestart();
+  }
+
+  @Test
+  public void testRedundantEnableDisable()
+    throws Exception
+  {
+    final AtomicInteger enables = new AtomicInteger(0);
+    final AtomicInteger disables = new AtomicInteger(0);
+    final AtomicInteger indices = new AtomicInteger(0);
+
+    final JCGLContextType c =
+      JOGLTestContexts.newGL33ContextWithSupplierAndErrors(
+        "main", ctx -> {
+          final GL3 base = ctx.getGL().getGL3();
+          return new DebugGL3(base)
+          {
+            @Override
+            public void glEnable(final int i)
+            {
+              super.glEnable(i);
+              if (i == GL2GL3.GL_PRIMITIVE_RESTART) {
+                enables.incrementAndGet();
+              }
+            }
+
+            @Override
+            public void glDisable(final int i)
+            {
+              super.glDisable(i);
+              if (i == GL2GL3.GL_PRIMITIVE_RESTART) {
+                disables.incrementAndGet();
+              }
+            }
+
+            @Override
+            public void glPrimitiveRestartIndex(final int i)
+            {
+              super.glPrimitiveRestartIndex(i);
+              indices.incrementAndGet();
+            }
+          };
+        }, 24, 8);
+
+    final JCGLInterfaceGL33Type g = c.contextGetGL33();
+    final JCGLPrimitiveRestartType g_p = g.primitiveRestart();
+
+    Assert.assertEquals(0L, (long) enables.get());
+    Assert.assertEquals(1L, (long) disables.get());
+    Assert.assertEquals(1L, (long) indices.get());
+
+    g_p.primitiveRestartDisable();
+
+    Assert.assertEquals(0L, (long) enables.get());
+    Assert.assertEquals(1L, (long) disables.get());
+    Assert.assertEquals(1L, (long) indices.get());
+
+    g_p.primitiveRestartEnable(0xffff);
+
+    Assert.assertEquals(1L, (long) enables.get());
+    Assert.assertEquals(1L, (long) disables.get());
+    Assert.assertEquals(2L, (long) indices.get());
+
+    g_p.primitiveRestartEnable(0xffff);
+
+    Assert.assertEquals(1L, (long) enables.get());
+    Assert.assertEquals(1L, (long) disables.get());
+    Assert.assertEquals(2L, (long) indices.get());
+
+    g_p.primitiveRestartEnable(0xffffffff);
+
+    Assert.assertEquals(1L, (long) enables.get());
+    Assert.assertEquals(1L, (long) disables.get());
+    Assert.assertEquals(3L, (long) indices.get());
+
+    g_p.primitiveRestartDisable();
+
+    Assert.assertEquals(1L, (long) enables.get());
+    Assert.assertEquals(2L, (long) disables.get());
+    Assert.assertEquals(3L, (long) indices.get());
+
+    g_p.primitiveRestartEnable(0xffffffff);
+
+    Assert.assertEquals(2L, (long) enables.get());
+    Assert.assertEquals(2L, (long) disables.get());
+    Assert.assertEquals(3L, (long) indices.get());
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.lwjgl3;
+
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.tests.contracts.JCGLAsyncProgramCompilerContract;
+import com.io7m.jcanephora.tests.contracts.JCGLShadersContract;
+import com.io7m.jcanephora.tests.contracts.JCGLSharedContextPair;
+import org.junit.Assert;
+
+import java.io.BufferedReader;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class LWJGL3AsyncProgramCompilerTestGL33 extends
+  JCGLAsyncProgramCompilerContract
+{
+  @Override
+  protected JCGLSharedContextPair<JCGLContextType> getContextsSharedWith(
+    final String name,
+    final String shared)
+  {
+    final JCGLSharedContextPair<JCGLContextType> p =
+      LWJGL3TestContexts.newGL33ContextSharedWith(name, shared);
+    Assert.assertTrue(p.getMasterContext().contextIsCurrent());
+    Assert.assertFalse(p.getSlaveContext().contextIsCurrent());
+    return p;
+  }
+
+  @Override
+  protected List<String> getShaderLines(final String name)
+  {
+    final Class<JCGLShadersContract> c = JCGLShadersContract.class;
+    final List<String> lines = new ArrayList<>(32);
+    try (final InputStream is = c.getResourceAsStream(name)) {
+      try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(is))) {
+        while (true) {
+          final String line = reader.readLine();
+          if (line == null) {
+            return lines;
+          }
+          lines.add(line + "\n");
+        }
+      }
+    } catch (final IOException e) {
+      throw new IOError(e);
+    }
+  }
+
+  @Override
+  public void onTestCompleted()
+  {
+    this.shutDownCompilers();
+    LWJGL3TestContexts.closeAllContexts();
+  }
+}
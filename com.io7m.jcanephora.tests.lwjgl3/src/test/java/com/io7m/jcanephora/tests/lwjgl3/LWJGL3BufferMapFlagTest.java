@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.lwjgl3;
+
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.lwjgl3.LWJGL3TypeConversions;
+import com.io7m.jcanephora.tests.contracts.JCGLBufferMapFlagContract;
+
+public final class LWJGL3BufferMapFlagTest extends JCGLBufferMapFlagContract
+{
+  @Override
+  protected int toInt(final JCGLBufferMapFlag c)
+  {
+    return LWJGL3TypeConversions.bufferMapFlagToGL(c);
+  }
+
+  @Override
+  protected JCGLBufferMapFlag fromInt(final int c)
+  {
+    return LWJGL3TypeConversions.bufferMapFlagFromGL(c);
+  }
+}
@@ -16,10 +16,14 @@
 
 package com.io7m.jcanephora.tests.contracts;
 
+import com.io7m.jcanephora.core.JCGLArrayBufferStreamingType;
 import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionWrongContext;
 import com.io7m.jcanephora.core.JCGLUsageHint;
@@ -33,6 +37,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
 import java.util.Optional;
 
 /**
@@ -456,4 +462,433 @@ public abstract class JCGLArrayBuffersContract extends JCGLContract
     ga.arrayBufferRead(a, size -> ByteBuffer.allocateDirect((int) size));
     Assert.fail();
   }
+
+  @Test
+  public final void testArrayStreamingAllocateIdentities()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+
+    final JCGLArrayBufferStreamingType a =
+      ga.arrayBufferStreamingAllocate(
+        100L, 3, JCGLUsageHint.USAGE_STREAM_DRAW);
+
+    final UnsignedRangeInclusiveL r = a.byteRange();
+    Assert.assertEquals(0L, r.getLower());
+    Assert.assertEquals(299L, r.getUpper());
+    Assert.assertEquals(JCGLUsageHint.USAGE_STREAM_DRAW, a.usageHint());
+    Assert.assertEquals(3L, (long) a.segmentCount());
+    Assert.assertEquals(100L, a.segmentSize());
+    Assert.assertEquals(0L, (long) a.segmentCurrent());
+    Assert.assertFalse(a.isDeleted());
+    Assert.assertTrue(ga.arrayBufferIsBound(a));
+  }
+
+  @Test
+  public final void testArrayStreamingAllocateZeroSegments()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+
+    this.expected.expect(RangeCheckException.class);
+    ga.arrayBufferStreamingAllocate(100L, 0, JCGLUsageHint.USAGE_STREAM_DRAW);
+    Assert.fail();
+  }
+
+  @Test
+  public final void testArrayStreamingRotate()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+
+    final JCGLArrayBufferStreamingType a =
+      ga.arrayBufferStreamingAllocate(
+        100L, 3, JCGLUsageHint.USAGE_STREAM_DRAW);
+
+    Assert.assertEquals(0L, (long) a.segmentCurrent());
+    Assert.assertEquals(0L, a.segmentCurrentByteRange().getLower());
+    Assert.assertEquals(99L, a.segmentCurrentByteRange().getUpper());
+
+    ga.arrayBufferStreamingRotate(a);
+    Assert.assertEquals(1L, (long) a.segmentCurrent());
+    Assert.assertEquals(100L, a.segmentCurrentByteRange().getLower());
+    Assert.assertEquals(199L, a.segmentCurrentByteRange().getUpper());
+
+    ga.arrayBufferStreamingRotate(a);
+    Assert.assertEquals(2L, (long) a.segmentCurrent());
+    Assert.assertEquals(200L, a.segmentCurrentByteRange().getLower());
+    Assert.assertEquals(299L, a.segmentCurrentByteRange().getUpper());
+
+    ga.arrayBufferStreamingRotate(a);
+    Assert.assertEquals(0L, (long) a.segmentCurrent());
+    Assert.assertEquals(0L, a.segmentCurrentByteRange().getLower());
+    Assert.assertEquals(99L, a.segmentCurrentByteRange().getUpper());
+  }
+
+  @Test
+  public final void testArrayStreamingRotateNotBound()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferStreamingType a =
+      ga.arrayBufferStreamingAllocate(
+        100L, 3, JCGLUsageHint.USAGE_STREAM_DRAW);
+
+    ga.arrayBufferUnbind();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    ga.arrayBufferStreamingRotate(a);
+    Assert.fail();
+  }
+
+  @Test
+  public final void testArrayStreamingRotateDeleted()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferStreamingType a =
+      ga.arrayBufferStreamingAllocate(
+        100L, 3, JCGLUsageHint.USAGE_STREAM_DRAW);
+
+    ga.arrayBufferDelete(a);
+    Assert.assertTrue(a.isDeleted());
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    ga.arrayBufferStreamingRotate(a);
+    Assert.fail();
+  }
+
+  @Test
+  public final void testArrayStreamingWriteNotBound()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferStreamingType a =
+      ga.arrayBufferStreamingAllocate(
+        100L, 3, JCGLUsageHint.USAGE_STREAM_DRAW);
+
+    ga.arrayBufferUnbind();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    ga.arrayBufferStreamingWrite(a, b -> Assert.fail());
+    Assert.fail();
+  }
+
+  @Test
+  public final void testArrayStreamingWriteWindow()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferStreamingType a =
+      ga.arrayBufferStreamingAllocate(
+        100L, 3, JCGLUsageHint.USAGE_STREAM_DRAW);
+
+    ga.arrayBufferStreamingRotate(a);
+    ga.arrayBufferStreamingWrite(a, b -> {
+      Assert.assertEquals(100L, (long) b.capacity());
+      for (int index = 0; index < 100; ++index) {
+        b.put(index, (byte) index);
+      }
+    });
+
+    final ByteBuffer e =
+      ga.arrayBufferRead(a, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 100; ++index) {
+      final long ev = (long) e.get(100 + index);
+      Assert.assertEquals("index " + index, (long) index, ev);
+    }
+  }
+
+  @Test
+  public final void testArrayMapRangeWrite()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final ByteBuffer m = ga.arrayBufferMapRange(
+      a,
+      new UnsignedRangeInclusiveL(10L, 19L),
+      EnumSet.of(JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_RANGE));
+
+    Assert.assertEquals(10L, (long) m.capacity());
+    Assert.assertEquals(ByteOrder.nativeOrder(), m.order());
+    for (int index = 0; index < 10; ++index) {
+      m.put(index, (byte) (index + 1));
+    }
+
+    Assert.assertTrue(ga.arrayBufferUnmap(a));
+
+    final ByteBuffer e =
+      ga.arrayBufferRead(a, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 10; ++index) {
+      final long ev = (long) e.get(10 + index);
+      Assert.assertEquals("index " + index, (long) (index + 1), ev);
+    }
+  }
+
+  @Test
+  public final void testArrayMapRangeFlushExplicit()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final ByteBuffer m = ga.arrayBufferMapRange(
+      a,
+      new UnsignedRangeInclusiveL(50L, 99L),
+      EnumSet.of(
+        JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_RANGE,
+        JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT));
+
+    for (int index = 0; index < 50; ++index) {
+      m.put(index, (byte) 0x7f);
+    }
+
+    ga.arrayBufferFlushMappedRange(a, new UnsignedRangeInclusiveL(0L, 49L));
+    Assert.assertTrue(ga.arrayBufferUnmap(a));
+
+    final ByteBuffer e =
+      ga.arrayBufferRead(a, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 50; index < 100; ++index) {
+      Assert.assertEquals("index " + index, 0x7fL, (long) e.get(index));
+    }
+  }
+
+  @Test
+  public final void testArrayMapRangeNotBound()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferUnbind();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    ga.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testArrayMapRangeDeleted()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferDelete(a);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    ga.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testArrayMapRangeOutOfRange()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    ga.arrayBufferMapRange(
+      a,
+      new UnsignedRangeInclusiveL(0L, 100L),
+      EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testArrayMapRangeAlreadyMapped()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    ga.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testArrayMapRangeUpdateMapped()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    ga.arrayBufferUpdate(JCGLBufferUpdates.newUpdateReplacingAll(a));
+  }
+
+  @Test
+  public final void testArrayMapRangeFlushOutOfRange()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferMapRange(
+      a,
+      new UnsignedRangeInclusiveL(50L, 59L),
+      EnumSet.of(JCGLBufferMapFlag.BUFFER_MAP_FLUSH_EXPLICIT));
+
+    this.expected.expect(RangeCheckException.class);
+    ga.arrayBufferFlushMappedRange(a, new UnsignedRangeInclusiveL(0L, 10L));
+  }
+
+  @Test
+  public final void testArrayUnmapNotMapped()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(JCGLExceptionBufferNotMapped.class);
+    ga.arrayBufferUnmap(a);
+  }
+
+  @Test
+  public final void testArrayReallocateUnmaps()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+    ga.arrayBufferReallocate(a);
+
+    this.expected.expect(JCGLExceptionBufferNotMapped.class);
+    ga.arrayBufferUnmap(a);
+  }
+
+  @Test
+  public final void testArrayCopy()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a0 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLArrayBufferType a1 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferBind(a0);
+    final JCGLBufferUpdateType<JCGLArrayBufferType> u =
+      JCGLBufferUpdates.newUpdateReplacingAll(a0);
+    final ByteBuffer d = u.data();
+    for (int index = 0; index < 100; ++index) {
+      d.put(index, (byte) index);
+    }
+    ga.arrayBufferUpdate(u);
+
+    ga.arrayBufferUnbind();
+    ga.arrayBufferCopy(a0, new UnsignedRangeInclusiveL(10L, 19L), a1, 50L);
+
+    ga.arrayBufferBind(a1);
+    final ByteBuffer e =
+      ga.arrayBufferRead(a1, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 10; ++index) {
+      final long ev = (long) e.get(50 + index);
+      Assert.assertEquals("index " + index, (long) (10 + index), ev);
+    }
+    Assert.assertEquals(0L, (long) e.get(49));
+    Assert.assertEquals(0L, (long) e.get(60));
+  }
+
+  @Test
+  public final void testArrayCopySameBuffer()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLBufferUpdateType<JCGLArrayBufferType> u =
+      JCGLBufferUpdates.newUpdateReplacingAll(a);
+    final ByteBuffer d = u.data();
+    for (int index = 0; index < 100; ++index) {
+      d.put(index, (byte) index);
+    }
+    ga.arrayBufferUpdate(u);
+
+    ga.arrayBufferCopy(a, new UnsignedRangeInclusiveL(50L, 59L), a, 0L);
+
+    final ByteBuffer e =
+      ga.arrayBufferRead(a, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 10; ++index) {
+      final long ev = (long) e.get(index);
+      Assert.assertEquals("index " + index, (long) (50 + index), ev);
+    }
+    Assert.assertEquals(10L, (long) e.get(10));
+  }
+
+  @Test
+  public final void testArrayCopyOverlapping()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    ga.arrayBufferCopy(a, new UnsignedRangeInclusiveL(0L, 19L), a, 10L);
+  }
+
+  @Test
+  public final void testArrayCopySourceOutOfRange()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a0 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLArrayBufferType a1 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    ga.arrayBufferCopy(a0, new UnsignedRangeInclusiveL(90L, 100L), a1, 0L);
+  }
+
+  @Test
+  public final void testArrayCopyTargetOutOfRange()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a0 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLArrayBufferType a1 =
+      ga.arrayBufferAllocate(10L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    ga.arrayBufferCopy(a0, new UnsignedRangeInclusiveL(0L, 9L), a1, 1L);
+  }
+
+  @Test
+  public final void testArrayCopyMapped()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a0 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLArrayBufferType a1 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferMapRange(
+      a1, a1.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    ga.arrayBufferCopy(a0, new UnsignedRangeInclusiveL(0L, 9L), a1, 0L);
+  }
+
+  @Test
+  public final void testArrayCopyDeleted()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a0 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLArrayBufferType a1 =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    ga.arrayBufferDelete(a0);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    ga.arrayBufferCopy(a0, new UnsignedRangeInclusiveL(0L, 9L), a1, 0L);
+  }
 }
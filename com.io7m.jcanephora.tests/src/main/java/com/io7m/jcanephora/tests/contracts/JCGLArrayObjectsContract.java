@@ -414,6 +414,55 @@ public abstract class JCGLArrayObjectsContract extends JCGLContract
     Assert.fail();
   }
 
+  @Test
+  public final void testFloatingArrayPackedBadElements()
+  {
+    final Interfaces i_main = this.getInterfaces("main");
+    final JCGLArrayBuffersType ga_main = i_main.getArrayBuffers();
+    final JCGLArrayObjectsType go_main = i_main.getArrayObjects();
+
+    final JCGLArrayBufferType a =
+      ga_main.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLArrayObjectBuilderType b = go_main.arrayObjectNewBuilder();
+    Assert.assertTrue(b.getMaximumVertexAttributes() >= 16);
+
+    this.expected.expect(RangeCheckException.class);
+    b.setAttributeFloatingPoint(
+      0, a, 3, JCGLScalarType.TYPE_INT_2_10_10_10_REV, 16, 0L, true);
+    Assert.fail();
+  }
+
+  @Test
+  public final void testFloatingArrayPacked()
+  {
+    final Interfaces i_main = this.getInterfaces("main");
+    final JCGLArrayBuffersType ga_main = i_main.getArrayBuffers();
+    final JCGLArrayObjectsType go_main = i_main.getArrayObjects();
+
+    final JCGLArrayBufferType a =
+      ga_main.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLArrayObjectBuilderType b = go_main.arrayObjectNewBuilder();
+    b.setAttributeFloatingPoint(
+      0, a, 4, JCGLScalarType.TYPE_UNSIGNED_SHORT, 16, 0L, true);
+    b.setAttributeFloatingPoint(
+      1, a, 4, JCGLScalarType.TYPE_INT_2_10_10_10_REV, 16, 8L, true);
+    b.setAttributeFloatingPoint(
+      2, a, 4, JCGLScalarType.TYPE_UNSIGNED_INT_2_10_10_10_REV, 16, 12L, true);
+
+    final JCGLArrayObjectType ai = go_main.arrayObjectAllocate(b);
+    for (int index = 0; index < ai.attributeMaximumSupported(); ++index) {
+      Assert.assertEquals(b.getAttributeAt(index), ai.attributeAt(index));
+    }
+
+    final JCGLArrayVertexAttributeFloatingPointType attr =
+      (JCGLArrayVertexAttributeFloatingPointType) ai.attributeAt(1).get();
+    Assert.assertEquals(JCGLScalarType.TYPE_INT_2_10_10_10_REV, attr.type());
+    Assert.assertEquals(4L, (long) attr.elementCount());
+    Assert.assertTrue(attr.isNormalized());
+  }
+
   @Test
   public final void testFloatingArrayBadStride()
   {
@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.async.JCGLAsyncProgramCompiler;
+import com.io7m.jcanephora.async.JCGLAsyncProgramCompilerType;
+import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramSources;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async program compiler contract.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLAsyncProgramCompilerContract extends JCGLContract
+{
+  @Rule public ExpectedException expected = ExpectedException.none();
+
+  private final List<JCGLAsyncProgramCompilerType> compilers =
+    new ArrayList<>();
+
+  protected abstract JCGLSharedContextPair<JCGLContextType>
+  getContextsSharedWith(
+    String name,
+    String shared);
+
+  protected abstract List<String> getShaderLines(String name);
+
+  protected final void shutDownCompilers()
+  {
+    final Iterator<JCGLAsyncProgramCompilerType> iter =
+      this.compilers.iterator();
+    while (iter.hasNext()) {
+      final JCGLAsyncProgramCompilerType c = iter.next();
+      try {
+        c.shutDown().get();
+      } catch (final InterruptedException | ExecutionException e) {
+        e.printStackTrace();
+      }
+      iter.remove();
+    }
+  }
+
+  private JCGLAsyncProgramCompilerType newCompiler(
+    final JCGLContextType c)
+  {
+    final JCGLAsyncProgramCompilerType compiler =
+      JCGLAsyncProgramCompiler.createFromShares(c);
+    this.compilers.add(compiler);
+    return compiler;
+  }
+
+  private JCGLProgramSources sourcesFor(
+    final String name,
+    final String vertex,
+    final String fragment)
+  {
+    return JCGLProgramSources.builder()
+      .setName(name)
+      .setVertex(this.getShaderLines(vertex))
+      .setFragment(this.getShaderLines(fragment))
+      .build();
+  }
+
+  @Test
+  public final void testCreateFailureStopsThreads()
+    throws Exception
+  {
+    final JCGLSharedContextPair<JCGLContextType> cs =
+      this.getContextsSharedWith("main", "alt");
+    final JCGLContextType c = cs.getMasterContext();
+    final JCGLContextType shared = cs.getSlaveContext();
+    if (shared.contextIsCurrent()) {
+      shared.contextReleaseCurrent();
+    }
+    shared.contextDestroy();
+
+    final Set<Thread> before = Thread.getAllStackTraces().keySet();
+    try {
+      this.newCompiler(c);
+      Assert.fail();
+    } catch (final RuntimeException e) {
+      // Expected
+    }
+
+    for (final Thread t : Thread.getAllStackTraces().keySet()) {
+      if (!before.contains(t)
+        && t.getName().startsWith("com.io7m.jcanephora.async.gl:")) {
+        t.join(TimeUnit.SECONDS.toMillis(30L));
+        Assert.assertFalse(t.isAlive());
+      }
+    }
+  }
+
+  @Test
+  public final void testCompileOne()
+    throws Exception
+  {
+    final JCGLSharedContextPair<JCGLContextType> cs =
+      this.getContextsSharedWith("main", "alt");
+    final JCGLContextType c = cs.getMasterContext();
+    final JCGLAsyncProgramCompilerType compiler = this.newCompiler(c);
+
+    final JCGLProgramShaderType p =
+      compiler.compile(this.sourcesFor("valid0", "valid0.vert", "valid0.frag"))
+        .get(30L, TimeUnit.SECONDS);
+
+    Assert.assertEquals("valid0", p.name());
+    Assert.assertFalse(p.isDeleted());
+
+    final JCGLShadersType s = c.contextGetGL33().shaders();
+    s.shaderActivateProgram(p);
+    Assert.assertEquals(p, s.shaderActivatedProgram().get());
+  }
+
+  @Test
+  public final void testCompileAllOrdered()
+    throws Exception
+  {
+    final JCGLSharedContextPair<JCGLContextType> cs =
+      this.getContextsSharedWith("main", "alt");
+    final JCGLContextType c = cs.getMasterContext();
+    final JCGLAsyncProgramCompilerType compiler = this.newCompiler(c);
+
+    final List<JCGLProgramSources> sources = new ArrayList<>(8);
+    for (int index = 0; index < 8; ++index) {
+      if (index % 2 == 0) {
+        sources.add(this.sourcesFor(
+          "valid" + index, "valid0.vert", "valid0.frag"));
+      } else {
+        sources.add(this.sourcesFor(
+          "attributes" + index, "attributes0.vert", "valid0.frag"));
+      }
+    }
+
+    final List<CompletableFuture<JCGLProgramShaderType>> futures =
+      compiler.compileAll(sources);
+    Assert.assertEquals((long) sources.size(), (long) futures.size());
+
+    final JCGLShadersType s = c.contextGetGL33().shaders();
+    for (int index = 0; index < futures.size(); ++index) {
+      final JCGLProgramShaderType p =
+        futures.get(index).get(30L, TimeUnit.SECONDS);
+      Assert.assertEquals(sources.get(index).name(), p.name());
+      Assert.assertFalse(p.isDeleted());
+      Assert.assertEquals(0L, (long) p.references().size());
+      s.shaderActivateProgram(p);
+      s.shaderDeactivateProgram();
+    }
+  }
+
+  @Test
+  public final void testCompileAllErrorIsolated()
+    throws Exception
+  {
+    final JCGLSharedContextPair<JCGLContextType> cs =
+      this.getContextsSharedWith("main", "alt");
+    final JCGLContextType c = cs.getMasterContext();
+    final JCGLAsyncProgramCompilerType compiler = this.newCompiler(c);
+
+    final List<JCGLProgramSources> sources = new ArrayList<>(3);
+    sources.add(this.sourcesFor("valid0", "valid0.vert", "valid0.frag"));
+    sources.add(
+      JCGLProgramSources.builder()
+        .setName("empty")
+        .setFragment(this.getShaderLines("valid0.frag"))
+        .build());
+    sources.add(this.sourcesFor("valid2", "valid0.vert", "valid0.frag"));
+
+    final List<CompletableFuture<JCGLProgramShaderType>> futures =
+      compiler.compileAll(sources);
+
+    Assert.assertEquals(
+      "valid0", futures.get(0).get(30L, TimeUnit.SECONDS).name());
+    Assert.assertEquals(
+      "valid2", futures.get(2).get(30L, TimeUnit.SECONDS).name());
+
+    try {
+      futures.get(1).get(30L, TimeUnit.SECONDS);
+      Assert.fail();
+    } catch (final ExecutionException e) {
+      Assert.assertTrue(
+        e.getCause() instanceof JCGLExceptionProgramCompileError);
+    }
+  }
+
+  @Test
+  public final void testCompileAfterShutDown()
+    throws Exception
+  {
+    final JCGLSharedContextPair<JCGLContextType> cs =
+      this.getContextsSharedWith("main", "alt");
+    final JCGLContextType c = cs.getMasterContext();
+    final JCGLAsyncProgramCompilerType compiler = this.newCompiler(c);
+    compiler.shutDown().get(30L, TimeUnit.SECONDS);
+    this.compilers.remove(compiler);
+
+    final CompletableFuture<JCGLProgramShaderType> f =
+      compiler.compile(this.sourcesFor("valid0", "valid0.vert", "valid0.frag"));
+
+    this.expected.expect(ExecutionException.class);
+    f.get(30L, TimeUnit.SECONDS);
+  }
+}
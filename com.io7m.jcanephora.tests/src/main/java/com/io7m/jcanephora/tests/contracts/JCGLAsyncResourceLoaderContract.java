@@ -31,6 +31,9 @@ import com.io7m.jcanephora.core.JCGLTextureWrapS;
 import com.io7m.jcanephora.core.JCGLTextureWrapT;
 import com.io7m.jcanephora.core.JCGLUnsignedType;
 import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressionQuality;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressor;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressorType;
 import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataProviderType;
 import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataType;
 import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureUpdateProviderType;
@@ -433,4 +436,45 @@ public abstract class JCGLAsyncResourceLoaderContract extends JCGLContract
       JCGLTextureFilterMagnification.TEXTURE_FILTER_NEAREST,
       tex.magnificationFilter());
   }
+
+  @Test
+  public final void testLoadTextureCompressed()
+    throws Exception
+  {
+    final Class<JCGLAsyncResourceLoaderContract> c =
+      JCGLAsyncResourceLoaderContract.class;
+
+    final JCGLAsyncResourceLoaderType loader =
+      this.getLoader("main");
+    final JCGLTLTextureDataProviderType data_prov =
+      this.getDataProvider();
+    final JCGLTextureCompressorType compressor =
+      JCGLTextureCompressor.create();
+
+    final CompletableFuture<JCGLTexture2DType> f =
+      loader.loadTexture(
+        () -> {
+          try {
+            return data_prov.loadFromStream(
+              c.getResourceAsStream("basn6a08.png"));
+          } catch (final IOException e) {
+            throw new UnreachableCodeException();
+          }
+        },
+        JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB,
+        JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+        JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR,
+        JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR,
+        compressor.populator(
+          JCGLTextureCompressionQuality.COMPRESSION_QUALITY_NORMAL)
+      );
+
+    final JCGLTexture2DType tex = f.get(30L, TimeUnit.SECONDS);
+    Assert.assertEquals(32L, tex.width());
+    Assert.assertEquals(32L, tex.height());
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB,
+      tex.format());
+  }
 }
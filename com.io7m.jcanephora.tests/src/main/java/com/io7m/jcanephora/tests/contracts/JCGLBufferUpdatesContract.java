@@ -19,6 +19,8 @@ package com.io7m.jcanephora.tests.contracts;
 import com.io7m.jcanephora.core.JCGLArrayBufferType;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLBufferWriteCombiner;
+import com.io7m.jcanephora.core.JCGLBufferWriteCombinerStatistics;
 import com.io7m.jcanephora.core.JCGLUsageHint;
 import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
 import com.io7m.jranges.RangeCheckException;
@@ -29,6 +31,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Buffer updates contracts.
@@ -72,4 +76,152 @@ public abstract class JCGLBufferUpdatesContract extends JCGLContract
     JCGLBufferUpdates.newUpdateReplacingRange(
       a, new UnsignedRangeInclusiveL(0L, 200L));
   }
+
+  @Test
+  public final void testWriteCombinerInitialFlush()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLBufferWriteCombiner<JCGLArrayBufferType> c =
+      JCGLBufferWriteCombiner.create(a, 0L);
+    Assert.assertSame(a, c.buffer());
+    Assert.assertTrue(c.isDirty());
+    Assert.assertEquals(100L, (long) c.shadow().capacity());
+
+    final List<UnsignedRangeInclusiveL> ranges = new ArrayList<>();
+    final int count = c.flush(u -> ranges.add(u.dataUpdateRange()));
+    Assert.assertEquals(1L, (long) count);
+    Assert.assertEquals(a.byteRange(), ranges.get(0));
+    Assert.assertFalse(c.isDirty());
+    Assert.assertEquals(0L, (long) c.flush(u -> Assert.fail()));
+  }
+
+  @Test
+  public final void testWriteCombinerCoalesce()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLBufferWriteCombiner<JCGLArrayBufferType> c =
+      JCGLBufferWriteCombiner.create(a, 4L);
+    c.flush(u -> { });
+
+    /*
+     * Overlapping, adjacent, within the gap threshold, and beyond it.
+     */
+
+    c.markDirty(new UnsignedRangeInclusiveL(10L, 19L));
+    c.markDirty(new UnsignedRangeInclusiveL(15L, 24L));
+    c.markDirty(new UnsignedRangeInclusiveL(25L, 29L));
+    c.markDirty(new UnsignedRangeInclusiveL(34L, 39L));
+    c.markDirty(new UnsignedRangeInclusiveL(45L, 49L));
+    c.markDirty(new UnsignedRangeInclusiveL(0L, 1L));
+
+    final List<UnsignedRangeInclusiveL> ranges = new ArrayList<>();
+    final int count = c.flush(u -> ranges.add(u.dataUpdateRange()));
+
+    Assert.assertEquals(3L, (long) count);
+    Assert.assertEquals(new UnsignedRangeInclusiveL(0L, 1L), ranges.get(0));
+    Assert.assertEquals(new UnsignedRangeInclusiveL(10L, 39L), ranges.get(1));
+    Assert.assertEquals(new UnsignedRangeInclusiveL(45L, 49L), ranges.get(2));
+
+    final JCGLBufferWriteCombinerStatistics s = c.statistics();
+    Assert.assertEquals(7L, s.writes());
+    Assert.assertEquals(100L + 38L, s.bytesWritten());
+    Assert.assertEquals(4L, s.uploads());
+    Assert.assertEquals(100L + 37L, s.bytesUploaded());
+    Assert.assertEquals(3L, s.uploadsSaved());
+    Assert.assertEquals(1L, s.bytesSaved());
+  }
+
+  @Test
+  public final void testWriteCombinerPendingNotSaved()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLBufferWriteCombiner<JCGLArrayBufferType> c =
+      JCGLBufferWriteCombiner.create(a, 0L);
+    c.flush(u -> { });
+
+    c.markDirty(new UnsignedRangeInclusiveL(0L, 9L));
+    c.markDirty(new UnsignedRangeInclusiveL(5L, 14L));
+    c.markDirty(new UnsignedRangeInclusiveL(50L, 59L));
+
+    {
+      final JCGLBufferWriteCombinerStatistics s = c.statistics();
+      Assert.assertEquals(4L, s.writes());
+      Assert.assertEquals(1L, s.writesFlushed());
+      Assert.assertEquals(100L, s.bytesFlushed());
+      Assert.assertEquals(1L, s.uploads());
+      Assert.assertEquals(0L, s.uploadsSaved());
+      Assert.assertEquals(0L, s.bytesSaved());
+    }
+
+    c.flush(u -> { });
+
+    {
+      final JCGLBufferWriteCombinerStatistics s = c.statistics();
+      Assert.assertEquals(4L, s.writesFlushed());
+      Assert.assertEquals(130L, s.bytesFlushed());
+      Assert.assertEquals(3L, s.uploads());
+      Assert.assertEquals(1L, s.uploadsSaved());
+      Assert.assertEquals(5L, s.bytesSaved());
+    }
+  }
+
+  @Test
+  public final void testWriteCombinerUpload()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLBufferWriteCombiner<JCGLArrayBufferType> c =
+      JCGLBufferWriteCombiner.create(a, 8L);
+
+    ga.arrayBufferBind(a);
+    Assert.assertEquals(1L, (long) c.flush(ga::arrayBufferUpdate));
+
+    final ByteBuffer d = ByteBuffer.allocate(4);
+    for (int index = 0; index < 4; ++index) {
+      d.put(index, (byte) (index + 1));
+    }
+
+    c.write(20L, d);
+    c.write(30L, d);
+    c.write(96L, d);
+    Assert.assertEquals(0L, (long) d.position());
+
+    Assert.assertEquals(2L, (long) c.flush(ga::arrayBufferUpdate));
+
+    final ByteBuffer e =
+      ga.arrayBufferRead(a, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 4; ++index) {
+      Assert.assertEquals((long) (index + 1), (long) e.get(20 + index));
+      Assert.assertEquals((long) (index + 1), (long) e.get(30 + index));
+      Assert.assertEquals((long) (index + 1), (long) e.get(96 + index));
+    }
+    Assert.assertEquals(0L, (long) e.get(24));
+    Assert.assertEquals(0L, (long) e.get(95));
+  }
+
+  @Test
+  public final void testWriteCombinerOutOfRange()
+  {
+    final JCGLArrayBuffersType ga = this.getArrayBuffers("main");
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final JCGLBufferWriteCombiner<JCGLArrayBufferType> c =
+      JCGLBufferWriteCombiner.create(a, 0L);
+
+    this.expected.expect(RangeCheckException.class);
+    c.write(98L, ByteBuffer.allocate(4));
+  }
 }
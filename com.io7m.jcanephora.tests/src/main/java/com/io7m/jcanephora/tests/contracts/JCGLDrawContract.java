@@ -35,6 +35,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
 /**
  * Drawing contracts.
  */
@@ -158,6 +162,221 @@ public abstract class JCGLDrawContract extends JCGLContract
     gd.drawElementsInstanced(JCGLPrimitives.PRIMITIVE_POINTS, 1);
   }
 
+  private static void allocateIndexed(
+    final Interfaces i)
+  {
+    final JCGLArrayObjectsType go = i.getArrayObjects();
+    final JCGLIndexBuffersType gi = i.getIndexBuffers();
+
+    final JCGLIndexBufferType ib = gi.indexBufferAllocate(
+      100L,
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT,
+      JCGLUsageHint.USAGE_STATIC_DRAW);
+    gi.indexBufferUnbind();
+
+    final JCGLArrayObjectBuilderType b = go.arrayObjectNewBuilder();
+    b.setIndexBuffer(ib);
+    go.arrayObjectAllocate(b);
+  }
+
+  private static IntBuffer directInts(
+    final int... values)
+  {
+    final IntBuffer b = ByteBuffer.allocateDirect(values.length * 4)
+      .order(ByteOrder.nativeOrder())
+      .asIntBuffer();
+    b.put(values);
+    b.rewind();
+    return b;
+  }
+
+  @Test
+  public final void testDrawElementsRangeNoIndex()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    gd.drawElementsRange(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 3);
+  }
+
+  @Test
+  public final void testDrawElementsRangeOK()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    gd.drawElementsRange(JCGLPrimitives.PRIMITIVE_POINTS, 10L, 50);
+    gd.drawElementsRange(JCGLPrimitives.PRIMITIVE_POINTS, 0L, 100);
+  }
+
+  @Test
+  public final void testDrawElementsRangeOutOfRange()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    this.expected.expect(RangeCheckException.class);
+    gd.drawElementsRange(JCGLPrimitives.PRIMITIVE_POINTS, 90L, 11);
+  }
+
+  @Test
+  public final void testDrawElementsRangeBadFirst()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    this.expected.expect(RangeCheckException.class);
+    gd.drawElementsRange(JCGLPrimitives.PRIMITIVE_POINTS, -1L, 1);
+  }
+
+  @Test
+  public final void testDrawElementsBaseVertexOK()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    gd.drawElementsBaseVertex(JCGLPrimitives.PRIMITIVE_POINTS, 10L, 50, 4);
+  }
+
+  @Test
+  public final void testDrawElementsBaseVertexOutOfRange()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    this.expected.expect(RangeCheckException.class);
+    gd.drawElementsBaseVertex(JCGLPrimitives.PRIMITIVE_POINTS, 0L, 101, 0);
+  }
+
+  @Test
+  public final void testDrawElementsBaseVertexNoIndex()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    gd.drawElementsBaseVertex(JCGLPrimitives.PRIMITIVE_POINTS, 0L, 1, 0);
+  }
+
+  @Test
+  public final void testDrawRangeElementsOK()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    gd.drawRangeElements(JCGLPrimitives.PRIMITIVE_POINTS, 0, 99, 10L, 50);
+  }
+
+  @Test
+  public final void testDrawRangeElementsBadBounds()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+    this.expected.expect(RangeCheckException.class);
+    gd.drawRangeElements(JCGLPrimitives.PRIMITIVE_POINTS, 10, 5, 0L, 1);
+  }
+
+  @Test
+  public final void testDrawRangeElementsNoIndex()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    gd.drawRangeElements(JCGLPrimitives.PRIMITIVE_POINTS, 0, 1, 0L, 1);
+  }
+
+  @Test
+  public final void testMultiDrawArraysOK()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    final IntBuffer first = directInts(0, 3, 6);
+    final IntBuffer count = directInts(3, 3, 3);
+    gd.multiDrawArrays(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+  }
+
+  @Test
+  public final void testMultiDrawArraysMismatched()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    final IntBuffer first = directInts(0, 3, 6);
+    final IntBuffer count = directInts(3, 3);
+    this.expected.expect(RangeCheckException.class);
+    gd.multiDrawArrays(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+  }
+
+  @Test
+  public final void testMultiDrawArraysBadCount()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    final IntBuffer first = directInts(0, 3, 6);
+    final IntBuffer count = directInts(3, -1, 3);
+    this.expected.expect(RangeCheckException.class);
+    gd.multiDrawArrays(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+  }
+
+  @Test
+  public final void testMultiDrawElementsOK()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+
+    final int[] f = new int[100];
+    final int[] c = new int[100];
+    for (int index = 0; index < 100; ++index) {
+      f[index] = index;
+      c[index] = 1;
+    }
+
+    final IntBuffer first = directInts(f);
+    final IntBuffer count = directInts(c);
+    gd.multiDrawElements(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+    gd.multiDrawElements(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+  }
+
+  @Test
+  public final void testMultiDrawElementsOutOfRange()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    allocateIndexed(i);
+
+    final IntBuffer first = directInts(0, 50, 90);
+    final IntBuffer count = directInts(10, 10, 11);
+    this.expected.expect(RangeCheckException.class);
+    gd.multiDrawElements(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+  }
+
+  @Test
+  public final void testMultiDrawElementsNoIndex()
+  {
+    final Interfaces i = this.getInterfaces("main");
+    final JCGLDrawType gd = i.getDraw();
+
+    final IntBuffer first = directInts(0);
+    final IntBuffer count = directInts(1);
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    gd.multiDrawElements(JCGLPrimitives.PRIMITIVE_POINTS, first, count);
+  }
+
   protected static final class Interfaces
   {
     private final JCGLContextType context;
@@ -18,9 +18,12 @@ package com.io7m.jcanephora.tests.contracts;
 
 import com.io7m.jcanephora.core.JCGLArrayObjectType;
 import com.io7m.jcanephora.core.JCGLArrayObjectUsableType;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
 import com.io7m.jcanephora.core.JCGLBufferUpdateType;
 import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
 import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotMapped;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionWrongContext;
 import com.io7m.jcanephora.core.JCGLIndexBufferType;
@@ -34,12 +37,15 @@ import com.io7m.jcanephora.core.api.JCGLContextType;
 import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
 import com.io7m.jnull.NullCheck;
 import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -322,6 +328,219 @@ public abstract class JCGLIndexBuffersContract extends JCGLContract
     gi.indexBufferRead(i, size -> ByteBuffer.allocateDirect((int) size));
   }
 
+  @Test
+  public final void testIndexMapRangeWrite()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    final ByteBuffer m = gi.indexBufferMapRange(
+      i,
+      new UnsignedRangeInclusiveL(10L, 19L),
+      EnumSet.of(JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_RANGE));
+
+    Assert.assertEquals(10L, (long) m.capacity());
+    Assert.assertEquals(ByteOrder.nativeOrder(), m.order());
+    for (int index = 0; index < 10; ++index) {
+      m.put(index, (byte) (index + 1));
+    }
+
+    Assert.assertTrue(gi.indexBufferUnmap(i));
+
+    final ByteBuffer e =
+      gi.indexBufferRead(i, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 10; ++index) {
+      final long ev = (long) e.get(10 + index);
+      Assert.assertEquals("index " + index, (long) (index + 1), ev);
+    }
+  }
+
+  @Test
+  public final void testIndexMapRangeNotBound()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    gi.indexBufferUnbind();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    gi.indexBufferMapRange(
+      i, i.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testIndexMapRangeOutOfRange()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    gi.indexBufferMapRange(
+      i,
+      new UnsignedRangeInclusiveL(0L, 100L),
+      EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testIndexMapRangeAlreadyMapped()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    gi.indexBufferMapRange(
+      i, i.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    gi.indexBufferMapRange(
+      i, i.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testIndexMapRangeReadMapped()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    gi.indexBufferMapRange(
+      i, i.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    gi.indexBufferRead(i, size -> ByteBuffer.allocateDirect((int) size));
+  }
+
+  @Test
+  public final void testIndexUnmapNotMapped()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(JCGLExceptionBufferNotMapped.class);
+    gi.indexBufferUnmap(i);
+  }
+
+  @Test
+  public final void testIndexFlushNotMapped()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(JCGLExceptionBufferNotMapped.class);
+    gi.indexBufferFlushMappedRange(i, new UnsignedRangeInclusiveL(0L, 9L));
+  }
+
+  @Test
+  public final void testIndexCopy()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i0 =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLIndexBufferType i1 =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    gi.indexBufferBind(i0);
+    final JCGLBufferUpdateType<JCGLIndexBufferType> u =
+      JCGLBufferUpdates.newUpdateReplacingAll(i0);
+    final ByteBuffer d = u.data();
+    for (int index = 0; index < 100; ++index) {
+      d.put(index, (byte) index);
+    }
+    gi.indexBufferUpdate(u);
+
+    gi.indexBufferCopy(i0, new UnsignedRangeInclusiveL(20L, 29L), i1, 0L);
+
+    gi.indexBufferBind(i1);
+    final ByteBuffer e =
+      gi.indexBufferRead(i1, size -> ByteBuffer.allocateDirect((int) size));
+
+    for (int index = 0; index < 10; ++index) {
+      final long ev = (long) e.get(index);
+      Assert.assertEquals("index " + index, (long) (20 + index), ev);
+    }
+    Assert.assertEquals(0L, (long) e.get(10));
+  }
+
+  @Test
+  public final void testIndexCopyOverlapping()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    gi.indexBufferCopy(i, new UnsignedRangeInclusiveL(10L, 19L), i, 19L);
+  }
+
+  @Test
+  public final void testIndexCopyMapped()
+  {
+    final Interfaces ii = this.getIndexBuffers("main");
+    final JCGLIndexBuffersType gi = ii.getIndexBuffers();
+    final JCGLIndexBufferType i0 =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLIndexBufferType i1 =
+      gi.indexBufferAllocate(
+        100L,
+        JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+        JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    gi.indexBufferBind(i0);
+    gi.indexBufferMapRange(
+      i0, i0.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    gi.indexBufferCopy(i0, new UnsignedRangeInclusiveL(0L, 9L), i1, 0L);
+  }
+
   protected static final class Interfaces
   {
     private final JCGLContextType context;
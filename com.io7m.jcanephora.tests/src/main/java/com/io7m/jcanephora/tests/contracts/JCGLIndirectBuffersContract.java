@@ -0,0 +1,423 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLArrayObjectBuilderType;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLIndexBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferType;
+import com.io7m.jcanephora.core.JCGLIndirectBufferUsableType;
+import com.io7m.jcanephora.core.JCGLIndirectCommands;
+import com.io7m.jcanephora.core.JCGLPrimitives;
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLArrayObjectsType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLDrawType;
+import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
+import com.io7m.jcanephora.core.api.JCGLIndirectBuffersType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Indirect buffer contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLIndirectBuffersContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLInterfaceGL33Type getGL33(final String name)
+  {
+    final JCGLInterfaceGL33Type g =
+      this.newGL33Context(name, 24, 8).contextGetGL33();
+    Assume.assumeTrue(
+      "Indirect drawing is supported",
+      g.indirectBuffers().indirectDrawIsSupported());
+    return g;
+  }
+
+  protected final JCGLInterfaceGL33Type getGL33Multi(final String name)
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33(name);
+    Assume.assumeTrue(
+      "Multi-draw indirect drawing is supported",
+      g.indirectBuffers().indirectMultiDrawIsSupported());
+    return g;
+  }
+
+  protected static void allocateIndexed(
+    final JCGLInterfaceGL33Type g)
+  {
+    final JCGLArrayObjectsType go = g.arrayObjects();
+    final JCGLIndexBuffersType gi = g.indexBuffers();
+
+    final JCGLIndexBufferType ib = gi.indexBufferAllocate(
+      100L,
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT,
+      JCGLUsageHint.USAGE_STATIC_DRAW);
+    gi.indexBufferUnbind();
+
+    final JCGLArrayObjectBuilderType b = go.arrayObjectNewBuilder();
+    b.setIndexBuffer(ib);
+    go.arrayObjectAllocate(b);
+  }
+
+  protected static JCGLIndirectBufferType allocateArrayCommands(
+    final JCGLIndirectBuffersType g_i,
+    final int draws)
+  {
+    final long size =
+      (long) (draws * JCGLIndirectCommands.DRAW_ARRAYS_COMMAND_SIZE_BYTES);
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(size, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    final ByteBuffer m = g_i.indirectBufferMapRange(
+      b,
+      b.byteRange(),
+      EnumSet.of(JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_BUFFER));
+    int offset = 0;
+    for (int index = 0; index < draws; ++index) {
+      offset = JCGLIndirectCommands.putDrawArrays(m, offset, 3, 1, index * 3);
+    }
+    g_i.indirectBufferUnmap(b);
+    return b;
+  }
+
+  protected static JCGLIndirectBufferType allocateElementCommands(
+    final JCGLIndirectBuffersType g_i,
+    final int draws)
+  {
+    final long size =
+      (long) (draws * JCGLIndirectCommands.DRAW_ELEMENTS_COMMAND_SIZE_BYTES);
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(size, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    final ByteBuffer m = g_i.indirectBufferMapRange(
+      b,
+      b.byteRange(),
+      EnumSet.of(JCGLBufferMapFlag.BUFFER_MAP_INVALIDATE_BUFFER));
+    int offset = 0;
+    for (int index = 0; index < draws; ++index) {
+      offset = JCGLIndirectCommands.putDrawElements(
+        m, offset, 10, 1, index * 10, 0);
+    }
+    g_i.indirectBufferUnmap(b);
+    return b;
+  }
+
+  @Test
+  public final void testAllocateIdentities()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    Assert.assertEquals(64L, b.byteRange().getInterval());
+    Assert.assertEquals(JCGLUsageHint.USAGE_DYNAMIC_DRAW, b.usageHint());
+    Assert.assertFalse(b.isDeleted());
+    Assert.assertTrue(g_i.indirectBufferIsBound(b));
+    Assert.assertTrue(g_i.indirectBufferAnyIsBound());
+    Assert.assertEquals(Optional.of(b), g_i.indirectBufferGetCurrentlyBound());
+  }
+
+  @Test
+  public final void testBindUnbind()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b0 =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final JCGLIndirectBufferType b1 =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    Assert.assertFalse(g_i.indirectBufferIsBound(b0));
+    Assert.assertTrue(g_i.indirectBufferIsBound(b1));
+
+    g_i.indirectBufferBind(b0);
+    Assert.assertTrue(g_i.indirectBufferIsBound(b0));
+    Assert.assertFalse(g_i.indirectBufferIsBound(b1));
+
+    g_i.indirectBufferUnbind();
+    Assert.assertFalse(g_i.indirectBufferAnyIsBound());
+    Assert.assertEquals(
+      Optional.empty(), g_i.indirectBufferGetCurrentlyBound());
+  }
+
+  @Test
+  public final void testDeleteUnbinds()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    g_i.indirectBufferDelete(b);
+
+    Assert.assertTrue(b.isDeleted());
+    Assert.assertFalse(g_i.indirectBufferAnyIsBound());
+  }
+
+  @Test
+  public final void testDeleteDeleted()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    g_i.indirectBufferDelete(b);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_i.indirectBufferDelete(b);
+  }
+
+  @Test
+  public final void testBindDeleted()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    g_i.indirectBufferDelete(b);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_i.indirectBufferBind(b);
+  }
+
+  @Test
+  public final void testUpdate()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final JCGLBufferUpdateType<JCGLIndirectBufferType> u =
+      JCGLBufferUpdates.newUpdateReplacingAll(b);
+    g_i.indirectBufferUpdate(u);
+  }
+
+  @Test
+  public final void testUpdateNotBound()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    g_i.indirectBufferUnbind();
+
+    final JCGLBufferUpdateType<JCGLIndirectBufferType> u =
+      JCGLBufferUpdates.newUpdateReplacingAll(b);
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    g_i.indirectBufferUpdate(u);
+  }
+
+  @Test
+  public final void testMapTwice()
+  {
+    final JCGLIndirectBuffersType g_i = this.getGL33("main").indirectBuffers();
+
+    final JCGLIndirectBufferType b =
+      g_i.indirectBufferAllocate(64L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final UnsignedRangeInclusiveL r = b.byteRange();
+    g_i.indirectBufferMapRange(b, r, EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    g_i.indirectBufferMapRange(b, r, EnumSet.noneOf(JCGLBufferMapFlag.class));
+  }
+
+  @Test
+  public final void testDrawArraysIndirect()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 4);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 48L);
+  }
+
+  @Test
+  public final void testDrawArraysIndirectNotBound()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 1);
+    g_i.indirectBufferUnbind();
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+  }
+
+  @Test
+  public final void testDrawArraysIndirectMapped()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    final JCGLIndirectBufferUsableType b = allocateArrayCommands(g_i, 1);
+    g_i.indirectBufferMapRange(
+      b, b.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+  }
+
+  @Test
+  public final void testDrawArraysIndirectOutOfRange()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 1);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 4L);
+  }
+
+  @Test
+  public final void testDrawArraysIndirectMisaligned()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 2);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.drawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 2L);
+  }
+
+  @Test
+  public final void testDrawElementsIndirect()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateIndexed(g);
+    allocateElementCommands(g_i, 4);
+    g_d.drawElementsIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+    g_d.drawElementsIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 60L);
+  }
+
+  @Test
+  public final void testDrawElementsIndirectNoIndexBuffer()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateElementCommands(g_i, 1);
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    g_d.drawElementsIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L);
+  }
+
+  @Test
+  public final void testMultiDrawArraysIndirect()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33Multi("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 8);
+    g_d.multiDrawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 8, 0);
+    g_d.multiDrawArraysIndirect(
+      JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 4, 32);
+  }
+
+  @Test
+  public final void testMultiDrawArraysIndirectOutOfRange()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33Multi("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 8);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.multiDrawArraysIndirect(
+      JCGLPrimitives.PRIMITIVE_TRIANGLES, 16L, 8, 0);
+  }
+
+  @Test
+  public final void testMultiDrawArraysIndirectBadStride()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33Multi("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateArrayCommands(g_i, 8);
+
+    this.expected.expect(RangeCheckException.class);
+    g_d.multiDrawArraysIndirect(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 8, 8);
+  }
+
+  @Test
+  public final void testMultiDrawElementsIndirect()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33Multi("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateIndexed(g);
+    allocateElementCommands(g_i, 10);
+    g_d.multiDrawElementsIndirect(
+      JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 10, 0);
+  }
+
+  @Test
+  public final void testMultiDrawElementsIndirectNoIndexBuffer()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33Multi("main");
+    final JCGLIndirectBuffersType g_i = g.indirectBuffers();
+    final JCGLDrawType g_d = g.drawing();
+
+    allocateElementCommands(g_i, 10);
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    g_d.multiDrawElementsIndirect(
+      JCGLPrimitives.PRIMITIVE_TRIANGLES, 0L, 10, 0);
+  }
+}
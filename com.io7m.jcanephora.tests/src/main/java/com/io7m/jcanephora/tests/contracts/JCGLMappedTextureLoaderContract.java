@@ -0,0 +1,806 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLTexture2DType;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureCubeType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
+import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureWrapR;
+import com.io7m.jcanephora.core.JCGLTextureWrapS;
+import com.io7m.jcanephora.core.JCGLTextureWrapT;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLTexturesType;
+import com.io7m.jcanephora.texture.loader.mapped.JCGLMappedTextureContainer;
+import com.io7m.jcanephora.texture.loader.mapped.JCGLMappedTextureFormatException;
+import com.io7m.jcanephora.texture.loader.mapped.JCGLMappedTextureLoader;
+import com.io7m.jcanephora.texture.loader.mapped.JCGLMappedTextureLoaderType;
+import com.io7m.jcanephora.texture.loader.mapped.JCGLMappedTextureType;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Memory-mapped texture loader contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLMappedTextureLoaderContract extends JCGLContract
+{
+  private static final byte[] KTX_IDENTIFIER = {
+    (byte) 0xAB, (byte) 0x4B, (byte) 0x54, (byte) 0x58,
+    (byte) 0x20, (byte) 0x31, (byte) 0x31, (byte) 0xBB,
+    (byte) 0x0D, (byte) 0x0A, (byte) 0x1A, (byte) 0x0A,
+  };
+
+  private static final int GL_UNSIGNED_BYTE = 0x1401;
+  private static final int GL_UNSIGNED_SHORT = 0x1403;
+  private static final int GL_FLOAT = 0x1406;
+  private static final int GL_RGB = 0x1907;
+  private static final int GL_RGBA = 0x1908;
+  private static final int GL_RGB8 = 0x8051;
+  private static final int GL_RGBA8 = 0x8058;
+  private static final int GL_RGBA16 = 0x805B;
+  private static final int GL_SRGB8_ALPHA8 = 0x8C43;
+  private static final int GL_RGBA32F = 0x8814;
+  private static final int GL_COMPRESSED_RED_RGTC1 = 0x8DBB;
+
+  private static final int DDSD_MIPMAPCOUNT = 0x20000;
+  private static final int DDPF_ALPHAPIXELS = 0x1;
+  private static final int DDPF_FOURCC = 0x4;
+  private static final int DDPF_RGB = 0x40;
+  private static final int DDSCAPS2_CUBEMAP_ALL = 0x200 | 0xFC00;
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLTexturesType getTextures(final String name)
+  {
+    return this.newGL33Context(name, 24, 8).contextGetGL33().textures();
+  }
+
+  private static int fourCC(final String code)
+  {
+    return (code.charAt(0) & 0xff)
+      | ((code.charAt(1) & 0xff) << 8)
+      | ((code.charAt(2) & 0xff) << 16)
+      | ((code.charAt(3) & 0xff) << 24);
+  }
+
+  private static ByteBuffer ktxHeader(
+    final ByteOrder order,
+    final int gl_type,
+    final int gl_type_size,
+    final int gl_format,
+    final int gl_internal_format,
+    final int width,
+    final int height,
+    final int faces,
+    final int levels)
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4096);
+    b.order(order);
+    b.put(KTX_IDENTIFIER);
+    b.putInt(0x04030201);
+    b.putInt(gl_type);
+    b.putInt(gl_type_size);
+    b.putInt(gl_format);
+    b.putInt(gl_internal_format);
+    b.putInt(gl_format);
+    b.putInt(width);
+    b.putInt(height);
+    b.putInt(0);
+    b.putInt(0);
+    b.putInt(faces);
+    b.putInt(levels);
+
+    /*
+     * Key/value data that must be skipped.
+     */
+
+    b.putInt(8);
+    b.putInt(4);
+    b.put((byte) 'a');
+    b.put((byte) 0);
+    b.put((byte) 'b');
+    b.put((byte) 0);
+    return b;
+  }
+
+  private static ByteBuffer ddsHeader(
+    final int flags,
+    final int width,
+    final int height,
+    final int mipmaps,
+    final int pf_flags,
+    final int pf_fourcc,
+    final int pf_bits,
+    final int[] masks,
+    final int caps2)
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4096);
+    b.order(ByteOrder.LITTLE_ENDIAN);
+    b.putInt(0x20534444);
+    b.putInt(124);
+    b.putInt(0x1007 | flags);
+    b.putInt(height);
+    b.putInt(width);
+    b.putInt(0);
+    b.putInt(0);
+    b.putInt(mipmaps);
+    for (int index = 0; index < 11; ++index) {
+      b.putInt(0);
+    }
+    b.putInt(32);
+    b.putInt(pf_flags);
+    b.putInt(pf_fourcc);
+    b.putInt(pf_bits);
+    for (int index = 0; index < 4; ++index) {
+      b.putInt(masks[index]);
+    }
+    b.putInt(0x1000);
+    b.putInt(caps2);
+    b.putInt(0);
+    b.putInt(0);
+    b.putInt(0);
+    return b;
+  }
+
+  private static void fill(
+    final ByteBuffer b,
+    final int count,
+    final int base)
+  {
+    for (int index = 0; index < count; ++index) {
+      b.put((byte) (base + index));
+    }
+  }
+
+  private static void checkContents(
+    final ByteBuffer b,
+    final int count,
+    final int base)
+  {
+    Assert.assertEquals((long) count, (long) b.capacity());
+    for (int index = 0; index < count; ++index) {
+      Assert.assertEquals(
+        (long) (byte) (base + index), (long) b.get(index));
+    }
+  }
+
+  private Path write(final ByteBuffer b)
+    throws IOException
+  {
+    b.flip();
+    final byte[] bytes = new byte[b.remaining()];
+    b.get(bytes);
+    final Path file = this.folder.newFile().toPath();
+    Files.write(file, bytes);
+    return file;
+  }
+
+  private JCGLMappedTextureType load(final ByteBuffer b)
+    throws IOException
+  {
+    final JCGLMappedTextureLoaderType loader =
+      JCGLMappedTextureLoader.newLoader();
+    return loader.load(this.write(b));
+  }
+
+  /**
+   * A 4x4 RGBA8 KTX file with three levels, where the bytes of level {@code
+   * n} begin at {@code n * 64}.
+   */
+
+  private static ByteBuffer ktxRGBA8Mipmapped()
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_UNSIGNED_BYTE, 1, GL_RGBA, GL_RGBA8,
+      4, 4, 1, 3);
+    b.putInt(64);
+    fill(b, 64, 0);
+    b.putInt(16);
+    fill(b, 16, 64);
+    b.putInt(4);
+    fill(b, 4, 128);
+    return b;
+  }
+
+  /**
+   * A 4x4 RGBA8 DX10 DDS cube map with one level, where the bytes of face
+   * {@code n} begin at {@code n * 64}.
+   */
+
+  private static ByteBuffer ddsRGBA8Cube()
+  {
+    final ByteBuffer b = ddsHeader(
+      0, 4, 4, 0, DDPF_FOURCC, fourCC("DX10"), 0, new int[4], 0);
+    b.putInt(28);
+    b.putInt(3);
+    b.putInt(0x4);
+    b.putInt(1);
+    b.putInt(0);
+    for (int face = 0; face < 6; ++face) {
+      fill(b, 64, face * 64);
+    }
+    return b;
+  }
+
+  @Test
+  public final void testKTXMipmapped()
+    throws Exception
+  {
+    final JCGLMappedTextureType m = this.load(ktxRGBA8Mipmapped());
+    Assert.assertEquals(
+      JCGLMappedTextureContainer.CONTAINER_KTX, m.container());
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP, m.format());
+    Assert.assertEquals(4L, m.size().width());
+    Assert.assertEquals(4L, m.size().height());
+    Assert.assertFalse(m.isCube());
+    Assert.assertEquals(3L, (long) m.levelCount());
+
+    final ByteBuffer l0 = m.levelData2D(0);
+    Assert.assertTrue(l0.isDirect());
+    Assert.assertTrue(l0.isReadOnly());
+    checkContents(l0, 64, 0);
+    checkContents(m.levelData2D(1), 16, 64);
+    checkContents(m.levelData2D(2), 4, 128);
+  }
+
+  @Test
+  public final void testKTXPaddedRows()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_UNSIGNED_BYTE, 1, GL_RGB, GL_RGB8,
+      3, 2, 1, 1);
+
+    /*
+     * Rows of 9 bytes are padded to 12 bytes.
+     */
+
+    b.putInt(24);
+    fill(b, 9, 0);
+    b.put(new byte[3]);
+    fill(b, 9, 9);
+    b.put(new byte[3]);
+
+    final JCGLMappedTextureType m = this.load(b);
+    final ByteBuffer l0 = m.levelData2D(0);
+    Assert.assertTrue(l0.isDirect());
+    checkContents(l0, 18, 0);
+  }
+
+  @Test
+  public final void testKTXCube()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, 0, 1, 0, GL_COMPRESSED_RED_RGTC1,
+      8, 8, 6, 1);
+    b.putInt(32);
+    for (int face = 0; face < 6; ++face) {
+      fill(b, 32, face * 32);
+    }
+
+    final JCGLMappedTextureType m = this.load(b);
+    Assert.assertTrue(m.isCube());
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB, m.format());
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_X, 0), 32, 0);
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_X, 0), 32, 32);
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_Y, 0), 32, 64);
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_Y, 0), 32, 96);
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_Z, 0), 32, 128);
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_Z, 0), 32, 160);
+  }
+
+  @Test
+  public final void testKTXBigEndianBytes()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.BIG_ENDIAN, GL_UNSIGNED_BYTE, 1, GL_RGBA, GL_RGBA8,
+      2, 2, 1, 1);
+    b.putInt(16);
+    fill(b, 16, 0);
+
+    final JCGLMappedTextureType m = this.load(b);
+    checkContents(m.levelData2D(0), 16, 0);
+  }
+
+  @Test
+  public final void testKTXBigEndianShorts()
+    throws Exception
+  {
+    Assume.assumeTrue(
+      "Platform is little-endian",
+      ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN);
+
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.BIG_ENDIAN, GL_UNSIGNED_SHORT, 2, GL_RGBA, GL_RGBA16,
+      1, 1, 1, 1);
+    b.putInt(8);
+    fill(b, 8, 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXBadEndianness()
+    throws Exception
+  {
+    final ByteBuffer b = ktxRGBA8Mipmapped();
+    b.putInt(12, 0x01020305);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXUnsupportedFormat()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_UNSIGNED_BYTE, 1, GL_RGBA, GL_SRGB8_ALPHA8,
+      1, 1, 1, 1);
+    b.putInt(4);
+    fill(b, 4, 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXWrongType()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_FLOAT, 4, GL_RGBA, GL_RGBA8,
+      1, 1, 1, 1);
+    b.putInt(4);
+    fill(b, 4, 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXTruncated()
+    throws Exception
+  {
+    final ByteBuffer b = ktxRGBA8Mipmapped();
+    b.position(b.position() - 1);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXImageSizeMismatch()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_UNSIGNED_BYTE, 1, GL_RGBA, GL_RGBA8,
+      2, 2, 1, 1);
+    b.putInt(12);
+    fill(b, 16, 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXTooManyLevels()
+    throws Exception
+  {
+    final ByteBuffer b = ktxRGBA8Mipmapped();
+    b.putInt(56, 4);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXArray()
+    throws Exception
+  {
+    final ByteBuffer b = ktxRGBA8Mipmapped();
+    b.putInt(48, 2);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXDimensionsOverflow()
+    throws Exception
+  {
+    /*
+     * 2^31 * 2^31 * 16 bytes wraps to zero in 64-bit arithmetic, so a naive
+     * loader would accept the image size of zero.
+     */
+
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_FLOAT, 4, GL_RGBA, GL_RGBA32F,
+      0x80000000, 0x80000000, 1, 1);
+    b.putInt(0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testKTXDimensionsTooLarge()
+    throws Exception
+  {
+    final ByteBuffer b = ktxHeader(
+      ByteOrder.LITTLE_ENDIAN, GL_UNSIGNED_BYTE, 1, GL_RGBA, GL_RGBA8,
+      65537, 1, 1, 1);
+    b.putInt(65537 * 4);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testDDSMipmapped()
+    throws Exception
+  {
+    final ByteBuffer b = ddsHeader(
+      DDSD_MIPMAPCOUNT, 8, 8, 4, DDPF_FOURCC, fourCC("DXT5"), 0,
+      new int[4], 0);
+    fill(b, 64, 0);
+    fill(b, 16, 64);
+    fill(b, 16, 80);
+    fill(b, 16, 96);
+
+    final JCGLMappedTextureType m = this.load(b);
+    Assert.assertEquals(
+      JCGLMappedTextureContainer.CONTAINER_DDS, m.container());
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB, m.format());
+    Assert.assertFalse(m.isCube());
+    Assert.assertEquals(4L, (long) m.levelCount());
+    checkContents(m.levelData2D(0), 64, 0);
+    checkContents(m.levelData2D(1), 16, 64);
+    checkContents(m.levelData2D(2), 16, 80);
+    checkContents(m.levelData2D(3), 16, 96);
+  }
+
+  @Test
+  public final void testDDSDXT1Alpha()
+    throws Exception
+  {
+    final ByteBuffer b0 = ddsHeader(
+      0, 4, 4, 0, DDPF_FOURCC, fourCC("DXT1"), 0, new int[4], 0);
+    fill(b0, 8, 0);
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB,
+      this.load(b0).format());
+
+    final ByteBuffer b1 = ddsHeader(
+      0, 4, 4, 0, DDPF_FOURCC | DDPF_ALPHAPIXELS, fourCC("DXT1"), 0,
+      new int[4], 0);
+    fill(b1, 8, 0);
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB,
+      this.load(b1).format());
+  }
+
+  @Test
+  public final void testDDSCubeDX10()
+    throws Exception
+  {
+    final JCGLMappedTextureType m = this.load(ddsRGBA8Cube());
+    Assert.assertTrue(m.isCube());
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP, m.format());
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_X, 0), 64, 0);
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_Z, 0), 64, 320);
+  }
+
+  @Test
+  public final void testDDSCubeLegacy()
+    throws Exception
+  {
+    final ByteBuffer b = ddsHeader(
+      0, 4, 4, 0, DDPF_FOURCC, fourCC("ATI2"), 0, new int[4],
+      DDSCAPS2_CUBEMAP_ALL);
+    for (int face = 0; face < 6; ++face) {
+      fill(b, 16, face * 16);
+    }
+
+    final JCGLMappedTextureType m = this.load(b);
+    Assert.assertTrue(m.isCube());
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB, m.format());
+    checkContents(
+      m.levelDataCube(JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_Y, 0), 16, 32);
+  }
+
+  @Test
+  public final void testDDSPartialCube()
+    throws Exception
+  {
+    final ByteBuffer b = ddsHeader(
+      0, 4, 4, 0, DDPF_FOURCC, fourCC("ATI2"), 0, new int[4], 0x200 | 0x400);
+    for (int face = 0; face < 6; ++face) {
+      fill(b, 16, face * 16);
+    }
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testDDSDimensionsOverflow()
+    throws Exception
+  {
+    final ByteBuffer b = ddsHeader(
+      0, 0xffffffff, 0xffffffff, 0, DDPF_FOURCC, fourCC("DXT5"), 0,
+      new int[4], 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testDDSLegacyRGBA()
+    throws Exception
+  {
+    final ByteBuffer b = ddsHeader(
+      0, 2, 2, 0, DDPF_RGB | DDPF_ALPHAPIXELS, 0, 32,
+      new int[]{0xff, 0xff00, 0xff0000, 0xff000000}, 0);
+    fill(b, 16, 0);
+
+    final JCGLMappedTextureType m = this.load(b);
+    Assert.assertEquals(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP, m.format());
+    checkContents(m.levelData2D(0), 16, 0);
+  }
+
+  @Test
+  public final void testDDSLegacyBGRA()
+    throws Exception
+  {
+    final ByteBuffer b = ddsHeader(
+      0, 2, 2, 0, DDPF_RGB | DDPF_ALPHAPIXELS, 0, 32,
+      new int[]{0xff0000, 0xff00, 0xff, 0xff000000}, 0);
+    fill(b, 16, 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testDDSTruncated()
+    throws Exception
+  {
+    final ByteBuffer b = ddsRGBA8Cube();
+    b.position(b.position() - 64);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testUnrecognized()
+    throws Exception
+  {
+    final ByteBuffer b = ByteBuffer.allocate(256);
+    fill(b, 256, 0);
+
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(b);
+  }
+
+  @Test
+  public final void testEmpty()
+    throws Exception
+  {
+    this.expected.expect(JCGLMappedTextureFormatException.class);
+    this.load(ByteBuffer.allocate(0));
+  }
+
+  @Test
+  public final void testLevelData2DCube()
+    throws Exception
+  {
+    final JCGLMappedTextureType m = this.load(ddsRGBA8Cube());
+
+    this.expected.expect(PreconditionViolationException.class);
+    m.levelData2D(0);
+  }
+
+  @Test
+  public final void testLevelDataMissing()
+    throws Exception
+  {
+    final JCGLMappedTextureType m = this.load(ktxRGBA8Mipmapped());
+
+    this.expected.expect(RangeCheckException.class);
+    m.levelData2D(3);
+  }
+
+  @Test
+  public final void testUpload2DMipmapped()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+    final JCGLMappedTextureType m = this.load(ktxRGBA8Mipmapped());
+
+    final JCGLTexture2DType tex = t.texture2DAllocate(
+      u0,
+      4L,
+      4L,
+      m.format(),
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    final List<JCGLTexture2DUpdateType> updates =
+      m.createTextureUpdates2D(tex);
+    Assert.assertEquals(3L, (long) updates.size());
+
+    for (int level = 0; level < updates.size(); ++level) {
+      final JCGLTexture2DUpdateType up = updates.get(level);
+      Assert.assertTrue(up.data().isReadOnly());
+      t.texture2DUpdateMipmapLevel(u0, level, up);
+    }
+
+    checkContents(t.texture2DGetImage(u0, tex), 64, 0);
+  }
+
+  @Test
+  public final void testUpload2DNotMipmapped()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+    final JCGLMappedTextureType m = this.load(ktxRGBA8Mipmapped());
+
+    final JCGLTexture2DType tex = t.texture2DAllocate(
+      u0,
+      4L,
+      4L,
+      m.format(),
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    final List<JCGLTexture2DUpdateType> updates =
+      m.createTextureUpdates2D(tex);
+    Assert.assertEquals(1L, (long) updates.size());
+    t.texture2DUpdate(u0, updates.get(0));
+    checkContents(t.texture2DGetImage(u0, tex), 64, 0);
+  }
+
+  @Test
+  public final void testUploadCube()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+    final JCGLMappedTextureType m = this.load(ddsRGBA8Cube());
+
+    final JCGLTextureCubeType tex = t.textureCubeAllocate(
+      u0,
+      4L,
+      m.format(),
+      JCGLTextureWrapR.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    for (final JCGLCubeMapFaceLH face : JCGLCubeMapFaceLH.values()) {
+      final List<JCGLTextureCubeUpdateType> updates =
+        m.createTextureUpdatesCube(tex, face);
+      Assert.assertEquals(1L, (long) updates.size());
+      t.textureCubeUpdateMipmapLevelLH(u0, face, 0, updates.get(0));
+    }
+
+    checkContents(
+      t.textureCubeGetImageLH(
+        u0, JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_X, tex), 64, 0);
+    checkContents(
+      t.textureCubeGetImageLH(
+        u0, JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_Y, tex), 64, 192);
+  }
+
+  @Test
+  public final void testUploadWrongFormat()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+    final JCGLMappedTextureType m = this.load(ktxRGBA8Mipmapped());
+
+    final JCGLTexture2DType tex = t.texture2DAllocate(
+      u0,
+      4L,
+      4L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16_8BPP,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    this.expected.expect(PreconditionViolationException.class);
+    m.createTextureUpdates2D(tex);
+  }
+
+  @Test
+  public final void testUploadWrongSize()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+    final JCGLMappedTextureType m = this.load(ktxRGBA8Mipmapped());
+
+    final JCGLTexture2DType tex = t.texture2DAllocate(
+      u0,
+      8L,
+      4L,
+      m.format(),
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    this.expected.expect(PreconditionViolationException.class);
+    m.createTextureUpdate2D(tex, 0);
+  }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLIndexBufferType;
+import com.io7m.jcanephora.core.JCGLScalarType;
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLIndexBuffersType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.mesh.arena.JCGLExceptionMeshArenaAllocationInvalid;
+import com.io7m.jcanephora.mesh.arena.JCGLExceptionMeshArenaExhausted;
+import com.io7m.jcanephora.mesh.arena.JCGLMeshArena;
+import com.io7m.jcanephora.mesh.arena.JCGLMeshArenaAllocationType;
+import com.io7m.jcanephora.mesh.arena.JCGLMeshArenaConfiguration;
+import com.io7m.jcanephora.mesh.arena.JCGLMeshArenaStatistics;
+import com.io7m.jcanephora.mesh.arena.JCGLMeshArenaType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public abstract class JCGLMeshArenaContract extends JCGLContract
+{
+  @Rule public ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  private static JCGLMeshArenaType newArena(
+    final JCGLInterfaceGL33Type g33,
+    final long vertices,
+    final long indices)
+  {
+    return JCGLMeshArena.create(
+      g33.arrayBuffers(),
+      g33.indexBuffers(),
+      g33.arrayObjects(),
+      JCGLMeshArenaConfiguration.of(
+        4, vertices, JCGLUnsignedType.TYPE_UNSIGNED_SHORT, indices),
+      (b, a) -> b.setAttributeFloatingPoint(
+        0, a, 1, JCGLScalarType.TYPE_FLOAT, 4, 0L, false));
+  }
+
+  private static void upload(
+    final JCGLMeshArenaType arena,
+    final JCGLMeshArenaAllocationType a,
+    final int tag)
+  {
+    final JCGLBufferUpdateType<JCGLArrayBufferType> vu =
+      arena.vertexUpdate(a);
+    final ByteBuffer vd = vu.data();
+    for (int index = 0; index < (int) a.vertexCount(); ++index) {
+      vd.putInt(index * 4, (tag * 1000) + index);
+    }
+    arena.updateVertices(vu);
+
+    final JCGLBufferUpdateType<JCGLIndexBufferType> iu =
+      arena.indexUpdate(a);
+    final ByteBuffer id = iu.data();
+    for (int index = 0; index < (int) a.indexCount(); ++index) {
+      id.putShort(index * 2, (short) ((tag * 100) + index));
+    }
+    arena.updateIndices(iu);
+  }
+
+  private static void check(
+    final JCGLInterfaceGL33Type g33,
+    final JCGLMeshArenaType arena,
+    final JCGLMeshArenaAllocationType a,
+    final int tag)
+  {
+    final JCGLArrayBuffersType g_ab = g33.arrayBuffers();
+    g_ab.arrayBufferBind(arena.arrayBuffer());
+    final ByteBuffer vd = g_ab.arrayBufferRead(
+      arena.arrayBuffer(), size -> ByteBuffer.allocateDirect((int) size));
+    vd.order(ByteOrder.nativeOrder());
+
+    for (int index = 0; index < (int) a.vertexCount(); ++index) {
+      final int offset = (int) ((a.baseVertex() + (long) index) * 4L);
+      Assert.assertEquals(
+        "vertex " + index,
+        (long) ((tag * 1000) + index),
+        (long) vd.getInt(offset));
+    }
+
+    final JCGLIndexBuffersType g_ib = g33.indexBuffers();
+    g33.arrayObjects().arrayObjectBind(arena.arrayObject());
+    final ByteBuffer id = g_ib.indexBufferRead(
+      arena.indexBuffer(), size -> ByteBuffer.allocateDirect((int) size));
+    id.order(ByteOrder.nativeOrder());
+
+    for (int index = 0; index < (int) a.indexCount(); ++index) {
+      final int offset = (int) ((a.firstIndex() + (long) index) * 2L);
+      Assert.assertEquals(
+        "index " + index,
+        (long) ((tag * 100) + index),
+        (long) id.getShort(offset));
+    }
+  }
+
+  @Test
+  public final void testAllocateSequential()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 100L, 300L);
+
+    Assert.assertFalse(arena.isDeleted());
+    Assert.assertEquals(
+      arena.indexBuffer(),
+      arena.arrayObject().indexBufferBound().get());
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(10L, 30L);
+    final JCGLMeshArenaAllocationType a1 = arena.allocate(20L, 60L);
+
+    Assert.assertEquals(0L, a0.baseVertex());
+    Assert.assertEquals(0L, a0.firstIndex());
+    Assert.assertEquals(10L, a1.baseVertex());
+    Assert.assertEquals(30L, a1.firstIndex());
+    Assert.assertEquals(40L, a1.vertexByteRange().getLower());
+    Assert.assertEquals(119L, a1.vertexByteRange().getUpper());
+    Assert.assertEquals(60L, a1.indexByteRange().getLower());
+    Assert.assertEquals(179L, a1.indexByteRange().getUpper());
+
+    final JCGLMeshArenaStatistics s = arena.statistics();
+    Assert.assertEquals(2L, s.allocations());
+    Assert.assertEquals(70L, s.verticesFree());
+    Assert.assertEquals(70L, s.verticesFreeLargestBlock());
+    Assert.assertEquals(210L, s.indicesFree());
+    Assert.assertEquals(210L, s.indicesFreeLargestBlock());
+  }
+
+  @Test
+  public final void testAllocateReuseCoalesced()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 30L, 30L);
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(10L, 10L);
+    final JCGLMeshArenaAllocationType a1 = arena.allocate(10L, 10L);
+    final JCGLMeshArenaAllocationType a2 = arena.allocate(10L, 10L);
+
+    arena.free(a0);
+    arena.free(a1);
+    Assert.assertTrue(a0.isFreed());
+    Assert.assertFalse(a2.isFreed());
+
+    final JCGLMeshArenaStatistics s = arena.statistics();
+    Assert.assertEquals(1L, s.allocations());
+    Assert.assertEquals(20L, s.verticesFreeLargestBlock());
+    Assert.assertEquals(20L, s.indicesFreeLargestBlock());
+
+    final JCGLMeshArenaAllocationType a3 = arena.allocate(20L, 20L);
+    Assert.assertEquals(0L, a3.baseVertex());
+    Assert.assertEquals(0L, a3.firstIndex());
+  }
+
+  @Test
+  public final void testAllocateExhaustedVertices()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 10L, 10L);
+
+    this.expected.expect(JCGLExceptionMeshArenaExhausted.class);
+    arena.allocate(11L, 1L);
+  }
+
+  @Test
+  public final void testAllocateExhaustedIndices()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 10L, 10L);
+
+    try {
+      arena.allocate(5L, 11L);
+      Assert.fail();
+    } catch (final JCGLExceptionMeshArenaExhausted e) {
+      // Expected
+    }
+
+    final JCGLMeshArenaStatistics s = arena.statistics();
+    Assert.assertEquals(0L, s.allocations());
+    Assert.assertEquals(10L, s.verticesFree());
+  }
+
+  @Test
+  public final void testAllocateFragmented()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 30L, 30L);
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(10L, 10L);
+    arena.allocate(10L, 10L);
+    final JCGLMeshArenaAllocationType a2 = arena.allocate(10L, 10L);
+    arena.free(a0);
+    arena.free(a2);
+
+    final JCGLMeshArenaStatistics s = arena.statistics();
+    Assert.assertEquals(20L, s.verticesFree());
+    Assert.assertEquals(10L, s.verticesFreeLargestBlock());
+
+    this.expected.expect(JCGLExceptionMeshArenaExhausted.class);
+    arena.allocate(20L, 1L);
+  }
+
+  @Test
+  public final void testFreeTwice()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 10L, 10L);
+
+    final JCGLMeshArenaAllocationType a = arena.allocate(1L, 1L);
+    arena.free(a);
+    this.expected.expect(JCGLExceptionMeshArenaAllocationInvalid.class);
+    arena.free(a);
+  }
+
+  @Test
+  public final void testFreeForeign()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena0 = newArena(g33, 10L, 10L);
+    final JCGLMeshArenaType arena1 = newArena(g33, 10L, 10L);
+
+    final JCGLMeshArenaAllocationType a = arena0.allocate(1L, 1L);
+    this.expected.expect(JCGLExceptionMeshArenaAllocationInvalid.class);
+    arena1.free(a);
+  }
+
+  @Test
+  public final void testUpdateWrongBuffer()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 10L, 10L);
+    final JCGLArrayBufferType other =
+      g33.arrayBuffers().arrayBufferAllocate(
+        40L, JCGLUsageHint.USAGE_STATIC_DRAW);
+
+    this.expected.expect(IllegalArgumentException.class);
+    arena.updateVertices(JCGLBufferUpdates.newUpdateReplacingAll(other));
+  }
+
+  @Test
+  public final void testUploadDefragment()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 100L, 100L);
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(4L, 6L);
+    final JCGLMeshArenaAllocationType a1 = arena.allocate(4L, 6L);
+    final JCGLMeshArenaAllocationType a2 = arena.allocate(4L, 6L);
+    upload(arena, a0, 1);
+    upload(arena, a1, 2);
+    upload(arena, a2, 3);
+    check(g33, arena, a1, 2);
+    check(g33, arena, a2, 3);
+
+    arena.free(a0);
+
+    final long moved = arena.defragment();
+    Assert.assertEquals((8L * 4L) + (12L * 2L), moved);
+    Assert.assertEquals(0L, a1.baseVertex());
+    Assert.assertEquals(0L, a1.firstIndex());
+    Assert.assertEquals(4L, a2.baseVertex());
+    Assert.assertEquals(6L, a2.firstIndex());
+    check(g33, arena, a1, 2);
+    check(g33, arena, a2, 3);
+
+    final JCGLMeshArenaStatistics s = arena.statistics();
+    Assert.assertEquals(92L, s.verticesFreeLargestBlock());
+    Assert.assertEquals(88L, s.indicesFreeLargestBlock());
+  }
+
+  @Test
+  public final void testDefragmentOverlapping()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 100L, 100L);
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(1L, 1L);
+    final JCGLMeshArenaAllocationType a1 = arena.allocate(10L, 20L);
+    upload(arena, a1, 7);
+
+    arena.free(a0);
+    arena.defragment();
+
+    Assert.assertEquals(0L, a1.baseVertex());
+    Assert.assertEquals(0L, a1.firstIndex());
+    check(g33, arena, a1, 7);
+  }
+
+  @Test
+  public final void testDefragmentEmpty()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 100L, 100L);
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(10L, 0L);
+    Assert.assertEquals(0L, arena.defragment());
+    Assert.assertEquals(0L, a0.baseVertex());
+    Assert.assertEquals(100L, arena.statistics().indicesFree());
+  }
+
+  @Test
+  public final void testDelete()
+  {
+    final JCGLContextType gc = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = gc.contextGetGL33();
+    final JCGLMeshArenaType arena = newArena(g33, 100L, 100L);
+
+    final JCGLMeshArenaAllocationType a0 = arena.allocate(10L, 10L);
+    arena.delete();
+
+    Assert.assertTrue(arena.isDeleted());
+    Assert.assertTrue(a0.isFreed());
+    Assert.assertTrue(arena.arrayBuffer().isDeleted());
+    Assert.assertTrue(arena.indexBuffer().isDeleted());
+    Assert.assertTrue(arena.arrayObject().isDeleted());
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    arena.allocate(1L, 1L);
+  }
+}
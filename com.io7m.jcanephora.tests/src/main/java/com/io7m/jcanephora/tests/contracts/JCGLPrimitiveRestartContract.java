@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Primitive restart contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLPrimitiveRestartContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLPrimitiveRestartType getPrimitiveRestart(String name);
+
+  @Test
+  public final void testPrimitiveRestartDefaults()
+  {
+    final JCGLPrimitiveRestartType g_p = this.getPrimitiveRestart("main");
+
+    Assert.assertFalse(g_p.primitiveRestartIsEnabled());
+    Assert.assertEquals(0L, (long) g_p.primitiveRestartGetIndex());
+  }
+
+  @Test
+  public final void testPrimitiveRestartIdentities()
+  {
+    final JCGLPrimitiveRestartType g_p = this.getPrimitiveRestart("main");
+
+    final int[] indices = {0xff, 0xffff, 0xffffffff, 23};
+    for (final int index : indices) {
+      g_p.primitiveRestartEnable(index);
+      Assert.assertTrue(g_p.primitiveRestartIsEnabled());
+      Assert.assertEquals((long) index, (long) g_p.primitiveRestartGetIndex());
+      g_p.primitiveRestartDisable();
+      Assert.assertFalse(g_p.primitiveRestartIsEnabled());
+      Assert.assertEquals((long) index, (long) g_p.primitiveRestartGetIndex());
+    }
+  }
+}
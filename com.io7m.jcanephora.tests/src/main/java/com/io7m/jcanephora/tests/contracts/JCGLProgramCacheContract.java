@@ -0,0 +1,271 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramSources;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.program.cache.JCGLProgramCache;
+import com.io7m.jcanephora.program.cache.JCGLProgramCacheConfiguration;
+import com.io7m.jcanephora.program.cache.JCGLProgramCacheStatistics;
+import com.io7m.jcanephora.program.cache.JCGLProgramCacheType;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Program cache contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLProgramCacheContract extends JCGLContract
+{
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLShadersType getShaders(final String name)
+  {
+    return this.newGL33Context(name, 24, 8).contextGetGL33().shaders();
+  }
+
+  protected static List<String> getShaderLines(final String name)
+  {
+    final Class<JCGLProgramCacheContract> c = JCGLProgramCacheContract.class;
+    final List<String> lines = new ArrayList<>(32);
+    try (final InputStream is = c.getResourceAsStream(name)) {
+      try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(is, StandardCharsets.UTF_8))) {
+        while (true) {
+          final String line = reader.readLine();
+          if (line == null) {
+            return lines;
+          }
+          lines.add(line + "\n");
+        }
+      }
+    } catch (final IOException e) {
+      throw new IOError(e);
+    }
+  }
+
+  protected static JCGLProgramSources sourcesValid(final String name)
+  {
+    return JCGLProgramSources.of(
+      name,
+      getShaderLines("valid0.vert"),
+      Optional.empty(),
+      getShaderLines("valid0.frag"));
+  }
+
+  protected static JCGLProgramSources sourcesAttributes(final String name)
+  {
+    return JCGLProgramSources.of(
+      name,
+      getShaderLines("attributes0.vert"),
+      Optional.empty(),
+      getShaderLines("valid0.frag"));
+  }
+
+  protected final Path cacheFile()
+    throws IOException
+  {
+    return this.folder.getRoot().toPath().resolve("programs.jcpc");
+  }
+
+  protected final JCGLProgramCacheType openCache()
+    throws IOException
+  {
+    return JCGLProgramCache.open(
+      JCGLProgramCacheConfiguration.of(this.cacheFile()));
+  }
+
+  @Test
+  public final void testMissThenHitAfterSave()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    final int attributes;
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      final JCGLProgramShaderType p =
+        c.cacheLinkProgram(s, sourcesAttributes("attributes0"));
+      attributes = p.attributes().size();
+      Assert.assertEquals("attributes0", p.name());
+      Assert.assertFalse(p.isDeleted());
+
+      final JCGLProgramCacheStatistics stats = c.cacheStatistics();
+      Assert.assertEquals(0L, stats.hits());
+      Assert.assertEquals(1L, stats.misses());
+      Assert.assertEquals(0L, stats.rejections());
+      Assert.assertEquals(1L, (long) stats.entries());
+
+      c.cacheSave();
+      Assert.assertTrue(Files.isRegularFile(this.cacheFile()));
+    }
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      Assert.assertEquals(1L, (long) c.cacheStatistics().entries());
+
+      final JCGLProgramShaderType p =
+        c.cacheLinkProgram(s, sourcesAttributes("attributes1"));
+      Assert.assertEquals("attributes1", p.name());
+      Assert.assertFalse(p.isDeleted());
+      Assert.assertEquals((long) attributes, (long) p.attributes().size());
+      Assert.assertEquals(0L, (long) p.references().size());
+
+      final JCGLProgramCacheStatistics stats = c.cacheStatistics();
+      Assert.assertEquals(1L, stats.hits());
+      Assert.assertEquals(0L, stats.misses());
+      Assert.assertEquals(0L, stats.rejections());
+    }
+  }
+
+  @Test
+  public final void testLoadSaveLoadSamePath()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+      c.cacheSave();
+    }
+
+    final JCGLProgramCacheType c0 = this.openCache();
+    Assert.assertEquals(1L, (long) c0.cacheStatistics().entries());
+    c0.cacheLinkProgram(s, sourcesAttributes("attributes0"));
+    Assert.assertEquals(1L, c0.cacheStatistics().misses());
+    c0.cacheSave();
+
+    c0.cacheLinkProgram(s, sourcesValid("valid1"));
+    Assert.assertEquals(1L, c0.cacheStatistics().hits());
+
+    final JCGLProgramCacheType c1 = this.openCache();
+    Assert.assertEquals(2L, (long) c1.cacheStatistics().entries());
+    c1.cacheLinkProgram(s, sourcesValid("valid2"));
+    c1.cacheLinkProgram(s, sourcesAttributes("attributes1"));
+
+    final JCGLProgramCacheStatistics stats = c1.cacheStatistics();
+    Assert.assertEquals(2L, stats.hits());
+    Assert.assertEquals(0L, stats.misses());
+    Assert.assertEquals(0L, stats.rejections());
+  }
+
+  @Test
+  public final void testRepeatedLinkHits()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    final JCGLProgramCacheType c = this.openCache();
+    final JCGLProgramShaderType p0 =
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+    final JCGLProgramShaderType p1 =
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+
+    Assert.assertNotEquals((long) p0.glName(), (long) p1.glName());
+
+    final JCGLProgramCacheStatistics stats = c.cacheStatistics();
+    Assert.assertEquals(1L, stats.hits());
+    Assert.assertEquals(1L, stats.misses());
+    Assert.assertEquals(1L, (long) stats.entries());
+  }
+
+  @Test
+  public final void testDifferentSourcesMiss()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    final JCGLProgramCacheType c = this.openCache();
+    c.cacheLinkProgram(s, sourcesValid("valid0"));
+    c.cacheLinkProgram(s, sourcesAttributes("attributes0"));
+
+    final JCGLProgramCacheStatistics stats = c.cacheStatistics();
+    Assert.assertEquals(0L, stats.hits());
+    Assert.assertEquals(2L, stats.misses());
+    Assert.assertEquals(2L, (long) stats.entries());
+  }
+
+  @Test
+  public final void testSaveUnchangedDoesNotWrite()
+    throws Exception
+  {
+    final JCGLProgramCacheType c = this.openCache();
+    c.cacheSave();
+    Assert.assertFalse(Files.exists(this.cacheFile()));
+  }
+
+  @Test
+  public final void testGarbageFileIgnored()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    Files.write(this.cacheFile(), new byte[]{0x0, 0x1, 0x2, 0x3, 0x4});
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      Assert.assertEquals(0L, (long) c.cacheStatistics().entries());
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+      Assert.assertEquals(1L, c.cacheStatistics().misses());
+      c.cacheSave();
+    }
+
+    {
+      final JCGLProgramCacheType c = this.openCache();
+      Assert.assertEquals(1L, (long) c.cacheStatistics().entries());
+      c.cacheLinkProgram(s, sourcesValid("valid0"));
+      Assert.assertEquals(1L, c.cacheStatistics().hits());
+    }
+  }
+}
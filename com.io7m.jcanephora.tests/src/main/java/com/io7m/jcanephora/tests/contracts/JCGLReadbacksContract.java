@@ -0,0 +1,422 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLBufferMapFlag;
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLExceptionBufferMapped;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLStagingSlabAllocator;
+import com.io7m.jcanephora.core.JCGLStagingSlabAllocatorConfiguration;
+import com.io7m.jcanephora.core.JCGLTexture2DType;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureCubeType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
+import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureUpdates;
+import com.io7m.jcanephora.core.JCGLTextureWrapR;
+import com.io7m.jcanephora.core.JCGLTextureWrapS;
+import com.io7m.jcanephora.core.JCGLTextureWrapT;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLReadbacksType;
+import com.io7m.jcanephora.core.api.JCGLTexturesType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Readback contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLReadbacksContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  private static ByteBuffer allocate(final long size)
+  {
+    return ByteBuffer.allocateDirect(Math.toIntExact(size));
+  }
+
+  private static void await(
+    final JCGLReadbacksType g_r,
+    final CompletableFuture<ByteBuffer> f)
+    throws InterruptedException
+  {
+    for (int index = 0; index < 1000; ++index) {
+      g_r.readbackPoll();
+      if (f.isDone()) {
+        return;
+      }
+      Thread.sleep(1L);
+    }
+    Assert.fail("Readback did not complete");
+  }
+
+  private static JCGLArrayBufferType newArray(
+    final JCGLArrayBuffersType g_ab)
+  {
+    final JCGLArrayBufferType a =
+      g_ab.arrayBufferAllocate(100L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLBufferUpdateType<JCGLArrayBufferType> u =
+      JCGLBufferUpdates.newUpdateReplacingAll(a);
+    final ByteBuffer d = u.data();
+    for (int index = 0; index < 100; ++index) {
+      d.put(index, (byte) index);
+    }
+    g_ab.arrayBufferUpdate(u);
+    g_ab.arrayBufferUnbind();
+    return a;
+  }
+
+  private static JCGLTexture2DType newTexture2D(
+    final JCGLTexturesType g_t,
+    final JCGLTextureUnitType u)
+  {
+    final JCGLTexture2DType t = g_t.texture2DAllocate(
+      u,
+      8L,
+      4L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_NEAREST,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_NEAREST);
+
+    final JCGLTexture2DUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingAll2D(t);
+    final ByteBuffer d = up.data();
+    for (int index = 0; index < d.capacity(); ++index) {
+      d.put(index, (byte) index);
+    }
+    g_t.texture2DUpdate(u, up);
+    return t;
+  }
+
+  @Test
+  public final void testReadbackArrayBuffer()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    final CompletableFuture<ByteBuffer> f = g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(10L, 29L),
+      JCGLReadbacksContract::allocate);
+    Assert.assertEquals(1L, (long) g_r.readbackPending());
+
+    await(g_r, f);
+    Assert.assertEquals(0L, (long) g_r.readbackPending());
+
+    final ByteBuffer r = f.get();
+    Assert.assertEquals(20L, (long) r.capacity());
+    for (int index = 0; index < 20; ++index) {
+      Assert.assertEquals((long) (index + 10), (long) r.get(index));
+    }
+  }
+
+  @Test
+  public final void testReadbackArrayBufferOrder()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    final CompletableFuture<ByteBuffer> f0 = g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(0L, 9L),
+      JCGLReadbacksContract::allocate);
+    final CompletableFuture<ByteBuffer> f1 = g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(90L, 99L),
+      JCGLReadbacksContract::allocate);
+    Assert.assertEquals(2L, (long) g_r.readbackPending());
+
+    await(g_r, f1);
+    Assert.assertTrue(f0.isDone());
+    Assert.assertEquals(0L, (long) f0.get().get(0));
+    Assert.assertEquals(90L, (long) f1.get().get(0));
+  }
+
+  @Test
+  public final void testReadbackArrayBufferPooled()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    final JCGLStagingSlabAllocator alloc = JCGLStagingSlabAllocator.create(
+      JCGLStagingSlabAllocatorConfiguration.builder().build());
+
+    final CompletableFuture<ByteBuffer> f = g_r.readbackArrayBuffer(
+      a, new UnsignedRangeInclusiveL(0L, 99L), alloc::allocate);
+    await(g_r, f);
+
+    final ByteBuffer r = f.get();
+    Assert.assertEquals(99L, (long) r.get(99));
+    alloc.release(r);
+  }
+
+  @Test
+  public final void testReadbackPoolGrowingSizesBounded()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    for (long size = 1L; size <= 100L; ++size) {
+      final CompletableFuture<ByteBuffer> f = g_r.readbackArrayBuffer(
+        a,
+        new UnsignedRangeInclusiveL(0L, size - 1L),
+        JCGLReadbacksContract::allocate);
+      await(g_r, f);
+      Assert.assertEquals(size - 1L, (long) f.get().get((int) size - 1));
+      Assert.assertEquals(1L, (long) g_r.readbackPoolSize());
+    }
+
+    g_r.readbackPoolDelete();
+    Assert.assertEquals(0L, (long) g_r.readbackPoolSize());
+  }
+
+  @Test
+  public final void testReadbackPoolManyPendingBounded()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    for (int repeat = 0; repeat < 4; ++repeat) {
+      final List<CompletableFuture<ByteBuffer>> fs = new ArrayList<>(32);
+      for (int index = 0; index < 32; ++index) {
+        fs.add(g_r.readbackArrayBuffer(
+          a,
+          new UnsignedRangeInclusiveL(0L, (long) index),
+          JCGLReadbacksContract::allocate));
+      }
+      Assert.assertEquals(32L, (long) g_r.readbackPending());
+
+      for (final CompletableFuture<ByteBuffer> f : fs) {
+        await(g_r, f);
+      }
+      Assert.assertEquals(0L, (long) g_r.readbackPending());
+      Assert.assertEquals(8L, (long) g_r.readbackPoolSize());
+    }
+
+    g_r.readbackPoolDelete();
+    Assert.assertEquals(0L, (long) g_r.readbackPoolSize());
+
+    final CompletableFuture<ByteBuffer> f = g_r.readbackArrayBuffer(
+      a, new UnsignedRangeInclusiveL(0L, 99L), JCGLReadbacksContract::allocate);
+    await(g_r, f);
+    Assert.assertEquals(99L, (long) f.get().get(99));
+    Assert.assertEquals(1L, (long) g_r.readbackPoolSize());
+  }
+
+  @Test
+  public final void testReadbackArrayBufferProducerFails()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    final CompletableFuture<ByteBuffer> f = g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(0L, 9L),
+      size -> {
+        throw new IllegalStateException("Failed");
+      });
+    await(g_r, f);
+
+    Assert.assertTrue(f.isCompletedExceptionally());
+    this.expected.expect(ExecutionException.class);
+    f.get();
+  }
+
+  @Test
+  public final void testReadbackArrayBufferOutOfRange()
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBufferType a = newArray(g33.arrayBuffers());
+
+    this.expected.expect(RangeCheckException.class);
+    g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(90L, 100L),
+      JCGLReadbacksContract::allocate);
+  }
+
+  @Test
+  public final void testReadbackArrayBufferMapped()
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBuffersType g_ab = g33.arrayBuffers();
+    final JCGLArrayBufferType a = newArray(g_ab);
+
+    g_ab.arrayBufferBind(a);
+    g_ab.arrayBufferMapRange(
+      a, a.byteRange(), EnumSet.noneOf(JCGLBufferMapFlag.class));
+
+    this.expected.expect(JCGLExceptionBufferMapped.class);
+    g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(0L, 9L),
+      JCGLReadbacksContract::allocate);
+  }
+
+  @Test
+  public final void testReadbackArrayBufferDeleted()
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLArrayBuffersType g_ab = g33.arrayBuffers();
+    final JCGLArrayBufferType a = newArray(g_ab);
+    g_ab.arrayBufferDelete(a);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_r.readbackArrayBuffer(
+      a,
+      new UnsignedRangeInclusiveL(0L, 9L),
+      JCGLReadbacksContract::allocate);
+  }
+
+  @Test
+  public final void testReadbackTexture2D()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLTexturesType g_t = g33.textures();
+    final JCGLTextureUnitType u = g_t.textureGetUnits().get(0);
+    final JCGLTexture2DType t = newTexture2D(g_t, u);
+
+    final CompletableFuture<ByteBuffer> f =
+      g_r.readbackTexture2D(u, t, JCGLReadbacksContract::allocate);
+    Assert.assertTrue(g_t.texture2DIsBound(u, t));
+    await(g_r, f);
+
+    final ByteBuffer r = f.get();
+    Assert.assertEquals(8L * 4L * 4L, (long) r.capacity());
+    for (int index = 0; index < r.capacity(); ++index) {
+      Assert.assertEquals((long) (byte) index, (long) r.get(index));
+    }
+  }
+
+  @Test
+  public final void testReadbackTexture2DDeleted()
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLTexturesType g_t = g33.textures();
+    final JCGLTextureUnitType u = g_t.textureGetUnits().get(0);
+    final JCGLTexture2DType t = newTexture2D(g_t, u);
+    g_t.texture2DDelete(t);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_r.readbackTexture2D(u, t, JCGLReadbacksContract::allocate);
+  }
+
+  @Test
+  public final void testReadbackTextureCube()
+    throws Exception
+  {
+    final JCGLContextType c = this.newGL33Context("main", 24, 8);
+    final JCGLInterfaceGL33Type g33 = c.contextGetGL33();
+    final JCGLReadbacksType g_r = g33.readbacks();
+    final JCGLTexturesType g_t = g33.textures();
+    final JCGLTextureUnitType u = g_t.textureGetUnits().get(0);
+
+    final JCGLTextureCubeType t = g_t.textureCubeAllocate(
+      u,
+      4L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP,
+      JCGLTextureWrapR.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_NEAREST,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_NEAREST);
+
+    for (final JCGLCubeMapFaceLH face : JCGLCubeMapFaceLH.values()) {
+      final JCGLTextureCubeUpdateType up =
+        JCGLTextureUpdates.newUpdateReplacingAllCube(t);
+      final ByteBuffer d = up.data();
+      for (int index = 0; index < d.capacity(); ++index) {
+        d.put(index, (byte) face.ordinal());
+      }
+      g_t.textureCubeUpdateLH(u, face, up);
+    }
+
+    final CompletableFuture<ByteBuffer> f = g_r.readbackTextureCubeLH(
+      u,
+      JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_Z,
+      t,
+      JCGLReadbacksContract::allocate);
+    await(g_r, f);
+
+    final ByteBuffer r = f.get();
+    Assert.assertEquals(4L * 4L * 4L, (long) r.capacity());
+    final long expected_value =
+      (long) JCGLCubeMapFaceLH.CUBE_MAP_LH_NEGATIVE_Z.ordinal();
+    for (int index = 0; index < r.capacity(); ++index) {
+      Assert.assertEquals(expected_value, (long) r.get(index));
+    }
+  }
+}
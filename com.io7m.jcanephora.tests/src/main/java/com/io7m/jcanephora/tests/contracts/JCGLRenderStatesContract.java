@@ -31,6 +31,7 @@ import com.io7m.jcanephora.core.api.JCGLCullingType;
 import com.io7m.jcanephora.core.api.JCGLDepthBuffersType;
 import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
 import com.io7m.jcanephora.core.api.JCGLPolygonModesType;
+import com.io7m.jcanephora.core.api.JCGLPrimitiveRestartType;
 import com.io7m.jcanephora.core.api.JCGLScissorType;
 import com.io7m.jcanephora.core.api.JCGLStencilBuffersType;
 import com.io7m.jcanephora.renderstate.JCGLBlendStateMutable;
@@ -49,6 +50,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Render states contract.
@@ -90,6 +92,7 @@ public abstract class JCGLRenderStatesContract extends JCGLContract
     Assert.assertFalse(g_d.depthClampingIsEnabled());
     Assert.assertEquals(JCGLPolygonMode.POLYGON_FILL, g_p.polygonGetMode());
     Assert.assertFalse(g_s.scissorIsEnabled());
+    Assert.assertFalse(g.primitiveRestart().primitiveRestartIsEnabled());
   }
 
   @Test
@@ -290,6 +293,27 @@ public abstract class JCGLRenderStatesContract extends JCGLContract
     Assert.assertTrue(g_s.scissorIsEnabled());
   }
 
+  @Test
+  public final void testPrimitiveRestart()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main", 24, 8);
+    final JCGLRenderStateMutable r = JCGLRenderStateMutable.create();
+
+    r.setPrimitiveRestartIndex(0xffff);
+
+    JCGLRenderStates.activate(g, r);
+
+    final JCGLPrimitiveRestartType g_p = g.primitiveRestart();
+    Assert.assertTrue(g_p.primitiveRestartIsEnabled());
+    Assert.assertEquals(0xffffL, (long) g_p.primitiveRestartGetIndex());
+
+    r.setPrimitiveRestartIndex(OptionalInt.empty());
+
+    JCGLRenderStates.activate(g, r);
+
+    Assert.assertFalse(g_p.primitiveRestartIsEnabled());
+  }
+
   @Test
   public final void testDepthTestWriteStrict()
   {
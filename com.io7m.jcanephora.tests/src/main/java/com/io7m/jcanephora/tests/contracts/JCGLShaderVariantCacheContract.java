@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLFragmentShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLVertexShaderUsableType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.shader.source.JCGLShaderPermutation;
+import com.io7m.jcanephora.shader.source.JCGLShaderPermutations;
+import com.io7m.jcanephora.shader.source.JCGLShaderPreprocessor;
+import com.io7m.jcanephora.shader.source.JCGLShaderSourceException;
+import com.io7m.jcanephora.shader.source.JCGLShaderSourceResolvers;
+import com.io7m.jcanephora.shader.source.JCGLShaderVariantCache;
+import com.io7m.jcanephora.shader.source.JCGLShaderVariantCacheStatistics;
+import com.io7m.jcanephora.shader.source.JCGLShaderVariantCacheType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shader variant cache contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLShaderVariantCacheContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLShadersType getShaders(final String name)
+  {
+    return this.newGL33Context(name, 24, 8).contextGetGL33().shaders();
+  }
+
+  private static JCGLShaderVariantCacheType newCache(
+    final JCGLShadersType s)
+  {
+    return JCGLShaderVariantCache.create(
+      s,
+      JCGLShaderPreprocessor.create(
+        JCGLShaderSourceResolvers.forResources(
+          JCGLShaderVariantCacheContract.class,
+          "/com/io7m/jcanephora/tests/contracts/shader_source")));
+  }
+
+  private static JCGLShaderPermutation define(
+    final String name)
+  {
+    return JCGLShaderPermutation.of(Collections.singletonMap(name, "1"));
+  }
+
+  private static void checkStatistics(
+    final JCGLShaderVariantCacheType c,
+    final long compiled,
+    final long shaders_shared,
+    final long linked,
+    final long programs_shared)
+  {
+    final JCGLShaderVariantCacheStatistics st = c.cacheStatistics();
+    Assert.assertEquals(compiled, st.shadersCompiled());
+    Assert.assertEquals(shaders_shared, st.shadersShared());
+    Assert.assertEquals(linked, st.programsLinked());
+    Assert.assertEquals(programs_shared, st.programsShared());
+  }
+
+  @Test
+  public final void testNothingCompiledUntilRequested()
+    throws Exception
+  {
+    final JCGLShaderVariantCacheType c = newCache(this.getShaders("main"));
+    checkStatistics(c, 0L, 0L, 0L, 0L);
+    Assert.assertEquals(0L, c.cacheStatistics().sourcesPreprocessed());
+  }
+
+  @Test
+  public final void testProgramRequestedTwice()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLShaderVariantCacheType c = newCache(s);
+
+    final JCGLProgramShaderUsableType p0 = c.cacheProgram(
+      "p", "main.vert", Optional.empty(), "main.frag",
+      JCGLShaderPermutations.empty());
+    final JCGLProgramShaderUsableType p1 = c.cacheProgram(
+      "p", "main.vert", Optional.empty(), "main.frag",
+      JCGLShaderPermutations.empty());
+
+    Assert.assertSame(p0, p1);
+    checkStatistics(c, 2L, 0L, 1L, 1L);
+    Assert.assertEquals(2L, c.cacheStatistics().sourcesPreprocessed());
+  }
+
+  @Test
+  public final void testPermutationsShareUnaffectedShaders()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLShaderVariantCacheType c = newCache(s);
+
+    final JCGLProgramShaderUsableType p0 = c.cacheProgram(
+      "p0", "main.vert", Optional.empty(), "main.frag",
+      JCGLShaderPermutations.empty());
+    final JCGLProgramShaderUsableType p1 = c.cacheProgram(
+      "p1", "main.vert", Optional.empty(), "main.frag",
+      define("DOUBLED"));
+
+    Assert.assertNotSame(p0, p1);
+    checkStatistics(c, 3L, 1L, 2L, 0L);
+
+    final JCGLProgramShaderUsableType p2 = c.cacheProgram(
+      "p2", "main.vert", Optional.empty(), "main.frag",
+      define("UNUSED"));
+
+    Assert.assertSame(p0, p2);
+    checkStatistics(c, 3L, 1L, 2L, 1L);
+  }
+
+  @Test
+  public final void testShadersShared()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLShaderVariantCacheType c = newCache(s);
+
+    final JCGLFragmentShaderUsableType f0 =
+      c.cacheFragment("main.frag", JCGLShaderPermutations.empty());
+    final JCGLFragmentShaderUsableType f1 =
+      c.cacheFragment("main.frag", define("DOUBLED"));
+    final JCGLVertexShaderUsableType v0 =
+      c.cacheVertex("main.vert", define("DOUBLED"));
+    final JCGLVertexShaderUsableType v1 =
+      c.cacheVertex("./main.vert", define("DOUBLED"));
+
+    Assert.assertSame(f0, f1);
+    Assert.assertSame(v0, v1);
+    checkStatistics(c, 2L, 2L, 0L, 0L);
+  }
+
+  @Test
+  public final void testPermutationValuesDoNotCollide()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLShaderVariantCacheType c = newCache(s);
+
+    final Map<String, String> m0 = new HashMap<>(2);
+    m0.put("DOUBLED", "1;UNUSED=1");
+    final Map<String, String> m1 = new HashMap<>(2);
+    m1.put("DOUBLED", "1");
+    m1.put("UNUSED", "1");
+
+    final JCGLVertexShaderUsableType v0 =
+      c.cacheVertex("main.vert", JCGLShaderPermutation.of(m0));
+    final JCGLVertexShaderUsableType v1 =
+      c.cacheVertex("main.vert", JCGLShaderPermutation.of(m1));
+
+    Assert.assertNotSame(v0, v1);
+    Assert.assertEquals(2L, c.cacheStatistics().sourcesPreprocessed());
+    checkStatistics(c, 2L, 0L, 0L, 0L);
+  }
+
+  @Test
+  public final void testDeleteRecreates()
+    throws Exception
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLShaderVariantCacheType c = newCache(s);
+
+    final JCGLProgramShaderUsableType p0 = c.cacheProgram(
+      "p", "main.vert", Optional.empty(), "main.frag",
+      JCGLShaderPermutations.empty());
+
+    c.cacheDelete();
+    Assert.assertTrue(p0.isDeleted());
+    checkStatistics(c, 0L, 0L, 0L, 0L);
+
+    final JCGLProgramShaderUsableType p1 = c.cacheProgram(
+      "p", "main.vert", Optional.empty(), "main.frag",
+      JCGLShaderPermutations.empty());
+    Assert.assertNotSame(p0, p1);
+    Assert.assertFalse(p1.isDeleted());
+    checkStatistics(c, 2L, 0L, 1L, 0L);
+  }
+
+  @Test
+  public final void testMissingSource()
+    throws Exception
+  {
+    final JCGLShaderVariantCacheType c = newCache(this.getShaders("main"));
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    c.cacheVertex("nonexistent.vert", JCGLShaderPermutations.empty());
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.io7m.jcanephora.tests.contracts;
 
+import com.io7m.jcanephora.core.JCGLDriverInformation;
 import com.io7m.jcanephora.core.JCGLExceptionDeleted;
 import com.io7m.jcanephora.core.JCGLExceptionProgramCompileError;
 import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
@@ -24,19 +25,28 @@ import com.io7m.jcanephora.core.JCGLExceptionWrongContext;
 import com.io7m.jcanephora.core.JCGLFragmentShaderType;
 import com.io7m.jcanephora.core.JCGLGeometryShaderType;
 import com.io7m.jcanephora.core.JCGLProgramAttributeType;
+import com.io7m.jcanephora.core.JCGLProgramBinary;
+import com.io7m.jcanephora.core.JCGLProgramPendingType;
 import com.io7m.jcanephora.core.JCGLProgramShaderType;
 import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramSources;
 import com.io7m.jcanephora.core.JCGLProgramUniformType;
 import com.io7m.jcanephora.core.JCGLReferableType;
 import com.io7m.jcanephora.core.JCGLReferenceContainerType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
 import com.io7m.jcanephora.core.JCGLType;
+import com.io7m.jcanephora.core.JCGLUniformSet;
+import com.io7m.jcanephora.core.JCGLUniformSetEntry;
+import com.io7m.jcanephora.core.JCGLUniformShadowCacheStatistics;
 import com.io7m.jcanephora.core.JCGLVertexShaderType;
 import com.io7m.jcanephora.core.api.JCGLContextType;
 import com.io7m.jcanephora.core.api.JCGLShadersType;
 import com.io7m.jcanephora.core.api.JCGLTexturesType;
 import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheckException;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrices3x3D;
 import com.io7m.jtensors.core.parameterized.matrices.PMatrices4x4D;
+import com.io7m.jtensors.core.parameterized.vectors.PVector3D;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors2D;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors2I;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors3D;
@@ -45,6 +55,8 @@ import com.io7m.jtensors.core.parameterized.vectors.PVectors4D;
 import com.io7m.jtensors.core.parameterized.vectors.PVectors4I;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices3x3D;
 import com.io7m.jtensors.core.unparameterized.matrices.Matrices4x4D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4I;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors2D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors2I;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors3D;
@@ -52,6 +64,7 @@ import com.io7m.jtensors.core.unparameterized.vectors.Vectors3I;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors4D;
 import com.io7m.jtensors.core.unparameterized.vectors.Vectors4I;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -59,7 +72,9 @@ import org.junit.rules.ExpectedException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -3139,4 +3154,637 @@ public abstract class JCGLShadersContract extends JCGLContract
     s.shaderUniformPutPVector4ui(u, PVectors4I.zero());
   }
 
+  @Test
+  public final void testProgramBinaryRoundTrip()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    final JCGLVertexShaderType v = s.shaderCompileVertex(
+      "attributes0", this.getShaderLines("attributes0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", this.getShaderLines("valid0.frag"));
+    final JCGLProgramShaderType p =
+      s.shaderLinkProgram("attributes0", v, Optional.empty(), f);
+
+    final JCGLProgramBinary b = s.shaderProgramBinaryGet(p);
+    Assert.assertTrue(b.data().length > 0);
+
+    final JCGLProgramShaderType q = s.shaderProgramBinaryLoad(
+      "attributes0-binary",
+      b,
+      p.transformFeedbackVaryings(),
+      p.transformFeedbackBufferMode());
+
+    Assert.assertEquals("attributes0-binary", q.name());
+    Assert.assertFalse(q.isDeleted());
+    Assert.assertTrue(q.glName() > 0);
+    Assert.assertNotEquals((long) p.glName(), (long) q.glName());
+    Assert.assertEquals(0L, (long) q.references().size());
+
+    final Map<String, JCGLProgramAttributeType> pa = p.attributes();
+    final Map<String, JCGLProgramAttributeType> qa = q.attributes();
+    Assert.assertEquals(pa.keySet(), qa.keySet());
+    for (final String name : pa.keySet()) {
+      final JCGLProgramAttributeType pv = pa.get(name);
+      final JCGLProgramAttributeType qv = qa.get(name);
+      Assert.assertEquals(pv.type(), qv.type());
+      Assert.assertEquals((long) pv.glName(), (long) qv.glName());
+      Assert.assertEquals(q, qv.program());
+    }
+
+    Assert.assertEquals(p.uniforms().keySet(), q.uniforms().keySet());
+
+    s.shaderActivateProgram(q);
+    Assert.assertEquals(Optional.of(q), s.shaderActivatedProgram());
+    s.shaderDeactivateProgram();
+  }
+
+  @Test
+  public final void testProgramBinaryDriverInformation()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLDriverInformation d = s.shaderProgramBinaryDriverInformation();
+    Assert.assertFalse(d.vendor().isEmpty());
+    Assert.assertFalse(d.renderer().isEmpty());
+    Assert.assertFalse(d.version().isEmpty());
+  }
+
+  @Test
+  public final void testProgramBinaryCorrupt()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    final JCGLVertexShaderType v =
+      s.shaderCompileVertex("valid0", this.getShaderLines("valid0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", this.getShaderLines("valid0.frag"));
+    final JCGLProgramShaderType p =
+      s.shaderLinkProgram("valid0", v, Optional.empty(), f);
+
+    final JCGLProgramBinary b = s.shaderProgramBinaryGet(p);
+    final JCGLProgramBinary c =
+      JCGLProgramBinary.of(b.format(), new byte[]{0x0, 0x1, 0x2, 0x3});
+
+    this.expected.expect(JCGLExceptionProgramCompileError.class);
+    s.shaderProgramBinaryLoad(
+      "corrupt",
+      c,
+      Collections.emptyList(),
+      JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_INTERLEAVED);
+  }
+
+  @Test
+  public final void testProgramBinaryGetDeleted()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    Assume.assumeTrue(
+      "Program binaries are supported", s.shaderProgramBinaryIsSupported());
+
+    final JCGLVertexShaderType v =
+      s.shaderCompileVertex("valid0", this.getShaderLines("valid0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", this.getShaderLines("valid0.frag"));
+    final JCGLProgramShaderType p =
+      s.shaderLinkProgram("valid0", v, Optional.empty(), f);
+
+    s.shaderDeleteProgram(p);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    s.shaderProgramBinaryGet(p);
+  }
+
+  private JCGLProgramSources sourcesFor(
+    final String name,
+    final String vertex,
+    final String fragment)
+  {
+    return JCGLProgramSources.builder()
+      .setName(name)
+      .setVertex(this.getShaderLines(vertex))
+      .setFragment(this.getShaderLines(fragment))
+      .build();
+  }
+
+  @Test
+  public final void testProgramSubmitFinish()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+
+    final JCGLVertexShaderType v = s.shaderCompileVertex(
+      "attributes0", this.getShaderLines("attributes0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", this.getShaderLines("valid0.frag"));
+    final JCGLProgramShaderType p =
+      s.shaderLinkProgram("attributes0", v, Optional.empty(), f);
+
+    final JCGLProgramPendingType pp = s.shaderProgramSubmit(
+      this.sourcesFor("attributes0", "attributes0.vert", "valid0.frag"));
+    Assert.assertEquals("attributes0", pp.name());
+    Assert.assertFalse(pp.isDeleted());
+
+    while (!s.shaderProgramPendingIsComplete(pp)) {
+      Thread.yield();
+    }
+
+    final JCGLProgramShaderType q = s.shaderProgramPendingFinish(pp);
+    Assert.assertTrue(pp.isDeleted());
+    Assert.assertEquals("attributes0", q.name());
+    Assert.assertFalse(q.isDeleted());
+    Assert.assertTrue(q.glName() > 0);
+    Assert.assertEquals(0L, (long) q.references().size());
+    Assert.assertEquals(p.attributes().keySet(), q.attributes().keySet());
+    Assert.assertEquals(p.uniforms().keySet(), q.uniforms().keySet());
+
+    s.shaderActivateProgram(q);
+    Assert.assertTrue(s.shaderActivatedProgram().isPresent());
+  }
+
+  @Test
+  public final void testProgramSubmitFinishTwice()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramPendingType pp = s.shaderProgramSubmit(
+      this.sourcesFor("valid0", "valid0.vert", "valid0.frag"));
+    s.shaderProgramPendingFinish(pp);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    s.shaderProgramPendingFinish(pp);
+  }
+
+  @Test
+  public final void testProgramSubmitCompleteFinished()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramPendingType pp = s.shaderProgramSubmit(
+      this.sourcesFor("valid0", "valid0.vert", "valid0.frag"));
+    s.shaderProgramPendingFinish(pp);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    s.shaderProgramPendingIsComplete(pp);
+  }
+
+  @Test
+  public final void testProgramSubmitEmpty()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+
+    this.expected.expect(JCGLExceptionProgramCompileError.class);
+    s.shaderProgramSubmit(
+      JCGLProgramSources.builder()
+        .setName("empty")
+        .setFragment(this.getShaderLines("valid0.frag"))
+        .build());
+  }
+
+  private JCGLProgramShaderType linkUniforms(
+    final JCGLShadersType s,
+    final String name)
+  {
+    final JCGLVertexShaderType v =
+      s.shaderCompileVertex(name, this.getShaderLines(name + ".vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", this.getShaderLines("valid0.frag"));
+    return s.shaderLinkProgram(name, v, Optional.empty(), f);
+  }
+
+  @Test
+  public final void testUniformShadowingDisabledByDefault()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    Assert.assertFalse(s.shaderUniformIsShadowingEnabled(p));
+
+    final JCGLProgramUniformType u = p.uniforms().get("f");
+    s.shaderActivateProgram(p);
+    s.shaderUniformPutFloat(u, 1.0f);
+    s.shaderUniformPutFloat(u, 1.0f);
+
+    final JCGLUniformShadowCacheStatistics st =
+      s.shaderUniformShadowingStatistics(p);
+    Assert.assertEquals(0L, st.hits());
+    Assert.assertEquals(0L, st.misses());
+  }
+
+  @Test
+  public final void testUniformShadowingRedundantSkipped()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    s.shaderUniformSetShadowingEnabled(p, true);
+    Assert.assertTrue(s.shaderUniformIsShadowingEnabled(p));
+
+    final Map<String, JCGLProgramUniformType> us = p.uniforms();
+    s.shaderActivateProgram(p);
+
+    s.shaderUniformPutFloat(us.get("f"), 1.0f);
+    s.shaderUniformPutFloat(us.get("f"), 1.0f);
+    s.shaderUniformPutFloat(us.get("f"), 2.0f);
+
+    s.shaderUniformPutVector3f(us.get("fv3"), Vector3D.of(1.0, 2.0, 3.0));
+    s.shaderUniformPutVector3f(us.get("fv3"), Vector3D.of(1.0, 2.0, 3.0));
+    s.shaderUniformPutPVector3f(us.get("fv3"), PVector3D.of(1.0, 2.0, 3.0));
+
+    s.shaderUniformPutVector4i(us.get("iv4"), Vector4I.of(1, 2, 3, 4));
+    s.shaderUniformPutVector4i(us.get("iv4"), Vector4I.of(1, 2, 3, 5));
+    s.shaderUniformPutVector4i(us.get("iv4"), Vector4I.of(1, 2, 3, 5));
+
+    s.shaderUniformPutUnsignedInteger(us.get("u"), 23);
+    s.shaderUniformPutUnsignedInteger(us.get("u"), 23);
+
+    final JCGLUniformShadowCacheStatistics st =
+      s.shaderUniformShadowingStatistics(p);
+    Assert.assertEquals(5L, st.hits());
+    Assert.assertEquals(6L, st.misses());
+  }
+
+  @Test
+  public final void testUniformShadowingMatrices()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms1");
+    s.shaderUniformSetShadowingEnabled(p, true);
+
+    final Map<String, JCGLProgramUniformType> us = p.uniforms();
+    final JCGLProgramUniformType u4 = us.get("fm4");
+    final JCGLProgramUniformType u3 = us.get("fm3");
+    s.shaderActivateProgram(p);
+
+    s.shaderUniformPutMatrix4x4f(u4, Matrices4x4D.identity());
+    s.shaderUniformPutMatrix4x4f(u4, Matrices4x4D.identity());
+    s.shaderUniformPutPMatrix4x4f(u4, PMatrices4x4D.identity());
+    s.shaderUniformPutMatrix4x4f(u4, Matrices4x4D.zero());
+
+    s.shaderUniformPutMatrix3x3f(u3, Matrices3x3D.identity());
+    s.shaderUniformPutPMatrix3x3f(u3, PMatrices3x3D.identity());
+
+    final JCGLUniformShadowCacheStatistics st =
+      s.shaderUniformShadowingStatistics(p);
+    Assert.assertEquals(3L, st.hits());
+    Assert.assertEquals(3L, st.misses());
+  }
+
+  @Test
+  public final void testUniformShadowingPerProgram()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p0 = this.linkUniforms(s, "uniforms0");
+    final JCGLProgramShaderType p1 = this.linkUniforms(s, "uniforms0");
+    s.shaderUniformSetShadowingEnabled(p0, true);
+    s.shaderUniformSetShadowingEnabled(p1, true);
+
+    s.shaderActivateProgram(p0);
+    s.shaderUniformPutFloat(p0.uniforms().get("f"), 1.0f);
+    s.shaderActivateProgram(p1);
+    s.shaderUniformPutFloat(p1.uniforms().get("f"), 1.0f);
+    s.shaderActivateProgram(p0);
+    s.shaderUniformPutFloat(p0.uniforms().get("f"), 1.0f);
+
+    final JCGLUniformShadowCacheStatistics st0 =
+      s.shaderUniformShadowingStatistics(p0);
+    final JCGLUniformShadowCacheStatistics st1 =
+      s.shaderUniformShadowingStatistics(p1);
+    Assert.assertEquals(1L, st0.hits());
+    Assert.assertEquals(1L, st0.misses());
+    Assert.assertEquals(0L, st1.hits());
+    Assert.assertEquals(1L, st1.misses());
+  }
+
+  @Test
+  public final void testUniformShadowingDisableDiscards()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLProgramUniformType u = p.uniforms().get("f");
+    s.shaderUniformSetShadowingEnabled(p, true);
+
+    s.shaderActivateProgram(p);
+    s.shaderUniformPutFloat(u, 1.0f);
+    s.shaderUniformSetShadowingEnabled(p, false);
+    Assert.assertFalse(s.shaderUniformIsShadowingEnabled(p));
+    s.shaderUniformPutFloat(u, 2.0f);
+
+    s.shaderUniformSetShadowingEnabled(p, true);
+    s.shaderUniformPutFloat(u, 2.0f);
+
+    final JCGLUniformShadowCacheStatistics st =
+      s.shaderUniformShadowingStatistics(p);
+    Assert.assertEquals(0L, st.hits());
+    Assert.assertEquals(1L, st.misses());
+  }
+
+  @Test
+  public final void testUniformShadowingDeleted()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    s.shaderDeleteProgram(p);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    s.shaderUniformSetShadowingEnabled(p, true);
+  }
+
+  private static JCGLUniformSet prepareUniforms0(
+    final JCGLProgramShaderUsableType p)
+  {
+    final List<JCGLUniformSetEntry> entries = new ArrayList<>(5);
+    entries.add(JCGLUniformSetEntry.of("f", JCGLType.TYPE_FLOAT));
+    entries.add(JCGLUniformSetEntry.of("fv3", JCGLType.TYPE_FLOAT_VECTOR_3));
+    entries.add(JCGLUniformSetEntry.of("iv4", JCGLType.TYPE_INTEGER_VECTOR_4));
+    entries.add(JCGLUniformSetEntry.of("u", JCGLType.TYPE_UNSIGNED_INTEGER));
+    entries.add(JCGLUniformSetEntry.of("missing", JCGLType.TYPE_FLOAT));
+    return JCGLUniformSet.prepare(p, entries);
+  }
+
+  @Test
+  public final void testUniformSetApply()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+
+    Assert.assertEquals(p, set.program());
+    Assert.assertEquals(5L, (long) set.size());
+    Assert.assertTrue(set.isActive(0));
+    Assert.assertTrue(set.isActive(3));
+    Assert.assertFalse(set.isActive(4));
+
+    set.setFloat(0, 1.0f);
+    set.setVector3f(1, Vector3D.of(1.0, 2.0, 3.0));
+    set.setVector4i(2, Vector4I.of(1, 2, 3, 4));
+    set.setInteger(3, 23);
+    set.setFloat(4, 2.0f);
+
+    s.shaderActivateProgram(p);
+    s.shaderUniformApply(set);
+  }
+
+  @Test
+  public final void testUniformSetApplyShadowed()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+    s.shaderUniformSetShadowingEnabled(p, true);
+
+    set.setFloat(0, 1.0f);
+    set.setVector3f(1, Vector3D.of(1.0, 2.0, 3.0));
+    set.setVector4i(2, Vector4I.of(1, 2, 3, 4));
+    set.setInteger(3, 23);
+
+    s.shaderActivateProgram(p);
+    s.shaderUniformApply(set);
+    s.shaderUniformApply(set);
+    set.setFloat(0, 2.0f);
+    s.shaderUniformApply(set);
+
+    final JCGLUniformShadowCacheStatistics st =
+      s.shaderUniformShadowingStatistics(p);
+    Assert.assertEquals(7L, st.hits());
+    Assert.assertEquals(5L, st.misses());
+  }
+
+  @Test
+  public final void testUniformSetPrepareWrongType()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+
+    this.expected.expect(JCGLExceptionProgramTypeError.class);
+    this.expected.expectMessage("Uniform: f");
+    this.expected.expectMessage(
+      "Expected: TYPE_FLOAT_VECTOR_4" + System.lineSeparator());
+    this.expected.expectMessage("Actual: TYPE_FLOAT");
+    JCGLUniformSet.prepare(
+      p,
+      Collections.singletonList(
+        JCGLUniformSetEntry.of("f", JCGLType.TYPE_FLOAT_VECTOR_4)));
+  }
+
+  @Test
+  public final void testUniformSetSetWrongType()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+
+    this.expected.expect(JCGLExceptionProgramTypeError.class);
+    this.expected.expectMessage("Entry index: 0");
+    this.expected.expectMessage("Actual: TYPE_FLOAT");
+    set.setInteger(0, 23);
+  }
+
+  @Test
+  public final void testUniformSetSetWrongTypeFloat()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+
+    this.expected.expect(JCGLExceptionProgramTypeError.class);
+    this.expected.expectMessage("Entry index: 1");
+    this.expected.expectMessage(
+      "Expected: TYPE_FLOAT" + System.lineSeparator());
+    this.expected.expectMessage("Actual: TYPE_FLOAT_VECTOR_3");
+    set.setFloat(1, 23.0f);
+  }
+
+  @Test
+  public final void testUniformSetSetIndexOutOfRange()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+
+    this.expected.expect(RangeCheckException.class);
+    set.setFloat(set.size(), 23.0f);
+  }
+
+  @Test
+  public final void testUniformSetIsActiveIndexNegative()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+
+    this.expected.expect(RangeCheckException.class);
+    set.isActive(-1);
+  }
+
+  @Test
+  public final void testUniformSetEmptyIndexOutOfRange()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set =
+      JCGLUniformSet.prepare(p, Collections.emptyList());
+    Assert.assertEquals(0L, (long) set.size());
+
+    this.expected.expect(RangeCheckException.class);
+    set.setFloats(0, directFloats(1));
+  }
+
+  @Test
+  public final void testUniformSetApplyNotActive()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms0");
+    final JCGLUniformSet set = prepareUniforms0(p);
+
+    this.expected.expect(JCGLExceptionProgramNotActive.class);
+    s.shaderUniformApply(set);
+  }
+
+  private static FloatBuffer directFloats(final int count)
+  {
+    final ByteBuffer b = ByteBuffer.allocateDirect(count * 4);
+    b.order(ByteOrder.nativeOrder());
+    return b.asFloatBuffer();
+  }
+
+  private static IntBuffer directInts(final int count)
+  {
+    final ByteBuffer b = ByteBuffer.allocateDirect(count * 4);
+    b.order(ByteOrder.nativeOrder());
+    return b.asIntBuffer();
+  }
+
+  @Test
+  public final void testUniformArrayMatrices()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    final JCGLProgramUniformType u = p.uniforms().get("bones[0]");
+    Assert.assertEquals(8L, (long) u.size());
+
+    final FloatBuffer data = directFloats(8 * 16);
+    for (int index = 0; index < 8; ++index) {
+      for (int c = 0; c < 4; ++c) {
+        data.put(index * 16 + c * 4 + c, 1.0f);
+      }
+    }
+
+    s.shaderActivateProgram(p);
+    s.shaderUniformPutArrayf(u, 8, data);
+    s.shaderUniformPutArrayf(u, 3, data);
+    Assert.assertEquals(0L, (long) data.position());
+    Assert.assertEquals(8L * 16L, (long) data.limit());
+  }
+
+  @Test
+  public final void testUniformArrayVectors()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    final Map<String, JCGLProgramUniformType> us = p.uniforms();
+
+    final FloatBuffer colors = directFloats(4 + 4 * 4);
+    colors.position(4);
+    final IntBuffer indices = directInts(4 * 2);
+    final IntBuffer masks = directInts(3);
+
+    s.shaderActivateProgram(p);
+    s.shaderUniformPutArrayf(us.get("colors[0]"), 4, colors);
+    s.shaderUniformPutArrayi(us.get("indices[0]"), 4, indices);
+    s.shaderUniformPutArrayi(us.get("masks[0]"), 3, masks);
+    Assert.assertEquals(4L, (long) colors.position());
+    Assert.assertEquals(20L, (long) colors.limit());
+  }
+
+  @Test
+  public final void testUniformArrayShadowed()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    final Map<String, JCGLProgramUniformType> us = p.uniforms();
+    s.shaderUniformSetShadowingEnabled(p, true);
+
+    final FloatBuffer bones = directFloats(8 * 16);
+    final IntBuffer indices = directInts(4 * 2);
+
+    s.shaderActivateProgram(p);
+    s.shaderUniformPutArrayf(us.get("bones[0]"), 8, bones);
+    s.shaderUniformPutArrayf(us.get("bones[0]"), 8, bones);
+    s.shaderUniformPutArrayi(us.get("indices[0]"), 4, indices);
+    s.shaderUniformPutArrayi(us.get("indices[0]"), 4, indices);
+    indices.put(7, 1);
+    s.shaderUniformPutArrayi(us.get("indices[0]"), 4, indices);
+
+    final JCGLUniformShadowCacheStatistics st =
+      s.shaderUniformShadowingStatistics(p);
+    Assert.assertEquals(2L, st.hits());
+    Assert.assertEquals(3L, st.misses());
+  }
+
+  @Test
+  public final void testUniformArrayCountZero()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    s.shaderActivateProgram(p);
+
+    this.expected.expect(RangeCheckException.class);
+    s.shaderUniformPutArrayf(p.uniforms().get("bones[0]"), 0, directFloats(16));
+  }
+
+  @Test
+  public final void testUniformArrayCountTooLarge()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    s.shaderActivateProgram(p);
+
+    this.expected.expect(RangeCheckException.class);
+    s.shaderUniformPutArrayi(p.uniforms().get("masks[0]"), 4, directInts(4));
+  }
+
+  @Test
+  public final void testUniformArrayBufferTooSmall()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    s.shaderActivateProgram(p);
+
+    final FloatBuffer data = directFloats(8 * 16);
+    data.position(1);
+
+    this.expected.expect(JCGLExceptionProgramTypeError.class);
+    s.shaderUniformPutArrayf(p.uniforms().get("bones[0]"), 8, data);
+  }
+
+  @Test
+  public final void testUniformArrayfWrongType()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    s.shaderActivateProgram(p);
+
+    this.expected.expect(JCGLExceptionProgramTypeError.class);
+    s.shaderUniformPutArrayf(p.uniforms().get("masks[0]"), 1, directFloats(1));
+  }
+
+  @Test
+  public final void testUniformArrayiWrongType()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+    s.shaderActivateProgram(p);
+
+    this.expected.expect(JCGLExceptionProgramTypeError.class);
+    s.shaderUniformPutArrayi(p.uniforms().get("colors[0]"), 1, directInts(4));
+  }
+
+  @Test
+  public final void testUniformArrayNotActive()
+  {
+    final JCGLShadersType s = this.getShaders("main");
+    final JCGLProgramShaderType p = this.linkUniforms(s, "uniforms3");
+
+    this.expected.expect(JCGLExceptionProgramNotActive.class);
+    s.shaderUniformPutArrayf(
+      p.uniforms().get("bones[0]"), 8, directFloats(8 * 16));
+  }
 }
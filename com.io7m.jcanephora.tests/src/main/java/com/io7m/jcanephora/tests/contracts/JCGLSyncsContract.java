@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLSyncStatus;
+import com.io7m.jcanephora.core.JCGLSyncType;
+import com.io7m.jcanephora.core.JCGLSyncWaitResult;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLSyncsType;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sync object contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLSyncsContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLSyncsType getSyncs(final String name)
+  {
+    return this.newGL33Context(name, 24, 8).contextGetGL33().syncs();
+  }
+
+  @Test
+  public final void testIdentities()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    Assert.assertFalse(s.isDeleted());
+    g_s.syncDelete(s);
+    Assert.assertTrue(s.isDeleted());
+  }
+
+  @Test
+  public final void testDistinctNames()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s0 = g_s.syncFenceInsert();
+    final JCGLSyncType s1 = g_s.syncFenceInsert();
+    Assert.assertNotEquals((long) s0.glName(), (long) s1.glName());
+  }
+
+  @Test
+  public final void testClientWaitSignalled()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    final JCGLSyncWaitResult r =
+      g_s.syncClientWait(s, TimeUnit.SECONDS.toNanos(10L));
+    Assert.assertNotEquals(JCGLSyncWaitResult.SYNC_WAIT_TIMEOUT_EXPIRED, r);
+    Assert.assertEquals(JCGLSyncStatus.SYNC_SIGNALLED, g_s.syncPoll(s));
+    Assert.assertEquals(
+      JCGLSyncWaitResult.SYNC_WAIT_ALREADY_SIGNALLED,
+      g_s.syncClientWait(s, 0L));
+  }
+
+  @Test
+  public final void testPollEventuallySignalled()
+    throws Exception
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    for (int index = 0; index < 1000; ++index) {
+      if (g_s.syncPoll(s) == JCGLSyncStatus.SYNC_SIGNALLED) {
+        return;
+      }
+      Thread.sleep(1L);
+    }
+    Assert.fail("Fence was not signalled");
+  }
+
+  @Test
+  public final void testServerWait()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    g_s.syncServerWait(s);
+    g_s.syncDelete(s);
+  }
+
+  @Test
+  public final void testClientWaitNegative()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    this.expected.expect(RangeCheckException.class);
+    g_s.syncClientWait(s, -1L);
+  }
+
+  @Test
+  public final void testDeleteDeleted()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    g_s.syncDelete(s);
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_s.syncDelete(s);
+  }
+
+  @Test
+  public final void testPollDeleted()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    g_s.syncDelete(s);
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_s.syncPoll(s);
+  }
+
+  @Test
+  public final void testClientWaitDeleted()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    g_s.syncDelete(s);
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_s.syncClientWait(s, 0L);
+  }
+
+  @Test
+  public final void testServerWaitDeleted()
+  {
+    final JCGLSyncsType g_s = this.getSyncs("main");
+
+    final JCGLSyncType s = g_s.syncFenceInsert();
+    g_s.syncDelete(s);
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_s.syncServerWait(s);
+  }
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLTexture2DType;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
+import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureWrapS;
+import com.io7m.jcanephora.core.JCGLTextureWrapT;
+import com.io7m.jcanephora.core.api.JCGLTexturesType;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLMipmapColorSpace;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLMipmapFilter;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLMipmapGenerator;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLMipmapGeneratorType;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLMipmapParameters;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mipmap generator contract.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLTLMipmapGeneratorContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLTexturesType getTextures(String name);
+
+  private static JCGLTLTextureDataType constant(
+    final long width,
+    final long height,
+    final double r,
+    final double g,
+    final double b,
+    final double a)
+  {
+    return new Data(width, height, (x, y, v) -> v.setXYZW(r, g, b, a));
+  }
+
+  private static JCGLTLTextureDataType checkerboard(
+    final long width,
+    final long height)
+  {
+    return new Data(width, height, (x, y, v) -> {
+      final double c = ((x + y) % 2 == 0) ? 0.0 : 1.0;
+      v.setXYZW(c, c, c, 1.0);
+    });
+  }
+
+  private static JCGLTexture2DType allocate(
+    final JCGLTexturesType t,
+    final long width,
+    final long height,
+    final JCGLTextureFormat format,
+    final JCGLTextureFilterMinification min)
+  {
+    final JCGLTextureUnitType u = t.textureGetUnits().get(0);
+    final JCGLTexture2DType tt = t.texture2DAllocate(
+      u, width, height, format,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      min,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+    t.textureUnitUnbind(u);
+    return tt;
+  }
+
+  private static JCGLTexture2DType allocateMipmapped(
+    final JCGLTexturesType t,
+    final long width,
+    final long height,
+    final JCGLTextureFormat format)
+  {
+    return allocate(
+      t, width, height, format,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+  }
+
+  @Test
+  public final void testLevels()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u = t.textureGetUnits().get(0);
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 64L, 32L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      constant(64L, 32L, 1.0, 0.0, 0.0, 1.0),
+      JCGLTLMipmapParameters.builder().build());
+
+    Assert.assertEquals(7L, (long) updates.size());
+
+    long width = 64L;
+    long height = 32L;
+    for (int level = 0; level < updates.size(); ++level) {
+      final JCGLTexture2DUpdateType up = updates.get(level);
+      Assert.assertEquals(tt, up.texture());
+      Assert.assertEquals(width, up.area().width());
+      Assert.assertEquals(height, up.area().height());
+      Assert.assertEquals(width * height * 4L, (long) up.data().capacity());
+      t.texture2DUpdateMipmapLevel(u, level, up);
+
+      width = Math.max(1L, width / 2L);
+      height = Math.max(1L, height / 2L);
+    }
+  }
+
+  @Test
+  public final void testNotMipmapped()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocate(
+      t, 16L, 16L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      constant(16L, 16L, 1.0, 0.0, 0.0, 1.0),
+      JCGLTLMipmapParameters.builder().build());
+
+    Assert.assertEquals(1L, (long) updates.size());
+  }
+
+  @Test
+  public final void testConstantBox()
+    throws Exception
+  {
+    this.checkConstant(JCGLTLMipmapFilter.MIPMAP_FILTER_BOX);
+  }
+
+  @Test
+  public final void testConstantKaiser()
+    throws Exception
+  {
+    this.checkConstant(JCGLTLMipmapFilter.MIPMAP_FILTER_KAISER);
+  }
+
+  private void checkConstant(
+    final JCGLTLMipmapFilter filter)
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 48L, 20L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    final List<JCGLTexture2DUpdateType> updates;
+    try {
+      final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create(pool);
+      updates = g.generateMipmaps2D(
+        tt,
+        constant(48L, 20L, 0.5, 0.25, 0.75, 1.0),
+        JCGLTLMipmapParameters.builder().setFilter(filter).build());
+    } finally {
+      pool.shutdown();
+    }
+
+    final ByteBuffer base = updates.get(0).data();
+    for (final JCGLTexture2DUpdateType up : updates) {
+      final ByteBuffer data = up.data();
+      for (int index = 0; index < data.capacity(); ++index) {
+        final int expected = base.get(index % 4) & 0xff;
+        final int received = data.get(index) & 0xff;
+        Assert.assertTrue(
+          String.format("|%d - %d| <= 1", expected, received),
+          Math.abs(expected - received) <= 1);
+      }
+    }
+  }
+
+  @Test
+  public final void testGammaCorrect()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 2L, 2L, JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      checkerboard(2L, 2L),
+      JCGLTLMipmapParameters.of(
+        JCGLTLMipmapFilter.MIPMAP_FILTER_BOX,
+        Optional.of(JCGLTLMipmapColorSpace.MIPMAP_COLOR_SPACE_SRGB)));
+
+    Assert.assertEquals(2L, (long) updates.size());
+    final int received = updates.get(1).data().get(0) & 0xff;
+    Assert.assertTrue(
+      String.format("|188 - %d| <= 1", received),
+      Math.abs(188 - received) <= 1);
+  }
+
+  @Test
+  public final void testGammaLinear()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 2L, 2L, JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      checkerboard(2L, 2L),
+      JCGLTLMipmapParameters.of(
+        JCGLTLMipmapFilter.MIPMAP_FILTER_BOX,
+        Optional.of(JCGLTLMipmapColorSpace.MIPMAP_COLOR_SPACE_LINEAR)));
+
+    Assert.assertEquals(2L, (long) updates.size());
+    final int received = updates.get(1).data().get(0) & 0xff;
+    Assert.assertTrue(
+      String.format("|128 - %d| <= 1", received),
+      Math.abs(128 - received) <= 1);
+  }
+
+  @Test
+  public final void testGammaDefaultLinear()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 2L, 2L, JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      checkerboard(2L, 2L),
+      JCGLTLMipmapParameters.builder().build());
+
+    final int received = updates.get(1).data().get(0) & 0xff;
+    Assert.assertTrue(
+      String.format("|128 - %d| <= 1", received),
+      Math.abs(128 - received) <= 1);
+  }
+
+  @Test
+  public final void testGammaDefaultSRGB()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 2L, 2L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      checkerboard(2L, 2L),
+      JCGLTLMipmapParameters.builder().build());
+
+    final ByteBuffer data = updates.get(1).data();
+    for (int index = 0; index < 3; ++index) {
+      final int received = data.get(index) & 0xff;
+      Assert.assertTrue(
+        String.format("|188 - %d| <= 1", received),
+        Math.abs(188 - received) <= 1);
+    }
+    Assert.assertEquals(255L, (long) (data.get(3) & 0xff));
+  }
+
+  @Test
+  public final void testGammaDefaultFloatLinear()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 2L, 2L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32F_16BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    final List<JCGLTexture2DUpdateType> updates = g.generateMipmaps2D(
+      tt,
+      checkerboard(2L, 2L),
+      JCGLTLMipmapParameters.builder().build());
+
+    final ByteBuffer data = updates.get(1).data().duplicate();
+    data.order(ByteOrder.nativeOrder());
+    for (int index = 0; index < 3; ++index) {
+      Assert.assertEquals(0.5, (double) data.getFloat(index * 4), 0.0001);
+    }
+  }
+
+  @Test
+  public final void testGammaFloatSRGBRejected()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 2L, 2L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16F_8BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    this.expected.expect(JCGLExceptionFormatError.class);
+    g.generateMipmaps2D(
+      tt,
+      checkerboard(2L, 2L),
+      JCGLTLMipmapParameters.of(
+        JCGLTLMipmapFilter.MIPMAP_FILTER_BOX,
+        Optional.of(JCGLTLMipmapColorSpace.MIPMAP_COLOR_SPACE_SRGB)));
+  }
+
+  @Test
+  public final void testSourceReadOnceBySingleThread()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 128L, 128L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+
+    final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    final AtomicLong reads = new AtomicLong();
+    final JCGLTLTextureDataType data = new Data(128L, 128L, (x, y, v) -> {
+      threads.add(Thread.currentThread());
+      reads.incrementAndGet();
+      v.setXYZW(1.0, 0.5, 0.25, 1.0);
+    });
+
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create(pool);
+      g.generateMipmaps2D(tt, data, JCGLTLMipmapParameters.builder().build());
+    } finally {
+      pool.shutdown();
+    }
+
+    Assert.assertEquals(128L * 128L, reads.get());
+    Assert.assertEquals(1L, (long) threads.size());
+  }
+
+  @Test
+  public final void testIntegerFormat()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocate(
+      t, 8L, 8L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8U_4BPP,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_NEAREST);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    this.expected.expect(JCGLExceptionFormatError.class);
+    g.generateMipmaps2D(
+      tt,
+      constant(8L, 8L, 1.0, 1.0, 1.0, 1.0),
+      JCGLTLMipmapParameters.builder().build());
+  }
+
+  @Test
+  public final void testSizeMismatch()
+    throws Exception
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocateMipmapped(
+      t, 8L, 8L, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+
+    final JCGLTLMipmapGeneratorType g = JCGLTLMipmapGenerator.create();
+    this.expected.expect(RangeCheckException.class);
+    g.generateMipmaps2D(
+      tt,
+      constant(8L, 4L, 1.0, 1.0, 1.0, 1.0),
+      JCGLTLMipmapParameters.builder().build());
+  }
+
+  private interface PixelFunctionType
+  {
+    void pixel(
+      int x,
+      int y,
+      VectorMutable4D v);
+  }
+
+  private static final class Data implements JCGLTLTextureDataType
+  {
+    private final long width;
+    private final long height;
+    private final PixelFunctionType function;
+
+    Data(
+      final long in_width,
+      final long in_height,
+      final PixelFunctionType in_function)
+    {
+      this.width = in_width;
+      this.height = in_height;
+      this.function = in_function;
+    }
+
+    @Override
+    public boolean isPremultipliedAlpha()
+    {
+      return false;
+    }
+
+    @Override
+    public long width()
+    {
+      return this.width;
+    }
+
+    @Override
+    public long height()
+    {
+      return this.height;
+    }
+
+    @Override
+    public void pixel(
+      final int x,
+      final int y,
+      final VectorMutable4D v)
+    {
+      this.function.pixel(x, y, v);
+    }
+  }
+}
@@ -152,6 +152,17 @@ public abstract class JCGLTLTextureUpdateProviderContract extends JCGLContract
         case TEXTURE_FORMAT_RGBA_32U_16BPP:
         case TEXTURE_FORMAT_RGBA_8I_4BPP:
         case TEXTURE_FORMAT_RGBA_8U_4BPP:
+        case TEXTURE_FORMAT_RGTC1_R_8BPB:
+        case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+        case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+        case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+        case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+        case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+        case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+        case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+        case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+        case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+        case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
         case TEXTURE_FORMAT_DEPTH_24_4BPP: {
           continue;
         }
@@ -263,6 +274,17 @@ public abstract class JCGLTLTextureUpdateProviderContract extends JCGLContract
         case TEXTURE_FORMAT_RGBA_32U_16BPP:
         case TEXTURE_FORMAT_RGBA_8I_4BPP:
         case TEXTURE_FORMAT_RGBA_8U_4BPP:
+        case TEXTURE_FORMAT_RGTC1_R_8BPB:
+        case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+        case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+        case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+        case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+        case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+        case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+        case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+        case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+        case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+        case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
         case TEXTURE_FORMAT_DEPTH_24_4BPP: {
           continue;
         }
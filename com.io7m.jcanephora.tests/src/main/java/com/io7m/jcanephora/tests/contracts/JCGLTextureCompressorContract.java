@@ -0,0 +1,778 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLTexture2DType;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
+import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jcanephora.core.JCGLTextureUnitType;
+import com.io7m.jcanephora.core.JCGLTextureWrapS;
+import com.io7m.jcanephora.core.JCGLTextureWrapT;
+import com.io7m.jcanephora.core.api.JCGLTexturesType;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressionQuality;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressor;
+import com.io7m.jcanephora.texture.compressor.JCGLTextureCompressorType;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Texture compressor contract.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLTextureCompressorContract extends JCGLContract
+{
+  private static final JCGLTextureFormat[] FORMATS = {
+    JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB,
+    JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB,
+    JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB,
+    JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+    JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB,
+  };
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLTexturesType getTextures(String name);
+
+  private static JCGLTLTextureDataType constant(
+    final long width,
+    final long height,
+    final double r,
+    final double g,
+    final double b,
+    final double a)
+  {
+    return new Data(width, height, (x, y, v) -> v.setXYZW(r, g, b, a));
+  }
+
+  private static JCGLTLTextureDataType gradient(
+    final long width,
+    final long height)
+  {
+    return new Data(width, height, (x, y, v) -> {
+      final double s = (double) x / (double) (width - 1L);
+      final double t = (double) y / (double) (height - 1L);
+      v.setXYZW(s, t, 1.0 - (s * t), 1.0 - s);
+    });
+  }
+
+  private static JCGLTLTextureDataType noise(
+    final long width,
+    final long height,
+    final long seed)
+  {
+    final Random random = new Random(seed);
+    final double[] values = new double[(int) (width * height * 4L)];
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = random.nextDouble();
+    }
+    return new Data(width, height, (x, y, v) -> {
+      final int i = (int) (((long) y * width) + (long) x) * 4;
+      v.setXYZW(values[i], values[i + 1], values[i + 2], values[i + 3]);
+    });
+  }
+
+  /**
+   * Read the source data as 8-bit components, with the rows in the order
+   * used by OpenGL.
+   */
+
+  private static int[] source(
+    final JCGLTLTextureDataType data)
+  {
+    final int width = (int) data.width();
+    final int height = (int) data.height();
+    final int[] texels = new int[width * height * 4];
+    final VectorMutable4D v = new VectorMutable4D();
+    for (int y = 0; y < height; ++y) {
+      for (int x = 0; x < width; ++x) {
+        data.pixel(x, y, v);
+        final int i = (((height - 1 - y) * width) + x) * 4;
+        texels[i] = (int) Math.round(v.x() * 255.0);
+        texels[i + 1] = (int) Math.round(v.y() * 255.0);
+        texels[i + 2] = (int) Math.round(v.z() * 255.0);
+        texels[i + 3] = (int) Math.round(v.w() * 255.0);
+      }
+    }
+    return texels;
+  }
+
+  private static int expand(
+    final int c,
+    final int shift,
+    final int bits)
+  {
+    final int x = (c >>> shift) & ((1 << bits) - 1);
+    return (x << (8 - bits)) | (x >>> ((2 * bits) - 8));
+  }
+
+  private static void decodeColor(
+    final ByteBuffer data,
+    final int offset,
+    final boolean four_always,
+    final int[] block)
+  {
+    final int c0 =
+      (data.get(offset) & 0xff) | ((data.get(offset + 1) & 0xff) << 8);
+    final int c1 =
+      (data.get(offset + 2) & 0xff) | ((data.get(offset + 3) & 0xff) << 8);
+
+    final int[] p = new int[16];
+    p[0] = expand(c0, 11, 5);
+    p[1] = expand(c0, 5, 6);
+    p[2] = expand(c0, 0, 5);
+    p[3] = 255;
+    p[4] = expand(c1, 11, 5);
+    p[5] = expand(c1, 5, 6);
+    p[6] = expand(c1, 0, 5);
+    p[7] = 255;
+    for (int k = 0; k < 3; ++k) {
+      if (c0 > c1 || four_always) {
+        p[8 + k] = ((2 * p[k]) + p[4 + k]) / 3;
+        p[12 + k] = (p[k] + (2 * p[4 + k])) / 3;
+      } else {
+        p[8 + k] = (p[k] + p[4 + k]) / 2;
+        p[12 + k] = 0;
+      }
+    }
+    p[11] = 255;
+    p[15] = (c0 > c1 || four_always) ? 255 : 0;
+
+    for (int texel = 0; texel < 16; ++texel) {
+      final int shift = texel * 2;
+      final int index =
+        (data.get(offset + 4 + (shift / 8)) >>> (shift % 8)) & 3;
+      for (int k = 0; k < 4; ++k) {
+        block[(texel * 4) + k] = p[(index * 4) + k];
+      }
+    }
+  }
+
+  private static void decodeSingle(
+    final ByteBuffer data,
+    final int offset,
+    final int component,
+    final int[] block)
+  {
+    final int a0 = data.get(offset) & 0xff;
+    final int a1 = data.get(offset + 1) & 0xff;
+    final int[] p = new int[8];
+    p[0] = a0;
+    p[1] = a1;
+    if (a0 > a1) {
+      for (int k = 2; k < 8; ++k) {
+        p[k] = (((8 - k) * a0) + ((k - 1) * a1) + 3) / 7;
+      }
+    } else {
+      for (int k = 2; k < 6; ++k) {
+        p[k] = (((6 - k) * a0) + ((k - 1) * a1) + 2) / 5;
+      }
+      p[6] = 0;
+      p[7] = 255;
+    }
+
+    long bits = 0L;
+    for (int k = 0; k < 6; ++k) {
+      bits |= (long) (data.get(offset + 2 + k) & 0xff) << (k * 8);
+    }
+    for (int texel = 0; texel < 16; ++texel) {
+      block[(texel * 4) + component] =
+        p[(int) ((bits >>> (texel * 3)) & 7L)];
+    }
+  }
+
+  /**
+   * Decode a compressed image into 8-bit components. Components that are not
+   * stored by the format are left as zero.
+   */
+
+  private static int[] decode(
+    final JCGLTextureFormat format,
+    final ByteBuffer data,
+    final int width,
+    final int height)
+  {
+    final int blocks_x = (width + 3) / 4;
+    final int blocks_y = (height + 3) / 4;
+    final int size = format.getBytesPerBlock();
+    final int[] texels = new int[width * height * 4];
+    final int[] block = new int[16 * 4];
+
+    for (int by = 0; by < blocks_y; ++by) {
+      for (int bx = 0; bx < blocks_x; ++bx) {
+        final int offset = ((by * blocks_x) + bx) * size;
+        switch (format) {
+          case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+          case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+            decodeColor(data, offset, false, block);
+            break;
+          case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+            decodeColor(data, offset + 8, true, block);
+            decodeSingle(data, offset, 3, block);
+            break;
+          case TEXTURE_FORMAT_RGTC1_R_8BPB:
+            decodeSingle(data, offset, 0, block);
+            break;
+          case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+            decodeSingle(data, offset, 0, block);
+            decodeSingle(data, offset + 8, 1, block);
+            break;
+          default:
+            throw new AssertionError(format);
+        }
+
+        for (int py = 0; py < 4; ++py) {
+          for (int px = 0; px < 4; ++px) {
+            final int x = (bx * 4) + px;
+            final int y = (by * 4) + py;
+            if (x < width && y < height) {
+              final int i = ((y * width) + x) * 4;
+              final int o = ((py * 4) + px) * 4;
+              System.arraycopy(block, o, texels, i, 4);
+            }
+          }
+        }
+      }
+    }
+    return texels;
+  }
+
+  private static boolean[] components(
+    final JCGLTextureFormat format)
+  {
+    switch (format) {
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+        return new boolean[]{true, true, true, false};
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+        return new boolean[]{true, true, true, true};
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+        return new boolean[]{true, false, false, false};
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+        return new boolean[]{true, true, false, false};
+      default:
+        throw new AssertionError(format);
+    }
+  }
+
+  /**
+   * @return The root-mean-square error over the components stored by the
+   * format, ignoring the colors of texels that are encoded as transparent
+   */
+
+  private static double error(
+    final JCGLTextureFormat format,
+    final int[] expected,
+    final int[] received)
+  {
+    final boolean[] used = components(format);
+    final boolean punch_through =
+      format == JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB;
+
+    double sum = 0.0;
+    long count = 0L;
+    for (int index = 0; index < expected.length; ++index) {
+      final int alpha = expected[(index & ~3) + 3];
+      if (used[index % 4] && !(punch_through && alpha < 128)) {
+        final double d = (double) (expected[index] - received[index]);
+        sum += d * d;
+        ++count;
+      }
+    }
+    return Math.sqrt(sum / (double) count);
+  }
+
+  private static double compressionError(
+    final JCGLTextureCompressorType c,
+    final JCGLTextureFormat format,
+    final JCGLTLTextureDataType data,
+    final JCGLTextureCompressionQuality quality)
+  {
+    final ByteBuffer out = c.compressImage(format, data, quality);
+    return error(
+      format,
+      source(data),
+      decode(format, out, (int) data.width(), (int) data.height()));
+  }
+
+  private static JCGLTexture2DType allocate(
+    final JCGLTexturesType t,
+    final long width,
+    final long height,
+    final JCGLTextureFormat format,
+    final JCGLTextureFilterMinification min)
+  {
+    final JCGLTextureUnitType u = t.textureGetUnits().get(0);
+    final JCGLTexture2DType tt = t.texture2DAllocate(
+      u, width, height, format,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      min,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+    t.textureUnitUnbind(u);
+    return tt;
+  }
+
+  @Test
+  public final void testSupportedFormats()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+
+    int supported = 0;
+    for (final JCGLTextureFormat f : JCGLTextureFormat.values()) {
+      if (c.compressorSupportsFormat(f)) {
+        Assert.assertTrue(f.isCompressed());
+        ++supported;
+      }
+    }
+
+    Assert.assertEquals((long) FORMATS.length, (long) supported);
+    for (final JCGLTextureFormat f : FORMATS) {
+      Assert.assertTrue(c.compressorSupportsFormat(f));
+    }
+  }
+
+  @Test
+  public final void testUnsupportedFormat()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+
+    this.expected.expect(JCGLExceptionFormatError.class);
+    c.compressImage(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB,
+      constant(4L, 4L, 1.0, 1.0, 1.0, 1.0),
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_NORMAL);
+  }
+
+  @Test
+  public final void testImageSize()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+
+    for (final JCGLTextureFormat f : FORMATS) {
+      final ByteBuffer out = c.compressImage(
+        f,
+        gradient(6L, 5L),
+        JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+      Assert.assertTrue(out.isDirect());
+      Assert.assertEquals(
+        JCGLTextureFormats.imageSizeBytes(f, 6L, 5L),
+        (long) out.capacity());
+      Assert.assertEquals(4L * (long) f.getBytesPerBlock(), out.capacity());
+    }
+  }
+
+  @Test
+  public final void testBytesPerPixelCompressed()
+  {
+    this.expected.expect(JCGLExceptionFormatError.class);
+    JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB.getBytesPerPixel();
+  }
+
+  @Test
+  public final void testConstant()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data =
+      constant(8L, 8L, 0.25, 0.5, 0.75, 0.6);
+
+    for (final JCGLTextureFormat f : FORMATS) {
+      for (final JCGLTextureCompressionQuality q :
+        JCGLTextureCompressionQuality.values()) {
+        final double e = compressionError(c, f, data, q);
+        Assert.assertTrue(
+          String.format("%s %s error %f", f, q, Double.valueOf(e)),
+          e < 4.0);
+      }
+    }
+  }
+
+  @Test
+  public final void testGradient()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = gradient(61L, 67L);
+
+    for (final JCGLTextureFormat f : FORMATS) {
+      for (final JCGLTextureCompressionQuality q :
+        JCGLTextureCompressionQuality.values()) {
+        final double e = compressionError(c, f, data, q);
+        final double limit = f.getComponentCount() <= 2 ? 1.0 : 4.0;
+        Assert.assertTrue(
+          String.format("%s %s error %f", f, q, Double.valueOf(e)),
+          e < limit);
+      }
+    }
+  }
+
+  @Test
+  public final void testQualityOrdering()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = noise(64L, 64L, 0x10203040L);
+
+    for (final JCGLTextureFormat f : FORMATS) {
+      final double fast = compressionError(
+        c, f, data, JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+      final double normal = compressionError(
+        c, f, data, JCGLTextureCompressionQuality.COMPRESSION_QUALITY_NORMAL);
+      final double high = compressionError(
+        c, f, data, JCGLTextureCompressionQuality.COMPRESSION_QUALITY_HIGH);
+      Assert.assertTrue(
+        String.format(
+          "%s %f <= %f", f, Double.valueOf(normal), Double.valueOf(fast)),
+        normal <= fast);
+      Assert.assertTrue(
+        String.format(
+          "%s %f <= %f", f, Double.valueOf(high), Double.valueOf(normal)),
+        high <= normal);
+    }
+  }
+
+  @Test
+  public final void testPunchThroughAlpha()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = new Data(8L, 8L, (x, y, v) -> {
+      final double a = ((x + y) % 3 == 0) ? 0.0 : 1.0;
+      v.setXYZW((double) x / 7.0, 0.5, (double) y / 7.0, a);
+    });
+
+    final int[] expected = source(data);
+    final ByteBuffer out = c.compressImage(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB,
+      data,
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_HIGH);
+    final int[] received = decode(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB, out, 8, 8);
+
+    for (int texel = 0; texel < 64; ++texel) {
+      Assert.assertEquals(
+        (long) expected[(texel * 4) + 3], (long) received[(texel * 4) + 3]);
+    }
+  }
+
+  @Test
+  public final void testFullyTransparent()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = constant(4L, 4L, 1.0, 0.0, 0.0, 0.0);
+
+    final ByteBuffer out = c.compressImage(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB,
+      data,
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+    final int[] received = decode(
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB, out, 4, 4);
+
+    for (int texel = 0; texel < 16; ++texel) {
+      Assert.assertEquals(0L, (long) received[(texel * 4) + 3]);
+    }
+  }
+
+  @Test
+  public final void testSingleExact()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = new Data(4L, 4L, (x, y, v) -> {
+      final double r = x < 2 ? 0.2 : 0.8;
+      v.setXYZW(r, 1.0 - r, 0.0, 1.0);
+    });
+
+    for (final JCGLTextureCompressionQuality q :
+      JCGLTextureCompressionQuality.values()) {
+      Assert.assertEquals(
+        0.0,
+        compressionError(
+          c, JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB, data, q),
+        0.0);
+    }
+  }
+
+  @Test
+  public final void testSingleExtremes()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = new Data(4L, 4L, (x, y, v) -> {
+      final double r;
+      switch (x) {
+        case 0:
+          r = 0.0;
+          break;
+        case 3:
+          r = 1.0;
+          break;
+        default:
+          r = 0.4 + ((double) y * 0.01);
+          break;
+      }
+      v.setXYZW(r, 0.0, 0.0, 1.0);
+    });
+
+    final double high = compressionError(
+      c,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      data,
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_HIGH);
+    final double normal = compressionError(
+      c,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      data,
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_NORMAL);
+    Assert.assertTrue(high < normal);
+    Assert.assertTrue(high < 1.0);
+  }
+
+  @Test
+  public final void testOrientation()
+  {
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = new Data(4L, 8L, (x, y, v) -> {
+      final double r = y < 4 ? 1.0 : 0.0;
+      v.setXYZW(r, 0.0, 0.0, 1.0);
+    });
+
+    final ByteBuffer out = c.compressImage(
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      data,
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+
+    /*
+     * The first block row holds the bottom of the image.
+     */
+
+    final int[] received =
+      decode(JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB, out, 4, 8);
+    Assert.assertEquals(0L, (long) received[0]);
+    Assert.assertEquals(255L, (long) received[(7 * 4) * 4]);
+  }
+
+  @Test
+  public final void testParallelDeterministic()
+  {
+    final JCGLTextureCompressorType c0 =
+      JCGLTextureCompressor.create(new ForkJoinPool(1));
+    final JCGLTextureCompressorType c1 =
+      JCGLTextureCompressor.create(new ForkJoinPool(4));
+    final JCGLTLTextureDataType data = noise(130L, 97L, 0x50607080L);
+
+    for (final JCGLTextureFormat f : FORMATS) {
+      for (final JCGLTextureCompressionQuality q :
+        JCGLTextureCompressionQuality.values()) {
+        final ByteBuffer b0 = c0.compressImage(f, data, q);
+        final ByteBuffer b1 = c1.compressImage(f, data, q);
+        Assert.assertEquals(b0, b1);
+      }
+    }
+  }
+
+  @Test
+  public final void testCompress2DLevels()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u = t.textureGetUnits().get(0);
+    final JCGLTexture2DType tt = allocate(
+      t,
+      32L,
+      16L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final int count = JCGLTextureMipmaps.levelCount(tt);
+    Assert.assertEquals(6L, (long) count);
+
+    JCGLTexture2DUpdateType first = null;
+    for (int level = 0; level < count; ++level) {
+      final AreaSizeL size = JCGLTextureMipmaps.levelSize(tt, level);
+      final JCGLTexture2DUpdateType up = c.compress2D(
+        tt,
+        level,
+        gradient(size.width(), size.height()),
+        JCGLTextureCompressionQuality.COMPRESSION_QUALITY_NORMAL);
+
+      Assert.assertEquals(tt, up.texture());
+      Assert.assertEquals(size.width(), up.area().width());
+      Assert.assertEquals(size.height(), up.area().height());
+      Assert.assertEquals(
+        JCGLTextureFormats.imageSizeBytes(
+          tt.format(), size.width(), size.height()),
+        (long) up.data().capacity());
+      t.texture2DUpdateMipmapLevel(u, level, up);
+
+      if (level == 0) {
+        first = up;
+      }
+    }
+
+    Assert.assertNotNull(first);
+    final ByteBuffer image = t.texture2DGetImage(u, tt);
+    Assert.assertEquals(first.data(), image);
+  }
+
+  @Test
+  public final void testCompress2DSizeMismatch()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocate(
+      t,
+      32L,
+      16L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+
+    this.expected.expect(RangeCheckException.class);
+    c.compress2D(
+      tt,
+      1,
+      gradient(32L, 16L),
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+  }
+
+  @Test
+  public final void testCompress2DLevelOutOfRange()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocate(
+      t,
+      32L,
+      16L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+
+    this.expected.expect(RangeCheckException.class);
+    c.compress2D(
+      tt,
+      1,
+      gradient(16L, 8L),
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+  }
+
+  @Test
+  public final void testCompress2DUnsupported()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocate(
+      t,
+      32L,
+      16L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+
+    this.expected.expect(JCGLExceptionFormatError.class);
+    c.compress2D(
+      tt,
+      gradient(32L, 16L),
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST);
+  }
+
+  @Test
+  public final void testPopulator()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTexture2DType tt = allocate(
+      t,
+      32L,
+      16L,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTextureCompressorType c = JCGLTextureCompressor.create();
+    final JCGLTLTextureDataType data = gradient(32L, 16L);
+
+    final JCGLTexture2DUpdateType u0 = c.populator(
+      JCGLTextureCompressionQuality.COMPRESSION_QUALITY_HIGH).apply(tt, data);
+    final JCGLTexture2DUpdateType u1 = c.compress2D(
+      tt, data, JCGLTextureCompressionQuality.COMPRESSION_QUALITY_HIGH);
+    Assert.assertEquals(u1.data(), u0.data());
+  }
+
+  private interface PixelFunctionType
+  {
+    void pixel(
+      int x,
+      int y,
+      VectorMutable4D v);
+  }
+
+  private static final class Data implements JCGLTLTextureDataType
+  {
+    private final long width;
+    private final long height;
+    private final PixelFunctionType function;
+
+    Data(
+      final long in_width,
+      final long in_height,
+      final PixelFunctionType in_function)
+    {
+      this.width = in_width;
+      this.height = in_height;
+      this.function = in_function;
+    }
+
+    @Override
+    public boolean isPremultipliedAlpha()
+    {
+      return false;
+    }
+
+    @Override
+    public long width()
+    {
+      return this.width;
+    }
+
+    @Override
+    public long height()
+    {
+      return this.height;
+    }
+
+    @Override
+    public void pixel(
+      final int x,
+      final int y,
+      final VectorMutable4D v)
+    {
+      this.function.pixel(x, y, v);
+    }
+  }
+}
@@ -16,8 +16,11 @@
 
 package com.io7m.jcanephora.tests.contracts;
 
+import com.io7m.jaffirm.core.PreconditionViolationException;
 import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
 import com.io7m.jcanephora.core.JCGLExceptionTextureNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionUnsupportedFeature;
 import com.io7m.jcanephora.core.JCGLTexture2DType;
 import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
 import com.io7m.jcanephora.core.JCGLTextureCubeType;
@@ -25,6 +28,9 @@ import com.io7m.jcanephora.core.JCGLTextureCubeUpdateType;
 import com.io7m.jcanephora.core.JCGLTextureFilterMagnification;
 import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
 import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmapUpdateMode;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
 import com.io7m.jcanephora.core.JCGLTextureUnitType;
 import com.io7m.jcanephora.core.JCGLTextureUpdates;
 import com.io7m.jcanephora.core.JCGLTextureWrapR;
@@ -36,6 +42,7 @@ import com.io7m.jregions.core.unparameterized.areas.AreaL;
 import com.io7m.jregions.core.unparameterized.areas.AreasL;
 import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -311,6 +318,10 @@ public abstract class JCGLTexturesContract extends JCGLContract
     final JCGLTextureUnitType u = us.get(0);
 
     for (final JCGLTextureFormat v : JCGLTextureFormat.values()) {
+      if (!t.textureFormatIsSupported(v)) {
+        continue;
+      }
+
       final JCGLTexture2DType ta =
         t.texture2DAllocate(
           u,
@@ -355,6 +366,10 @@ public abstract class JCGLTexturesContract extends JCGLContract
     final JCGLTextureUnitType u = us.get(0);
 
     for (final JCGLTextureFormat v : JCGLTextureFormat.values()) {
+      if (!t.textureFormatIsSupported(v)) {
+        continue;
+      }
+
       final JCGLTexture2DType ta =
         t.texture2DAllocate(
           u,
@@ -372,7 +387,7 @@ public abstract class JCGLTexturesContract extends JCGLContract
       final ByteBuffer i = t.texture2DGetImage(u, ta);
       Assert.assertEquals(ByteOrder.nativeOrder(), i.order());
       Assert.assertEquals(
-        128L * 256L * (long) v.getBytesPerPixel(),
+        JCGLTextureFormats.imageSizeBytes(v, 128L, 256L),
         (long) i.capacity());
 
       Assert.assertFalse(ta.isDeleted());
@@ -1056,6 +1071,10 @@ public abstract class JCGLTexturesContract extends JCGLContract
     final JCGLTextureUnitType u = us.get(0);
 
     for (final JCGLTextureFormat v : JCGLTextureFormat.values()) {
+      if (!t.textureFormatIsSupported(v)) {
+        continue;
+      }
+
       final JCGLTextureCubeType ta =
         t.textureCubeAllocate(
           u,
@@ -1100,6 +1119,10 @@ public abstract class JCGLTexturesContract extends JCGLContract
     final JCGLTextureUnitType u = us.get(0);
 
     for (final JCGLTextureFormat v : JCGLTextureFormat.values()) {
+      if (!t.textureFormatIsSupported(v)) {
+        continue;
+      }
+
       final JCGLTextureCubeType ta =
         t.textureCubeAllocate(
           u,
@@ -1118,7 +1141,7 @@ public abstract class JCGLTexturesContract extends JCGLContract
         final ByteBuffer i = t.textureCubeGetImageLH(u, f, ta);
         Assert.assertEquals(ByteOrder.nativeOrder(), i.order());
         Assert.assertEquals(
-          128L * 128L * (long) v.getBytesPerPixel(),
+          JCGLTextureFormats.imageSizeBytes(v, 128L, 128L),
           (long) i.capacity());
       }
 
@@ -1781,4 +1804,615 @@ public abstract class JCGLTexturesContract extends JCGLContract
     this.expected.expect(JCGLExceptionTextureNotBound.class);
     t.textureCubeRegenerateMipmaps(u0);
   }
+
+  private static JCGLTexture2DType allocateMipmapped2D(
+    final JCGLTexturesType t,
+    final JCGLTextureUnitType u,
+    final JCGLTextureFilterMinification min)
+  {
+    return t.texture2DAllocate(
+      u,
+      64L,
+      32L,
+      JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      min,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+  }
+
+  private static void updateTiles2D(
+    final JCGLTexturesType t,
+    final JCGLTextureUnitType u,
+    final JCGLTexture2DType ta)
+  {
+    for (long y = 0L; y < 32L; y += 8L) {
+      for (long x = 0L; x < 64L; x += 8L) {
+        t.texture2DUpdate(
+          u,
+          JCGLTextureUpdates.newUpdateReplacingArea2D(
+            ta, AreasL.create(x, y, 8L, 8L)));
+      }
+    }
+  }
+
+  @Test
+  public final void testTextureMipmapUpdateModeDefault()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    Assert.assertEquals(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_IMMEDIATE,
+      t.textureGetMipmapUpdateMode());
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    updateTiles2D(t, u0, ta);
+
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertEquals(0L, (long) t.textureFlushMipmaps(u0));
+  }
+
+  @Test
+  public final void testTexture2DMipmapsDeferredFlush()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final List<JCGLTextureUnitType> us = t.textureGetUnits();
+    final JCGLTextureUnitType u0 = us.get(0);
+    final JCGLTextureUnitType u1 = us.get(1);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+    Assert.assertEquals(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED,
+      t.textureGetMipmapUpdateMode());
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    final JCGLTexture2DType tb = allocateMipmapped2D(
+      t,
+      u0,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR);
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertFalse(t.textureMipmapsAreDirty(tb));
+
+    updateTiles2D(t, u0, ta);
+    updateTiles2D(t, u0, tb);
+    Assert.assertTrue(t.textureMipmapsAreDirty(ta));
+    Assert.assertTrue(t.textureMipmapsAreDirty(tb));
+
+    Assert.assertEquals(2L, (long) t.textureFlushMipmaps(u1));
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertFalse(t.textureMipmapsAreDirty(tb));
+    Assert.assertEquals(0L, (long) t.textureFlushMipmaps(u1));
+  }
+
+  @Test
+  public final void testTexture2DMipmapsDeferredBind()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final List<JCGLTextureUnitType> us = t.textureGetUnits();
+    final JCGLTextureUnitType u0 = us.get(0);
+    final JCGLTextureUnitType u1 = us.get(1);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    updateTiles2D(t, u0, ta);
+    Assert.assertTrue(t.textureMipmapsAreDirty(ta));
+
+    t.texture2DBind(u1, ta);
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertEquals(0L, (long) t.textureFlushMipmaps(u1));
+  }
+
+  @Test
+  public final void testTexture2DMipmapsDeferredRegenerate()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    updateTiles2D(t, u0, ta);
+    Assert.assertTrue(t.textureMipmapsAreDirty(ta));
+
+    t.texture2DRegenerateMipmaps(u0);
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertEquals(0L, (long) t.textureFlushMipmaps(u0));
+  }
+
+  @Test
+  public final void testTexture2DMipmapsDeferredDelete()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    updateTiles2D(t, u0, ta);
+    t.texture2DDelete(ta);
+    Assert.assertEquals(0L, (long) t.textureFlushMipmaps(u0));
+  }
+
+  @Test
+  public final void testTexture2DMipmapsDeferredNotMipmapped()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+    updateTiles2D(t, u0, ta);
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertEquals(0L, (long) t.textureFlushMipmaps(u0));
+  }
+
+  @Test
+  public final void testTextureCubeMipmapsDeferredFlush()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final List<JCGLTextureUnitType> us = t.textureGetUnits();
+    final JCGLTextureUnitType u0 = us.get(0);
+    final JCGLTextureUnitType u1 = us.get(1);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTextureCubeType ta =
+      t.textureCubeAllocate(
+        u0,
+        64L,
+        JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP,
+        JCGLTextureWrapR.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+        JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR,
+        JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTextureCubeUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingAllCube(ta);
+    for (final JCGLCubeMapFaceLH face : JCGLCubeMapFaceLH.values()) {
+      t.textureCubeUpdateLH(u0, face, up);
+    }
+    Assert.assertTrue(t.textureMipmapsAreDirty(ta));
+
+    t.textureCubeBind(u1, ta);
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+
+    t.textureCubeUpdateLH(u0, JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_X, up);
+    Assert.assertTrue(t.textureMipmapsAreDirty(ta));
+    Assert.assertEquals(1L, (long) t.textureFlushMipmaps(u1));
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+  }
+
+  @Test
+  public final void testTexture2DUpdateMipmapLevels()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    final int count = JCGLTextureMipmaps.levelCount(ta);
+    Assert.assertEquals(7L, (long) count);
+
+    for (int level = 0; level < count; ++level) {
+      final JCGLTexture2DUpdateType up =
+        JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(ta, level);
+      final ByteBuffer data = up.data();
+      Assert.assertEquals(
+        Math.max(1L, 64L >>> level) * Math.max(1L, 32L >>> level),
+        (long) data.capacity());
+
+      for (int index = 0; index < data.capacity(); ++index) {
+        data.put(index, (byte) (level + 1));
+      }
+      t.texture2DUpdateMipmapLevel(u0, level, up);
+    }
+
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+    Assert.assertTrue(t.texture2DIsBound(u0, ta));
+
+    final ByteBuffer image = t.texture2DGetImage(u0, ta);
+    for (int index = 0; index < 64 * 32; ++index) {
+      Assert.assertEquals(1L, (long) image.get(index));
+    }
+  }
+
+  @Test
+  public final void testTexture2DUpdateMipmapLevelOutOfRange()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    final JCGLTexture2DUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(ta, 6);
+
+    this.expected.expect(RangeCheckException.class);
+    t.texture2DUpdateMipmapLevel(u0, 7, up);
+  }
+
+  @Test
+  public final void testTexture2DUpdateMipmapLevelNotMipmapped()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    this.expected.expect(RangeCheckException.class);
+    JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(ta, 1);
+  }
+
+  @Test
+  public final void testTexture2DUpdateMipmapLevelAreaNonInclusive()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+    final JCGLTexture2DUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(ta, 0);
+
+    this.expected.expect(PreconditionViolationException.class);
+    t.texture2DUpdateMipmapLevel(u0, 1, up);
+  }
+
+  private static JCGLTexture2DType allocateCompressed2D(
+    final JCGLTexturesType t,
+    final JCGLTextureUnitType u,
+    final JCGLTextureFormat format,
+    final JCGLTextureFilterMinification min)
+  {
+    return t.texture2DAllocate(
+      u,
+      64L,
+      30L,
+      format,
+      JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+      JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+      min,
+      JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+  }
+
+  @Test
+  public final void testTextureFormatUncompressedSupported()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+
+    for (final JCGLTextureFormat v : JCGLTextureFormat.values()) {
+      switch (v.getCompression()) {
+        case TEXTURE_COMPRESSION_NONE:
+        case TEXTURE_COMPRESSION_RGTC:
+          Assert.assertTrue(t.textureFormatIsSupported(v));
+          break;
+        case TEXTURE_COMPRESSION_S3TC:
+        case TEXTURE_COMPRESSION_BPTC:
+          break;
+      }
+    }
+  }
+
+  @Test
+  public final void testTexture2DCompressedUpdateGetIdentity()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateCompressed2D(
+      t,
+      u0,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    /*
+     * The height of the texture is not a multiple of the block height, so
+     * the last row of blocks is partially used.
+     */
+
+    Assert.assertEquals(16L * 8L * 16L, ta.byteRange().getInterval());
+
+    final JCGLTexture2DUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingAll2D(ta);
+    final ByteBuffer data = up.data();
+    Assert.assertEquals(16L * 8L * 16L, (long) data.capacity());
+
+    for (int index = 0; index < data.capacity(); ++index) {
+      data.put(index, (byte) (index % 8));
+    }
+    t.texture2DUpdate(u0, up);
+
+    final ByteBuffer image = t.texture2DGetImage(u0, ta);
+    Assert.assertEquals((long) data.capacity(), (long) image.capacity());
+    for (int index = 0; index < data.capacity(); ++index) {
+      Assert.assertEquals((long) (index % 8), (long) image.get(index));
+    }
+  }
+
+  @Test
+  public final void testTexture2DCompressedUpdateEdge()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateCompressed2D(
+      t,
+      u0,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTexture2DUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingArea2D(
+        ta, AreasL.create(60L, 28L, 4L, 2L));
+    Assert.assertEquals(8L, (long) up.data().capacity());
+    t.texture2DUpdate(u0, up);
+  }
+
+  @Test
+  public final void testTexture2DCompressedUpdateMisaligned()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateCompressed2D(
+      t,
+      u0,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    this.expected.expect(RangeCheckException.class);
+    JCGLTextureUpdates.newUpdateReplacingArea2D(
+      ta, AreasL.create(2L, 0L, 4L, 4L));
+  }
+
+  @Test
+  public final void testTexture2DCompressedUpdateMisalignedSize()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateCompressed2D(
+      t,
+      u0,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+
+    this.expected.expect(RangeCheckException.class);
+    JCGLTextureUpdates.newUpdateReplacingArea2D(
+      ta, AreasL.create(0L, 0L, 6L, 4L));
+  }
+
+  @Test
+  public final void testTexture2DCompressedMipmapLevels()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    t.textureSetMipmapUpdateMode(
+      JCGLTextureMipmapUpdateMode.TEXTURE_MIPMAP_UPDATE_DEFERRED);
+
+    final JCGLTexture2DType ta = allocateCompressed2D(
+      t,
+      u0,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    final int count = JCGLTextureMipmaps.levelCount(ta);
+    Assert.assertEquals(7L, (long) count);
+
+    for (int level = 0; level < count; ++level) {
+      final JCGLTexture2DUpdateType up =
+        JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(ta, level);
+      final long bw = (Math.max(1L, 64L >>> level) + 3L) / 4L;
+      final long bh = (Math.max(1L, 30L >>> level) + 3L) / 4L;
+      Assert.assertEquals(bw * bh * 8L, (long) up.data().capacity());
+      t.texture2DUpdateMipmapLevel(u0, level, up);
+    }
+
+    t.texture2DUpdate(u0, JCGLTextureUpdates.newUpdateReplacingAll2D(ta));
+    Assert.assertFalse(t.textureMipmapsAreDirty(ta));
+  }
+
+  @Test
+  public final void testTexture2DCompressedRegenerateMipmaps()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    allocateCompressed2D(
+      t,
+      u0,
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB,
+      JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    this.expected.expect(JCGLExceptionFormatError.class);
+    t.texture2DRegenerateMipmaps(u0);
+  }
+
+  @Test
+  public final void testTextureCubeCompressedUpdateGetIdentity()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTextureCubeType ta =
+      t.textureCubeAllocate(
+        u0,
+        32L,
+        JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB,
+        JCGLTextureWrapR.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+        JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR,
+        JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    final JCGLTextureCubeUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingAllCube(ta);
+    final ByteBuffer data = up.data();
+    Assert.assertEquals(8L * 8L * 8L, (long) data.capacity());
+
+    for (int index = 0; index < data.capacity(); ++index) {
+      data.put(index, (byte) (index % 16));
+    }
+
+    for (final JCGLCubeMapFaceLH face : JCGLCubeMapFaceLH.values()) {
+      t.textureCubeUpdateLH(u0, face, up);
+      final ByteBuffer image = t.textureCubeGetImageLH(u0, face, ta);
+      for (int index = 0; index < data.capacity(); ++index) {
+        Assert.assertEquals((long) (index % 16), (long) image.get(index));
+      }
+    }
+  }
+
+  @Test
+  public final void testTexture2DCompressedUnsupported()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    JCGLTextureFormat unsupported = null;
+    for (final JCGLTextureFormat v : JCGLTextureFormat.values()) {
+      if (!t.textureFormatIsSupported(v)) {
+        unsupported = v;
+        break;
+      }
+    }
+
+    Assume.assumeTrue(
+      "At least one texture format is unsupported", unsupported != null);
+
+    this.expected.expect(JCGLExceptionUnsupportedFeature.class);
+    allocateCompressed2D(
+      t, u0, unsupported, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR);
+  }
+
+  @Test
+  public final void testTextureCubeUpdateMipmapLevels()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTextureCubeType ta =
+      t.textureCubeAllocate(
+        u0,
+        16L,
+        JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP,
+        JCGLTextureWrapR.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+        JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR,
+        JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+
+    final int count = JCGLTextureMipmaps.levelCount(ta);
+    Assert.assertEquals(5L, (long) count);
+
+    for (final JCGLCubeMapFaceLH face : JCGLCubeMapFaceLH.values()) {
+      for (int level = 0; level < count; ++level) {
+        final JCGLTextureCubeUpdateType up =
+          JCGLTextureUpdates.newUpdateReplacingMipmapLevelCube(ta, level);
+        final ByteBuffer data = up.data();
+        final long side = Math.max(1L, 16L >>> level);
+        Assert.assertEquals(side * side, (long) data.capacity());
+
+        for (int index = 0; index < data.capacity(); ++index) {
+          data.put(index, (byte) (face.ordinal() + 1));
+        }
+        t.textureCubeUpdateMipmapLevelLH(u0, face, level, up);
+      }
+    }
+
+    Assert.assertTrue(t.textureCubeIsBound(u0, ta));
+
+    for (final JCGLCubeMapFaceLH face : JCGLCubeMapFaceLH.values()) {
+      final ByteBuffer image = t.textureCubeGetImageLH(u0, face, ta);
+      for (int index = 0; index < 16 * 16; ++index) {
+        Assert.assertEquals(
+          (long) (face.ordinal() + 1), (long) image.get(index));
+      }
+    }
+  }
+
+  @Test
+  public final void testTextureCubeUpdateMipmapLevelOutOfRange()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTextureCubeType ta =
+      t.textureCubeAllocate(
+        u0,
+        16L,
+        JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP,
+        JCGLTextureWrapR.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapS.TEXTURE_WRAP_REPEAT,
+        JCGLTextureWrapT.TEXTURE_WRAP_REPEAT,
+        JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR,
+        JCGLTextureFilterMagnification.TEXTURE_FILTER_LINEAR);
+    final JCGLTextureCubeUpdateType up =
+      JCGLTextureUpdates.newUpdateReplacingMipmapLevelCube(ta, 4);
+
+    this.expected.expect(RangeCheckException.class);
+    t.textureCubeUpdateMipmapLevelLH(
+      u0, JCGLCubeMapFaceLH.CUBE_MAP_LH_POSITIVE_X, 5, up);
+  }
+
+  @Test
+  public final void testTexture2DUpdateWrappingMipmapLevel()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    final ByteBuffer data = ByteBuffer.allocateDirect(64 * 32);
+    for (int index = 0; index < data.capacity(); ++index) {
+      data.put(index, (byte) (index % 64));
+    }
+
+    final JCGLTexture2DUpdateType up =
+      JCGLTextureUpdates.newUpdateWrappingMipmapLevel2D(
+        ta, 0, data.asReadOnlyBuffer());
+    t.texture2DUpdateMipmapLevel(u0, 0, up);
+
+    final ByteBuffer image = t.texture2DGetImage(u0, ta);
+    for (int index = 0; index < data.capacity(); ++index) {
+      Assert.assertEquals((long) (index % 64), (long) image.get(index));
+    }
+  }
+
+  @Test
+  public final void testTexture2DUpdateWrappingMipmapLevelWrongSize()
+  {
+    final JCGLTexturesType t = this.getTextures("main");
+    final JCGLTextureUnitType u0 = t.textureGetUnits().get(0);
+
+    final JCGLTexture2DType ta = allocateMipmapped2D(
+      t, u0, JCGLTextureFilterMinification.TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR);
+
+    this.expected.expect(RangeCheckException.class);
+    JCGLTextureUpdates.newUpdateWrappingMipmapLevel2D(
+      ta, 1, ByteBuffer.allocateDirect(64 * 32));
+  }
 }
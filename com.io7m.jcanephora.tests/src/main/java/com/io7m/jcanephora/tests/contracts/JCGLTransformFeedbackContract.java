@@ -0,0 +1,528 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLArrayBufferType;
+import com.io7m.jcanephora.core.JCGLArrayObjectBuilderType;
+import com.io7m.jcanephora.core.JCGLExceptionBufferNotBound;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLExceptionProgramNotActive;
+import com.io7m.jcanephora.core.JCGLExceptionQueryAlreadyRunning;
+import com.io7m.jcanephora.core.JCGLExceptionQueryNotRunning;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackActive;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackMisconfigured;
+import com.io7m.jcanephora.core.JCGLExceptionTransformFeedbackNotActive;
+import com.io7m.jcanephora.core.JCGLFragmentShaderType;
+import com.io7m.jcanephora.core.JCGLPrimitives;
+import com.io7m.jcanephora.core.JCGLPrimitivesWrittenQueryType;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLQueryResultAvailability;
+import com.io7m.jcanephora.core.JCGLScalarType;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackPrimitive;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.JCGLVertexShaderType;
+import com.io7m.jcanephora.core.api.JCGLArrayBuffersType;
+import com.io7m.jcanephora.core.api.JCGLArrayObjectsType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.core.api.JCGLTransformFeedbackType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.BufferedReader;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Transform feedback contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLTransformFeedbackContract extends JCGLContract
+{
+  private static final List<String> VARYINGS =
+    Collections.unmodifiableList(Arrays.asList("v_position", "v_scale"));
+
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLInterfaceGL33Type getGL33(final String name)
+  {
+    return this.newGL33Context(name, 24, 8).contextGetGL33();
+  }
+
+  protected static List<String> getShaderLines(final String name)
+  {
+    final Class<JCGLTransformFeedbackContract> c =
+      JCGLTransformFeedbackContract.class;
+    final List<String> lines = new ArrayList<>(32);
+    try (final InputStream is = c.getResourceAsStream(name)) {
+      try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(is))) {
+        while (true) {
+          final String line = reader.readLine();
+          if (line == null) {
+            return lines;
+          }
+          lines.add(line + "\n");
+        }
+      }
+    } catch (final IOException e) {
+      throw new IOError(e);
+    }
+  }
+
+  protected static JCGLProgramShaderType newProgramFeedback(
+    final JCGLShadersType s,
+    final JCGLTransformFeedbackBufferMode mode)
+  {
+    final JCGLVertexShaderType v = s.shaderCompileVertex(
+      "transform_feedback0", getShaderLines("transform_feedback0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", getShaderLines("valid0.frag"));
+    return s.shaderLinkProgram(
+      "transform_feedback0", v, Optional.empty(), f, VARYINGS, mode);
+  }
+
+  private static JCGLProgramShaderType newProgramPlain(
+    final JCGLShadersType s)
+  {
+    final JCGLVertexShaderType v =
+      s.shaderCompileVertex("valid0", getShaderLines("valid0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", getShaderLines("valid0.frag"));
+    return s.shaderLinkProgram("valid0", v, Optional.empty(), f);
+  }
+
+  /**
+   * Configure an array object containing {@code vertices} vertices, an
+   * interleaved program, and a buffer bound to binding point {@code 0} large
+   * enough to capture every vertex.
+   */
+
+  protected static void configureInterleaved(
+    final JCGLInterfaceGL33Type g,
+    final int vertices)
+  {
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLArrayObjectsType go = g.arrayObjects();
+    final JCGLShadersType gs = g.shaders();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a = ga.arrayBufferAllocate(
+      (long) vertices * 16L, JCGLUsageHint.USAGE_STATIC_DRAW);
+    final JCGLArrayObjectBuilderType b = go.arrayObjectNewBuilder();
+    b.setAttributeFloatingPoint(
+      0, a, 4, JCGLScalarType.TYPE_FLOAT, 16, 0L, false);
+    go.arrayObjectAllocate(b);
+    ga.arrayBufferUnbind();
+
+    final JCGLArrayBufferType out = ga.arrayBufferAllocate(
+      (long) vertices * 20L, JCGLUsageHint.USAGE_STREAM_COPY);
+    ga.arrayBufferUnbind();
+
+    final JCGLProgramShaderType p = newProgramFeedback(
+      gs, JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_INTERLEAVED);
+    gs.shaderActivateProgram(p);
+    gt.transformFeedbackBufferBindIndexed(0, out);
+  }
+
+  @Test
+  public final void testIdentities()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    Assert.assertTrue(gt.transformFeedbackGetMaximumSeparateAttributes() >= 4);
+    Assert.assertFalse(gt.transformFeedbackIsActive());
+    Assert.assertFalse(gt.transformFeedbackIsPaused());
+    Assert.assertEquals(Optional.empty(), gt.transformFeedbackGetPrimitive());
+
+    for (int index = 0;
+         index < gt.transformFeedbackGetMaximumSeparateAttributes();
+         ++index) {
+      Assert.assertEquals(
+        Optional.empty(), gt.transformFeedbackBufferGetIndexedBinding(index));
+    }
+  }
+
+  @Test
+  public final void testLinkVaryings()
+  {
+    final JCGLShadersType gs = this.getGL33("main").shaders();
+
+    final JCGLProgramShaderType p = newProgramFeedback(
+      gs, JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_SEPARATE);
+    Assert.assertEquals(VARYINGS, p.transformFeedbackVaryings());
+    Assert.assertEquals(
+      JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_SEPARATE,
+      p.transformFeedbackBufferMode());
+
+    final JCGLProgramShaderType q = newProgramPlain(gs);
+    Assert.assertEquals(
+      Collections.emptyList(), q.transformFeedbackVaryings());
+    Assert.assertEquals(
+      JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_INTERLEAVED,
+      q.transformFeedbackBufferMode());
+  }
+
+  @Test
+  public final void testBindIdentities()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(128L, JCGLUsageHint.USAGE_STREAM_COPY);
+    ga.arrayBufferUnbind();
+
+    gt.transformFeedbackBufferBindIndexed(0, a);
+    Assert.assertEquals(
+      Optional.of(a), gt.transformFeedbackBufferGetIndexedBinding(0));
+    gt.transformFeedbackBufferBindIndexedRange(
+      1, a, new UnsignedRangeInclusiveL(64L, 127L));
+    Assert.assertEquals(
+      Optional.of(a), gt.transformFeedbackBufferGetIndexedBinding(1));
+
+    gt.transformFeedbackBufferUnbindIndexed(0);
+    gt.transformFeedbackBufferUnbindIndexed(1);
+    Assert.assertEquals(
+      Optional.empty(), gt.transformFeedbackBufferGetIndexedBinding(0));
+    Assert.assertEquals(
+      Optional.empty(), gt.transformFeedbackBufferGetIndexedBinding(1));
+  }
+
+  @Test
+  public final void testBindIndexOutOfRange()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(128L, JCGLUsageHint.USAGE_STREAM_COPY);
+
+    this.expected.expect(RangeCheckException.class);
+    gt.transformFeedbackBufferBindIndexed(
+      gt.transformFeedbackGetMaximumSeparateAttributes(), a);
+  }
+
+  @Test
+  public final void testBindRangeMisaligned()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(128L, JCGLUsageHint.USAGE_STREAM_COPY);
+
+    this.expected.expect(RangeCheckException.class);
+    gt.transformFeedbackBufferBindIndexedRange(
+      0, a, new UnsignedRangeInclusiveL(0L, 6L));
+  }
+
+  @Test
+  public final void testBindRangeOutOfBounds()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(128L, JCGLUsageHint.USAGE_STREAM_COPY);
+
+    this.expected.expect(RangeCheckException.class);
+    gt.transformFeedbackBufferBindIndexedRange(
+      0, a, new UnsignedRangeInclusiveL(64L, 131L));
+  }
+
+  @Test
+  public final void testBindDeleted()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(128L, JCGLUsageHint.USAGE_STREAM_COPY);
+    ga.arrayBufferDelete(a);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    gt.transformFeedbackBufferBindIndexed(0, a);
+  }
+
+  @Test
+  public final void testBeginNoProgram()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    this.expected.expect(JCGLExceptionProgramNotActive.class);
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+  }
+
+  @Test
+  public final void testBeginNoVaryings()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLShadersType gs = g.shaders();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    gs.shaderActivateProgram(newProgramPlain(gs));
+
+    this.expected.expect(JCGLExceptionTransformFeedbackMisconfigured.class);
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+  }
+
+  @Test
+  public final void testBeginSeparateNotBound()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLArrayBuffersType ga = g.arrayBuffers();
+    final JCGLShadersType gs = g.shaders();
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+
+    final JCGLArrayBufferType a =
+      ga.arrayBufferAllocate(128L, JCGLUsageHint.USAGE_STREAM_COPY);
+    ga.arrayBufferUnbind();
+
+    gs.shaderActivateProgram(newProgramFeedback(
+      gs, JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_SEPARATE));
+    gt.transformFeedbackBufferBindIndexed(0, a);
+
+    this.expected.expect(JCGLExceptionBufferNotBound.class);
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+  }
+
+  @Test
+  public final void testBeginEndIdentities()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    gt.transformFeedbackBegin(
+      JCGLTransformFeedbackPrimitive.FEEDBACK_TRIANGLES);
+    Assert.assertTrue(gt.transformFeedbackIsActive());
+    Assert.assertFalse(gt.transformFeedbackIsPaused());
+    Assert.assertEquals(
+      Optional.of(JCGLTransformFeedbackPrimitive.FEEDBACK_TRIANGLES),
+      gt.transformFeedbackGetPrimitive());
+
+    gt.transformFeedbackEnd();
+    Assert.assertFalse(gt.transformFeedbackIsActive());
+    Assert.assertEquals(Optional.empty(), gt.transformFeedbackGetPrimitive());
+  }
+
+  @Test
+  public final void testBeginAlreadyActive()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+
+    this.expected.expect(JCGLExceptionTransformFeedbackActive.class);
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+  }
+
+  @Test
+  public final void testBindWhileActive()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+
+    this.expected.expect(JCGLExceptionTransformFeedbackActive.class);
+    gt.transformFeedbackBufferUnbindIndexed(0);
+  }
+
+  @Test
+  public final void testEndNotActive()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    this.expected.expect(JCGLExceptionTransformFeedbackNotActive.class);
+    gt.transformFeedbackEnd();
+  }
+
+  @Test
+  public final void testPauseResume()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    Assume.assumeTrue(gt.transformFeedbackPauseIsSupported());
+    configureInterleaved(g, 6);
+
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+    gt.transformFeedbackPause();
+    Assert.assertTrue(gt.transformFeedbackIsActive());
+    Assert.assertTrue(gt.transformFeedbackIsPaused());
+    gt.transformFeedbackPause();
+    Assert.assertTrue(gt.transformFeedbackIsPaused());
+    gt.transformFeedbackResume();
+    Assert.assertFalse(gt.transformFeedbackIsPaused());
+    gt.transformFeedbackResume();
+    Assert.assertFalse(gt.transformFeedbackIsPaused());
+    gt.transformFeedbackPause();
+    gt.transformFeedbackEnd();
+    Assert.assertFalse(gt.transformFeedbackIsActive());
+    Assert.assertFalse(gt.transformFeedbackIsPaused());
+  }
+
+  @Test
+  public final void testPauseNotActive()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+    Assume.assumeTrue(gt.transformFeedbackPauseIsSupported());
+
+    this.expected.expect(JCGLExceptionTransformFeedbackNotActive.class);
+    gt.transformFeedbackPause();
+  }
+
+  @Test
+  public final void testQueryIdentities()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    final JCGLPrimitivesWrittenQueryType q =
+      gt.transformFeedbackQueryAllocate();
+    Assert.assertFalse(q.isDeleted());
+    Assert.assertEquals(
+      JCGLQueryResultAvailability.QUERY_RESULT_NOT_YET_REQUESTED,
+      gt.transformFeedbackQueryResultAvailability(q));
+
+    gt.transformFeedbackQueryBegin(q);
+    gt.transformFeedbackQueryFinish(q);
+    Assert.assertEquals(0L, gt.transformFeedbackQueryResultGet(q));
+    Assert.assertEquals(
+      JCGLQueryResultAvailability.QUERY_RESULT_AVAILABLE,
+      gt.transformFeedbackQueryResultAvailability(q));
+
+    gt.transformFeedbackQueryDelete(q);
+    Assert.assertTrue(q.isDeleted());
+  }
+
+  @Test
+  public final void testQueryAlreadyRunning()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    final JCGLPrimitivesWrittenQueryType q0 =
+      gt.transformFeedbackQueryAllocate();
+    final JCGLPrimitivesWrittenQueryType q1 =
+      gt.transformFeedbackQueryAllocate();
+
+    gt.transformFeedbackQueryBegin(q0);
+    this.expected.expect(JCGLExceptionQueryAlreadyRunning.class);
+    gt.transformFeedbackQueryBegin(q1);
+  }
+
+  @Test
+  public final void testQueryNotRunning()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    final JCGLPrimitivesWrittenQueryType q =
+      gt.transformFeedbackQueryAllocate();
+
+    this.expected.expect(JCGLExceptionQueryNotRunning.class);
+    gt.transformFeedbackQueryFinish(q);
+  }
+
+  @Test
+  public final void testQueryDeleted()
+  {
+    final JCGLTransformFeedbackType gt =
+      this.getGL33("main").transformFeedback();
+
+    final JCGLPrimitivesWrittenQueryType q =
+      gt.transformFeedbackQueryAllocate();
+    gt.transformFeedbackQueryDelete(q);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    gt.transformFeedbackQueryBegin(q);
+  }
+
+  @Test
+  public final void testPrimitivesWrittenPoints()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    final JCGLPrimitivesWrittenQueryType q =
+      gt.transformFeedbackQueryAllocate();
+
+    gt.transformFeedbackQueryBegin(q);
+    gt.transformFeedbackBegin(JCGLTransformFeedbackPrimitive.FEEDBACK_POINTS);
+    g.drawing().draw(JCGLPrimitives.PRIMITIVE_POINTS, 0, 6);
+    gt.transformFeedbackEnd();
+    gt.transformFeedbackQueryFinish(q);
+
+    Assert.assertEquals(6L, gt.transformFeedbackQueryResultGet(q));
+  }
+
+  @Test
+  public final void testPrimitivesWrittenTriangles()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLTransformFeedbackType gt = g.transformFeedback();
+    configureInterleaved(g, 6);
+
+    final JCGLPrimitivesWrittenQueryType q =
+      gt.transformFeedbackQueryAllocate();
+
+    gt.transformFeedbackQueryBegin(q);
+    gt.transformFeedbackBegin(
+      JCGLTransformFeedbackPrimitive.FEEDBACK_TRIANGLES);
+    g.drawing().draw(JCGLPrimitives.PRIMITIVE_TRIANGLES, 0, 6);
+    gt.transformFeedbackEnd();
+    gt.transformFeedbackQueryFinish(q);
+
+    Assert.assertEquals(2L, gt.transformFeedbackQueryResultGet(q));
+  }
+}
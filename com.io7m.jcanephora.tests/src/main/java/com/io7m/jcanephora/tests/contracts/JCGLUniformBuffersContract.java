@@ -0,0 +1,383 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.contracts;
+
+import com.io7m.jcanephora.core.JCGLBufferUpdateType;
+import com.io7m.jcanephora.core.JCGLBufferUpdates;
+import com.io7m.jcanephora.core.JCGLExceptionDeleted;
+import com.io7m.jcanephora.core.JCGLFragmentShaderType;
+import com.io7m.jcanephora.core.JCGLProgramShaderType;
+import com.io7m.jcanephora.core.JCGLProgramUniformBlockType;
+import com.io7m.jcanephora.core.JCGLUniformBufferType;
+import com.io7m.jcanephora.core.JCGLUniformBufferUsableType;
+import com.io7m.jcanephora.core.JCGLUsageHint;
+import com.io7m.jcanephora.core.JCGLVertexShaderType;
+import com.io7m.jcanephora.core.api.JCGLContextType;
+import com.io7m.jcanephora.core.api.JCGLInterfaceGL33Type;
+import com.io7m.jcanephora.core.api.JCGLShadersType;
+import com.io7m.jcanephora.core.api.JCGLUniformBuffersType;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junsigned.ranges.UnsignedRangeInclusiveL;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.BufferedReader;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Uniform buffer contracts.
+ */
+
+// CHECKSTYLE_JAVADOC:OFF
+
+public abstract class JCGLUniformBuffersContract extends JCGLContract
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  protected abstract JCGLContextType newGL33Context(
+    String name,
+    int depth_bits,
+    int stencil_bits);
+
+  protected final JCGLInterfaceGL33Type getGL33(final String name)
+  {
+    return this.newGL33Context(name, 24, 8).contextGetGL33();
+  }
+
+  private static List<String> getShaderLines(final String name)
+  {
+    final Class<JCGLUniformBuffersContract> c =
+      JCGLUniformBuffersContract.class;
+    final List<String> lines = new ArrayList<>(32);
+    try (final InputStream is = c.getResourceAsStream(name)) {
+      try (final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(is))) {
+        while (true) {
+          final String line = reader.readLine();
+          if (line == null) {
+            return lines;
+          }
+          lines.add(line + "\n");
+        }
+      }
+    } catch (final IOException e) {
+      throw new IOError(e);
+    }
+  }
+
+  private static JCGLProgramShaderType newProgramBlocks(
+    final JCGLShadersType s)
+  {
+    final JCGLVertexShaderType v = s.shaderCompileVertex(
+      "uniform_blocks0", getShaderLines("uniform_blocks0.vert"));
+    final JCGLFragmentShaderType f =
+      s.shaderCompileFragment("valid0", getShaderLines("valid0.frag"));
+    return s.shaderLinkProgram("uniform_blocks0", v, Optional.empty(), f);
+  }
+
+  @Test
+  public final void testLimits()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    Assert.assertTrue(g_u.uniformBufferGetMaximumBindings() >= 36);
+    Assert.assertTrue(g_u.uniformBufferGetOffsetAlignment() > 0);
+  }
+
+  @Test
+  public final void testAllocateIdentities()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    Assert.assertEquals(JCGLUsageHint.USAGE_DYNAMIC_DRAW, u.usageHint());
+    Assert.assertEquals(new UnsignedRangeInclusiveL(0L, 143L), u.byteRange());
+    Assert.assertFalse(u.isDeleted());
+    Assert.assertTrue(u.glName() > 0);
+
+    for (int index = 0;
+         index < g_u.uniformBufferGetMaximumBindings();
+         ++index) {
+      Assert.assertEquals(
+        Optional.empty(), g_u.uniformBufferGetIndexedBinding(index));
+    }
+
+    g_u.uniformBufferDelete(u);
+    Assert.assertTrue(u.isDeleted());
+  }
+
+  @Test
+  public final void testAllocateNegative()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBufferAllocate(-1L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+  }
+
+  @Test
+  public final void testDeleteDeleted()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    g_u.uniformBufferDelete(u);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_u.uniformBufferDelete(u);
+  }
+
+  @Test
+  public final void testUpdate()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final JCGLBufferUpdateType<JCGLUniformBufferType> up =
+      JCGLBufferUpdates.newUpdateReplacingAll(u);
+    final ByteBuffer data = up.data();
+    for (int index = 0; index < 36; ++index) {
+      data.putFloat(index * 4, (float) index);
+    }
+
+    g_u.uniformBufferUpdate(up);
+  }
+
+  @Test
+  public final void testUpdateDeleted()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final JCGLBufferUpdateType<JCGLUniformBufferType> up =
+      JCGLBufferUpdates.newUpdateReplacingAll(u);
+    g_u.uniformBufferDelete(u);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_u.uniformBufferUpdate(up);
+  }
+
+  @Test
+  public final void testBindIndexed()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u0 =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final JCGLUniformBufferType u1 =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    g_u.uniformBufferBindIndexed(0, u0);
+    g_u.uniformBufferBindIndexed(1, u1);
+    g_u.uniformBufferBindIndexed(1, u1);
+
+    Assert.assertEquals(Optional.of(u0), g_u.uniformBufferGetIndexedBinding(0));
+    Assert.assertEquals(Optional.of(u1), g_u.uniformBufferGetIndexedBinding(1));
+
+    g_u.uniformBufferUnbindIndexed(0);
+    g_u.uniformBufferUnbindIndexed(0);
+    Assert.assertEquals(
+      Optional.empty(), g_u.uniformBufferGetIndexedBinding(0));
+    Assert.assertEquals(Optional.of(u1), g_u.uniformBufferGetIndexedBinding(1));
+  }
+
+  @Test
+  public final void testBindIndexedOutOfRange()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBufferBindIndexed(g_u.uniformBufferGetMaximumBindings(), u);
+  }
+
+  @Test
+  public final void testBindIndexedNegative()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBufferBindIndexed(-1, u);
+  }
+
+  @Test
+  public final void testBindIndexedDeleted()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    g_u.uniformBufferDelete(u);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g_u.uniformBufferBindIndexed(0, u);
+  }
+
+  @Test
+  public final void testDeleteUnbinds()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u0 =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+    final JCGLUniformBufferType u1 =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    g_u.uniformBufferBindIndexed(0, u0);
+    g_u.uniformBufferBindIndexed(1, u1);
+    g_u.uniformBufferBindIndexed(2, u0);
+    g_u.uniformBufferDelete(u0);
+
+    Assert.assertEquals(
+      Optional.empty(), g_u.uniformBufferGetIndexedBinding(0));
+    Assert.assertEquals(Optional.of(u1), g_u.uniformBufferGetIndexedBinding(1));
+    Assert.assertEquals(
+      Optional.empty(), g_u.uniformBufferGetIndexedBinding(2));
+  }
+
+  @Test
+  public final void testBindIndexedRange()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final long align = (long) g_u.uniformBufferGetOffsetAlignment();
+    final JCGLUniformBufferType u = g_u.uniformBufferAllocate(
+      align * 2L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    g_u.uniformBufferBindIndexedRange(
+      0, u, new UnsignedRangeInclusiveL(0L, align - 1L));
+    g_u.uniformBufferBindIndexedRange(
+      1, u, new UnsignedRangeInclusiveL(align, (align * 2L) - 1L));
+
+    final Optional<JCGLUniformBufferUsableType> expected_u = Optional.of(u);
+    Assert.assertEquals(expected_u, g_u.uniformBufferGetIndexedBinding(0));
+    Assert.assertEquals(expected_u, g_u.uniformBufferGetIndexedBinding(1));
+  }
+
+  @Test
+  public final void testBindIndexedRangeMisaligned()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final long align = (long) g_u.uniformBufferGetOffsetAlignment();
+    Assume.assumeTrue(align > 1L);
+
+    final JCGLUniformBufferType u = g_u.uniformBufferAllocate(
+      align * 2L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBufferBindIndexedRange(
+      0, u, new UnsignedRangeInclusiveL(1L, align));
+  }
+
+  @Test
+  public final void testBindIndexedRangeOutOfBounds()
+  {
+    final JCGLUniformBuffersType g_u = this.getGL33("main").uniformBuffers();
+
+    final JCGLUniformBufferType u =
+      g_u.uniformBufferAllocate(144L, JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBufferBindIndexedRange(
+      0, u, new UnsignedRangeInclusiveL(0L, 144L));
+  }
+
+  @Test
+  public final void testUniformBlockReflection()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLShadersType g_sh = g.shaders();
+
+    final JCGLProgramShaderType p = newProgramBlocks(g_sh);
+    final Map<String, JCGLProgramUniformBlockType> blocks = p.uniformBlocks();
+    Assert.assertEquals(1L, (long) blocks.size());
+    Assert.assertTrue(blocks.containsKey("Camera"));
+
+    final JCGLProgramUniformBlockType b = blocks.get("Camera");
+    Assert.assertEquals("Camera", b.name());
+    Assert.assertEquals(p, b.program());
+    Assert.assertEquals(144L, b.sizeBytes());
+    Assert.assertTrue(b.glName() >= 0);
+  }
+
+  @Test
+  public final void testUniformBlockBind()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLShadersType g_sh = g.shaders();
+    final JCGLUniformBuffersType g_u = g.uniformBuffers();
+
+    final JCGLProgramShaderType p = newProgramBlocks(g_sh);
+    final JCGLProgramUniformBlockType b = p.uniformBlocks().get("Camera");
+    final JCGLUniformBufferType u = g_u.uniformBufferAllocate(
+      b.sizeBytes(), JCGLUsageHint.USAGE_DYNAMIC_DRAW);
+
+    g_u.uniformBlockBind(b, 3);
+    g_u.uniformBufferBindIndexed(3, u);
+    Assert.assertEquals(Optional.of(u), g_u.uniformBufferGetIndexedBinding(3));
+  }
+
+  @Test
+  public final void testUniformBlockBindOutOfRange()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLUniformBuffersType g_u = g.uniformBuffers();
+
+    final JCGLProgramShaderType p = newProgramBlocks(g.shaders());
+    final JCGLProgramUniformBlockType b = p.uniformBlocks().get("Camera");
+
+    this.expected.expect(RangeCheckException.class);
+    g_u.uniformBlockBind(b, g_u.uniformBufferGetMaximumBindings());
+  }
+
+  @Test
+  public final void testUniformBlockBindDeleted()
+  {
+    final JCGLInterfaceGL33Type g = this.getGL33("main");
+    final JCGLShadersType g_sh = g.shaders();
+
+    final JCGLProgramShaderType p = newProgramBlocks(g_sh);
+    final JCGLProgramUniformBlockType b = p.uniformBlocks().get("Camera");
+    g_sh.shaderDeleteProgram(p);
+
+    this.expected.expect(JCGLExceptionDeleted.class);
+    g.uniformBuffers().uniformBlockBind(b, 0);
+  }
+}
@@ -0,0 +1,11 @@
+#pragma once
+
+vec4
+transform (vec4 x)
+{
+#ifdef DOUBLED
+  return x * 2.0;
+#else
+  return x;
+#endif
+}
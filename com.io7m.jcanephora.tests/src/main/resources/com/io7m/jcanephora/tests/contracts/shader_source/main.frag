@@ -0,0 +1,9 @@
+#version 330 core
+
+out vec4 out0;
+
+void
+main (void)
+{
+  out0 = vec4 (1.0);
+}
@@ -0,0 +1,12 @@
+#version 330 core
+
+#include "include/transform.glsl"
+#include "include/transform.glsl"
+
+layout(location = 0) in vec4 position;
+
+void
+main (void)
+{
+  gl_Position = transform (position);
+}
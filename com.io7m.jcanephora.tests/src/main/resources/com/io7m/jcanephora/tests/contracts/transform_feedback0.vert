@@ -0,0 +1,14 @@
+#version 330 core
+
+layout(location = 0) in vec4 p;
+
+out vec4 v_position;
+out float v_scale;
+
+void
+main (void)
+{
+  v_position = p * 2.0;
+  v_scale = p.x;
+  gl_Position = p;
+}
@@ -0,0 +1,16 @@
+#version 330 core
+
+layout(std140) uniform Camera
+{
+  mat4 view;
+  mat4 projection;
+  vec4 position;
+};
+
+layout(location = 0) in vec4 v_position;
+
+void
+main (void)
+{
+  gl_Position = projection * view * (v_position + position);
+}
@@ -0,0 +1,25 @@
+#version 330 core
+
+uniform mat4  bones[8];
+uniform vec4  colors[4];
+uniform ivec2 indices[4];
+uniform uint  masks[3];
+
+void
+main (void)
+{
+  vec4 q = vec4 (1.0);
+
+  for (int index = 0; index < 8; ++index) {
+    q = bones[index] * q;
+  }
+  for (int index = 0; index < 4; ++index) {
+    q = q + colors[index];
+    q = q + vec4 (vec2 (indices[index]), 1.0, 1.0);
+  }
+  for (int index = 0; index < 3; ++index) {
+    q = q + vec4 (float (masks[index]));
+  }
+
+  gl_Position = q;
+}
@@ -44,6 +44,8 @@ public final class JCGLScalarIntegralTypeTest
       switch (v) {
         case TYPE_HALF_FLOAT:
         case TYPE_FLOAT:
+        case TYPE_INT_2_10_10_10_REV:
+        case TYPE_UNSIGNED_INT_2_10_10_10_REV:
           continue;
         case TYPE_BYTE:
         case TYPE_INT:
@@ -73,4 +75,10 @@ public final class JCGLScalarIntegralTypeTest
   {
     JCGLScalarIntegralType.fromScalar(JCGLScalarType.TYPE_FLOAT);
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPacked()
+  {
+    JCGLScalarIntegralType.fromScalar(JCGLScalarType.TYPE_INT_2_10_10_10_REV);
+  }
 }
@@ -19,6 +19,7 @@ package com.io7m.jcanephora.tests.core;
 
 import com.io7m.jcanephora.core.JCGLScalarIntegralType;
 import com.io7m.jcanephora.core.JCGLScalarType;
+import com.io7m.jcanephora.core.JCGLType;
 import com.io7m.jcanephora.core.JCGLUnsignedType;
 import org.junit.Assert;
 import org.junit.Test;
@@ -44,4 +45,29 @@ public final class JCGLScalarTypeTest
       Assert.assertEquals(v, r);
     }
   }
+
+  @Test
+  public void testPacked()
+  {
+    for (final JCGLScalarType v : JCGLScalarType.values()) {
+      switch (v) {
+        case TYPE_INT_2_10_10_10_REV:
+        case TYPE_UNSIGNED_INT_2_10_10_10_REV: {
+          Assert.assertTrue(v.isPacked());
+          Assert.assertEquals(4L, (long) v.getSizeBytes());
+          Assert.assertTrue(
+            v.shaderTypeConvertible(4, JCGLType.TYPE_FLOAT_VECTOR_4));
+          Assert.assertFalse(
+            v.shaderTypeConvertible(3, JCGLType.TYPE_FLOAT_VECTOR_3));
+          Assert.assertFalse(
+            v.shaderTypeConvertible(4, JCGLType.TYPE_INTEGER_VECTOR_4));
+          break;
+        }
+        default: {
+          Assert.assertFalse(v.isPacked());
+          break;
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.core;
+
+import com.io7m.jcanephora.core.JCGLStagingAllocatorStatistics;
+import com.io7m.jcanephora.core.JCGLStagingArena;
+import com.io7m.jcanephora.core.JCGLStagingSlabAllocator;
+import com.io7m.jcanephora.core.JCGLStagingSlabAllocatorConfiguration;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+
+public final class JCGLStagingArenaTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static JCGLStagingSlabAllocator fallback()
+  {
+    return JCGLStagingSlabAllocator.create(
+      JCGLStagingSlabAllocatorConfiguration.builder().build());
+  }
+
+  @Test
+  public void testAllocateAligned()
+  {
+    final JCGLStagingArena a = JCGLStagingArena.create(256L, fallback());
+    Assert.assertEquals(256L, a.capacity());
+
+    final ByteBuffer b0 = a.allocate(3L);
+    final ByteBuffer b1 = a.allocate(5L);
+    Assert.assertEquals(3L, (long) b0.capacity());
+    Assert.assertEquals(5L, (long) b1.capacity());
+
+    b1.put(0, (byte) 0x7f);
+    Assert.assertEquals(0L, (long) b0.get(0));
+
+    final JCGLStagingAllocatorStatistics s = a.statistics();
+    Assert.assertEquals(2L, s.allocations());
+    Assert.assertEquals(2L, s.allocationsRecycled());
+    Assert.assertEquals(16L + 5L, s.bytesInUse());
+    Assert.assertEquals(256L, s.bytesReserved());
+  }
+
+  @Test
+  public void testOverflowFallback()
+  {
+    final JCGLStagingSlabAllocator f = fallback();
+    final JCGLStagingArena a = JCGLStagingArena.create(64L, f);
+
+    a.allocate(48L);
+    final ByteBuffer b = a.allocate(32L);
+    Assert.assertEquals(32L, (long) b.capacity());
+    Assert.assertEquals(1L, f.statistics().allocations());
+
+    {
+      final JCGLStagingAllocatorStatistics s = a.statistics();
+      Assert.assertEquals(1L, s.allocationsRecycled());
+      Assert.assertEquals(48L + 32L, s.bytesInUse());
+      Assert.assertEquals(64L + 32L, s.bytesReserved());
+    }
+
+    a.release(b);
+    Assert.assertEquals(1L, f.statistics().releases());
+    Assert.assertEquals(0L, f.statistics().bytesInUse());
+  }
+
+  @Test
+  public void testResetReleasesOverflow()
+  {
+    final JCGLStagingSlabAllocator f = fallback();
+    final JCGLStagingArena a = JCGLStagingArena.create(64L, f);
+
+    a.allocate(64L);
+    a.allocate(100L);
+    Assert.assertEquals(1L, f.statistics().allocations());
+
+    a.reset();
+    Assert.assertEquals(1L, f.statistics().releases());
+    Assert.assertEquals(0L, a.statistics().bytesInUse());
+
+    final ByteBuffer b = a.allocate(64L);
+    Assert.assertEquals(64L, (long) b.capacity());
+    Assert.assertEquals(1L, f.statistics().allocations());
+  }
+
+  @Test
+  public void testReleaseForeign()
+  {
+    final JCGLStagingArena a = JCGLStagingArena.create(256L, fallback());
+    a.allocate(16L);
+    this.expected.expect(IllegalArgumentException.class);
+    a.release(ByteBuffer.allocateDirect(16));
+  }
+
+  @Test
+  public void testReleaseTwice()
+  {
+    final JCGLStagingArena a = JCGLStagingArena.create(256L, fallback());
+    final ByteBuffer b = a.allocate(16L);
+    a.release(b);
+    Assert.assertEquals(1L, a.statistics().releases());
+
+    try {
+      a.release(b);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      Assert.assertEquals(1L, a.statistics().releases());
+    }
+  }
+
+  @Test
+  public void testReleaseOverflowTwice()
+  {
+    final JCGLStagingArena a = JCGLStagingArena.create(64L, fallback());
+    final ByteBuffer b = a.allocate(100L);
+    a.release(b);
+    this.expected.expect(IllegalArgumentException.class);
+    a.release(b);
+  }
+
+  @Test
+  public void testReleaseAfterReset()
+  {
+    final JCGLStagingArena a = JCGLStagingArena.create(256L, fallback());
+    final ByteBuffer b = a.allocate(16L);
+    a.reset();
+    this.expected.expect(IllegalArgumentException.class);
+    a.release(b);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.core;
+
+import com.io7m.jcanephora.core.JCGLStagingAllocatorStatistics;
+import com.io7m.jcanephora.core.JCGLStagingSlabAllocator;
+import com.io7m.jcanephora.core.JCGLStagingSlabAllocatorConfiguration;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class JCGLStagingSlabAllocatorTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  private static JCGLStagingSlabAllocator create(
+    final long retained)
+  {
+    return JCGLStagingSlabAllocator.create(
+      JCGLStagingSlabAllocatorConfiguration.builder()
+        .setSizeClassMinimum(256)
+        .setSizeClassMaximum(4096)
+        .setRetainedBytesMaximum(retained)
+        .build());
+  }
+
+  @Test
+  public void testAllocateExactSize()
+  {
+    final JCGLStagingSlabAllocator a = create(65536L);
+    final ByteBuffer b = a.allocate(100L);
+    Assert.assertEquals(100L, (long) b.capacity());
+    Assert.assertEquals(100L, (long) b.remaining());
+    Assert.assertTrue(b.isDirect());
+    Assert.assertEquals(ByteOrder.nativeOrder(), b.order());
+
+    final JCGLStagingAllocatorStatistics s = a.statistics();
+    Assert.assertEquals(1L, s.allocations());
+    Assert.assertEquals(0L, s.allocationsRecycled());
+    Assert.assertEquals(256L, s.bytesInUse());
+    Assert.assertEquals(256L, s.bytesReserved());
+  }
+
+  @Test
+  public void testAllocateReleaseRecycles()
+  {
+    final JCGLStagingSlabAllocator a = create(65536L);
+    final ByteBuffer b0 = a.allocate(300L);
+    a.release(b0);
+
+    {
+      final JCGLStagingAllocatorStatistics s = a.statistics();
+      Assert.assertEquals(1L, s.releases());
+      Assert.assertEquals(0L, s.bytesInUse());
+      Assert.assertEquals(512L, s.bytesReserved());
+    }
+
+    final ByteBuffer b1 = a.allocate(400L);
+    Assert.assertEquals(400L, (long) b1.capacity());
+
+    {
+      final JCGLStagingAllocatorStatistics s = a.statistics();
+      Assert.assertEquals(2L, s.allocations());
+      Assert.assertEquals(1L, s.allocationsRecycled());
+      Assert.assertEquals(512L, s.bytesInUse());
+      Assert.assertEquals(512L, s.bytesReserved());
+    }
+  }
+
+  @Test
+  public void testAllocateDifferentClassNotRecycled()
+  {
+    final JCGLStagingSlabAllocator a = create(65536L);
+    a.release(a.allocate(300L));
+    a.allocate(1000L);
+
+    final JCGLStagingAllocatorStatistics s = a.statistics();
+    Assert.assertEquals(0L, s.allocationsRecycled());
+    Assert.assertEquals(1024L, s.bytesInUse());
+    Assert.assertEquals(1024L + 512L, s.bytesReserved());
+  }
+
+  @Test
+  public void testAllocateOversizeNotPooled()
+  {
+    final JCGLStagingSlabAllocator a = create(65536L);
+    final ByteBuffer b = a.allocate(5000L);
+    Assert.assertEquals(5000L, (long) b.capacity());
+    a.release(b);
+    a.allocate(5000L);
+
+    final JCGLStagingAllocatorStatistics s = a.statistics();
+    Assert.assertEquals(0L, s.allocationsRecycled());
+    Assert.assertEquals(5000L, s.bytesReserved());
+  }
+
+  @Test
+  public void testRetainedLimit()
+  {
+    final JCGLStagingSlabAllocator a = create(1024L);
+    final ByteBuffer b0 = a.allocate(1024L);
+    final ByteBuffer b1 = a.allocate(1024L);
+    a.release(b0);
+    a.release(b1);
+
+    final JCGLStagingAllocatorStatistics s = a.statistics();
+    Assert.assertEquals(0L, s.bytesInUse());
+    Assert.assertEquals(1024L, s.bytesReserved());
+  }
+
+  @Test
+  public void testReleaseForeign()
+  {
+    final JCGLStagingSlabAllocator a = create(65536L);
+    this.expected.expect(IllegalArgumentException.class);
+    a.release(ByteBuffer.allocateDirect(100));
+  }
+
+  @Test
+  public void testReleaseTwice()
+  {
+    final JCGLStagingSlabAllocator a = create(65536L);
+    final ByteBuffer b = a.allocate(100L);
+    a.release(b);
+    this.expected.expect(IllegalArgumentException.class);
+    a.release(b);
+  }
+
+  @Test
+  public void testConfigurationNotPowerOfTwo()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLStagingSlabAllocator.create(
+      JCGLStagingSlabAllocatorConfiguration.builder()
+        .setSizeClassMinimum(300)
+        .build());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.core;
+
+import com.io7m.jcanephora.core.JCGLTextureFilterMinification;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class JCGLTextureMipmapsTest
+{
+  @Test
+  public void testIsMipmapped()
+  {
+    for (final JCGLTextureFilterMinification f :
+      JCGLTextureFilterMinification.values()) {
+      switch (f) {
+        case TEXTURE_FILTER_LINEAR:
+        case TEXTURE_FILTER_NEAREST:
+          Assert.assertFalse(JCGLTextureMipmaps.isMipmapped(f));
+          break;
+        case TEXTURE_FILTER_NEAREST_MIPMAP_NEAREST:
+        case TEXTURE_FILTER_LINEAR_MIPMAP_NEAREST:
+        case TEXTURE_FILTER_NEAREST_MIPMAP_LINEAR:
+        case TEXTURE_FILTER_LINEAR_MIPMAP_LINEAR:
+          Assert.assertTrue(JCGLTextureMipmaps.isMipmapped(f));
+          break;
+      }
+    }
+  }
+
+  @Test
+  public void testLevelCount()
+  {
+    Assert.assertEquals(
+      1L, (long) JCGLTextureMipmaps.levelCount(AreaSizeL.of(1L, 1L)));
+    Assert.assertEquals(
+      2L, (long) JCGLTextureMipmaps.levelCount(AreaSizeL.of(2L, 1L)));
+    Assert.assertEquals(
+      2L, (long) JCGLTextureMipmaps.levelCount(AreaSizeL.of(3L, 3L)));
+    Assert.assertEquals(
+      11L, (long) JCGLTextureMipmaps.levelCount(AreaSizeL.of(1024L, 16L)));
+    Assert.assertEquals(
+      11L, (long) JCGLTextureMipmaps.levelCount(AreaSizeL.of(100L, 1500L)));
+  }
+
+  @Test
+  public void testLevelSize()
+  {
+    final AreaSizeL size = AreaSizeL.of(640L, 96L);
+    Assert.assertEquals(size, JCGLTextureMipmaps.levelSize(size, 0));
+    Assert.assertEquals(
+      AreaSizeL.of(320L, 48L), JCGLTextureMipmaps.levelSize(size, 1));
+    Assert.assertEquals(
+      AreaSizeL.of(5L, 1L), JCGLTextureMipmaps.levelSize(size, 7));
+    Assert.assertEquals(
+      AreaSizeL.of(1L, 1L), JCGLTextureMipmaps.levelSize(size, 9));
+  }
+
+  @Test(expected = RangeCheckException.class)
+  public void testLevelSizeNegative()
+  {
+    JCGLTextureMipmaps.levelSize(AreaSizeL.of(64L, 64L), -1);
+  }
+
+  @Test(expected = RangeCheckException.class)
+  public void testLevelSizeTooLarge()
+  {
+    JCGLTextureMipmaps.levelSize(AreaSizeL.of(64L, 64L), 7);
+  }
+}
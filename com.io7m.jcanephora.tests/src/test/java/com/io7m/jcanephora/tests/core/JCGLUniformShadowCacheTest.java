@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.core;
+
+import com.io7m.jcanephora.core.JCGLProgramShaderUsableType;
+import com.io7m.jcanephora.core.JCGLProgramUniformType;
+import com.io7m.jcanephora.core.JCGLType;
+import com.io7m.jcanephora.core.JCGLUniformShadowCache;
+import com.io7m.jcanephora.core.JCGLUniformShadowCacheStatistics;
+import com.io7m.junreachable.UnimplementedCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JCGLUniformShadowCacheTest
+{
+  private static JCGLUniformShadowCache cache()
+  {
+    final List<JCGLProgramUniformType> us = new ArrayList<>(3);
+    us.add(new Uniform(0, JCGLType.TYPE_FLOAT, 1));
+    us.add(new Uniform(1, JCGLType.TYPE_INTEGER_VECTOR_4, 1));
+    us.add(new Uniform(5, JCGLType.TYPE_FLOAT_VECTOR_2, 4));
+    return JCGLUniformShadowCache.create(us);
+  }
+
+  private static void checkStatistics(
+    final JCGLUniformShadowCache c,
+    final long hits,
+    final long misses)
+  {
+    final JCGLUniformShadowCacheStatistics s = c.statistics();
+    Assert.assertEquals(hits, s.hits());
+    Assert.assertEquals(misses, s.misses());
+  }
+
+  @Test
+  public void testScalarRepeated()
+  {
+    final JCGLUniformShadowCache c = cache();
+    Assert.assertTrue(c.updateFloat(0, 1.0f));
+    Assert.assertFalse(c.updateFloat(0, 1.0f));
+    Assert.assertTrue(c.updateFloat(0, 2.0f));
+    Assert.assertFalse(c.updateFloat(0, 2.0f));
+    checkStatistics(c, 2L, 2L);
+  }
+
+  @Test
+  public void testScalarBitwise()
+  {
+    final JCGLUniformShadowCache c = cache();
+    Assert.assertTrue(c.updateFloat(0, 0.0f));
+    Assert.assertTrue(c.updateFloat(0, -0.0f));
+    Assert.assertTrue(c.updateFloat(0, Float.NaN));
+    Assert.assertFalse(c.updateFloat(0, Float.NaN));
+    checkStatistics(c, 1L, 3L);
+  }
+
+  @Test
+  public void testVectorComponents()
+  {
+    final JCGLUniformShadowCache c = cache();
+    Assert.assertTrue(c.updateInteger4(1, 1, 2, 3, 4));
+    Assert.assertFalse(c.updateInteger4(1, 1, 2, 3, 4));
+    Assert.assertTrue(c.updateInteger4(1, 1, 2, 3, 5));
+    Assert.assertTrue(c.updateInteger4(1, 0, 2, 3, 5));
+    checkStatistics(c, 1L, 3L);
+  }
+
+  @Test
+  public void testUnknownLocation()
+  {
+    final JCGLUniformShadowCache c = cache();
+    Assert.assertTrue(c.updateFloat(2, 1.0f));
+    Assert.assertTrue(c.updateFloat(2, 1.0f));
+    Assert.assertTrue(c.updateFloat(100, 1.0f));
+    Assert.assertTrue(c.updateFloat(-1, 1.0f));
+    checkStatistics(c, 0L, 4L);
+  }
+
+  @Test
+  public void testTooManyComponents()
+  {
+    final JCGLUniformShadowCache c = cache();
+    Assert.assertTrue(c.updateFloat(0, 1.0f));
+    Assert.assertTrue(c.updateFloat2(0, 1.0f, 2.0f));
+    Assert.assertTrue(c.updateFloat(0, 1.0f));
+    checkStatistics(c, 0L, 3L);
+  }
+
+  @Test
+  public void testArrayFloats()
+  {
+    final JCGLUniformShadowCache c = cache();
+    final FloatBuffer b = FloatBuffer.allocate(8);
+    for (int index = 0; index < 8; ++index) {
+      b.put(index, (float) index);
+    }
+
+    Assert.assertTrue(c.updateFloats(5, b, 8));
+    Assert.assertFalse(c.updateFloats(5, b, 8));
+    Assert.assertEquals(0L, (long) b.position());
+
+    Assert.assertFalse(c.updateFloat2(5, 0.0f, 1.0f));
+    Assert.assertTrue(c.updateFloat2(5, 0.0f, 2.0f));
+    Assert.assertTrue(c.updateFloats(5, b, 8));
+    checkStatistics(c, 2L, 3L);
+  }
+
+  @Test
+  public void testPartialWritesKnown()
+  {
+    final JCGLUniformShadowCache c = cache();
+    final FloatBuffer b = FloatBuffer.allocate(8);
+
+    Assert.assertTrue(c.updateFloat2(5, 0.0f, 0.0f));
+    Assert.assertTrue(c.updateFloats(5, b, 8));
+    Assert.assertFalse(c.updateFloats(5, b, 8));
+    checkStatistics(c, 1L, 2L);
+  }
+
+  @Test
+  public void testShortBuffer()
+  {
+    final JCGLUniformShadowCache c = cache();
+    final FloatBuffer b = FloatBuffer.allocate(8);
+
+    Assert.assertTrue(c.updateFloats(5, b, 8));
+    b.limit(4);
+    Assert.assertTrue(c.updateFloats(5, b, 8));
+    b.limit(8);
+    Assert.assertTrue(c.updateFloats(5, b, 8));
+    checkStatistics(c, 0L, 3L);
+  }
+
+  @Test
+  public void testInvalidate()
+  {
+    final JCGLUniformShadowCache c = cache();
+    Assert.assertTrue(c.updateFloat(0, 1.0f));
+    c.invalidate();
+    Assert.assertTrue(c.updateFloat(0, 1.0f));
+    Assert.assertFalse(c.updateFloat(0, 1.0f));
+    checkStatistics(c, 1L, 2L);
+  }
+
+  private static final class Uniform implements JCGLProgramUniformType
+  {
+    private final int location;
+    private final JCGLType type;
+    private final int size;
+
+    Uniform(
+      final int in_location,
+      final JCGLType in_type,
+      final int in_size)
+    {
+      this.location = in_location;
+      this.type = in_type;
+      this.size = in_size;
+    }
+
+    @Override
+    public String name()
+    {
+      return "u" + this.location;
+    }
+
+    @Override
+    public JCGLProgramShaderUsableType program()
+    {
+      throw new UnimplementedCodeException();
+    }
+
+    @Override
+    public JCGLType type()
+    {
+      return this.type;
+    }
+
+    @Override
+    public int size()
+    {
+      return this.size;
+    }
+
+    @Override
+    public int glName()
+    {
+      return this.location;
+    }
+  }
+}
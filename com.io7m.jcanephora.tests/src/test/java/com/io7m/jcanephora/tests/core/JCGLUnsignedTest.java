@@ -35,6 +35,8 @@ public final class JCGLUnsignedTest
         case TYPE_BYTE:
         case TYPE_INT:
         case TYPE_SHORT:
+        case TYPE_INT_2_10_10_10_REV:
+        case TYPE_UNSIGNED_INT_2_10_10_10_REV:
           continue;
         case TYPE_UNSIGNED_BYTE:
         case TYPE_UNSIGNED_INT:
@@ -120,4 +122,11 @@ public final class JCGLUnsignedTest
   {
     JCGLUnsignedType.fromScalarIntegral(JCGLScalarIntegralType.TYPE_INT);
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPacked()
+  {
+    JCGLUnsignedType.fromScalar(
+      JCGLScalarType.TYPE_UNSIGNED_INT_2_10_10_10_REV);
+  }
 }
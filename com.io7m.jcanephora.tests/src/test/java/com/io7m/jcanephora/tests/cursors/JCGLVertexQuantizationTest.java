@@ -0,0 +1,250 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.cursors;
+
+import com.io7m.ieee754b16.Binary16;
+import com.io7m.jcanephora.cursors.JCGLVertexQuantization;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector2D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector3D;
+import com.io7m.jtensors.core.unparameterized.vectors.Vector4D;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class JCGLVertexQuantizationTest
+{
+  private static final double DELTA_10 = 1.0 / 511.0;
+  private static final double DELTA_16 = 1.0 / 32767.0;
+
+  private static Vector3D normalize(
+    final double x,
+    final double y,
+    final double z)
+  {
+    final double m = Math.sqrt(x * x + y * y + z * z);
+    return Vector3D.of(x / m, y / m, z / m);
+  }
+
+  private static void checkOctahedral(
+    final Vector3D n)
+  {
+    final Vector3D r = JCGLVertexQuantization.octahedralDecode(
+      JCGLVertexQuantization.octahedralEncode(n));
+    Assert.assertEquals(n.x(), r.x(), 1.0e-9);
+    Assert.assertEquals(n.y(), r.y(), 1.0e-9);
+    Assert.assertEquals(n.z(), r.z(), 1.0e-9);
+  }
+
+  @Test
+  public void testUNorm16Extremes()
+  {
+    Assert.assertEquals(0L, (long) JCGLVertexQuantization.packUNorm16(0.0));
+    Assert.assertEquals(
+      65535L, (long) JCGLVertexQuantization.packUNorm16(1.0));
+    Assert.assertEquals(0L, (long) JCGLVertexQuantization.packUNorm16(-3.0));
+    Assert.assertEquals(
+      65535L, (long) JCGLVertexQuantization.packUNorm16(3.0));
+    Assert.assertEquals(
+      1.0, JCGLVertexQuantization.unpackUNorm16(0xffff), 0.0);
+  }
+
+  @Test
+  public void testUNorm16RoundTrip()
+  {
+    for (int index = 0; index <= 1000; ++index) {
+      final double x = (double) index / 1000.0;
+      final double r = JCGLVertexQuantization.unpackUNorm16(
+        JCGLVertexQuantization.packUNorm16(x));
+      Assert.assertEquals(x, r, 1.0 / 65535.0);
+    }
+  }
+
+  @Test
+  public void testSNorm16Extremes()
+  {
+    Assert.assertEquals(
+      32767L, (long) JCGLVertexQuantization.packSNorm16(1.0));
+    Assert.assertEquals(
+      -32767L, (long) JCGLVertexQuantization.packSNorm16(-1.0));
+    Assert.assertEquals(0L, (long) JCGLVertexQuantization.packSNorm16(0.0));
+    Assert.assertEquals(
+      -1.0, JCGLVertexQuantization.unpackSNorm16(-32768), 0.0);
+    Assert.assertEquals(
+      -1.0, JCGLVertexQuantization.unpackSNorm16(-32767), 0.0);
+  }
+
+  @Test
+  public void testSNorm16RoundTrip()
+  {
+    for (int index = -1000; index <= 1000; ++index) {
+      final double x = (double) index / 1000.0;
+      final double r = JCGLVertexQuantization.unpackSNorm16(
+        JCGLVertexQuantization.packSNorm16(x));
+      Assert.assertEquals(x, r, DELTA_16);
+    }
+  }
+
+  @Test
+  public void testSNorm2101010RoundTrip()
+  {
+    for (int index = -100; index <= 100; ++index) {
+      final double x = (double) index / 100.0;
+      final double y = -x;
+      final double z = x * 0.5;
+      final Vector4D r = JCGLVertexQuantization.unpackSNorm2101010(
+        JCGLVertexQuantization.packSNorm2101010(x, y, z, 1.0));
+      Assert.assertEquals(x, r.x(), DELTA_10);
+      Assert.assertEquals(y, r.y(), DELTA_10);
+      Assert.assertEquals(z, r.z(), DELTA_10);
+      Assert.assertEquals(1.0, r.w(), 0.0);
+    }
+  }
+
+  @Test
+  public void testSNorm2101010Extremes()
+  {
+    final int p = JCGLVertexQuantization.packSNorm2101010(1.0, -1.0, 0.0, -1.0);
+    Assert.assertEquals(511L, (long) (p & 0x3ff));
+    Assert.assertEquals(0x201L, (long) ((p >>> 10) & 0x3ff));
+    Assert.assertEquals(0L, (long) ((p >>> 20) & 0x3ff));
+    Assert.assertEquals(3L, (long) ((p >>> 30) & 0x3));
+
+    final Vector4D r = JCGLVertexQuantization.unpackSNorm2101010(p);
+    Assert.assertEquals(Vector4D.of(1.0, -1.0, 0.0, -1.0), r);
+  }
+
+  @Test
+  public void testUNorm2101010RoundTrip()
+  {
+    for (int index = 0; index <= 100; ++index) {
+      final double x = (double) index / 100.0;
+      final double y = 1.0 - x;
+      final Vector4D r = JCGLVertexQuantization.unpackUNorm2101010(
+        JCGLVertexQuantization.packUNorm2101010(x, y, x, 1.0));
+      Assert.assertEquals(x, r.x(), 1.0 / 1023.0);
+      Assert.assertEquals(y, r.y(), 1.0 / 1023.0);
+      Assert.assertEquals(x, r.z(), 1.0 / 1023.0);
+      Assert.assertEquals(1.0, r.w(), 0.0);
+    }
+  }
+
+  @Test
+  public void testOctahedralAxes()
+  {
+    checkOctahedral(Vector3D.of(1.0, 0.0, 0.0));
+    checkOctahedral(Vector3D.of(-1.0, 0.0, 0.0));
+    checkOctahedral(Vector3D.of(0.0, 1.0, 0.0));
+    checkOctahedral(Vector3D.of(0.0, -1.0, 0.0));
+    checkOctahedral(Vector3D.of(0.0, 0.0, 1.0));
+    checkOctahedral(Vector3D.of(0.0, 0.0, -1.0));
+  }
+
+  @Test
+  public void testOctahedralDiagonals()
+  {
+    for (int x = -1; x <= 1; x += 2) {
+      for (int y = -1; y <= 1; y += 2) {
+        for (int z = -1; z <= 1; z += 2) {
+          checkOctahedral(normalize((double) x, (double) y, (double) z));
+          checkOctahedral(normalize((double) x * 0.3, (double) y, (double) z));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testOctahedralQuantized()
+  {
+    final Vector3D n = normalize(0.2, -0.7, -0.4);
+    final Vector2D e = JCGLVertexQuantization.octahedralEncode(n);
+    final Vector2D q = Vector2D.of(
+      JCGLVertexQuantization.unpackSNorm16(
+        JCGLVertexQuantization.packSNorm16(e.x())),
+      JCGLVertexQuantization.unpackSNorm16(
+        JCGLVertexQuantization.packSNorm16(e.y())));
+    final Vector3D r = JCGLVertexQuantization.octahedralDecode(q);
+    Assert.assertEquals(n.x(), r.x(), 1.0e-3);
+    Assert.assertEquals(n.y(), r.y(), 1.0e-3);
+    Assert.assertEquals(n.z(), r.z(), 1.0e-3);
+  }
+
+  @Test
+  public void testPutPosition()
+  {
+    final ByteBuffer b =
+      ByteBuffer.allocate(16).order(ByteOrder.nativeOrder());
+    JCGLVertexQuantization.putPositionUNorm16(
+      b,
+      4,
+      Vector3D.of(0.0, 5.0, 10.0),
+      Vector3D.of(0.0, 0.0, 0.0),
+      Vector3D.of(10.0, 10.0, 10.0));
+
+    Assert.assertEquals(0L, (long) b.getInt(0));
+    Assert.assertEquals(0L, (long) (b.getShort(4) & 0xffff));
+    Assert.assertEquals(32768L, (long) (b.getShort(6) & 0xffff));
+    Assert.assertEquals(65535L, (long) (b.getShort(8) & 0xffff));
+    Assert.assertEquals(65535L, (long) (b.getShort(10) & 0xffff));
+    Assert.assertEquals(0L, (long) b.getInt(12));
+  }
+
+  @Test
+  public void testPutNormalSNorm2101010()
+  {
+    final ByteBuffer b =
+      ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+    JCGLVertexQuantization.putNormalSNorm2101010(
+      b, 4, Vector3D.of(0.0, 0.0, 1.0));
+
+    Assert.assertEquals(0L, (long) b.getInt(0));
+    final Vector4D r = JCGLVertexQuantization.unpackSNorm2101010(b.getInt(4));
+    Assert.assertEquals(Vector4D.of(0.0, 0.0, 1.0, 0.0), r);
+  }
+
+  @Test
+  public void testPutNormalOctahedral()
+  {
+    final ByteBuffer b =
+      ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+    final Vector3D n = normalize(-0.3, 0.1, -0.9);
+    JCGLVertexQuantization.putNormalOctahedralSNorm16(b, 4, n);
+
+    Assert.assertEquals(0L, (long) b.getInt(0));
+    final Vector3D r = JCGLVertexQuantization.octahedralDecode(
+      Vector2D.of(
+        JCGLVertexQuantization.unpackSNorm16((int) b.getShort(4)),
+        JCGLVertexQuantization.unpackSNorm16((int) b.getShort(6))));
+    Assert.assertEquals(n.x(), r.x(), 1.0e-3);
+    Assert.assertEquals(n.y(), r.y(), 1.0e-3);
+    Assert.assertEquals(n.z(), r.z(), 1.0e-3);
+  }
+
+  @Test
+  public void testPutUVHalf()
+  {
+    final ByteBuffer b =
+      ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+    JCGLVertexQuantization.putUVHalf(b, 4, Vector2D.of(0.25, 0.75));
+
+    Assert.assertEquals(0L, (long) b.getInt(0));
+    Assert.assertEquals(0.25, Binary16.unpackDouble(b.getChar(4)), 1.0e-3);
+    Assert.assertEquals(0.75, Binary16.unpackDouble(b.getChar(6)), 1.0e-3);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.mesh_optimizer;
+
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshIndices;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public final class JCGLMeshIndicesTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  @Test
+  public void testSmallestTypeFor()
+  {
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+      JCGLMeshIndices.smallestTypeFor(0L));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+      JCGLMeshIndices.smallestTypeFor(255L));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT,
+      JCGLMeshIndices.smallestTypeFor(256L));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT,
+      JCGLMeshIndices.smallestTypeFor(65535L));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_INT,
+      JCGLMeshIndices.smallestTypeFor(65536L));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_INT,
+      JCGLMeshIndices.smallestTypeFor(0xffffffffL));
+  }
+
+  @Test
+  public void testSmallestTypeForTooLarge()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.smallestTypeFor(0x100000000L);
+  }
+
+  @Test
+  public void testSmallestTypeForNegative()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.smallestTypeFor(-1L);
+  }
+
+  @Test
+  public void testNarrowestType()
+  {
+    final int[] small = {0, 1, 2};
+    final int[] large = {0, 1, 300};
+
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+      JCGLMeshIndices.narrowestType(
+        small, JCGLUnsignedType.TYPE_UNSIGNED_BYTE));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT,
+      JCGLMeshIndices.narrowestType(
+        small, JCGLUnsignedType.TYPE_UNSIGNED_SHORT));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT,
+      JCGLMeshIndices.narrowestType(
+        large, JCGLUnsignedType.TYPE_UNSIGNED_BYTE));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_INT,
+      JCGLMeshIndices.narrowestType(
+        large, JCGLUnsignedType.TYPE_UNSIGNED_INT));
+  }
+
+  @Test
+  public void testReadWriteIdentity()
+  {
+    final int[] indices = {0, 1, 2, 200, 255, 3};
+
+    for (final JCGLUnsignedType type : JCGLUnsignedType.values()) {
+      final ByteBuffer data = JCGLMeshIndices.write(indices, type);
+      Assert.assertTrue(data.isDirect());
+      Assert.assertEquals(ByteOrder.nativeOrder(), data.order());
+      Assert.assertEquals(
+        (long) (indices.length * type.getSizeBytes()),
+        (long) data.capacity());
+      Assert.assertArrayEquals(
+        indices, JCGLMeshIndices.read(data, type, indices.length));
+    }
+  }
+
+  @Test
+  public void testReadRespectsByteOrder()
+  {
+    final ByteBuffer data =
+      ByteBuffer.allocate(4).order(ByteOrder.BIG_ENDIAN);
+    data.putShort(0, (short) 0x0102);
+    data.putShort(2, (short) 0xfffe);
+
+    Assert.assertArrayEquals(
+      new int[]{0x0102, 0xfffe},
+      JCGLMeshIndices.read(data, JCGLUnsignedType.TYPE_UNSIGNED_SHORT, 2));
+  }
+
+  @Test
+  public void testReadTooSmall()
+  {
+    final ByteBuffer data = ByteBuffer.allocate(4);
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.read(data, JCGLUnsignedType.TYPE_UNSIGNED_SHORT, 3);
+  }
+
+  @Test
+  public void testReadTooLarge()
+  {
+    final ByteBuffer data = ByteBuffer.allocate(4);
+    data.putInt(0, 0x80000000);
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.read(data, JCGLUnsignedType.TYPE_UNSIGNED_INT, 1);
+  }
+
+  @Test
+  public void testWriteTypeTooSmall()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.write(
+      new int[]{0, 1, 256}, JCGLUnsignedType.TYPE_UNSIGNED_BYTE);
+  }
+
+  @Test
+  public void testCheckTriangleListNotMultipleOfThree()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.checkTriangleList(new int[]{0, 1}, 2);
+  }
+
+  @Test
+  public void testCheckTriangleListOutOfRange()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshIndices.checkTriangleList(new int[]{0, 1, 3}, 3);
+  }
+}
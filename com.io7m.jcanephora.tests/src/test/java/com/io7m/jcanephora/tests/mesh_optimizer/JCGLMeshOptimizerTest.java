@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.mesh_optimizer;
+
+import com.io7m.jcanephora.core.JCGLUnsignedType;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshCacheAnalysis;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshData;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshIndices;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizer;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizerConfiguration;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizerResult;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshOptimizerType;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshVertexCacheOptimizer;
+import com.io7m.jcanephora.mesh.optimizer.JCGLMeshVertexFetchOptimizer;
+import com.io7m.jranges.RangeCheckException;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public final class JCGLMeshOptimizerTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+
+  /**
+   * Generate a grid of {@code size * size} quads, with the triangles
+   * shuffled.
+   */
+
+  private static int[] shuffledGrid(
+    final int size)
+  {
+    final int row = size + 1;
+    final List<int[]> triangles = new ArrayList<>(size * size * 2);
+    for (int y = 0; y < size; ++y) {
+      for (int x = 0; x < size; ++x) {
+        final int v0 = y * row + x;
+        final int v1 = v0 + 1;
+        final int v2 = v0 + row;
+        final int v3 = v2 + 1;
+        triangles.add(new int[]{v0, v1, v2});
+        triangles.add(new int[]{v2, v1, v3});
+      }
+    }
+
+    Collections.shuffle(triangles, new Random(0x10203040L));
+
+    final int[] indices = new int[triangles.size() * 3];
+    for (int index = 0; index < triangles.size(); ++index) {
+      System.arraycopy(triangles.get(index), 0, indices, index * 3, 3);
+    }
+    return indices;
+  }
+
+  /**
+   * Create vertex data in which each vertex holds its own original index.
+   */
+
+  private static ByteBuffer identityVertices(
+    final int count)
+  {
+    final ByteBuffer data =
+      ByteBuffer.allocateDirect(count * 4).order(ByteOrder.nativeOrder());
+    for (int index = 0; index < count; ++index) {
+      data.putInt(index * 4, index);
+    }
+    return data;
+  }
+
+  /**
+   * Resolve the indices of a mesh created with {@link
+   * #identityVertices(int)} to the original vertex indices, and sort the
+   * triangles so that meshes can be compared independently of triangle
+   * order.
+   */
+
+  private static List<String> triangles(
+    final JCGLMeshData mesh)
+  {
+    final int[] indices = JCGLMeshIndices.read(
+      mesh.indices(), mesh.indexType(), mesh.indexCount());
+    final List<String> triangles = new ArrayList<>(indices.length / 3);
+    for (int index = 0; index < indices.length; index += 3) {
+      final ByteBuffer v = mesh.vertices();
+      triangles.add(String.format(
+        "%d %d %d",
+        Integer.valueOf(v.getInt(indices[index] * 4)),
+        Integer.valueOf(v.getInt(indices[index + 1] * 4)),
+        Integer.valueOf(v.getInt(indices[index + 2] * 4))));
+    }
+    Collections.sort(triangles);
+    return triangles;
+  }
+
+  private static JCGLMeshData gridMesh(
+    final int size)
+  {
+    final int vertex_count = (size + 1) * (size + 1);
+    final int[] indices = shuffledGrid(size);
+    return JCGLMeshData.of(
+      identityVertices(vertex_count),
+      4,
+      vertex_count,
+      JCGLMeshIndices.write(indices, JCGLUnsignedType.TYPE_UNSIGNED_INT),
+      JCGLUnsignedType.TYPE_UNSIGNED_INT,
+      indices.length);
+  }
+
+  @Test
+  public void testACMRTriangleStripOrder()
+  {
+    final int[] indices = {0, 1, 2, 2, 1, 3, 2, 3, 4, 4, 3, 5};
+    Assert.assertEquals(
+      6L, JCGLMeshCacheAnalysis.misses(indices, 6, 16));
+    Assert.assertEquals(
+      1.5, JCGLMeshCacheAnalysis.acmr(indices, 6, 16), 0.0);
+  }
+
+  @Test
+  public void testACMRFIFOEviction()
+  {
+    final int[] indices = {0, 1, 2, 3, 4, 5, 0, 1, 2};
+    Assert.assertEquals(9L, JCGLMeshCacheAnalysis.misses(indices, 6, 3));
+    Assert.assertEquals(6L, JCGLMeshCacheAnalysis.misses(indices, 6, 6));
+  }
+
+  @Test
+  public void testACMREmpty()
+  {
+    Assert.assertEquals(
+      0.0, JCGLMeshCacheAnalysis.acmr(new int[0], 0, 16), 0.0);
+  }
+
+  @Test
+  public void testVertexCacheImprovesACMR()
+  {
+    final int size = 32;
+    final int vertex_count = (size + 1) * (size + 1);
+    final int[] indices = shuffledGrid(size);
+
+    final double before =
+      JCGLMeshCacheAnalysis.acmr(indices, vertex_count, 16);
+    final int[] optimized =
+      JCGLMeshVertexCacheOptimizer.optimize(indices, vertex_count, 32);
+    final double after =
+      JCGLMeshCacheAnalysis.acmr(optimized, vertex_count, 16);
+
+    Assert.assertEquals((long) indices.length, (long) optimized.length);
+    Assert.assertTrue(before > 1.5);
+    Assert.assertTrue(after < 1.0);
+    Assert.assertTrue(after < before);
+  }
+
+  @Test
+  public void testVertexCachePreservesTriangles()
+  {
+    final int[] indices = {0, 1, 2, 3, 4, 5, 2, 1, 3, 0, 0, 1};
+    final int[] optimized =
+      JCGLMeshVertexCacheOptimizer.optimize(indices, 6, 32);
+
+    final List<String> expected = new ArrayList<>();
+    final List<String> received = new ArrayList<>();
+    for (int index = 0; index < indices.length; index += 3) {
+      expected.add(Arrays.toString(
+        Arrays.copyOfRange(indices, index, index + 3)));
+      received.add(Arrays.toString(
+        Arrays.copyOfRange(optimized, index, index + 3)));
+    }
+    Collections.sort(expected);
+    Collections.sort(received);
+    Assert.assertEquals(expected, received);
+  }
+
+  @Test
+  public void testVertexCacheCacheSizeTooSmall()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshVertexCacheOptimizer.optimize(new int[]{0, 1, 2}, 3, 3);
+  }
+
+  @Test
+  public void testVertexFetchRemap()
+  {
+    final int[] indices = {4, 2, 0, 0, 2, 3};
+    final int[] remap = JCGLMeshVertexFetchOptimizer.remap(indices, 6);
+
+    Assert.assertArrayEquals(new int[]{2, 4, 1, 3, 0, 5}, remap);
+    Assert.assertArrayEquals(
+      new int[]{0, 1, 2, 2, 1, 3},
+      JCGLMeshVertexFetchOptimizer.remapIndices(indices, remap));
+
+    final ByteBuffer vertices =
+      JCGLMeshVertexFetchOptimizer.remapVertices(
+        identityVertices(6), 4, remap);
+    Assert.assertEquals(4, vertices.getInt(0));
+    Assert.assertEquals(2, vertices.getInt(4));
+    Assert.assertEquals(0, vertices.getInt(8));
+    Assert.assertEquals(3, vertices.getInt(12));
+    Assert.assertEquals(1, vertices.getInt(16));
+    Assert.assertEquals(5, vertices.getInt(20));
+  }
+
+  @Test
+  public void testOptimizeGrid()
+  {
+    final JCGLMeshOptimizerType o = JCGLMeshOptimizer.create(
+      JCGLMeshOptimizerConfiguration.builder().build());
+
+    final JCGLMeshData mesh = gridMesh(8);
+    final JCGLMeshOptimizerResult r = o.optimize(mesh);
+    final JCGLMeshData out = r.mesh();
+
+    Assert.assertTrue(r.acmrAfter() < r.acmrBefore());
+    Assert.assertEquals(JCGLUnsignedType.TYPE_UNSIGNED_BYTE, out.indexType());
+    Assert.assertEquals((long) mesh.indexCount(), (long) out.indexCount());
+    Assert.assertEquals((long) mesh.vertexCount(), (long) out.vertexCount());
+    Assert.assertEquals(triangles(mesh), triangles(out));
+
+    final int[] indices = JCGLMeshIndices.read(
+      out.indices(), out.indexType(), out.indexCount());
+    int next = 0;
+    for (int index = 0; index < indices.length; ++index) {
+      Assert.assertTrue(indices[index] <= next);
+      next = Math.max(next, indices[index] + 1);
+    }
+  }
+
+  @Test
+  public void testOptimizeIndexTypeMinimum()
+  {
+    final JCGLMeshOptimizerType o =
+      JCGLMeshOptimizer.create(
+        JCGLMeshOptimizerConfiguration.builder()
+          .setIndexTypeMinimum(JCGLUnsignedType.TYPE_UNSIGNED_SHORT)
+          .build());
+
+    final JCGLMeshOptimizerResult r = o.optimize(gridMesh(4));
+    Assert.assertEquals(
+      JCGLUnsignedType.TYPE_UNSIGNED_SHORT, r.mesh().indexType());
+  }
+
+  @Test
+  public void testOptimizeNothing()
+  {
+    final JCGLMeshOptimizerType o =
+      JCGLMeshOptimizer.create(
+        JCGLMeshOptimizerConfiguration.builder()
+          .setReorderTriangles(false)
+          .setReorderVertices(false)
+          .build());
+
+    final JCGLMeshData mesh = gridMesh(20);
+    final JCGLMeshOptimizerResult r = o.optimize(mesh);
+    final JCGLMeshData out = r.mesh();
+
+    Assert.assertEquals(r.acmrBefore(), r.acmrAfter(), 0.0);
+    Assert.assertEquals(JCGLUnsignedType.TYPE_UNSIGNED_SHORT, out.indexType());
+    Assert.assertArrayEquals(
+      JCGLMeshIndices.read(
+        mesh.indices(), mesh.indexType(), mesh.indexCount()),
+      JCGLMeshIndices.read(
+        out.indices(), out.indexType(), out.indexCount()));
+    Assert.assertEquals(mesh.vertices(), out.vertices());
+  }
+
+  @Test
+  public void testOptimizeVertexBufferTooSmall()
+  {
+    final JCGLMeshOptimizerType o = JCGLMeshOptimizer.create(
+      JCGLMeshOptimizerConfiguration.builder().build());
+
+    final JCGLMeshData mesh = JCGLMeshData.of(
+      ByteBuffer.allocateDirect(8),
+      4,
+      3,
+      JCGLMeshIndices.write(
+        new int[]{0, 1, 2}, JCGLUnsignedType.TYPE_UNSIGNED_BYTE),
+      JCGLUnsignedType.TYPE_UNSIGNED_BYTE,
+      3);
+
+    this.expected.expect(RangeCheckException.class);
+    o.optimize(mesh);
+  }
+
+  @Test
+  public void testConfigurationCacheSizeTooSmall()
+  {
+    this.expected.expect(RangeCheckException.class);
+    JCGLMeshOptimizer.create(
+      JCGLMeshOptimizerConfiguration.builder()
+        .setOptimizationCacheSize(2)
+        .build());
+  }
+}
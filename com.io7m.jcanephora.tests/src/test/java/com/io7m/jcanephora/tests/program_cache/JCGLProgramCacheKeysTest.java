@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.tests.program_cache;
+
+import com.io7m.jcanephora.core.JCGLDriverInformation;
+import com.io7m.jcanephora.core.JCGLProgramSources;
+import com.io7m.jcanephora.core.JCGLTransformFeedbackBufferMode;
+import com.io7m.jcanephora.program.cache.JCGLProgramCacheKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+public final class JCGLProgramCacheKeysTest
+{
+  private static final JCGLDriverInformation DRIVER =
+    JCGLDriverInformation.of("vendor", "renderer", "1.0");
+
+  private static JCGLProgramSources sources(
+    final String name)
+  {
+    return JCGLProgramSources.of(
+      name,
+      Arrays.asList("#version 330\n", "void main() { }\n"),
+      Optional.empty(),
+      Arrays.asList("#version 330\n", "void main() { }\n"));
+  }
+
+  @Test
+  public void testKeyFormat()
+  {
+    final String k = JCGLProgramCacheKeys.key(DRIVER, sources("a"));
+    Assert.assertEquals(64L, (long) k.length());
+    Assert.assertTrue(k.matches("[0-9a-f]+"));
+  }
+
+  @Test
+  public void testNameIgnored()
+  {
+    Assert.assertEquals(
+      JCGLProgramCacheKeys.key(DRIVER, sources("a")),
+      JCGLProgramCacheKeys.key(DRIVER, sources("b")));
+  }
+
+  @Test
+  public void testDriverDistinguished()
+  {
+    final String k0 = JCGLProgramCacheKeys.key(DRIVER, sources("a"));
+    Assert.assertNotEquals(k0, JCGLProgramCacheKeys.key(
+      JCGLDriverInformation.of("other", "renderer", "1.0"), sources("a")));
+    Assert.assertNotEquals(k0, JCGLProgramCacheKeys.key(
+      JCGLDriverInformation.of("vendor", "other", "1.0"), sources("a")));
+    Assert.assertNotEquals(k0, JCGLProgramCacheKeys.key(
+      JCGLDriverInformation.of("vendor", "renderer", "1.1"), sources("a")));
+  }
+
+  @Test
+  public void testGeometryDistinguished()
+  {
+    final JCGLProgramSources s = sources("a");
+    final JCGLProgramSources g = JCGLProgramSources.builder()
+      .from(s)
+      .setGeometry(Collections.emptyList())
+      .build();
+    Assert.assertNotEquals(
+      JCGLProgramCacheKeys.key(DRIVER, s),
+      JCGLProgramCacheKeys.key(DRIVER, g));
+  }
+
+  @Test
+  public void testTransformFeedbackDistinguished()
+  {
+    final JCGLProgramSources s = sources("a");
+    final JCGLProgramSources v = JCGLProgramSources.builder()
+      .from(s)
+      .addTransformFeedbackVaryings("x")
+      .build();
+    final JCGLProgramSources m = JCGLProgramSources.builder()
+      .from(v)
+      .setTransformFeedbackBufferMode(
+        JCGLTransformFeedbackBufferMode.TRANSFORM_FEEDBACK_SEPARATE)
+      .build();
+
+    final String ks = JCGLProgramCacheKeys.key(DRIVER, s);
+    final String kv = JCGLProgramCacheKeys.key(DRIVER, v);
+    final String km = JCGLProgramCacheKeys.key(DRIVER, m);
+    Assert.assertNotEquals(ks, kv);
+    Assert.assertNotEquals(kv, km);
+  }
+
+  @Test
+  public void testLineBoundariesDistinguished()
+  {
+    final JCGLProgramSources s0 = JCGLProgramSources.of(
+      "a",
+      Arrays.asList("ab", "c"),
+      Optional.empty(),
+      Collections.emptyList());
+    final JCGLProgramSources s1 = JCGLProgramSources.of(
+      "a",
+      Arrays.asList("a", "bc"),
+      Optional.empty(),
+      Collections.emptyList());
+    Assert.assertNotEquals(
+      JCGLProgramCacheKeys.key(DRIVER, s0),
+      JCGLProgramCacheKeys.key(DRIVER, s1));
+  }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.tests.shader_source;
+
+import com.io7m.jcanephora.shader.source.JCGLShaderPermutation;
+import com.io7m.jcanephora.shader.source.JCGLShaderPermutations;
+import com.io7m.jcanephora.shader.source.JCGLShaderPreprocessor;
+import com.io7m.jcanephora.shader.source.JCGLShaderPreprocessorType;
+import com.io7m.jcanephora.shader.source.JCGLShaderSource;
+import com.io7m.jcanephora.shader.source.JCGLShaderSourceException;
+import com.io7m.jcanephora.shader.source.JCGLShaderSourceResolverType;
+import com.io7m.jcanephora.shader.source.JCGLShaderSourceResolvers;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class JCGLShaderPreprocessorTest
+{
+  @Rule public final ExpectedException expected = ExpectedException.none();
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static JCGLShaderPermutation permutation(
+    final String... pairs)
+  {
+    final Map<String, String> m = new HashMap<>(pairs.length);
+    for (int index = 0; index < pairs.length; index += 2) {
+      m.put(pairs[index], pairs[index + 1]);
+    }
+    return JCGLShaderPermutation.of(m);
+  }
+
+  private static List<String> lines(
+    final String... lines)
+  {
+    return Arrays.asList(lines);
+  }
+
+  @Test
+  public void testIncludeRelative()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("a/main.vert", "#version 330", "#include \"b.glsl\"", "x");
+    files.put("a/b.glsl", "#include \"../c/c.glsl\"", "b");
+    files.put("c/c.glsl", "c");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess("a/main.vert", JCGLShaderPermutations.empty());
+
+    Assert.assertEquals(
+      lines(
+        "#version 330\n",
+        "#line 1 1\n",
+        "#line 1 2\n",
+        "c\n",
+        "#line 2 1\n",
+        "b\n",
+        "#line 3 0\n",
+        "x\n"),
+      s.lines());
+    Assert.assertEquals(
+      lines("a/main.vert", "a/b.glsl", "c/c.glsl"), s.files());
+  }
+
+  @Test
+  public void testIncludeAbsolute()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("a/main.vert", "#  include   \"/b.glsl\"  // comment", "x");
+    files.put("b.glsl", "b");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess("a/main.vert", JCGLShaderPermutations.empty());
+    Assert.assertEquals(
+      lines("#line 1 1\n", "b\n", "#line 2 0\n", "x\n"), s.lines());
+  }
+
+  @Test
+  public void testIncludeRepeated()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#include \"a.glsl\"", "#include \"a.glsl\"");
+    files.put("a.glsl", "a");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+    Assert.assertEquals(
+      lines(
+        "#line 1 1\n",
+        "a\n",
+        "#line 2 0\n",
+        "#line 1 1\n",
+        "a\n",
+        "#line 3 0\n"),
+      s.lines());
+    Assert.assertEquals(lines("main.vert", "a.glsl"), s.files());
+  }
+
+  @Test
+  public void testIncludePragmaOnce()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#include \"a.glsl\"", "#include \"a.glsl\"");
+    files.put("a.glsl", "#pragma once", "a");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+    Assert.assertEquals(
+      lines(
+        "#line 1 1\n",
+        "\n",
+        "a\n",
+        "#line 2 0\n",
+        "#line 3 0\n"),
+      s.lines());
+  }
+
+  @Test
+  public void testIncludeCycle()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#include \"a.glsl\"");
+    files.put("a.glsl", "#include \"b.glsl\"");
+    files.put("b.glsl", "#include \"a.glsl\"");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    this.expected.expectMessage("main.vert -> a.glsl -> b.glsl -> a.glsl");
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+  }
+
+  @Test
+  public void testIncludeMissing()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#include \"a.glsl\"");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    this.expected.expectMessage("a.glsl");
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+  }
+
+  @Test
+  public void testIncludeMalformed()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "x", "#include <a.glsl>");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    this.expected.expectMessage("main.vert:2:");
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+  }
+
+  @Test
+  public void testIncludeEscapesRoot()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#include \"../a.glsl\"");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+  }
+
+  @Test
+  public void testIncludeVersion()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#version 330", "#include \"a.glsl\"");
+    files.put("a.glsl", "#version 330");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    this.expected.expectMessage("a.glsl:1:");
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", JCGLShaderPermutations.empty());
+  }
+
+  @Test
+  public void testDefinesAfterVersion()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "// x", "#version 330\r\n", "B A C");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", permutation("C", "", "B", "2", "A", "1"));
+    Assert.assertEquals(
+      lines(
+        "// x\n",
+        "#version 330\n",
+        "#define A 1\n",
+        "#define B 2\n",
+        "#define C\n",
+        "#line 3 0\n",
+        "B A C\n"),
+      s.lines());
+  }
+
+  @Test
+  public void testDefinesWithoutVersion()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "A");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", permutation("A", "1"));
+    Assert.assertEquals(
+      lines("#define A 1\n", "#line 1 0\n", "A\n"), s.lines());
+  }
+
+  @Test
+  public void testDefinesTransitive()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "LIGHT_COUNT");
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(files)
+      .preprocess(
+        "main.vert",
+        permutation(
+          "LIGHT_COUNT", "(MAX_LIGHTS - 1)",
+          "MAX_LIGHTS", "BASE_LIGHTS * 2",
+          "BASE_LIGHTS", "4",
+          "UNUSED", "LIGHT_COUNT"));
+
+    Assert.assertEquals(
+      permutation(
+        "LIGHT_COUNT", "(MAX_LIGHTS - 1)",
+        "MAX_LIGHTS", "BASE_LIGHTS * 2",
+        "BASE_LIGHTS", "4"),
+      s.permutation());
+    Assert.assertEquals(
+      lines(
+        "#define BASE_LIGHTS 4\n",
+        "#define LIGHT_COUNT (MAX_LIGHTS - 1)\n",
+        "#define MAX_LIGHTS BASE_LIGHTS * 2\n",
+        "#line 1 0\n",
+        "LIGHT_COUNT\n"),
+      s.lines());
+  }
+
+  @Test
+  public void testDefinesUnreferencedOmitted()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#version 330", "#include \"a.glsl\"");
+    files.put("a.glsl", "#ifdef USED", "#endif");
+
+    final JCGLShaderPreprocessorType p = JCGLShaderPreprocessor.create(files);
+    final JCGLShaderSource s0 =
+      p.preprocess("main.vert", permutation("USED", "1"));
+    final JCGLShaderSource s1 =
+      p.preprocess("main.vert", permutation("USED", "1", "UNUSED", "1"));
+
+    Assert.assertEquals(permutation("USED", "1"), s1.permutation());
+    Assert.assertEquals(s0.lines(), s1.lines());
+    Assert.assertEquals(s0.hash(), s1.hash());
+  }
+
+  @Test
+  public void testDefinesInvalidName()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "x");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", permutation("0X", "1"));
+  }
+
+  @Test
+  public void testDefinesInvalidValue()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "x");
+
+    this.expected.expect(JCGLShaderSourceException.class);
+    JCGLShaderPreprocessor.create(files)
+      .preprocess("main.vert", permutation("X", "1\n#define Y"));
+  }
+
+  @Test
+  public void testHashDistinguishesSources()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("a.vert", "X");
+    files.put("b.vert", "X");
+    files.put("c.vert", "Y");
+
+    final JCGLShaderPreprocessorType p = JCGLShaderPreprocessor.create(files);
+    final String ha = p.preprocess("a.vert", JCGLShaderPermutations.empty())
+      .hash();
+    final String hb = p.preprocess("b.vert", JCGLShaderPermutations.empty())
+      .hash();
+    final String hc = p.preprocess("c.vert", JCGLShaderPermutations.empty())
+      .hash();
+    final String hd = p.preprocess("a.vert", permutation("X", "1"))
+      .hash();
+
+    Assert.assertEquals(64L, (long) ha.length());
+    Assert.assertEquals(ha, hb);
+    Assert.assertNotEquals(ha, hc);
+    Assert.assertNotEquals(ha, hd);
+  }
+
+  @Test
+  public void testFilesCached()
+    throws Exception
+  {
+    final MemoryResolver files = new MemoryResolver();
+    files.put("main.vert", "#include \"a.glsl\"", "X");
+    files.put("a.glsl", "a");
+
+    final JCGLShaderPreprocessorType p = JCGLShaderPreprocessor.create(files);
+    p.preprocess("main.vert", JCGLShaderPermutations.empty());
+    p.preprocess("main.vert", permutation("X", "1"));
+    p.preprocess("main.vert", permutation("X", "2"));
+    Assert.assertEquals(2L, (long) files.reads);
+
+    files.put("a.glsl", "b");
+    Assert.assertEquals(
+      lines("#line 1 1\n", "a\n", "#line 2 0\n", "X\n"),
+      p.preprocess("main.vert", JCGLShaderPermutations.empty()).lines());
+
+    p.invalidate();
+    Assert.assertEquals(
+      lines("#line 1 1\n", "b\n", "#line 2 0\n", "X\n"),
+      p.preprocess("main.vert", JCGLShaderPermutations.empty()).lines());
+    Assert.assertEquals(4L, (long) files.reads);
+  }
+
+  @Test
+  public void testPermutationKey()
+  {
+    Assert.assertEquals(
+      "", JCGLShaderPermutations.key(JCGLShaderPermutations.empty()));
+    Assert.assertEquals(
+      "A=1:1;B=0:;C=1:x",
+      JCGLShaderPermutations.key(permutation("C", "x", "A", "1", "B", "")));
+    Assert.assertNotEquals(
+      JCGLShaderPermutations.key(permutation("A", "1;B=2")),
+      JCGLShaderPermutations.key(permutation("A", "1", "B", "2")));
+    Assert.assertEquals(
+      permutation("A", "1", "B", "2"),
+      permutation("B", "2", "A", "1"));
+  }
+
+  @Test
+  public void testResolverDirectory()
+    throws Exception
+  {
+    final Path root = this.folder.getRoot().toPath();
+    Files.createDirectories(root.resolve("a"));
+    Files.write(
+      root.resolve("a/main.vert"),
+      "#include \"b.glsl\"\nx\n".getBytes(StandardCharsets.UTF_8));
+    Files.write(
+      root.resolve("a/b.glsl"),
+      "b\r\n".getBytes(StandardCharsets.UTF_8));
+
+    final JCGLShaderSourceResolverType r =
+      JCGLShaderSourceResolvers.forDirectory(root);
+    Assert.assertEquals(Optional.empty(), r.resolve("a/nonexistent"));
+
+    final JCGLShaderSource s = JCGLShaderPreprocessor.create(r)
+      .preprocess("a/main.vert", JCGLShaderPermutations.empty());
+    Assert.assertEquals(
+      lines("#line 1 1\n", "b\n", "#line 2 0\n", "x\n"), s.lines());
+  }
+
+  private static final class MemoryResolver
+    implements JCGLShaderSourceResolverType
+  {
+    private final Map<String, List<String>> files;
+    private int reads;
+
+    MemoryResolver()
+    {
+      this.files = new HashMap<>(8);
+    }
+
+    void put(
+      final String name,
+      final String... lines)
+    {
+      this.files.put(name, Arrays.asList(lines));
+    }
+
+    @Override
+    public Optional<List<String>> resolve(final String name)
+      throws IOException
+    {
+      ++this.reads;
+      return Optional.ofNullable(this.files.get(name));
+    }
+  }
+}
@@ -0,0 +1,760 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.compressor;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Encoders for individual 4x4 blocks.</p>
+ *
+ * <p>Blocks are given as 16 texels in row-major order, with four 8-bit
+ * components per texel. Instances hold scratch storage, and so must not be
+ * shared between threads.</p>
+ */
+
+final class JCGLTextureBlockEncoder
+{
+  /**
+   * The weight of the first endpoint for each index in four-color mode.
+   */
+
+  private static final double[] WEIGHTS_FOUR = {
+    1.0, 0.0, 2.0 / 3.0, 1.0 / 3.0,
+  };
+
+  /**
+   * The weight of the first endpoint for each index in three-color mode.
+   */
+
+  private static final double[] WEIGHTS_THREE = {
+    1.0, 0.0, 0.5, 0.0,
+  };
+
+  private static final int REFINE_ITERATIONS = 2;
+
+  private final int[] colors;
+  private final int[] palette;
+  private final double[] endpoints;
+  private final int[] values;
+  private final int[] levels;
+  private int fit_c0;
+  private int fit_c1;
+  private int fit_bits;
+  private long single_bits;
+
+  JCGLTextureBlockEncoder()
+  {
+    this.colors = new int[16 * 3];
+    this.palette = new int[4 * 3];
+    this.endpoints = new double[6];
+    this.values = new int[16];
+    this.levels = new int[8];
+  }
+
+  private static int clamp8(
+    final double x)
+  {
+    return (int) Math.min(255L, Math.max(0L, Math.round(x)));
+  }
+
+  private static int pack565(
+    final double r,
+    final double g,
+    final double b)
+  {
+    final int r5 = (clamp8(r) * 31 + 127) / 255;
+    final int g6 = (clamp8(g) * 63 + 127) / 255;
+    final int b5 = (clamp8(b) * 31 + 127) / 255;
+    return (r5 << 11) | (g6 << 5) | b5;
+  }
+
+  private static void expand565(
+    final int c,
+    final int[] out,
+    final int offset)
+  {
+    final int r5 = (c >>> 11) & 0x1f;
+    final int g6 = (c >>> 5) & 0x3f;
+    final int b5 = c & 0x1f;
+    out[offset] = (r5 << 3) | (r5 >>> 2);
+    out[offset + 1] = (g6 << 2) | (g6 >>> 4);
+    out[offset + 2] = (b5 << 3) | (b5 >>> 2);
+  }
+
+  private static void putShort(
+    final ByteBuffer out,
+    final int offset,
+    final int x)
+  {
+    out.put(offset, (byte) (x & 0xff));
+    out.put(offset + 1, (byte) ((x >>> 8) & 0xff));
+  }
+
+  private static void putInt(
+    final ByteBuffer out,
+    final int offset,
+    final int x)
+  {
+    putShort(out, offset, x & 0xffff);
+    putShort(out, offset + 2, x >>> 16);
+  }
+
+  private static boolean isTransparent(
+    final int[] block,
+    final int texel,
+    final boolean punch_through)
+  {
+    return punch_through && block[(texel * 4) + 3] < 128;
+  }
+
+  /**
+   * Encode the RGB components of a block as a BC1 color block.
+   *
+   * @param block         The block texels
+   * @param punch_through {@code true} iff texels with alpha below one half
+   *                      should be encoded as transparent (three-color mode)
+   * @param quality       The quality preset
+   * @param out           The output buffer
+   * @param offset        The offset of the 8 byte block in {@code out}
+   */
+
+  void encodeColor(
+    final int[] block,
+    final boolean punch_through,
+    final JCGLTextureCompressionQuality quality,
+    final ByteBuffer out,
+    final int offset)
+  {
+    int count = 0;
+    boolean transparent = false;
+    for (int texel = 0; texel < 16; ++texel) {
+      if (isTransparent(block, texel, punch_through)) {
+        transparent = true;
+        continue;
+      }
+      final int i = texel * 4;
+      final int o = count * 3;
+      this.colors[o] = block[i];
+      this.colors[o + 1] = block[i + 1];
+      this.colors[o + 2] = block[i + 2];
+      ++count;
+    }
+
+    /*
+     * A fully transparent block selects the transparent entry of the palette
+     * for every texel.
+     */
+
+    if (count == 0) {
+      putShort(out, offset, 0);
+      putShort(out, offset + 2, 0);
+      putInt(out, offset + 4, 0xffffffff);
+      return;
+    }
+
+    final boolean fast =
+      quality == JCGLTextureCompressionQuality.COMPRESSION_QUALITY_FAST;
+    if (fast) {
+      this.endpointsBoundingBox(count);
+    } else {
+      this.endpointsPrincipalAxis(count);
+    }
+
+    final double[] e = this.endpoints;
+    long best = this.fit(
+      pack565(e[0], e[1], e[2]),
+      pack565(e[3], e[4], e[5]),
+      transparent,
+      fast,
+      block,
+      punch_through);
+    int best_c0 = this.fit_c0;
+    int best_c1 = this.fit_c1;
+    int best_bits = this.fit_bits;
+
+    if (quality == JCGLTextureCompressionQuality.COMPRESSION_QUALITY_HIGH) {
+      for (int iteration = 0; iteration < REFINE_ITERATIONS; ++iteration) {
+        if (best == 0L || !this.refine(block, transparent, punch_through)) {
+          break;
+        }
+        final long error = this.fit(
+          pack565(e[0], e[1], e[2]),
+          pack565(e[3], e[4], e[5]),
+          transparent,
+          false,
+          block,
+          punch_through);
+        if (error >= best) {
+          break;
+        }
+        best = error;
+        best_c0 = this.fit_c0;
+        best_c1 = this.fit_c1;
+        best_bits = this.fit_bits;
+      }
+    }
+
+    putShort(out, offset, best_c0);
+    putShort(out, offset + 2, best_c1);
+    putInt(out, offset + 4, best_bits);
+  }
+
+  /**
+   * Take the endpoints from the corners of the bounding box of the colors,
+   * inset slightly to reduce the error at the extremes. The diagonal of the
+   * box is chosen by the sign of the covariance of red and blue with green.
+   */
+
+  private void endpointsBoundingBox(
+    final int count)
+  {
+    final int[] c = this.colors;
+    int min_r = 255;
+    int min_g = 255;
+    int min_b = 255;
+    int max_r = 0;
+    int max_g = 0;
+    int max_b = 0;
+    double sum_r = 0.0;
+    double sum_g = 0.0;
+    double sum_b = 0.0;
+
+    for (int index = 0; index < count; ++index) {
+      final int i = index * 3;
+      min_r = Math.min(min_r, c[i]);
+      min_g = Math.min(min_g, c[i + 1]);
+      min_b = Math.min(min_b, c[i + 2]);
+      max_r = Math.max(max_r, c[i]);
+      max_g = Math.max(max_g, c[i + 1]);
+      max_b = Math.max(max_b, c[i + 2]);
+      sum_r += (double) c[i];
+      sum_g += (double) c[i + 1];
+      sum_b += (double) c[i + 2];
+    }
+
+    final double mean_r = sum_r / (double) count;
+    final double mean_g = sum_g / (double) count;
+    final double mean_b = sum_b / (double) count;
+    double cov_rg = 0.0;
+    double cov_bg = 0.0;
+    for (int index = 0; index < count; ++index) {
+      final int i = index * 3;
+      final double dg = (double) c[i + 1] - mean_g;
+      cov_rg += ((double) c[i] - mean_r) * dg;
+      cov_bg += ((double) c[i + 2] - mean_b) * dg;
+    }
+
+    final double inset_r = (double) (max_r - min_r) / 16.0;
+    final double inset_g = (double) (max_g - min_g) / 16.0;
+    final double inset_b = (double) (max_b - min_b) / 16.0;
+    final double hi_r = (double) max_r - inset_r;
+    final double lo_r = (double) min_r + inset_r;
+    final double hi_b = (double) max_b - inset_b;
+    final double lo_b = (double) min_b + inset_b;
+
+    final double[] e = this.endpoints;
+    e[0] = cov_rg < 0.0 ? lo_r : hi_r;
+    e[1] = (double) max_g - inset_g;
+    e[2] = cov_bg < 0.0 ? lo_b : hi_b;
+    e[3] = cov_rg < 0.0 ? hi_r : lo_r;
+    e[4] = (double) min_g + inset_g;
+    e[5] = cov_bg < 0.0 ? hi_b : lo_b;
+  }
+
+  /**
+   * Take the endpoints from the extremes of the projection of the colors onto
+   * their principal axis, which is found by power iteration on the
+   * covariance matrix.
+   */
+
+  private void endpointsPrincipalAxis(
+    final int count)
+  {
+    final int[] c = this.colors;
+    double mean_r = 0.0;
+    double mean_g = 0.0;
+    double mean_b = 0.0;
+    for (int index = 0; index < count; ++index) {
+      final int i = index * 3;
+      mean_r += (double) c[i];
+      mean_g += (double) c[i + 1];
+      mean_b += (double) c[i + 2];
+    }
+    mean_r /= (double) count;
+    mean_g /= (double) count;
+    mean_b /= (double) count;
+
+    double c_rr = 0.0;
+    double c_rg = 0.0;
+    double c_rb = 0.0;
+    double c_gg = 0.0;
+    double c_gb = 0.0;
+    double c_bb = 0.0;
+    for (int index = 0; index < count; ++index) {
+      final int i = index * 3;
+      final double dr = (double) c[i] - mean_r;
+      final double dg = (double) c[i + 1] - mean_g;
+      final double db = (double) c[i + 2] - mean_b;
+      c_rr += dr * dr;
+      c_rg += dr * dg;
+      c_rb += dr * db;
+      c_gg += dg * dg;
+      c_gb += dg * db;
+      c_bb += db * db;
+    }
+
+    /*
+     * Start from the row of the matrix with the largest variance, which
+     * cannot be orthogonal to the principal axis unless the matrix is zero.
+     */
+
+    double vr;
+    double vg;
+    double vb;
+    if (c_rr >= c_gg && c_rr >= c_bb) {
+      vr = c_rr;
+      vg = c_rg;
+      vb = c_rb;
+    } else if (c_gg >= c_bb) {
+      vr = c_rg;
+      vg = c_gg;
+      vb = c_gb;
+    } else {
+      vr = c_rb;
+      vg = c_gb;
+      vb = c_bb;
+    }
+
+    for (int iteration = 0; iteration < 8; ++iteration) {
+      final double nr = (c_rr * vr) + (c_rg * vg) + (c_rb * vb);
+      final double ng = (c_rg * vr) + (c_gg * vg) + (c_gb * vb);
+      final double nb = (c_rb * vr) + (c_gb * vg) + (c_bb * vb);
+      final double m =
+        Math.max(Math.abs(nr), Math.max(Math.abs(ng), Math.abs(nb)));
+      if (m == 0.0) {
+        break;
+      }
+      vr = nr / m;
+      vg = ng / m;
+      vb = nb / m;
+    }
+
+    final double[] e = this.endpoints;
+    final double length = Math.sqrt((vr * vr) + (vg * vg) + (vb * vb));
+    if (length < 1.0e-12) {
+      e[0] = mean_r;
+      e[1] = mean_g;
+      e[2] = mean_b;
+      e[3] = mean_r;
+      e[4] = mean_g;
+      e[5] = mean_b;
+      return;
+    }
+
+    vr /= length;
+    vg /= length;
+    vb /= length;
+
+    double t_min = Double.POSITIVE_INFINITY;
+    double t_max = Double.NEGATIVE_INFINITY;
+    for (int index = 0; index < count; ++index) {
+      final int i = index * 3;
+      final double t =
+        (((double) c[i] - mean_r) * vr)
+          + (((double) c[i + 1] - mean_g) * vg)
+          + (((double) c[i + 2] - mean_b) * vb);
+      t_min = Math.min(t_min, t);
+      t_max = Math.max(t_max, t);
+    }
+
+    e[0] = mean_r + (vr * t_max);
+    e[1] = mean_g + (vg * t_max);
+    e[2] = mean_b + (vb * t_max);
+    e[3] = mean_r + (vr * t_min);
+    e[4] = mean_g + (vg * t_min);
+    e[5] = mean_b + (vb * t_min);
+  }
+
+  /**
+   * Solve for the endpoints that minimize the squared error of the current
+   * index assignment.
+   *
+   * @return {@code false} iff the system is singular
+   */
+
+  private boolean refine(
+    final int[] block,
+    final boolean three,
+    final boolean punch_through)
+  {
+    final double[] weights = three ? WEIGHTS_THREE : WEIGHTS_FOUR;
+
+    double aa = 0.0;
+    double ab = 0.0;
+    double bb = 0.0;
+    double ax_r = 0.0;
+    double ax_g = 0.0;
+    double ax_b = 0.0;
+    double bx_r = 0.0;
+    double bx_g = 0.0;
+    double bx_b = 0.0;
+
+    for (int texel = 0; texel < 16; ++texel) {
+      if (isTransparent(block, texel, punch_through)) {
+        continue;
+      }
+      final int index = (this.fit_bits >>> (texel * 2)) & 0x3;
+      final double wa = weights[index];
+      final double wb = 1.0 - wa;
+      final int i = texel * 4;
+      aa += wa * wa;
+      ab += wa * wb;
+      bb += wb * wb;
+      ax_r += wa * (double) block[i];
+      ax_g += wa * (double) block[i + 1];
+      ax_b += wa * (double) block[i + 2];
+      bx_r += wb * (double) block[i];
+      bx_g += wb * (double) block[i + 1];
+      bx_b += wb * (double) block[i + 2];
+    }
+
+    final double det = (aa * bb) - (ab * ab);
+    if (Math.abs(det) < 1.0e-8) {
+      return false;
+    }
+
+    final double f = 1.0 / det;
+    final double[] e = this.endpoints;
+    e[0] = ((ax_r * bb) - (bx_r * ab)) * f;
+    e[1] = ((ax_g * bb) - (bx_g * ab)) * f;
+    e[2] = ((ax_b * bb) - (bx_b * ab)) * f;
+    e[3] = ((bx_r * aa) - (ax_r * ab)) * f;
+    e[4] = ((bx_g * aa) - (ax_g * ab)) * f;
+    e[5] = ((bx_b * aa) - (ax_b * ab)) * f;
+    return true;
+  }
+
+  /**
+   * Order the given endpoints for the required mode, and choose an index for
+   * every texel. The results are stored in {@code fit_c0}, {@code fit_c1},
+   * and {@code fit_bits}.
+   *
+   * @return The total squared error
+   */
+
+  private long fit(
+    final int in_c0,
+    final int in_c1,
+    final boolean three,
+    final boolean fast,
+    final int[] block,
+    final boolean punch_through)
+  {
+    final int c0;
+    final int c1;
+    if (three == (in_c0 > in_c1)) {
+      c0 = in_c1;
+      c1 = in_c0;
+    } else {
+      c0 = in_c0;
+      c1 = in_c1;
+    }
+    this.fit_c0 = c0;
+    this.fit_c1 = c1;
+
+    final int[] p = this.palette;
+    expand565(c0, p, 0);
+    expand565(c1, p, 3);
+
+    final int entries;
+    if (three) {
+      for (int k = 0; k < 3; ++k) {
+        p[6 + k] = (p[k] + p[3 + k]) / 2;
+      }
+      entries = 3;
+    } else if (c0 == c1) {
+      entries = 1;
+    } else {
+      for (int k = 0; k < 3; ++k) {
+        p[6 + k] = ((2 * p[k]) + p[3 + k]) / 3;
+        p[9 + k] = (p[k] + (2 * p[3 + k])) / 3;
+      }
+      entries = 4;
+    }
+
+    final int dir_r = p[3] - p[0];
+    final int dir_g = p[4] - p[1];
+    final int dir_b = p[5] - p[2];
+    final int dir_dot = (dir_r * dir_r) + (dir_g * dir_g) + (dir_b * dir_b);
+
+    long error = 0L;
+    int bits = 0;
+    for (int texel = 0; texel < 16; ++texel) {
+      if (isTransparent(block, texel, punch_through)) {
+        bits |= 3 << (texel * 2);
+        continue;
+      }
+
+      final int i = texel * 4;
+      final int r = block[i];
+      final int g = block[i + 1];
+      final int b = block[i + 2];
+
+      int index = 0;
+      if (entries > 1) {
+        if (fast) {
+          index = projectIndex(
+            ((r - p[0]) * dir_r)
+              + ((g - p[1]) * dir_g)
+              + ((b - p[2]) * dir_b),
+            dir_dot,
+            three);
+        } else {
+          int best = Integer.MAX_VALUE;
+          for (int k = 0; k < entries; ++k) {
+            final int d = distance(p, k, r, g, b);
+            if (d < best) {
+              best = d;
+              index = k;
+            }
+          }
+        }
+      }
+
+      error += (long) distance(p, index, r, g, b);
+      bits |= index << (texel * 2);
+    }
+
+    this.fit_bits = bits;
+    return error;
+  }
+
+  private static int distance(
+    final int[] p,
+    final int k,
+    final int r,
+    final int g,
+    final int b)
+  {
+    final int o = k * 3;
+    final int dr = r - p[o];
+    final int dg = g - p[o + 1];
+    final int db = b - p[o + 2];
+    return (dr * dr) + (dg * dg) + (db * db);
+  }
+
+  private static int projectIndex(
+    final int dot,
+    final int dir_dot,
+    final boolean three)
+  {
+    if (dir_dot == 0) {
+      return 0;
+    }
+
+    final int steps = three ? 2 : 3;
+    final int s = Math.min(
+      steps,
+      Math.max(0, ((dot * steps * 2) + dir_dot) / (dir_dot * 2)));
+
+    if (three) {
+      switch (s) {
+        case 0:
+          return 0;
+        case 1:
+          return 2;
+        default:
+          return 1;
+      }
+    }
+
+    switch (s) {
+      case 0:
+        return 0;
+      case 1:
+        return 2;
+      case 2:
+        return 3;
+      default:
+        return 1;
+    }
+  }
+
+  /**
+   * Encode one component of a block as a BC4 block.
+   *
+   * @param block     The block texels
+   * @param component The index of the component
+   * @param quality   The quality preset
+   * @param out       The output buffer
+   * @param offset    The offset of the 8 byte block in {@code out}
+   */
+
+  void encodeSingle(
+    final int[] block,
+    final int component,
+    final JCGLTextureCompressionQuality quality,
+    final ByteBuffer out,
+    final int offset)
+  {
+    final int[] v = this.values;
+    int min = 255;
+    int max = 0;
+    for (int texel = 0; texel < 16; ++texel) {
+      final int x = block[(texel * 4) + component];
+      v[texel] = x;
+      min = Math.min(min, x);
+      max = Math.max(max, x);
+    }
+
+    /*
+     * Equal endpoints select six-value mode, in which index 0 is the first
+     * endpoint.
+     */
+
+    if (min == max) {
+      writeSingle(out, offset, min, min, 0L);
+      return;
+    }
+
+    switch (quality) {
+      case COMPRESSION_QUALITY_FAST: {
+        writeSingle(out, offset, max, min, projectSingle(v, min, max));
+        return;
+      }
+      case COMPRESSION_QUALITY_NORMAL: {
+        this.fitSingle(max, min);
+        writeSingle(out, offset, max, min, this.single_bits);
+        return;
+      }
+      case COMPRESSION_QUALITY_HIGH: {
+        final long error_eight = this.fitSingle(max, min);
+        final long bits_eight = this.single_bits;
+
+        int inner_min = 255;
+        int inner_max = 0;
+        for (int texel = 0; texel < 16; ++texel) {
+          final int x = v[texel];
+          if (x != 0 && x != 255) {
+            inner_min = Math.min(inner_min, x);
+            inner_max = Math.max(inner_max, x);
+          }
+        }
+        if (inner_min > inner_max) {
+          inner_min = 0;
+          inner_max = 0;
+        }
+
+        final long error_six = this.fitSingle(inner_min, inner_max);
+        if (error_six < error_eight) {
+          writeSingle(out, offset, inner_min, inner_max, this.single_bits);
+        } else {
+          writeSingle(out, offset, max, min, bits_eight);
+        }
+        return;
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private static long projectSingle(
+    final int[] v,
+    final int min,
+    final int max)
+  {
+    final int range = max - min;
+    long bits = 0L;
+    for (int texel = 0; texel < 16; ++texel) {
+      final int s = (((v[texel] - min) * 14) + range) / (range * 2);
+      final int index;
+      if (s == 7) {
+        index = 0;
+      } else if (s == 0) {
+        index = 1;
+      } else {
+        index = 8 - s;
+      }
+      bits |= (long) index << (texel * 3);
+    }
+    return bits;
+  }
+
+  /**
+   * Choose an index for every value given a pair of endpoints; the mode is
+   * implied by their order. The indices are stored in {@code single_bits}.
+   *
+   * @return The total squared error
+   */
+
+  private long fitSingle(
+    final int a0,
+    final int a1)
+  {
+    final int[] p = this.levels;
+    p[0] = a0;
+    p[1] = a1;
+    if (a0 > a1) {
+      for (int k = 2; k < 8; ++k) {
+        p[k] = (((8 - k) * a0) + ((k - 1) * a1) + 3) / 7;
+      }
+    } else {
+      for (int k = 2; k < 6; ++k) {
+        p[k] = (((6 - k) * a0) + ((k - 1) * a1) + 2) / 5;
+      }
+      p[6] = 0;
+      p[7] = 255;
+    }
+
+    long error = 0L;
+    long bits = 0L;
+    for (int texel = 0; texel < 16; ++texel) {
+      final int x = this.values[texel];
+      int best = Integer.MAX_VALUE;
+      int index = 0;
+      for (int k = 0; k < 8; ++k) {
+        final int d = Math.abs(x - p[k]);
+        if (d < best) {
+          best = d;
+          index = k;
+        }
+      }
+      error += (long) (best * best);
+      bits |= (long) index << (texel * 3);
+    }
+
+    this.single_bits = bits;
+    return error;
+  }
+
+  private static void writeSingle(
+    final ByteBuffer out,
+    final int offset,
+    final int a0,
+    final int a1,
+    final long bits)
+  {
+    out.put(offset, (byte) a0);
+    out.put(offset + 1, (byte) a1);
+    for (int k = 0; k < 6; ++k) {
+      out.put(offset + 2 + k, (byte) ((bits >>> (k * 8)) & 0xffL));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.compressor;
+
+/**
+ * Quality presets for block compression. Higher quality presets spend more
+ * time searching for the endpoints of each block, and produce lower error.
+ *
+ * @since 0.62.0
+ */
+
+public enum JCGLTextureCompressionQuality
+{
+  /**
+   * Endpoints are taken from the bounding box of the block's values, and
+   * values are assigned to the nearest palette entries arithmetically. This
+   * is suitable for textures that are generated at run-time.
+   */
+
+  COMPRESSION_QUALITY_FAST,
+
+  /**
+   * Color endpoints are taken from the principal axis of the block's colors,
+   * and every value is matched against every palette entry.
+   */
+
+  COMPRESSION_QUALITY_NORMAL,
+
+  /**
+   * As {@link #COMPRESSION_QUALITY_NORMAL}, but color endpoints are
+   * additionally refined by least-squares fitting, and single-channel blocks
+   * try both interpolation modes and keep the one with the lowest error.
+   */
+
+  COMPRESSION_QUALITY_HIGH
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.compressor;
+
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jcanephora.core.JCGLTextureUpdates;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>The default implementation of the {@link JCGLTextureCompressorType}
+ * interface.</p>
+ *
+ * <p>The source data is first read into an array of 8-bit components by the
+ * calling thread. The rows of blocks are then split recursively into tiles
+ * that are encoded in parallel, each tile writing its blocks directly into
+ * the output buffer. Texels beyond the right and bottom edges of images whose
+ * sizes are not multiples of four are replicated from the nearest edge.</p>
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLTextureCompressor implements JCGLTextureCompressorType
+{
+  /**
+   * The approximate number of blocks encoded by a single task.
+   */
+
+  private static final int TASK_BLOCKS = 256;
+
+  private final ForkJoinPool pool;
+
+  private JCGLTextureCompressor(
+    final ForkJoinPool in_pool)
+  {
+    this.pool = NullCheck.notNull(in_pool, "Pool");
+  }
+
+  /**
+   * Create a new texture compressor that executes work on the given pool.
+   *
+   * @param in_pool The pool
+   *
+   * @return A new texture compressor
+   */
+
+  public static JCGLTextureCompressorType create(
+    final ForkJoinPool in_pool)
+  {
+    return new JCGLTextureCompressor(in_pool);
+  }
+
+  /**
+   * Create a new texture compressor that executes work on the common pool.
+   *
+   * @return A new texture compressor
+   *
+   * @see ForkJoinPool#commonPool()
+   */
+
+  public static JCGLTextureCompressorType create()
+  {
+    return create(ForkJoinPool.commonPool());
+  }
+
+  private static Encoding encoding(
+    final JCGLTextureFormat format)
+  {
+    switch (format) {
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+        return Encoding.ENCODING_BC1_RGB;
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+        return Encoding.ENCODING_BC1_RGBA;
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+        return Encoding.ENCODING_BC3;
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+        return Encoding.ENCODING_BC4;
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+        return Encoding.ENCODING_BC5;
+
+      case TEXTURE_FORMAT_DEPTH_16_2BPP:
+      case TEXTURE_FORMAT_DEPTH_24_4BPP:
+      case TEXTURE_FORMAT_DEPTH_24_STENCIL_8_4BPP:
+      case TEXTURE_FORMAT_DEPTH_32F_4BPP:
+      case TEXTURE_FORMAT_R_16_2BPP:
+      case TEXTURE_FORMAT_R_16F_2BPP:
+      case TEXTURE_FORMAT_R_16I_2BPP:
+      case TEXTURE_FORMAT_R_16U_2BPP:
+      case TEXTURE_FORMAT_R_32F_4BPP:
+      case TEXTURE_FORMAT_R_32I_4BPP:
+      case TEXTURE_FORMAT_R_32U_4BPP:
+      case TEXTURE_FORMAT_R_8_1BPP:
+      case TEXTURE_FORMAT_R_8I_1BPP:
+      case TEXTURE_FORMAT_R_8U_1BPP:
+      case TEXTURE_FORMAT_RG_16_4BPP:
+      case TEXTURE_FORMAT_RG_16F_4BPP:
+      case TEXTURE_FORMAT_RG_16I_4BPP:
+      case TEXTURE_FORMAT_RG_16U_4BPP:
+      case TEXTURE_FORMAT_RG_32F_8BPP:
+      case TEXTURE_FORMAT_RG_32I_8BPP:
+      case TEXTURE_FORMAT_RG_32U_8BPP:
+      case TEXTURE_FORMAT_RG_8_2BPP:
+      case TEXTURE_FORMAT_RG_8I_2BPP:
+      case TEXTURE_FORMAT_RG_8U_2BPP:
+      case TEXTURE_FORMAT_RGB_16_6BPP:
+      case TEXTURE_FORMAT_RGB_16F_6BPP:
+      case TEXTURE_FORMAT_RGB_16I_6BPP:
+      case TEXTURE_FORMAT_RGB_16U_6BPP:
+      case TEXTURE_FORMAT_RGB_32F_12BPP:
+      case TEXTURE_FORMAT_RGB_32I_12BPP:
+      case TEXTURE_FORMAT_RGB_32U_12BPP:
+      case TEXTURE_FORMAT_RGB_8_3BPP:
+      case TEXTURE_FORMAT_RGB_8I_3BPP:
+      case TEXTURE_FORMAT_RGB_8U_3BPP:
+      case TEXTURE_FORMAT_RGBA_1010102_4BPP:
+      case TEXTURE_FORMAT_RGBA_16_8BPP:
+      case TEXTURE_FORMAT_RGBA_16F_8BPP:
+      case TEXTURE_FORMAT_RGBA_16I_8BPP:
+      case TEXTURE_FORMAT_RGBA_16U_8BPP:
+      case TEXTURE_FORMAT_RGBA_32F_16BPP:
+      case TEXTURE_FORMAT_RGBA_32I_16BPP:
+      case TEXTURE_FORMAT_RGBA_32U_16BPP:
+      case TEXTURE_FORMAT_RGBA_8_4BPP:
+      case TEXTURE_FORMAT_RGBA_8I_4BPP:
+      case TEXTURE_FORMAT_RGBA_8U_4BPP:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
+        return Encoding.ENCODING_UNSUPPORTED;
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private static Encoding checkEncoding(
+    final JCGLTextureFormat format)
+    throws JCGLExceptionFormatError
+  {
+    final Encoding e = encoding(format);
+    if (e == Encoding.ENCODING_UNSUPPORTED) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Texture data cannot be compressed into the given format.");
+      sb.append(System.lineSeparator());
+      sb.append("Format: ");
+      sb.append(format);
+      sb.append(System.lineSeparator());
+      throw new JCGLExceptionFormatError(sb.toString());
+    }
+    return e;
+  }
+
+  private static void checkSize(
+    final AreaSizeL size,
+    final JCGLTLTextureDataType data)
+  {
+    if (data.width() != size.width() || data.height() != size.height()) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Texture data size must match the level size.");
+      sb.append(System.lineSeparator());
+      sb.append("  Level size: ");
+      sb.append(size.width());
+      sb.append("x");
+      sb.append(size.height());
+      sb.append(System.lineSeparator());
+      sb.append("  Data size:  ");
+      sb.append(data.width());
+      sb.append("x");
+      sb.append(data.height());
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+  }
+
+  private static int quantize(
+    final double x)
+  {
+    return (int) ((Math.min(1.0, Math.max(0.0, x)) * 255.0) + 0.5);
+  }
+
+  /**
+   * Read the source data, flipping it vertically so that the first row of the
+   * result is the bottom row of the image.
+   */
+
+  private static byte[] read(
+    final JCGLTLTextureDataType data,
+    final int width,
+    final int height)
+  {
+    final byte[] texels = new byte[width * height * 4];
+    final VectorMutable4D v = new VectorMutable4D();
+    for (int y = 0; y < height; ++y) {
+      final int row = (height - 1) - y;
+      for (int x = 0; x < width; ++x) {
+        data.pixel(x, y, v);
+        final int i = ((row * width) + x) * 4;
+        texels[i] = (byte) quantize(v.x());
+        texels[i + 1] = (byte) quantize(v.y());
+        texels[i + 2] = (byte) quantize(v.z());
+        texels[i + 3] = (byte) quantize(v.w());
+      }
+    }
+    return texels;
+  }
+
+  @Override
+  public boolean compressorSupportsFormat(
+    final JCGLTextureFormat format)
+  {
+    NullCheck.notNull(format, "Format");
+    return encoding(format) != Encoding.ENCODING_UNSUPPORTED;
+  }
+
+  @Override
+  public ByteBuffer compressImage(
+    final JCGLTextureFormat format,
+    final JCGLTLTextureDataType data,
+    final JCGLTextureCompressionQuality quality)
+    throws JCGLExceptionFormatError
+  {
+    NullCheck.notNull(format, "Format");
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(quality, "Quality");
+
+    final Encoding e = checkEncoding(format);
+    final long size =
+      JCGLTextureFormats.imageSizeBytes(format, data.width(), data.height());
+    final ByteBuffer out =
+      ByteBuffer.allocateDirect(Math.toIntExact(size))
+        .order(ByteOrder.nativeOrder());
+    this.compress(e, data, quality, out);
+    return out;
+  }
+
+  @Override
+  public JCGLTexture2DUpdateType compress2D(
+    final JCGLTexture2DUsableType t,
+    final int level,
+    final JCGLTLTextureDataType data,
+    final JCGLTextureCompressionQuality quality)
+    throws RangeCheckException, JCGLExceptionFormatError
+  {
+    NullCheck.notNull(t, "Texture");
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(quality, "Quality");
+
+    final Encoding e = checkEncoding(t.format());
+    checkSize(JCGLTextureMipmaps.levelSize(t, level), data);
+
+    final JCGLTexture2DUpdateType u =
+      JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(t, level);
+    this.compress(e, data, quality, u.data());
+    return u;
+  }
+
+  private void compress(
+    final Encoding e,
+    final JCGLTLTextureDataType data,
+    final JCGLTextureCompressionQuality quality,
+    final ByteBuffer out)
+  {
+    final int width = Math.toIntExact(data.width());
+    final int height = Math.toIntExact(data.height());
+    final byte[] texels = read(data, width, height);
+    final int blocks_x = (width + 3) / 4;
+    final int blocks_y = (height + 3) / 4;
+
+    this.pool.invoke(new TilesTask(
+      new Image(e, quality, texels, width, height, blocks_x, out),
+      0,
+      blocks_y,
+      Math.max(1, TASK_BLOCKS / blocks_x)));
+  }
+
+  private enum Encoding
+  {
+    ENCODING_BC1_RGB(8),
+    ENCODING_BC1_RGBA(8),
+    ENCODING_BC3(16),
+    ENCODING_BC4(8),
+    ENCODING_BC5(16),
+    ENCODING_UNSUPPORTED(0);
+
+    private final int block_bytes;
+
+    Encoding(
+      final int in_block_bytes)
+    {
+      this.block_bytes = in_block_bytes;
+    }
+  }
+
+  /**
+   * The state shared by every tile of an image.
+   */
+
+  private static final class Image
+  {
+    private final Encoding encoding;
+    private final JCGLTextureCompressionQuality quality;
+    private final byte[] texels;
+    private final int width;
+    private final int height;
+    private final int blocks_x;
+    private final ByteBuffer out;
+
+    Image(
+      final Encoding in_encoding,
+      final JCGLTextureCompressionQuality in_quality,
+      final byte[] in_texels,
+      final int in_width,
+      final int in_height,
+      final int in_blocks_x,
+      final ByteBuffer in_out)
+    {
+      this.encoding = in_encoding;
+      this.quality = in_quality;
+      this.texels = in_texels;
+      this.width = in_width;
+      this.height = in_height;
+      this.blocks_x = in_blocks_x;
+      this.out = in_out;
+    }
+
+    void gather(
+      final int bx,
+      final int by,
+      final int[] block)
+    {
+      for (int py = 0; py < 4; ++py) {
+        final int y = Math.min((by * 4) + py, this.height - 1);
+        for (int px = 0; px < 4; ++px) {
+          final int x = Math.min((bx * 4) + px, this.width - 1);
+          final int i = ((y * this.width) + x) * 4;
+          final int o = ((py * 4) + px) * 4;
+          block[o] = this.texels[i] & 0xff;
+          block[o + 1] = this.texels[i + 1] & 0xff;
+          block[o + 2] = this.texels[i + 2] & 0xff;
+          block[o + 3] = this.texels[i + 3] & 0xff;
+        }
+      }
+    }
+
+    /**
+     * Encode the rows of blocks {@code [by_min, by_max)}. Blocks are written
+     * with absolute puts, so tiles never share any mutable buffer state.
+     */
+
+    void encode(
+      final int by_min,
+      final int by_max)
+    {
+      final JCGLTextureBlockEncoder encoder = new JCGLTextureBlockEncoder();
+      final int[] block = new int[16 * 4];
+      final int size = this.encoding.block_bytes;
+
+      for (int by = by_min; by < by_max; ++by) {
+        for (int bx = 0; bx < this.blocks_x; ++bx) {
+          this.gather(bx, by, block);
+          final int offset = ((by * this.blocks_x) + bx) * size;
+
+          switch (this.encoding) {
+            case ENCODING_BC1_RGB: {
+              encoder.encodeColor(block, false, this.quality, this.out, offset);
+              break;
+            }
+            case ENCODING_BC1_RGBA: {
+              encoder.encodeColor(block, true, this.quality, this.out, offset);
+              break;
+            }
+            case ENCODING_BC3: {
+              encoder.encodeSingle(block, 3, this.quality, this.out, offset);
+              encoder.encodeColor(
+                block, false, this.quality, this.out, offset + 8);
+              break;
+            }
+            case ENCODING_BC4: {
+              encoder.encodeSingle(block, 0, this.quality, this.out, offset);
+              break;
+            }
+            case ENCODING_BC5: {
+              encoder.encodeSingle(block, 0, this.quality, this.out, offset);
+              encoder.encodeSingle(
+                block, 1, this.quality, this.out, offset + 8);
+              break;
+            }
+            case ENCODING_UNSUPPORTED: {
+              throw new UnreachableCodeException();
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static final class TilesTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Image image;
+    private final int by_min;
+    private final int by_max;
+    private final int grain;
+
+    TilesTask(
+      final Image in_image,
+      final int in_by_min,
+      final int in_by_max,
+      final int in_grain)
+    {
+      this.image = in_image;
+      this.by_min = in_by_min;
+      this.by_max = in_by_max;
+      this.grain = in_grain;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (this.by_max - this.by_min <= this.grain) {
+        this.image.encode(this.by_min, this.by_max);
+        return;
+      }
+
+      final int by_mid = this.by_min + ((this.by_max - this.by_min) / 2);
+      invokeAll(
+        new TilesTask(this.image, this.by_min, by_mid, this.grain),
+        new TilesTask(this.image, by_mid, this.by_max, this.grain));
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.compressor;
+
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLTexture2DType;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.texture.loader.core.JCGLTLTextureDataType;
+import com.io7m.jranges.RangeCheckException;
+import net.jcip.annotations.ThreadSafe;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiFunction;
+
+/**
+ * <p>The type of texture compressors.</p>
+ *
+ * <p>A texture compressor encodes uncompressed texture data into one of the
+ * block-compressed formats on the CPU, so that textures that are not
+ * compressed offline can still be stored compressed on the GPU. The image is
+ * divided into tiles of whole 4x4 blocks, and the tiles are encoded in
+ * parallel. The following formats are supported:</p>
+ *
+ * <ul>
+ * <li>{@link JCGLTextureFormat#TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB} (BC1)</li>
+ * <li>{@link JCGLTextureFormat#TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB} (BC1 with
+ * one-bit alpha)</li>
+ * <li>{@link JCGLTextureFormat#TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB}
+ * (BC3)</li>
+ * <li>{@link JCGLTextureFormat#TEXTURE_FORMAT_RGTC1_R_8BPB} (BC4)</li>
+ * <li>{@link JCGLTextureFormat#TEXTURE_FORMAT_RGTC2_RG_16BPB} (BC5)</li>
+ * </ul>
+ *
+ * <p>Implementations are required to be thread-safe in the sense that they
+ * must be able to accept requests from arbitrary threads.</p>
+ *
+ * @since 0.62.0
+ */
+
+@ThreadSafe
+public interface JCGLTextureCompressorType
+{
+  /**
+   * @param format A texture format
+   *
+   * @return {@code true} iff the compressor can encode data in {@code format}
+   */
+
+  boolean compressorSupportsFormat(JCGLTextureFormat format);
+
+  /**
+   * <p>Compress {@code data} into a new buffer in the given format. The
+   * returned buffer is a direct buffer of exactly {@link
+   * com.io7m.jcanephora.core.JCGLTextureFormats#imageSizeBytes(JCGLTextureFormat,
+   * long, long)} bytes, with blocks in the order expected by OpenGL; that is,
+   * the first row of {@code data} is stored in the last row of blocks.</p>
+   *
+   * <p>The texture data is read by a single thread at a time.</p>
+   *
+   * @param format  The compressed format
+   * @param data    The texture data
+   * @param quality The quality preset
+   *
+   * @return The compressed image
+   *
+   * @throws JCGLExceptionFormatError Iff the compressor does not support
+   *                                  {@code format}
+   */
+
+  ByteBuffer compressImage(
+    JCGLTextureFormat format,
+    JCGLTLTextureDataType data,
+    JCGLTextureCompressionQuality quality)
+    throws JCGLExceptionFormatError;
+
+  /**
+   * <p>Compress {@code data} into an update that replaces mipmap level
+   * {@code level} of {@code t}, suitable for {@link
+   * com.io7m.jcanephora.core.api.JCGLTextures2DType#texture2DUpdateMipmapLevel(com.io7m.jcanephora.core.JCGLTextureUnitType,
+   * int, JCGLTexture2DUpdateType)}. The blocks are written directly into the
+   * storage of the update.</p>
+   *
+   * <p>The texture is used only for its size and format; no OpenGL functions
+   * are called, and so this function may be called from any thread.</p>
+   *
+   * @param t       The texture
+   * @param level   The mipmap level
+   * @param data    The texture data for the level
+   * @param quality The quality preset
+   *
+   * @return An update for the level
+   *
+   * @throws RangeCheckException      Iff {@code level} is not a level of
+   *                                  {@code t}, or the size of {@code data}
+   *                                  is not equal to the size of the level
+   * @throws JCGLExceptionFormatError Iff the compressor does not support the
+   *                                  format of {@code t}
+   */
+
+  JCGLTexture2DUpdateType compress2D(
+    JCGLTexture2DUsableType t,
+    int level,
+    JCGLTLTextureDataType data,
+    JCGLTextureCompressionQuality quality)
+    throws RangeCheckException, JCGLExceptionFormatError;
+
+  /**
+   * Compress {@code data} into an update that replaces level {@code 0} of
+   * {@code t}.
+   *
+   * @param t       The texture
+   * @param data    The texture data
+   * @param quality The quality preset
+   *
+   * @return An update for the texture
+   *
+   * @throws RangeCheckException      Iff the size of {@code data} is not
+   *                                  equal to the size of {@code t}
+   * @throws JCGLExceptionFormatError Iff the compressor does not support the
+   *                                  format of {@code t}
+   *
+   * @see #compress2D(JCGLTexture2DUsableType, int, JCGLTLTextureDataType,
+   * JCGLTextureCompressionQuality)
+   */
+
+  default JCGLTexture2DUpdateType compress2D(
+    final JCGLTexture2DUsableType t,
+    final JCGLTLTextureDataType data,
+    final JCGLTextureCompressionQuality quality)
+    throws RangeCheckException, JCGLExceptionFormatError
+  {
+    return this.compress2D(t, 0, data, quality);
+  }
+
+  /**
+   * Return a function that compresses texture data into an update for level
+   * {@code 0} of a texture. The function can be passed as the population
+   * stage of {@code JCGLAsyncResourceLoaderType#loadTexture}, in which case
+   * the texture must be allocated with a format supported by the compressor,
+   * and compression takes place on the loader's worker threads.
+   *
+   * @param quality The quality preset
+   *
+   * @return A population function
+   */
+
+  default BiFunction<JCGLTexture2DType, JCGLTLTextureDataType,
+    JCGLTexture2DUpdateType> populator(
+    final JCGLTextureCompressionQuality quality)
+  {
+    return (t, data) -> this.compress2D(t, 0, data, quality);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.texture.loader.core;
+
+/**
+ * The color spaces in which the color channels of texture data can be
+ * encoded.
+ *
+ * @since 0.62.0
+ */
+
+public enum JCGLTLMipmapColorSpace
+{
+  /**
+   * The color channels hold linear values, and are filtered directly. This
+   * is always the case for floating point formats.
+   */
+
+  MIPMAP_COLOR_SPACE_LINEAR,
+
+  /**
+   * The color channels are sRGB-encoded, as is the case for almost all
+   * images produced by image editors. Color channels are converted to linear
+   * values before filtering and are converted back afterwards, so that the
+   * apparent brightness of the image does not change from level to level.
+   * The alpha channel is always filtered directly.
+   */
+
+  MIPMAP_COLOR_SPACE_SRGB
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.texture.loader.core;
+
+/**
+ * The filters that can be used to downsample images when generating mipmaps.
+ *
+ * @since 0.62.0
+ */
+
+public enum JCGLTLMipmapFilter
+{
+  /**
+   * A box filter: each texel of a level is the unweighted average of the
+   * texels that it covers in the previous level. This is cheap, and matches
+   * what most implementations of {@code glGenerateMipmap} produce.
+   */
+
+  MIPMAP_FILTER_BOX,
+
+  /**
+   * A Kaiser-windowed sinc filter. This preserves more detail than a box
+   * filter at the cost of a wider kernel, and can produce slight ringing
+   * around hard edges. Results are clamped to the range of the target format.
+   */
+
+  MIPMAP_FILTER_KAISER
+}
@@ -0,0 +1,739 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.texture.loader.core;
+
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jcanephora.core.JCGLTextureUpdates;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import com.io7m.jtensors.storage.heap.VectorMutable4D;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>The default implementation of the {@link JCGLTLMipmapGeneratorType}
+ * interface.</p>
+ *
+ * <p>Levels are produced one after another, each from the previous level,
+ * using separable filters. The rows of each level are filtered in parallel,
+ * and each level is encoded into the texture's format as a separate task as
+ * soon as it has been produced, so encoding overlaps with the filtering of
+ * the following levels.</p>
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLTLMipmapGenerator implements JCGLTLMipmapGeneratorType
+{
+  /**
+   * The approximate number of texels processed by a single task.
+   */
+
+  private static final int TASK_TEXELS = 16384;
+
+  private static final double KAISER_ALPHA = 4.0;
+  private static final double KAISER_RADIUS = 3.0;
+  private static final double KAISER_I0_ALPHA = besselI0(KAISER_ALPHA);
+
+  private final ForkJoinPool pool;
+
+  private JCGLTLMipmapGenerator(
+    final ForkJoinPool in_pool)
+  {
+    this.pool = NullCheck.notNull(in_pool, "Pool");
+  }
+
+  /**
+   * Create a new mipmap generator that executes work on the given pool.
+   *
+   * @param in_pool The pool
+   *
+   * @return A new mipmap generator
+   */
+
+  public static JCGLTLMipmapGeneratorType create(
+    final ForkJoinPool in_pool)
+  {
+    return new JCGLTLMipmapGenerator(in_pool);
+  }
+
+  /**
+   * Create a new mipmap generator that executes work on the common pool.
+   *
+   * @return A new mipmap generator
+   *
+   * @see ForkJoinPool#commonPool()
+   */
+
+  public static JCGLTLMipmapGeneratorType create()
+  {
+    return create(ForkJoinPool.commonPool());
+  }
+
+  private static Channels channels(
+    final JCGLTextureFormat format)
+  {
+    switch (format) {
+      case TEXTURE_FORMAT_DEPTH_16_2BPP:
+      case TEXTURE_FORMAT_DEPTH_24_STENCIL_8_4BPP:
+      case TEXTURE_FORMAT_DEPTH_32F_4BPP:
+        return Channels.CHANNELS_DEPTH;
+
+      case TEXTURE_FORMAT_R_16F_2BPP:
+      case TEXTURE_FORMAT_R_32F_4BPP:
+      case TEXTURE_FORMAT_RG_16F_4BPP:
+      case TEXTURE_FORMAT_RG_32F_8BPP:
+      case TEXTURE_FORMAT_RGB_16F_6BPP:
+      case TEXTURE_FORMAT_RGB_32F_12BPP:
+      case TEXTURE_FORMAT_RGBA_16F_8BPP:
+      case TEXTURE_FORMAT_RGBA_32F_16BPP:
+        return Channels.CHANNELS_COLOR_FLOAT;
+
+      case TEXTURE_FORMAT_R_16_2BPP:
+      case TEXTURE_FORMAT_R_8_1BPP:
+      case TEXTURE_FORMAT_RG_16_4BPP:
+      case TEXTURE_FORMAT_RG_8_2BPP:
+      case TEXTURE_FORMAT_RGB_16_6BPP:
+      case TEXTURE_FORMAT_RGBA_16_8BPP:
+        return Channels.CHANNELS_COLOR_LINEAR;
+
+      case TEXTURE_FORMAT_RGB_8_3BPP:
+      case TEXTURE_FORMAT_RGBA_8_4BPP:
+        return Channels.CHANNELS_COLOR_SRGB;
+
+      case TEXTURE_FORMAT_R_32I_4BPP:
+      case TEXTURE_FORMAT_R_32U_4BPP:
+      case TEXTURE_FORMAT_R_16I_2BPP:
+      case TEXTURE_FORMAT_R_16U_2BPP:
+      case TEXTURE_FORMAT_R_8I_1BPP:
+      case TEXTURE_FORMAT_R_8U_1BPP:
+      case TEXTURE_FORMAT_RG_16I_4BPP:
+      case TEXTURE_FORMAT_RG_16U_4BPP:
+      case TEXTURE_FORMAT_RG_32I_8BPP:
+      case TEXTURE_FORMAT_RG_32U_8BPP:
+      case TEXTURE_FORMAT_RG_8I_2BPP:
+      case TEXTURE_FORMAT_RG_8U_2BPP:
+      case TEXTURE_FORMAT_RGB_16I_6BPP:
+      case TEXTURE_FORMAT_RGB_16U_6BPP:
+      case TEXTURE_FORMAT_RGB_32I_12BPP:
+      case TEXTURE_FORMAT_RGB_32U_12BPP:
+      case TEXTURE_FORMAT_RGB_8I_3BPP:
+      case TEXTURE_FORMAT_RGB_8U_3BPP:
+      case TEXTURE_FORMAT_RGBA_1010102_4BPP:
+      case TEXTURE_FORMAT_RGBA_16I_8BPP:
+      case TEXTURE_FORMAT_RGBA_16U_8BPP:
+      case TEXTURE_FORMAT_RGBA_32I_16BPP:
+      case TEXTURE_FORMAT_RGBA_32U_16BPP:
+      case TEXTURE_FORMAT_RGBA_8I_4BPP:
+      case TEXTURE_FORMAT_RGBA_8U_4BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_DEPTH_24_4BPP: {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Mipmaps cannot be generated for the given format.");
+        sb.append(System.lineSeparator());
+        sb.append("Format: ");
+        sb.append(format);
+        sb.append(System.lineSeparator());
+        throw new JCGLExceptionFormatError(sb.toString());
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private static double besselI0(
+    final double x)
+  {
+    final double q = (x * x) / 4.0;
+    double sum = 1.0;
+    double term = 1.0;
+    for (int k = 1; k < 64; ++k) {
+      term = (term * q) / (double) (k * k);
+      sum += term;
+      if (term < sum * 1.0e-12) {
+        break;
+      }
+    }
+    return sum;
+  }
+
+  private static double radius(
+    final JCGLTLMipmapFilter filter)
+  {
+    switch (filter) {
+      case MIPMAP_FILTER_BOX:
+        return 0.5;
+      case MIPMAP_FILTER_KAISER:
+        return KAISER_RADIUS;
+    }
+    throw new UnreachableCodeException();
+  }
+
+  private static double weight(
+    final JCGLTLMipmapFilter filter,
+    final double t)
+  {
+    final double at = Math.abs(t);
+    switch (filter) {
+      case MIPMAP_FILTER_BOX: {
+        if (at < 0.5) {
+          return 1.0;
+        }
+        return at == 0.5 ? 0.5 : 0.0;
+      }
+      case MIPMAP_FILTER_KAISER: {
+        if (at >= KAISER_RADIUS) {
+          return 0.0;
+        }
+        final double sinc;
+        if (at == 0.0) {
+          sinc = 1.0;
+        } else {
+          final double pt = Math.PI * at;
+          sinc = Math.sin(pt) / pt;
+        }
+        final double r = at / KAISER_RADIUS;
+        final double window =
+          besselI0(KAISER_ALPHA * Math.sqrt(1.0 - (r * r))) / KAISER_I0_ALPHA;
+        return sinc * window;
+      }
+    }
+    throw new UnreachableCodeException();
+  }
+
+  private static double srgbDecode(
+    final double c)
+  {
+    if (c <= 0.04045) {
+      return c / 12.92;
+    }
+    return Math.pow((c + 0.055) / 1.055, 2.4);
+  }
+
+  private static double srgbEncode(
+    final double c)
+  {
+    if (c <= 0.0031308) {
+      return Math.max(0.0, c) * 12.92;
+    }
+    return (1.055 * Math.pow(c, 1.0 / 2.4)) - 0.055;
+  }
+
+  private static boolean gammaCorrect(
+    final JCGLTextureFormat format,
+    final Channels channels,
+    final JCGLTLMipmapParametersType parameters)
+  {
+    final boolean default_srgb = channels == Channels.CHANNELS_COLOR_SRGB;
+    if (!parameters.colorSpace().isPresent()) {
+      return default_srgb;
+    }
+
+    switch (parameters.colorSpace().get()) {
+      case MIPMAP_COLOR_SPACE_LINEAR:
+        return false;
+      case MIPMAP_COLOR_SPACE_SRGB: {
+        switch (channels) {
+          case CHANNELS_COLOR_LINEAR:
+          case CHANNELS_COLOR_SRGB:
+            return true;
+          case CHANNELS_COLOR_FLOAT:
+          case CHANNELS_DEPTH: {
+            final StringBuilder sb = new StringBuilder(128);
+            sb.append("The given format cannot hold sRGB-encoded data.");
+            sb.append(System.lineSeparator());
+            sb.append("Format: ");
+            sb.append(format);
+            sb.append(System.lineSeparator());
+            throw new JCGLExceptionFormatError(sb.toString());
+          }
+        }
+        throw new UnreachableCodeException();
+      }
+    }
+
+    throw new UnreachableCodeException();
+  }
+
+  private static int grain(
+    final int width)
+  {
+    return Math.max(1, TASK_TEXELS / Math.max(1, width));
+  }
+
+  private static void checkSize(
+    final JCGLTexture2DUsableType t,
+    final JCGLTLTextureDataType data)
+  {
+    if (data.width() != t.width() || data.height() != t.height()) {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Texture data size must match the texture size.");
+      sb.append(System.lineSeparator());
+      sb.append("  Texture size: ");
+      sb.append(t.width());
+      sb.append("x");
+      sb.append(t.height());
+      sb.append(System.lineSeparator());
+      sb.append("  Data size:    ");
+      sb.append(data.width());
+      sb.append("x");
+      sb.append(data.height());
+      sb.append(System.lineSeparator());
+      throw new RangeCheckException(sb.toString());
+    }
+  }
+
+  @Override
+  public List<JCGLTexture2DUpdateType> generateMipmaps2D(
+    final JCGLTexture2DUsableType t,
+    final JCGLTLTextureDataType data,
+    final JCGLTLMipmapParametersType parameters)
+    throws RangeCheckException, JCGLExceptionFormatError
+  {
+    NullCheck.notNull(t, "Texture");
+    NullCheck.notNull(data, "Data");
+    NullCheck.notNull(parameters, "Parameters");
+
+    final Channels channels = channels(t.format());
+    checkSize(t, data);
+
+    final boolean gamma = gammaCorrect(t.format(), channels, parameters);
+    final boolean clamp = !JCGLTextureFormats.isFloatingPoint(t.format());
+
+    final JCGLTexture2DUpdateType[] updates =
+      new JCGLTexture2DUpdateType[JCGLTextureMipmaps.levelCount(t)];
+
+    this.pool.invoke(new GenerateTask(
+      t, data, parameters.filter(), gamma, clamp, updates));
+    return Collections.unmodifiableList(Arrays.asList(updates));
+  }
+
+  private enum Channels
+  {
+    CHANNELS_COLOR_FLOAT,
+    CHANNELS_COLOR_LINEAR,
+    CHANNELS_COLOR_SRGB,
+    CHANNELS_DEPTH
+  }
+
+  private interface RowOperationType
+  {
+    void apply(
+      int y_min,
+      int y_max);
+  }
+
+  /**
+   * A level of the chain, held as linear RGBA values.
+   */
+
+  private static final class Level implements JCGLTLTextureDataType
+  {
+    private final int width;
+    private final int height;
+    private final float[] texels;
+    private final boolean premultiplied;
+    private final boolean gamma;
+    private final boolean clamp;
+
+    Level(
+      final int in_width,
+      final int in_height,
+      final float[] in_texels,
+      final boolean in_premultiplied,
+      final boolean in_gamma,
+      final boolean in_clamp)
+    {
+      this.width = in_width;
+      this.height = in_height;
+      this.texels = in_texels;
+      this.premultiplied = in_premultiplied;
+      this.gamma = in_gamma;
+      this.clamp = in_clamp;
+    }
+
+    private double encodeColor(
+      final float c)
+    {
+      final double e = this.gamma ? srgbEncode((double) c) : (double) c;
+      return this.clamp ? Math.min(1.0, Math.max(0.0, e)) : e;
+    }
+
+    private double encodeAlpha(
+      final float c)
+    {
+      return this.clamp ? Math.min(1.0, Math.max(0.0, (double) c)) : c;
+    }
+
+    @Override
+    public boolean isPremultipliedAlpha()
+    {
+      return this.premultiplied;
+    }
+
+    @Override
+    public long width()
+    {
+      return (long) this.width;
+    }
+
+    @Override
+    public long height()
+    {
+      return (long) this.height;
+    }
+
+    @Override
+    public void pixel(
+      final int x,
+      final int y,
+      final VectorMutable4D v)
+    {
+      final int i = ((y * this.width) + x) * 4;
+      v.setXYZW(
+        this.encodeColor(this.texels[i]),
+        this.encodeColor(this.texels[i + 1]),
+        this.encodeColor(this.texels[i + 2]),
+        this.encodeAlpha(this.texels[i + 3]));
+    }
+  }
+
+  /**
+   * The taps of a one-dimensional filter for every output position.
+   */
+
+  private static final class Kernel
+  {
+    private final int[] offsets;
+    private final int[] indices;
+    private final float[] weights;
+
+    private Kernel(
+      final int[] in_offsets,
+      final int[] in_indices,
+      final float[] in_weights)
+    {
+      this.offsets = in_offsets;
+      this.indices = in_indices;
+      this.weights = in_weights;
+    }
+
+    static Kernel create(
+      final JCGLTLMipmapFilter filter,
+      final int source,
+      final int target)
+    {
+      final int[] offsets = new int[target + 1];
+
+      if (source == target) {
+        final int[] indices = new int[target];
+        final float[] weights = new float[target];
+        for (int i = 0; i < target; ++i) {
+          offsets[i] = i;
+          indices[i] = i;
+          weights[i] = 1.0f;
+        }
+        offsets[target] = target;
+        return new Kernel(offsets, indices, weights);
+      }
+
+      final double scale = (double) source / (double) target;
+      final double support = radius(filter) * scale;
+      final List<Integer> indices = new ArrayList<>(target * 8);
+      final List<Float> weights = new ArrayList<>(target * 8);
+
+      for (int i = 0; i < target; ++i) {
+        offsets[i] = indices.size();
+
+        final double center = ((double) i + 0.5) * scale;
+        final int lo = (int) Math.floor(center - support);
+        final int hi = (int) Math.ceil(center + support);
+
+        final int first = indices.size();
+        double sum = 0.0;
+        for (int j = lo; j <= hi; ++j) {
+          final double w =
+            weight(filter, (((double) j + 0.5) - center) / scale);
+          if (w != 0.0) {
+            indices.add(Integer.valueOf(Math.min(source - 1, Math.max(0, j))));
+            weights.add(Float.valueOf((float) w));
+            sum += w;
+          }
+        }
+
+        for (int k = first; k < weights.size(); ++k) {
+          weights.set(
+            k, Float.valueOf((float) (weights.get(k).doubleValue() / sum)));
+        }
+      }
+      offsets[target] = indices.size();
+
+      final int[] i_array = new int[indices.size()];
+      final float[] w_array = new float[weights.size()];
+      for (int k = 0; k < i_array.length; ++k) {
+        i_array[k] = indices.get(k).intValue();
+        w_array[k] = weights.get(k).floatValue();
+      }
+      return new Kernel(offsets, i_array, w_array);
+    }
+  }
+
+  private static final class RowsTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient RowOperationType operation;
+    private final int y_min;
+    private final int y_max;
+    private final int grain;
+
+    RowsTask(
+      final RowOperationType in_operation,
+      final int in_y_min,
+      final int in_y_max,
+      final int in_grain)
+    {
+      this.operation = in_operation;
+      this.y_min = in_y_min;
+      this.y_max = in_y_max;
+      this.grain = in_grain;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (this.y_max - this.y_min <= this.grain) {
+        this.operation.apply(this.y_min, this.y_max);
+        return;
+      }
+
+      final int y_mid = this.y_min + ((this.y_max - this.y_min) / 2);
+      invokeAll(
+        new RowsTask(this.operation, this.y_min, y_mid, this.grain),
+        new RowsTask(this.operation, y_mid, this.y_max, this.grain));
+    }
+  }
+
+  private static final class GenerateTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient JCGLTexture2DUsableType texture;
+    private final transient JCGLTLTextureDataType data;
+    private final JCGLTLMipmapFilter filter;
+    private final boolean gamma;
+    private final boolean clamp;
+    private final transient JCGLTexture2DUpdateType[] updates;
+
+    GenerateTask(
+      final JCGLTexture2DUsableType in_texture,
+      final JCGLTLTextureDataType in_data,
+      final JCGLTLMipmapFilter in_filter,
+      final boolean in_gamma,
+      final boolean in_clamp,
+      final JCGLTexture2DUpdateType[] in_updates)
+    {
+      this.texture = in_texture;
+      this.data = in_data;
+      this.filter = in_filter;
+      this.gamma = in_gamma;
+      this.clamp = in_clamp;
+      this.updates = in_updates;
+    }
+
+    private float[] read(
+      final int width,
+      final int height)
+    {
+      final float[] texels = new float[width * height * 4];
+      final VectorMutable4D v = new VectorMutable4D();
+      for (int y = 0; y < height; ++y) {
+        for (int x = 0; x < width; ++x) {
+          this.data.pixel(x, y, v);
+          final int i = ((y * width) + x) * 4;
+          if (this.gamma) {
+            texels[i] = (float) srgbDecode(v.x());
+            texels[i + 1] = (float) srgbDecode(v.y());
+            texels[i + 2] = (float) srgbDecode(v.z());
+          } else {
+            texels[i] = (float) v.x();
+            texels[i + 1] = (float) v.y();
+            texels[i + 2] = (float) v.z();
+          }
+          texels[i + 3] = (float) v.w();
+        }
+      }
+      return texels;
+    }
+
+    private Level downsample(
+      final Level source,
+      final int width,
+      final int height)
+    {
+      final Kernel kx = Kernel.create(this.filter, source.width, width);
+      final Kernel ky = Kernel.create(this.filter, source.height, height);
+
+      final float[] src = source.texels;
+      final int src_width = source.width;
+      final float[] horizontal = new float[width * source.height * 4];
+
+      invokeAll(new RowsTask((y_min, y_max) -> {
+        for (int y = y_min; y < y_max; ++y) {
+          final int row = y * src_width;
+          for (int x = 0; x < width; ++x) {
+            float r = 0.0f;
+            float g = 0.0f;
+            float b = 0.0f;
+            float a = 0.0f;
+            for (int k = kx.offsets[x]; k < kx.offsets[x + 1]; ++k) {
+              final int i = (row + kx.indices[k]) * 4;
+              final float w = kx.weights[k];
+              r += src[i] * w;
+              g += src[i + 1] * w;
+              b += src[i + 2] * w;
+              a += src[i + 3] * w;
+            }
+            final int o = ((y * width) + x) * 4;
+            horizontal[o] = r;
+            horizontal[o + 1] = g;
+            horizontal[o + 2] = b;
+            horizontal[o + 3] = a;
+          }
+        }
+      }, 0, source.height, grain(width)));
+
+      final float[] texels = new float[width * height * 4];
+
+      invokeAll(new RowsTask((y_min, y_max) -> {
+        for (int y = y_min; y < y_max; ++y) {
+          for (int x = 0; x < width; ++x) {
+            float r = 0.0f;
+            float g = 0.0f;
+            float b = 0.0f;
+            float a = 0.0f;
+            for (int k = ky.offsets[y]; k < ky.offsets[y + 1]; ++k) {
+              final int i = ((ky.indices[k] * width) + x) * 4;
+              final float w = ky.weights[k];
+              r += horizontal[i] * w;
+              g += horizontal[i + 1] * w;
+              b += horizontal[i + 2] * w;
+              a += horizontal[i + 3] * w;
+            }
+            final int o = ((y * width) + x) * 4;
+            texels[o] = r;
+            texels[o + 1] = g;
+            texels[o + 2] = b;
+            texels[o + 3] = a;
+          }
+        }
+      }, 0, height, grain(width)));
+
+      return new Level(
+        width,
+        height,
+        texels,
+        source.premultiplied,
+        this.gamma,
+        this.clamp);
+    }
+
+    private void encode(
+      final int level,
+      final JCGLTLTextureDataType source)
+    {
+      final JCGLTexture2DUpdateType u =
+        JCGLTextureUpdates.newUpdateReplacingMipmapLevel2D(
+          this.texture, level);
+      JCGLTLTextureUpdateProvider.populate(
+        this.texture.format(),
+        source,
+        u.data(),
+        Math.toIntExact(source.width()),
+        Math.toIntExact(source.height()));
+      this.updates[level] = u;
+    }
+
+    @Override
+    protected void compute()
+    {
+      final int width = Math.toIntExact(this.texture.width());
+      final int height = Math.toIntExact(this.texture.height());
+
+      /*
+       * The source data is read exactly once, by this thread; level 0 is
+       * encoded from the copy that was read, so that no other task ever
+       * reads the source data.
+       */
+
+      final Level base = new Level(
+        width,
+        height,
+        this.read(width, height),
+        this.data.isPremultipliedAlpha(),
+        this.gamma,
+        this.clamp);
+
+      final List<ForkJoinTask<?>> encoders =
+        new ArrayList<>(this.updates.length);
+      encoders.add(ForkJoinTask.adapt(() -> this.encode(0, base)).fork());
+
+      Level previous = base;
+
+      for (int level = 1; level < this.updates.length; ++level) {
+        final AreaSizeL size =
+          JCGLTextureMipmaps.levelSize(this.texture, level);
+        final Level current = this.downsample(
+          previous,
+          Math.toIntExact(size.width()),
+          Math.toIntExact(size.height()));
+
+        final int index = level;
+        encoders.add(
+          ForkJoinTask.adapt(() -> this.encode(index, current)).fork());
+        previous = current;
+      }
+
+      for (final ForkJoinTask<?> encoder : encoders) {
+        encoder.join();
+      }
+    }
+  }
+}
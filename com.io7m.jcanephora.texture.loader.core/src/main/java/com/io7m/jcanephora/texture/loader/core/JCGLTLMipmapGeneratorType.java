@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.texture.loader.core;
+
+import com.io7m.jcanephora.core.JCGLExceptionFormatError;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jranges.RangeCheckException;
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.List;
+
+/**
+ * <p>The type of mipmap generators.</p>
+ *
+ * <p>A mipmap generator produces a complete mipmap chain on the CPU, so that
+ * the thread that owns the OpenGL context only has to upload each level, for
+ * example with {@link com.io7m.jcanephora.core.api.JCGLTextures2DType#texture2DUpdateMipmapLevel(com.io7m.jcanephora.core.JCGLTextureUnitType,
+ * int, JCGLTexture2DUpdateType)}, instead of calling {@code
+ * glGenerateMipmap}. The results do not depend on the OpenGL
+ * implementation.</p>
+ *
+ * <p>Implementations are required to be thread-safe in the sense that they
+ * must be able to accept requests from arbitrary threads.</p>
+ *
+ * @since 0.62.0
+ */
+
+@ThreadSafe
+public interface JCGLTLMipmapGeneratorType
+{
+  /**
+   * <p>Generate every mipmap level of {@code t} from {@code data}, returning
+   * one update per level. Element {@code n} of the returned list is the update
+   * for level {@code n}, and level {@code 0} is {@code data} itself. Textures
+   * that do not have mipmapping minification filters have only level
+   * {@code 0}.</p>
+   *
+   * <p>The texture is used only for its size, format, and filter; no OpenGL
+   * functions are called, and so this function may be called from any
+   * thread. The texture data is read by a single thread at a time.</p>
+   *
+   * @param t          The texture
+   * @param data       The texture data
+   * @param parameters The generation parameters
+   *
+   * @return A list of updates, one per level
+   *
+   * @throws RangeCheckException     Iff the size of {@code data} is not
+   *                                 equal to the size of {@code t}
+   * @throws JCGLExceptionFormatError Iff the format of {@code t} is an
+   *                                 integer format, which cannot be filtered,
+   *                                 or if sRGB data was requested for a
+   *                                 format that cannot hold it
+   */
+
+  List<JCGLTexture2DUpdateType> generateMipmaps2D(
+    JCGLTexture2DUsableType t,
+    JCGLTLTextureDataType data,
+    JCGLTLMipmapParametersType parameters)
+    throws RangeCheckException, JCGLExceptionFormatError;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jcanephora.texture.loader.core;
+
+import com.io7m.jcanephora.core.JCGLImmutableStyleType;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+/**
+ * Parameters for mipmap generation.
+ *
+ * @since 0.62.0
+ */
+
+@JCGLImmutableStyleType
+@Value.Immutable
+public interface JCGLTLMipmapParametersType
+{
+  /**
+   * @return The filter used to downsample each level
+   */
+
+  @Value.Parameter(order = 0)
+  @Value.Default
+  default JCGLTLMipmapFilter filter()
+  {
+    return JCGLTLMipmapFilter.MIPMAP_FILTER_BOX;
+  }
+
+  /**
+   * <p>The color space of the color channels of the source data. If no color
+   * space is specified, one is chosen based on the format of the texture:
+   * the 8-bit unsigned normalized RGB and RGBA formats, which are the formats
+   * typically used for images decoded from files, are assumed to be
+   * sRGB-encoded, and all other formats are assumed to be linear.</p>
+   *
+   * <p>Floating point formats, and the channel of depth formats, are always
+   * linear. Specifying {@link JCGLTLMipmapColorSpace#MIPMAP_COLOR_SPACE_SRGB}
+   * for a texture with such a format is an error.</p>
+   *
+   * @return The color space of the source data, if any
+   */
+
+  @Value.Parameter(order = 1)
+  Optional<JCGLTLMipmapColorSpace> colorSpace();
+}
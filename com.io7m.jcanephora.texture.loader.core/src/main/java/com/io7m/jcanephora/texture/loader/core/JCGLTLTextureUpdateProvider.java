@@ -162,7 +162,7 @@ public final class JCGLTLTextureUpdateProvider implements
     return new JCGLTLTextureUpdateProvider();
   }
 
-  private static void populate(
+  static void populate(
     final JCGLTextureFormat format,
     final JCGLTLTextureDataType data,
     final ByteBuffer d,
@@ -415,6 +415,17 @@ public final class JCGLTLTextureUpdateProvider implements
       case TEXTURE_FORMAT_RGBA_32U_16BPP:
       case TEXTURE_FORMAT_RGBA_8I_4BPP:
       case TEXTURE_FORMAT_RGBA_8U_4BPP:
+      case TEXTURE_FORMAT_RGTC1_R_8BPB:
+      case TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_16BPB:
+      case TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB:
+      case TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB:
+      case TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGBA_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB:
+      case TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB:
       case TEXTURE_FORMAT_DEPTH_24_4BPP: {
         throw new UnimplementedCodeException();
       }
@@ -0,0 +1,502 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A parser for DirectDraw Surface files, with or without the DX10 extension
+ * header.
+ *
+ * @see "https://docs.microsoft.com/en-us/windows/win32/direct3ddds/dx-graphics-dds-pguide"
+ */
+
+final class JCGLMappedDDS
+{
+  private static final int MAGIC = 0x20534444;
+  private static final int HEADER_SIZE = 128;
+  private static final int HEADER_DX10_SIZE = 20;
+
+  private static final int DDSD_DEPTH = 0x800000;
+  private static final int DDSD_MIPMAPCOUNT = 0x20000;
+  private static final int DDPF_ALPHAPIXELS = 0x1;
+  private static final int DDPF_FOURCC = 0x4;
+  private static final int DDPF_RGB = 0x40;
+  private static final int DDPF_LUMINANCE = 0x20000;
+  private static final int DDSCAPS2_CUBEMAP = 0x200;
+  private static final int DDSCAPS2_CUBEMAP_ALLFACES = 0xFC00;
+  private static final int DDSCAPS2_VOLUME = 0x200000;
+  private static final int D3D10_RESOURCE_DIMENSION_TEXTURE2D = 3;
+  private static final int D3D10_RESOURCE_MISC_TEXTURECUBE = 0x4;
+
+  private static final int FOURCC_DX10 = fourCC("DX10");
+  private static final int FOURCC_DXT1 = fourCC("DXT1");
+
+  private static final Map<Integer, JCGLTextureFormat> FOURCC_FORMATS;
+  private static final Map<Integer, JCGLTextureFormat> DXGI_FORMATS;
+
+  static {
+    FOURCC_FORMATS = new HashMap<>(32);
+
+    /*
+     * DXT1 is absent, because the choice between the RGB and RGBA variants
+     * depends on the alpha flag of the pixel format.
+     */
+
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("DXT3")),
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("DXT5")),
+      JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("ATI1")),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("BC4U")),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("BC4S")),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("ATI2")),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("BC5U")),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(fourCC("BC5S")),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB);
+
+    /*
+     * Legacy files identify some uncompressed formats by their numeric
+     * D3DFORMAT value in place of a four character code.
+     */
+
+    FOURCC_FORMATS.put(
+      Integer.valueOf(36),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16_8BPP);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(111),
+      JCGLTextureFormat.TEXTURE_FORMAT_R_16F_2BPP);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(112),
+      JCGLTextureFormat.TEXTURE_FORMAT_RG_16F_4BPP);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(113),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16F_8BPP);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(114),
+      JCGLTextureFormat.TEXTURE_FORMAT_R_32F_4BPP);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(115),
+      JCGLTextureFormat.TEXTURE_FORMAT_RG_32F_8BPP);
+    FOURCC_FORMATS.put(
+      Integer.valueOf(116),
+      JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32F_16BPP);
+
+    DXGI_FORMATS = new HashMap<>(64);
+    dxgi(2, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32F_16BPP);
+    dxgi(3, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32U_16BPP);
+    dxgi(4, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32I_16BPP);
+    dxgi(6, JCGLTextureFormat.TEXTURE_FORMAT_RGB_32F_12BPP);
+    dxgi(7, JCGLTextureFormat.TEXTURE_FORMAT_RGB_32U_12BPP);
+    dxgi(8, JCGLTextureFormat.TEXTURE_FORMAT_RGB_32I_12BPP);
+    dxgi(10, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16F_8BPP);
+    dxgi(11, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16_8BPP);
+    dxgi(12, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16U_8BPP);
+    dxgi(14, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16I_8BPP);
+    dxgi(16, JCGLTextureFormat.TEXTURE_FORMAT_RG_32F_8BPP);
+    dxgi(17, JCGLTextureFormat.TEXTURE_FORMAT_RG_32U_8BPP);
+    dxgi(18, JCGLTextureFormat.TEXTURE_FORMAT_RG_32I_8BPP);
+    dxgi(28, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+    dxgi(30, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8U_4BPP);
+    dxgi(32, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8I_4BPP);
+    dxgi(34, JCGLTextureFormat.TEXTURE_FORMAT_RG_16F_4BPP);
+    dxgi(35, JCGLTextureFormat.TEXTURE_FORMAT_RG_16_4BPP);
+    dxgi(36, JCGLTextureFormat.TEXTURE_FORMAT_RG_16U_4BPP);
+    dxgi(38, JCGLTextureFormat.TEXTURE_FORMAT_RG_16I_4BPP);
+    dxgi(41, JCGLTextureFormat.TEXTURE_FORMAT_R_32F_4BPP);
+    dxgi(42, JCGLTextureFormat.TEXTURE_FORMAT_R_32U_4BPP);
+    dxgi(43, JCGLTextureFormat.TEXTURE_FORMAT_R_32I_4BPP);
+    dxgi(49, JCGLTextureFormat.TEXTURE_FORMAT_RG_8_2BPP);
+    dxgi(50, JCGLTextureFormat.TEXTURE_FORMAT_RG_8U_2BPP);
+    dxgi(52, JCGLTextureFormat.TEXTURE_FORMAT_RG_8I_2BPP);
+    dxgi(54, JCGLTextureFormat.TEXTURE_FORMAT_R_16F_2BPP);
+    dxgi(56, JCGLTextureFormat.TEXTURE_FORMAT_R_16_2BPP);
+    dxgi(57, JCGLTextureFormat.TEXTURE_FORMAT_R_16U_2BPP);
+    dxgi(59, JCGLTextureFormat.TEXTURE_FORMAT_R_16I_2BPP);
+    dxgi(61, JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP);
+    dxgi(62, JCGLTextureFormat.TEXTURE_FORMAT_R_8U_1BPP);
+    dxgi(64, JCGLTextureFormat.TEXTURE_FORMAT_R_8I_1BPP);
+    dxgi(71, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB);
+    dxgi(74, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB);
+    dxgi(77, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB);
+    dxgi(80, JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB);
+    dxgi(81, JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB);
+    dxgi(83, JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB);
+    dxgi(84, JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB);
+    dxgi(95, JCGLTextureFormat.TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB);
+    dxgi(96, JCGLTextureFormat.TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB);
+    dxgi(98, JCGLTextureFormat.TEXTURE_FORMAT_BPTC_RGBA_16BPB);
+  }
+
+  private final Path path;
+  private final ByteBuffer data;
+
+  private JCGLMappedDDS(
+    final Path in_path,
+    final ByteBuffer in_data)
+  {
+    this.path = in_path;
+    this.data = in_data;
+  }
+
+  private static void dxgi(
+    final int value,
+    final JCGLTextureFormat format)
+  {
+    DXGI_FORMATS.put(Integer.valueOf(value), format);
+  }
+
+  private static int fourCC(
+    final String code)
+  {
+    final byte[] bytes = code.getBytes(StandardCharsets.US_ASCII);
+    return (bytes[0] & 0xff)
+      | ((bytes[1] & 0xff) << 8)
+      | ((bytes[2] & 0xff) << 16)
+      | ((bytes[3] & 0xff) << 24);
+  }
+
+  /**
+   * @param data The file data
+   *
+   * @return {@code true} iff {@code data} begins with the DDS magic number
+   */
+
+  static boolean isDDS(
+    final ByteBuffer data)
+  {
+    if (data.capacity() < 4) {
+      return false;
+    }
+    final ByteBuffer view = data.duplicate();
+    view.order(ByteOrder.LITTLE_ENDIAN);
+    return view.getInt(0) == MAGIC;
+  }
+
+  /**
+   * Parse and validate a DDS file.
+   *
+   * @param path The file
+   * @param data The file data
+   *
+   * @return A mapped texture
+   *
+   * @throws JCGLMappedTextureFormatException On malformed or unsupported files
+   */
+
+  static JCGLMappedTextureType parse(
+    final Path path,
+    final ByteBuffer data)
+    throws JCGLMappedTextureFormatException
+  {
+    return new JCGLMappedDDS(path, data).parse();
+  }
+
+  private JCGLMappedTextureFormatException error(
+    final String message)
+  {
+    return JCGLMappedFiles.error(
+      JCGLMappedTextureContainer.CONTAINER_DDS, this.path, message);
+  }
+
+  private JCGLMappedTextureType parse()
+    throws JCGLMappedTextureFormatException
+  {
+    JCGLMappedFiles.checkAvailable(
+      JCGLMappedTextureContainer.CONTAINER_DDS,
+      this.path,
+      this.data,
+      0L,
+      (long) HEADER_SIZE,
+      "Header");
+
+    final ByteBuffer header = this.data.duplicate();
+    header.order(ByteOrder.LITTLE_ENDIAN);
+
+    if (header.getInt(4) != 124) {
+      throw this.error(String.format(
+        "Header size must be 124, but is %d",
+        Integer.valueOf(header.getInt(4))));
+    }
+    if (header.getInt(76) != 32) {
+      throw this.error(String.format(
+        "Pixel format size must be 32, but is %d",
+        Integer.valueOf(header.getInt(76))));
+    }
+
+    final int flags = header.getInt(8);
+    final long height = Integer.toUnsignedLong(header.getInt(12));
+    final long width = Integer.toUnsignedLong(header.getInt(16));
+    final long depth = Integer.toUnsignedLong(header.getInt(24));
+    final long mipmaps = Integer.toUnsignedLong(header.getInt(28));
+    final int pf_flags = header.getInt(80);
+    final int pf_fourcc = header.getInt(84);
+    final int caps2 = header.getInt(112);
+
+    if (width == 0L || height == 0L) {
+      throw this.error(String.format(
+        "Width and height must be positive, but are %dx%d",
+        Long.valueOf(width),
+        Long.valueOf(height)));
+    }
+    JCGLMappedFiles.checkDimensions(
+      JCGLMappedTextureContainer.CONTAINER_DDS,
+      this.path,
+      width,
+      height);
+    if ((caps2 & DDSCAPS2_VOLUME) != 0
+      || ((flags & DDSD_DEPTH) != 0 && depth > 1L)) {
+      throw this.error("Three-dimensional textures are not supported");
+    }
+
+    final JCGLTextureFormat format;
+    final boolean cube;
+    final long offset;
+
+    if ((pf_flags & DDPF_FOURCC) != 0 && pf_fourcc == FOURCC_DX10) {
+      JCGLMappedFiles.checkAvailable(
+        JCGLMappedTextureContainer.CONTAINER_DDS,
+        this.path,
+        this.data,
+        (long) HEADER_SIZE,
+        (long) HEADER_DX10_SIZE,
+        "DX10 header");
+
+      final int dxgi_format = header.getInt(128);
+      final int dimension = header.getInt(132);
+      final int misc = header.getInt(136);
+      final long array_size = Integer.toUnsignedLong(header.getInt(140));
+
+      format = DXGI_FORMATS.get(Integer.valueOf(dxgi_format));
+      if (format == null) {
+        throw this.error(String.format(
+          "Unsupported DXGI format %d", Integer.valueOf(dxgi_format)));
+      }
+      if (dimension != D3D10_RESOURCE_DIMENSION_TEXTURE2D) {
+        throw this.error(String.format(
+          "Resource dimension must be %d (TEXTURE2D), but is %d",
+          Integer.valueOf(D3D10_RESOURCE_DIMENSION_TEXTURE2D),
+          Integer.valueOf(dimension)));
+      }
+      if (array_size != 1L) {
+        throw this.error("Array textures are not supported");
+      }
+
+      cube = (misc & D3D10_RESOURCE_MISC_TEXTURECUBE) != 0;
+      offset = (long) (HEADER_SIZE + HEADER_DX10_SIZE);
+    } else {
+      format = this.legacyFormat(header, pf_flags, pf_fourcc);
+
+      if ((caps2 & DDSCAPS2_CUBEMAP) != 0) {
+        if ((caps2 & DDSCAPS2_CUBEMAP_ALLFACES) != DDSCAPS2_CUBEMAP_ALLFACES) {
+          throw this.error("Cube maps must specify all six faces");
+        }
+        cube = true;
+      } else {
+        cube = false;
+      }
+      offset = (long) HEADER_SIZE;
+    }
+
+    if (!format.isCompressed()
+      && format.getBytesPerPixel() > format.getComponentCount()
+      && ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+      throw this.error(String.format(
+        "The file byte order %s differs from the platform byte order %s,"
+          + " and format %s cannot be uploaded without byte swapping",
+        ByteOrder.LITTLE_ENDIAN,
+        ByteOrder.nativeOrder(),
+        format));
+    }
+
+    if (cube && width != height) {
+      throw this.error(String.format(
+        "Cube map faces must be square, but are %dx%d",
+        Long.valueOf(width),
+        Long.valueOf(height)));
+    }
+
+    final AreaSizeL size = AreaSizeL.of(width, height);
+    final int max_levels = JCGLTextureMipmaps.levelCount(size);
+    final long levels;
+    if ((flags & DDSD_MIPMAPCOUNT) != 0) {
+      levels = Math.max(1L, mipmaps);
+    } else {
+      levels = 1L;
+    }
+
+    if (levels > (long) max_levels) {
+      throw this.error(String.format(
+        "Level count %d exceeds the %d levels possible for a %dx%d image",
+        Long.valueOf(levels),
+        Integer.valueOf(max_levels),
+        Long.valueOf(width),
+        Long.valueOf(height)));
+    }
+
+    /*
+     * The data of each face is stored contiguously, including all of its
+     * levels, with faces in the order +X, -X, +Y, -Y, +Z, -Z.
+     */
+
+    final int face_count = cube ? 6 : 1;
+    final int level_count = (int) levels;
+    final ByteBuffer[][] buffers = new ByteBuffer[face_count][level_count];
+
+    long position = offset;
+    for (int face = 0; face < face_count; ++face) {
+      for (int level = 0; level < level_count; ++level) {
+        final AreaSizeL level_size =
+          JCGLTextureMipmaps.levelSize(size, level);
+        final long image_size = JCGLMappedFiles.imageSize(
+          JCGLMappedTextureContainer.CONTAINER_DDS,
+          this.path,
+          format,
+          level_size.width(),
+          level_size.height());
+
+        JCGLMappedFiles.checkAvailable(
+          JCGLMappedTextureContainer.CONTAINER_DDS,
+          this.path,
+          this.data,
+          position,
+          image_size,
+          String.format(
+            "Level %d of face %d",
+            Integer.valueOf(level),
+            Integer.valueOf(face)));
+
+        buffers[face][level] =
+          JCGLMappedFiles.slice(this.data, position, image_size);
+        position = JCGLMappedFiles.add(
+          JCGLMappedTextureContainer.CONTAINER_DDS,
+          this.path,
+          position,
+          image_size);
+      }
+    }
+
+    return new JCGLMappedTexture(
+      this.path,
+      JCGLMappedTextureContainer.CONTAINER_DDS,
+      format,
+      size,
+      buffers);
+  }
+
+  private JCGLTextureFormat legacyFormat(
+    final ByteBuffer header,
+    final int pf_flags,
+    final int pf_fourcc)
+    throws JCGLMappedTextureFormatException
+  {
+    if ((pf_flags & DDPF_FOURCC) != 0) {
+      if (pf_fourcc == FOURCC_DXT1) {
+        if ((pf_flags & DDPF_ALPHAPIXELS) != 0) {
+          return JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB;
+        }
+        return JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB;
+      }
+
+      final JCGLTextureFormat format =
+        FOURCC_FORMATS.get(Integer.valueOf(pf_fourcc));
+      if (format == null) {
+        throw this.error(String.format(
+          "Unsupported four character code 0x%08x",
+          Integer.valueOf(pf_fourcc)));
+      }
+      return format;
+    }
+
+    /*
+     * Uncompressed formats are identified by their channel masks. Only the
+     * layouts that match an OpenGL format without swizzling are accepted:
+     * in particular, the common BGRA layout is rejected.
+     */
+
+    final int bits = header.getInt(88);
+    final int mask_r = header.getInt(92);
+    final int mask_g = header.getInt(96);
+    final int mask_b = header.getInt(100);
+    final int mask_a = header.getInt(104);
+    final boolean alpha = (pf_flags & DDPF_ALPHAPIXELS) != 0;
+
+    if ((pf_flags & DDPF_RGB) != 0) {
+      if (bits == 32 && alpha
+        && mask_r == 0xff
+        && mask_g == 0xff00
+        && mask_b == 0xff0000
+        && mask_a == 0xff000000) {
+        return JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP;
+      }
+      if (bits == 24 && !alpha
+        && mask_r == 0xff
+        && mask_g == 0xff00
+        && mask_b == 0xff0000) {
+        return JCGLTextureFormat.TEXTURE_FORMAT_RGB_8_3BPP;
+      }
+      if (bits == 32 && !alpha
+        && mask_r == 0xffff
+        && mask_g == 0xffff0000
+        && mask_b == 0) {
+        return JCGLTextureFormat.TEXTURE_FORMAT_RG_16_4BPP;
+      }
+    }
+
+    if ((pf_flags & DDPF_LUMINANCE) != 0 && !alpha) {
+      if (bits == 8 && mask_r == 0xff) {
+        return JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP;
+      }
+      if (bits == 16 && mask_r == 0xffff) {
+        return JCGLTextureFormat.TEXTURE_FORMAT_R_16_2BPP;
+      }
+    }
+
+    throw this.error(String.format(
+      "Unsupported pixel format (flags 0x%08x, %d bits, masks R 0x%08x"
+        + " G 0x%08x B 0x%08x A 0x%08x)",
+      Integer.valueOf(pf_flags),
+      Integer.valueOf(bits),
+      Integer.valueOf(mask_r),
+      Integer.valueOf(mask_g),
+      Integer.valueOf(mask_b),
+      Integer.valueOf(mask_a)));
+  }
+}
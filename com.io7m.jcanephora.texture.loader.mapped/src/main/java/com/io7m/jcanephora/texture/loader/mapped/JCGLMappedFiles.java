@@ -0,0 +1,303 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormats;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
+/**
+ * Functions shared by the container parsers.
+ */
+
+final class JCGLMappedFiles
+{
+  /**
+   * The largest width or height accepted for an image. This is well above
+   * the maximum texture size of any current implementation, and ensures
+   * that the sizes of accepted images cannot overflow.
+   */
+
+  static final long DIMENSION_MAXIMUM = 65536L;
+
+  private JCGLMappedFiles()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Construct an exception describing a problem with a file.
+   *
+   * @param container The container format
+   * @param path      The file
+   * @param message   The problem
+   *
+   * @return An exception
+   */
+
+  static JCGLMappedTextureFormatException error(
+    final JCGLMappedTextureContainer container,
+    final Path path,
+    final String message)
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("Malformed or unsupported texture file.");
+    sb.append(System.lineSeparator());
+    sb.append("  File:      ");
+    sb.append(path);
+    sb.append(System.lineSeparator());
+    sb.append("  Container: ");
+    sb.append(container);
+    sb.append(System.lineSeparator());
+    sb.append("  Problem:   ");
+    sb.append(message);
+    sb.append(System.lineSeparator());
+    return new JCGLMappedTextureFormatException(sb.toString());
+  }
+
+  /**
+   * Check that {@code size} bytes are available at {@code offset}.
+   *
+   * @param container The container format
+   * @param path      The file
+   * @param data      The file data
+   * @param offset    The offset
+   * @param size      The number of bytes required
+   * @param what      A description of the data, used in error messages
+   *
+   * @throws JCGLMappedTextureFormatException Iff the file is too short
+   */
+
+  static void checkAvailable(
+    final JCGLMappedTextureContainer container,
+    final Path path,
+    final ByteBuffer data,
+    final long offset,
+    final long size,
+    final String what)
+    throws JCGLMappedTextureFormatException
+  {
+    final long available = (long) data.capacity() - offset;
+    if (offset > (long) data.capacity() || size > available) {
+      throw error(container, path, String.format(
+        "File is truncated: %s requires %d bytes at offset %d, but the file"
+          + " is %d bytes long",
+        what,
+        Long.valueOf(size),
+        Long.valueOf(offset),
+        Integer.valueOf(data.capacity())));
+    }
+  }
+
+  /**
+   * Check that the given dimensions do not exceed
+   * {@link #DIMENSION_MAXIMUM}.
+   *
+   * @param container The container format
+   * @param path      The file
+   * @param width     The width
+   * @param height    The height
+   *
+   * @throws JCGLMappedTextureFormatException Iff either dimension is too
+   *                                          large
+   */
+
+  static void checkDimensions(
+    final JCGLMappedTextureContainer container,
+    final Path path,
+    final long width,
+    final long height)
+    throws JCGLMappedTextureFormatException
+  {
+    if (width > DIMENSION_MAXIMUM || height > DIMENSION_MAXIMUM) {
+      throw error(container, path, String.format(
+        "Image size %dx%d exceeds the maximum supported size %dx%d",
+        Long.valueOf(width),
+        Long.valueOf(height),
+        Long.valueOf(DIMENSION_MAXIMUM),
+        Long.valueOf(DIMENSION_MAXIMUM)));
+    }
+  }
+
+  /**
+   * Calculate the size in bytes of an image.
+   *
+   * @param container The container format
+   * @param path      The file
+   * @param format    The texture format
+   * @param width     The width of the image
+   * @param height    The height of the image
+   *
+   * @return The size of the image in bytes
+   *
+   * @throws JCGLMappedTextureFormatException Iff the size overflows
+   */
+
+  static long imageSize(
+    final JCGLMappedTextureContainer container,
+    final Path path,
+    final JCGLTextureFormat format,
+    final long width,
+    final long height)
+    throws JCGLMappedTextureFormatException
+  {
+    try {
+      return JCGLTextureFormats.imageSizeBytes(format, width, height);
+    } catch (final ArithmeticException e) {
+      throw errorOverflow(container, path);
+    }
+  }
+
+  /**
+   * Calculate {@code x * y}.
+   *
+   * @param container The container format
+   * @param path      The file
+   * @param x         A value
+   * @param y         A value
+   *
+   * @return {@code x * y}
+   *
+   * @throws JCGLMappedTextureFormatException Iff the result overflows
+   */
+
+  static long multiply(
+    final JCGLMappedTextureContainer container,
+    final Path path,
+    final long x,
+    final long y)
+    throws JCGLMappedTextureFormatException
+  {
+    try {
+      return Math.multiplyExact(x, y);
+    } catch (final ArithmeticException e) {
+      throw errorOverflow(container, path);
+    }
+  }
+
+  /**
+   * Calculate {@code x + y}.
+   *
+   * @param container The container format
+   * @param path      The file
+   * @param x         A value
+   * @param y         A value
+   *
+   * @return {@code x + y}
+   *
+   * @throws JCGLMappedTextureFormatException Iff the result overflows
+   */
+
+  static long add(
+    final JCGLMappedTextureContainer container,
+    final Path path,
+    final long x,
+    final long y)
+    throws JCGLMappedTextureFormatException
+  {
+    try {
+      return Math.addExact(x, y);
+    } catch (final ArithmeticException e) {
+      throw errorOverflow(container, path);
+    }
+  }
+
+  private static JCGLMappedTextureFormatException errorOverflow(
+    final JCGLMappedTextureContainer container,
+    final Path path)
+  {
+    return error(container, path, "Image sizes or offsets overflow");
+  }
+
+  /**
+   * @param offset An offset
+   *
+   * @return {@code offset} rounded up to the next multiple of four
+   */
+
+  static long align4(
+    final long offset)
+  {
+    return (offset + 3L) & ~3L;
+  }
+
+  /**
+   * Create a view of {@code size} bytes of {@code data} at {@code offset}.
+   * The data is not copied.
+   *
+   * @param data   The file data
+   * @param offset The offset
+   * @param size   The size
+   *
+   * @return A view of the data
+   */
+
+  static ByteBuffer slice(
+    final ByteBuffer data,
+    final long offset,
+    final long size)
+  {
+    final ByteBuffer view = data.duplicate();
+    view.limit(Math.toIntExact(offset + size));
+    view.position(Math.toIntExact(offset));
+    final ByteBuffer slice = view.slice();
+    slice.order(ByteOrder.nativeOrder());
+    return slice;
+  }
+
+  /**
+   * Copy {@code rows} rows of {@code row_size} bytes, each of which begins
+   * {@code row_stride} bytes after the previous row, into a new tightly
+   * packed buffer.
+   *
+   * @param data       The file data
+   * @param offset     The offset of the first row
+   * @param row_stride The distance in bytes between the start of each row
+   * @param row_size   The number of bytes of image data in each row
+   * @param rows       The number of rows
+   *
+   * @return A read-only, tightly packed copy of the rows
+   */
+
+  static ByteBuffer compact(
+    final ByteBuffer data,
+    final long offset,
+    final long row_stride,
+    final long row_size,
+    final long rows)
+  {
+    final ByteBuffer out =
+      ByteBuffer.allocateDirect(Math.toIntExact(row_size * rows));
+    final ByteBuffer view = data.duplicate();
+    for (long row = 0L; row < rows; ++row) {
+      final long row_offset = offset + (row * row_stride);
+      view.limit(Math.toIntExact(row_offset + row_size));
+      view.position(Math.toIntExact(row_offset));
+      out.put(view);
+    }
+
+    out.rewind();
+    final ByteBuffer result = out.asReadOnlyBuffer();
+    result.order(ByteOrder.nativeOrder());
+    return result;
+  }
+}
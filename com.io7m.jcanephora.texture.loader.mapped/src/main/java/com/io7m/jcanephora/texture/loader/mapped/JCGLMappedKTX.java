@@ -0,0 +1,533 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import com.io7m.jcanephora.core.JCGLPixelFormat;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A parser for KTX 1.1 files.
+ *
+ * @see "https://www.khronos.org/opengles/sdk/tools/KTX/file_format_spec/"
+ */
+
+final class JCGLMappedKTX
+{
+  private static final byte[] IDENTIFIER = {
+    (byte) 0xAB, (byte) 0x4B, (byte) 0x54, (byte) 0x58,
+    (byte) 0x20, (byte) 0x31, (byte) 0x31, (byte) 0xBB,
+    (byte) 0x0D, (byte) 0x0A, (byte) 0x1A, (byte) 0x0A,
+  };
+
+  private static final int ENDIANNESS = 0x04030201;
+  private static final int HEADER_SIZE = 64;
+
+  private static final int GL_BYTE = 0x1400;
+  private static final int GL_UNSIGNED_BYTE = 0x1401;
+  private static final int GL_SHORT = 0x1402;
+  private static final int GL_UNSIGNED_SHORT = 0x1403;
+  private static final int GL_INT = 0x1404;
+  private static final int GL_UNSIGNED_INT = 0x1405;
+  private static final int GL_FLOAT = 0x1406;
+  private static final int GL_HALF_FLOAT = 0x140B;
+
+  private static final int GL_RED = 0x1903;
+  private static final int GL_RG = 0x8227;
+  private static final int GL_RGB = 0x1907;
+  private static final int GL_RGBA = 0x1908;
+  private static final int GL_RED_INTEGER = 0x8D94;
+  private static final int GL_RG_INTEGER = 0x8228;
+  private static final int GL_RGB_INTEGER = 0x8D98;
+  private static final int GL_RGBA_INTEGER = 0x8D99;
+
+  private static final Map<Integer, JCGLTextureFormat> FORMATS;
+  private static final Map<JCGLTextureFormat, Integer> BASE_FORMATS;
+
+  static {
+    FORMATS = new HashMap<>(64);
+    BASE_FORMATS = new EnumMap<>(JCGLTextureFormat.class);
+
+    /*
+     * TEXTURE_FORMAT_RGBA_1010102_4BPP is deliberately absent: the OpenGL
+     * backends upload it with a component type of GL_UNSIGNED_BYTE, so
+     * GL_UNSIGNED_INT_2_10_10_10_REV data from a file cannot be uploaded
+     * as-is. Depth formats are not meaningful in texture files.
+     */
+
+    register(
+      0x8229, GL_RED, JCGLTextureFormat.TEXTURE_FORMAT_R_8_1BPP);
+    register(
+      0x8231, GL_RED_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_R_8I_1BPP);
+    register(
+      0x8232, GL_RED_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_R_8U_1BPP);
+    register(
+      0x822A, GL_RED, JCGLTextureFormat.TEXTURE_FORMAT_R_16_2BPP);
+    register(
+      0x822D, GL_RED, JCGLTextureFormat.TEXTURE_FORMAT_R_16F_2BPP);
+    register(
+      0x8233, GL_RED_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_R_16I_2BPP);
+    register(
+      0x8234, GL_RED_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_R_16U_2BPP);
+    register(
+      0x822E, GL_RED, JCGLTextureFormat.TEXTURE_FORMAT_R_32F_4BPP);
+    register(
+      0x8235, GL_RED_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_R_32I_4BPP);
+    register(
+      0x8236, GL_RED_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_R_32U_4BPP);
+
+    register(
+      0x822B, GL_RG, JCGLTextureFormat.TEXTURE_FORMAT_RG_8_2BPP);
+    register(
+      0x8237, GL_RG_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RG_8I_2BPP);
+    register(
+      0x8238, GL_RG_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RG_8U_2BPP);
+    register(
+      0x822C, GL_RG, JCGLTextureFormat.TEXTURE_FORMAT_RG_16_4BPP);
+    register(
+      0x822F, GL_RG, JCGLTextureFormat.TEXTURE_FORMAT_RG_16F_4BPP);
+    register(
+      0x8239, GL_RG_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RG_16I_4BPP);
+    register(
+      0x823A, GL_RG_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RG_16U_4BPP);
+    register(
+      0x8230, GL_RG, JCGLTextureFormat.TEXTURE_FORMAT_RG_32F_8BPP);
+    register(
+      0x823B, GL_RG_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RG_32I_8BPP);
+    register(
+      0x823C, GL_RG_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RG_32U_8BPP);
+
+    register(
+      0x8051, GL_RGB, JCGLTextureFormat.TEXTURE_FORMAT_RGB_8_3BPP);
+    register(
+      0x8D8F, GL_RGB_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGB_8I_3BPP);
+    register(
+      0x8D7D, GL_RGB_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGB_8U_3BPP);
+    register(
+      0x8054, GL_RGB, JCGLTextureFormat.TEXTURE_FORMAT_RGB_16_6BPP);
+    register(
+      0x881B, GL_RGB, JCGLTextureFormat.TEXTURE_FORMAT_RGB_16F_6BPP);
+    register(
+      0x8D89, GL_RGB_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGB_16I_6BPP);
+    register(
+      0x8D77, GL_RGB_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGB_16U_6BPP);
+    register(
+      0x8815, GL_RGB, JCGLTextureFormat.TEXTURE_FORMAT_RGB_32F_12BPP);
+    register(
+      0x8D83, GL_RGB_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGB_32I_12BPP);
+    register(
+      0x8D71, GL_RGB_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGB_32U_12BPP);
+
+    register(
+      0x8058, GL_RGBA, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8_4BPP);
+    register(
+      0x8D8E, GL_RGBA_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8I_4BPP);
+    register(
+      0x8D7C, GL_RGBA_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_8U_4BPP);
+    register(
+      0x805B, GL_RGBA, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16_8BPP);
+    register(
+      0x881A, GL_RGBA, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16F_8BPP);
+    register(
+      0x8D88, GL_RGBA_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16I_8BPP);
+    register(
+      0x8D76, GL_RGBA_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_16U_8BPP);
+    register(
+      0x8814, GL_RGBA, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32F_16BPP);
+    register(
+      0x8D82, GL_RGBA_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32I_16BPP);
+    register(
+      0x8D70, GL_RGBA_INTEGER, JCGLTextureFormat.TEXTURE_FORMAT_RGBA_32U_16BPP);
+
+    /*
+     * Compressed formats have a glFormat of 0.
+     */
+
+    register(
+      0x8DBB, 0, JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_8BPB);
+    register(
+      0x8DBC, 0, JCGLTextureFormat.TEXTURE_FORMAT_RGTC1_R_SIGNED_8BPB);
+    register(
+      0x8DBD, 0, JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_16BPB);
+    register(
+      0x8DBE, 0, JCGLTextureFormat.TEXTURE_FORMAT_RGTC2_RG_SIGNED_16BPB);
+    register(
+      0x83F0, 0, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGB_8BPB);
+    register(
+      0x83F1, 0, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT1_RGBA_8BPB);
+    register(
+      0x83F2, 0, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT3_RGBA_16BPB);
+    register(
+      0x83F3, 0, JCGLTextureFormat.TEXTURE_FORMAT_S3TC_DXT5_RGBA_16BPB);
+    register(
+      0x8E8C, 0, JCGLTextureFormat.TEXTURE_FORMAT_BPTC_RGBA_16BPB);
+    register(
+      0x8E8E, 0, JCGLTextureFormat.TEXTURE_FORMAT_BPTC_RGB_SIGNED_FLOAT_16BPB);
+    register(
+      0x8E8F,
+      0,
+      JCGLTextureFormat.TEXTURE_FORMAT_BPTC_RGB_UNSIGNED_FLOAT_16BPB);
+  }
+
+  private final Path path;
+  private final ByteBuffer data;
+
+  private JCGLMappedKTX(
+    final Path in_path,
+    final ByteBuffer in_data)
+  {
+    this.path = in_path;
+    this.data = in_data;
+  }
+
+  private static void register(
+    final int internal_format,
+    final int base_format,
+    final JCGLTextureFormat format)
+  {
+    FORMATS.put(Integer.valueOf(internal_format), format);
+    BASE_FORMATS.put(format, Integer.valueOf(base_format));
+  }
+
+  private static int glType(
+    final JCGLPixelFormat type)
+  {
+    switch (type) {
+      case PIXEL_COMPONENT_BYTE:
+        return GL_BYTE;
+      case PIXEL_COMPONENT_UNSIGNED_BYTE:
+        return GL_UNSIGNED_BYTE;
+      case PIXEL_COMPONENT_SHORT:
+        return GL_SHORT;
+      case PIXEL_COMPONENT_UNSIGNED_SHORT:
+        return GL_UNSIGNED_SHORT;
+      case PIXEL_COMPONENT_INT:
+        return GL_INT;
+      case PIXEL_COMPONENT_UNSIGNED_INT:
+        return GL_UNSIGNED_INT;
+      case PIXEL_COMPONENT_FLOAT:
+        return GL_FLOAT;
+      case PIXEL_COMPONENT_HALF_FLOAT:
+        return GL_HALF_FLOAT;
+      case PIXEL_PACKED_UNSIGNED_INT_1010102:
+      case PIXEL_PACKED_UNSIGNED_INT_24_8:
+      case PIXEL_PACKED_UNSIGNED_SHORT_4444:
+      case PIXEL_PACKED_UNSIGNED_SHORT_5551:
+      case PIXEL_PACKED_UNSIGNED_SHORT_565:
+        break;
+    }
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param data The file data
+   *
+   * @return {@code true} iff {@code data} begins with the KTX identifier
+   */
+
+  static boolean isKTX(
+    final ByteBuffer data)
+  {
+    if (data.capacity() < IDENTIFIER.length) {
+      return false;
+    }
+    for (int index = 0; index < IDENTIFIER.length; ++index) {
+      if (data.get(index) != IDENTIFIER[index]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parse and validate a KTX file.
+   *
+   * @param path The file
+   * @param data The file data
+   *
+   * @return A mapped texture
+   *
+   * @throws JCGLMappedTextureFormatException On malformed or unsupported files
+   */
+
+  static JCGLMappedTextureType parse(
+    final Path path,
+    final ByteBuffer data)
+    throws JCGLMappedTextureFormatException
+  {
+    return new JCGLMappedKTX(path, data).parse();
+  }
+
+  private JCGLMappedTextureFormatException error(
+    final String message)
+  {
+    return JCGLMappedFiles.error(
+      JCGLMappedTextureContainer.CONTAINER_KTX, this.path, message);
+  }
+
+  private JCGLMappedTextureType parse()
+    throws JCGLMappedTextureFormatException
+  {
+    JCGLMappedFiles.checkAvailable(
+      JCGLMappedTextureContainer.CONTAINER_KTX,
+      this.path,
+      this.data,
+      0L,
+      (long) HEADER_SIZE,
+      "Header");
+
+    final ByteBuffer header = this.data.duplicate();
+    header.order(ByteOrder.LITTLE_ENDIAN);
+
+    final int endianness = header.getInt(12);
+    if (endianness != ENDIANNESS) {
+      if (Integer.reverseBytes(endianness) != ENDIANNESS) {
+        throw this.error(String.format(
+          "Invalid endianness value 0x%08x", Integer.valueOf(endianness)));
+      }
+      header.order(ByteOrder.BIG_ENDIAN);
+    }
+
+    final int gl_type = header.getInt(16);
+    final int gl_type_size = header.getInt(20);
+    final int gl_format = header.getInt(24);
+    final int gl_internal_format = header.getInt(28);
+    final long width = Integer.toUnsignedLong(header.getInt(36));
+    final long height = Integer.toUnsignedLong(header.getInt(40));
+    final long depth = Integer.toUnsignedLong(header.getInt(44));
+    final long elements = Integer.toUnsignedLong(header.getInt(48));
+    final long faces = Integer.toUnsignedLong(header.getInt(52));
+    final long mipmaps = Integer.toUnsignedLong(header.getInt(56));
+    final long key_values = Integer.toUnsignedLong(header.getInt(60));
+
+    final JCGLTextureFormat format =
+      this.format(gl_internal_format, gl_format, gl_type, gl_type_size);
+
+    if (gl_type_size > 1 && header.order() != ByteOrder.nativeOrder()) {
+      throw this.error(String.format(
+        "The file byte order %s differs from the platform byte order %s,"
+          + " and format %s cannot be uploaded without byte swapping",
+        header.order(),
+        ByteOrder.nativeOrder(),
+        format));
+    }
+
+    if (width == 0L) {
+      throw this.error("Width must be positive");
+    }
+    if (height == 0L) {
+      throw this.error("One-dimensional textures are not supported");
+    }
+    if (depth > 1L) {
+      throw this.error("Three-dimensional textures are not supported");
+    }
+    if (elements != 0L) {
+      throw this.error("Array textures are not supported");
+    }
+    JCGLMappedFiles.checkDimensions(
+      JCGLMappedTextureContainer.CONTAINER_KTX,
+      this.path,
+      width,
+      height);
+    if (faces != 1L && faces != 6L) {
+      throw this.error(String.format(
+        "Face count must be 1 or 6, but is %d", Long.valueOf(faces)));
+    }
+    if (faces == 6L && width != height) {
+      throw this.error(String.format(
+        "Cube map faces must be square, but are %dx%d",
+        Long.valueOf(width),
+        Long.valueOf(height)));
+    }
+
+    final AreaSizeL size = AreaSizeL.of(width, height);
+    final int max_levels = JCGLTextureMipmaps.levelCount(size);
+    final long levels = Math.max(1L, mipmaps);
+    if (levels > (long) max_levels) {
+      throw this.error(String.format(
+        "Level count %d exceeds the %d levels possible for a %dx%d image",
+        Long.valueOf(levels),
+        Integer.valueOf(max_levels),
+        Long.valueOf(width),
+        Long.valueOf(height)));
+    }
+
+    final int face_count = (int) faces;
+    final int level_count = (int) levels;
+    final ByteBuffer[][] buffers = new ByteBuffer[face_count][level_count];
+    long offset = JCGLMappedFiles.add(
+      JCGLMappedTextureContainer.CONTAINER_KTX,
+      this.path,
+      (long) HEADER_SIZE,
+      key_values);
+
+    for (int level = 0; level < level_count; ++level) {
+      final AreaSizeL level_size = JCGLTextureMipmaps.levelSize(size, level);
+      final long image_size = JCGLMappedFiles.imageSize(
+        JCGLMappedTextureContainer.CONTAINER_KTX,
+        this.path,
+        format,
+        level_size.width(),
+        level_size.height());
+
+      /*
+       * Rows of uncompressed images are aligned to four bytes
+       * (GL_UNPACK_ALIGNMENT). The backends upload with an alignment of one,
+       * so padded rows must be compacted.
+       */
+
+      final long row_size;
+      final long row_stride;
+      if (format.isCompressed()) {
+        row_size = 0L;
+        row_stride = 0L;
+      } else {
+        row_size = JCGLMappedFiles.multiply(
+          JCGLMappedTextureContainer.CONTAINER_KTX,
+          this.path,
+          level_size.width(),
+          (long) format.getBytesPerPixel());
+        row_stride = JCGLMappedFiles.align4(row_size);
+      }
+
+      final long expected_size;
+      if (format.isCompressed()) {
+        expected_size = image_size;
+      } else {
+        expected_size = JCGLMappedFiles.multiply(
+          JCGLMappedTextureContainer.CONTAINER_KTX,
+          this.path,
+          row_stride,
+          level_size.height());
+      }
+
+      JCGLMappedFiles.checkAvailable(
+        JCGLMappedTextureContainer.CONTAINER_KTX,
+        this.path,
+        this.data,
+        offset,
+        4L,
+        String.format("The size of level %d", Integer.valueOf(level)));
+
+      final long file_size =
+        Integer.toUnsignedLong(header.getInt(Math.toIntExact(offset)));
+      offset = JCGLMappedFiles.add(
+        JCGLMappedTextureContainer.CONTAINER_KTX,
+        this.path,
+        offset,
+        4L);
+
+      if (file_size != expected_size) {
+        throw this.error(String.format(
+          "Level %d has an image size of %d bytes, but %d bytes were expected",
+          Integer.valueOf(level),
+          Long.valueOf(file_size),
+          Long.valueOf(expected_size)));
+      }
+
+      for (int face = 0; face < face_count; ++face) {
+        JCGLMappedFiles.checkAvailable(
+          JCGLMappedTextureContainer.CONTAINER_KTX,
+          this.path,
+          this.data,
+          offset,
+          file_size,
+          String.format(
+            "Level %d of face %d",
+            Integer.valueOf(level),
+            Integer.valueOf(face)));
+
+        if (row_size == row_stride) {
+          buffers[face][level] =
+            JCGLMappedFiles.slice(this.data, offset, image_size);
+        } else {
+          buffers[face][level] = JCGLMappedFiles.compact(
+            this.data, offset, row_stride, row_size, level_size.height());
+        }
+
+        offset = JCGLMappedFiles.align4(
+          JCGLMappedFiles.add(
+            JCGLMappedTextureContainer.CONTAINER_KTX,
+            this.path,
+            offset,
+            file_size));
+      }
+    }
+
+    return new JCGLMappedTexture(
+      this.path,
+      JCGLMappedTextureContainer.CONTAINER_KTX,
+      format,
+      size,
+      buffers);
+  }
+
+  private JCGLTextureFormat format(
+    final int gl_internal_format,
+    final int gl_format,
+    final int gl_type,
+    final int gl_type_size)
+    throws JCGLMappedTextureFormatException
+  {
+    final JCGLTextureFormat format =
+      FORMATS.get(Integer.valueOf(gl_internal_format));
+    if (format == null) {
+      throw this.error(String.format(
+        "Unsupported internal format 0x%04x",
+        Integer.valueOf(gl_internal_format)));
+    }
+
+    final int expected_format = BASE_FORMATS.get(format).intValue();
+    final int expected_type;
+    final int expected_type_size;
+    if (format.isCompressed()) {
+      expected_type = 0;
+      expected_type_size = 1;
+    } else {
+      expected_type = glType(format.getComponentType());
+      expected_type_size =
+        format.getBytesPerPixel() / format.getComponentCount();
+    }
+
+    if (gl_format != expected_format
+      || gl_type != expected_type
+      || gl_type_size != expected_type_size) {
+      throw this.error(String.format(
+        "Internal format 0x%04x (%s) requires glFormat 0x%04x, glType 0x%04x"
+          + " and glTypeSize %d, but the file specifies 0x%04x, 0x%04x and %d",
+        Integer.valueOf(gl_internal_format),
+        format,
+        Integer.valueOf(expected_format),
+        Integer.valueOf(expected_type),
+        Integer.valueOf(expected_type_size),
+        Integer.valueOf(gl_format),
+        Integer.valueOf(gl_type),
+        Integer.valueOf(gl_type_size)));
+    }
+    return format;
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jcanephora.core.JCGLTextureMipmaps;
+import com.io7m.jcanephora.core.JCGLTextureUpdates;
+import com.io7m.jcanephora.core.JCGLTextureUsableType;
+import com.io7m.jnull.NullCheck;
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The default implementation of the {@link JCGLMappedTextureType}
+ * interface.
+ */
+
+final class JCGLMappedTexture implements JCGLMappedTextureType
+{
+  private final Path path;
+  private final JCGLMappedTextureContainer container;
+  private final JCGLTextureFormat format;
+  private final AreaSizeL size;
+  private final ByteBuffer[][] faces;
+  private final RangeInclusiveI levels;
+
+  /**
+   * Construct a mapped texture.
+   *
+   * @param in_path      The file
+   * @param in_container The container format
+   * @param in_format    The texture format
+   * @param in_size      The size of level 0
+   * @param in_faces     The level data, indexed by face and then by level,
+   *                     with faces in the OpenGL order {@code +X, -X, +Y,
+   *                     -Y, +Z, -Z}
+   */
+
+  JCGLMappedTexture(
+    final Path in_path,
+    final JCGLMappedTextureContainer in_container,
+    final JCGLTextureFormat in_format,
+    final AreaSizeL in_size,
+    final ByteBuffer[][] in_faces)
+  {
+    this.path = NullCheck.notNull(in_path, "Path");
+    this.container = NullCheck.notNull(in_container, "Container");
+    this.format = NullCheck.notNull(in_format, "Format");
+    this.size = NullCheck.notNull(in_size, "Size");
+    this.faces = NullCheck.notNull(in_faces, "Faces");
+
+    Preconditions.checkPreconditionI(
+      this.faces.length,
+      this.faces.length == 1 || this.faces.length == 6,
+      n -> "Face count must be 1 or 6");
+    Preconditions.checkPreconditionI(
+      this.faces[0].length,
+      this.faces[0].length > 0,
+      n -> "Level count must be positive");
+
+    this.levels = new RangeInclusiveI(0, this.faces[0].length - 1);
+  }
+
+  private static int faceIndex(
+    final JCGLCubeMapFaceLH face)
+  {
+    switch (face) {
+      case CUBE_MAP_LH_POSITIVE_X:
+        return 0;
+      case CUBE_MAP_LH_NEGATIVE_X:
+        return 1;
+      case CUBE_MAP_LH_POSITIVE_Y:
+        return 2;
+      case CUBE_MAP_LH_NEGATIVE_Y:
+        return 3;
+      case CUBE_MAP_LH_POSITIVE_Z:
+        return 4;
+      case CUBE_MAP_LH_NEGATIVE_Z:
+        return 5;
+    }
+    throw new UnreachableCodeException();
+  }
+
+  @Override
+  public Path path()
+  {
+    return this.path;
+  }
+
+  @Override
+  public JCGLMappedTextureContainer container()
+  {
+    return this.container;
+  }
+
+  @Override
+  public JCGLTextureFormat format()
+  {
+    return this.format;
+  }
+
+  @Override
+  public AreaSizeL size()
+  {
+    return this.size;
+  }
+
+  @Override
+  public boolean isCube()
+  {
+    return this.faces.length == 6;
+  }
+
+  @Override
+  public int levelCount()
+  {
+    return this.faces[0].length;
+  }
+
+  @Override
+  public ByteBuffer levelData2D(
+    final int level)
+  {
+    Preconditions.checkPrecondition(
+      this.path,
+      !this.isCube(),
+      p -> "Texture must not be a cube map");
+    return this.level(0, level);
+  }
+
+  @Override
+  public ByteBuffer levelDataCube(
+    final JCGLCubeMapFaceLH face,
+    final int level)
+  {
+    NullCheck.notNull(face, "Face");
+    Preconditions.checkPrecondition(
+      this.path,
+      this.isCube(),
+      p -> "Texture must be a cube map");
+    return this.level(faceIndex(face), level);
+  }
+
+  private ByteBuffer level(
+    final int face,
+    final int level)
+  {
+    RangeCheck.checkIncludedInInteger(
+      level, "Level", this.levels, "Valid levels");
+
+    /*
+     * Each caller receives its own view of the data, so that changes to the
+     * position or limit of one view cannot affect any other.
+     */
+
+    final ByteBuffer data = this.faces[face][level].duplicate();
+    data.order(ByteOrder.nativeOrder());
+    return data;
+  }
+
+  private void checkTexture(
+    final JCGLTextureUsableType t)
+  {
+    Preconditions.checkPrecondition(
+      t.format(),
+      t.format() == this.format,
+      f -> String.format(
+        "Texture format %s must match the file format %s", f, this.format));
+
+    final AreaSizeL t_size = AreaSizeL.of(t.width(), t.height());
+    Preconditions.checkPrecondition(
+      t_size,
+      t_size.equals(this.size),
+      s -> String.format(
+        "Texture size %s must match the file size %s", s, this.size));
+  }
+
+  @Override
+  public JCGLTexture2DUpdateType createTextureUpdate2D(
+    final JCGLTexture2DUsableType t,
+    final int level)
+  {
+    NullCheck.notNull(t, "Texture");
+    this.checkTexture(t);
+    return JCGLTextureUpdates.newUpdateWrappingMipmapLevel2D(
+      t, level, this.levelData2D(level));
+  }
+
+  @Override
+  public List<JCGLTexture2DUpdateType> createTextureUpdates2D(
+    final JCGLTexture2DUsableType t)
+  {
+    NullCheck.notNull(t, "Texture");
+    this.checkTexture(t);
+
+    final int count =
+      Math.min(this.levelCount(), JCGLTextureMipmaps.levelCount(t));
+    final List<JCGLTexture2DUpdateType> updates = new ArrayList<>(count);
+    for (int level = 0; level < count; ++level) {
+      updates.add(this.createTextureUpdate2D(t, level));
+    }
+    return updates;
+  }
+
+  @Override
+  public JCGLTextureCubeUpdateType createTextureUpdateCube(
+    final JCGLTextureCubeUsableType t,
+    final JCGLCubeMapFaceLH face,
+    final int level)
+  {
+    NullCheck.notNull(t, "Texture");
+    this.checkTexture(t);
+    return JCGLTextureUpdates.newUpdateWrappingMipmapLevelCube(
+      t, level, this.levelDataCube(face, level));
+  }
+
+  @Override
+  public List<JCGLTextureCubeUpdateType> createTextureUpdatesCube(
+    final JCGLTextureCubeUsableType t,
+    final JCGLCubeMapFaceLH face)
+  {
+    NullCheck.notNull(t, "Texture");
+    this.checkTexture(t);
+
+    final int count =
+      Math.min(this.levelCount(), JCGLTextureMipmaps.levelCount(t));
+    final List<JCGLTextureCubeUpdateType> updates = new ArrayList<>(count);
+    for (int level = 0; level < count; ++level) {
+      updates.add(this.createTextureUpdateCube(t, face, level));
+    }
+    return updates;
+  }
+
+  @Override
+  public String toString()
+  {
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append("[JCGLMappedTexture ");
+    sb.append(this.path);
+    sb.append(" ");
+    sb.append(this.container);
+    sb.append(" ");
+    sb.append(this.format);
+    sb.append(" ");
+    sb.append(this.size.width());
+    sb.append("x");
+    sb.append(this.size.height());
+    sb.append(this.isCube() ? " cube" : "");
+    sb.append(" levels ");
+    sb.append(this.levelCount());
+    sb.append("]");
+    return sb.toString();
+  }
+}
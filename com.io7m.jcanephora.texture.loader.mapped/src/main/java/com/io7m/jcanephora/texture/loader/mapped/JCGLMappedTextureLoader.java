@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import com.io7m.jnull.NullCheck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The default implementation of the {@link JCGLMappedTextureLoaderType}
+ * interface.
+ *
+ * @since 0.62.0
+ */
+
+public final class JCGLMappedTextureLoader implements
+  JCGLMappedTextureLoaderType
+{
+  private static final Logger LOG;
+
+  static {
+    LOG = LoggerFactory.getLogger(JCGLMappedTextureLoader.class);
+  }
+
+  private JCGLMappedTextureLoader()
+  {
+
+  }
+
+  /**
+   * @return A new texture loader
+   */
+
+  public static JCGLMappedTextureLoaderType newLoader()
+  {
+    return new JCGLMappedTextureLoader();
+  }
+
+  @Override
+  public JCGLMappedTextureType load(
+    final Path path)
+    throws IOException
+  {
+    NullCheck.notNull(path, "Path");
+
+    /*
+     * The mapping remains valid after the channel is closed, and is
+     * released when the last buffer that refers to it becomes unreachable.
+     */
+
+    final MappedByteBuffer data;
+    try (final FileChannel channel =
+           FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size > (long) Integer.MAX_VALUE) {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append("Texture file is too large to be mapped.");
+        sb.append(System.lineSeparator());
+        sb.append("  File: ");
+        sb.append(path);
+        sb.append(System.lineSeparator());
+        sb.append("  Size: ");
+        sb.append(size);
+        sb.append(System.lineSeparator());
+        sb.append("  Maximum size: ");
+        sb.append(Integer.MAX_VALUE);
+        sb.append(System.lineSeparator());
+        throw new JCGLMappedTextureFormatException(sb.toString());
+      }
+      data = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+    }
+
+    final JCGLMappedTextureType texture;
+    if (JCGLMappedKTX.isKTX(data)) {
+      texture = JCGLMappedKTX.parse(path, data);
+    } else if (JCGLMappedDDS.isDDS(data)) {
+      texture = JCGLMappedDDS.parse(path, data);
+    } else {
+      final StringBuilder sb = new StringBuilder(128);
+      sb.append("Unrecognized texture file format.");
+      sb.append(System.lineSeparator());
+      sb.append("  File: ");
+      sb.append(path);
+      sb.append(System.lineSeparator());
+      sb.append("  Expected: A KTX 1.1 or DDS file");
+      sb.append(System.lineSeparator());
+      throw new JCGLMappedTextureFormatException(sb.toString());
+    }
+
+    LOG.debug("loaded {}", texture);
+    return texture;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <p>The type of loaders that memory-map KTX and DDS files.</p>
+ *
+ * <p>Loading a file maps it into memory and validates its headers, but does
+ * not read or copy any image data. The data of each face and mipmap level is
+ * exposed as a slice of the mapping, so uploading a level to OpenGL reads
+ * directly from the page cache.</p>
+ *
+ * @since 0.62.0
+ */
+
+@ThreadSafe
+public interface JCGLMappedTextureLoaderType
+{
+  /**
+   * Map and validate the file at {@code path}. The container format is
+   * determined from the contents of the file, not its name.
+   *
+   * @param path The file
+   *
+   * @return A mapped texture
+   *
+   * @throws JCGLMappedTextureFormatException Iff the file is not a
+   *                                          well-formed KTX or DDS file, or
+   *                                          uses an unsupported format
+   * @throws IOException                      On I/O errors
+   */
+
+  JCGLMappedTextureType load(
+    Path path)
+    throws IOException;
+}
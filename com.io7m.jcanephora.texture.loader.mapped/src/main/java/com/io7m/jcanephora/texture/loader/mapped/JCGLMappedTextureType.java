@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 <code@io7m.com> http://io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jcanephora.texture.loader.mapped;
+
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jcanephora.core.JCGLCubeMapFaceLH;
+import com.io7m.jcanephora.core.JCGLTexture2DUpdateType;
+import com.io7m.jcanephora.core.JCGLTexture2DUsableType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUpdateType;
+import com.io7m.jcanephora.core.JCGLTextureCubeUsableType;
+import com.io7m.jcanephora.core.JCGLTextureFormat;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jregions.core.unparameterized.sizes.AreaSizeL;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * <p>A texture that has been loaded from a memory-mapped file.</p>
+ *
+ * <p>Texture updates created from a mapped texture use slices of the mapped
+ * file as their data, so they must be treated as read-only. The mapping
+ * remains valid for as long as any update or buffer derived from it is
+ * reachable; it is released by the garbage collector, and does not need to
+ * be closed.</p>
+ *
+ * <p>The only case in which image data is copied is an uncompressed KTX
+ * level whose rows are padded to a four byte boundary (a level with a row
+ * length that is not a multiple of four bytes). Such levels are compacted
+ * into a tightly packed buffer when the file is loaded.</p>
+ *
+ * @since 0.62.0
+ */
+
+public interface JCGLMappedTextureType
+{
+  /**
+   * @return The file from which the texture was loaded
+   */
+
+  Path path();
+
+  /**
+   * @return The container format of the file
+   */
+
+  JCGLMappedTextureContainer container();
+
+  /**
+   * @return The texture format
+   */
+
+  JCGLTextureFormat format();
+
+  /**
+   * @return The size of mipmap level {@code 0}
+   */
+
+  AreaSizeL size();
+
+  /**
+   * @return {@code true} iff the file contains the six faces of a cube map
+   */
+
+  boolean isCube();
+
+  /**
+   * @return The number of mipmap levels present in the file, which is at
+   * least {@code 1}
+   */
+
+  int levelCount();
+
+  /**
+   * Retrieve the image data for a level of a 2D texture.
+   *
+   * @param level The mipmap level
+   *
+   * @return A read-only view of the data for the level
+   *
+   * @throws PreconditionViolationException Iff the texture is a cube map
+   * @throws RangeCheckException            Iff {@code level} is not present
+   */
+
+  ByteBuffer levelData2D(int level);
+
+  /**
+   * Retrieve the image data for a level of one face of a cube map.
+   *
+   * @param face  The cube face
+   * @param level The mipmap level
+   *
+   * @return A read-only view of the data for the level
+   *
+   * @throws PreconditionViolationException Iff the texture is not a cube
+   *                                        map
+   * @throws RangeCheckException            Iff {@code level} is not present
+   */
+
+  ByteBuffer levelDataCube(
+    JCGLCubeMapFaceLH face,
+    int level);
+
+  /**
+   * Create an update for mipmap level {@code level} of {@code t}, suitable
+   * for {@link com.io7m.jcanephora.core.api.JCGLTextures2DType#texture2DUpdateMipmapLevel(com.io7m.jcanephora.core.JCGLTextureUnitType,
+   * int, JCGLTexture2DUpdateType)}. The texture must have the same format
+   * and size as the file.
+   *
+   * @param t     The texture
+   * @param level The mipmap level
+   *
+   * @return An update whose data is a slice of the mapped file
+   *
+   * @throws PreconditionViolationException Iff the texture does not match
+   *                                        the file
+   * @throws RangeCheckException            Iff {@code level} is not present
+   *                                        in both the file and the
+   *                                        texture
+   */
+
+  JCGLTexture2DUpdateType createTextureUpdate2D(
+    JCGLTexture2DUsableType t,
+    int level);
+
+  /**
+   * Create updates for every mipmap level that is present in the file and
+   * that exists in {@code t}, in order of increasing level. A texture that
+   * does not have a mipmapping minification filter receives only level
+   * {@code 0}.
+   *
+   * @param t The texture
+   *
+   * @return A list of updates, where element {@code n} is the update for
+   * level {@code n}
+   *
+   * @throws PreconditionViolationException Iff the texture does not match
+   *                                        the file
+   * @see #createTextureUpdate2D(JCGLTexture2DUsableType, int)
+   */
+
+  List<JCGLTexture2DUpdateType> createTextureUpdates2D(
+    JCGLTexture2DUsableType t);
+
+  /**
+   * Create an update for mipmap level {@code level} of the face {@code face}
+   * of {@code t}, suitable for {@link com.io7m.jcanephora.core.api.JCGLTexturesCubeType#textureCubeUpdateMipmapLevelLH(com.io7m.jcanephora.core.JCGLTextureUnitType,
+   * JCGLCubeMapFaceLH, int, JCGLTextureCubeUpdateType)}. The texture must
+   * have the same format and size as the file.
+   *
+   * @param t     The texture
+   * @param face  The cube face
+   * @param level The mipmap level
+   *
+   * @return An update whose data is a slice of the mapped file
+   *
+   * @throws PreconditionViolationException Iff the texture does not match
+   *                                        the file
+   * @throws RangeCheckException            Iff {@code level} is not present
+   *                                        in both the file and the
+   *                                        texture
+   */
+
+  JCGLTextureCubeUpdateType createTextureUpdateCube(
+    JCGLTextureCubeUsableType t,
+    JCGLCubeMapFaceLH face,
+    int level);
+
+  /**
+   * Create updates for every mipmap level of the face {@code face} that is
+   * present in the file and that exists in {@code t}, in order of increasing
+   * level.
+   *
+   * @param t    The texture
+   * @param face The cube face
+   *
+   * @return A list of updates, where element {@code n} is the update for
+   * level {@code n}
+   *
+   * @throws PreconditionViolationException Iff the texture does not match
+   *                                        the file
+   * @see #createTextureUpdateCube(JCGLTextureCubeUsableType,
+   * JCGLCubeMapFaceLH, int)
+   */
+
+  List<JCGLTextureCubeUpdateType> createTextureUpdatesCube(
+    JCGLTextureCubeUsableType t,
+    JCGLCubeMapFaceLH face);
+}